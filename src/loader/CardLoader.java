@@ -17,6 +17,8 @@ import Card.SpellCard;
 import Card.TrapCard;
 import Player.Player;
 import Card.Effect;
+import Card.EffectRegistry;
+import Card.FrameType;
 
 /**
  * Utility class for loading Yu-Gi-Oh! cards from the YGOPRODeck API.
@@ -184,11 +186,12 @@ public class CardLoader {
      * </p>
      * <p>
      * <strong>Card Type Detection:</strong>
+     * The type string is parsed once into a {@link FrameType}:
      * <ul>
-     * <li>If type contains "Monster" → creates MonsterCard</li>
-     * <li>If type equals "Spell Card" → creates SpellCard</li>
-     * <li>If type equals "Trap Card" → creates TrapCard</li>
-     * <li>Otherwise → returns null</li>
+     * <li>Monster frames (Normal, Effect, Ritual, Fusion, ...) → creates MonsterCard</li>
+     * <li>{@link FrameType#SPELL} → creates SpellCard</li>
+     * <li>{@link FrameType#TRAP} → creates TrapCard</li>
+     * <li>Otherwise (tokens, skills, unknown types) → returns null</li>
      * </ul>
      * </p>
      *
@@ -198,9 +201,11 @@ public class CardLoader {
      */
     private static Card buildCardFromJson(JsonObject cardObj, Player owner) {
         String type = safeString(cardObj, "type");
+        FrameType frame = FrameType.parse(type);
+        if (frame == null) return null;
         String imageUrl = safeImageUrl(cardObj);
 
-        if (type.contains("Monster")) {
+        if (frame.isMonster()) {
             return new MonsterCard(
                 safeString(cardObj, "name"),
                 safeString(cardObj, "desc"),
@@ -215,25 +220,25 @@ public class CardLoader {
                 type,
                 imageUrl
             );
-        } else if (type.equals("Spell Card")) {
+        } else if (frame == FrameType.SPELL) {
             return new SpellCard(
                 safeString(cardObj, "name"),
                 safeString(cardObj, "desc"),
                 safeInt(cardObj, "id"),
                 owner,
                 safeString(cardObj, "race"),
-                null,
+                EffectRegistry.get(safeInt(cardObj, "id")),
                 type.contains("Continuous"),
                 imageUrl
             );
-        } else if (type.equals("Trap Card")) {
+        } else if (frame == FrameType.TRAP) {
             return new TrapCard(
                 safeString(cardObj, "name"),
                 safeString(cardObj, "desc"),
                 safeInt(cardObj, "id"),
                 owner,
                 safeString(cardObj, "race"),
-                null,
+                EffectRegistry.get(safeInt(cardObj, "id")),
                 type.contains("Continuous"),
                 imageUrl
             );
@@ -1,8 +1,10 @@
 package BanishedZone;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import Card.Card;
+import Card.CardPile;
+import util.GameLog;
 
 /**
  * Represents a player's Banished Zone (also known as "Removed from Play") in Yu-Gi-Oh!
@@ -40,8 +42,8 @@ public class BanishedZone {
 
     // --- Attributes ---
     
-    /** The list of cards that have been banished (removed from play) */
-    private List<Card> cards;
+    /** The cards that have been banished (removed from play), in order */
+    private final CardPile cards;
 
     // --- Constructor ---
     
@@ -53,7 +55,7 @@ public class BanishedZone {
      * </p>
      */
     public BanishedZone() {
-        this.cards = new ArrayList<>();
+        this.cards = new CardPile();
     }
 
     // --- Main Methods ---
@@ -75,7 +77,21 @@ public class BanishedZone {
      */
     public void addCard(Card c) {
         cards.add(c);
-        System.out.println("Card banished: " + c.getName());
+        GameLog.println("Card banished: " + c.getName());
+    }
+
+    /**
+     * Adds cards to the Banished Zone, in order, without logging them.
+     * <p>
+     * Used to restore a saved Banished Zone.
+     * </p>
+     *
+     * @param cs the Cards to add
+     */
+    public void addCards(Collection<Card> cs) {
+        for (Card c : cs) {
+            cards.add(c);
+        }
     }
 
     /**
@@ -105,8 +121,8 @@ public class BanishedZone {
     /**
      * Checks if a specific card is present in the Banished Zone.
      * <p>
-     * This method searches for the exact card object (by reference) in the
-     * Banished Zone. It's useful for verifying whether a card has been banished
+     * This method looks up the exact card object (by reference) in constant
+     * time. It's useful for verifying whether a card has been banished
      * or for implementing card effects that check for specific banished cards.
      * </p>
      *
@@ -149,8 +165,9 @@ public class BanishedZone {
     /**
      * Gets all cards currently in the Banished Zone.
      * <p>
-     * This method returns the actual internal list of cards (not a copy),
-     * allowing external code to iterate through or examine all banished cards.
+     * This method returns a live, read-only view of the Banished Zone (not a
+     * copy), allowing external code to iterate through or examine all banished
+     * cards.
      * This is useful for implementing card effects that interact with multiple
      * banished cards or for displaying Banished Zone contents to players.
      * </p>
@@ -159,19 +176,14 @@ public class BanishedZone {
      * cards), both players should be able to view its contents at any time.
      * </p>
      * <p>
-     * <strong>Note:</strong> Modifications to the returned list will affect
-     * the Banished Zone's internal state. Consider returning a defensive copy if
-     * you need to prevent external modifications: {@code return new ArrayList<>(cards);}
-     * </p>
-     * <p>
      * <strong>Future Enhancement:</strong> Consider tracking whether cards are
      * banished face-up or face-down, as this affects which effects can interact
      * with them.
      * </p>
      *
-     * @return the List of all cards in the Banished Zone
+     * @return an unmodifiable List of all cards in the Banished Zone, in order
      */
     public List<Card> getAllCards() {
-        return cards;
+        return cards.view();
     }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import Graveyard.Graveyard;
 import BanishedZone.BanishedZone;
 import Player.Player;
 import Card.Position;
+import util.GameLog;
 
 /**
  * Represents a player's game board/field in Yu-Gi-Oh!
@@ -115,16 +116,16 @@ public class Board {
      */
     public void placeMonster(MonsterCard card, int zoneIndex, Position pos) {
         if (zoneIndex < 0 || zoneIndex >= monsterZones.length) {
-            System.out.println("Invalid monster zone.");
+            GameLog.println("Invalid monster zone.");
             return;
         }
         if (monsterZones[zoneIndex] == null) {
             monsterZones[zoneIndex] = card;
             card.setPosition(pos);
             lastSummonedMonster = card;
-            System.out.println(owner.getName() + " summons " + card.getName() + " in " + pos);
+            GameLog.println(owner.getName() + " summons " + card.getName() + " in " + pos);
         } else {
-            System.out.println("Monster zone " + zoneIndex + " is already occupied.");
+            GameLog.println("Monster zone " + zoneIndex + " is already occupied.");
         }
     }
 
@@ -162,7 +163,7 @@ public class Board {
         if (removed != null) {
             lastDestroyedCard = removed;
             sendToGraveyard(removed);
-            System.out.println(removed.getName() + " is destroyed and sent to the Graveyard.");
+            GameLog.println(removed.getName() + " is destroyed and sent to the Graveyard.");
         }
         return removed;
     }
@@ -195,6 +196,21 @@ public class Board {
         return monsterZones[zoneIndex]; 
     }
 
+    /**
+     * Puts a monster in a zone (or empties it) without any summon logic.
+     * <p>
+     * Unlike {@link #placeMonster(MonsterCard, int, Position)} and
+     * {@link #removeMonster(int)}, nothing else changes: no position, no
+     * Graveyard. Used to restore the zone when an action is undone.
+     * </p>
+     *
+     * @param zoneIndex the monster zone index (0-4)
+     * @param card the monster to put in the zone, or null to empty it
+     */
+    public void restoreMonster(int zoneIndex, MonsterCard card) {
+        monsterZones[zoneIndex] = card;
+    }
+
     // --- Spell/Trap Management ---
     
     /**
@@ -214,14 +230,14 @@ public class Board {
      */
     public void setSpellTrap(Card card, int zoneIndex) {
         if (zoneIndex < 0 || zoneIndex >= spellTrapZones.length) {
-            System.out.println("Invalid Spell/Trap zone.");
+            GameLog.println("Invalid Spell/Trap zone.");
             return;
         }
         if (spellTrapZones[zoneIndex] == null) {
             spellTrapZones[zoneIndex] = card;
-            System.out.println(owner.getName() + " sets a Spell/Trap card: " + card.getName());
+            GameLog.println(owner.getName() + " sets a Spell/Trap card: " + card.getName());
         } else {
-            System.out.println("Spell/Trap zone " + zoneIndex + " is already occupied.");
+            GameLog.println("Spell/Trap zone " + zoneIndex + " is already occupied.");
         }
     }
 
@@ -283,17 +299,41 @@ public class Board {
      */
     public Card removeSpellTrap(int zoneIndex) {
         if (zoneIndex < 0 || zoneIndex >= spellTrapZones.length) {
-            System.out.println("Invalid Spell/Trap zone.");
+            GameLog.println("Invalid Spell/Trap zone.");
             return null;
         }
         Card removed = spellTrapZones[zoneIndex];
         spellTrapZones[zoneIndex] = null;
         if (removed != null) {
-            System.out.println(removed.getName() + " is removed from the Spell/Trap zone.");
+            GameLog.println(removed.getName() + " is removed from the Spell/Trap zone.");
         }
         return removed;
     }
     
+    /**
+     * Gets the card in a spell/trap zone without removing it.
+     *
+     * @param zoneIndex the spell/trap zone index (0-4)
+     * @return the card in the zone, or null if the zone is empty or invalid
+     */
+    public Card getSpellTrap(int zoneIndex) {
+        if (zoneIndex < 0 || zoneIndex >= spellTrapZones.length) return null;
+        return spellTrapZones[zoneIndex];
+    }
+
+    /**
+     * Puts a card in a spell/trap zone (or empties it) without any message.
+     * <p>
+     * Used to restore the zone when an action is undone.
+     * </p>
+     *
+     * @param zoneIndex the spell/trap zone index (0-4)
+     * @param card the card to put in the zone, or null to empty it
+     */
+    public void restoreSpellTrap(int zoneIndex, Card card) {
+        spellTrapZones[zoneIndex] = card;
+    }
+
     /**
      * Checks if the specified spell/trap zone is available.
      *
@@ -318,7 +358,7 @@ public class Board {
      */
     public void sendToGraveyard(Card card) {
         graveyard.addCard(card);
-        System.out.println(card.getName() + " is sent to the Graveyard.");
+        GameLog.println(card.getName() + " is sent to the Graveyard.");
     }
 
     /**
@@ -333,7 +373,7 @@ public class Board {
      */
     public void banishCard(Card card) {
         banishedZone.addCard(card);
-        System.out.println(card.getName() + " is removed from play (Banished).");
+        GameLog.println(card.getName() + " is removed from play (Banished).");
     }
 
     // --- Deck and Extra Deck Management ---
@@ -418,6 +458,15 @@ public class Board {
         return fieldZone == null; 
     }
 
+    /**
+     * Gets the card in the field zone.
+     *
+     * @return the field spell, or null if the zone is empty
+     */
+    public Card getFieldSpell() {
+        return fieldZone;
+    }
+
     // --- Utility Methods ---
 
     /**
@@ -490,7 +539,7 @@ public class Board {
         fieldZone = null;
         lastSummonedMonster = null;
         lastDestroyedCard = null;
-        System.out.println(owner.getName() + "'s field is cleared.");
+        GameLog.println(owner.getName() + "'s field is cleared.");
     }
 
     /**
@@ -506,7 +555,7 @@ public class Board {
         clearBoard();
         graveyard = new Graveyard();
         banishedZone = new BanishedZone();
-        System.out.println(owner.getName() + "'s board is reset.");
+        GameLog.println(owner.getName() + "'s board is reset.");
     }
 
     /**
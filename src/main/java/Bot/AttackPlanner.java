@@ -0,0 +1,317 @@
+package Bot;
+
+import Game.BattleResolver;
+import java.util.Arrays;
+
+/**
+ * Plans the attacks of a Battle Phase as a weighted bipartite matching.
+ * <p>
+ * Instead of choosing a target for each attacker in isolation, the planner
+ * assigns every attacker at once to a defender, to a direct attack or to no
+ * attack, so that the total value of the Battle Phase is maximal. The value of
+ * an attack is the battle damage it inflicts minus the damage it costs, plus
+ * {@code cardValue} for each monster destroyed on the opponent's side and minus
+ * {@code cardValue} for each monster lost.
+ *
+ * <p>
+ * <strong>Direct attacks:</strong>
+ * A direct attack is only legal once the opponent controls no monster. The
+ * planner therefore solves two assignments and keeps the best one:
+ * <ol>
+ * <li>A plan without direct attacks, where each attacker either battles a
+ *     defender or stays idle</li>
+ * <li>A clearing plan, where every defender must be destroyed and the
+ *     remaining attackers attack directly</li>
+ * </ol>
+ *
+ * <p>
+ * Each assignment is solved with the Hungarian algorithm on a matrix of at
+ * most 5 attackers by 10 columns. All working buffers are allocated once in
+ * the constructor, so a call to {@link #plan} does not allocate and can be
+ * used inside deeper search. An instance is not thread-safe.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class AttackPlanner {
+
+  /** Maximum number of monsters on each side (monster zones) */
+  public static final int MAX_MONSTERS = 5;
+
+  /** Assignment code: the attacker does not attack */
+  public static final int NO_ATTACK = -1;
+
+  /** Assignment code: the attacker attacks the opponent's Life Points directly */
+  public static final int DIRECT_ATTACK = -2;
+
+  /** Default value of a monster card, expressed in Life Points */
+  public static final int DEFAULT_CARD_VALUE = 1000;
+
+  /** Bonus forcing the clearing plan to destroy as many defenders as possible */
+  private static final long CLEAR_BONUS = 1L << 32;
+
+  /** Cost used for forbidden cells and as infinity in the Hungarian algorithm */
+  private static final long INF = Long.MAX_VALUE / 4;
+
+  /** Maximum number of columns: every defender plus one idle/direct slot per attacker */
+  private static final int MAX_COLUMNS = MAX_MONSTERS * 2;
+
+  /** Value of a monster card, expressed in Life Points */
+  private final int cardValue;
+
+  /** Battle outcomes of every attacker against every defender (row-major) */
+  private final long[] outcomes = new long[MAX_MONSTERS * MAX_MONSTERS];
+
+  /** Cost matrix of the current assignment, 1-indexed, row stride MAX_COLUMNS + 1 */
+  private final long[] cost = new long[(MAX_MONSTERS + 1) * (MAX_COLUMNS + 1)];
+
+  /** Row potentials of the Hungarian algorithm */
+  private final long[] u = new long[MAX_MONSTERS + 1];
+
+  /** Column potentials of the Hungarian algorithm */
+  private final long[] v = new long[MAX_COLUMNS + 1];
+
+  /** Row matched to each column (0 = free) */
+  private final int[] match = new int[MAX_COLUMNS + 1];
+
+  /** Predecessor column on the augmenting path */
+  private final int[] way = new int[MAX_COLUMNS + 1];
+
+  /** Minimum reduced cost reaching each column */
+  private final long[] minv = new long[MAX_COLUMNS + 1];
+
+  /** Columns visited by the current augmenting path */
+  private final boolean[] used = new boolean[MAX_COLUMNS + 1];
+
+  /** Assignment of the clearing plan, kept while the first plan is computed */
+  private final int[] clearing = new int[MAX_MONSTERS];
+
+  /**
+   * Creates a planner valuing each monster card at {@link #DEFAULT_CARD_VALUE} LP.
+   */
+  public AttackPlanner() {
+    this(DEFAULT_CARD_VALUE);
+  }
+
+  /**
+   * Creates a planner with a custom card value.
+   *
+   * @param cardValue the value of destroying (or losing) a monster, in Life Points
+   */
+  public AttackPlanner(int cardValue) {
+    this.cardValue = cardValue;
+  }
+
+  /**
+   * Computes the best attack plan for the given attackers and defenders.
+   * <p>
+   * On return, {@code out[i]} holds the index of the defender attacked by
+   * attacker {@code i}, {@link #DIRECT_ATTACK} or {@link #NO_ATTACK}. Attacks
+   * on defenders must be resolved before the direct attacks.
+   *
+   * @param attackerAtk ATK of each attacker
+   * @param attackerCount number of attackers (at most {@link #MAX_MONSTERS})
+   * @param defenderAtk ATK of each defender
+   * @param defenderDef DEF of each defender
+   * @param defenderPosition position code of each defender ({@link BattleResolver#ATTACK}, ...)
+   * @param defenderCount number of defenders (at most {@link #MAX_MONSTERS})
+   * @param out destination of the assignment, at least {@code attackerCount} long
+   * @return the total value of the plan
+   */
+  public long plan(
+    int[] attackerAtk,
+    int attackerCount,
+    int[] defenderAtk,
+    int[] defenderDef,
+    int[] defenderPosition,
+    int defenderCount,
+    int[] out
+  ) {
+    int n = Math.min(attackerCount, MAX_MONSTERS);
+    int m = Math.min(defenderCount, MAX_MONSTERS);
+
+    if (n == 0) {
+      return 0;
+    }
+
+    // Empty field: every attacker goes direct
+    if (m == 0) {
+      long total = 0;
+      for (int i = 0; i < n; i++) {
+        out[i] = DIRECT_ATTACK;
+        total += attackerAtk[i];
+      }
+      return total;
+    }
+
+    BattleResolver.fillMatrix(
+      attackerAtk,
+      n,
+      defenderAtk,
+      defenderDef,
+      defenderPosition,
+      m,
+      outcomes
+    );
+
+    // Plan 2: destroy every defender, then attack directly
+    long clearingValue = Long.MIN_VALUE;
+    if (m <= n) {
+      int columns = m + n;
+      for (int i = 0; i < n; i++) {
+        for (int j = 0; j < m; j++) {
+          long outcome = outcomes[i * m + j];
+          setCost(
+            i,
+            j,
+            BattleResolver.isDefenderDestroyed(outcome)
+              ? -(value(outcome) + CLEAR_BONUS)
+              : INF
+          );
+        }
+        for (int j = m; j < columns; j++) {
+          setCost(i, j, -attackerAtk[i]);
+        }
+      }
+      solve(n, columns);
+
+      int destroyed = 0;
+      long total = 0;
+      for (int j = 1; j <= columns; j++) {
+        int i = match[j] - 1;
+        if (i < 0) continue;
+        if (j <= m) {
+          long outcome = outcomes[i * m + (j - 1)];
+          if (!BattleResolver.isDefenderDestroyed(outcome)) continue;
+          destroyed++;
+          clearing[i] = j - 1;
+          total += value(outcome);
+        } else {
+          clearing[i] = DIRECT_ATTACK;
+          total += attackerAtk[i];
+        }
+      }
+      if (destroyed == m) {
+        clearingValue = total;
+      }
+    }
+
+    // Plan 1: battle defenders or stay idle, no direct attack
+    int columns = m + n;
+    for (int i = 0; i < n; i++) {
+      for (int j = 0; j < m; j++) {
+        setCost(i, j, -value(outcomes[i * m + j]));
+      }
+      for (int j = m; j < columns; j++) {
+        setCost(i, j, 0);
+      }
+    }
+    solve(n, columns);
+
+    long total = 0;
+    for (int j = 1; j <= columns; j++) {
+      int i = match[j] - 1;
+      if (i < 0) continue;
+      if (j <= m) {
+        out[i] = j - 1;
+        total += value(outcomes[i * m + (j - 1)]);
+      } else {
+        out[i] = NO_ATTACK;
+      }
+    }
+
+    if (clearingValue > total) {
+      System.arraycopy(clearing, 0, out, 0, n);
+      return clearingValue;
+    }
+    return total;
+  }
+
+  /**
+   * Gets the value of a battle outcome from the attacker's point of view.
+   *
+   * @param outcome a packed outcome from {@link BattleResolver}
+   * @return damage dealt minus damage taken, plus the card advantage
+   */
+  private long value(long outcome) {
+    long result =
+      BattleResolver.damageToDefender(outcome) -
+      BattleResolver.damageToAttacker(outcome);
+    if (BattleResolver.isDefenderDestroyed(outcome)) result += cardValue;
+    if (BattleResolver.isAttackerDestroyed(outcome)) result -= cardValue;
+    return result;
+  }
+
+  /**
+   * Stores a cell of the cost matrix (0-indexed row and column).
+   *
+   * @param row the attacker index
+   * @param column the column index
+   * @param value the cost of the cell
+   */
+  private void setCost(int row, int column, long value) {
+    cost[(row + 1) * (MAX_COLUMNS + 1) + column + 1] = value;
+  }
+
+  /**
+   * Solves the minimum-cost assignment of {@code n} rows into {@code columns}
+   * columns (Hungarian algorithm with potentials, O(n² × columns)).
+   * <p>
+   * The result is left in {@link #match}: {@code match[j]} is the 1-indexed row
+   * assigned to column {@code j}, or 0 if the column is free.
+   *
+   * @param n number of rows
+   * @param columns number of columns, at least {@code n}
+   */
+  private void solve(int n, int columns) {
+    Arrays.fill(u, 0, n + 1, 0L);
+    Arrays.fill(v, 0, columns + 1, 0L);
+    Arrays.fill(match, 0, columns + 1, 0);
+
+    for (int i = 1; i <= n; i++) {
+      match[0] = i;
+      int j0 = 0;
+      Arrays.fill(minv, 0, columns + 1, INF);
+      Arrays.fill(used, 0, columns + 1, false);
+
+      do {
+        used[j0] = true;
+        int i0 = match[j0];
+        long delta = INF;
+        int j1 = 0;
+        int rowOffset = i0 * (MAX_COLUMNS + 1);
+
+        for (int j = 1; j <= columns; j++) {
+          if (!used[j]) {
+            long current = cost[rowOffset + j] - u[i0] - v[j];
+            if (current < minv[j]) {
+              minv[j] = current;
+              way[j] = j0;
+            }
+            if (minv[j] < delta) {
+              delta = minv[j];
+              j1 = j;
+            }
+          }
+        }
+
+        for (int j = 0; j <= columns; j++) {
+          if (used[j]) {
+            u[match[j]] += delta;
+            v[j] -= delta;
+          } else {
+            minv[j] -= delta;
+          }
+        }
+        j0 = j1;
+      } while (match[j0] != 0);
+
+      do {
+        int j1 = way[j0];
+        match[j0] = match[j1];
+        j0 = j1;
+      } while (j0 != 0);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package Bot;
+
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+
+/**
+ * Decision-making of a bot, independent from the way the duel is displayed.
+ * <p>
+ * A strategy answers the questions a duelist has to answer during a turn:
+ * which monster to summon, in which position, which monsters to tribute,
+ * which attacks to declare, and which spell or trap to play. It reads the
+ * duel through a {@link DuelView} and never modifies it: the caller
+ * ({@link SimpleBot} in the UI, a tournament policy in simulations) checks
+ * and applies the decisions.
+ * </p>
+ * <p>
+ * Strategies used in tournaments are shared by several threads and must be
+ * stateless (or keep their scratch memory per thread). Wrap a strategy in a
+ * {@link TimedStrategy} to measure how long each decision takes.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public interface BotStrategy {
+
+  /** Attack declaration code: the monster does not attack */
+  int NO_ATTACK = AttackPlanner.NO_ATTACK;
+
+  /** Attack declaration code: the monster attacks the opponent directly */
+  int DIRECT_ATTACK = AttackPlanner.DIRECT_ATTACK;
+
+  /**
+   * Gets the name of the strategy, used in reports.
+   *
+   * @return a short unique name
+   */
+  String getName();
+
+  /**
+   * Chooses the monster to Normal Summon (or Set) this turn.
+   *
+   * @param duel the duel state
+   * @return a monster from the hand, or null to skip the Normal Summon
+   */
+  MonsterCard chooseSummon(DuelView duel);
+
+  /**
+   * Chooses the position of the monster about to be summoned.
+   *
+   * @param duel the duel state
+   * @param monster the monster chosen by {@link #chooseSummon(DuelView)}
+   * @return {@link Position#ATTACK} to summon it, {@link Position#FACE_DOWN} to Set it
+   */
+  Position choosePosition(DuelView duel, MonsterCard monster);
+
+  /**
+   * Chooses the monsters to tribute for a Tribute Summon.
+   *
+   * @param duel the duel state
+   * @param monster the monster to summon
+   * @param count the number of tributes required
+   * @return the zones of the {@code count} monsters to tribute
+   */
+  int[] chooseTributes(DuelView duel, MonsterCard monster, int count);
+
+  /**
+   * Declares the attacks of the Battle Phase.
+   * <p>
+   * On return, {@code targets[zone]} holds, for each own monster zone, the
+   * opponent's zone to attack, {@link #DIRECT_ATTACK} or {@link #NO_ATTACK}.
+   * Attacks on monsters are resolved first; direct attacks are only carried
+   * out if the opponent's field is empty by then.
+   * </p>
+   *
+   * @param duel the duel state
+   * @param targets destination array of {@link DuelView#ZONES} entries
+   */
+  void declareAttacks(DuelView duel, int[] targets);
+
+  /**
+   * Chooses a spell or trap card of the hand to play this phase.
+   *
+   * @param duel the duel state
+   * @return a spell or trap card from the hand, or null to play none
+   */
+  default Card chooseSpellTrap(DuelView duel) {
+    return null;
+  }
+
+  /**
+   * Decides whether a spell or trap card is activated or set face-down.
+   *
+   * @param duel the duel state
+   * @param card the card chosen by {@link #chooseSpellTrap(DuelView)}
+   * @return true to activate it, false to set it
+   */
+  default boolean shouldActivate(DuelView duel, Card card) {
+    return false;
+  }
+}
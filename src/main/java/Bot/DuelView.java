@@ -0,0 +1,212 @@
+package Bot;
+
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import Deck.ExtraDeck;
+import Game.Phase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Read-only view of a duel from the point of view of one player.
+ * <p>
+ * Bot strategies only see the duel through this interface, implemented on
+ * the {@link Game.DuelEngine} by {@link EngineDuelView}, so the same strategy
+ * plays in the JavaFX {@link ui.DuelBoard} (through {@link SimpleBot}) and in
+ * the headless tournaments. "Own" methods refer to the player the strategy
+ * plays for, "opponent" methods to the other player.
+ * </p>
+ * <p>
+ * Monster zones are indexed from 0 to {@link #ZONES} - 1. Implementations
+ * must not let a strategy modify the duel: lists are unmodifiable.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public interface DuelView {
+
+  /** Number of monster (and spell/trap) zones on each side */
+  int ZONES = 5;
+
+  /**
+   * Gets the current turn number.
+   *
+   * @return the turn number, starting at 1
+   */
+  int getTurn();
+
+  /**
+   * Gets the current phase.
+   *
+   * @return the phase of the running turn
+   */
+  Phase getPhase();
+
+  /**
+   * Checks if the Battle Phase is allowed this turn.
+   *
+   * @return false on the first turn of the duel
+   */
+  boolean canBattle();
+
+  /**
+   * Gets the Life Points of the player.
+   *
+   * @return own Life Points
+   */
+  int getLifePoints();
+
+  /**
+   * Gets the Life Points of the opponent.
+   *
+   * @return opponent's Life Points
+   */
+  int getOpponentLifePoints();
+
+  /**
+   * Gets the cards in the player's hand.
+   *
+   * @return an unmodifiable list of the cards in hand
+   */
+  List<Card> getHand();
+
+  /**
+   * Gets the number of cards in the opponent's hand.
+   *
+   * @return the opponent's hand size
+   */
+  int getOpponentHandSize();
+
+  /**
+   * Gets the number of cards left in the player's deck.
+   *
+   * @return own deck size
+   */
+  int getDeckCount();
+
+  /**
+   * Checks if the player already used their Normal Summon this turn.
+   *
+   * @return true if no other Normal Summon is allowed this turn
+   */
+  boolean hasNormalSummoned();
+
+  /**
+   * Gets a monster of the player.
+   *
+   * @param zone the monster zone (0-4)
+   * @return the monster, or null if the zone is empty
+   */
+  MonsterCard getMonster(int zone);
+
+  /**
+   * Gets the battle position of a monster of the player.
+   *
+   * @param zone the monster zone (0-4)
+   * @return the position, or null if the zone is empty
+   */
+  Position getMonsterPosition(int zone);
+
+  /**
+   * Checks if a monster of the player can still declare an attack.
+   *
+   * @param zone the monster zone (0-4)
+   * @return true during the Battle Phase for a monster in Attack Position that has not attacked yet
+   */
+  boolean canAttack(int zone);
+
+  /**
+   * Gets a monster of the opponent.
+   *
+   * @param zone the monster zone (0-4)
+   * @return the monster, or null if the zone is empty
+   */
+  MonsterCard getOpponentMonster(int zone);
+
+  /**
+   * Gets the battle position of a monster of the opponent.
+   *
+   * @param zone the monster zone (0-4)
+   * @return the position, or null if the zone is empty
+   */
+  Position getOpponentMonsterPosition(int zone);
+
+  /**
+   * Gets the number of free spell/trap zones of the player.
+   *
+   * @return the number of cards that can still be set
+   */
+  int getFreeSpellTrapZones();
+
+  /**
+   * Gets the random source the strategy must use for random decisions.
+   * <p>
+   * In the headless engine this is the seeded random source of the duel,
+   * which keeps simulations reproducible.
+   * </p>
+   *
+   * @return the random source
+   */
+  Random getRandom();
+
+  /**
+   * Gets the Extra Deck of the player.
+   * <p>
+   * The Extra Deck is face-up information for its owner. Views that do not
+   * track it return null.
+   * </p>
+   *
+   * @return the Extra Deck, or null if unknown
+   */
+  default ExtraDeck getExtraDeck() {
+    return null;
+  }
+
+  /**
+   * Lists the Fusion monsters of the Extra Deck that the hand and the own
+   * monsters can make, using {@link ExtraDeck#searchFusions}.
+   *
+   * @return a new list of the Fusion monsters, empty if there is no Extra Deck
+   */
+  default List<MonsterCard> getMakeableFusions() {
+    ExtraDeck extraDeck = getExtraDeck();
+    if (extraDeck == null || extraDeck.isEmpty()) return new ArrayList<>();
+    List<Card> materials = new ArrayList<>(getHand());
+    for (int zone = 0; zone < ZONES; zone++) {
+      MonsterCard own = getMonster(zone);
+      if (own != null) materials.add(own);
+    }
+    return extraDeck.searchFusions(materials);
+  }
+
+  /**
+   * Counts the monsters of the player.
+   *
+   * @return the number of occupied monster zones
+   */
+  default int getMonsterCount() {
+    int count = 0;
+    for (int zone = 0; zone < ZONES; zone++) {
+      if (getMonster(zone) != null) count++;
+    }
+    return count;
+  }
+
+  /**
+   * Counts the monsters of the opponent.
+   *
+   * @return the number of occupied opponent monster zones
+   */
+  default int getOpponentMonsterCount() {
+    int count = 0;
+    for (int zone = 0; zone < ZONES; zone++) {
+      if (getOpponentMonster(zone) != null) count++;
+    }
+    return count;
+  }
+}
@@ -0,0 +1,148 @@
+package Bot;
+
+import Board.Board;
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import Deck.ExtraDeck;
+import Game.DuelEngine;
+import Game.Phase;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * {@link DuelView} of a headless {@link DuelEngine}, seen by the active player.
+ * <p>
+ * The view reads the engine directly (no copy), so it always reflects the
+ * current state of the duel; it must only be used on the thread running the
+ * duel.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class EngineDuelView implements DuelView {
+
+  /** The viewed duel */
+  private final DuelEngine duel;
+
+  /**
+   * Creates a view of a duel.
+   *
+   * @param duel the running duel
+   */
+  public EngineDuelView(DuelEngine duel) {
+    this.duel = duel;
+  }
+
+  @Override
+  public int getTurn() {
+    return duel.getTurn();
+  }
+
+  @Override
+  public Phase getPhase() {
+    return duel.getPhase();
+  }
+
+  @Override
+  public boolean canBattle() {
+    return duel.canBattle();
+  }
+
+  @Override
+  public int getLifePoints() {
+    return duel.getActivePlayer().getLifePoints();
+  }
+
+  @Override
+  public int getOpponentLifePoints() {
+    return duel.getOpponent().getLifePoints();
+  }
+
+  @Override
+  public List<Card> getHand() {
+    return duel.getActivePlayer().getHand().getAllCards();
+  }
+
+  @Override
+  public int getOpponentHandSize() {
+    return duel.getOpponent().getHand().size();
+  }
+
+  @Override
+  public int getDeckCount() {
+    return duel.getActivePlayer().getDeck().size();
+  }
+
+  @Override
+  public boolean hasNormalSummoned() {
+    return duel.getActivePlayer().hasNormalSummoned();
+  }
+
+  @Override
+  public MonsterCard getMonster(int zone) {
+    return duel.getActivePlayer().getBoard().getMonster(zone);
+  }
+
+  @Override
+  public Position getMonsterPosition(int zone) {
+    return positionOf(getMonster(zone));
+  }
+
+  @Override
+  public boolean canAttack(int zone) {
+    return duel.canAttack(zone);
+  }
+
+  @Override
+  public MonsterCard getOpponentMonster(int zone) {
+    return duel.getOpponent().getBoard().getMonster(zone);
+  }
+
+  @Override
+  public Position getOpponentMonsterPosition(int zone) {
+    return positionOf(getOpponentMonster(zone));
+  }
+
+  @Override
+  public int getFreeSpellTrapZones() {
+    Board board = duel.getActivePlayer().getBoard();
+    int free = 0;
+    for (int zone = 0; zone < ZONES; zone++) {
+      if (board.isSpellTrapZoneFree(zone)) free++;
+    }
+    return free;
+  }
+
+  @Override
+  public Random getRandom() {
+    return duel.getRandom();
+  }
+
+  @Override
+  public ExtraDeck getExtraDeck() {
+    return duel.getActivePlayer().getExtraDeck();
+  }
+
+  @Override
+  public int getMonsterCount() {
+    return duel.getActivePlayer().getBoard().getMonsterCount();
+  }
+
+  @Override
+  public int getOpponentMonsterCount() {
+    return duel.getOpponent().getBoard().getMonsterCount();
+  }
+
+  /**
+   * Gets the position of a monster, face-down monsters being reported as such.
+   *
+   * @param monster the monster, may be null
+   * @return its position, or null for an empty zone
+   */
+  private static Position positionOf(MonsterCard monster) {
+    return monster == null ? null : monster.getPosition();
+  }
+}
@@ -0,0 +1,65 @@
+package Bot;
+
+import Card.MonsterCard;
+import Game.BattleResolver;
+
+/**
+ * The original greedy battle logic of {@link SimpleBot}, kept as a baseline.
+ * <p>
+ * Summons like {@link SimpleStrategy}, but each attacker picks on its own the
+ * strongest monster it can destroy without dying, and direct attacks are only
+ * declared when the opponent's field is empty at the start of the Battle Phase.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class GreedyStrategy extends SimpleStrategy {
+
+  @Override
+  public String getName() {
+    return "greedy";
+  }
+
+  @Override
+  public void declareAttacks(DuelView duel, int[] targets) {
+    boolean fieldEmpty = duel.getOpponentMonsterCount() == 0;
+
+    for (int zone = 0; zone < DuelView.ZONES; zone++) {
+      targets[zone] = NO_ATTACK;
+      if (!duel.canAttack(zone)) continue;
+      if (fieldEmpty) {
+        targets[zone] = DIRECT_ATTACK;
+        continue;
+      }
+
+      int attackerAtk = duel.getMonster(zone).getAtk();
+      int bestValue = -1;
+      for (int target = 0; target < DuelView.ZONES; target++) {
+        MonsterCard defender = duel.getOpponentMonster(target);
+        if (defender == null) continue;
+        int position = duel.getOpponentMonsterPosition(target).ordinal();
+        long outcome = BattleResolver.resolve(
+          attackerAtk,
+          defender.getAtk(),
+          defender.getDef(),
+          position
+        );
+        if (
+          BattleResolver.isDefenderDestroyed(outcome) &&
+          !BattleResolver.isAttackerDestroyed(outcome)
+        ) {
+          // Value of the target = the stat we had to beat (ATK or DEF)
+          int value = position == BattleResolver.ATTACK
+            ? defender.getAtk()
+            : defender.getDef();
+          if (value > bestValue) {
+            bestValue = value;
+            targets[zone] = target;
+          }
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,147 @@
+package Bot;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of durations, used to measure bot decision latency.
+ * <p>
+ * Values (in nanoseconds) are counted in log-linear buckets: every power of
+ * two is split into {@code 2^SUB_BITS} buckets of equal width, so a
+ * percentile is known within about 3% whatever its magnitude, with a fixed
+ * memory footprint and no allocation when recording. Several threads may
+ * record into the same histogram.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class LatencyHistogram {
+
+  /** Number of bits used to split each power of two */
+  private static final int SUB_BITS = 5;
+
+  /** Number of buckets per power of two */
+  private static final int SUB_COUNT = 1 << SUB_BITS;
+
+  /** Number of buckets covering all the positive longs */
+  private static final int BUCKETS = (64 - SUB_BITS + 1) << SUB_BITS;
+
+  /** Number of values recorded in each bucket */
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+  /** Total number of values recorded */
+  private final AtomicLong count = new AtomicLong();
+
+  /** Sum of the values recorded */
+  private final AtomicLong total = new AtomicLong();
+
+  /** Largest value recorded */
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Records a duration.
+   *
+   * @param nanos the duration in nanoseconds (negative values count as 0)
+   */
+  public void record(long nanos) {
+    long value = Math.max(0, nanos);
+    counts.incrementAndGet(bucketOf(value));
+    count.incrementAndGet();
+    total.addAndGet(value);
+    max.accumulateAndGet(value, Math::max);
+  }
+
+  /**
+   * Gets the number of values recorded.
+   *
+   * @return the count
+   */
+  public long getCount() {
+    return count.get();
+  }
+
+  /**
+   * Gets the largest value recorded.
+   *
+   * @return the maximum in nanoseconds, 0 if nothing was recorded
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Gets the mean of the values recorded.
+   *
+   * @return the mean in nanoseconds, 0 if nothing was recorded
+   */
+  public double getMean() {
+    long n = count.get();
+    return n == 0 ? 0.0 : (double) total.get() / n;
+  }
+
+  /**
+   * Gets a percentile of the values recorded.
+   * <p>
+   * The result is the upper bound of the bucket holding the percentile,
+   * capped by the maximum: it never underestimates the latency.
+   * </p>
+   *
+   * @param percentile the percentile, between 0 and 100 (50 for the median)
+   * @return the value in nanoseconds, 0 if nothing was recorded
+   */
+  public long getPercentile(double percentile) {
+    long n = count.get();
+    if (n == 0) return 0;
+
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+    long seen = 0;
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      seen += counts.get(bucket);
+      if (seen >= rank) {
+        return Math.min(upperBound(bucket), max.get());
+      }
+    }
+    return max.get();
+  }
+
+  /**
+   * Clears the histogram.
+   */
+  public void reset() {
+    for (int bucket = 0; bucket < BUCKETS; bucket++) {
+      counts.set(bucket, 0);
+    }
+    count.set(0);
+    total.set(0);
+    max.set(0);
+  }
+
+  /**
+   * Finds the bucket of a value.
+   *
+   * @param value a non-negative value
+   * @return the bucket index
+   */
+  private static int bucketOf(long value) {
+    if (value < SUB_COUNT) return (int) value;
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int shift = exponent - SUB_BITS;
+    return ((shift + 1) << SUB_BITS) | (int) ((value >>> shift) & (SUB_COUNT - 1));
+  }
+
+  /**
+   * Gets the largest value counted in a bucket.
+   *
+   * @param bucket the bucket index
+   * @return the inclusive upper bound of the bucket
+   */
+  private static long upperBound(int bucket) {
+    if (bucket < SUB_COUNT) return bucket;
+    int shift = (bucket >>> SUB_BITS) - 1;
+    long sub = bucket & (SUB_COUNT - 1);
+    long next = (SUB_COUNT + sub + 1) << shift;
+    return next <= 0 ? Long.MAX_VALUE : next - 1;
+  }
+}
@@ -0,0 +1,508 @@
+package Bot;
+
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import Game.BattleResolver;
+import Game.DuelEngine;
+import Game.Phase;
+import java.util.Arrays;
+
+/**
+ * Finds a line that wins the duel this turn, if one exists.
+ * <p>
+ * Before the usual heuristics, a bot (or the "you have lethal" hint of the
+ * board) asks the solver whether its monsters, plus at most one Normal
+ * Summon, can bring the opponent's Life Points to 0 this turn. The solver
+ * returns the line: the monster to summon and its tributes, the position
+ * changes, and the target of every attacker.
+ *
+ * <p>
+ * <strong>Search:</strong>
+ * <ul>
+ * <li>A monster with more ATK is at least as good in every role (battle,
+ *     clearing, direct attack), so only the strongest summonable monster
+ *     for each number of tributes is tried, and the tributes are the
+ *     monsters unable to attack first, then the weakest attackers.</li>
+ * <li>For each set of attackers, a dynamic program over the subsets of
+ *     defenders computes the best damage of two kinds of plans: battles
+ *     only (damage from beating Attack Position monsters), or clearing plans
+ *     where every defender is destroyed and the other attackers attack
+ *     directly. With at most 5 attackers and 5 defenders a plan costs a few
+ *     hundred steps.</li>
+ * </ul>
+ *
+ * <p>
+ * Battles are resolved with {@link BattleResolver}; as in the duel engine,
+ * attacks on monsters must be declared before the direct attacks. All the
+ * buffers are allocated in the constructor, so {@link #solve} does not
+ * allocate. An instance is not thread-safe.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class LethalSolver {
+
+  /** Maximum number of monsters on each side (monster zones) */
+  public static final int MAX_MONSTERS = 5;
+
+  /** Attacker status: the zone is empty */
+  public static final int EMPTY = -1;
+
+  /** Attacker status: the monster can declare an attack */
+  public static final int CAN_ATTACK = 0;
+
+  /** Attacker status: the monster can attack once switched to Attack Position */
+  public static final int AFTER_POSITION_CHANGE = 1;
+
+  /** Attacker status: the monster cannot attack this turn (it can still be tributed) */
+  public static final int CANNOT_ATTACK = 2;
+
+  /** Target code: the monster does not attack */
+  public static final int NO_ATTACK = AttackPlanner.NO_ATTACK;
+
+  /** Target code: the monster attacks the opponent's Life Points directly */
+  public static final int DIRECT_ATTACK = AttackPlanner.DIRECT_ATTACK;
+
+  /**
+   * DEF to pass for a face-down defender whose DEF is not known: no attack
+   * destroys it, so a line never relies on getting past it
+   */
+  public static final int UNKNOWN_DEF = Integer.MAX_VALUE;
+
+  /** Tribute count returned when the line has no Normal Summon */
+  public static final int NO_SUMMON = -1;
+
+  /** Attacker index of the summoned monster in {@link #attackerZone} */
+  private static final int SUMMONED = -1;
+
+  /** Number of defender subsets */
+  private static final int MASKS = 1 << MAX_MONSTERS;
+
+  /** Value of an unreachable state */
+  private static final long UNREACHABLE = Long.MIN_VALUE;
+
+  /** Zone of each attacker, or {@link #SUMMONED} */
+  private final int[] attackerZone = new int[MAX_MONSTERS + 1];
+
+  /** ATK of each attacker */
+  private final int[] attackerAtk = new int[MAX_MONSTERS + 1];
+
+  /** Zone of each defender */
+  private final int[] defenderZone = new int[MAX_MONSTERS];
+
+  /** Battle outcomes of every attacker against every defender (row-major) */
+  private final long[] outcomes = new long[(MAX_MONSTERS + 1) * MAX_MONSTERS];
+
+  /** Best damage of battle-only plans, per attacker count and defenders used */
+  private final long[] battles = new long[(MAX_MONSTERS + 2) * MASKS];
+
+  /** Best damage of clearing plans, per attacker count and defenders destroyed */
+  private final long[] clears = new long[(MAX_MONSTERS + 2) * MASKS];
+
+  /** Choice of the last attacker for each state of {@link #battles} */
+  private final int[] battleChoice = new int[(MAX_MONSTERS + 2) * MASKS];
+
+  /** Choice of the last attacker for each state of {@link #clears} */
+  private final int[] clearChoice = new int[(MAX_MONSTERS + 2) * MASKS];
+
+  /** Target of the monster in each zone in the line found */
+  private final int[] targets = new int[MAX_MONSTERS];
+
+  /** Zones tributed in the line found */
+  private final boolean[] tributed = new boolean[MAX_MONSTERS];
+
+  /** Zones switched to Attack Position in the line found */
+  private final boolean[] positionChanges = new boolean[MAX_MONSTERS];
+
+  /** Scratch copy of the statuses, updated by the tributes */
+  private final int[] status = new int[MAX_MONSTERS];
+
+  /** Buffers of the {@link DuelView} adapter */
+  private final int[] viewAtk = new int[MAX_MONSTERS];
+  private final int[] viewStatus = new int[MAX_MONSTERS];
+  private final int[] viewSummonAtk = new int[3];
+  private final MonsterCard[] viewSummon = new MonsterCard[3];
+  private final int[] viewOppAtk = new int[MAX_MONSTERS];
+  private final int[] viewOppDef = new int[MAX_MONSTERS];
+  private final int[] viewOppPosition = new int[MAX_MONSTERS];
+
+  /** Number of tributes of the summon in the line found, or {@link #NO_SUMMON} */
+  private int summonTributes;
+
+  /** Target of the summoned monster in the line found */
+  private int summonTarget;
+
+  /** Monster to summon in the line found by {@link #solve(DuelView, boolean)} */
+  private MonsterCard summonMonster;
+
+  /** Damage of the line found */
+  private long damage;
+
+  /**
+   * Searches a winning line from primitive board data.
+   *
+   * @param ownAtk ATK of the monster in each own zone
+   * @param ownStatus status of each own zone ({@link #EMPTY}, {@link #CAN_ATTACK},
+   *                  {@link #AFTER_POSITION_CHANGE}, {@link #CANNOT_ATTACK})
+   * @param summonAtk ATK of the strongest monster in hand summonable with 0, 1
+   *                  and 2 tributes (-1 if none), or null if no summon is allowed
+   * @param oppAtk ATK of the monster in each opponent's zone
+   * @param oppDef DEF of the monster in each opponent's zone
+   * @param oppPosition position code of each opponent's zone
+   *                    ({@link BattleResolver#ATTACK}, ...), or {@link #EMPTY}
+   * @param oppLifePoints the opponent's Life Points
+   * @return true if a winning line was found (see the accessors)
+   */
+  public boolean solve(
+    int[] ownAtk,
+    int[] ownStatus,
+    int[] summonAtk,
+    int[] oppAtk,
+    int[] oppDef,
+    int[] oppPosition,
+    int oppLifePoints
+  ) {
+    clear();
+    int defenders = 0;
+    int ownMonsters = 0;
+    for (int zone = 0; zone < MAX_MONSTERS; zone++) {
+      if (oppPosition[zone] != EMPTY) defenderZone[defenders++] = zone;
+      if (ownStatus[zone] != EMPTY) ownMonsters++;
+    }
+
+    // Without a summon first, then the fewest tributes
+    if (tryLine(ownAtk, ownStatus, NO_SUMMON, 0, oppAtk, oppDef, oppPosition, defenders, oppLifePoints)) {
+      return true;
+    }
+    if (summonAtk == null) return false;
+    for (int tributes = 0; tributes <= 2; tributes++) {
+      if (summonAtk[tributes] < 0 || tributes > ownMonsters) continue;
+      if (tributes == 0 && ownMonsters == MAX_MONSTERS) continue;
+      if (tryLine(ownAtk, ownStatus, tributes, summonAtk[tributes],
+                  oppAtk, oppDef, oppPosition, defenders, oppLifePoints)) {
+        return true;
+      }
+    }
+    clear();
+    return false;
+  }
+
+  /**
+   * Searches a winning line for the active player of a duel.
+   * <p>
+   * In Main Phase 1 the line may include a Normal Summon and, if allowed,
+   * position changes; in the Battle Phase only the monsters still able to
+   * attack are used. No line exists in the other phases or when the Battle
+   * Phase is not allowed this turn.
+   *
+   * @param duel the duel state
+   * @param allowPositionChanges true if Defense Position monsters may be
+   *                             switched to Attack Position before the battle
+   * @return true if a winning line was found (see the accessors and
+   *         {@link #getSummonMonster()})
+   */
+  public boolean solve(DuelView duel, boolean allowPositionChanges) {
+    clear();
+    Phase phase = duel.getPhase();
+    boolean mainPhase = phase == Phase.MP1;
+    if (!duel.canBattle() || (!mainPhase && phase != Phase.BP)) return false;
+
+    int ownMonsters = 0;
+    for (int zone = 0; zone < MAX_MONSTERS; zone++) {
+      MonsterCard monster = duel.getMonster(zone);
+      if (monster == null) {
+        viewStatus[zone] = EMPTY;
+        continue;
+      }
+      ownMonsters++;
+      viewAtk[zone] = monster.getAtk();
+      if (!mainPhase) {
+        viewStatus[zone] = duel.canAttack(zone) ? CAN_ATTACK : CANNOT_ATTACK;
+      } else if (monster.hasAttackedThisTurn()) {
+        viewStatus[zone] = CANNOT_ATTACK;
+      } else if (duel.getMonsterPosition(zone) == Position.ATTACK) {
+        viewStatus[zone] = CAN_ATTACK;
+      } else {
+        viewStatus[zone] = allowPositionChanges && !monster.hasChangedPositionThisTurn()
+          ? AFTER_POSITION_CHANGE
+          : CANNOT_ATTACK;
+      }
+    }
+
+    boolean summon = mainPhase && !duel.hasNormalSummoned();
+    Arrays.fill(viewSummonAtk, -1);
+    Arrays.fill(viewSummon, null);
+    if (summon) {
+      for (Card card : duel.getHand()) {
+        if (!(card instanceof MonsterCard)) continue;
+        MonsterCard monster = (MonsterCard) card;
+        int tributes = DuelEngine.tributesRequired(monster);
+        if (monster.getAtk() > viewSummonAtk[tributes]) {
+          viewSummonAtk[tributes] = monster.getAtk();
+          viewSummon[tributes] = monster;
+        }
+      }
+    }
+
+    for (int zone = 0; zone < MAX_MONSTERS; zone++) {
+      MonsterCard monster = duel.getOpponentMonster(zone);
+      if (monster == null) {
+        viewOppPosition[zone] = EMPTY;
+        continue;
+      }
+      viewOppAtk[zone] = monster.getAtk();
+      viewOppDef[zone] = monster.getDef();
+      viewOppPosition[zone] = duel.getOpponentMonsterPosition(zone).ordinal();
+    }
+
+    if (!solve(viewAtk, viewStatus, summon ? viewSummonAtk : null,
+               viewOppAtk, viewOppDef, viewOppPosition, duel.getOpponentLifePoints())) {
+      return false;
+    }
+    summonMonster = summonTributes == NO_SUMMON ? null : viewSummon[summonTributes];
+    return true;
+  }
+
+  // --- Line found ---
+
+  /**
+   * Gets the number of tributes of the Normal Summon of the line.
+   *
+   * @return 0, 1 or 2, or {@link #NO_SUMMON} if the line has no summon
+   */
+  public int getSummonTributes() {
+    return summonTributes;
+  }
+
+  /**
+   * Gets the monster to Normal Summon (in Attack Position), when the line
+   * was found by {@link #solve(DuelView, boolean)}.
+   *
+   * @return the monster, or null if the line has no summon
+   */
+  public MonsterCard getSummonMonster() {
+    return summonMonster;
+  }
+
+  /**
+   * Checks if the monster in a zone is tributed by the summon of the line.
+   *
+   * @param zone the own monster zone (0-4)
+   * @return true if the monster is tributed
+   */
+  public boolean isTributed(int zone) {
+    return tributed[zone];
+  }
+
+  /**
+   * Checks if the monster in a zone must be switched to Attack Position.
+   *
+   * @param zone the own monster zone (0-4)
+   * @return true if the line changes the position of the monster
+   */
+  public boolean needsPositionChange(int zone) {
+    return positionChanges[zone];
+  }
+
+  /**
+   * Gets the target of the monster in a zone.
+   *
+   * @param zone the own monster zone (0-4)
+   * @return the opponent's zone attacked, {@link #DIRECT_ATTACK} or {@link #NO_ATTACK}
+   */
+  public int getTarget(int zone) {
+    return targets[zone];
+  }
+
+  /**
+   * Gets the target of the summoned monster.
+   *
+   * @return the opponent's zone attacked, {@link #DIRECT_ATTACK} or {@link #NO_ATTACK}
+   */
+  public int getSummonTarget() {
+    return summonTarget;
+  }
+
+  /**
+   * Gets the damage the line inflicts.
+   *
+   * @return the total battle and direct damage, at least the opponent's Life Points
+   */
+  public long getDamage() {
+    return damage;
+  }
+
+  // --- Search ---
+
+  /**
+   * Resets the line.
+   */
+  private void clear() {
+    Arrays.fill(targets, NO_ATTACK);
+    Arrays.fill(tributed, false);
+    Arrays.fill(positionChanges, false);
+    summonTributes = NO_SUMMON;
+    summonTarget = NO_ATTACK;
+    summonMonster = null;
+    damage = 0;
+  }
+
+  /**
+   * Tries the line with a given summon, and keeps it if it wins.
+   *
+   * @return true if the line wins
+   */
+  private boolean tryLine(
+    int[] ownAtk,
+    int[] ownStatus,
+    int tributes,
+    int summonAtk,
+    int[] oppAtk,
+    int[] oppDef,
+    int[] oppPosition,
+    int defenders,
+    int oppLifePoints
+  ) {
+    clear();
+    System.arraycopy(ownStatus, 0, status, 0, MAX_MONSTERS);
+
+    // Tribute the monsters unable to attack, then the weakest attackers
+    for (int k = 0; k < Math.max(tributes, 0); k++) {
+      int pick = -1;
+      for (int zone = 0; zone < MAX_MONSTERS; zone++) {
+        if (status[zone] == EMPTY || tributed[zone]) continue;
+        if (pick < 0 || betterTribute(zone, pick, ownAtk)) pick = zone;
+      }
+      tributed[pick] = true;
+    }
+
+    int attackers = 0;
+    for (int zone = 0; zone < MAX_MONSTERS; zone++) {
+      if (tributed[zone]) continue;
+      if (status[zone] == CAN_ATTACK || status[zone] == AFTER_POSITION_CHANGE) {
+        attackerZone[attackers] = zone;
+        attackerAtk[attackers] = ownAtk[zone];
+        attackers++;
+      }
+    }
+    if (tributes != NO_SUMMON) {
+      attackerZone[attackers] = SUMMONED;
+      attackerAtk[attackers] = summonAtk;
+      attackers++;
+    }
+
+    long best = plan(attackers, oppAtk, oppDef, oppPosition, defenders);
+    if (best < oppLifePoints) return false;
+
+    damage = best;
+    summonTributes = tributes;
+    return true;
+  }
+
+  /**
+   * Compares two candidate tributes.
+   *
+   * @return true if the monster in {@code zone} should be tributed before the one in {@code other}
+   */
+  private boolean betterTribute(int zone, int other, int[] ownAtk) {
+    boolean idle = status[zone] == CANNOT_ATTACK;
+    boolean otherIdle = status[other] == CANNOT_ATTACK;
+    if (idle != otherIdle) return idle;
+    return ownAtk[zone] < ownAtk[other];
+  }
+
+  /**
+   * Computes the best plan of the attackers and stores their targets.
+   *
+   * @return the damage of the best plan
+   */
+  private long plan(int attackers, int[] oppAtk, int[] oppDef, int[] oppPosition, int defenders) {
+    int masks = 1 << defenders;
+    for (int i = 0; i < attackers; i++) {
+      for (int j = 0; j < defenders; j++) {
+        int zone = defenderZone[j];
+        outcomes[i * MAX_MONSTERS + j] = BattleResolver.resolve(
+          attackerAtk[i], oppAtk[zone], oppDef[zone], oppPosition[zone]);
+      }
+    }
+
+    Arrays.fill(battles, 0, (attackers + 1) * MASKS, UNREACHABLE);
+    Arrays.fill(clears, 0, (attackers + 1) * MASKS, UNREACHABLE);
+    battles[0] = 0;
+    clears[0] = 0;
+
+    for (int i = 0; i < attackers; i++) {
+      int from = i * MASKS;
+      int to = from + MASKS;
+      for (int mask = 0; mask < masks; mask++) {
+        long battle = battles[from + mask];
+        if (battle != UNREACHABLE) {
+          relax(battles, battleChoice, to + mask, battle, NO_ATTACK);
+        }
+        long clear = clears[from + mask];
+        if (clear != UNREACHABLE) {
+          relax(clears, clearChoice, to + mask, clear, NO_ATTACK);
+          relax(clears, clearChoice, to + mask, clear + attackerAtk[i], DIRECT_ATTACK);
+        }
+        for (int j = 0; j < defenders; j++) {
+          if ((mask & 1 << j) != 0) continue;
+          long outcome = outcomes[i * MAX_MONSTERS + j];
+          if (!BattleResolver.isDefenderDestroyed(outcome)) continue;
+          int dealt = BattleResolver.damageToDefender(outcome);
+          if (battle != UNREACHABLE && dealt > 0) {
+            relax(battles, battleChoice, to + (mask | 1 << j), battle + dealt, j);
+          }
+          if (clear != UNREACHABLE) {
+            relax(clears, clearChoice, to + (mask | 1 << j), clear + dealt, j);
+          }
+        }
+      }
+    }
+
+    int last = attackers * MASKS;
+    int bestMask = 0;
+    for (int mask = 1; mask < masks; mask++) {
+      if (battles[last + mask] > battles[last + bestMask]) bestMask = mask;
+    }
+    long battleValue = battles[last + bestMask];
+    long clearValue = clears[last + masks - 1];
+
+    if (clearValue != UNREACHABLE && clearValue >= battleValue) {
+      storeTargets(clears, clearChoice, attackers, masks - 1);
+      return clearValue;
+    }
+    storeTargets(battles, battleChoice, attackers, bestMask);
+    return battleValue;
+  }
+
+  /**
+   * Keeps a transition if it improves a state.
+   */
+  private static void relax(long[] values, int[] choices, int state, long value, int choice) {
+    if (value > values[state]) {
+      values[state] = value;
+      choices[state] = choice;
+    }
+  }
+
+  /**
+   * Walks the choices back from the final state and stores the targets.
+   */
+  private void storeTargets(long[] values, int[] choices, int attackers, int mask) {
+    for (int i = attackers - 1; i >= 0; i--) {
+      int choice = choices[(i + 1) * MASKS + mask];
+      int target = choice >= 0 ? defenderZone[choice] : choice;
+      if (choice >= 0) mask &= ~(1 << choice);
+
+      int zone = attackerZone[i];
+      if (zone == SUMMONED) {
+        summonTarget = target;
+      } else {
+        targets[zone] = target;
+        positionChanges[zone] = target != NO_ATTACK && status[zone] == AFTER_POSITION_CHANGE;
+      }
+    }
+  }
+}
@@ -0,0 +1,763 @@
+package Bot;
+
+import Board.Board;
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import Deck.Deck;
+import Game.DuelEngine;
+import Game.EventBus;
+import Game.GameEvent;
+import Game.GameEventListener;
+import Game.Phase;
+import Game.SaveGame;
+import Hand.Hand;
+import Player.Player;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Belief state over the hidden cards of the opponent, kept as a particle filter.
+ * <p>
+ * The bot knows the opponent's deck list but not which of those cards are in
+ * their hand, in which order their Deck is, nor what their face-down cards
+ * are. The belief keeps a weighted sample of possible assignments
+ * ("particles"), each one consistent with everything observed so far: the
+ * deck list, the number of cards drawn, and every card revealed when it was
+ * summoned, activated or sent to the Graveyard.
+ * </p>
+ * <p>
+ * <strong>Slots:</strong> every card of the deck list is a slot. All the
+ * particles share the location of the slots (hand, Deck position, face-down
+ * zone, or revealed) and only differ by the card in each slot, stored as a
+ * small type index in one flat array. Hence a draw moves a slot from the Deck
+ * to the hand without touching the particles, and an observation costs one
+ * pass over the hand of each particle:
+ * <ul>
+ * <li>a card X played from the hand: in each particle a copy of X is swapped
+ *     into the hand slot that leaves; particles without X get weight 0</li>
+ * <li>a card Set from the hand: a random card of the right kind (monster or
+ *     spell/trap) is moved to the face-down zone the same way</li>
+ * <li>a face-down card revealed as X: particles with another card there get
+ *     weight 0</li>
+ * <li>a turn ended without Normal Summon: particles holding a summonable
+ *     monster are down-weighted by {@link #NO_SUMMON_LIKELIHOOD}</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <strong>Resampling:</strong> when the effective sample size drops below
+ * half the particles, they are resampled (systematic resampling) and the
+ * Deck order of the duplicated particles is shuffled again, which keeps the
+ * sample diverse since the Deck order is never observed. A particle that
+ * contradicts an observation is also repaired by swapping the observed card
+ * in from its Deck, so when no particle survives (an unlikely line of play,
+ * or a wrong deck list) the repaired particles are used instead.
+ * </p>
+ * <p>
+ * <strong>Events:</strong> {@link #subscribe(EventBus)} plugs the belief on
+ * the events of a {@link DuelEngine}; only public information is used (the
+ * IDs of drawn and Set cards are ignored). The {@code on...} methods can
+ * also be called directly, for example from the JavaFX board.
+ * </p>
+ * <p>
+ * {@link #determinize(DuelEngine, Random)} turns the belief into a playable
+ * duel for sampling-based search: a copy of the duel where the opponent's
+ * hidden cards are those of a sampled particle. With the default 256
+ * particles an update costs about 20 microseconds on average, resampling
+ * included; the belief is not thread-safe.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class OpponentBelief implements GameEventListener {
+
+  /** Default number of particles */
+  public static final int DEFAULT_PARTICLES = 256;
+
+  /** Card ID returned for an empty zone */
+  public static final int NO_CARD = -1;
+
+  /** Likelihood of ending a turn without Normal Summon while holding a summonable monster */
+  public static final double NO_SUMMON_LIKELIHOOD = 0.25;
+
+  /** Number of monster (and spell/trap) zones */
+  private static final int ZONES = DuelView.ZONES;
+
+  /** Slot value of a zone without a face-down card */
+  private static final int NO_SLOT = -1;
+
+  // --- Card types ---
+
+  /** Card ID of each type */
+  private final int[] typeIds;
+
+  /** Whether each type is a monster */
+  private final boolean[] typeMonster;
+
+  /** Tributes needed by each monster type (-1 for spells and traps) */
+  private final int[] typeTributes;
+
+  /** Type of each card ID of the deck list */
+  private final Map<Integer, Integer> typeOf = new HashMap<>();
+
+  // --- Slot locations, shared by all the particles ---
+
+  /** Number of slots (size of the deck list) */
+  private final int slotCount;
+
+  /** Slots in the hand, in slots 0 to {@link #handSize} - 1 */
+  private final int[] hand;
+
+  /** Number of cards in the hand */
+  private int handSize;
+
+  /** Slots of the Deck, top card at {@link #deckTop} */
+  private final int[] deck;
+
+  /** Position of the top card in {@link #deck} */
+  private int deckTop;
+
+  /** Slot of the face-down monster in each zone, or {@link #NO_SLOT} */
+  private final int[] hiddenMonster = new int[ZONES];
+
+  /** Slot of the Set spell or trap in each zone, or {@link #NO_SLOT} */
+  private final int[] hiddenSpellTrap = new int[ZONES];
+
+  // --- Particles ---
+
+  /** Number of particles */
+  private final int particleCount;
+
+  /** Type in each slot of each particle, particle-major */
+  private int[] cards;
+
+  /** Buffer of the same size as {@link #cards}, used when resampling */
+  private int[] spare;
+
+  /** Weight of each particle */
+  private final double[] weights;
+
+  /** Sum of the weights */
+  private double totalWeight;
+
+  /** Random source of the proposals and of the resampling */
+  private final Random random;
+
+  // --- Events ---
+
+  /** Index of the opponent in the duel */
+  private final int opponent;
+
+  /** Cards whose identity is public (summoned face-up or sent to a Graveyard) */
+  private final Set<Card> revealed = Collections.newSetFromMap(new IdentityHashMap<>());
+
+  /** Occupied monster zones of the opponent (bit per zone) */
+  private int monsterZones;
+
+  /** Number of opponent's monsters when their Main Phase 1 started */
+  private int monstersAtMainPhase;
+
+  /** Whether the opponent summoned or Set a monster from the hand this turn */
+  private boolean summonedThisTurn;
+
+  /**
+   * Creates a belief with {@link #DEFAULT_PARTICLES} particles.
+   *
+   * @param deckList the cards of the opponent's main deck (their order does not matter)
+   * @param opponent the index of the opponent in the duel (0 or 1)
+   * @param random the random source of the filter
+   */
+  public OpponentBelief(List<Card> deckList, int opponent, Random random) {
+    this(deckList, opponent, DEFAULT_PARTICLES, random);
+  }
+
+  /**
+   * Creates a belief before the opponent draws their opening hand: every
+   * card is in the Deck, in an unknown order.
+   *
+   * @param deckList the cards of the opponent's main deck (their order does not matter)
+   * @param opponent the index of the opponent in the duel (0 or 1)
+   * @param particles the number of particles
+   * @param random the random source of the filter
+   */
+  public OpponentBelief(List<Card> deckList, int opponent, int particles, Random random) {
+    this.opponent = opponent;
+    this.random = random;
+    this.particleCount = Math.max(1, particles);
+    this.slotCount = deckList.size();
+
+    List<Card> types = new ArrayList<>();
+    int[] slotType = new int[slotCount];
+    for (int slot = 0; slot < slotCount; slot++) {
+      Card card = deckList.get(slot);
+      Integer type = typeOf.get(card.getCardId());
+      if (type == null) {
+        type = types.size();
+        typeOf.put(card.getCardId(), type);
+        types.add(card);
+      }
+      slotType[slot] = type;
+    }
+    typeIds = new int[types.size()];
+    typeMonster = new boolean[types.size()];
+    typeTributes = new int[types.size()];
+    for (int type = 0; type < types.size(); type++) {
+      Card card = types.get(type);
+      typeIds[type] = card.getCardId();
+      typeMonster[type] = card instanceof MonsterCard;
+      typeTributes[type] = typeMonster[type] ? DuelEngine.tributesRequired((MonsterCard) card) : -1;
+    }
+
+    hand = new int[slotCount];
+    deck = new int[slotCount];
+    for (int slot = 0; slot < slotCount; slot++) {
+      deck[slot] = slot;
+    }
+    Arrays.fill(hiddenMonster, NO_SLOT);
+    Arrays.fill(hiddenSpellTrap, NO_SLOT);
+
+    cards = new int[particleCount * slotCount];
+    spare = new int[particleCount * slotCount];
+    weights = new double[particleCount];
+    for (int p = 0; p < particleCount; p++) {
+      System.arraycopy(slotType, 0, cards, p * slotCount, slotCount);
+      shuffleDeck(cards, p * slotCount);
+    }
+    Arrays.fill(weights, 1.0);
+    totalWeight = particleCount;
+  }
+
+  // --- Observations ---
+
+  /**
+   * The opponent drew a card (or added one from their Deck to their hand).
+   */
+  public void onDraw() {
+    if (deckTop == slotCount) return;
+    hand[handSize++] = deck[deckTop++];
+  }
+
+  /**
+   * The opponent played a card from their hand face-up (summon, activation
+   * or discard).
+   *
+   * @param cardId the ID of the revealed card
+   */
+  public void onPlayedFromHand(int cardId) {
+    if (handSize == 0) return;
+    int leaving = hand[handSize - 1];
+    Integer type = typeOf.get(cardId);
+    if (type != null) {
+      for (int p = 0; p < particleCount; p++) {
+        int base = p * slotCount;
+        int slot = findInHand(base, type);
+        if (slot >= 0) {
+          swap(base, slot, leaving);
+        } else {
+          weights[p] = 0;
+          repairFromDeck(base, type, leaving);
+        }
+      }
+    }
+    handSize--;
+    afterUpdate();
+  }
+
+  /**
+   * The opponent Set a card from their hand face-down.
+   *
+   * @param monster true for a face-down monster, false for a Set spell or trap
+   * @param zone the monster or spell/trap zone of the card (0-4)
+   */
+  public void onSetFromHand(boolean monster, int zone) {
+    if (handSize == 0 || zone < 0 || zone >= ZONES) return;
+    int leaving = hand[handSize - 1];
+    for (int p = 0; p < particleCount; p++) {
+      int base = p * slotCount;
+      int matching = 0;
+      for (int i = 0; i < handSize; i++) {
+        if (typeMonster[cards[base + hand[i]]] == monster) matching++;
+      }
+      if (matching == 0) {
+        weights[p] = 0;
+        for (int i = deckTop; i < slotCount; i++) {
+          if (typeMonster[cards[base + deck[i]]] == monster) {
+            swap(base, deck[i], leaving);
+            break;
+          }
+        }
+        continue;
+      }
+      int pick = random.nextInt(matching);
+      for (int i = 0; i < handSize; i++) {
+        if (typeMonster[cards[base + hand[i]]] == monster && pick-- == 0) {
+          swap(base, hand[i], leaving);
+          break;
+        }
+      }
+    }
+    handSize--;
+    (monster ? hiddenMonster : hiddenSpellTrap)[zone] = leaving;
+    afterUpdate();
+  }
+
+  /**
+   * A face-down card of the opponent was revealed (flipped, activated or
+   * sent to the Graveyard). Nothing is done if the zone was not face-down.
+   *
+   * @param monsterZone true for a monster zone, false for a spell/trap zone
+   * @param zone the zone of the card (0-4)
+   * @param cardId the ID of the revealed card
+   */
+  public void onRevealed(boolean monsterZone, int zone, int cardId) {
+    if (zone < 0 || zone >= ZONES) return;
+    int[] hidden = monsterZone ? hiddenMonster : hiddenSpellTrap;
+    int slot = hidden[zone];
+    if (slot == NO_SLOT) return;
+    hidden[zone] = NO_SLOT;
+
+    Integer type = typeOf.get(cardId);
+    if (type == null) return;
+    for (int p = 0; p < particleCount; p++) {
+      int base = p * slotCount;
+      if (cards[base + slot] == type) continue;
+      weights[p] = 0;
+      int from = findInHand(base, type);
+      if (from >= 0) {
+        swap(base, from, slot);
+      } else {
+        repairFromDeck(base, type, slot);
+      }
+    }
+    afterUpdate();
+  }
+
+  /**
+   * The opponent ended a turn without summoning or Setting a monster.
+   * <p>
+   * Players rarely pass while holding a monster they can summon, so the
+   * particles holding one are down-weighted.
+   * </p>
+   *
+   * @param monstersOnField the number of opponent's monsters that could have been tributed
+   */
+  public void onNoNormalSummon(int monstersOnField) {
+    for (int p = 0; p < particleCount; p++) {
+      int base = p * slotCount;
+      for (int i = 0; i < handSize; i++) {
+        int tributes = typeTributes[cards[base + hand[i]]];
+        if (tributes < 0 || tributes > monstersOnField) continue;
+        if (tributes == 0 && monstersOnField == ZONES) continue;
+        weights[p] *= NO_SUMMON_LIKELIHOOD;
+        break;
+      }
+    }
+    afterUpdate();
+  }
+
+  // --- Engine events ---
+
+  /**
+   * Updates the belief from the events of a duel. The belief must be
+   * subscribed before the opening hands are drawn.
+   *
+   * @param events the bus of the duel
+   */
+  public void subscribe(EventBus events) {
+    events.subscribe(GameEvent.CARD_DRAWN, opponent, EventBus.ANY_ZONE, this);
+    events.subscribe(GameEvent.CARD_SET, opponent, EventBus.ANY_ZONE, this);
+    events.subscribe(GameEvent.MONSTER_SUMMONED, opponent, EventBus.ANY_ZONE, this);
+    events.subscribe(GameEvent.PHASE_CHANGED, opponent, EventBus.ANY_ZONE, this);
+    // Both Graveyards: a monster revived from the bot's Graveyard is not a card of the hand
+    events.subscribe(GameEvent.CARD_SENT_TO_GRAVEYARD, this);
+  }
+
+  /**
+   * Stops following the events of a duel.
+   *
+   * @param events the bus of the duel
+   */
+  public void unsubscribe(EventBus events) {
+    events.unsubscribe(GameEvent.CARD_DRAWN, opponent, EventBus.ANY_ZONE, this);
+    events.unsubscribe(GameEvent.CARD_SET, opponent, EventBus.ANY_ZONE, this);
+    events.unsubscribe(GameEvent.MONSTER_SUMMONED, opponent, EventBus.ANY_ZONE, this);
+    events.unsubscribe(GameEvent.PHASE_CHANGED, opponent, EventBus.ANY_ZONE, this);
+    events.unsubscribe(GameEvent.CARD_SENT_TO_GRAVEYARD, EventBus.ANY_PLAYER, EventBus.ANY_ZONE, this);
+  }
+
+  @Override
+  public void onEvent(long event, Card card) {
+    int zone = GameEvent.zone(event);
+    switch (GameEvent.type(event)) {
+      case GameEvent.CARD_DRAWN:
+        onDraw();
+        break;
+      case GameEvent.CARD_SET:
+        onSetFromHand(false, zone);
+        break;
+      case GameEvent.MONSTER_SUMMONED:
+        monsterZones |= 1 << zone;
+        if (revealed.contains(card)) break;
+        summonedThisTurn = true;
+        if (card.isFaceDown()) {
+          onSetFromHand(true, zone);
+        } else {
+          revealed.add(card);
+          onPlayedFromHand(card.getCardId());
+        }
+        break;
+      case GameEvent.CARD_SENT_TO_GRAVEYARD:
+        revealed.add(card);
+        if (GameEvent.player(event) != opponent) break;
+        if (zone == GameEvent.NO_ZONE) {
+          onPlayedFromHand(card.getCardId());
+        } else if (card instanceof MonsterCard) {
+          monsterZones &= ~(1 << zone);
+          onRevealed(true, zone, card.getCardId());
+        } else {
+          onRevealed(false, zone, card.getCardId());
+        }
+        break;
+      case GameEvent.PHASE_CHANGED:
+        int phase = GameEvent.value(event);
+        if (phase == Phase.MP1.ordinal()) {
+          monstersAtMainPhase = Integer.bitCount(monsterZones);
+          summonedThisTurn = false;
+        } else if (phase == Phase.EP.ordinal() && !summonedThisTurn) {
+          onNoNormalSummon(monstersAtMainPhase);
+        }
+        break;
+      default:
+        break;
+    }
+  }
+
+  // --- Queries ---
+
+  /**
+   * Gets the number of particles.
+   *
+   * @return the number of particles
+   */
+  public int getParticleCount() {
+    return particleCount;
+  }
+
+  /**
+   * Gets the number of cards in the opponent's hand, as tracked.
+   *
+   * @return the hand size
+   */
+  public int getHandSize() {
+    return handSize;
+  }
+
+  /**
+   * Gets the number of cards left in the opponent's Deck, as tracked.
+   *
+   * @return the Deck size
+   */
+  public int getDeckSize() {
+    return slotCount - deckTop;
+  }
+
+  /**
+   * Draws a particle according to the weights.
+   *
+   * @param random the random source of the caller
+   * @return the index of the particle
+   */
+  public int sampleParticle(Random random) {
+    double target = random.nextDouble() * totalWeight;
+    for (int p = 0; p < particleCount; p++) {
+      target -= weights[p];
+      if (target < 0) return p;
+    }
+    return particleCount - 1;
+  }
+
+  /**
+   * Gets a card of the hand of a particle.
+   *
+   * @param particle the particle
+   * @param index the index in the hand (0 to {@link #getHandSize()} - 1)
+   * @return the card ID
+   */
+  public int getHandCard(int particle, int index) {
+    return typeIds[cards[particle * slotCount + hand[index]]];
+  }
+
+  /**
+   * Gets a card of the Deck of a particle.
+   *
+   * @param particle the particle
+   * @param index the position from the top of the Deck (0 to {@link #getDeckSize()} - 1)
+   * @return the card ID
+   */
+  public int getDeckCard(int particle, int index) {
+    return typeIds[cards[particle * slotCount + deck[deckTop + index]]];
+  }
+
+  /**
+   * Gets the face-down monster of a zone in a particle.
+   *
+   * @param particle the particle
+   * @param zone the monster zone (0-4)
+   * @return the card ID, or {@link #NO_CARD} if the zone holds no face-down monster
+   */
+  public int getHiddenMonster(int particle, int zone) {
+    int slot = hiddenMonster[zone];
+    return slot == NO_SLOT ? NO_CARD : typeIds[cards[particle * slotCount + slot]];
+  }
+
+  /**
+   * Gets the Set spell or trap of a zone in a particle.
+   *
+   * @param particle the particle
+   * @param zone the spell/trap zone (0-4)
+   * @return the card ID, or {@link #NO_CARD} if the zone holds no Set card
+   */
+  public int getHiddenSpellTrap(int particle, int zone) {
+    int slot = hiddenSpellTrap[zone];
+    return slot == NO_SLOT ? NO_CARD : typeIds[cards[particle * slotCount + slot]];
+  }
+
+  /**
+   * Estimates the number of copies of a card in the opponent's hand.
+   *
+   * @param cardId the card ID
+   * @return the expected number of copies, weighted over the particles
+   */
+  public double expectedCopiesInHand(int cardId) {
+    Integer type = typeOf.get(cardId);
+    if (type == null || totalWeight == 0) return 0;
+    double sum = 0;
+    for (int p = 0; p < particleCount; p++) {
+      if (weights[p] == 0) continue;
+      int base = p * slotCount;
+      int copies = 0;
+      for (int i = 0; i < handSize; i++) {
+        if (cards[base + hand[i]] == type) copies++;
+      }
+      sum += weights[p] * copies;
+    }
+    return sum / totalWeight;
+  }
+
+  // --- Determinization ---
+
+  /**
+   * Builds a copy of a duel where the opponent's hidden cards follow a
+   * particle drawn from the belief.
+   * <p>
+   * The duel is copied through {@link SaveGame}, then the opponent's hand,
+   * Deck order and face-down cards are rearranged among themselves so that
+   * their IDs match the particle. If the tracked hand or Deck size does not
+   * match the duel (the belief missed an event), the hidden cards are dealt
+   * at random instead, so the copy never shows the real hidden cards.
+   * </p>
+   *
+   * @param duel the real duel (not modified)
+   * @param random the random source choosing the particle
+   * @return a new duel, ready to be searched
+   */
+  public DuelEngine determinize(DuelEngine duel, Random random) {
+    DuelEngine copy = SaveGame.read(SaveGame.write(duel));
+    Player player = copy.getPlayer(opponent);
+    Board board = player.getBoard();
+    Hand handCards = player.getHand();
+    Deck deckCards = player.getDeck();
+
+    if (handCards.size() != handSize || deckCards.size() != getDeckSize()) {
+      List<Card> hidden = new ArrayList<>(handCards.getAllCards());
+      hidden.addAll(deckCards.getCards());
+      Collections.shuffle(hidden, random);
+      int size = handCards.size();
+      handCards.clear();
+      handCards.addCards(hidden.subList(0, size));
+      deckCards.reset(hidden.subList(size, hidden.size()));
+      copy.invalidateStateHash();
+      return copy;
+    }
+
+    int particle = sampleParticle(random);
+    Map<Integer, ArrayDeque<Card>> pool = new HashMap<>();
+    for (Card card : handCards.getAllCards()) give(pool, card);
+    for (Card card : deckCards.getCards()) give(pool, card);
+
+    for (int zone = 0; zone < ZONES; zone++) {
+      MonsterCard old = board.getMonster(zone);
+      if (hiddenMonster[zone] == NO_SLOT || old == null) continue;
+      Card card = take(pool, getHiddenMonster(particle, zone));
+      if (!(card instanceof MonsterCard)) {
+        if (card != null) give(pool, card);
+        continue;
+      }
+      MonsterCard monster = (MonsterCard) card;
+      monster.restoreState(old.getPosition(), old.hasAttackedThisTurn(), old.hasChangedPositionThisTurn());
+      monster.setFaceDown(old.isFaceDown());
+      board.restoreMonster(zone, monster);
+      old.restoreState(Position.ATTACK, false, false);
+      old.setFaceDown(false);
+      give(pool, old);
+    }
+    for (int zone = 0; zone < ZONES; zone++) {
+      Card old = board.getSpellTrap(zone);
+      if (hiddenSpellTrap[zone] == NO_SLOT || old == null) continue;
+      Card card = take(pool, getHiddenSpellTrap(particle, zone));
+      if (card == null || card instanceof MonsterCard) {
+        if (card != null) give(pool, card);
+        continue;
+      }
+      card.setFaceDown(old.isFaceDown());
+      board.restoreSpellTrap(zone, card);
+      old.setFaceDown(false);
+      give(pool, old);
+    }
+
+    Card[] newHand = new Card[handSize];
+    Card[] newDeck = new Card[getDeckSize()];
+    for (int i = 0; i < newHand.length; i++) newHand[i] = take(pool, getHandCard(particle, i));
+    for (int i = 0; i < newDeck.length; i++) newDeck[i] = take(pool, getDeckCard(particle, i));
+    // Cards the particle could not match (wrong deck list) fill the gaps
+    List<Card> leftovers = new ArrayList<>();
+    for (ArrayDeque<Card> copies : pool.values()) leftovers.addAll(copies);
+    int next = 0;
+    for (int i = 0; i < newHand.length; i++) if (newHand[i] == null) newHand[i] = leftovers.get(next++);
+    for (int i = 0; i < newDeck.length; i++) if (newDeck[i] == null) newDeck[i] = leftovers.get(next++);
+
+    handCards.clear();
+    handCards.addCards(Arrays.asList(newHand));
+    deckCards.reset(Arrays.asList(newDeck));
+    copy.invalidateStateHash();
+    return copy;
+  }
+
+  /**
+   * Puts a card in the pool of cards to deal.
+   */
+  private static void give(Map<Integer, ArrayDeque<Card>> pool, Card card) {
+    pool.computeIfAbsent(card.getCardId(), id -> new ArrayDeque<>()).add(card);
+  }
+
+  /**
+   * Takes a card with a given ID from the pool.
+   *
+   * @return the card, or null if the pool holds none
+   */
+  private static Card take(Map<Integer, ArrayDeque<Card>> pool, int cardId) {
+    ArrayDeque<Card> copies = pool.get(cardId);
+    return copies == null ? null : copies.poll();
+  }
+
+  // --- Filter ---
+
+  /**
+   * Finds a hand slot holding a card type in a particle.
+   *
+   * @return the slot, or -1 if the hand holds no such card
+   */
+  private int findInHand(int base, int type) {
+    for (int i = 0; i < handSize; i++) {
+      if (cards[base + hand[i]] == type) return hand[i];
+    }
+    return -1;
+  }
+
+  /**
+   * Moves a copy of a card type from the Deck of a particle to a slot.
+   */
+  private void repairFromDeck(int base, int type, int slot) {
+    for (int i = deckTop; i < slotCount; i++) {
+      if (cards[base + deck[i]] == type) {
+        swap(base, deck[i], slot);
+        return;
+      }
+    }
+  }
+
+  /**
+   * Swaps the cards of two slots of a particle.
+   */
+  private void swap(int base, int a, int b) {
+    int card = cards[base + a];
+    cards[base + a] = cards[base + b];
+    cards[base + b] = card;
+  }
+
+  /**
+   * Shuffles the cards in the Deck slots of a particle.
+   *
+   * @param particles the particle array holding the particle
+   * @param base the offset of the particle in the array
+   */
+  private void shuffleDeck(int[] particles, int base) {
+    for (int i = slotCount - 1; i > deckTop; i--) {
+      int a = base + deck[i];
+      int b = base + deck[deckTop + random.nextInt(i - deckTop + 1)];
+      int card = particles[a];
+      particles[a] = particles[b];
+      particles[b] = card;
+    }
+  }
+
+  /**
+   * Normalizes the weights after an observation and resamples if needed.
+   */
+  private void afterUpdate() {
+    double sum = 0;
+    double squares = 0;
+    for (int p = 0; p < particleCount; p++) {
+      sum += weights[p];
+      squares += weights[p] * weights[p];
+    }
+    if (sum == 0) {
+      // No particle explains the observation: keep the repaired ones
+      Arrays.fill(weights, 1.0);
+      totalWeight = particleCount;
+      return;
+    }
+    totalWeight = sum;
+    if (sum * sum < 0.5 * particleCount * squares) {
+      resample();
+    }
+  }
+
+  /**
+   * Systematic resampling: each particle is copied in proportion to its
+   * weight, and the Deck of each extra copy is shuffled.
+   */
+  private void resample() {
+    double step = totalWeight / particleCount;
+    double target = random.nextDouble() * step;
+    double cumulative = weights[0];
+    int source = 0;
+    int previous = -1;
+    for (int p = 0; p < particleCount; p++) {
+      while (cumulative <= target && source < particleCount - 1) {
+        cumulative += weights[++source];
+      }
+      System.arraycopy(cards, source * slotCount, spare, p * slotCount, slotCount);
+      if (source == previous) {
+        shuffleDeck(spare, p * slotCount);
+      }
+      previous = source;
+      target += step;
+    }
+    int[] swapped = cards;
+    cards = spare;
+    spare = swapped;
+    Arrays.fill(weights, 1.0);
+    totalWeight = particleCount;
+  }
+}
@@ -0,0 +1,77 @@
+package Bot;
+
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Baseline strategy playing random legal actions.
+ * <p>
+ * Summons a random summonable monster in a random position and attacks random
+ * targets. All choices use {@link DuelView#getRandom()}, so seeded duels stay
+ * reproducible. Any serious strategy should beat it by a wide margin.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class RandomStrategy implements BotStrategy {
+
+  @Override
+  public String getName() {
+    return "random";
+  }
+
+  @Override
+  public MonsterCard chooseSummon(DuelView duel) {
+    if (duel.hasNormalSummoned()) return null;
+
+    int monstersOnField = duel.getMonsterCount();
+    List<MonsterCard> candidates = new ArrayList<>();
+    for (Card card : duel.getHand()) {
+      if (
+        card instanceof MonsterCard &&
+        SimpleStrategy.canSummon((MonsterCard) card, monstersOnField)
+      ) {
+        candidates.add((MonsterCard) card);
+      }
+    }
+    if (candidates.isEmpty()) return null;
+    return candidates.get(duel.getRandom().nextInt(candidates.size()));
+  }
+
+  @Override
+  public Position choosePosition(DuelView duel, MonsterCard monster) {
+    return duel.getRandom().nextBoolean() ? Position.ATTACK : Position.FACE_DOWN;
+  }
+
+  @Override
+  public int[] chooseTributes(DuelView duel, MonsterCard monster, int count) {
+    return SimpleStrategy.weakestZones(duel, count);
+  }
+
+  @Override
+  public void declareAttacks(DuelView duel, int[] targets) {
+    Random random = duel.getRandom();
+    boolean fieldEmpty = duel.getOpponentMonsterCount() == 0;
+
+    for (int zone = 0; zone < DuelView.ZONES; zone++) {
+      targets[zone] = NO_ATTACK;
+      if (!duel.canAttack(zone) || random.nextBoolean()) continue;
+
+      if (fieldEmpty) {
+        targets[zone] = DIRECT_ATTACK;
+        continue;
+      }
+      int target = random.nextInt(DuelView.ZONES);
+      while (duel.getOpponentMonster(target) == null) {
+        target = (target + 1) % DuelView.ZONES;
+      }
+      targets[zone] = target;
+    }
+  }
+}
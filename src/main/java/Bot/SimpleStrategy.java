@@ -0,0 +1,224 @@
+package Bot;
+
+import Card.MonsterCard;
+import Card.Position;
+import Game.DuelEngine;
+import java.util.Arrays;
+
+/**
+ * The heuristics of {@link SimpleBot}, as a {@link BotStrategy}.
+ * <p>
+ * <strong>Lethal:</strong> when the {@link LethalSolver} finds a line that
+ * wins this turn, the summon, the tributes and the attacks follow that line
+ * and the heuristics below are skipped.
+ * </p>
+ * <p>
+ * <strong>Summon:</strong> the summon with the best net gain in board value,
+ * with the tributes that lose the least value, found by the
+ * {@link TributePlanner}. A weak monster (less
+ * than 1500 ATK) is Set if the opponent has a monster with 1500 ATK or
+ * more.
+ * </p>
+ * <p>
+ * <strong>Attacks:</strong> all attackers are assigned at once with the
+ * {@link AttackPlanner} (weighted matching on LP damage and card advantage).
+ * </p>
+ * <p>
+ * The strategy is stateless; the planner, the lethal solver and their buffers are kept per thread,
+ * so one instance can be shared by a whole tournament.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class SimpleStrategy implements BotStrategy {
+
+  /** ATK below which a monster is considered weak and may be Set */
+  private static final int WEAK_ATK = 1500;
+
+  /** Per-thread planner and buffers */
+  private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(
+    Scratch::new
+  );
+
+  /**
+   * Reusable working memory of one thread.
+   */
+  private static final class Scratch {
+
+    final AttackPlanner planner = new AttackPlanner();
+    final LethalSolver lethal = new LethalSolver();
+    final TributePlanner tributes = new TributePlanner();
+    final int[] attackerZone = new int[DuelView.ZONES];
+    final int[] attackerAtk = new int[DuelView.ZONES];
+    final int[] defenderZone = new int[DuelView.ZONES];
+    final int[] defenderAtk = new int[DuelView.ZONES];
+    final int[] defenderDef = new int[DuelView.ZONES];
+    final int[] defenderPosition = new int[DuelView.ZONES];
+    final int[] plan = new int[DuelView.ZONES];
+  }
+
+  @Override
+  public String getName() {
+    return "simple";
+  }
+
+  @Override
+  public MonsterCard chooseSummon(DuelView duel) {
+    if (duel.hasNormalSummoned()) return null;
+
+    LethalSolver lethal = lethalLine(duel);
+    if (lethal != null && lethal.getSummonMonster() != null) {
+      return lethal.getSummonMonster();
+    }
+
+    // Never tribute a monster of a lethal line that needs no summon
+    TributePlanner planner = SCRATCH.get().tributes;
+    return planner.plan(duel, lethal != null ? 0 : 2) ? planner.getMonster() : null;
+  }
+
+  /**
+   * Sets weak monsters face-down when the opponent has a monster with at
+   * least {@link #WEAK_ATK} ATK.
+   */
+  @Override
+  public Position choosePosition(DuelView duel, MonsterCard monster) {
+    if (monster.getAtk() >= WEAK_ATK) return Position.ATTACK;
+    LethalSolver lethal = lethalLine(duel);
+    if (lethal != null && lethal.getSummonMonster() == monster) {
+      return Position.ATTACK;
+    }
+    for (int zone = 0; zone < DuelView.ZONES; zone++) {
+      MonsterCard threat = duel.getOpponentMonster(zone);
+      if (threat != null && threat.getAtk() >= WEAK_ATK) {
+        return Position.FACE_DOWN;
+      }
+    }
+    return Position.ATTACK;
+  }
+
+  /**
+   * Tributes the monsters of the lethal line, or else the monsters losing
+   * the least board value.
+   */
+  @Override
+  public int[] chooseTributes(DuelView duel, MonsterCard monster, int count) {
+    LethalSolver lethal = lethalLine(duel);
+    if (lethal == null || lethal.getSummonMonster() != monster) {
+      TributePlanner planner = SCRATCH.get().tributes;
+      if (planner.planFor(duel, monster) == TributePlanner.IMPOSSIBLE) {
+        return weakestZones(duel, count);
+      }
+      return planner.getTributeZones();
+    }
+    int[] zones = new int[count];
+    int k = 0;
+    for (int zone = 0; zone < DuelView.ZONES && k < count; zone++) {
+      if (lethal.isTributed(zone)) zones[k++] = zone;
+    }
+    return zones;
+  }
+
+  @Override
+  public void declareAttacks(DuelView duel, int[] targets) {
+    Scratch s = SCRATCH.get();
+    Arrays.fill(targets, 0, DuelView.ZONES, NO_ATTACK);
+
+    if (s.lethal.solve(duel, false)) {
+      for (int zone = 0; zone < DuelView.ZONES; zone++) {
+        targets[zone] = s.lethal.getTarget(zone);
+      }
+      return;
+    }
+
+    int attackers = 0;
+    for (int zone = 0; zone < DuelView.ZONES; zone++) {
+      if (duel.canAttack(zone)) {
+        s.attackerZone[attackers] = zone;
+        s.attackerAtk[attackers] = duel.getMonster(zone).getAtk();
+        attackers++;
+      }
+    }
+    if (attackers == 0) return;
+
+    int defenders = 0;
+    for (int zone = 0; zone < DuelView.ZONES; zone++) {
+      MonsterCard monster = duel.getOpponentMonster(zone);
+      if (monster != null) {
+        s.defenderZone[defenders] = zone;
+        s.defenderAtk[defenders] = monster.getAtk();
+        s.defenderDef[defenders] = monster.getDef();
+        s.defenderPosition[defenders] = duel
+          .getOpponentMonsterPosition(zone)
+          .ordinal();
+        defenders++;
+      }
+    }
+
+    s.planner.plan(
+      s.attackerAtk,
+      attackers,
+      s.defenderAtk,
+      s.defenderDef,
+      s.defenderPosition,
+      defenders,
+      s.plan
+    );
+
+    for (int i = 0; i < attackers; i++) {
+      int target = s.plan[i];
+      targets[s.attackerZone[i]] = target >= 0 ? s.defenderZone[target] : target;
+    }
+  }
+
+  /**
+   * Searches a line that wins this turn, without position changes (the
+   * strategy does not decide them).
+   *
+   * @param duel the duel state
+   * @return the solver of this thread holding the line, or null if there is none
+   */
+  private static LethalSolver lethalLine(DuelView duel) {
+    LethalSolver lethal = SCRATCH.get().lethal;
+    return lethal.solve(duel, false) ? lethal : null;
+  }
+
+  /**
+   * Checks if a monster can be Normal Summoned with the monsters on the field.
+   *
+   * @param monster the monster in hand
+   * @param monstersOnField the number of own monsters on the field
+   * @return true if there are enough tributes and a zone will be free
+   */
+  static boolean canSummon(MonsterCard monster, int monstersOnField) {
+    int tributes = DuelEngine.tributesRequired(monster);
+    if (tributes > monstersOnField) return false;
+    return tributes > 0 || monstersOnField < DuelView.ZONES;
+  }
+
+  /**
+   * Finds the zones of the weakest own monsters (by ATK).
+   *
+   * @param duel the duel state
+   * @param count the number of zones to return
+   * @return the zones of the {@code count} weakest monsters
+   */
+  static int[] weakestZones(DuelView duel, int count) {
+    int[] zones = new int[count];
+    boolean[] taken = new boolean[DuelView.ZONES];
+    for (int k = 0; k < count; k++) {
+      int best = -1;
+      for (int zone = 0; zone < DuelView.ZONES; zone++) {
+        MonsterCard monster = duel.getMonster(zone);
+        if (monster == null || taken[zone]) continue;
+        if (best < 0 || monster.getAtk() < duel.getMonster(best).getAtk()) {
+          best = zone;
+        }
+      }
+      zones[k] = best;
+      if (best >= 0) taken[best] = true;
+    }
+    return zones;
+  }
+}
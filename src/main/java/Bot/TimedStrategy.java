@@ -0,0 +1,194 @@
+package Bot;
+
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import java.io.PrintStream;
+
+/**
+ * Decorator measuring how long a {@link BotStrategy} takes for each decision.
+ * <p>
+ * Every call is forwarded to the wrapped strategy and its duration is
+ * recorded in one {@link LatencyHistogram} per decision point. The report
+ * shows the median (p50), the 99th percentile (p99) and the worst case, so a
+ * strategy that is too slow for the UI (or that slows down a tournament)
+ * shows up immediately.
+ * </p>
+ * <p>
+ * The decorator is thread-safe if the wrapped strategy is.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class TimedStrategy implements BotStrategy {
+
+  /**
+   * The decision points of a {@link BotStrategy}.
+   */
+  public enum Decision {
+    /** {@link BotStrategy#chooseSummon} */
+    SUMMON,
+    /** {@link BotStrategy#choosePosition} */
+    POSITION,
+    /** {@link BotStrategy#chooseTributes} */
+    TRIBUTES,
+    /** {@link BotStrategy#declareAttacks} */
+    ATTACKS,
+    /** {@link BotStrategy#chooseSpellTrap} */
+    SPELL_TRAP,
+    /** {@link BotStrategy#shouldActivate} */
+    ACTIVATE,
+  }
+
+  /** The measured strategy */
+  private final BotStrategy delegate;
+
+  /** One histogram per decision point, indexed by {@link Decision#ordinal()} */
+  private final LatencyHistogram[] histograms = new LatencyHistogram[Decision
+    .values()
+    .length];
+
+  /**
+   * Wraps a strategy.
+   *
+   * @param delegate the strategy to measure
+   */
+  public TimedStrategy(BotStrategy delegate) {
+    this.delegate = delegate;
+    for (int i = 0; i < histograms.length; i++) {
+      histograms[i] = new LatencyHistogram();
+    }
+  }
+
+  /**
+   * Gets the measured strategy.
+   *
+   * @return the wrapped strategy
+   */
+  public BotStrategy getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * Gets the latency histogram of a decision point.
+   *
+   * @param decision the decision point
+   * @return its histogram (durations in nanoseconds)
+   */
+  public LatencyHistogram getHistogram(Decision decision) {
+    return histograms[decision.ordinal()];
+  }
+
+  @Override
+  public String getName() {
+    return delegate.getName();
+  }
+
+  @Override
+  public MonsterCard chooseSummon(DuelView duel) {
+    long start = System.nanoTime();
+    try {
+      return delegate.chooseSummon(duel);
+    } finally {
+      record(Decision.SUMMON, start);
+    }
+  }
+
+  @Override
+  public Position choosePosition(DuelView duel, MonsterCard monster) {
+    long start = System.nanoTime();
+    try {
+      return delegate.choosePosition(duel, monster);
+    } finally {
+      record(Decision.POSITION, start);
+    }
+  }
+
+  @Override
+  public int[] chooseTributes(DuelView duel, MonsterCard monster, int count) {
+    long start = System.nanoTime();
+    try {
+      return delegate.chooseTributes(duel, monster, count);
+    } finally {
+      record(Decision.TRIBUTES, start);
+    }
+  }
+
+  @Override
+  public void declareAttacks(DuelView duel, int[] targets) {
+    long start = System.nanoTime();
+    try {
+      delegate.declareAttacks(duel, targets);
+    } finally {
+      record(Decision.ATTACKS, start);
+    }
+  }
+
+  @Override
+  public Card chooseSpellTrap(DuelView duel) {
+    long start = System.nanoTime();
+    try {
+      return delegate.chooseSpellTrap(duel);
+    } finally {
+      record(Decision.SPELL_TRAP, start);
+    }
+  }
+
+  @Override
+  public boolean shouldActivate(DuelView duel, Card card) {
+    long start = System.nanoTime();
+    try {
+      return delegate.shouldActivate(duel, card);
+    } finally {
+      record(Decision.ACTIVATE, start);
+    }
+  }
+
+  /**
+   * Prints the latency of every decision point that was called at least once.
+   * <p>
+   * Durations are printed in microseconds.
+   * </p>
+   *
+   * @param out the stream to print to
+   */
+  public void report(PrintStream out) {
+    out.println("Decision latency of " + getName() + " (us):");
+    out.println(
+      String.format(
+        "  %-12s %12s %10s %10s %10s",
+        "Decision",
+        "Calls",
+        "p50",
+        "p99",
+        "max"
+      )
+    );
+    for (Decision decision : Decision.values()) {
+      LatencyHistogram histogram = getHistogram(decision);
+      if (histogram.getCount() == 0) continue;
+      out.println(
+        String.format(
+          "  %-12s %12d %10.1f %10.1f %10.1f",
+          decision,
+          histogram.getCount(),
+          histogram.getPercentile(50) / 1000.0,
+          histogram.getPercentile(99) / 1000.0,
+          histogram.getMax() / 1000.0
+        )
+      );
+    }
+  }
+
+  /**
+   * Records the duration of a call.
+   *
+   * @param decision the decision point
+   * @param start the {@link System#nanoTime()} taken before the call
+   */
+  private void record(Decision decision, long start) {
+    histograms[decision.ordinal()].record(System.nanoTime() - start);
+  }
+}
@@ -0,0 +1,423 @@
+package Bot;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size transposition table shared by the threads of a bot search.
+ * <p>
+ * Entries are keyed by the 64-bit state hash of a duel
+ * ({@link Game.DuelEngine#stateHash()}) and hold a packed {@code long}: the
+ * score, the depth it was searched to, its bound, the best move and the
+ * search generation that wrote it (see the layout below, decoded with the
+ * static accessors). Each entry takes two words: {@code key ^ data} and
+ * {@code data}. A reader recomputes {@code check ^ data} and only accepts the
+ * entry if it gives back its key, so an entry torn by two threads writing at
+ * the same time is simply seen as a miss. No lock and no compare-and-set is
+ * needed: every word is read and written atomically, and a lost update only
+ * costs a search.
+ * </p>
+ * <p>
+ * Entries are grouped in buckets of {@link #BUCKET_ENTRIES} (64 bytes, one
+ * cache line); the low bits of the key choose the bucket. A store replaces
+ * the entry of the same key, else an empty entry, else the entry of least
+ * worth: the shallowest, with 8 plies taken off per generation of age.
+ * </p>
+ * <p>
+ * The table lives off-heap, in direct buffers of at most 1 GiB each, so a
+ * table of several gigabytes costs the garbage collector nothing to scan.
+ * The words are accessed through a {@code long} view of the buffers with
+ * opaque (atomic, unordered) reads and writes.
+ * </p>
+ * <p>
+ * <strong>Packed entry layout:</strong>
+ * <pre>
+ * bits  0..19  : best move ({@link Game.Moves}), 0 if none
+ * bits 20..27  : depth (0-255)
+ * bits 28..29  : bound ({@link #EXACT}, {@link #LOWER}, {@link #UPPER}; 0 for an empty entry)
+ * bits 30..37  : generation (see {@link #newSearch()})
+ * bits 40..63  : score, signed 24 bits
+ * </pre>
+ * </p>
+ * <p>
+ * Hits, collisions and replacements are counted with {@link LongAdder}s,
+ * which threads update without contending.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class TranspositionTable {
+
+  /** Returned by {@link #probe(long)} when the key is not in the table */
+  public static final long MISS = 0L;
+
+  /** Bound: the score is exact */
+  public static final int EXACT = 1;
+
+  /** Bound: the score is a lower bound (the search failed high) */
+  public static final int LOWER = 2;
+
+  /** Bound: the score is an upper bound (the search failed low) */
+  public static final int UPPER = 3;
+
+  /** Largest score that can be stored */
+  public static final int MAX_SCORE = (1 << 23) - 1;
+
+  /** Largest depth that can be stored */
+  public static final int MAX_DEPTH = 255;
+
+  /** Entries per bucket */
+  public static final int BUCKET_ENTRIES = 4;
+
+  /** Bytes of an entry: the check word and the data word */
+  private static final int ENTRY_BYTES = 16;
+
+  /** Bytes of a bucket (one cache line) */
+  private static final int BUCKET_BYTES = BUCKET_ENTRIES * ENTRY_BYTES;
+
+  /** Buckets per buffer, as a power of two (2^24 buckets = 1 GiB) */
+  private static final int CHUNK_BITS = 24;
+
+  /** Plies of depth an entry loses for each generation of age when replacing */
+  private static final int AGE_PENALTY = 8;
+
+  private static final int MOVE_MASK = 0xFFFFF;
+  private static final int DEPTH_SHIFT = 20;
+  private static final int BOUND_SHIFT = 28;
+  private static final int GENERATION_SHIFT = 30;
+  private static final int SCORE_SHIFT = 40;
+
+  /** Atomic {@code long} access to the words of a buffer */
+  private static final VarHandle WORDS =
+      MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+  /** Off-heap storage, one buffer per 2^{@link #CHUNK_BITS} buckets */
+  private final ByteBuffer[] chunks;
+
+  /** Number of buckets minus one (the number is a power of two) */
+  private final long bucketMask;
+
+  /** Number of buckets in each buffer, minus one */
+  private final long chunkMask;
+
+  /** Current search generation (0-255) */
+  private volatile int generation;
+
+  private final LongAdder probes = new LongAdder();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder collisions = new LongAdder();
+  private final LongAdder stores = new LongAdder();
+  private final LongAdder replacements = new LongAdder();
+
+  /**
+   * Allocates a table.
+   * <p>
+   * The number of buckets is the largest power of two that fits in the
+   * given size, so the table takes between half the size and the size.
+   * </p>
+   *
+   * @param bytes the largest size of the table, in bytes (at least 64)
+   * @throws IllegalArgumentException if the size is too small
+   */
+  public TranspositionTable(long bytes) {
+    if (bytes < BUCKET_BYTES) {
+      throw new IllegalArgumentException("Table too small: " + bytes + " bytes");
+    }
+    long buckets = Long.highestOneBit(bytes / BUCKET_BYTES);
+    long perChunk = Math.min(buckets, 1L << CHUNK_BITS);
+    bucketMask = buckets - 1;
+    chunkMask = perChunk - 1;
+    chunks = new ByteBuffer[(int) (buckets / perChunk)];
+    for (int i = 0; i < chunks.length; i++) {
+      int size = (int) (perChunk * BUCKET_BYTES);
+      chunks[i] = ByteBuffer.allocateDirect(size + BUCKET_BYTES)
+          .alignedSlice(BUCKET_BYTES)
+          .limit(size)
+          .slice()
+          .order(ByteOrder.nativeOrder());
+    }
+  }
+
+  // --- Packed entry accessors ---
+
+  /**
+   * Packs an entry.
+   *
+   * @param score the score, clamped to +/-{@link #MAX_SCORE}
+   * @param depth the depth, clamped to 0-{@link #MAX_DEPTH}
+   * @param bound {@link #EXACT}, {@link #LOWER} or {@link #UPPER}
+   * @param move the best move, or 0
+   * @param generation the search generation
+   * @return the packed entry
+   */
+  public static long pack(int score, int depth, int bound, int move, int generation) {
+    score = Math.max(-MAX_SCORE, Math.min(MAX_SCORE, score));
+    depth = Math.max(0, Math.min(MAX_DEPTH, depth));
+    return (long) score << SCORE_SHIFT
+        | (long) (generation & 0xFF) << GENERATION_SHIFT
+        | (long) (bound & 3) << BOUND_SHIFT
+        | (long) depth << DEPTH_SHIFT
+        | (move & MOVE_MASK);
+  }
+
+  /**
+   * Gets the score of an entry.
+   *
+   * @param entry the packed entry
+   * @return the score
+   */
+  public static int score(long entry) {
+    return (int) (entry >> SCORE_SHIFT);
+  }
+
+  /**
+   * Gets the depth of an entry.
+   *
+   * @param entry the packed entry
+   * @return the depth the score was searched to
+   */
+  public static int depth(long entry) {
+    return (int) (entry >>> DEPTH_SHIFT) & 0xFF;
+  }
+
+  /**
+   * Gets the bound of an entry.
+   *
+   * @param entry the packed entry
+   * @return {@link #EXACT}, {@link #LOWER} or {@link #UPPER}, or 0 for {@link #MISS}
+   */
+  public static int bound(long entry) {
+    return (int) (entry >>> BOUND_SHIFT) & 3;
+  }
+
+  /**
+   * Gets the best move of an entry.
+   *
+   * @param entry the packed entry
+   * @return the packed move, or 0 if none
+   */
+  public static int move(long entry) {
+    return (int) entry & MOVE_MASK;
+  }
+
+  /**
+   * Gets the generation of an entry.
+   *
+   * @param entry the packed entry
+   * @return the search generation that wrote the entry
+   */
+  public static int generation(long entry) {
+    return (int) (entry >>> GENERATION_SHIFT) & 0xFF;
+  }
+
+  // --- Table operations ---
+
+  /**
+   * Looks a state up.
+   *
+   * @param key the state hash
+   * @return the packed entry, or {@link #MISS}
+   */
+  public long probe(long key) {
+    probes.increment();
+    ByteBuffer chunk = chunkOf(key);
+    int base = offsetOf(key);
+    boolean full = true;
+    for (int i = 0; i < BUCKET_ENTRIES; i++) {
+      int offset = base + i * ENTRY_BYTES;
+      long data = (long) WORDS.getOpaque(chunk, offset + 8);
+      long check = (long) WORDS.getOpaque(chunk, offset);
+      if ((check ^ data) == key && bound(data) != 0) {
+        hits.increment();
+        return data;
+      }
+      if (bound(data) == 0) full = false;
+    }
+    if (full) collisions.increment();
+    return MISS;
+  }
+
+  /**
+   * Stores the result of a search.
+   * <p>
+   * An entry of the same state is kept if it was searched deeper in the
+   * current generation and the new score is not exact. When the new entry
+   * has no best move, the move of the old entry of the same state is kept.
+   * </p>
+   *
+   * @param key the state hash
+   * @param score the score
+   * @param depth the depth the state was searched to
+   * @param bound {@link #EXACT}, {@link #LOWER} or {@link #UPPER}
+   * @param move the best move, or 0
+   * @throws IllegalArgumentException if the bound is not valid
+   */
+  public void store(long key, int score, int depth, int bound, int move) {
+    if (bound < EXACT || bound > UPPER) {
+      throw new IllegalArgumentException("Invalid bound: " + bound);
+    }
+    stores.increment();
+    int current = generation;
+    ByteBuffer chunk = chunkOf(key);
+    int base = offsetOf(key);
+
+    int victim = -1;
+    int victimWorth = Integer.MAX_VALUE;
+    for (int i = 0; i < BUCKET_ENTRIES; i++) {
+      int offset = base + i * ENTRY_BYTES;
+      long data = (long) WORDS.getOpaque(chunk, offset + 8);
+      long check = (long) WORDS.getOpaque(chunk, offset);
+      if (bound(data) == 0) {
+        if (victimWorth > Integer.MIN_VALUE) {
+          victim = offset;
+          victimWorth = Integer.MIN_VALUE;
+        }
+        continue;
+      }
+      if ((check ^ data) == key) {
+        if (bound != EXACT && generation(data) == current && depth(data) > depth) return;
+        if (move == 0) move = move(data);
+        write(chunk, offset, key, pack(score, depth, bound, move, current));
+        return;
+      }
+      int age = (current - generation(data)) & 0xFF;
+      int worth = depth(data) - AGE_PENALTY * age;
+      if (worth < victimWorth) {
+        victim = offset;
+        victimWorth = worth;
+      }
+    }
+    if (victimWorth != Integer.MIN_VALUE) replacements.increment();
+    write(chunk, victim, key, pack(score, depth, bound, move, current));
+  }
+
+  /**
+   * Starts a new search: older entries become cheaper to replace.
+   */
+  public void newSearch() {
+    generation = (generation + 1) & 0xFF;
+  }
+
+  /**
+   * Empties the table and resets the statistics. Must not run while other
+   * threads use the table.
+   */
+  public void clear() {
+    for (ByteBuffer chunk : chunks) {
+      for (int offset = 0; offset < chunk.limit(); offset += 8) {
+        WORDS.setOpaque(chunk, offset, 0L);
+      }
+    }
+    generation = 0;
+    resetStatistics();
+  }
+
+  /**
+   * Gets the number of entries of the table.
+   *
+   * @return the capacity, in entries
+   */
+  public long capacity() {
+    return (bucketMask + 1) * BUCKET_ENTRIES;
+  }
+
+  /**
+   * Gets the off-heap size of the table.
+   *
+   * @return the size, in bytes
+   */
+  public long sizeInBytes() {
+    return (bucketMask + 1) * BUCKET_BYTES;
+  }
+
+  // --- Statistics ---
+
+  /**
+   * Gets the share of probes that found their state.
+   *
+   * @return the hit rate (0-1)
+   */
+  public double getHitRate() {
+    return rate(hits.sum(), probes.sum());
+  }
+
+  /**
+   * Gets the share of probes that missed in a full bucket: the state
+   * competed for its bucket with other states.
+   *
+   * @return the collision rate (0-1)
+   */
+  public double getCollisionRate() {
+    return rate(collisions.sum(), probes.sum());
+  }
+
+  /**
+   * Gets the share of stores that evicted the entry of another state.
+   *
+   * @return the replacement rate (0-1)
+   */
+  public double getReplacementRate() {
+    return rate(replacements.sum(), stores.sum());
+  }
+
+  /**
+   * Gets the number of probes since the last reset.
+   *
+   * @return the number of probes
+   */
+  public long getProbes() {
+    return probes.sum();
+  }
+
+  /**
+   * Gets the number of stores since the last reset.
+   *
+   * @return the number of stores
+   */
+  public long getStores() {
+    return stores.sum();
+  }
+
+  /**
+   * Resets the hit, collision and replacement counters.
+   */
+  public void resetStatistics() {
+    probes.reset();
+    hits.reset();
+    collisions.reset();
+    stores.reset();
+    replacements.reset();
+  }
+
+  @Override
+  public String toString() {
+    return String.format("TranspositionTable[%d MiB, %d probes, hits %.1f%%, collisions %.1f%%,"
+                         + " %d stores, replacements %.1f%%]",
+                         sizeInBytes() >> 20, getProbes(), 100 * getHitRate(),
+                         100 * getCollisionRate(), getStores(), 100 * getReplacementRate());
+  }
+
+  // --- Helpers ---
+
+  private static double rate(long count, long total) {
+    return total == 0 ? 0 : (double) count / total;
+  }
+
+  private ByteBuffer chunkOf(long key) {
+    return chunks[(int) ((key & bucketMask) >>> CHUNK_BITS)];
+  }
+
+  private int offsetOf(long key) {
+    return (int) (key & bucketMask & chunkMask) * BUCKET_BYTES;
+  }
+
+  private static void write(ByteBuffer chunk, int offset, long key, long data) {
+    WORDS.setOpaque(chunk, offset + 8, data);
+    WORDS.setOpaque(chunk, offset, key ^ data);
+  }
+}
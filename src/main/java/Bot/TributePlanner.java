@@ -0,0 +1,236 @@
+package Bot;
+
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import Game.DuelEngine;
+import Game.Phase;
+
+/**
+ * Chooses the Normal Summon of the turn and its tributes by board value.
+ * <p>
+ * Each monster on the field is worth {@link #CARD_VALUE} (one card of
+ * advantage) plus the stat it battles with (ATK in Attack Position, DEF
+ * otherwise), plus half its ATK if it can still attack this turn, plus
+ * {@link #FACE_DOWN_VALUE} if it is face-down. The net gain of a summon is
+ * the value of the new monster (in Attack Position) minus the value of its
+ * tributes.
+ * </p>
+ * <p>
+ * For every monster in hand, the tribute subsets of the required size are
+ * enumerated over the 5 zones (at most 10 subsets), and the one losing the
+ * least value is kept; the summon with the best net gain over the whole hand
+ * wins. A Tribute Summon is therefore only chosen when it is worth more than
+ * keeping the tributes and summoning a smaller monster. A plan costs a few
+ * hundred operations.
+ * </p>
+ * <p>
+ * The planner keeps its result in fields and does not allocate. An instance
+ * is not thread-safe.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class TributePlanner {
+
+  /** Value of one card on the field, in ATK points */
+  public static final int CARD_VALUE = 1000;
+
+  /** Extra value of a face-down monster (hidden stats, flip effects) */
+  public static final int FACE_DOWN_VALUE = 200;
+
+  /** Gain returned when a monster cannot be summoned */
+  public static final int IMPOSSIBLE = Integer.MIN_VALUE;
+
+  /** Number of monster zones */
+  private static final int ZONES = DuelView.ZONES;
+
+  /** Value of the monster in each zone */
+  private final int[] values = new int[ZONES];
+
+  /** Occupied zones (bit per zone) */
+  private int occupied;
+
+  /** True if a Battle Phase is still to come this turn (Main Phase 1, not the first turn) */
+  private boolean battleAhead;
+
+  /** Monster of the best summon */
+  private MonsterCard monster;
+
+  /** Tributed zones of the best summon (bit per zone) */
+  private int tributes;
+
+  /** Net gain of the best summon */
+  private int gain = IMPOSSIBLE;
+
+  /**
+   * Computes the board value of a monster.
+   *
+   * @param atk the ATK of the monster
+   * @param def the DEF of the monster
+   * @param position the battle position of the monster
+   * @param canStillAttack true if the monster may attack in a Battle Phase still to come this turn
+   * @return the value, in ATK points
+   */
+  public static int fieldValue(int atk, int def, Position position, boolean canStillAttack) {
+    int value = CARD_VALUE + (position == Position.ATTACK ? atk : def);
+    if (canStillAttack) value += atk / 2;
+    if (position == Position.FACE_DOWN) value += FACE_DOWN_VALUE;
+    return value;
+  }
+
+  /**
+   * Finds the cheapest subset of tributes.
+   *
+   * @param values the value of the monster in each zone
+   * @param occupied the occupied zones (bit per zone)
+   * @param count the number of tributes
+   * @return the tributed zones (bit per zone), or -1 if there are not enough monsters
+   */
+  public static int cheapestTributes(int[] values, int occupied, int count) {
+    if (count == 0) return 0;
+    int best = -1;
+    int bestCost = Integer.MAX_VALUE;
+    for (int mask = occupied; mask > 0; mask = (mask - 1) & occupied) {
+      if (Integer.bitCount(mask) != count) continue;
+      int cost = 0;
+      for (int rest = mask; rest != 0; rest &= rest - 1) {
+        cost += values[Integer.numberOfTrailingZeros(rest)];
+      }
+      if (cost < bestCost) {
+        bestCost = cost;
+        best = mask;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Finds the summon with the best net gain among the monsters in hand.
+   *
+   * @param duel the duel state
+   * @param maxTributes the largest number of tributes allowed (2 for no limit)
+   * @return true if a summon with a positive gain was found (see the accessors)
+   */
+  public boolean plan(DuelView duel, int maxTributes) {
+    monster = null;
+    gain = IMPOSSIBLE;
+    if (duel.hasNormalSummoned()) return false;
+    readField(duel);
+
+    MonsterCard bestMonster = null;
+    int bestTributes = 0;
+    int bestGain = IMPOSSIBLE;
+    for (Card card : duel.getHand()) {
+      if (!(card instanceof MonsterCard)) continue;
+      MonsterCard candidate = (MonsterCard) card;
+      if (DuelEngine.tributesRequired(candidate) > maxTributes) continue;
+      int candidateGain = evaluate(candidate);
+      if (candidateGain > bestGain) {
+        bestGain = candidateGain;
+        bestMonster = candidate;
+        bestTributes = tributes;
+      }
+    }
+    monster = bestMonster;
+    tributes = bestTributes;
+    gain = bestGain;
+    return monster != null && gain > 0;
+  }
+
+  /**
+   * Finds the cheapest tributes for one monster.
+   *
+   * @param duel the duel state
+   * @param candidate the monster to summon
+   * @return the net gain of the summon, or {@link #IMPOSSIBLE}
+   */
+  public int planFor(DuelView duel, MonsterCard candidate) {
+    readField(duel);
+    monster = candidate;
+    gain = evaluate(candidate);
+    if (gain == IMPOSSIBLE) monster = null;
+    return gain;
+  }
+
+  /**
+   * Gets the monster of the planned summon.
+   *
+   * @return the monster, or null if no summon is possible
+   */
+  public MonsterCard getMonster() {
+    return monster;
+  }
+
+  /**
+   * Gets the net gain of the planned summon.
+   *
+   * @return the gain in ATK points, or {@link #IMPOSSIBLE}
+   */
+  public int getGain() {
+    return gain;
+  }
+
+  /**
+   * Checks if a zone is tributed by the planned summon.
+   *
+   * @param zone the monster zone (0-4)
+   * @return true if the monster of the zone is tributed
+   */
+  public boolean isTributed(int zone) {
+    return monster != null && (tributes & 1 << zone) != 0;
+  }
+
+  /**
+   * Gets the tributed zones of the planned summon.
+   *
+   * @return a new array with the zones, in increasing order
+   */
+  public int[] getTributeZones() {
+    int[] zones = new int[monster == null ? 0 : Integer.bitCount(tributes)];
+    int k = 0;
+    for (int zone = 0; zone < ZONES && k < zones.length; zone++) {
+      if ((tributes & 1 << zone) != 0) zones[k++] = zone;
+    }
+    return zones;
+  }
+
+  /**
+   * Reads the value of the own monsters, and whether a Battle Phase is
+   * still to come this turn.
+   */
+  private void readField(DuelView duel) {
+    battleAhead = duel.getPhase() == Phase.MP1 && duel.canBattle();
+    occupied = 0;
+    for (int zone = 0; zone < ZONES; zone++) {
+      MonsterCard own = duel.getMonster(zone);
+      if (own == null) continue;
+      occupied |= 1 << zone;
+      Position position = duel.getMonsterPosition(zone);
+      boolean canStillAttack = battleAhead && position == Position.ATTACK && !own.hasAttackedThisTurn();
+      values[zone] = fieldValue(own.getAtk(), own.getDef(), position, canStillAttack);
+    }
+  }
+
+  /**
+   * Evaluates the summon of a monster with its cheapest tributes, and keeps
+   * the tributes in {@link #tributes}.
+   *
+   * @return the net gain, or {@link #IMPOSSIBLE}
+   */
+  private int evaluate(MonsterCard candidate) {
+    int count = DuelEngine.tributesRequired(candidate);
+    if (count == 0 && occupied == (1 << ZONES) - 1) return IMPOSSIBLE;
+    int mask = cheapestTributes(values, occupied, count);
+    if (mask < 0) return IMPOSSIBLE;
+
+    int value = fieldValue(candidate.getAtk(), candidate.getDef(), Position.ATTACK, battleAhead);
+    for (int rest = mask; rest != 0; rest &= rest - 1) {
+      value -= values[Integer.numberOfTrailingZeros(rest)];
+    }
+    tributes = mask;
+    return value;
+  }
+}
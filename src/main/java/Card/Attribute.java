@@ -0,0 +1,44 @@
+package Card;
+
+import java.util.Locale;
+
+/**
+ * Enumeration of the monster attributes of Yu-Gi-Oh!
+ * <p>
+ * The attribute is parsed once, when a card is built, from the string given
+ * by the card database (e.g. "DARK"). Filters then compare enum constants or
+ * test an {@link java.util.EnumSet} instead of comparing strings for every
+ * card.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public enum Attribute {
+    DARK,
+    LIGHT,
+    WATER,
+    FIRE,
+    EARTH,
+    WIND,
+    DIVINE,
+    /** An attribute missing from this enumeration, never returned by {@link #parse(String)} */
+    UNKNOWN;
+
+    /**
+     * Parses an attribute name, ignoring case.
+     *
+     * @param name the attribute name (e.g. "DARK" or "Dark"), may be null
+     * @return the attribute, or null if the name is empty or unknown
+     */
+    public static Attribute parse(String name) {
+        if (name == null || name.isBlank()) return null;
+        try {
+            Attribute attribute = valueOf(name.trim().toUpperCase(Locale.ROOT));
+            return attribute == UNKNOWN ? null : attribute;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
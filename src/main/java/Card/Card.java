@@ -138,12 +138,26 @@ public abstract class Card {
      * @return a JavaFX Image object representing the card's visual appearance
      */
     public Image getImage() {
+        return loadImage(imageUrl);
+    }
+
+    /**
+     * Loads the image of this card once and caches it.
+     * <p>
+     * Subclasses keeping their own image URL call it from {@link #getImage()},
+     * so every kind of card decodes its image only once.
+     * </p>
+     *
+     * @param url the image URL, or null for the default placeholder
+     * @return the cached image
+     */
+    protected Image loadImage(String url) {
         if (cachedImage == null) {
-            if (imageUrl == null || imageUrl.isEmpty()) {
+            if (url == null || url.isEmpty()) {
                 cachedImage = new Image("file:resources/ui/default.png", 120, 180, true, true);
             } else {
                 // Background loading (last parameter = true) to avoid UI blocking
-                cachedImage = new Image(imageUrl, 120, 180, true, true, true);
+                cachedImage = new Image(url, 120, 180, true, true, true);
             }
         }
         return cachedImage;
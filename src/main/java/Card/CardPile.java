@@ -0,0 +1,288 @@
+package Card;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ordered pile of cards with constant-time membership and removal.
+ * <p>
+ * The hand, the Graveyard and the Banished Zone used to keep their cards in
+ * an {@code ArrayList}, so every {@code contains} and {@code remove} scanned
+ * the pile. A {@code CardPile} keeps the cards in an array, in the order
+ * they were added, and indexes each card by identity with its slot:
+ * <ul>
+ * <li>{@link #contains(Card)} is a lookup in the index</li>
+ * <li>{@link #remove(Card)} clears the slot of the card and leaves a hole</li>
+ * <li>{@link #add(Card)} and {@link #last()} work at the end of the array</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <strong>Holes:</strong> the holes are only removed (and the slots of the
+ * following cards updated) when a position is needed: {@link #get(int)},
+ * {@link #indexOf(Card)}, {@link #insert(int, Card)}, or an {@code add}
+ * into a full array. A compaction is a pass over the pile that removes all
+ * the holes at once: a run of removals is constant time per card, but a
+ * removal followed by a position lookup, repeated, is linear per card, as
+ * with a list. Code that removes cards should only ask for positions when
+ * it needs them.
+ * </p>
+ * <p>
+ * Cards are compared by reference, like the cards themselves (two copies of
+ * the same card are two objects). A card is in a pile at most once.
+ * </p>
+ * <p>
+ * {@link #view()} gives a live, read-only {@link List} of the pile: AI and
+ * UI code can read it as often as needed without copying the pile. Like the
+ * iterators of an {@code ArrayList}, its iterators fail fast when the pile
+ * changes.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class CardPile {
+
+    /** Initial capacity of the array */
+    private static final int INITIAL_CAPACITY = 8;
+
+    /** Cards in order, with null for removed cards, in slots 0 to {@link #end} - 1 */
+    private Card[] slots = new Card[INITIAL_CAPACITY];
+
+    /** Number of slots used, holes included (the slot before it is never a hole) */
+    private int end;
+
+    /** Number of holes before {@link #end} */
+    private int holes;
+
+    /** Slot of each card of the pile */
+    private final Map<Card, Integer> index = new IdentityHashMap<>();
+
+    /** Read-only live view of the pile */
+    private final View view = new View();
+
+    /**
+     * Adds a card at the end of the pile.
+     *
+     * @param card the card to add
+     * @return false if the card is already in the pile (it is not added again)
+     */
+    public boolean add(Card card) {
+        if (index.containsKey(card)) return false;
+        if (end == slots.length) {
+            if (holes > 0) {
+                compact();
+            } else {
+                slots = Arrays.copyOf(slots, slots.length * 2);
+            }
+        }
+        index.put(card, end);
+        slots[end++] = card;
+        view.changed();
+        return true;
+    }
+
+    /**
+     * Inserts a card at a position of the pile.
+     *
+     * @param position the position of the card (0 to {@link #size()})
+     * @param card the card to insert
+     * @return false if the card is already in the pile (it is not inserted again)
+     * @throws IndexOutOfBoundsException if the position is out of range
+     */
+    public boolean insert(int position, Card card) {
+        if (position < 0 || position > size()) {
+            throw new IndexOutOfBoundsException("Position " + position + ", size " + size());
+        }
+        if (index.containsKey(card)) return false;
+        compact();
+        if (end == slots.length) {
+            slots = Arrays.copyOf(slots, slots.length * 2);
+        }
+        System.arraycopy(slots, position, slots, position + 1, end - position);
+        slots[position] = card;
+        end++;
+        for (int i = position; i < end; i++) {
+            index.put(slots[i], i);
+        }
+        view.changed();
+        return true;
+    }
+
+    /**
+     * Removes a card from the pile.
+     *
+     * @param card the card to remove
+     * @return true if the card was in the pile
+     */
+    public boolean remove(Card card) {
+        Integer slot = index.remove(card);
+        if (slot == null) return false;
+        slots[slot] = null;
+        holes++;
+        // Keep the last slot filled, so that last() needs no scan
+        while (end > 0 && slots[end - 1] == null) {
+            end--;
+            holes--;
+        }
+        view.changed();
+        return true;
+    }
+
+    /**
+     * Checks if a card is in the pile.
+     *
+     * @param card the card to look for
+     * @return true if the card is in the pile
+     */
+    public boolean contains(Card card) {
+        return index.containsKey(card);
+    }
+
+    /**
+     * Gets the position of a card in the pile.
+     *
+     * @param card the card to look for
+     * @return the position (0 for the first card), or -1 if the card is not in the pile
+     */
+    public int indexOf(Card card) {
+        if (!index.containsKey(card)) return -1;
+        compact();
+        return index.get(card);
+    }
+
+    /**
+     * Gets the card at a position of the pile.
+     *
+     * @param position the position (0 for the first card)
+     * @return the card
+     * @throws IndexOutOfBoundsException if the position is out of range
+     */
+    public Card get(int position) {
+        if (position < 0 || position >= size()) {
+            throw new IndexOutOfBoundsException("Position " + position + ", size " + size());
+        }
+        compact();
+        return slots[position];
+    }
+
+    /**
+     * Gets the last card added to the pile (and still in it).
+     *
+     * @return the last card, or null if the pile is empty
+     */
+    public Card last() {
+        return end == 0 ? null : slots[end - 1];
+    }
+
+    /**
+     * Gets the number of cards in the pile.
+     *
+     * @return the number of cards
+     */
+    public int size() {
+        return end - holes;
+    }
+
+    /**
+     * Checks if the pile is empty.
+     *
+     * @return true if there are no cards in the pile
+     */
+    public boolean isEmpty() {
+        return end == 0;
+    }
+
+    /**
+     * Removes all the cards.
+     */
+    public void clear() {
+        Arrays.fill(slots, 0, end, null);
+        end = 0;
+        holes = 0;
+        index.clear();
+        view.changed();
+    }
+
+    /**
+     * Gets a read-only view of the pile.
+     * <p>
+     * The view follows the changes of the pile and is never copied. Its
+     * {@code contains} and {@code indexOf} use the index of the pile. Its
+     * iterators fail fast: adding or removing a card while iterating throws
+     * a {@link java.util.ConcurrentModificationException}, so code that
+     * changes the pile in a loop must iterate over a copy.
+     * </p>
+     *
+     * @return the unmodifiable live view, in pile order
+     */
+    public List<Card> view() {
+        return view;
+    }
+
+    /**
+     * Removes the holes and updates the slots of the moved cards.
+     */
+    private void compact() {
+        if (holes == 0) return;
+        int to = 0;
+        for (int from = 0; from < end; from++) {
+            Card card = slots[from];
+            if (card == null) continue;
+            if (to != from) {
+                slots[to] = card;
+                index.put(card, to);
+            }
+            to++;
+        }
+        Arrays.fill(slots, to, end, null);
+        end = to;
+        holes = 0;
+    }
+
+    /**
+     * Read-only live view of the pile.
+     */
+    private class View extends AbstractList<Card> {
+
+        /**
+         * Counts a change of the pile, for the fail-fast iterators.
+         */
+        void changed() {
+            modCount++;
+        }
+
+        @Override
+        public Card get(int position) {
+            return CardPile.this.get(position);
+        }
+
+        @Override
+        public int size() {
+            return CardPile.this.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return CardPile.this.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Card && CardPile.this.contains((Card) o);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            return o instanceof Card ? CardPile.this.indexOf((Card) o) : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return indexOf(o);
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package Card;
 import Board.Board;
+import Game.BoardEffectContext;
+import util.GameLog;
+
+import java.util.List;
 
 /**
  * Represents a generic effect associated with a card in Yu-Gi-Oh!
@@ -10,13 +14,14 @@ import Board.Board;
  * </p>
  * <p>
  * Effects can be categorized by type (Continuous, Trigger, Quick, Ignition, etc.)
- * which determines when and how they can be activated. The actual implementation
- * of effect logic should be added to the {@link #activate(Card, Card, Board)}
- * method for specific card effects.
+ * which determines when and how they can be activated. What an effect does is
+ * the ordered list of its {@link EffectStep}s (destroy, damage, draw, search,
+ * special summon, see {@link EffectSteps}), applied by {@link #resolve}.
  * </p>
  * <p>
- * This class serves as a foundation for the effect system and can be extended
- * or modified to implement complex card interactions and game mechanics.
+ * Effects are immutable and shared: the {@link EffectRegistry} holds one
+ * instance per card, looked up by card ID. Chains of effects are resolved by
+ * {@link Game.ChainResolver}.
  * </p>
  *
  * @author Your Name
@@ -42,19 +47,25 @@ public class Effect {
      */
     private String effectType;
 
+    /** The primitive actions of the effect, applied in order */
+    private final List<EffectStep> steps;
+
     /**
-     * Creates a new Effect with specified description and type.
+     * Creates a new Effect with specified description, type and actions.
      * <p>
      * The description should clearly explain what the effect does, while
      * the effectType categorizes when and how the effect can be activated.
+     * An effect without steps only prints its activation.
      * </p>
      *
      * @param description text describing what the effect does
      * @param effectType the category of effect (e.g., "Continuous", "Trigger", "Quick", "Ignition")
+     * @param steps the primitive actions of the effect, in resolution order
      */
-    public Effect(String description, String effectType) {
+    public Effect(String description, String effectType, EffectStep... steps) {
         this.description = description;
         this.effectType = effectType;
+        this.steps = List.of(steps);
     }
 
     /**
@@ -84,27 +95,38 @@ public class Effect {
         return effectType;
     }
 
+    /**
+     * Gets the primitive actions of this effect.
+     *
+     * @return the unmodifiable list of steps, in resolution order
+     */
+    public List<EffectStep> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Resolves this effect: applies its steps in order.
+     *
+     * @param context the game state, seen from the player who activated the effect
+     * @param source the card whose effect resolves
+     */
+    public void resolve(EffectContext context, Card source) {
+        for (EffectStep step : steps) {
+            step.apply(context, source);
+        }
+    }
+
     /**
      * Activates this effect with the specified parameters.
      * <p>
-     * This method is called when the effect is triggered or manually activated.
-     * It receives the source card that generated the effect, an optional target
-     * card, and the game board context.
+     * This method is called when the effect is triggered or manually activated
+     * from a card. The effect resolves immediately on the model objects of the
+     * source card's owner.
      * </p>
      * <p>
-     * Currently, this method prints activation information to the console.
-     * The actual game logic for each specific effect should be implemented
-     * here or in subclasses, based on the effectType and the card's requirements.
-     * </p>
-     * <p>
-     * <strong>TODO:</strong> Implement specific logic based on effect type:
-     * <ul>
-     * <li>Validate activation conditions</li>
-     * <li>Apply costs if any</li>
-     * <li>Modify card stats or game state</li>
-     * <li>Handle chaining and priority</li>
-     * <li>Resolve effect and update board accordingly</li>
-     * </ul>
+     * A single board does not know the opponent: steps affecting the opponent
+     * are skipped. Duels should resolve effects through
+     * {@link Game.ChainResolver}, which knows both players.
      * </p>
      *
      * @param source the card that is activating this effect
@@ -112,8 +134,10 @@ public class Effect {
      * @param board the game board where the effect takes place
      */
     public void activate(Card source, Card target, Board board) {
-        System.out.println("Activation de l'effet: " + description +
+        GameLog.println("Activation de l'effet: " + description +
                            " [Type: " + effectType + "]");
-        // TODO: implémenter la logique spécifique selon le type d'effet
+        if (source.getOwner() != null) {
+            resolve(new BoardEffectContext(source.getOwner(), null), source);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package Card;
+
+import java.util.List;
+
+/**
+ * The game state an {@link Effect} can read and modify while it resolves.
+ * <p>
+ * Effects never manipulate a board directly: they call the operations of a
+ * context, seen from the player who activated the effect ({@link #SELF}).
+ * The effects resolve on the model objects through
+ * {@link Game.BoardEffectContext}, for the headless duels and the JavaFX duel
+ * board alike, which both run on the {@link Game.DuelEngine}.
+ * </p>
+ * <p>
+ * Operations that cannot be performed (empty zone, empty deck, no free
+ * zone) do nothing and return false, like the rest of the model.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public interface EffectContext {
+
+    /** Side of the player who activated the effect */
+    int SELF = 0;
+
+    /** Side of the opponent of the player who activated the effect */
+    int OPPONENT = 1;
+
+    /** Number of monster zones of each side */
+    int ZONES = 5;
+
+    /**
+     * Gets a monster on the field.
+     *
+     * @param side {@link #SELF} or {@link #OPPONENT}
+     * @param zone the monster zone (0-4)
+     * @return the monster, or null if the zone is empty
+     */
+    MonsterCard getMonster(int side, int zone);
+
+    /**
+     * Destroys a monster and sends it to its owner's Graveyard.
+     *
+     * @param side {@link #SELF} or {@link #OPPONENT}
+     * @param zone the monster zone (0-4)
+     * @return true if a monster was destroyed
+     */
+    boolean destroyMonster(int side, int zone);
+
+    /**
+     * Changes the Life Points of a player.
+     *
+     * @param side {@link #SELF} or {@link #OPPONENT}
+     * @param amount the LP gained (positive) or the damage taken (negative)
+     */
+    void changeLifePoints(int side, int amount);
+
+    /**
+     * Draws one card from the deck to the hand.
+     *
+     * @param side {@link #SELF} or {@link #OPPONENT}
+     * @return true if a card was drawn
+     */
+    boolean draw(int side);
+
+    /**
+     * Gets the cards of a deck, top card first.
+     *
+     * @param side {@link #SELF} or {@link #OPPONENT}
+     * @return an unmodifiable view of the deck
+     */
+    List<Card> getDeck(int side);
+
+    /**
+     * Adds a card from the deck to the hand (search).
+     *
+     * @param side {@link #SELF} or {@link #OPPONENT}
+     * @param card a card of that player's deck
+     * @return true if the card was moved to the hand
+     */
+    boolean addToHandFromDeck(int side, Card card);
+
+    /**
+     * Gets the cards of a Graveyard.
+     *
+     * @param side {@link #SELF} or {@link #OPPONENT}
+     * @return an unmodifiable view of the Graveyard
+     */
+    List<Card> getGraveyard(int side);
+
+    /**
+     * Special Summons a monster from a Graveyard to the field of {@link #SELF}.
+     *
+     * @param graveyardSide the side of the Graveyard holding the monster
+     * @param monster the monster to summon
+     * @param position the position of the summoned monster
+     * @return true if the monster was summoned
+     */
+    boolean specialSummonFromGraveyard(int graveyardSide, MonsterCard monster, Position position);
+}
@@ -0,0 +1,102 @@
+package Card;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static Card.EffectContext.OPPONENT;
+import static Card.EffectContext.SELF;
+
+/**
+ * Registry of the implemented card effects, keyed by card ID (password).
+ * <p>
+ * Effects are data: each entry is an {@link Effect} built from the
+ * primitives of {@link EffectSteps}. Finding the effect of a card is a single
+ * hash lookup on its ID, whatever the number of implemented cards, and a new
+ * card only needs a {@link #register} call instead of a new branch in the
+ * duel board.
+ * </p>
+ * <p>
+ * <strong>Implemented cards:</strong>
+ * <ul>
+ * <li>Dark Hole, Raigeki, Fissure (destroy)</li>
+ * <li>Hinotama, Sparks, Ookazi (damage), Dian Keto the Cure Master (recovery)</li>
+ * <li>Pot of Greed (draw)</li>
+ * <li>Reinforcement of the Army (search)</li>
+ * <li>Monster Reborn (special summon)</li>
+ * </ul>
+ * </p>
+ * <p>
+ * The registry is safe to read from several threads (tournaments).
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class EffectRegistry {
+
+    /** Effects by card ID */
+    private static final Map<Integer, Effect> EFFECTS = new ConcurrentHashMap<>();
+
+    static {
+        register(53129443, new Effect("Destroy all monsters on the field.", "Spell",
+                EffectSteps.destroyAllMonsters(SELF),
+                EffectSteps.destroyAllMonsters(OPPONENT)));
+        register(12580477, new Effect("Destroy all monsters your opponent controls.", "Spell",
+                EffectSteps.destroyAllMonsters(OPPONENT)));
+        register(66788016, new Effect("Destroy the monster your opponent controls with the lowest ATK.", "Spell",
+                EffectSteps.destroyWeakestMonster(OPPONENT)));
+        register(46130346, new Effect("Inflict 500 damage to your opponent.", "Spell",
+                EffectSteps.damage(OPPONENT, 500)));
+        register(76103675, new Effect("Inflict 200 damage to your opponent.", "Spell",
+                EffectSteps.damage(OPPONENT, 200)));
+        register(19523799, new Effect("Inflict 800 damage to your opponent.", "Spell",
+                EffectSteps.damage(OPPONENT, 800)));
+        register(84257639, new Effect("Increase your Life Points by 1000.", "Spell",
+                EffectSteps.gainLifePoints(SELF, 1000)));
+        register(55144522, new Effect("Draw 2 cards.", "Spell",
+                EffectSteps.draw(SELF, 2)));
+        register(32807846, new Effect("Add 1 Level 4 or lower Warrior monster from your Deck to your hand.", "Spell",
+                EffectSteps.search(SELF, card -> card instanceof MonsterCard
+                        && ((MonsterCard) card).getLevel() <= 4
+                        && ((MonsterCard) card).getRace() == Race.WARRIOR)));
+        register(83764718, new Effect("Special Summon 1 monster from either GY.", "Spell",
+                EffectSteps.specialSummonFromGraveyard()));
+    }
+
+    /**
+     * Not instantiable: the registry is global.
+     */
+    private EffectRegistry() {
+    }
+
+    /**
+     * Registers (or replaces) the effect of a card.
+     *
+     * @param cardId the card ID (password)
+     * @param effect the effect of the card
+     */
+    public static void register(int cardId, Effect effect) {
+        EFFECTS.put(cardId, effect);
+    }
+
+    /**
+     * Gets the effect of a card.
+     *
+     * @param cardId the card ID (password)
+     * @return the effect, or null if the card has no implemented effect
+     */
+    public static Effect get(int cardId) {
+        return EFFECTS.get(cardId);
+    }
+
+    /**
+     * Checks if the effect of a card is implemented.
+     *
+     * @param cardId the card ID (password)
+     * @return true if {@link #get(int)} returns an effect
+     */
+    public static boolean contains(int cardId) {
+        return EFFECTS.containsKey(cardId);
+    }
+}
@@ -0,0 +1,25 @@
+package Card;
+
+/**
+ * One primitive action of an {@link Effect} (destroy, damage, draw, ...).
+ * <p>
+ * Steps are small, stateless and composable: an effect is the ordered list
+ * of its steps. The usual primitives are built by the factory methods of
+ * {@link EffectSteps}.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+@FunctionalInterface
+public interface EffectStep {
+
+    /**
+     * Applies the step.
+     *
+     * @param context the game state, seen from the player who activated the effect
+     * @param source the card whose effect is resolving
+     */
+    void apply(EffectContext context, Card source);
+}
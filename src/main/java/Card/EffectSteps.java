@@ -0,0 +1,151 @@
+package Card;
+
+import java.util.function.Predicate;
+
+/**
+ * Factory of the primitive {@link EffectStep}s card effects are built from.
+ * <p>
+ * <strong>Primitives:</strong>
+ * <ul>
+ * <li><strong>Destroy:</strong> {@link #destroyAllMonsters(int)},
+ *     {@link #destroyWeakestMonster(int)}</li>
+ * <li><strong>Damage / recovery:</strong> {@link #damage(int, int)},
+ *     {@link #gainLifePoints(int, int)}</li>
+ * <li><strong>Draw:</strong> {@link #draw(int, int)}</li>
+ * <li><strong>Search:</strong> {@link #search(int, Predicate)}</li>
+ * <li><strong>Special Summon:</strong> {@link #specialSummonFromGraveyard()}</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Sides are {@link EffectContext#SELF} and {@link EffectContext#OPPONENT},
+ * relative to the player who activated the effect.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class EffectSteps {
+
+    /**
+     * Not instantiable: use the factory methods.
+     */
+    private EffectSteps() {
+    }
+
+    /**
+     * Destroys every monster of a side.
+     *
+     * @param side the side whose monsters are destroyed
+     * @return the step
+     */
+    public static EffectStep destroyAllMonsters(int side) {
+        return (context, source) -> {
+            for (int zone = 0; zone < EffectContext.ZONES; zone++) {
+                context.destroyMonster(side, zone);
+            }
+        };
+    }
+
+    /**
+     * Destroys the monster with the lowest ATK of a side (the first one on ties).
+     *
+     * @param side the side whose weakest monster is destroyed
+     * @return the step
+     */
+    public static EffectStep destroyWeakestMonster(int side) {
+        return (context, source) -> {
+            int weakest = -1;
+            for (int zone = 0; zone < EffectContext.ZONES; zone++) {
+                MonsterCard monster = context.getMonster(side, zone);
+                if (monster == null) continue;
+                if (weakest < 0 || monster.getAtk() < context.getMonster(side, weakest).getAtk()) {
+                    weakest = zone;
+                }
+            }
+            if (weakest >= 0) {
+                context.destroyMonster(side, weakest);
+            }
+        };
+    }
+
+    /**
+     * Inflicts damage to a player.
+     *
+     * @param side the side taking the damage
+     * @param amount the damage (positive)
+     * @return the step
+     */
+    public static EffectStep damage(int side, int amount) {
+        return (context, source) -> context.changeLifePoints(side, -amount);
+    }
+
+    /**
+     * Makes a player gain Life Points.
+     *
+     * @param side the side gaining LP
+     * @param amount the LP gained (positive)
+     * @return the step
+     */
+    public static EffectStep gainLifePoints(int side, int amount) {
+        return (context, source) -> context.changeLifePoints(side, amount);
+    }
+
+    /**
+     * Draws cards, stopping early if the deck runs out.
+     *
+     * @param side the side drawing
+     * @param count the number of cards to draw
+     * @return the step
+     */
+    public static EffectStep draw(int side, int count) {
+        return (context, source) -> {
+            for (int i = 0; i < count; i++) {
+                if (!context.draw(side)) break;
+            }
+        };
+    }
+
+    /**
+     * Adds the first card of the deck matching a filter to the hand.
+     *
+     * @param side the side searching its deck
+     * @param filter the cards that can be added
+     * @return the step
+     */
+    public static EffectStep search(int side, Predicate<Card> filter) {
+        return (context, source) -> {
+            for (Card card : context.getDeck(side)) {
+                if (filter.test(card)) {
+                    context.addToHandFromDeck(side, card);
+                    return;
+                }
+            }
+        };
+    }
+
+    /**
+     * Special Summons the monster with the highest ATK from either Graveyard
+     * in Attack Position (own Graveyard first on ties).
+     *
+     * @return the step
+     */
+    public static EffectStep specialSummonFromGraveyard() {
+        return (context, source) -> {
+            MonsterCard best = null;
+            int bestSide = EffectContext.SELF;
+            for (int side = EffectContext.SELF; side <= EffectContext.OPPONENT; side++) {
+                for (Card card : context.getGraveyard(side)) {
+                    if (card instanceof MonsterCard
+                            && (best == null || ((MonsterCard) card).getAtk() > best.getAtk())) {
+                        best = (MonsterCard) card;
+                        bestSide = side;
+                    }
+                }
+            }
+            if (best != null) {
+                context.specialSummonFromGraveyard(bestSide, best, Position.ATTACK);
+            }
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package Card;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Enumeration of the card frames of Yu-Gi-Oh! (Normal, Effect, Fusion, ...).
+ * <p>
+ * The card database describes a card with a type string such as
+ * "Flip Effect Monster", "Synchro Tuner Monster" or "Spell Card". The frame
+ * is parsed once from that string, when the card is built, and the loader
+ * and the deck searches classify cards by comparing frames or by testing an
+ * {@link EnumSet} such as {@link #EXTRA_DECK}.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public enum FrameType {
+    NORMAL("Normal"),
+    EFFECT("Effect"),
+    RITUAL("Ritual"),
+    FUSION("Fusion"),
+    SYNCHRO("Synchro"),
+    XYZ("XYZ"),
+    LINK("Link"),
+    TOKEN("Token"),
+    SPELL("Spell"),
+    TRAP("Trap"),
+    SKILL("Skill"),
+    /** A frame missing from this enumeration, never returned by {@link #parse(String)} */
+    UNKNOWN("Unknown");
+
+    /** Frames of the monsters that go in the Extra Deck */
+    public static final Set<FrameType> EXTRA_DECK = EnumSet.of(FUSION, SYNCHRO, XYZ, LINK);
+
+    /** Frames of the monsters that go in the Main Deck */
+    public static final Set<FrameType> MAIN_DECK_MONSTERS = EnumSet.of(NORMAL, EFFECT, RITUAL);
+
+    /** Frames of the monster cards, tokens excluded */
+    public static final Set<FrameType> MONSTERS = EnumSet.of(NORMAL, EFFECT, RITUAL, FUSION, SYNCHRO, XYZ, LINK);
+
+    /** Name of the frame as used in the type strings */
+    private final String label;
+
+    FrameType(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the name of the frame.
+     *
+     * @return the label (e.g. "Fusion")
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Checks if this frame is the frame of a monster card.
+     *
+     * @return true for the monster frames, false for tokens, spells, traps and skills
+     */
+    public boolean isMonster() {
+        return MONSTERS.contains(this);
+    }
+
+    /**
+     * Parses a type string of the card database, ignoring case.
+     * <p>
+     * The summoning type wins over the other words: "Synchro Tuner Monster"
+     * is {@link #SYNCHRO}, "Pendulum Normal Monster" is {@link #NORMAL}.
+     * Monsters with no Normal or Extra Deck frame ("Flip Effect Monster",
+     * "Tuner Monster", "Union Effect Monster", ...) are {@link #EFFECT}. A
+     * single frame name ("Normal", "Fusion") is accepted too.
+     * </p>
+     *
+     * @param type the type string (e.g. "Fusion Monster", "Spell Card"), may be null
+     * @return the frame, or null if the string is empty or unknown
+     */
+    public static FrameType parse(String type) {
+        if (type == null || type.isBlank()) return null;
+        String t = type.toLowerCase(Locale.ROOT);
+        if (t.contains("spell")) return SPELL;
+        if (t.contains("trap")) return TRAP;
+        if (t.contains("skill")) return SKILL;
+        if (t.contains("token")) return TOKEN;
+        if (t.contains("link")) return LINK;
+        if (t.contains("xyz")) return XYZ;
+        if (t.contains("synchro")) return SYNCHRO;
+        if (t.contains("fusion")) return FUSION;
+        if (t.contains("ritual")) return RITUAL;
+        if (t.contains("normal")) return NORMAL;
+        if (t.contains("effect") || t.contains("monster")) return EFFECT;
+        return null;
+    }
+}
@@ -1,6 +1,7 @@
 package Card;
 
 import Player.Player;
+import util.GameLog;
 import javafx.scene.image.Image;
 
 /**
@@ -36,17 +37,29 @@ public class MonsterCard extends Card {
     /** The monster's level (number of stars, from 1 to 12) */
     private int level;
     
-    /** The monster's attribute (DARK, LIGHT, WATER, FIRE, EARTH, WIND, DIVINE) */
-    private String attribute;
+    /** The monster's attribute (DARK, LIGHT, WATER, FIRE, EARTH, WIND, DIVINE), or null if none was given */
+    private Attribute attribute;
+
+    /** The attribute as given to the constructor when it is {@link Attribute#UNKNOWN}, interned */
+    private String unknownAttribute;
     
-    /** The monster's type/race (Dragon, Warrior, Spellcaster, etc.) */
-    private String type;
+    /** The monster's type/race (Dragon, Warrior, Spellcaster, etc.), or null if none was given */
+    private Race type;
+
+    /** The type/race as given to the constructor when it is {@link Race#UNKNOWN}, interned */
+    private String unknownType;
     
-    /** The monster's sub-type (Normal, Effect, Fusion, etc.) */
-    private String subType;
+    /** The monster's sub-type (Normal, Effect, Fusion, etc.), or null if none was given */
+    private FrameType subType;
+
+    /** The sub-type as given to the constructor when it is {@link FrameType#UNKNOWN}, interned */
+    private String unknownSubType;
     
-    /** The monster's specific type category (Normal Monster, Effect Monster, etc.) */
+    /** The monster's specific type category (Normal Monster, Effect Monster, etc.), interned */
     private String monsterType;
+
+    /** The frame parsed from {@link #monsterType}, or null if unknown */
+    private FrameType frameType;
     
     /** The special effect object associated with this monster, if any */
     private Effect effect;
@@ -72,6 +85,14 @@ public class MonsterCard extends Card {
      * This is the primary constructor that all other constructors delegate to.
      * The monster is initially placed in Attack Position with no turn restrictions.
      * </p>
+     * <p>
+     * The attribute, type and sub-type strings are parsed once into
+     * {@link Attribute}, {@link Race} and {@link FrameType} constants, and the
+     * frame of the card is parsed from the monster category. A value the
+     * enums do not know is stored as UNKNOWN, and only then is the string
+     * kept too (interned), so that the String getters return it and a save
+     * reads back the same card.
+     * </p>
      *
      * @param name the name of the monster
      * @param description the monster's effect text or flavor text
@@ -94,10 +115,29 @@ public class MonsterCard extends Card {
         this.atk = atk;
         this.def = def;
         this.level = level;
-        this.attribute = attribute;
-        this.type = type;
-        this.subType = subType;
-        this.monsterType = monsterType;
+        if (attribute != null) {
+            this.attribute = Attribute.parse(attribute);
+            if (this.attribute == null) {
+                this.attribute = Attribute.UNKNOWN;
+                this.unknownAttribute = attribute.intern();
+            }
+        }
+        if (type != null) {
+            this.type = Race.parse(type);
+            if (this.type == null) {
+                this.type = Race.UNKNOWN;
+                this.unknownType = type.intern();
+            }
+        }
+        if (subType != null) {
+            this.subType = FrameType.parse(subType);
+            if (this.subType == null) {
+                this.subType = FrameType.UNKNOWN;
+                this.unknownSubType = subType.intern();
+            }
+        }
+        this.monsterType = monsterType == null ? null : monsterType.intern();
+        this.frameType = FrameType.parse(monsterType);
         this.position = Position.ATTACK;
         this.hasAttackedThisTurn = false;
         this.hasChangedPositionThisTurn = false;
@@ -227,28 +267,52 @@ public class MonsterCard extends Card {
     /**
      * Gets the attribute of this monster.
      *
-     * @return the monster's attribute (e.g., "DARK", "LIGHT", "WATER")
+     * @return the monster's attribute (e.g., "DARK", "LIGHT", "WATER"), the string
+     *         given for an unknown attribute, or null
      */
     public String getAttribute() { 
-        return attribute; 
+        if (attribute == Attribute.UNKNOWN) return unknownAttribute;
+        return attribute == null ? null : attribute.name(); 
+    }
+
+    /**
+     * Gets the parsed attribute of this monster.
+     *
+     * @return the attribute, {@link Attribute#UNKNOWN}, or null if none was given
+     */
+    public Attribute getAttributeValue() {
+        return attribute;
     }
     
     /**
      * Gets the type/race of this monster.
      *
-     * @return the monster's type (e.g., "Dragon", "Warrior", "Spellcaster")
+     * @return the monster's type (e.g., "Dragon", "Warrior", "Spellcaster"), the string
+     *         given for an unknown type, or null
      */
     public String getType() { 
-        return type; 
+        if (type == Race.UNKNOWN) return unknownType;
+        return type == null ? null : type.getLabel(); 
+    }
+
+    /**
+     * Gets the parsed type/race of this monster.
+     *
+     * @return the race, {@link Race#UNKNOWN}, or null if none was given
+     */
+    public Race getRace() {
+        return type;
     }
     
     /**
      * Gets the sub-type of this monster.
      *
-     * @return the monster's sub-type (e.g., "Normal", "Effect", "Fusion")
+     * @return the monster's sub-type (e.g., "Normal", "Effect", "Fusion"), the string
+     *         given for an unknown sub-type, or null
      */
     public String getSubType() { 
-        return subType; 
+        if (subType == FrameType.UNKNOWN) return unknownSubType;
+        return subType == null ? null : subType.getLabel(); 
     }
     
     /**
@@ -259,6 +323,24 @@ public class MonsterCard extends Card {
     public String getMonsterType() { 
         return monsterType; 
     }
+
+    /**
+     * Gets the frame of this monster, parsed from its category.
+     *
+     * @return the frame (e.g. {@link FrameType#FUSION}), or null if unknown
+     */
+    public FrameType getFrameType() {
+        return frameType;
+    }
+
+    /**
+     * Checks if this monster belongs in the Extra Deck.
+     *
+     * @return true for Fusion, Synchro, Xyz and Link monsters
+     */
+    public boolean isExtraDeckMonster() {
+        return frameType != null && FrameType.EXTRA_DECK.contains(frameType);
+    }
     
     /**
      * Gets the current battle position of this monster.
@@ -269,6 +351,41 @@ public class MonsterCard extends Card {
         return this.position; 
     }
     
+    /**
+     * Checks if this monster has already declared an attack this turn.
+     *
+     * @return true if the monster has attacked since the last {@link #resetTurnFlags()}
+     */
+    public boolean hasAttackedThisTurn() {
+        return hasAttackedThisTurn;
+    }
+
+    /**
+     * Checks if this monster has already changed its position this turn.
+     *
+     * @return true if the position changed since the last {@link #resetTurnFlags()}
+     */
+    public boolean hasChangedPositionThisTurn() {
+        return hasChangedPositionThisTurn;
+    }
+
+    /**
+     * Restores the battle position and the turn flags of this monster.
+     * <p>
+     * Unlike {@link #setPosition(Position)}, the once-per-turn rule is not
+     * checked: this method puts back a previous state when an action is undone.
+     * </p>
+     *
+     * @param pos the position to restore
+     * @param attacked the restored "has attacked this turn" flag
+     * @param changedPosition the restored "has changed position this turn" flag
+     */
+    public void restoreState(Position pos, boolean attacked, boolean changedPosition) {
+        this.position = pos;
+        this.hasAttackedThisTurn = attacked;
+        this.hasChangedPositionThisTurn = changedPosition;
+    }
+
     /**
      * Gets the URL of the monster's image.
      *
@@ -282,17 +399,14 @@ public class MonsterCard extends Card {
      * Gets the JavaFX Image representation of this monster card.
      * <p>
      * If the image URL is null or empty, returns a default placeholder image
-     * located at {@code file:resources/ui/default.png}. Images are loaded
-     * with smooth scaling enabled for better visual quality.
+     * located at {@code file:resources/ui/default.png}. The image is decoded
+     * once, in the background with smooth scaling, and cached.
      * </p>
      *
      * @return a JavaFX Image object with dimensions 120x180 pixels
      */
     public Image getImage() {
-        if (imageUrl == null || imageUrl.isEmpty()) {
-            return new Image("file:resources/ui/default.png", 120, 180, true, true);
-        }
-        return new Image(imageUrl, 120, 180, true, true);
+        return loadImage(imageUrl);
     }
 
     // --- Gestion du tour ---
@@ -314,10 +428,10 @@ public class MonsterCard extends Card {
     public void setPosition(Position pos) {
         if (!hasChangedPositionThisTurn) {
             this.position = pos;
-            System.out.println(getName() + " change sa position en " + pos);
+            GameLog.println(getName() + " change sa position en " + pos);
             this.hasChangedPositionThisTurn = true;
         } else {
-            System.out.println(getName() + " a déjà changé de position ce tour !");
+            GameLog.println(getName() + " a déjà changé de position ce tour !");
         }
     }
 
@@ -335,10 +449,10 @@ public class MonsterCard extends Card {
      */
     public void setAttack() {
         if (!hasAttackedThisTurn) {
-            System.out.println(getName() + " attaque !");
+            GameLog.println(getName() + " attaque !");
             this.hasAttackedThisTurn = true;
         } else {
-            System.out.println(getName() + " a déjà attaqué ce tour !");
+            GameLog.println(getName() + " a déjà attaqué ce tour !");
         }
     }
 
@@ -372,9 +486,9 @@ public class MonsterCard extends Card {
     @Override
     public void activateEffect() {
         if (effect != null) {
-            System.out.println("Activation de l'effet: " + getDescription());
+            GameLog.println("Activation de l'effet: " + getDescription());
         } else {
-            System.out.println(getName() + " n'a pas d'effet.");
+            GameLog.println(getName() + " n'a pas d'effet.");
         }
     }
 
@@ -392,8 +506,8 @@ public class MonsterCard extends Card {
     public String toString() {
         return getName() + "\n (" + monsterType + ") \n " + getDescription() + 
                " \n ATK: " + atk + " \n DEF: " + def +
-               " \n Level: " + level + " \n Attribute: " + attribute +
-               " \n Type: " + type + " \n SubType: " + subType + 
+               " \n Level: " + level + " \n Attribute: " + getAttribute() +
+               " \n Type: " + getType() + " \n SubType: " + getSubType() + 
                "\nPassword: " + getCardId();
     }
 }
\ No newline at end of file
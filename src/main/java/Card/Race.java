@@ -0,0 +1,85 @@
+package Card;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Enumeration of the monster types (races) of Yu-Gi-Oh!
+ * <p>
+ * The race is parsed once, when a card is built, from the "race" string of
+ * the card database (e.g. "Winged Beast"). Each constant keeps that string
+ * as its label, so the card text and save files are unchanged, while
+ * filters compare enum constants.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public enum Race {
+    AQUA("Aqua"),
+    BEAST("Beast"),
+    BEAST_WARRIOR("Beast-Warrior"),
+    CREATOR_GOD("Creator-God"),
+    CYBERSE("Cyberse"),
+    DINOSAUR("Dinosaur"),
+    DIVINE_BEAST("Divine-Beast"),
+    DRAGON("Dragon"),
+    FAIRY("Fairy"),
+    FIEND("Fiend"),
+    FISH("Fish"),
+    ILLUSION("Illusion"),
+    INSECT("Insect"),
+    MACHINE("Machine"),
+    PLANT("Plant"),
+    PSYCHIC("Psychic"),
+    PYRO("Pyro"),
+    REPTILE("Reptile"),
+    ROCK("Rock"),
+    SEA_SERPENT("Sea Serpent"),
+    SPELLCASTER("Spellcaster"),
+    THUNDER("Thunder"),
+    WARRIOR("Warrior"),
+    WINGED_BEAST("Winged Beast"),
+    WYRM("Wyrm"),
+    ZOMBIE("Zombie"),
+    /** A race missing from this enumeration, never returned by {@link #parse(String)} */
+    UNKNOWN("Unknown");
+
+    /** Races by lower-case label */
+    private static final Map<String, Race> BY_LABEL = new HashMap<>();
+
+    static {
+        for (Race race : values()) {
+            if (race == UNKNOWN) continue;
+            BY_LABEL.put(race.label.toLowerCase(Locale.ROOT), race);
+        }
+    }
+
+    /** Name of the race as printed on the cards */
+    private final String label;
+
+    Race(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Gets the name of the race as printed on the cards.
+     *
+     * @return the label (e.g. "Winged Beast")
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Parses a race name, ignoring case.
+     *
+     * @param label the race name (e.g. "Warrior"), may be null
+     * @return the race, or null if the name is empty or unknown
+     */
+    public static Race parse(String label) {
+        return label == null ? null : BY_LABEL.get(label.trim().toLowerCase(Locale.ROOT));
+    }
+}
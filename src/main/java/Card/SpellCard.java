@@ -1,6 +1,7 @@
 package Card;
 
 import Player.Player;
+import util.GameLog;
 import javafx.scene.image.Image;
 
 /**
@@ -139,17 +140,14 @@ public class SpellCard extends Card {
      * Gets the JavaFX Image representation of this spell card.
      * <p>
      * If the image URL is null or empty, returns a default placeholder image
-     * located at {@code file:resources/ui/default.png}. Images are loaded
-     * with smooth scaling enabled for better visual quality.
+     * located at {@code file:resources/ui/default.png}. The image is decoded
+     * once, in the background with smooth scaling, and cached.
      * </p>
      *
      * @return a JavaFX Image object with dimensions 120x180 pixels
      */
     public Image getImage() {
-        if (imageUrl == null || imageUrl.isEmpty()) {
-            return new Image("file:resources/ui/default.png", 120, 180, true, true);
-        }
-        return new Image(imageUrl, 120, 180, true, true);
+        return loadImage(imageUrl);
     }
 
     /**
@@ -183,10 +181,10 @@ public class SpellCard extends Card {
     @Override
     public void activateEffect() {
         if (effect != null) {
-            System.out.println("Activation de l'effet de Magie: " + effect.getDescription());
+            GameLog.println("Activation de l'effet de Magie: " + effect.getDescription());
             effect.activate(this, null, getOwner().getBoard());
         } else {
-            System.out.println(getName() + " n'a pas d'effet à activer.");
+            GameLog.println(getName() + " n'a pas d'effet à activer.");
         }
     }
 
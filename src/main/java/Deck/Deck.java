@@ -10,6 +10,7 @@ import Card.SpellCard;
 import Card.TrapCard;
 import Card.Effect;
 import Player.Player;
+import util.GameLog;
 
 /**
  * Represents a player's main deck in Yu-Gi-Oh!
@@ -104,7 +105,7 @@ public class Deck {
      */
     public void shuffle() {
         Collections.shuffle(cards);
-        System.out.println("The Deck is shuffled.");
+        GameLog.println("The Deck is shuffled.");
     }
 
     /**
@@ -128,11 +129,11 @@ public class Deck {
      */
     public Card draw() {
         if (isEmpty()) {
-            System.out.println("The Deck is empty, cannot draw.");
+            GameLog.println("The Deck is empty, cannot draw.");
             return null;
         }
         Card top = cards.remove(0);
-        System.out.println("Card drawn: " + top.getName());
+        GameLog.println("Card drawn: " + top.getName());
         return top;
     }
 
@@ -154,6 +155,20 @@ public class Deck {
         cards.add(c);
     }
 
+    /**
+     * Inserts a card at a given position of the deck.
+     * <p>
+     * Index 0 is the top of the deck. Used to put a drawn or searched card
+     * back where it was when an action is undone.
+     * </p>
+     *
+     * @param index the position of the card (0 to {@link #size()})
+     * @param c the Card to insert
+     */
+    public void insertCard(int index, Card c) {
+        cards.add(index, c);
+    }
+
     /**
      * Checks if the deck is empty.
      * <p>
@@ -236,7 +251,7 @@ public class Deck {
      */
     public void reset(List<Card> newCards) {
         this.cards = new ArrayList<>(newCards);
-        System.out.println("The Deck has been reset.");
+        GameLog.println("The Deck has been reset.");
     }
 
     /**
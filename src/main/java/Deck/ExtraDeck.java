@@ -1,10 +1,15 @@
 package Deck;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import Card.Card;
+import Card.FrameType;
 import Card.MonsterCard;
+import util.GameLog;
 
 /**
  * Represents a player's Extra Deck in Yu-Gi-Oh!
@@ -43,6 +48,12 @@ public class ExtraDeck {
     /** The list of cards in the Extra Deck (Fusion, Synchro, Xyz, Link monsters) */
     private List<Card> cards;
 
+    /** Fusion recipe index, rebuilt when the cards change, or null */
+    private FusionIndex fusionIndex;
+
+    /** Cards the index was built from, in order */
+    private Card[] indexedCards;
+
     // --- Constructors ---
     
     /**
@@ -88,7 +99,7 @@ public class ExtraDeck {
      */
     public void addCard(Card c) {
         cards.add(c);
-        System.out.println("Card added to the Extra Deck: " + c.getName());
+        GameLog.println("Card added to the Extra Deck: " + c.getName());
     }
 
     /**
@@ -130,7 +141,7 @@ public class ExtraDeck {
      */
     public Card chooseCard(int index) {
         if (index < 0 || index >= cards.size()) {
-            System.out.println("Invalid index in the Extra Deck.");
+            GameLog.println("Invalid index in the Extra Deck.");
             return null;
         }
         return cards.get(index);
@@ -150,7 +161,7 @@ public class ExtraDeck {
      */
     public void shuffle() {
         Collections.shuffle(cards);
-        System.out.println("The Extra Deck is shuffled.");
+        GameLog.println("The Extra Deck is shuffled.");
     }
 
     /**
@@ -214,8 +225,10 @@ public class ExtraDeck {
      * Extra Deck monsters.
      * </p>
      * <p>
-     * The search is case-insensitive and matches against the monster's type.
-     * Only MonsterCard instances are checked; other card types are ignored.
+     * The summoning type is parsed once into a {@link FrameType} and compared
+     * with the frame each monster got when it was built, so "Synchro Monster"
+     * also finds "Synchro Tuner Monster" cards. Only MonsterCard instances are
+     * checked; other card types are ignored.
      * </p>
      * <p>
      * <strong>Example usage:</strong>
@@ -229,16 +242,87 @@ public class ExtraDeck {
      * @return a List of all matching Cards, or an empty list if none match
      */
     public List<Card> searchBySubType(String subType) {
+        FrameType frame = FrameType.parse(subType);
+        if (frame == null) return new ArrayList<>();
+        return searchByFrameTypes(EnumSet.of(frame));
+    }
+
+    /**
+     * Searches for all monsters whose frame is in a set.
+     * <p>
+     * <strong>Example usage:</strong>
+     * <pre>
+     * List&lt;Card&gt; materials = extraDeck.searchByFrameTypes(EnumSet.of(FrameType.FUSION, FrameType.SYNCHRO));
+     * </pre>
+     * </p>
+     *
+     * @param frames the frames to search for
+     * @return a List of all matching Cards, or an empty list if none match
+     */
+    public List<Card> searchByFrameTypes(Set<FrameType> frames) {
         List<Card> result = new ArrayList<>();
         for (Card c : cards) {
             if (c instanceof MonsterCard) {
-                MonsterCard m = (MonsterCard) c;
-                String st = m.getMonsterType();
-                if (st != null && st.equalsIgnoreCase(subType)) {
+                FrameType frame = ((MonsterCard) c).getFrameType();
+                if (frame != null && frames.contains(frame)) {
                     result.add(c);
                 }
             }
         }
         return result;
     }
+
+    /**
+     * Finds the Fusion monsters of the Extra Deck that can be made from a set
+     * of materials.
+     * <p>
+     * Materials are read from the first line of each Fusion monster's text
+     * (see {@link FusionIndex}); monsters whose materials cannot be read are
+     * never returned. The index is built on the first call and rebuilt only
+     * when the content of the Extra Deck has changed, so the UI and the bots
+     * can call this on every phase change.
+     * </p>
+     * <p>
+     * <strong>Example usage:</strong>
+     * <pre>
+     * List&lt;Card&gt; materials = new ArrayList&lt;&gt;(player.getHand().getAllCards());
+     * materials.addAll(ownMonsters);
+     * List&lt;MonsterCard&gt; fusions = player.getExtraDeck().searchFusions(materials);
+     * </pre>
+     * </p>
+     *
+     * @param materials the available materials (non-monster cards are ignored)
+     * @return a new list of the Fusion monsters that can be made, possibly empty
+     */
+    public List<MonsterCard> searchFusions(Collection<? extends Card> materials) {
+        return getFusionIndex().makeable(materials);
+    }
+
+    /**
+     * Gets the Fusion recipe index of the Extra Deck.
+     * <p>
+     * The cards are compared with those the index was built from, because
+     * {@link #getAllCards()} lets callers change the list directly.
+     * </p>
+     *
+     * @return the index, up to date with the current cards
+     */
+    public FusionIndex getFusionIndex() {
+        if (fusionIndex == null || !isIndexed()) {
+            fusionIndex = new FusionIndex(cards);
+            indexedCards = cards.toArray(new Card[0]);
+        }
+        return fusionIndex;
+    }
+
+    /**
+     * Checks if the index was built from the current cards.
+     */
+    private boolean isIndexed() {
+        if (indexedCards.length != cards.size()) return false;
+        for (int i = 0; i < indexedCards.length; i++) {
+            if (indexedCards[i] != cards.get(i)) return false;
+        }
+        return true;
+    }
 }
\ No newline at end of file
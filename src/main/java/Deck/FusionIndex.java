@@ -0,0 +1,508 @@
+package Deck;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import Card.Attribute;
+import Card.Card;
+import Card.FrameType;
+import Card.MonsterCard;
+import Card.Race;
+import Card.SpellCard;
+
+/**
+ * Index of the Fusion recipes of a set of Extra Deck monsters.
+ * <p>
+ * The card database has no field for Fusion Materials: they are written on
+ * the first line of the card text, for example
+ * {@code "Gaia The Fierce Knight" + "Curse of Dragon"},
+ * {@code 2 Dragon monsters} or
+ * {@code 1 "Elemental HERO" monster + 1 WATER monster}. Each part of that line
+ * becomes a <em>requirement</em>: a list of card names ({@code "A" or "B"}),
+ * or a conjunction of an archetype (a string the name must contain), an
+ * Attribute and a Type, with a number of copies. A recipe whose text cannot
+ * be read (Level conditions, "Effect monster", ...) is left out of the index.
+ * </p>
+ * <p>
+ * Identical requirements are shared between recipes and numbered. Inverted
+ * maps from card name, Attribute and Type to requirement numbers give, for
+ * each available material, the bit set of the requirements it satisfies
+ * (archetypes are checked by substring on the few requirements that use
+ * one). A recipe is then rejected at once if one of its requirements is not
+ * in the union of these bit sets or has fewer candidates than copies needed.
+ * The recipes left are checked exactly by matching each material slot to a
+ * distinct material (augmenting paths), so one card never counts for two
+ * requirements.
+ * </p>
+ * <p>
+ * With an Extra Deck of 15 cards and a dozen materials a query costs a few
+ * microseconds. The index keeps its scratch buffers between queries: an
+ * instance is not thread-safe.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class FusionIndex {
+
+    /** Password of Polymerization, the spell that Fusion Summons from the hand and the field */
+    public static final int POLYMERIZATION = 24094653;
+
+    /** One part of a material line: an optional count, then the material */
+    private static final Pattern PART = Pattern.compile("^(?:(\\d+)\\+?\\s+)?(.+)$");
+
+    /** A list of card names: "A" or "B" or "C" */
+    private static final Pattern NAMES = Pattern.compile("^\"[^\"]+\"(?:\\s*(?:,|or|,\\s*or)\\s*\"[^\"]+\")*$");
+
+    /** One quoted name */
+    private static final Pattern QUOTED = Pattern.compile("\"([^\"]+)\"");
+
+    /**
+     * One requirement of a recipe.
+     * <p>
+     * A material satisfies it if its name is one of {@link #names}, or, when
+     * there are no names, if it matches every condition that is set.
+     * </p>
+     */
+    private static final class Requirement {
+
+        /** Accepted card names in lower case, or null */
+        final String[] names;
+
+        /** String the name must contain, in lower case, or null */
+        final String archetype;
+
+        /** Required Attribute, or null */
+        final Attribute attribute;
+
+        /** Required Type, or null */
+        final Race race;
+
+        Requirement(String[] names, String archetype, Attribute attribute, Race race) {
+            this.names = names;
+            this.archetype = archetype;
+            this.attribute = attribute;
+            this.race = race;
+        }
+
+        boolean matches(MonsterCard card) {
+            String name = card.getName().toLowerCase(Locale.ROOT);
+            if (names != null) {
+                for (String n : names) {
+                    if (n.equals(name)) return true;
+                }
+                return false;
+            }
+            return (archetype == null || name.contains(archetype))
+                && (attribute == null || attribute == card.getAttributeValue())
+                && (race == null || race == card.getRace());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Requirement)) return false;
+            Requirement r = (Requirement) o;
+            return Arrays.equals(names, r.names)
+                && Objects.equals(archetype, r.archetype)
+                && attribute == r.attribute
+                && race == r.race;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(Arrays.hashCode(names), archetype, attribute, race);
+        }
+    }
+
+    /** Requirements, by number */
+    private final List<Requirement> requirements = new ArrayList<>();
+
+    /** Requirement numbers by lower-case card name */
+    private final Map<String, int[]> byName = new HashMap<>();
+
+    /** Requirement numbers by Attribute (requirements without names) */
+    private final Map<Attribute, int[]> byAttribute = new EnumMap<>(Attribute.class);
+
+    /** Requirement numbers by Type (requirements without names) */
+    private final Map<Race, int[]> byRace = new EnumMap<>(Race.class);
+
+    /** Requirements checked against every material (archetype or no condition) */
+    private int[] scanned = new int[0];
+
+    /** Indexed Fusion monsters */
+    private final List<MonsterCard> fusions = new ArrayList<>();
+
+    /** Requirement numbers of each recipe (distinct) */
+    private final List<int[]> recipeRequirements = new ArrayList<>();
+
+    /** Copies needed of each requirement of each recipe */
+    private final List<int[]> recipeCounts = new ArrayList<>();
+
+    /** Requirements of each recipe, as a bit set */
+    private final List<long[]> recipeMasks = new ArrayList<>();
+
+    /** Number of materials of each recipe */
+    private final List<Integer> recipeSizes = new ArrayList<>();
+
+    /** Number of 64-bit words of the requirement bit sets */
+    private int words;
+
+    // --- Query scratch buffers ---
+
+    /** Materials of the query */
+    private MonsterCard[] materials = new MonsterCard[16];
+
+    /** Requirements satisfied by each material */
+    private long[][] materialMasks = new long[16][];
+
+    /** Union of the material bit sets */
+    private long[] available = new long[0];
+
+    /** Number of materials satisfying each requirement */
+    private int[] supply = new int[0];
+
+    /** Requirement of each material slot of the recipe being matched */
+    private int[] slotRequirement = new int[8];
+
+    /** Slot matched to each material, or -1 */
+    private int[] owner = new int[16];
+
+    /** Materials visited by the current augmenting path */
+    private boolean[] visited = new boolean[16];
+
+    /**
+     * Builds the index of the Fusion monsters of a list of cards.
+     * <p>
+     * Cards that are not Fusion monsters, and Fusion monsters whose materials
+     * cannot be read, are ignored.
+     * </p>
+     *
+     * @param cards the cards to index (typically the Extra Deck)
+     */
+    public FusionIndex(Collection<? extends Card> cards) {
+        Map<Requirement, Integer> numbers = new HashMap<>();
+        for (Card card : cards) {
+            if (!(card instanceof MonsterCard)) continue;
+            MonsterCard monster = (MonsterCard) card;
+            if (monster.getFrameType() != FrameType.FUSION) continue;
+            List<Requirement> parts = new ArrayList<>();
+            List<Integer> counts = new ArrayList<>();
+            if (!parseMaterials(monster.getDescription(), parts, counts)) continue;
+
+            Map<Integer, Integer> recipe = new HashMap<>();
+            int size = 0;
+            for (int i = 0; i < parts.size(); i++) {
+                Integer number = numbers.get(parts.get(i));
+                if (number == null) {
+                    number = requirements.size();
+                    numbers.put(parts.get(i), number);
+                    requirements.add(parts.get(i));
+                }
+                recipe.merge(number, counts.get(i), Integer::sum);
+                size += counts.get(i);
+            }
+            int[] ids = new int[recipe.size()];
+            int[] needed = new int[recipe.size()];
+            int k = 0;
+            for (Map.Entry<Integer, Integer> entry : recipe.entrySet()) {
+                ids[k] = entry.getKey();
+                needed[k++] = entry.getValue();
+            }
+            fusions.add(monster);
+            recipeRequirements.add(ids);
+            recipeCounts.add(needed);
+            recipeSizes.add(size);
+        }
+
+        words = (requirements.size() + 63) >>> 6;
+        for (int[] ids : recipeRequirements) {
+            long[] mask = new long[words];
+            for (int id : ids) mask[id >>> 6] |= 1L << id;
+            recipeMasks.add(mask);
+        }
+        buildInvertedIndex();
+        available = new long[words];
+        supply = new int[requirements.size()];
+    }
+
+    /**
+     * Parses the material line of a Fusion monster.
+     *
+     * @param description the card text
+     * @param parts receives the requirements
+     * @param counts receives the number of copies of each requirement
+     * @return true if every part of the line was understood
+     */
+    private static boolean parseMaterials(String description, List<Requirement> parts, List<Integer> counts) {
+        if (description == null || description.isBlank()) return false;
+        String line = description.strip().split("\\r?\\n", 2)[0].strip();
+        for (String part : line.split("\\s+\\+\\s+")) {
+            Matcher m = PART.matcher(part.strip());
+            if (!m.matches()) return false;
+            int count = m.group(1) == null ? 1 : Integer.parseInt(m.group(1));
+            Requirement requirement = parseRequirement(m.group(2).strip());
+            if (requirement == null || count <= 0) return false;
+            parts.add(requirement);
+            counts.add(count);
+        }
+        return !parts.isEmpty();
+    }
+
+    /**
+     * Parses one material, without its count.
+     *
+     * @param text the material (e.g. {@code "Curse of Dragon"}, {@code DARK Spellcaster monsters})
+     * @return the requirement, or null if it cannot be read
+     */
+    private static Requirement parseRequirement(String text) {
+        if (NAMES.matcher(text).matches()) {
+            List<String> names = new ArrayList<>();
+            Matcher q = QUOTED.matcher(text);
+            while (q.find()) names.add(q.group(1).toLowerCase(Locale.ROOT));
+            String[] sorted = names.toArray(new String[0]);
+            Arrays.sort(sorted);
+            return new Requirement(sorted, null, null, null);
+        }
+
+        String rest = text;
+        if (rest.endsWith("monsters")) rest = rest.substring(0, rest.length() - "monsters".length());
+        else if (rest.endsWith("monster")) rest = rest.substring(0, rest.length() - "monster".length());
+        else return null;
+
+        String archetype = null;
+        Matcher q = QUOTED.matcher(rest);
+        if (q.find()) {
+            archetype = q.group(1).toLowerCase(Locale.ROOT);
+            rest = rest.substring(0, q.start()) + rest.substring(q.end());
+            if (q.find()) return null;
+        }
+
+        Attribute attribute = null;
+        Race race = null;
+        String[] tokens = rest.replace("-Type", "").trim().split("\\s+");
+        for (int i = 0; i < tokens.length; i++) {
+            if (tokens[i].isEmpty()) continue;
+            if (attribute == null && tokens[i].equals(tokens[i].toUpperCase(Locale.ROOT))) {
+                attribute = Attribute.parse(tokens[i]);
+                if (attribute != null) continue;
+            }
+            if (race == null && i + 1 < tokens.length) {
+                race = Race.parse(tokens[i] + " " + tokens[i + 1]);
+                if (race != null) {
+                    i++;
+                    continue;
+                }
+            }
+            if (race == null) {
+                race = Race.parse(tokens[i]);
+                if (race != null) continue;
+            }
+            return null;
+        }
+        return new Requirement(null, archetype, attribute, race);
+    }
+
+    /**
+     * Builds the maps from card name, Attribute and Type to requirements.
+     */
+    private void buildInvertedIndex() {
+        Map<String, List<Integer>> names = new HashMap<>();
+        Map<Attribute, List<Integer>> attributes = new EnumMap<>(Attribute.class);
+        Map<Race, List<Integer>> races = new EnumMap<>(Race.class);
+        List<Integer> others = new ArrayList<>();
+        for (int id = 0; id < requirements.size(); id++) {
+            Requirement r = requirements.get(id);
+            if (r.names != null) {
+                for (String name : r.names) names.computeIfAbsent(name, n -> new ArrayList<>()).add(id);
+            } else if (r.archetype == null && r.attribute != null) {
+                attributes.computeIfAbsent(r.attribute, a -> new ArrayList<>()).add(id);
+            } else if (r.archetype == null && r.race != null) {
+                races.computeIfAbsent(r.race, a -> new ArrayList<>()).add(id);
+            } else {
+                others.add(id);
+            }
+        }
+        names.forEach((name, ids) -> byName.put(name, toArray(ids)));
+        attributes.forEach((attribute, ids) -> byAttribute.put(attribute, toArray(ids)));
+        races.forEach((race, ids) -> byRace.put(race, toArray(ids)));
+        scanned = toArray(others);
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) array[i] = list.get(i);
+        return array;
+    }
+
+    /**
+     * Checks if a card is a spell that Fusion Summons, so that the recipes of
+     * the index can actually be used.
+     *
+     * @param card the card
+     * @return true for Polymerization (by password, or by name for cards
+     *         built without one)
+     */
+    public static boolean isFusionSpell(Card card) {
+        return card instanceof SpellCard
+            && (card.getCardId() == POLYMERIZATION || "Polymerization".equalsIgnoreCase(card.getName()));
+    }
+
+    /**
+     * Gets the number of indexed recipes.
+     *
+     * @return the number of Fusion monsters whose materials were understood
+     */
+    public int size() {
+        return fusions.size();
+    }
+
+    /**
+     * Checks if a Fusion monster is in the index.
+     *
+     * @param fusion the Fusion monster
+     * @return true if its materials were understood
+     */
+    public boolean contains(MonsterCard fusion) {
+        return fusions.contains(fusion);
+    }
+
+    /**
+     * Finds every indexed Fusion monster that can be made from a set of
+     * materials.
+     * <p>
+     * Only monsters are materials; other cards of the collection are
+     * ignored. The same card is never used for two materials of a recipe.
+     * </p>
+     *
+     * @param cards the available materials (typically the hand and the own monsters)
+     * @return a new list of the Fusion monsters, in index order
+     */
+    public List<MonsterCard> makeable(Collection<? extends Card> cards) {
+        List<MonsterCard> result = new ArrayList<>();
+        int count = readMaterials(cards);
+        if (count == 0 || fusions.isEmpty()) return result;
+        for (int r = 0; r < fusions.size(); r++) {
+            if (recipeSizes.get(r) <= count && canMake(r, count)) result.add(fusions.get(r));
+        }
+        return result;
+    }
+
+    /**
+     * Checks if one Fusion monster can be made from a set of materials.
+     *
+     * @param fusion the Fusion monster
+     * @param cards the available materials
+     * @return true if the monster is indexed and its recipe can be met
+     */
+    public boolean canMake(MonsterCard fusion, Collection<? extends Card> cards) {
+        int r = fusions.indexOf(fusion);
+        if (r < 0) return false;
+        int count = readMaterials(cards);
+        return recipeSizes.get(r) <= count && canMake(r, count);
+    }
+
+    /**
+     * Computes the requirement bit set of each material, their union and the
+     * supply of each requirement.
+     *
+     * @return the number of materials
+     */
+    private int readMaterials(Collection<? extends Card> cards) {
+        Arrays.fill(available, 0L);
+        Arrays.fill(supply, 0);
+        int count = 0;
+        for (Card card : cards) {
+            if (!(card instanceof MonsterCard)) continue;
+            if (count == materials.length) grow(count * 2);
+            MonsterCard material = (MonsterCard) card;
+            long[] mask = materialMasks[count];
+            if (mask == null || mask.length != words) mask = materialMasks[count] = new long[words];
+            else Arrays.fill(mask, 0L);
+
+            mark(mask, material, byName.get(material.getName().toLowerCase(Locale.ROOT)));
+            mark(mask, material, byAttribute.get(material.getAttributeValue()));
+            mark(mask, material, byRace.get(material.getRace()));
+            mark(mask, material, scanned);
+            for (int w = 0; w < words; w++) available[w] |= mask[w];
+            materials[count++] = material;
+        }
+        return count;
+    }
+
+    /**
+     * Sets in a material bit set the candidate requirements it satisfies.
+     */
+    private void mark(long[] mask, MonsterCard material, int[] candidates) {
+        if (candidates == null) return;
+        for (int id : candidates) {
+            if ((mask[id >>> 6] & 1L << id) == 0 && requirements.get(id).matches(material)) {
+                mask[id >>> 6] |= 1L << id;
+                supply[id]++;
+            }
+        }
+    }
+
+    /**
+     * Checks a recipe against the materials read by {@link #readMaterials}.
+     */
+    private boolean canMake(int recipe, int count) {
+        long[] required = recipeMasks.get(recipe);
+        for (int w = 0; w < words; w++) {
+            if ((required[w] & ~available[w]) != 0) return false;
+        }
+        int[] ids = recipeRequirements.get(recipe);
+        int[] needed = recipeCounts.get(recipe);
+        for (int i = 0; i < ids.length; i++) {
+            if (supply[ids[i]] < needed[i]) return false;
+        }
+        if (ids.length == 1) return true;
+
+        int slots = recipeSizes.get(recipe);
+        if (slotRequirement.length < slots) slotRequirement = new int[slots];
+        int s = 0;
+        for (int i = 0; i < ids.length; i++) {
+            for (int c = 0; c < needed[i]; c++) slotRequirement[s++] = ids[i];
+        }
+        Arrays.fill(owner, 0, count, -1);
+        for (int slot = 0; slot < slots; slot++) {
+            Arrays.fill(visited, 0, count, false);
+            if (!assign(slot, count)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Finds an augmenting path giving a material to a slot.
+     */
+    private boolean assign(int slot, int count) {
+        int id = slotRequirement[slot];
+        for (int m = 0; m < count; m++) {
+            if (visited[m] || (materialMasks[m][id >>> 6] & 1L << id) == 0) continue;
+            visited[m] = true;
+            if (owner[m] < 0 || assign(owner[m], count)) {
+                owner[m] = slot;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Grows the per-material buffers.
+     */
+    private void grow(int capacity) {
+        materials = Arrays.copyOf(materials, capacity);
+        materialMasks = Arrays.copyOf(materialMasks, capacity);
+        owner = Arrays.copyOf(owner, capacity);
+        visited = Arrays.copyOf(visited, capacity);
+    }
+}
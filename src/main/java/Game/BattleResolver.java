@@ -0,0 +1,243 @@
+package Game;
+
+import Card.MonsterCard;
+import Card.Position;
+
+/**
+ * Primitive battle-resolution kernel for Yu-Gi-Oh! monster battles.
+ * <p>
+ * This class computes the outcome of a single attack from raw stats and a
+ * position code, without touching the UI or allocating any object. The result
+ * is packed into a single {@code long} which can be stored in arrays, compared,
+ * and decoded with the static accessors of this class.
+ * </p>
+ * <p>
+ * <strong>Position codes</strong> match {@link Position#ordinal()} so callers
+ * holding a {@link MonsterCard} can pass {@code monster.getPosition().ordinal()}
+ * directly:
+ * <ul>
+ * <li>{@link #ATTACK} (0): the defender uses its ATK</li>
+ * <li>{@link #DEFENSE} (1): the defender uses its DEF</li>
+ * <li>{@link #FACE_DOWN} (2): face-down Defense Position, uses DEF</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <strong>Packed outcome layout:</strong>
+ * <pre>
+ * bit  0       : attacker destroyed
+ * bit  1       : defender destroyed
+ * bits 16..39  : battle damage to the attacker's controller
+ * bits 40..63  : battle damage to the defender's controller
+ * </pre>
+ * </p>
+ * <p>
+ * The rules are the ones applied by the duel board:
+ * <ul>
+ * <li><strong>ATK vs DEF:</strong> ATK &gt; DEF destroys the defender with no damage,
+ *     ATK &lt; DEF inflicts (DEF - ATK) to the attacker's controller, a tie does nothing.</li>
+ * <li><strong>ATK vs ATK:</strong> the weaker monster is destroyed and its controller
+ *     takes the difference; on a tie both monsters are destroyed and no damage is dealt.</li>
+ * </ul>
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class BattleResolver {
+
+    /** Position code for a monster in Attack Position (same as {@code Position.ATTACK.ordinal()}) */
+    public static final int ATTACK = 0;
+
+    /** Position code for a monster in face-up Defense Position (same as {@code Position.DEFENSE.ordinal()}) */
+    public static final int DEFENSE = 1;
+
+    /** Position code for a monster set face-down in Defense Position (same as {@code Position.FACE_DOWN.ordinal()}) */
+    public static final int FACE_DOWN = 2;
+
+    /** Bit flag: the attacking monster is destroyed */
+    private static final long ATTACKER_DESTROYED = 1L;
+
+    /** Bit flag: the defending monster is destroyed */
+    private static final long DEFENDER_DESTROYED = 1L << 1;
+
+    /** Bit offset of the damage inflicted to the attacker's controller */
+    private static final int DAMAGE_TO_ATTACKER_SHIFT = 16;
+
+    /** Bit offset of the damage inflicted to the defender's controller */
+    private static final int DAMAGE_TO_DEFENDER_SHIFT = 40;
+
+    /** Mask of a 24-bit damage field */
+    private static final long DAMAGE_MASK = 0xFFFFFFL;
+
+    /** Outcome of a battle where nothing happens (tie against a defense position monster) */
+    public static final long NO_EFFECT = 0L;
+
+    /**
+     * Private constructor: this class only exposes static helpers.
+     */
+    private BattleResolver() {
+    }
+
+    /**
+     * Resolves an attack between two monsters from their raw stats.
+     *
+     * @param attackerAtk the ATK of the attacking monster
+     * @param defenderAtk the ATK of the attacked monster
+     * @param defenderDef the DEF of the attacked monster
+     * @param defenderPosition the position code of the attacked monster ({@link #ATTACK}, {@link #DEFENSE} or {@link #FACE_DOWN})
+     * @return the packed battle outcome
+     */
+    public static long resolve(int attackerAtk, int defenderAtk, int defenderDef, int defenderPosition) {
+        if (defenderPosition != ATTACK) {
+            // Battle against Defense Position: no damage to the defender's controller
+            if (attackerAtk > defenderDef) {
+                return DEFENDER_DESTROYED;
+            }
+            if (attackerAtk < defenderDef) {
+                return pack(false, false, defenderDef - attackerAtk, 0);
+            }
+            return NO_EFFECT;
+        }
+
+        // Battle against Attack Position
+        if (attackerAtk > defenderAtk) {
+            return pack(false, true, 0, attackerAtk - defenderAtk);
+        }
+        if (attackerAtk < defenderAtk) {
+            return pack(true, false, defenderAtk - attackerAtk, 0);
+        }
+        return ATTACKER_DESTROYED | DEFENDER_DESTROYED;
+    }
+
+    /**
+     * Resolves an attack between two monster cards.
+     * <p>
+     * Convenience overload reading the stats and the current {@link Position}
+     * of the defender from the model.
+     * </p>
+     *
+     * @param attacker the attacking monster
+     * @param defender the attacked monster
+     * @return the packed battle outcome
+     */
+    public static long resolve(MonsterCard attacker, MonsterCard defender) {
+        return resolve(attacker.getAtk(), defender.getAtk(), defender.getDef(),
+                       defender.getPosition().ordinal());
+    }
+
+    /**
+     * Computes the outcome of a direct attack on the opponent's Life Points.
+     *
+     * @param attackerAtk the ATK of the attacking monster
+     * @return the packed outcome (no monster destroyed, full ATK as damage to the defender's controller)
+     */
+    public static long direct(int attackerAtk) {
+        return pack(false, false, 0, attackerAtk);
+    }
+
+    /**
+     * Fills a matrix with the outcome of every attacker against every defender.
+     * <p>
+     * The result is written row-major in {@code out}: the outcome of attacker
+     * {@code i} against defender {@code j} is stored at
+     * {@code out[i * defenderCount + j]}. No array is allocated, so the same
+     * buffers can be reused across a whole search.
+     * </p>
+     *
+     * @param attackerAtk ATK of each attacker
+     * @param attackerCount number of attackers to read from {@code attackerAtk}
+     * @param defenderAtk ATK of each defender
+     * @param defenderDef DEF of each defender
+     * @param defenderPosition position code of each defender
+     * @param defenderCount number of defenders to read
+     * @param out destination array, at least {@code attackerCount * defenderCount} long
+     */
+    public static void fillMatrix(int[] attackerAtk, int attackerCount,
+                                  int[] defenderAtk, int[] defenderDef, int[] defenderPosition,
+                                  int defenderCount, long[] out) {
+        int k = 0;
+        for (int i = 0; i < attackerCount; i++) {
+            int atk = attackerAtk[i];
+            for (int j = 0; j < defenderCount; j++) {
+                out[k++] = resolve(atk, defenderAtk[j], defenderDef[j], defenderPosition[j]);
+            }
+        }
+    }
+
+    // --- Decoding ---
+
+    /**
+     * Checks if the attacking monster is destroyed by the battle.
+     *
+     * @param outcome a packed battle outcome
+     * @return true if the attacker is destroyed
+     */
+    public static boolean isAttackerDestroyed(long outcome) {
+        return (outcome & ATTACKER_DESTROYED) != 0;
+    }
+
+    /**
+     * Checks if the attacked monster is destroyed by the battle.
+     *
+     * @param outcome a packed battle outcome
+     * @return true if the defender is destroyed
+     */
+    public static boolean isDefenderDestroyed(long outcome) {
+        return (outcome & DEFENDER_DESTROYED) != 0;
+    }
+
+    /**
+     * Gets the battle damage inflicted to the attacker's controller.
+     *
+     * @param outcome a packed battle outcome
+     * @return the damage taken by the attacking player
+     */
+    public static int damageToAttacker(long outcome) {
+        return (int) ((outcome >>> DAMAGE_TO_ATTACKER_SHIFT) & DAMAGE_MASK);
+    }
+
+    /**
+     * Gets the battle damage inflicted to the defender's controller.
+     *
+     * @param outcome a packed battle outcome
+     * @return the damage taken by the defending player
+     */
+    public static int damageToDefender(long outcome) {
+        return (int) ((outcome >>> DAMAGE_TO_DEFENDER_SHIFT) & DAMAGE_MASK);
+    }
+
+    /**
+     * Packs a battle outcome into a single long.
+     *
+     * @param attackerDestroyed whether the attacker is destroyed
+     * @param defenderDestroyed whether the defender is destroyed
+     * @param damageToAttacker damage to the attacker's controller
+     * @param damageToDefender damage to the defender's controller
+     * @return the packed outcome
+     */
+    private static long pack(boolean attackerDestroyed, boolean defenderDestroyed,
+                             int damageToAttacker, int damageToDefender) {
+        long outcome = 0L;
+        if (attackerDestroyed) outcome |= ATTACKER_DESTROYED;
+        if (defenderDestroyed) outcome |= DEFENDER_DESTROYED;
+        outcome |= clampDamage(damageToAttacker) << DAMAGE_TO_ATTACKER_SHIFT;
+        outcome |= clampDamage(damageToDefender) << DAMAGE_TO_DEFENDER_SHIFT;
+        return outcome;
+    }
+
+    /**
+     * Clamps a damage value to its packed field.
+     * <p>
+     * A negative value, from a negative stat or an overflowing difference,
+     * would otherwise fill the field with its sign bits: it counts as no
+     * damage.
+     * </p>
+     *
+     * @param damage the damage
+     * @return the damage within [0, {@link #DAMAGE_MASK}]
+     */
+    private static long clampDamage(int damage) {
+        return Math.max(0, Math.min(damage, DAMAGE_MASK));
+    }
+}
@@ -0,0 +1,177 @@
+package Game;
+
+import Board.Board;
+import Card.Card;
+import Card.EffectContext;
+import Card.MonsterCard;
+import Card.Position;
+import Player.Player;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link EffectContext} resolving effects on the model objects.
+ * <p>
+ * Effects change the {@link Player}s and their {@link Board}s directly, no
+ * window is needed: this is the context used by {@link DuelEngine} and by
+ * simulations. Destroyed monsters go to the Graveyard through
+ * {@link Board#removeMonster(int)}.
+ * </p>
+ * <p>
+ * The opponent may be null (effect activated from a single board): every
+ * operation on the opponent's side is then ignored.
+ * </p>
+ * <p>
+ * When built with an {@link EventBus}, destroyed and summoned monsters and
+ * drawn cards are published on it so that trigger effects see the changes
+ * made by effects.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class BoardEffectContext implements EffectContext {
+
+    /** The players, indexed by side ({@link #SELF}, {@link #OPPONENT}) */
+    private final Player[] players;
+
+    /** Bus receiving the events caused by effects, or null */
+    private final EventBus events;
+
+    /** Index of {@link #SELF} in the duel (0 or 1), used for the published events */
+    private final int selfIndex;
+
+    /** Undo log recording the changes made by effects */
+    private final UndoLog history;
+
+    /**
+     * Creates a context seen from a player.
+     *
+     * @param self the player who activated the effect
+     * @param opponent the opponent, or null if unknown
+     */
+    public BoardEffectContext(Player self, Player opponent) {
+        this(self, opponent, null, 0);
+    }
+
+    /**
+     * Creates a context seen from a player of a duel, publishing its events.
+     *
+     * @param self the player who activated the effect
+     * @param opponent the opponent, or null if unknown
+     * @param events the bus receiving the events, or null
+     * @param selfIndex the index of {@code self} in the duel (0 or 1)
+     */
+    public BoardEffectContext(Player self, Player opponent, EventBus events, int selfIndex) {
+        this(self, opponent, events, selfIndex, new UndoLog(null));
+    }
+
+    /**
+     * Creates a context of a duel whose changes are recorded in an undo log.
+     *
+     * @param self the player who activated the effect
+     * @param opponent the opponent, or null if unknown
+     * @param events the bus receiving the events, or null
+     * @param selfIndex the index of {@code self} in the duel (0 or 1)
+     * @param history the undo log of the duel
+     */
+    BoardEffectContext(Player self, Player opponent, EventBus events, int selfIndex, UndoLog history) {
+        this.players = new Player[] { self, opponent };
+        this.events = events;
+        this.selfIndex = selfIndex;
+        this.history = history;
+    }
+
+    @Override
+    public MonsterCard getMonster(int side, int zone) {
+        Player player = players[side];
+        return player == null ? null : player.getBoard().getMonster(zone);
+    }
+
+    @Override
+    public boolean destroyMonster(int side, int zone) {
+        Player player = players[side];
+        if (player == null) return false;
+        MonsterCard destroyed = history.removeMonster(player, zone);
+        if (destroyed == null) return false;
+        publish(GameEvent.CARD_SENT_TO_GRAVEYARD, side, zone, destroyed);
+        return true;
+    }
+
+    @Override
+    public void changeLifePoints(int side, int amount) {
+        Player player = players[side];
+        if (player == null) return;
+        history.touchLifePoints(player);
+        if (amount >= 0) {
+            player.increaseLifePoints(amount);
+        } else {
+            player.decreaseLifePoints(-amount);
+        }
+    }
+
+    @Override
+    public boolean draw(int side) {
+        Player player = players[side];
+        if (player == null || player.getDeck().isEmpty()) return false;
+        publish(GameEvent.CARD_DRAWN, side, GameEvent.NO_ZONE, history.draw(player));
+        return true;
+    }
+
+    @Override
+    public List<Card> getDeck(int side) {
+        Player player = players[side];
+        return player == null ? List.of() : Collections.unmodifiableList(player.getDeck().getCards());
+    }
+
+    @Override
+    public boolean addToHandFromDeck(int side, Card card) {
+        Player player = players[side];
+        if (player == null || !history.addToHandFromDeck(player, card)) return false;
+        publish(GameEvent.CARD_DRAWN, side, GameEvent.NO_ZONE, card);
+        return true;
+    }
+
+    @Override
+    public List<Card> getGraveyard(int side) {
+        Player player = players[side];
+        return player == null
+                ? List.of()
+                : player.getBoard().getGraveyard().getAllCards();
+    }
+
+    @Override
+    public boolean specialSummonFromGraveyard(int graveyardSide, MonsterCard monster, Position position) {
+        Player from = players[graveyardSide];
+        Player self = players[SELF];
+        if (from == null || self == null) return false;
+
+        Board board = self.getBoard();
+        int zone = DuelEngine.firstFreeMonsterZone(board);
+        if (zone < 0 || !history.removeFromGraveyard(from, monster)) return false;
+
+        // A summoned monster is a new card on the field: it starts without turn flags
+        history.touchMonster(monster);
+        monster.resetTurnFlags();
+        monster.setFaceDown(position == Position.FACE_DOWN);
+        history.placeMonster(self, monster, zone, position);
+        publish(GameEvent.MONSTER_SUMMONED, SELF, zone, monster);
+        return true;
+    }
+
+    /**
+     * Publishes an event about a card on the bus, if any.
+     *
+     * @param type the event type
+     * @param side the side concerned ({@link #SELF} or {@link #OPPONENT})
+     * @param zone the zone concerned
+     * @param card the card involved
+     */
+    private void publish(int type, int side, int zone, Card card) {
+        if (events == null) return;
+        int player = side == SELF ? selfIndex : 1 - selfIndex;
+        events.publish(type, player, zone, card.getCardId(), card);
+    }
+}
@@ -0,0 +1,104 @@
+package Game;
+
+import Card.Card;
+import Card.Effect;
+import Card.EffectContext;
+import Card.EffectRegistry;
+import util.GameLog;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Builds and resolves chains of card effects.
+ * <p>
+ * Activated effects are stacked as chain links; {@link #resolve()} resolves
+ * them last-in, first-out, as in the official rules (a response resolves
+ * before the card it responds to). Each link resolves against the
+ * {@link EffectContext} of the player who activated it, so the same resolver
+ * works on the model (headless) and on the duel board.
+ * </p>
+ * <p>
+ * Effects are found with {@link EffectRegistry#get(int)}: a hash lookup on
+ * the card ID instead of a comparison of card names.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class ChainResolver {
+
+    /**
+     * One activated effect waiting to resolve.
+     */
+    private static final class ChainLink {
+        final Card source;
+        final Effect effect;
+        final int player;
+
+        ChainLink(Card source, Effect effect, int player) {
+            this.source = source;
+            this.effect = effect;
+            this.player = player;
+        }
+    }
+
+    /** Contexts seen from each player, indexed by player (0 or 1) */
+    private final EffectContext[] contexts;
+
+    /** The chain being built, last activated link on top */
+    private final Deque<ChainLink> chain = new ArrayDeque<>();
+
+    /**
+     * Creates a resolver for a duel.
+     *
+     * @param first the context seen from the first player
+     * @param second the context seen from the second player
+     */
+    public ChainResolver(EffectContext first, EffectContext second) {
+        this.contexts = new EffectContext[] { first, second };
+    }
+
+    /**
+     * Adds the effect of a card to the chain.
+     *
+     * @param source the activated card
+     * @param player the index (0 or 1) of the player activating it
+     * @return true if the card has an implemented effect and was chained
+     */
+    public boolean activate(Card source, int player) {
+        Effect effect = EffectRegistry.get(source.getCardId());
+        if (effect == null) {
+            GameLog.println("Effect not implemented for: " + source.getName());
+            return false;
+        }
+        chain.push(new ChainLink(source, effect, player));
+        return true;
+    }
+
+    /**
+     * Gets the number of links waiting to resolve.
+     *
+     * @return the chain length
+     */
+    public int size() {
+        return chain.size();
+    }
+
+    /**
+     * Resolves the whole chain, last link first.
+     *
+     * @return the number of links resolved
+     */
+    public int resolve() {
+        int resolved = 0;
+        while (!chain.isEmpty()) {
+            ChainLink link = chain.pop();
+            GameLog.println("Chain link " + (chain.size() + 1) + ": " + link.source.getName());
+            link.effect.resolve(contexts[link.player], link.source);
+            resolved++;
+        }
+        return resolved;
+    }
+}
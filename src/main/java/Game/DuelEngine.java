@@ -0,0 +1,1054 @@
+package Game;
+
+import Board.Board;
+import Card.Card;
+import Card.EffectRegistry;
+import Card.MonsterCard;
+import Card.Position;
+import Card.SpellCard;
+import Card.TrapCard;
+import Player.Player;
+
+import java.util.Random;
+
+/**
+ * Headless rules engine running a duel on the model objects.
+ * <p>
+ * The engine only manipulates {@link Player}, {@link Board} and the cards
+ * themselves, without any JavaFX node. It is used by simulations (bot
+ * tournaments, search) where no window is available and thousands of duels
+ * must run per second, and by {@link ui.DuelBoard}, which plays the moves of
+ * the player and of the bot on it and redraws itself from the model.
+ * </p>
+ * <p>
+ * <strong>Turn structure:</strong>
+ * <ul>
+ * <li>{@link #start()}: each player draws {@link #STARTING_HAND} cards</li>
+ * <li>{@link #beginTurn()}: Draw Phase (skipped on the very first turn),
+ *     a player who cannot draw loses the duel</li>
+ * <li>Main Phases: {@link #normalSummon(MonsterCard, Position, int...)} and
+ *     {@link #changePosition(int)}, {@link #setSpellTrap(Card)},
+ *     {@link #activate(Card)} and {@link #activateSet(int)} (card effects)</li>
+ * <li>Battle Phase (not on the first turn): {@link #attack(int, int)} and
+ *     {@link #directAttack(int)}, battles are resolved by {@link BattleResolver}</li>
+ * <li>{@link #endTurn()}: resets the turn flags and passes to the opponent</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <strong>Legal moves:</strong> {@link #generateMoves(MoveList)} lists every
+ * action the active player can take in the current phase as packed
+ * {@link Moves}, and {@link #play(int)} performs one of them, for bots and
+ * searches that enumerate actions instead of calling each method.
+ * </p>
+ * <p>
+ * Every summon, draw, Set spell or trap, card sent to the Graveyard, battle
+ * damage and phase change is published on the duel's {@link EventBus} (see
+ * {@link #getEvents()}), where trigger effects, continuous cards and bot
+ * models subscribe to what they watch.
+ * </p>
+ * <p>
+ * <strong>Undo and branching:</strong> after {@link #enableUndo(int)}, every
+ * change is recorded in a bounded undo log. {@link #snapshot()} is O(1) and
+ * {@link #restore(long)} reverts (or replays) only the changes made since,
+ * which lets a search explore a move and come back without copying the
+ * duel; {@link #undo()} and {@link #redo()} step over whole actions. The
+ * random source and the published events are not rewound.
+ * </p>
+ * <p>
+ * Illegal actions are rejected by returning false (or {@link #ILLEGAL}), the
+ * state is left unchanged. The duel ends when a player reaches 0 LP, cannot
+ * draw, or when {@code turnLimit} turns have been played (draw).
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class DuelEngine {
+
+    /** Number of cards drawn by each player at the start of the duel */
+    public static final int STARTING_HAND = 5;
+
+    /** Default number of turns after which the duel is declared a draw */
+    public static final int DEFAULT_TURN_LIMIT = 200;
+
+    /** Number of monster zones on each side of the field */
+    public static final int MONSTER_ZONES = 5;
+
+    /** Result code: the duel is still running */
+    public static final int RESULT_NONE = -1;
+
+    /** Result code: the duel ended in a draw */
+    public static final int RESULT_DRAW = 2;
+
+    /** Value returned by {@link #attack(int, int)} when the attack is not legal */
+    public static final long ILLEGAL = -1L;
+
+    /** The two duelists, index 0 plays first */
+    private final Player[] players;
+
+    /** Number of turns after which the duel is a draw */
+    private final int turnLimit;
+
+    /** Index of the player whose turn it is */
+    private int active;
+
+    /** Current turn number (starting at 1) */
+    private int turn;
+
+    /** Current phase of the turn */
+    private Phase phase;
+
+    /** Index of the winner, {@link #RESULT_DRAW} or {@link #RESULT_NONE} */
+    private int result;
+
+    /** Random source of the duel, shared with the players' decisions for reproducible simulations */
+    private final DuelRandom random;
+
+    /** Resolver of the activated card effects, on the model objects */
+    private final ChainResolver chain;
+
+    /** Bus of the game events of the duel */
+    private final EventBus events;
+
+    /** Undo log through which every change of the duel state goes */
+    private final UndoLog history;
+
+    /** Incremental hash of the duel state */
+    private final StateHash stateHash;
+
+    /**
+     * Creates an engine for a duel between two players.
+     * <p>
+     * Both players must already own a deck and a board (see
+     * {@link Player#Player(String, int, Deck.Deck, Deck.ExtraDeck)}). Decks are
+     * used in their current order: shuffle them beforehand for random duels.
+     * </p>
+     *
+     * @param first the player taking the first turn
+     * @param second the other player
+     */
+    public DuelEngine(Player first, Player second) {
+        this(first, second, DEFAULT_TURN_LIMIT);
+    }
+
+    /**
+     * Creates an engine for a duel between two players with a custom turn limit.
+     *
+     * @param first the player taking the first turn
+     * @param second the other player
+     * @param turnLimit number of turns after which the duel is a draw
+     */
+    public DuelEngine(Player first, Player second, int turnLimit) {
+        this(first, second, turnLimit, new DuelRandom());
+    }
+
+    /**
+     * Creates an engine with a custom turn limit and random source.
+     * <p>
+     * Two engines built with the same decks and a random source seeded
+     * identically play exactly the same duel. The engine needs a
+     * {@link DuelRandom}, whose state can be saved; any other random source
+     * only seeds a new one.
+     * </p>
+     *
+     * @param first the player taking the first turn
+     * @param second the other player
+     * @param turnLimit number of turns after which the duel is a draw
+     * @param random the random source of the duel
+     */
+    public DuelEngine(Player first, Player second, int turnLimit, Random random) {
+        this.players = new Player[] { first, second };
+        this.random = random instanceof DuelRandom ? (DuelRandom) random : new DuelRandom(random.nextLong());
+        this.events = new EventBus();
+        this.stateHash = new StateHash(this);
+        this.history = new UndoLog(this);
+        this.chain = new ChainResolver(new BoardEffectContext(first, second, events, 0, history),
+                                       new BoardEffectContext(second, first, events, 1, history));
+        this.turnLimit = turnLimit;
+        this.active = 0;
+        this.turn = 1;
+        this.phase = Phase.DP;
+        this.result = RESULT_NONE;
+    }
+
+    // --- Duel flow ---
+
+    /**
+     * Starts the duel: each player draws their opening hand.
+     */
+    public void start() {
+        history.beginAction();
+        history.touchEngine();
+        for (int i = 0; i < STARTING_HAND; i++) {
+            publishDraw(0, history.draw(players[0]));
+            publishDraw(1, history.draw(players[1]));
+        }
+        active = 0;
+        turn = 1;
+        phase = Phase.DP;
+        result = RESULT_NONE;
+    }
+
+    /**
+     * Runs the Draw and Standby Phases of the current turn.
+     * <p>
+     * The first player does not draw on the first turn. If the active player
+     * must draw from an empty deck, they lose the duel.
+     * </p>
+     *
+     * @return true if the turn can continue, false if the duel is over
+     */
+    public boolean beginTurn() {
+        if (isOver()) return false;
+
+        history.beginAction();
+        setPhase(Phase.DP);
+        if (turn > 1) {
+            Player current = players[active];
+            if (current.getDeck().isEmpty()) {
+                setResult(1 - active);
+                return false;
+            }
+            publishDraw(active, history.draw(current));
+        }
+        setPhase(Phase.MP1);
+        return true;
+    }
+
+    /**
+     * Enters the Battle Phase.
+     *
+     * @return true if the Battle Phase is allowed (not on the first turn of the duel)
+     */
+    public boolean enterBattlePhase() {
+        if (isOver() || !canBattle()) return false;
+        history.beginAction();
+        setPhase(Phase.BP);
+        return true;
+    }
+
+    /**
+     * Enters Main Phase 2 after the Battle Phase (or directly from Main Phase 1).
+     */
+    public void enterMainPhase2() {
+        if (isOver()) return;
+        history.beginAction();
+        setPhase(Phase.MP2);
+    }
+
+    /**
+     * Ends the current turn.
+     * <p>
+     * Resets the Normal Summon flag and the monster turn flags, then gives the
+     * turn to the opponent. When the turn limit is reached the duel is a draw.
+     * </p>
+     */
+    public void endTurn() {
+        if (isOver()) return;
+
+        history.beginAction();
+        setPhase(Phase.EP);
+        resetTurnFlags(players[0]);
+        resetTurnFlags(players[1]);
+        history.touchNormalSummoned(players[active]);
+        players[active].setNormalSummoned(false);
+
+        history.touchEngine();
+        active = 1 - active;
+        turn++;
+        phase = Phase.DP;
+        if (turn > turnLimit) {
+            result = RESULT_DRAW;
+        }
+    }
+
+    // --- Actions ---
+
+    /**
+     * Gets the number of tributes required to Normal Summon a monster.
+     *
+     * @param monster the monster to summon
+     * @return 0 for levels 1-4, 1 for levels 5-6, 2 for levels 7 and more
+     */
+    public static int tributesRequired(MonsterCard monster) {
+        int level = monster.getLevel();
+        if (level >= 7) return 2;
+        if (level >= 5) return 1;
+        return 0;
+    }
+
+    /**
+     * Normal Summons (or Sets) a monster from the active player's hand.
+     * <p>
+     * The given tribute zones are emptied (the monsters go to the Graveyard)
+     * and the monster is placed in the first free zone. The summon is refused
+     * if the player already Normal Summoned this turn, if the card is not in
+     * hand, if the number of tributes is wrong or if no zone is free.
+     * </p>
+     *
+     * @param monster the monster to summon
+     * @param position {@link Position#ATTACK} for a summon, {@link Position#FACE_DOWN}
+     *                 or {@link Position#DEFENSE} for a Set
+     * @param tributeZones the zones of the monsters to tribute
+     * @return true if the monster was summoned
+     */
+    public boolean normalSummon(MonsterCard monster, Position position, int... tributeZones) {
+        if (isOver() || !isMainPhase()) return false;
+
+        Player current = players[active];
+        Board board = current.getBoard();
+
+        if (current.hasNormalSummoned() || !current.getHand().contains(monster)) return false;
+        if (tributeZones.length != tributesRequired(monster)) return false;
+        for (int i = 0; i < tributeZones.length; i++) {
+            int zone = tributeZones[i];
+            if (zone < 0 || zone >= MONSTER_ZONES || board.getMonster(zone) == null) return false;
+            for (int j = 0; j < i; j++) {
+                if (tributeZones[j] == zone) return false;
+            }
+        }
+
+        // Without tributes nothing frees a zone: refuse before recording an action
+        if (tributeZones.length == 0 && firstFreeMonsterZone(board) < 0) return false;
+
+        history.beginAction();
+        for (int zone : tributeZones) {
+            sendMonsterToGraveyard(active, zone);
+        }
+        int zone = firstFreeMonsterZone(board);
+
+        history.removeFromHand(current, monster);
+        history.touchMonster(monster);
+        monster.setFaceDown(position == Position.FACE_DOWN);
+        history.placeMonster(current, monster, zone, position);
+        history.touchNormalSummoned(current);
+        current.setNormalSummoned(true);
+        events.publish(GameEvent.MONSTER_SUMMONED, active, zone, monster.getCardId(), monster);
+        return true;
+    }
+
+    /**
+     * Changes the battle position of a monster of the active player.
+     * <p>
+     * A monster in Attack Position goes to Defense Position and vice versa; a
+     * face-down monster is flipped face-up in Attack Position. As enforced by
+     * {@link MonsterCard#setPosition(Position)}, a monster cannot change its
+     * position during the turn it was summoned or twice in the same turn, and
+     * it cannot change it after it attacked this turn.
+     * </p>
+     *
+     * @param zone the monster zone (0-4)
+     * @return true if the position was changed
+     */
+    public boolean changePosition(int zone) {
+        if (isOver() || !isMainPhase()) return false;
+        if (zone < 0 || zone >= MONSTER_ZONES) return false;
+        MonsterCard monster = players[active].getBoard().getMonster(zone);
+        if (monster == null) return false;
+
+        Position target = monster.getPosition() == Position.ATTACK ? Position.DEFENSE : Position.ATTACK;
+        if (monster.hasChangedPositionThisTurn() || monster.hasAttackedThisTurn()) return false;
+        history.beginAction();
+        history.touchMonster(monster);
+        monster.setPosition(target);
+        monster.setFaceDown(false);
+        return true;
+    }
+
+    /**
+     * Sets a spell or trap card from the active player's hand face-down.
+     * <p>
+     * The card goes to the first free spell/trap zone. The set is refused if
+     * the card is not a spell or trap in hand or if every zone is occupied.
+     * </p>
+     *
+     * @param card the spell or trap card to set
+     * @return the zone the card was set in, or -1 if the set was refused
+     */
+    public int setSpellTrap(Card card) {
+        if (isOver() || !isMainPhase()) return -1;
+        if (!(card instanceof SpellCard) && !(card instanceof TrapCard)) return -1;
+
+        Player current = players[active];
+        if (!current.getHand().contains(card)) return -1;
+
+        Board board = current.getBoard();
+        for (int zone = 0; zone < MONSTER_ZONES; zone++) {
+            if (board.isSpellTrapZoneFree(zone)) {
+                history.beginAction();
+                history.removeFromHand(current, card);
+                history.setSpellTrap(current, card, zone);
+                events.publish(GameEvent.CARD_SET, active, zone, card.getCardId(), card);
+                return zone;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Activates a spell card from the active player's hand.
+     * <p>
+     * The effect is found in the {@link Card.EffectRegistry} and resolved
+     * immediately on the model through the {@link ChainResolver}; the card is
+     * then sent to the Graveyard. Only cards with an implemented effect can be
+     * activated.
+     * </p>
+     *
+     * @param card the spell card to activate
+     * @return true if the card was activated
+     */
+    public boolean activate(Card card) {
+        if (isOver() || !isMainPhase()) return false;
+        if (!(card instanceof SpellCard) || !EffectRegistry.contains(card.getCardId())) return false;
+
+        Player current = players[active];
+        if (!current.getHand().contains(card)) return false;
+        history.beginAction();
+        history.removeFromHand(current, card);
+        resolveActivation(card, GameEvent.NO_ZONE);
+        return true;
+    }
+
+    /**
+     * Activates a spell or trap card Set in a spell/trap zone of the active player.
+     *
+     * @param zone the spell/trap zone (0-4)
+     * @return true if the card was activated
+     */
+    public boolean activateSet(int zone) {
+        if (isOver() || !isMainPhase()) return false;
+
+        Board board = players[active].getBoard();
+        Card card = board.getSpellTrap(zone);
+        if (card == null || !EffectRegistry.contains(card.getCardId())) return false;
+
+        history.beginAction();
+        history.removeSpellTrap(players[active], zone);
+        resolveActivation(card, zone);
+        return true;
+    }
+
+    /**
+     * Declares an attack from a monster of the active player on an opponent's monster.
+     * <p>
+     * The battle is resolved with {@link BattleResolver}: destroyed monsters
+     * are sent to the Graveyard, battle damage is applied, and a face-down
+     * defender is flipped face-up in Defense Position.
+     * </p>
+     *
+     * @param attackerZone the zone of the attacking monster (0-4)
+     * @param defenderZone the zone of the attacked monster (0-4)
+     * @return the packed battle outcome, or {@link #ILLEGAL} if the attack is not allowed
+     */
+    public long attack(int attackerZone, int defenderZone) {
+        MonsterCard attacker = attackerAt(attackerZone);
+        if (attacker == null) return ILLEGAL;
+        if (defenderZone < 0 || defenderZone >= MONSTER_ZONES) return ILLEGAL;
+
+        Board defenderBoard = players[1 - active].getBoard();
+        MonsterCard defender = defenderBoard.getMonster(defenderZone);
+        if (defender == null) return ILLEGAL;
+
+        long outcome = BattleResolver.resolve(attacker, defender);
+        history.beginAction();
+        history.touchMonster(attacker);
+        attacker.setAttack();
+        if (defender.isFaceDown()) {
+            // Flipped by the attack: face-up in Defense Position, without using its position change
+            history.touchMonster(defender);
+            defender.restoreState(Position.DEFENSE, defender.hasAttackedThisTurn(),
+                                  defender.hasChangedPositionThisTurn());
+            defender.setFaceDown(false);
+        }
+
+        if (BattleResolver.isDefenderDestroyed(outcome)) {
+            sendMonsterToGraveyard(1 - active, defenderZone);
+        }
+        if (BattleResolver.isAttackerDestroyed(outcome)) {
+            sendMonsterToGraveyard(active, attackerZone);
+        }
+        applyDamage(active, BattleResolver.damageToAttacker(outcome));
+        applyDamage(1 - active, BattleResolver.damageToDefender(outcome));
+        return outcome;
+    }
+
+    /**
+     * Declares a direct attack on the opponent's Life Points.
+     * <p>
+     * A direct attack is only allowed when the opponent controls no monster.
+     * </p>
+     *
+     * @param attackerZone the zone of the attacking monster (0-4)
+     * @return true if the attack was performed
+     */
+    public boolean directAttack(int attackerZone) {
+        MonsterCard attacker = attackerAt(attackerZone);
+        if (attacker == null) return false;
+        if (players[1 - active].getBoard().getMonsterCount() > 0) return false;
+
+        history.beginAction();
+        history.touchMonster(attacker);
+        attacker.setAttack();
+        applyDamage(1 - active, attacker.getAtk());
+        return true;
+    }
+
+    /**
+     * Ends the duel because a player concedes (or left a networked duel).
+     *
+     * @param playerIndex the index of the player giving up
+     * @return false if the duel was already over
+     */
+    public boolean surrender(int playerIndex) {
+        if (isOver()) return false;
+        history.beginAction();
+        setResult(1 - playerIndex);
+        return true;
+    }
+
+    /**
+     * Checks if a monster of the active player can declare an attack.
+     *
+     * @param zone the monster zone (0-4)
+     * @return true if the Battle Phase is running and the monster can attack
+     */
+    public boolean canAttack(int zone) {
+        return attackerAt(zone) != null;
+    }
+
+    // --- Legal moves ---
+
+    /**
+     * Lists every legal move of the active player in the current phase.
+     * <p>
+     * The list is cleared, then filled with packed {@link Moves}:
+     * <ul>
+     * <li>Main Phases: Normal Summon and Set of each monster in hand with
+     *     every combination of tributes, position changes (not after an
+     *     attack), Set of spells and traps, activation of spells in hand and
+     *     of Set cards with an implemented effect</li>
+     * <li>Battle Phase: every attack of every monster able to attack on
+     *     every opponent's monster, or a direct attack when the opponent
+     *     controls no monster</li>
+     * </ul>
+     * Phase changes are not moves: the caller decides when to leave a phase.
+     * The checks are the ones of the action methods, so every listed move is
+     * accepted by {@link #play(int)}. Nothing is allocated.
+     * </p>
+     *
+     * @param moves the buffer to fill
+     * @return the number of legal moves
+     */
+    public int generateMoves(MoveList moves) {
+        moves.clear();
+        if (isOver()) return 0;
+        if (isMainPhase()) {
+            generateMainPhaseMoves(moves);
+        } else if (phase == Phase.BP) {
+            generateBattleMoves(moves);
+        }
+        return moves.size();
+    }
+
+    /**
+     * Plays a move listed by {@link #generateMoves(MoveList)}.
+     *
+     * @param move the packed move
+     * @return true if the move was legal and played, false if it was refused
+     */
+    public boolean play(int move) {
+        int source = Moves.source(move);
+        switch (Moves.kind(move)) {
+            case Moves.NORMAL_SUMMON:
+            case Moves.SET_MONSTER: {
+                Card card = players[active].getHand().getCard(source);
+                if (!(card instanceof MonsterCard)) return false;
+                Position position = Moves.kind(move) == Moves.NORMAL_SUMMON ? Position.ATTACK : Position.FACE_DOWN;
+                switch (Moves.tributeCount(move)) {
+                    case 0: return normalSummon((MonsterCard) card, position);
+                    case 1: return normalSummon((MonsterCard) card, position, Moves.target(move));
+                    default: return normalSummon((MonsterCard) card, position, Moves.target(move), Moves.second(move));
+                }
+            }
+            case Moves.CHANGE_POSITION:
+                return changePosition(source);
+            case Moves.SET_SPELL_TRAP: {
+                Card card = players[active].getHand().getCard(source);
+                return card != null && setSpellTrap(card) >= 0;
+            }
+            case Moves.ACTIVATE: {
+                Card card = players[active].getHand().getCard(source);
+                return card != null && activate(card);
+            }
+            case Moves.ACTIVATE_SET:
+                return activateSet(source);
+            case Moves.ATTACK:
+                return attack(source, Moves.target(move)) != ILLEGAL;
+            case Moves.DIRECT_ATTACK:
+                return directAttack(source);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Adds the summons, Sets, position changes and activations of a Main Phase.
+     *
+     * @param moves the buffer to fill
+     */
+    private void generateMainPhaseMoves(MoveList moves) {
+        Player current = players[active];
+        Board board = current.getBoard();
+        int monsters = board.getMonsterCount();
+        boolean freeMonsterZone = firstFreeMonsterZone(board) >= 0;
+        boolean freeSpellTrapZone = false;
+        for (int zone = 0; zone < MONSTER_ZONES; zone++) {
+            if (board.isSpellTrapZoneFree(zone)) {
+                freeSpellTrapZone = true;
+                break;
+            }
+        }
+
+        int handSize = current.getHand().size();
+        for (int i = 0; i < handSize; i++) {
+            Card card = current.getHand().getCard(i);
+            if (card instanceof MonsterCard) {
+                if (current.hasNormalSummoned()) continue;
+                int tributes = tributesRequired((MonsterCard) card);
+                if (tributes > monsters || tributes == 0 && !freeMonsterZone) continue;
+                addSummons(moves, board, i, tributes, Moves.NORMAL_SUMMON);
+                addSummons(moves, board, i, tributes, Moves.SET_MONSTER);
+            } else if (card instanceof SpellCard || card instanceof TrapCard) {
+                if (card instanceof SpellCard && EffectRegistry.contains(card.getCardId())) {
+                    moves.add(Moves.of(Moves.ACTIVATE, i));
+                }
+                if (freeSpellTrapZone) {
+                    moves.add(Moves.of(Moves.SET_SPELL_TRAP, i));
+                }
+            }
+        }
+
+        for (int zone = 0; zone < MONSTER_ZONES; zone++) {
+            MonsterCard monster = board.getMonster(zone);
+            if (monster != null && !monster.hasChangedPositionThisTurn() && !monster.hasAttackedThisTurn()) {
+                moves.add(Moves.of(Moves.CHANGE_POSITION, zone));
+            }
+            Card set = board.getSpellTrap(zone);
+            if (set != null && EffectRegistry.contains(set.getCardId())) {
+                moves.add(Moves.of(Moves.ACTIVATE_SET, zone));
+            }
+        }
+    }
+
+    /**
+     * Adds a summon (or Set) of a monster in hand with every combination of tributes.
+     *
+     * @param moves the buffer to fill
+     * @param board the board of the active player
+     * @param handIndex the hand index of the monster
+     * @param tributes the number of tributes required (0, 1 or 2)
+     * @param kind {@link Moves#NORMAL_SUMMON} or {@link Moves#SET_MONSTER}
+     */
+    private static void addSummons(MoveList moves, Board board, int handIndex, int tributes, int kind) {
+        if (tributes == 0) {
+            moves.add(Moves.of(kind, handIndex));
+            return;
+        }
+        for (int first = 0; first < MONSTER_ZONES; first++) {
+            if (board.getMonster(first) == null) continue;
+            if (tributes == 1) {
+                moves.add(Moves.of(kind, handIndex, first, Moves.NONE));
+                continue;
+            }
+            for (int second = first + 1; second < MONSTER_ZONES; second++) {
+                if (board.getMonster(second) != null) {
+                    moves.add(Moves.of(kind, handIndex, first, second));
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the attacks of the Battle Phase.
+     *
+     * @param moves the buffer to fill
+     */
+    private void generateBattleMoves(MoveList moves) {
+        Board defenderBoard = players[1 - active].getBoard();
+        boolean direct = defenderBoard.getMonsterCount() == 0;
+        for (int zone = 0; zone < MONSTER_ZONES; zone++) {
+            if (attackerAt(zone) == null) continue;
+            if (direct) {
+                moves.add(Moves.of(Moves.DIRECT_ATTACK, zone));
+                continue;
+            }
+            for (int target = 0; target < MONSTER_ZONES; target++) {
+                if (defenderBoard.getMonster(target) != null) {
+                    moves.add(Moves.of(Moves.ATTACK, zone, target, Moves.NONE));
+                }
+            }
+        }
+    }
+
+    // --- State queries ---
+
+    /**
+     * Checks if the Battle Phase is allowed this turn.
+     *
+     * @return false on the first turn of the duel
+     */
+    public boolean canBattle() {
+        return turn > 1;
+    }
+
+    /**
+     * Checks if the active player is in one of their Main Phases.
+     *
+     * @return true in Main Phase 1 or Main Phase 2
+     */
+    public boolean isMainPhase() {
+        return phase == Phase.MP1 || phase == Phase.MP2;
+    }
+
+    /**
+     * Checks if the duel is over.
+     *
+     * @return true once a player has won or the duel is a draw
+     */
+    public boolean isOver() {
+        return result != RESULT_NONE;
+    }
+
+    /**
+     * Gets the result of the duel.
+     *
+     * @return 0 or 1 for the index of the winner, {@link #RESULT_DRAW}, or
+     *         {@link #RESULT_NONE} while the duel is running
+     */
+    public int getResult() {
+        return result;
+    }
+
+    /**
+     * Gets the player whose turn it is.
+     *
+     * @return the active player
+     */
+    public Player getActivePlayer() {
+        return players[active];
+    }
+
+    /**
+     * Gets the opponent of the active player.
+     *
+     * @return the non-active player
+     */
+    public Player getOpponent() {
+        return players[1 - active];
+    }
+
+    /**
+     * Gets a player by index.
+     *
+     * @param index 0 for the first player, 1 for the second
+     * @return the player
+     */
+    public Player getPlayer(int index) {
+        return players[index];
+    }
+
+    /**
+     * Gets the index of the active player.
+     *
+     * @return 0 or 1
+     */
+    public int getActiveIndex() {
+        return active;
+    }
+
+    /**
+     * Gets the current turn number.
+     *
+     * @return the turn number, starting at 1
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Gets the number of turns after which the duel is a draw.
+     *
+     * @return the turn limit
+     */
+    public int getTurnLimit() {
+        return turnLimit;
+    }
+
+    /**
+     * Gets the random source of the duel.
+     * <p>
+     * Bots and effects should draw their random decisions from it so that a
+     * seeded duel can be replayed.
+     * </p>
+     *
+     * @return the random source
+     */
+    public DuelRandom getRandom() {
+        return random;
+    }
+
+    /**
+     * Gets the current phase.
+     *
+     * @return the phase of the active turn
+     */
+    public Phase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Gets the bus on which the game events of the duel are published.
+     *
+     * @return the event bus of the duel
+     */
+    public EventBus getEvents() {
+        return events;
+    }
+
+    // --- Undo and snapshots ---
+
+    /**
+     * Starts recording the changes of the duel so they can be undone.
+     * <p>
+     * The history keeps at most {@code capacity} changes (a Normal Summon is
+     * about 6 of them); older actions can no longer be undone. Calling this
+     * method again clears the history.
+     * </p>
+     *
+     * @param capacity the maximum number of recorded changes
+     */
+    public void enableUndo(int capacity) {
+        history.enable(capacity);
+    }
+
+    /**
+     * Takes a snapshot of the duel, in O(1).
+     *
+     * @return a handle for {@link #restore(long)}, or -1 if undo is not enabled
+     */
+    public long snapshot() {
+        return history.snapshot();
+    }
+
+    /**
+     * Restores the duel to a snapshot, in O(changes since the snapshot).
+     * <p>
+     * A snapshot taken before an undo can also be restored to redo the
+     * changes, as long as no new action was played in between.
+     * </p>
+     *
+     * @param snapshot a handle returned by {@link #snapshot()}
+     * @return false if the snapshot is no longer in the history
+     */
+    public boolean restore(long snapshot) {
+        return history.restore(snapshot);
+    }
+
+    /**
+     * Undoes the last action (summon, attack, phase change...).
+     *
+     * @return false if there is nothing to undo
+     */
+    public boolean undo() {
+        return history.undo();
+    }
+
+    /**
+     * Redoes the last undone action.
+     *
+     * @return false if there is nothing to redo
+     */
+    public boolean redo() {
+        return history.redo();
+    }
+
+    /**
+     * Gets a 64-bit hash of the duel state.
+     * <p>
+     * The hash is incremental: only the parts of the state changed since the
+     * last call are hashed again. Two engines in the same state have the
+     * same hash, which lets peers stepping the same duel detect a divergence.
+     * </p>
+     *
+     * @return the state hash
+     */
+    public long stateHash() {
+        return stateHash.get();
+    }
+
+    /**
+     * Forces the next {@link #stateHash()} to hash the whole state, after
+     * the model was changed without going through the engine.
+     */
+    public void invalidateStateHash() {
+        stateHash.invalidate(StateHash.ALL);
+    }
+
+    /**
+     * Marks parts of the state hash as changed (used by {@link UndoLog}).
+     *
+     * @param mask the changed {@link StateHash} components
+     */
+    void invalidateHash(int mask) {
+        stateHash.invalidate(mask);
+    }
+
+    /**
+     * Finds the first free monster zone of a board.
+     *
+     * @param board the board to scan
+     * @return the zone index, or -1 if every zone is occupied
+     */
+    public static int firstFreeMonsterZone(Board board) {
+        for (int i = 0; i < MONSTER_ZONES; i++) {
+            if (board.isMonsterZoneFree(i)) return i;
+        }
+        return -1;
+    }
+
+    // --- Internal helpers ---
+
+    /**
+     * Gets the monster of the active player able to attack from a zone.
+     *
+     * @param zone the monster zone (0-4)
+     * @return the monster, or null if no legal attacker is in this zone
+     */
+    private MonsterCard attackerAt(int zone) {
+        if (isOver() || phase != Phase.BP) return null;
+        if (zone < 0 || zone >= MONSTER_ZONES) return null;
+        MonsterCard attacker = players[active].getBoard().getMonster(zone);
+        if (attacker == null || attacker.hasAttackedThisTurn()) return null;
+        if (attacker.getPosition() != Position.ATTACK) return null;
+        return attacker;
+    }
+
+    /**
+     * Publishes a draw, if a card was drawn.
+     *
+     * @param playerIndex the index of the player who drew
+     * @param card the drawn card, or null if the deck was empty
+     */
+    private void publishDraw(int playerIndex, Card card) {
+        if (card != null) {
+            events.publish(GameEvent.CARD_DRAWN, playerIndex, GameEvent.NO_ZONE, card.getCardId(), card);
+        }
+    }
+
+    /**
+     * Changes the current phase and publishes the change.
+     *
+     * @param next the phase entered by the active player
+     */
+    private void setPhase(Phase next) {
+        history.touchEngine();
+        phase = next;
+        events.publish(GameEvent.PHASE_CHANGED, active, GameEvent.NO_ZONE, next.ordinal(), null);
+    }
+
+    /**
+     * Sets the result of the duel.
+     *
+     * @param winner the index of the winner or {@link #RESULT_DRAW}
+     */
+    private void setResult(int winner) {
+        history.touchEngine();
+        result = winner;
+    }
+
+    /**
+     * Restores the turn state of the engine (used by {@link UndoLog},
+     * {@link SaveGame} and the mirror of a networked duel).
+     *
+     * @param active the index of the active player
+     * @param turn the turn number
+     * @param phase the phase
+     * @param result the result of the duel
+     */
+    public void restoreState(int active, int turn, Phase phase, int result) {
+        stateHash.invalidate(StateHash.ALL);
+        this.active = active;
+        this.turn = turn;
+        this.phase = phase;
+        this.result = result;
+    }
+
+    /**
+     * Sends a monster from the field to the Graveyard and publishes it.
+     *
+     * @param playerIndex the index of the monster's controller
+     * @param zone the monster zone (0-4)
+     */
+    private void sendMonsterToGraveyard(int playerIndex, int zone) {
+        MonsterCard monster = history.removeMonster(players[playerIndex], zone);
+        if (monster != null) {
+            events.publish(GameEvent.CARD_SENT_TO_GRAVEYARD, playerIndex, zone, monster.getCardId(), monster);
+        }
+    }
+
+    /**
+     * Applies battle damage to a player and checks the Life Points win condition.
+     *
+     * @param playerIndex the index of the damaged player
+     * @param damage the amount of damage (ignored if 0)
+     */
+    private void applyDamage(int playerIndex, int damage) {
+        if (damage <= 0) return;
+        Player target = players[playerIndex];
+        history.touchLifePoints(target);
+        target.decreaseLifePoints(damage);
+        events.publish(GameEvent.BATTLE_DAMAGE, playerIndex, GameEvent.NO_ZONE, damage, null);
+        if (!target.isAlive() && result == RESULT_NONE) {
+            setResult(1 - playerIndex);
+        }
+    }
+
+    /**
+     * Resolves the effect of a card that left the hand or the field, sends it
+     * to the Graveyard and checks the Life Points win condition.
+     *
+     * @param card the activated card
+     * @param zone the spell/trap zone the card was Set in, or {@link GameEvent#NO_ZONE}
+     */
+    private void resolveActivation(Card card, int zone) {
+        history.touchFaceDown(card);
+        card.setFaceDown(false);
+        chain.activate(card, active);
+        chain.resolve();
+        history.sendToGraveyard(players[active], card);
+        events.publish(GameEvent.CARD_SENT_TO_GRAVEYARD, active, zone, card.getCardId(), card);
+
+        boolean firstAlive = players[0].isAlive();
+        boolean secondAlive = players[1].isAlive();
+        if (result == RESULT_NONE && !(firstAlive && secondAlive)) {
+            setResult(firstAlive ? 0 : secondAlive ? 1 : RESULT_DRAW);
+        }
+    }
+
+    /**
+     * Resets the turn flags of every monster controlled by a player.
+     *
+     * @param player the player whose monsters are reset
+     */
+    private void resetTurnFlags(Player player) {
+        Board board = player.getBoard();
+        for (int i = 0; i < MONSTER_ZONES; i++) {
+            MonsterCard monster = board.getMonster(i);
+            if (monster != null) {
+                history.touchMonster(monster);
+                monster.resetTurnFlags();
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package Game;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Seedable random source of a duel whose whole state is two {@code long}s.
+ * <p>
+ * The generator is xoroshiro128**, seeded through SplitMix64. It extends
+ * {@link Random}, so bots, effects and deck shuffles use it like any random
+ * source, but its state can be read with {@link #getState(int)} and put back
+ * with {@link #setState(long, long)}: {@link SaveGame} writes these two
+ * numbers instead of a serialized object, and a duel loaded from them draws
+ * exactly the same numbers as the saved one.
+ * </p>
+ * <p>
+ * {@link #nextGaussian()} does not keep the second value of each pair, as
+ * {@link Random} does, so no hidden state is left out of the two words.
+ * Like {@link Random}, an instance is not meant to be shared between
+ * threads.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class DuelRandom extends Random {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Number of {@code long}s of the state */
+    public static final int STATE_LONGS = 2;
+
+    // No initializers: the Random constructor calls setSeed before they would run
+    private long s0;
+    private long s1;
+
+    /**
+     * Creates a random source with a random seed.
+     */
+    public DuelRandom() {
+        this(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * Creates a random source from a seed.
+     *
+     * @param seed the seed; two sources with the same seed draw the same numbers
+     */
+    public DuelRandom(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Restarts the sequence from a seed.
+     *
+     * @param seed the seed
+     */
+    @Override
+    public synchronized void setSeed(long seed) {
+        long x = seed;
+        x += 0x9E3779B97F4A7C15L;
+        s0 = mix(x);
+        x += 0x9E3779B97F4A7C15L;
+        s1 = mix(x);
+        if ((s0 | s1) == 0) s1 = 1;
+    }
+
+    /**
+     * Gets one word of the state.
+     *
+     * @param index 0 or 1
+     * @return the word
+     * @throws IndexOutOfBoundsException if the index is not 0 or 1
+     */
+    public long getState(int index) {
+        switch (index) {
+            case 0: return s0;
+            case 1: return s1;
+            default: throw new IndexOutOfBoundsException("State index " + index);
+        }
+    }
+
+    /**
+     * Puts back a state read with {@link #getState(int)}.
+     *
+     * @param state0 the first word
+     * @param state1 the second word
+     * @throws IllegalArgumentException if both words are 0 (not a reachable state)
+     */
+    public void setState(long state0, long state1) {
+        if ((state0 | state1) == 0) {
+            throw new IllegalArgumentException("The state cannot be all zeros");
+        }
+        s0 = state0;
+        s1 = state1;
+    }
+
+    @Override
+    public long nextLong() {
+        long a = s0;
+        long b = s1;
+        long result = Long.rotateLeft(a * 5, 7) * 9;
+        b ^= a;
+        s0 = Long.rotateLeft(a, 24) ^ b ^ (b << 16);
+        s1 = Long.rotateLeft(b, 37);
+        return result;
+    }
+
+    @Override
+    protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override
+    public double nextGaussian() {
+        double v1;
+        double v2;
+        double s;
+        do {
+            v1 = 2 * nextDouble() - 1;
+            v2 = 2 * nextDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+        return v1 * StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+    }
+
+    /**
+     * SplitMix64 finalizer.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
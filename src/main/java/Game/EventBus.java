@@ -0,0 +1,203 @@
+package Game;
+
+import Card.Card;
+
+import java.util.Arrays;
+
+/**
+ * Publish/subscribe bus of the game events of a duel.
+ * <p>
+ * Subscriptions are indexed by event type, player and zone, so publishing an
+ * event only calls the listeners watching it instead of every card on the
+ * field. A listener can watch one player or both ({@link #ANY_PLAYER}) and
+ * one zone or all of them ({@link #ANY_ZONE}); an event is delivered to at
+ * most the four matching slots.
+ * </p>
+ * <p>
+ * <strong>Allocation:</strong> events are packed into a {@code long} (see
+ * {@link GameEvent}) and publishing never allocates. Each slot is a
+ * copy-on-write array: subscribing is the rare, expensive operation, while
+ * publishing only reads the arrays. Listeners may therefore subscribe,
+ * unsubscribe or publish new events from inside {@link GameEventListener#onEvent},
+ * the running dispatch keeps iterating over the array it started with.
+ * </p>
+ * <p>
+ * The bus is not thread-safe: like {@link DuelEngine}, each one belongs to a
+ * single duel running on a single thread.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class EventBus {
+
+    /** Player index of a subscription to the events of both players */
+    public static final int ANY_PLAYER = 2;
+
+    /** Zone of a subscription to the events of every zone (and of events without zone) */
+    public static final int ANY_ZONE = GameEvent.NO_ZONE;
+
+    /** Number of player slots per event type (player 0, player 1, any) */
+    private static final int PLAYER_SLOTS = 3;
+
+    /** Number of zone slots per player (zones 0-4, any) */
+    private static final int ZONE_SLOTS = GameEvent.ZONES + 1;
+
+    /** Shared empty slot */
+    private static final GameEventListener[] EMPTY = new GameEventListener[0];
+
+    /** Listeners of each (type, player, zone) slot, see {@link #slot(int, int, int)} */
+    private final GameEventListener[][] slots;
+
+    /** Total number of subscriptions, used to skip publishing on an empty bus */
+    private int size;
+
+    /**
+     * Creates an empty bus.
+     */
+    public EventBus() {
+        slots = new GameEventListener[GameEvent.TYPE_COUNT * PLAYER_SLOTS * ZONE_SLOTS][];
+        Arrays.fill(slots, EMPTY);
+    }
+
+    /**
+     * Subscribes a listener to an event type.
+     *
+     * @param type the event type (see {@link GameEvent})
+     * @param player the player watched (0, 1 or {@link #ANY_PLAYER})
+     * @param zone the zone watched (0-4 or {@link #ANY_ZONE})
+     * @param listener the listener to call
+     * @return true if the listener was subscribed, false if an argument is invalid
+     */
+    public boolean subscribe(int type, int player, int zone, GameEventListener listener) {
+        if (listener == null || !isValid(type, player, zone)) return false;
+
+        int index = slot(type, player, zone);
+        GameEventListener[] current = slots[index];
+        GameEventListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        slots[index] = updated;
+        size++;
+        return true;
+    }
+
+    /**
+     * Subscribes a listener to an event type for both players and every zone.
+     *
+     * @param type the event type (see {@link GameEvent})
+     * @param listener the listener to call
+     * @return true if the listener was subscribed
+     */
+    public boolean subscribe(int type, GameEventListener listener) {
+        return subscribe(type, ANY_PLAYER, ANY_ZONE, listener);
+    }
+
+    /**
+     * Removes a subscription.
+     * <p>
+     * The arguments must be the ones given to {@link #subscribe}. If the
+     * listener was subscribed several times, one subscription is removed.
+     * </p>
+     *
+     * @param type the event type
+     * @param player the player watched
+     * @param zone the zone watched
+     * @param listener the listener to remove
+     * @return true if a subscription was removed
+     */
+    public boolean unsubscribe(int type, int player, int zone, GameEventListener listener) {
+        if (listener == null || !isValid(type, player, zone)) return false;
+
+        int index = slot(type, player, zone);
+        GameEventListener[] current = slots[index];
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                GameEventListener[] updated = current.length == 1 ? EMPTY : new GameEventListener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                slots[index] = updated;
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Publishes an event to the listeners watching it.
+     *
+     * @param type the event type
+     * @param player the player concerned (0 or 1)
+     * @param zone the zone concerned (0-4), or {@link GameEvent#NO_ZONE}
+     * @param value the value of the event (card ID, damage or phase ordinal)
+     * @param card the card involved, or null
+     */
+    public void publish(int type, int player, int zone, int value, Card card) {
+        if (size == 0) return;
+
+        long event = GameEvent.pack(type, player, zone, value);
+        if (zone != ANY_ZONE) {
+            dispatch(slots[slot(type, player, zone)], event, card);
+            dispatch(slots[slot(type, ANY_PLAYER, zone)], event, card);
+        }
+        dispatch(slots[slot(type, player, ANY_ZONE)], event, card);
+        dispatch(slots[slot(type, ANY_PLAYER, ANY_ZONE)], event, card);
+    }
+
+    /**
+     * Gets the number of subscriptions.
+     *
+     * @return the number of subscribed listeners
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every subscription.
+     */
+    public void clear() {
+        Arrays.fill(slots, EMPTY);
+        size = 0;
+    }
+
+    /**
+     * Calls the listeners of a slot.
+     *
+     * @param listeners the listeners (snapshot of the slot)
+     * @param event the packed event
+     * @param card the card involved
+     */
+    private static void dispatch(GameEventListener[] listeners, long event, Card card) {
+        for (GameEventListener listener : listeners) {
+            listener.onEvent(event, card);
+        }
+    }
+
+    /**
+     * Checks the arguments of a subscription.
+     *
+     * @param type the event type
+     * @param player the player watched
+     * @param zone the zone watched
+     * @return true if every argument is in range
+     */
+    private static boolean isValid(int type, int player, int zone) {
+        return type >= 0 && type < GameEvent.TYPE_COUNT
+                && player >= 0 && player < PLAYER_SLOTS
+                && zone >= 0 && zone < ZONE_SLOTS;
+    }
+
+    /**
+     * Computes the index of a slot.
+     *
+     * @param type the event type
+     * @param player the player index (0, 1 or {@link #ANY_PLAYER})
+     * @param zone the zone (0-4 or {@link #ANY_ZONE})
+     * @return the index in {@link #slots}
+     */
+    private static int slot(int type, int player, int zone) {
+        return (type * PLAYER_SLOTS + player) * ZONE_SLOTS + zone;
+    }
+}
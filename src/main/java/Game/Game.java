@@ -2,6 +2,7 @@ package Game;
 
 import Deck.Deck;
 import Player.Player;
+import util.GameLog;
 
 /**
  * Represents a Yu-Gi-Oh! duel between two players.
@@ -94,7 +95,7 @@ public class Game {
      * </p>
      */
     public void startGame() {
-        System.out.println("La partie commence entre " + player1.getName() + " et " + player2.getName());
+        GameLog.println("La partie commence entre " + player1.getName() + " et " + player2.getName());
         player1.setDeck(new Deck(/* paramètres */));
         player2.setDeck(new Deck(/* paramètres */));
         currentPlayer = player1;
@@ -126,7 +127,7 @@ public class Game {
      */
     public void nextPhase() {
         currentPhase = currentPhase.next(); // nécessite enum Phase avec méthode next()
-        System.out.println("Phase suivante: " + currentPhase);
+        GameLog.println("Phase suivante: " + currentPhase);
     }
 
     /**
@@ -147,7 +148,7 @@ public class Game {
         resetPhase();
         switchPlayer();
         incrementTurn();
-        System.out.println("Fin du tour. C'est maintenant au tour de " + currentPlayer.getName());
+        GameLog.println("Fin du tour. C'est maintenant au tour de " + currentPlayer.getName());
     }
 
     /**
@@ -247,7 +248,7 @@ public class Game {
      */
     public void setPhase(Phase phase) {
         this.currentPhase = phase;
-        System.out.println("Phase définie : " + currentPhase.getLabel());
+        GameLog.println("Phase définie : " + currentPhase.getLabel());
     }
 
     /**
@@ -279,7 +280,7 @@ public class Game {
      */
     public void endGame(Player winner) {
         isGameOver = true;
-        System.out.println("La partie est terminée ! Le vainqueur est " + winner.getName());
+        GameLog.println("La partie est terminée ! Le vainqueur est " + winner.getName());
     }
 
     /**
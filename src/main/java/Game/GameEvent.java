@@ -0,0 +1,157 @@
+package Game;
+
+/**
+ * Primitive-packed game events published on the {@link EventBus}.
+ * <p>
+ * An event is a single {@code long}: publishing one does not allocate, and
+ * listeners can store or compare events freely. The card involved (if any)
+ * is passed next to the event by {@link GameEventListener#onEvent(long, Card.Card)}.
+ * </p>
+ * <p>
+ * <strong>Event types:</strong>
+ * <ul>
+ * <li>{@link #MONSTER_SUMMONED}: a monster was placed on the field, value = card ID</li>
+ * <li>{@link #CARD_SENT_TO_GRAVEYARD}: a card went to its owner's Graveyard, value = card ID</li>
+ * <li>{@link #BATTLE_DAMAGE}: a player took battle damage, value = amount</li>
+ * <li>{@link #PHASE_CHANGED}: the active player entered a phase, value = {@link Phase#ordinal()}</li>
+ * <li>{@link #CARD_DRAWN}: a card went from a player's Deck to their hand, value = card ID</li>
+ * <li>{@link #CARD_SET}: a spell or trap was Set from the hand, value = card ID</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <strong>Packed event layout:</strong>
+ * <pre>
+ * bits  0..7   : event type
+ * bits  8..9   : player index (0 or 1)
+ * bits 12..15  : zone (0-4, or {@link #NO_ZONE})
+ * bits 32..63  : value
+ * </pre>
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class GameEvent {
+
+    /** Event type: a monster was Normal or Special Summoned */
+    public static final int MONSTER_SUMMONED = 0;
+
+    /** Event type: a card was sent to the Graveyard (destroyed, tributed or resolved) */
+    public static final int CARD_SENT_TO_GRAVEYARD = 1;
+
+    /** Event type: a player took battle damage */
+    public static final int BATTLE_DAMAGE = 2;
+
+    /** Event type: the duel entered a new phase */
+    public static final int PHASE_CHANGED = 3;
+
+    /** Event type: a card was drawn (or added to the hand from the Deck) */
+    public static final int CARD_DRAWN = 4;
+
+    /** Event type: a spell or trap was Set face-down in a spell/trap zone */
+    public static final int CARD_SET = 5;
+
+    /** Number of event types */
+    public static final int TYPE_COUNT = 6;
+
+    /** Number of zones an event can refer to */
+    public static final int ZONES = 5;
+
+    /** Zone of an event not tied to a field zone (card from hand, damage, phase) */
+    public static final int NO_ZONE = ZONES;
+
+    /** Bit offset of the player index */
+    private static final int PLAYER_SHIFT = 8;
+
+    /** Bit offset of the zone */
+    private static final int ZONE_SHIFT = 12;
+
+    /** Bit offset of the value */
+    private static final int VALUE_SHIFT = 32;
+
+    /**
+     * Private constructor: this class only exposes static helpers.
+     */
+    private GameEvent() {
+    }
+
+    /**
+     * Packs an event into a long.
+     *
+     * @param type the event type
+     * @param player the index of the player concerned (0 or 1)
+     * @param zone the zone concerned (0-4), or {@link #NO_ZONE}
+     * @param value the value of the event (card ID, damage or phase)
+     * @return the packed event
+     */
+    public static long pack(int type, int player, int zone, int value) {
+        return (type & 0xFFL)
+                | ((long) (player & 0x3) << PLAYER_SHIFT)
+                | ((long) (zone & 0xF) << ZONE_SHIFT)
+                | ((long) value << VALUE_SHIFT);
+    }
+
+    /**
+     * Gets the type of a packed event.
+     *
+     * @param event the packed event
+     * @return one of the event type constants
+     */
+    public static int type(long event) {
+        return (int) (event & 0xFF);
+    }
+
+    /**
+     * Gets the player concerned by a packed event.
+     *
+     * @param event the packed event
+     * @return 0 or 1
+     */
+    public static int player(long event) {
+        return (int) ((event >>> PLAYER_SHIFT) & 0x3);
+    }
+
+    /**
+     * Gets the zone concerned by a packed event.
+     *
+     * @param event the packed event
+     * @return the zone (0-4), or {@link #NO_ZONE}
+     */
+    public static int zone(long event) {
+        return (int) ((event >>> ZONE_SHIFT) & 0xF);
+    }
+
+    /**
+     * Gets the value of a packed event.
+     *
+     * @param event the packed event
+     * @return the card ID, damage amount or phase ordinal
+     */
+    public static int value(long event) {
+        return (int) (event >> VALUE_SHIFT);
+    }
+
+    /**
+     * Formats a packed event for logs.
+     *
+     * @param event the packed event
+     * @return a readable description of the event
+     */
+    public static String toString(long event) {
+        String name;
+        switch (type(event)) {
+            case MONSTER_SUMMONED:       name = "MonsterSummoned"; break;
+            case CARD_SENT_TO_GRAVEYARD: name = "CardSentToGraveyard"; break;
+            case BATTLE_DAMAGE:          name = "BattleDamage"; break;
+            case PHASE_CHANGED:          name = "PhaseChanged"; break;
+            case CARD_DRAWN:             name = "CardDrawn"; break;
+            case CARD_SET:               name = "CardSet"; break;
+            default:                     name = "Unknown"; break;
+        }
+        int zone = zone(event);
+        return name + "[player=" + player(event)
+                + (zone == NO_ZONE ? "" : ", zone=" + zone)
+                + ", value=" + value(event) + "]";
+    }
+}
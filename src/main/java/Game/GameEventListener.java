@@ -0,0 +1,26 @@
+package Game;
+
+import Card.Card;
+
+/**
+ * Listener of the events published on an {@link EventBus}.
+ * <p>
+ * Trigger effects and continuous cards implement this interface and
+ * subscribe to the event types and zones they watch.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+@FunctionalInterface
+public interface GameEventListener {
+
+    /**
+     * Called when a matching event is published.
+     *
+     * @param event the packed event, decoded with {@link GameEvent}
+     * @param card the card involved, or null for damage and phase events
+     */
+    void onEvent(long event, Card card);
+}
@@ -0,0 +1,124 @@
+package Game;
+
+import java.util.Arrays;
+
+/**
+ * Reusable buffer of packed {@link Moves}.
+ * <p>
+ * {@link DuelEngine#generateMoves(MoveList)} clears the buffer and fills it
+ * with every legal move. The array only grows, so a search or a bot that
+ * keeps one list per depth generates moves without allocating once the
+ * buffers have reached their size.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class MoveList {
+
+    /** Packed moves, in slots 0 to {@link #size} - 1 */
+    private int[] moves;
+
+    /** Number of moves in the list */
+    private int size;
+
+    /**
+     * Creates an empty list with room for 64 moves.
+     */
+    public MoveList() {
+        this(64);
+    }
+
+    /**
+     * Creates an empty list.
+     *
+     * @param capacity the initial number of moves the list can hold
+     */
+    public MoveList(int capacity) {
+        this.moves = new int[Math.max(1, capacity)];
+    }
+
+    /**
+     * Removes all the moves (the buffer is kept).
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Adds a move at the end of the list.
+     *
+     * @param move the packed move
+     */
+    public void add(int move) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        }
+        moves[size++] = move;
+    }
+
+    /**
+     * Gets a move.
+     *
+     * @param index the index of the move (0 to {@link #size()} - 1)
+     * @return the packed move
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+        }
+        return moves[index];
+    }
+
+    /**
+     * Gets the number of moves.
+     *
+     * @return the number of moves in the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if there is no move
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Checks if the list holds a move.
+     *
+     * @param move the packed move
+     * @return true if the move is in the list
+     */
+    public boolean contains(int move) {
+        for (int i = 0; i < size; i++) {
+            if (moves[i] == move) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the list holds a move of a given kind from a given source,
+     * whatever its target or tributes.
+     * <p>
+     * Used to enable an action button: for example
+     * {@code hasMove(Moves.NORMAL_SUMMON, handIndex)}.
+     * </p>
+     *
+     * @param kind the kind of move
+     * @param source the hand index or zone of the card
+     * @return true if such a move is in the list
+     */
+    public boolean hasMove(int kind, int source) {
+        for (int i = 0; i < size; i++) {
+            if (Moves.kind(moves[i]) == kind && Moves.source(moves[i]) == source) return true;
+        }
+        return false;
+    }
+}
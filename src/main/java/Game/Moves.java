@@ -0,0 +1,191 @@
+package Game;
+
+/**
+ * Primitive encoding of the actions of a duel as {@code int} moves.
+ * <p>
+ * The moves are produced by {@link DuelEngine#generateMoves(MoveList)} and
+ * played by {@link DuelEngine#play(int)}. Like the outcomes of
+ * {@link BattleResolver}, a move is a plain number: it can be stored in an
+ * array, compared and decoded with the static accessors of this class,
+ * without allocating any object.
+ * </p>
+ * <p>
+ * <strong>Packed move layout:</strong>
+ * <pre>
+ * bits  0..3   : kind ({@link #NORMAL_SUMMON}, {@link #ATTACK}, ...)
+ * bits  4..11  : source, the hand index of the card or the zone of the monster/card
+ * bits 12..15  : target zone of an attack, or first tribute zone ({@link #NONE} if unused)
+ * bits 16..19  : second tribute zone ({@link #NONE} if unused)
+ * </pre>
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class Moves {
+
+    /** Kind: Normal Summon of the monster at hand index source, in Attack Position */
+    public static final int NORMAL_SUMMON = 1;
+
+    /** Kind: Set of the monster at hand index source, face-down in Defense Position */
+    public static final int SET_MONSTER = 2;
+
+    /** Kind: change of the battle position of the monster in zone source */
+    public static final int CHANGE_POSITION = 3;
+
+    /** Kind: Set of the spell or trap at hand index source */
+    public static final int SET_SPELL_TRAP = 4;
+
+    /** Kind: activation of the spell at hand index source */
+    public static final int ACTIVATE = 5;
+
+    /** Kind: activation of the card Set in spell/trap zone source */
+    public static final int ACTIVATE_SET = 6;
+
+    /** Kind: attack of the monster in zone source on the opponent's monster in the target zone */
+    public static final int ATTACK = 7;
+
+    /** Kind: direct attack of the monster in zone source */
+    public static final int DIRECT_ATTACK = 8;
+
+    /** Zone value of an unused zone field */
+    public static final int NONE = 0xF;
+
+    /** Mask of the kind field */
+    private static final int KIND_MASK = 0xF;
+
+    /** Bit offset of the source field */
+    private static final int SOURCE_SHIFT = 4;
+
+    /** Mask of the source field */
+    private static final int SOURCE_MASK = 0xFF;
+
+    /** Bit offset of the target (or first tribute) field */
+    private static final int TARGET_SHIFT = 12;
+
+    /** Bit offset of the second tribute field */
+    private static final int SECOND_SHIFT = 16;
+
+    /** Mask of a zone field */
+    private static final int ZONE_MASK = 0xF;
+
+    /**
+     * Private constructor: this class only exposes static helpers.
+     */
+    private Moves() {
+    }
+
+    /**
+     * Packs a move.
+     *
+     * @param kind the kind of move
+     * @param source the hand index or zone of the card played (0-255)
+     * @param target the target zone or first tribute zone, or {@link #NONE}
+     * @param second the second tribute zone, or {@link #NONE}
+     * @return the packed move
+     */
+    public static int of(int kind, int source, int target, int second) {
+        return kind
+                | (source & SOURCE_MASK) << SOURCE_SHIFT
+                | (target & ZONE_MASK) << TARGET_SHIFT
+                | (second & ZONE_MASK) << SECOND_SHIFT;
+    }
+
+    /**
+     * Packs a move with no target.
+     *
+     * @param kind the kind of move
+     * @param source the hand index or zone of the card played (0-255)
+     * @return the packed move
+     */
+    public static int of(int kind, int source) {
+        return of(kind, source, NONE, NONE);
+    }
+
+    /**
+     * Gets the kind of a move.
+     *
+     * @param move the packed move
+     * @return the kind ({@link #NORMAL_SUMMON}, {@link #ATTACK}, ...)
+     */
+    public static int kind(int move) {
+        return move & KIND_MASK;
+    }
+
+    /**
+     * Gets the source of a move.
+     *
+     * @param move the packed move
+     * @return the hand index of the card, or the zone of the monster or Set card
+     */
+    public static int source(int move) {
+        return move >>> SOURCE_SHIFT & SOURCE_MASK;
+    }
+
+    /**
+     * Gets the target zone of an attack, or the first tribute zone of a summon.
+     *
+     * @param move the packed move
+     * @return the zone (0-4), or {@link #NONE}
+     */
+    public static int target(int move) {
+        return move >>> TARGET_SHIFT & ZONE_MASK;
+    }
+
+    /**
+     * Gets the second tribute zone of a summon.
+     *
+     * @param move the packed move
+     * @return the zone (0-4), or {@link #NONE}
+     */
+    public static int second(int move) {
+        return move >>> SECOND_SHIFT & ZONE_MASK;
+    }
+
+    /**
+     * Gets the number of tributes of a summon or Set.
+     *
+     * @param move the packed move
+     * @return 0, 1 or 2
+     */
+    public static int tributeCount(int move) {
+        if (target(move) == NONE) return 0;
+        return second(move) == NONE ? 1 : 2;
+    }
+
+    /**
+     * Checks if a move is played from the hand.
+     *
+     * @param move the packed move
+     * @return true if the source of the move is a hand index
+     */
+    public static boolean isFromHand(int move) {
+        int kind = kind(move);
+        return kind == NORMAL_SUMMON || kind == SET_MONSTER || kind == SET_SPELL_TRAP || kind == ACTIVATE;
+    }
+
+    /**
+     * Describes a move, for logs.
+     *
+     * @param move the packed move
+     * @return a short readable description
+     */
+    public static String toString(int move) {
+        String text;
+        switch (kind(move)) {
+            case NORMAL_SUMMON: text = "Summon hand " + source(move); break;
+            case SET_MONSTER: text = "Set monster hand " + source(move); break;
+            case CHANGE_POSITION: return "Change position zone " + source(move);
+            case SET_SPELL_TRAP: return "Set spell/trap hand " + source(move);
+            case ACTIVATE: return "Activate hand " + source(move);
+            case ACTIVATE_SET: return "Activate set zone " + source(move);
+            case ATTACK: return "Attack zone " + source(move) + " -> zone " + target(move);
+            case DIRECT_ATTACK: return "Direct attack zone " + source(move);
+            default: return "Unknown move " + move;
+        }
+        if (target(move) != NONE) text += " tributing zone " + target(move);
+        if (second(move) != NONE) text += " and " + second(move);
+        return text;
+    }
+}
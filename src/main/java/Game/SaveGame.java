@@ -0,0 +1,548 @@
+package Game;
+
+import Board.Board;
+import Card.Card;
+import Card.EffectRegistry;
+import Card.MonsterCard;
+import Card.Position;
+import Card.SpellCard;
+import Card.TrapCard;
+import Deck.Deck;
+import Deck.ExtraDeck;
+import Player.Player;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Compact, versioned binary save of an in-progress {@link DuelEngine} duel.
+ * <p>
+ * The save holds the full duel state: turn, phase, result and turn limit,
+ * the random source, and for each player the name, LP, Normal Summon flag,
+ * Deck (in order), Extra Deck, Hand, Graveyard, Banished Zone, monster and
+ * spell/trap zones and field zone. A duel loaded with {@link #read(ByteBuffer)}
+ * plays exactly like the saved one from that point on.
+ * </p>
+ * <p>
+ * <strong>Format</strong> (big-endian, written through a {@link ByteBuffer}):
+ * <pre>
+ * int    magic "YGOS", short version
+ * int    turn limit, byte active, int turn, byte phase, byte result
+ * long   random state word 0, long random state word 1 ({@link DuelRandom})
+ * short  card definitions, then each definition (kind, ID, texts, stats)
+ * 2 x player:
+ *   string name, int LP, byte Normal Summoned
+ *   deck, extra deck, hand, Graveyard, banished: short count + cards
+ *   5 monster zones, 5 spell/trap zones, field zone: one card or -1
+ * </pre>
+ * A card is written as a short index in the definition table (cards with
+ * the same ID and name share their definition) and a byte of state: battle
+ * position, face-down, turn flags and owner. Effects are not written, they
+ * are found again in the {@link EffectRegistry} when the duel is loaded.
+ * </p>
+ * <p>
+ * Event subscriptions and the undo history belong to the running engine and
+ * are not saved.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class SaveGame {
+
+    /** Magic number at the start of every save ("YGOS") */
+    private static final int MAGIC = 0x59474F53;
+
+    /** Version of the save format */
+    public static final short VERSION = 2;
+
+    /** Kind of a card definition: monster */
+    private static final byte MONSTER = 0;
+
+    /** Kind of a card definition: spell */
+    private static final byte SPELL = 1;
+
+    /** Kind of a card definition: trap */
+    private static final byte TRAP = 2;
+
+    /** Index written for an empty zone */
+    private static final short EMPTY = -1;
+
+    /**
+     * Private constructor: this class only exposes static helpers.
+     */
+    private SaveGame() {
+    }
+
+    // --- Files ---
+
+    /**
+     * Saves a duel to a file.
+     * <p>
+     * The file is written through a temporary file and moved in place, so
+     * an interrupted save never leaves a truncated file behind.
+     * </p>
+     *
+     * @param engine the duel to save
+     * @param file the save file
+     * @throws IOException if the file cannot be written
+     */
+    public static void save(DuelEngine engine, Path file) throws IOException {
+        ByteBuffer buffer = write(engine);
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Loads a duel from a file.
+     *
+     * @param file the save file
+     * @return the resumed duel
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file is not a valid save
+     */
+    public static DuelEngine load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read the whole file
+            }
+            buffer.flip();
+            return read(buffer);
+        }
+    }
+
+    // --- Buffers ---
+
+    /**
+     * Encodes a duel.
+     *
+     * @param engine the duel to encode
+     * @return a buffer ready to be read, holding the save
+     */
+    public static ByteBuffer write(DuelEngine engine) {
+        Map<String, Short> indices = new HashMap<>();
+        List<Card> definitions = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            forEachCard(engine.getPlayer(i), card -> {
+                String key = card.getCardId() + ":" + card.getName();
+                if (!indices.containsKey(key)) {
+                    indices.put(key, (short) definitions.size());
+                    definitions.add(card);
+                }
+            });
+        }
+
+        DuelRandom random = engine.getRandom();
+        ByteBuffer buffer = ByteBuffer.allocate(4096);
+        buffer = ensure(buffer, 17 + 8 * DuelRandom.STATE_LONGS);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putInt(engine.getTurnLimit());
+        buffer.put((byte) engine.getActiveIndex());
+        buffer.putInt(engine.getTurn());
+        buffer.put((byte) engine.getPhase().ordinal());
+        buffer.put((byte) engine.getResult());
+        for (int i = 0; i < DuelRandom.STATE_LONGS; i++) {
+            buffer.putLong(random.getState(i));
+        }
+
+        buffer.putShort((short) definitions.size());
+        for (Card card : definitions) {
+            buffer = writeDefinition(buffer, card);
+        }
+
+        for (int i = 0; i < 2; i++) {
+            Player player = engine.getPlayer(i);
+            Board board = player.getBoard();
+            buffer = putString(buffer, player.getName());
+            buffer = ensure(buffer, 5);
+            buffer.putInt(player.getLifePoints());
+            buffer.put((byte) (player.hasNormalSummoned() ? 1 : 0));
+
+            buffer = writePile(buffer, player.getDeck().getCards(), engine, indices);
+            buffer = writePile(buffer, player.getExtraDeck().getAllCards(), engine, indices);
+            buffer = writePile(buffer, player.getHand().getAllCards(), engine, indices);
+            buffer = writePile(buffer, board.getGraveyard().getAllCards(), engine, indices);
+            buffer = writePile(buffer, board.getBanished().getAllCards(), engine, indices);
+
+            buffer = ensure(buffer, 3 * 11);
+            for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+                writeCard(buffer, board.getMonster(zone), engine, indices);
+            }
+            for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+                writeCard(buffer, board.getSpellTrap(zone), engine, indices);
+            }
+            writeCard(buffer, board.getFieldSpell(), engine, indices);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Decodes a duel.
+     * <p>
+     * The players and cards are new objects; the engine resumes at the saved
+     * turn and phase with the saved random source.
+     * </p>
+     *
+     * @param buffer the save, positioned at its start
+     * @return the resumed duel
+     * @throws IllegalArgumentException if the buffer does not hold a valid save
+     */
+    public static DuelEngine read(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not a duel save");
+            }
+            short version = buffer.getShort();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported save version: " + version);
+            }
+            int turnLimit = buffer.getInt();
+            int active = buffer.get();
+            int turn = buffer.getInt();
+            Phase phase = Phase.values()[buffer.get()];
+            int result = buffer.get();
+            DuelRandom random = new DuelRandom(0);
+            random.setState(buffer.getLong(), buffer.getLong());
+
+            Card[] definitions = new Card[buffer.getShort()];
+            for (int i = 0; i < definitions.length; i++) {
+                definitions[i] = readDefinition(buffer);
+            }
+
+            // Owners are resolved once both players exist
+            Player[] players = new Player[2];
+            List<Card> owned = new ArrayList<>();
+            List<Integer> owners = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                String name = getString(buffer);
+                int lifePoints = buffer.getInt();
+                boolean normalSummoned = buffer.get() != 0;
+
+                List<Card> deck = readPile(buffer, definitions, owned, owners);
+                List<Card> extra = readPile(buffer, definitions, owned, owners);
+                Player player = new Player(name, lifePoints, new Deck(deck), new ExtraDeck(extra));
+                player.setNormalSummoned(normalSummoned);
+                player.getHand().addCards(readPile(buffer, definitions, owned, owners));
+
+                Board board = player.getBoard();
+                board.getGraveyard().addCards(readPile(buffer, definitions, owned, owners));
+                board.getBanished().addCards(readPile(buffer, definitions, owned, owners));
+                for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+                    board.restoreMonster(zone, (MonsterCard) readCard(buffer, definitions, owned, owners));
+                }
+                for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+                    board.restoreSpellTrap(zone, readCard(buffer, definitions, owned, owners));
+                }
+                board.setFieldSpell(readCard(buffer, definitions, owned, owners));
+                players[i] = player;
+            }
+            for (int i = 0; i < owned.size(); i++) {
+                int owner = owners.get(i);
+                owned.get(i).setOwner(owner < 0 ? null : players[owner]);
+            }
+
+            DuelEngine engine = new DuelEngine(players[0], players[1], turnLimit, random);
+            engine.restoreState(active, turn, phase, result);
+            return engine;
+        } catch (BufferUnderflowException | ClassCastException | IndexOutOfBoundsException
+                 | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("Corrupted duel save", e);
+        }
+    }
+
+    // --- Cards ---
+
+    /**
+     * Writes the definition of a card (everything but its state).
+     *
+     * @param buffer the output buffer
+     * @param card the card
+     * @return the buffer (a larger one if it had to grow)
+     */
+    private static ByteBuffer writeDefinition(ByteBuffer buffer, Card card) {
+        buffer = ensure(buffer, 5);
+        if (card instanceof MonsterCard) {
+            MonsterCard monster = (MonsterCard) card;
+            buffer.put(MONSTER);
+            buffer.putInt(card.getCardId());
+            buffer = putString(buffer, card.getName());
+            buffer = putString(buffer, card.getDescription());
+            buffer = putString(buffer, monster.getImageUrl());
+            buffer = ensure(buffer, 12);
+            buffer.putInt(monster.getAtk());
+            buffer.putInt(monster.getDef());
+            buffer.putInt(monster.getLevel());
+            buffer = putString(buffer, monster.getAttribute());
+            buffer = putString(buffer, monster.getType());
+            buffer = putString(buffer, monster.getSubType());
+            buffer = putString(buffer, monster.getMonsterType());
+        } else if (card instanceof SpellCard) {
+            SpellCard spell = (SpellCard) card;
+            buffer.put(SPELL);
+            buffer.putInt(card.getCardId());
+            buffer = putString(buffer, card.getName());
+            buffer = putString(buffer, card.getDescription());
+            buffer = putString(buffer, spell.getImageUrl());
+            buffer = putString(buffer, spell.getSpellType());
+            buffer = ensure(buffer, 1);
+            buffer.put((byte) (spell.isContinuous() ? 1 : 0));
+        } else {
+            TrapCard trap = (TrapCard) card;
+            buffer.put(TRAP);
+            buffer.putInt(card.getCardId());
+            buffer = putString(buffer, card.getName());
+            buffer = putString(buffer, card.getDescription());
+            buffer = putString(buffer, trap.getImageUrl());
+            buffer = putString(buffer, trap.getTrapType());
+            buffer = ensure(buffer, 1);
+            buffer.put((byte) (trap.isContinuous() ? 1 : 0));
+        }
+        return buffer;
+    }
+
+    /**
+     * Reads the definition of a card and builds a template card from it.
+     *
+     * @param buffer the input buffer
+     * @return a card with this definition and no state
+     */
+    private static Card readDefinition(ByteBuffer buffer) {
+        byte kind = buffer.get();
+        int cardId = buffer.getInt();
+        String name = getString(buffer);
+        String description = getString(buffer);
+        String imageUrl = getString(buffer);
+        switch (kind) {
+            case MONSTER: {
+                int atk = buffer.getInt();
+                int def = buffer.getInt();
+                int level = buffer.getInt();
+                return new MonsterCard(name, description, cardId, null, atk, def, level,
+                        getString(buffer), getString(buffer), getString(buffer), getString(buffer), imageUrl);
+            }
+            case SPELL: {
+                String spellType = getString(buffer);
+                return new SpellCard(name, description, cardId, null, spellType,
+                        EffectRegistry.get(cardId), buffer.get() != 0, imageUrl);
+            }
+            case TRAP: {
+                String trapType = getString(buffer);
+                return new TrapCard(name, description, cardId, null, trapType,
+                        EffectRegistry.get(cardId), buffer.get() != 0, imageUrl);
+            }
+            default:
+                throw new IllegalArgumentException("Unknown card kind: " + kind);
+        }
+    }
+
+    /**
+     * Writes a card reference: definition index and state byte.
+     * <p>
+     * State bits: 0-1 position + 1 (monsters), 2 face-down, 3 attacked,
+     * 4 changed position, 5-6 owner + 1.
+     * </p>
+     *
+     * @param buffer the output buffer, with 3 bytes free
+     * @param card the card, or null for an empty zone
+     * @param engine the saved duel (to find the owner's index)
+     * @param indices the definition index of each card key
+     */
+    private static void writeCard(ByteBuffer buffer, Card card, DuelEngine engine, Map<String, Short> indices) {
+        if (card == null) {
+            buffer.putShort(EMPTY);
+            buffer.put((byte) 0);
+            return;
+        }
+        int state = card.isFaceDown() ? 0x4 : 0;
+        if (card instanceof MonsterCard) {
+            MonsterCard monster = (MonsterCard) card;
+            Position pos = monster.getPosition();
+            state |= (pos == null ? 0 : pos.ordinal() + 1)
+                    | (monster.hasAttackedThisTurn() ? 0x8 : 0)
+                    | (monster.hasChangedPositionThisTurn() ? 0x10 : 0);
+        }
+        int owner = card.getOwner() == engine.getPlayer(0) ? 1 : card.getOwner() == engine.getPlayer(1) ? 2 : 0;
+        state |= owner << 5;
+        buffer.putShort(indices.get(card.getCardId() + ":" + card.getName()));
+        buffer.put((byte) state);
+    }
+
+    /**
+     * Reads a card reference and builds a new card with its state.
+     *
+     * @param buffer the input buffer
+     * @param definitions the definition table
+     * @param owned the cards read so far, whose owner is set at the end
+     * @param owners the owner index of each card of {@code owned} (-1 for none)
+     * @return the card, or null for an empty zone
+     */
+    private static Card readCard(ByteBuffer buffer, Card[] definitions, List<Card> owned, List<Integer> owners) {
+        short index = buffer.getShort();
+        int state = buffer.get() & 0xFF;
+        if (index == EMPTY) return null;
+
+        Card template = definitions[index];
+        Card card;
+        if (template instanceof MonsterCard) {
+            MonsterCard t = (MonsterCard) template;
+            MonsterCard monster = new MonsterCard(t.getName(), t.getDescription(), t.getCardId(), null,
+                    t.getAtk(), t.getDef(), t.getLevel(), t.getAttribute(), t.getType(),
+                    t.getSubType(), t.getMonsterType(), t.getImageUrl());
+            int ordinal = (state & 0x3) - 1;
+            monster.restoreState(ordinal < 0 ? null : Position.values()[ordinal],
+                                 (state & 0x8) != 0, (state & 0x10) != 0);
+            card = monster;
+        } else if (template instanceof SpellCard) {
+            SpellCard t = (SpellCard) template;
+            card = new SpellCard(t.getName(), t.getDescription(), t.getCardId(), null,
+                    t.getSpellType(), t.getEffect(), t.isContinuous(), t.getImageUrl());
+        } else {
+            TrapCard t = (TrapCard) template;
+            card = new TrapCard(t.getName(), t.getDescription(), t.getCardId(), null,
+                    t.getTrapType(), t.getEffect(), t.isContinuous(), t.getImageUrl());
+        }
+        card.setFaceDown((state & 0x4) != 0);
+        owned.add(card);
+        owners.add(((state >>> 5) & 0x3) - 1);
+        return card;
+    }
+
+    /**
+     * Writes a pile of cards, in order.
+     *
+     * @param buffer the output buffer
+     * @param cards the cards of the pile
+     * @param engine the saved duel
+     * @param indices the definition index of each card key
+     * @return the buffer (a larger one if it had to grow)
+     */
+    private static ByteBuffer writePile(ByteBuffer buffer, List<Card> cards, DuelEngine engine,
+                                        Map<String, Short> indices) {
+        buffer = ensure(buffer, 2 + 3 * cards.size());
+        buffer.putShort((short) cards.size());
+        for (Card card : cards) {
+            writeCard(buffer, card, engine, indices);
+        }
+        return buffer;
+    }
+
+    /**
+     * Reads a pile of cards, in order.
+     *
+     * @param buffer the input buffer
+     * @param definitions the definition table
+     * @param owned the cards read so far
+     * @param owners the owner index of each card of {@code owned}
+     * @return the new cards of the pile
+     */
+    private static List<Card> readPile(ByteBuffer buffer, Card[] definitions, List<Card> owned, List<Integer> owners) {
+        int count = buffer.getShort();
+        List<Card> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(readCard(buffer, definitions, owned, owners));
+        }
+        return cards;
+    }
+
+    /**
+     * Calls an action on every card of a player, in every zone.
+     *
+     * @param player the player
+     * @param action the action to call
+     */
+    private static void forEachCard(Player player, Consumer<Card> action) {
+        Board board = player.getBoard();
+        player.getDeck().getCards().forEach(action);
+        player.getExtraDeck().getAllCards().forEach(action);
+        player.getHand().getAllCards().forEach(action);
+        board.getGraveyard().getAllCards().forEach(action);
+        board.getBanished().getAllCards().forEach(action);
+        for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+            if (board.getMonster(zone) != null) action.accept(board.getMonster(zone));
+            if (board.getSpellTrap(zone) != null) action.accept(board.getSpellTrap(zone));
+        }
+        if (board.getFieldSpell() != null) action.accept(board.getFieldSpell());
+    }
+
+    // --- Primitives ---
+
+    /**
+     * Makes sure a buffer has room for more bytes, growing it if needed.
+     *
+     * @param buffer the buffer being written
+     * @param needed the number of bytes about to be written
+     * @return the buffer, or a larger copy of it
+     */
+    private static ByteBuffer ensure(ByteBuffer buffer, int needed) {
+        if (buffer.remaining() >= needed) return buffer;
+        int capacity = Math.max(buffer.capacity() * 2, buffer.position() + needed);
+        ByteBuffer larger = ByteBuffer.allocate(capacity);
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+
+    /**
+     * Writes a string as a short length and UTF-8 bytes (length -1 for null).
+     *
+     * @param buffer the output buffer
+     * @param value the string, or null
+     * @return the buffer (a larger one if it had to grow)
+     */
+    private static ByteBuffer putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer = ensure(buffer, 2);
+            buffer.putShort((short) -1);
+            return buffer;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer = ensure(buffer, 2 + bytes.length);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+        return buffer;
+    }
+
+    /**
+     * Reads a string written by {@link #putString(ByteBuffer, String)}.
+     *
+     * @param buffer the input buffer
+     * @return the string, or null
+     */
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getShort();
+        if (length < 0) return null;
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,177 @@
+package Game;
+
+import Board.Board;
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import Player.Player;
+
+import java.util.List;
+
+/**
+ * Incremental 64-bit hash of the state of a duel.
+ * <p>
+ * The state is split into components: the piles (deck, hand, Graveyard),
+ * the field and the counters (Life Points, Normal Summon flag) of each
+ * player, plus the turn state of the engine. The hash is the XOR of the
+ * component hashes. {@link UndoLog}, through which every change goes, marks
+ * the components it changes as dirty, and only those are hashed again: a
+ * command usually touches one or two components out of seven.
+ * </p>
+ * <p>
+ * Two engines in the same state always have the same hash, so peers stepping
+ * the same duel can compare hashes after each command to detect a
+ * divergence. Piles are hashed in order (the deck order matters), the field
+ * with the position and turn flags of the monsters.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+final class StateHash {
+
+    /** Component: deck, hand and Graveyard of player 0 (shifted by the player index) */
+    static final int PILES = 0x1;
+
+    /** Component: field of player 0 (shifted by the player index) */
+    static final int FIELD = 0x4;
+
+    /** Component: Life Points and Normal Summon flag of player 0 (shifted by the player index) */
+    static final int COUNTERS = 0x10;
+
+    /** Component: active player, turn, phase and result */
+    static final int ENGINE = 0x40;
+
+    /** Every component */
+    static final int ALL = 0x7F;
+
+    /** Number of components */
+    private static final int COMPONENTS = 7;
+
+    /** Engine of the hashed duel */
+    private final DuelEngine engine;
+
+    /** Hash of each component */
+    private final long[] components = new long[COMPONENTS];
+
+    /** Components changed since the last hash */
+    private int dirty = ALL;
+
+    /** XOR of the component hashes */
+    private long hash;
+
+    /**
+     * Creates the hash of a duel; every component starts dirty.
+     *
+     * @param engine the engine of the duel
+     */
+    StateHash(DuelEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Marks components as changed.
+     *
+     * @param mask the changed components
+     */
+    void invalidate(int mask) {
+        dirty |= mask;
+    }
+
+    /**
+     * Gets the hash of the current state, hashing the changed components again.
+     *
+     * @return the 64-bit state hash
+     */
+    long get() {
+        if (dirty == 0) return hash;
+        for (int c = 0; c < COMPONENTS; c++) {
+            if ((dirty & (1 << c)) == 0) continue;
+            hash ^= components[c];
+            components[c] = component(c);
+            hash ^= components[c];
+        }
+        dirty = 0;
+        return hash;
+    }
+
+    /**
+     * Hashes one component.
+     *
+     * @param c the index of the component (bit index of its mask)
+     * @return the component hash, seeded by the component index
+     */
+    private long component(int c) {
+        long h = mix(0x5EED0000L + c);
+        if (c == 6) {
+            h = mix(h ^ engine.getTurn());
+            h = mix(h ^ engine.getActiveIndex());
+            h = mix(h ^ engine.getPhase().ordinal());
+            return mix(h ^ engine.getResult());
+        }
+
+        Player player = engine.getPlayer(c & 1);
+        Board board = player.getBoard();
+        switch (c >> 1) {
+            case 0:
+                h = pile(h, player.getDeck().getCards());
+                h = pile(mix(h ^ 1), player.getHand().getAllCards());
+                return pile(mix(h ^ 2), board.getGraveyard().getAllCards());
+            case 1:
+                for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+                    h = mix(h ^ card(board.getMonster(zone)));
+                    h = mix(h ^ card(board.getSpellTrap(zone)));
+                }
+                return mix(h ^ card(board.getFieldSpell()));
+            default:
+                h = mix(h ^ player.getLifePoints());
+                return mix(h ^ (player.hasNormalSummoned() ? 1 : 0));
+        }
+    }
+
+    /**
+     * Hashes a pile in order.
+     *
+     * @param h the running hash
+     * @param cards the cards of the pile
+     * @return the updated hash
+     */
+    private static long pile(long h, List<Card> cards) {
+        for (int i = 0, n = cards.size(); i < n; i++) {
+            h = mix(h ^ cards.get(i).getCardId());
+        }
+        return mix(h ^ cards.size());
+    }
+
+    /**
+     * Gets the value hashed for a card on the field: its ID and its state.
+     *
+     * @param card the card, or null for an empty zone
+     * @return the packed value
+     */
+    private static long card(Card card) {
+        if (card == null) return -1L;
+        long state = card.isFaceDown() ? 0x4 : 0;
+        if (card instanceof MonsterCard) {
+            MonsterCard monster = (MonsterCard) card;
+            Position pos = monster.getPosition();
+            state |= (pos == null ? 0 : pos.ordinal() + 1)
+                    | (monster.hasAttackedThisTurn() ? 0x8 : 0)
+                    | (monster.hasChangedPositionThisTurn() ? 0x10 : 0);
+        }
+        return ((long) card.getCardId() << 8) | state;
+    }
+
+    /**
+     * Mixes the bits of a value (finalizer of SplitMix64).
+     *
+     * @param z the value
+     * @return the mixed value
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,634 @@
+package Game;
+
+import Board.Board;
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import Deck.Deck;
+import Graveyard.Graveyard;
+import Hand.Hand;
+import Player.Player;
+
+/**
+ * Bounded undo log of the changes made to a duel by {@link DuelEngine}.
+ * <p>
+ * Every change of the duel state goes through this class: the pile
+ * operations (draw, hand, Graveyard, zones) are performed here, and the
+ * scalar values (Life Points, flags, monster state, engine turn/phase) are
+ * recorded with a {@code touch} method just before they change. Each entry
+ * keeps what is needed to revert it, so:
+ * <ul>
+ * <li>a snapshot is a position in the log, taken in O(1)</li>
+ * <li>restoring a snapshot reverts (or replays) only the entries recorded
+ *     since, in O(changes), in both directions (undo and redo)</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <strong>Entries:</strong> scalar entries swap the recorded value with the
+ * current one, which makes undo and redo the same operation. Pile entries
+ * remember the card and its index, undo puts the card back where it was.
+ * The entries live in a ring of preallocated objects: recording does not
+ * allocate, and the oldest entries are overwritten once the capacity is
+ * reached, so memory stays flat over long duels. Snapshots older than the
+ * retained history can no longer be restored.
+ * </p>
+ * <p>
+ * Recording is disabled until {@link #enable(int)} is called: the pile
+ * operations then only perform the change, without looking up the position
+ * of the card (which compacts the pile), which keeps simulations that never
+ * undo at full speed. Recording or not, each change marks the
+ * components it touches in the engine's {@link StateHash}.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class UndoLog {
+
+    /** Default number of entries kept in the history */
+    static final int DEFAULT_CAPACITY = 4096;
+
+    /** Entry kind: start of a player action (boundary for undo/redo) */
+    private static final int ACTION = 0;
+
+    /** Entry kind: a card was inserted in a pile (deck, hand, Graveyard) */
+    private static final int INSERTED = 1;
+
+    /** Entry kind: a card was removed from a pile */
+    private static final int REMOVED = 2;
+
+    /** Entry kind: content of a monster zone */
+    private static final int MONSTER_ZONE = 3;
+
+    /** Entry kind: content of a spell/trap zone */
+    private static final int SPELL_TRAP_ZONE = 4;
+
+    /** Entry kind: position, face-down and turn flags of a monster */
+    private static final int MONSTER_STATE = 5;
+
+    /** Entry kind: face-down flag of a card */
+    private static final int FACE_DOWN = 6;
+
+    /** Entry kind: Life Points of a player */
+    private static final int LIFE_POINTS = 7;
+
+    /** Entry kind: Normal Summon flag of a player */
+    private static final int NORMAL_SUMMONED = 8;
+
+    /** Entry kind: active player, turn, phase and result of the engine */
+    private static final int ENGINE = 9;
+
+    /** One recorded change, reused when the ring wraps around */
+    private static final class Entry {
+        /** Kind of the change */
+        int kind;
+        /** Changed object: pile, board, card or player */
+        Object target;
+        /** Card inserted, removed or stored in a zone */
+        Card card;
+        /** Index in the pile or zone number */
+        int index;
+        /** Recorded scalar value */
+        long value;
+    }
+
+    /** Engine whose turn state is recorded, or null for a log without engine */
+    private final DuelEngine engine;
+
+    /** Ring of entries, null while recording is disabled */
+    private Entry[] entries;
+
+    /** Number of entries applied since the log was enabled */
+    private long position;
+
+    /** Position after the last entry that can be redone */
+    private long end;
+
+    /** Oldest position still available in the ring */
+    private long floor;
+
+    /** True when the next recorded entry starts a new action */
+    private boolean actionPending;
+
+    /**
+     * Creates a disabled log.
+     *
+     * @param engine the engine whose turn state is recorded, or null
+     */
+    UndoLog(DuelEngine engine) {
+        this.engine = engine;
+    }
+
+    // --- History ---
+
+    /**
+     * Starts recording, with a bounded history.
+     *
+     * @param capacity the maximum number of entries kept
+     */
+    void enable(int capacity) {
+        entries = new Entry[Math.max(16, capacity)];
+        for (int i = 0; i < entries.length; i++) {
+            entries[i] = new Entry();
+        }
+        position = 0;
+        end = 0;
+        floor = 0;
+        actionPending = false;
+    }
+
+    /**
+     * Checks if changes are recorded.
+     *
+     * @return true once {@link #enable(int)} was called
+     */
+    boolean isEnabled() {
+        return entries != null;
+    }
+
+    /**
+     * Marks the start of a player action.
+     * <p>
+     * The boundary is only written with the first change of the action, so
+     * rejected actions leave no trace in the history.
+     * </p>
+     */
+    void beginAction() {
+        actionPending = entries != null;
+    }
+
+    /**
+     * Takes a snapshot of the duel.
+     *
+     * @return the current position in the log, or -1 if recording is disabled
+     */
+    long snapshot() {
+        return entries == null ? -1 : position;
+    }
+
+    /**
+     * Restores the duel to a snapshot by undoing or redoing the entries in between.
+     *
+     * @param snapshot a value returned by {@link #snapshot()}
+     * @return false if the snapshot is no longer (or not yet) in the history
+     */
+    boolean restore(long snapshot) {
+        if (entries == null || snapshot < floor || snapshot > end) return false;
+        actionPending = false;
+        changed(StateHash.ALL);
+        while (position > snapshot) {
+            revert(entry(--position));
+        }
+        while (position < snapshot) {
+            replay(entry(position++));
+        }
+        return true;
+    }
+
+    /**
+     * Undoes the last player action.
+     *
+     * @return false if no complete action is left in the history
+     */
+    boolean undo() {
+        if (entries == null) return false;
+        for (long p = position - 1; p >= floor; p--) {
+            if (entry(p).kind == ACTION) {
+                return restore(p);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Redoes the last undone player action.
+     *
+     * @return false if nothing was undone since the last action
+     */
+    boolean redo() {
+        if (entries == null || position >= end) return false;
+        long p = position + 1;
+        while (p < end && entry(p).kind != ACTION) {
+            p++;
+        }
+        return restore(p);
+    }
+
+    // --- Recorded pile operations ---
+
+    /**
+     * Draws the top card of a player's deck into their hand.
+     *
+     * @param player the player drawing
+     * @return the drawn card, or null if the deck is empty
+     */
+    Card draw(Player player) {
+        Card top = player.getDeck().peek();
+        player.drawCard();
+        changed(StateHash.PILES, player);
+        if (top != null) {
+            record(REMOVED, player.getDeck(), top, 0, 0);
+            record(INSERTED, player.getHand(), top, player.getHand().size() - 1, 0);
+        }
+        return top;
+    }
+
+    /**
+     * Removes a card from a player's hand.
+     *
+     * @param player the owner of the hand
+     * @param card the card to remove
+     * @return false if the card is not in the hand
+     */
+    boolean removeFromHand(Player player, Card card) {
+        Hand hand = player.getHand();
+        int index = entries == null ? 0 : hand.indexOf(card);
+        if (!hand.removeCard(card)) return false;
+        changed(StateHash.PILES, player);
+        record(REMOVED, hand, card, index, 0);
+        return true;
+    }
+
+    /**
+     * Moves a card from a player's deck to their hand (search).
+     *
+     * @param player the owner of the deck
+     * @param card the card to add to the hand
+     * @return false if the card is not in the deck
+     */
+    boolean addToHandFromDeck(Player player, Card card) {
+        Deck deck = player.getDeck();
+        int index = entries == null ? 0 : deck.getCards().indexOf(card);
+        if (!deck.removeCard(card)) return false;
+        player.getHand().addCard(card);
+        changed(StateHash.PILES, player);
+        record(REMOVED, deck, card, index, 0);
+        record(INSERTED, player.getHand(), card, player.getHand().size() - 1, 0);
+        return true;
+    }
+
+    /**
+     * Removes a card from a player's Graveyard.
+     *
+     * @param player the owner of the Graveyard
+     * @param card the card to remove
+     * @return false if the card is not in the Graveyard
+     */
+    boolean removeFromGraveyard(Player player, Card card) {
+        Graveyard graveyard = player.getBoard().getGraveyard();
+        int index = entries == null ? 0 : graveyard.indexOf(card);
+        if (!graveyard.removeCard(card)) return false;
+        changed(StateHash.PILES, player);
+        record(REMOVED, graveyard, card, index, 0);
+        return true;
+    }
+
+    /**
+     * Sends a card that is no longer in any zone to its controller's Graveyard.
+     *
+     * @param player the controller of the card
+     * @param card the card to send
+     */
+    void sendToGraveyard(Player player, Card card) {
+        Graveyard graveyard = player.getBoard().getGraveyard();
+        player.getBoard().sendToGraveyard(card);
+        changed(StateHash.PILES, player);
+        record(INSERTED, graveyard, card, graveyard.size() - 1, 0);
+    }
+
+    /**
+     * Places a monster in a zone of a player's field.
+     *
+     * @param player the controller of the zone
+     * @param monster the monster to place
+     * @param zone the monster zone (0-4)
+     * @param position the position of the monster
+     */
+    void placeMonster(Player player, MonsterCard monster, int zone, Position position) {
+        Board board = player.getBoard();
+        touchMonster(monster);
+        record(MONSTER_ZONE, board, board.getMonster(zone), zone, 0);
+        board.placeMonster(monster, zone, position);
+        changed(StateHash.FIELD, player);
+    }
+
+    /**
+     * Removes a monster from the field and sends it to the Graveyard.
+     *
+     * @param player the controller of the monster
+     * @param zone the monster zone (0-4)
+     * @return the removed monster, or null if the zone was empty
+     */
+    MonsterCard removeMonster(Player player, int zone) {
+        Board board = player.getBoard();
+        MonsterCard removed = board.removeMonster(zone);
+        if (removed != null) {
+            changed(StateHash.FIELD | StateHash.PILES, player);
+            Graveyard graveyard = board.getGraveyard();
+            record(MONSTER_ZONE, board, removed, zone, 0);
+            record(INSERTED, graveyard, removed, graveyard.size() - 1, 0);
+        }
+        return removed;
+    }
+
+    /**
+     * Sets a card in a spell/trap zone of a player's field.
+     *
+     * @param player the controller of the zone
+     * @param card the card to set
+     * @param zone the spell/trap zone (0-4)
+     */
+    void setSpellTrap(Player player, Card card, int zone) {
+        Board board = player.getBoard();
+        record(SPELL_TRAP_ZONE, board, board.getSpellTrap(zone), zone, 0);
+        board.setSpellTrap(card, zone);
+        changed(StateHash.FIELD, player);
+    }
+
+    /**
+     * Removes a card from a spell/trap zone (it is not sent to the Graveyard).
+     *
+     * @param player the controller of the zone
+     * @param zone the spell/trap zone (0-4)
+     * @return the removed card, or null if the zone was empty
+     */
+    Card removeSpellTrap(Player player, int zone) {
+        Board board = player.getBoard();
+        Card removed = board.removeSpellTrap(zone);
+        if (removed != null) {
+            changed(StateHash.FIELD, player);
+            record(SPELL_TRAP_ZONE, board, removed, zone, 0);
+        }
+        return removed;
+    }
+
+    // --- Recorded scalar values (call before the change) ---
+
+    /**
+     * Records the position, face-down state and turn flags of a monster.
+     *
+     * @param monster the monster about to change
+     */
+    void touchMonster(MonsterCard monster) {
+        changed(StateHash.FIELD | StateHash.FIELD << 1);
+        if (entries != null) record(MONSTER_STATE, monster, null, 0, monsterState(monster));
+    }
+
+    /**
+     * Records the face-down state of a card.
+     *
+     * @param card the card about to be flipped
+     */
+    void touchFaceDown(Card card) {
+        changed(StateHash.FIELD | StateHash.FIELD << 1);
+        if (entries != null) record(FACE_DOWN, card, null, 0, card.isFaceDown() ? 1 : 0);
+    }
+
+    /**
+     * Records the Life Points of a player.
+     *
+     * @param player the player whose Life Points are about to change
+     */
+    void touchLifePoints(Player player) {
+        changed(StateHash.COUNTERS, player);
+        if (entries != null) record(LIFE_POINTS, player, null, 0, player.getLifePoints());
+    }
+
+    /**
+     * Records the Normal Summon flag of a player.
+     *
+     * @param player the player whose flag is about to change
+     */
+    void touchNormalSummoned(Player player) {
+        changed(StateHash.COUNTERS, player);
+        if (entries != null) record(NORMAL_SUMMONED, player, null, 0, player.hasNormalSummoned() ? 1 : 0);
+    }
+
+    /**
+     * Records the active player, turn, phase and result of the engine.
+     */
+    void touchEngine() {
+        changed(StateHash.ENGINE);
+        if (entries != null && engine != null) record(ENGINE, engine, null, 0, engineState());
+    }
+
+    // --- Internal helpers ---
+
+    /**
+     * Marks components of the state hash as changed.
+     *
+     * @param mask the {@link StateHash} components
+     */
+    private void changed(int mask) {
+        if (engine != null) engine.invalidateHash(mask);
+    }
+
+    /**
+     * Marks components of a player in the state hash as changed.
+     *
+     * @param mask the {@link StateHash} components of player 0
+     * @param player the player whose components changed
+     */
+    private void changed(int mask, Player player) {
+        if (engine != null) engine.invalidateHash(player == engine.getPlayer(0) ? mask : mask << 1);
+    }
+
+    /**
+     * Writes an entry at the current position, dropping the entries that
+     * could be redone and, when the ring is full, the oldest entry.
+     *
+     * @param kind the kind of the entry
+     * @param target the changed object
+     * @param card the card of the entry, or null
+     * @param index the pile index or zone
+     * @param value the recorded scalar value
+     */
+    private void record(int kind, Object target, Card card, int index, long value) {
+        if (entries == null) return;
+        if (actionPending) {
+            actionPending = false;
+            record(ACTION, null, null, 0, 0);
+        }
+        Entry e = entry(position++);
+        e.kind = kind;
+        e.target = target;
+        e.card = card;
+        e.index = index;
+        e.value = value;
+        end = position;
+        if (end - floor > entries.length) {
+            floor = end - entries.length;
+        }
+    }
+
+    /**
+     * Gets the entry stored for a position.
+     *
+     * @param p the position in the log
+     * @return the entry of the ring holding this position
+     */
+    private Entry entry(long p) {
+        return entries[(int) (p % entries.length)];
+    }
+
+    /**
+     * Reverts an entry (undo).
+     *
+     * @param e the entry to revert
+     */
+    private void revert(Entry e) {
+        switch (e.kind) {
+            case ACTION:   break;
+            case INSERTED: removeFromPile(e.target, e.card); break;
+            case REMOVED:  insertInPile(e.target, e.index, e.card); break;
+            default:       swap(e); break;
+        }
+    }
+
+    /**
+     * Applies an entry again (redo).
+     *
+     * @param e the entry to replay
+     */
+    private void replay(Entry e) {
+        switch (e.kind) {
+            case ACTION:   break;
+            case INSERTED: insertInPile(e.target, e.index, e.card); break;
+            case REMOVED:  removeFromPile(e.target, e.card); break;
+            default:       swap(e); break;
+        }
+    }
+
+    /**
+     * Exchanges the value recorded in a scalar entry with the current one.
+     *
+     * @param e the scalar entry
+     */
+    private void swap(Entry e) {
+        switch (e.kind) {
+            case MONSTER_ZONE: {
+                Board board = (Board) e.target;
+                MonsterCard current = board.getMonster(e.index);
+                board.restoreMonster(e.index, (MonsterCard) e.card);
+                e.card = current;
+                break;
+            }
+            case SPELL_TRAP_ZONE: {
+                Board board = (Board) e.target;
+                Card current = board.getSpellTrap(e.index);
+                board.restoreSpellTrap(e.index, e.card);
+                e.card = current;
+                break;
+            }
+            case MONSTER_STATE: {
+                MonsterCard monster = (MonsterCard) e.target;
+                long current = monsterState(monster);
+                int bits = (int) e.value;
+                int ordinal = (bits & 0x3) - 1;
+                monster.restoreState(ordinal < 0 ? null : Position.values()[ordinal],
+                                     (bits & 0x8) != 0, (bits & 0x10) != 0);
+                monster.setFaceDown((bits & 0x4) != 0);
+                e.value = current;
+                break;
+            }
+            case FACE_DOWN: {
+                Card card = (Card) e.target;
+                long current = card.isFaceDown() ? 1 : 0;
+                card.setFaceDown(e.value != 0);
+                e.value = current;
+                break;
+            }
+            case LIFE_POINTS: {
+                Player player = (Player) e.target;
+                int current = player.getLifePoints();
+                int diff = (int) e.value - current;
+                if (diff > 0) {
+                    player.increaseLifePoints(diff);
+                } else if (diff < 0) {
+                    player.decreaseLifePoints(-diff);
+                }
+                e.value = current;
+                break;
+            }
+            case NORMAL_SUMMONED: {
+                Player player = (Player) e.target;
+                long current = player.hasNormalSummoned() ? 1 : 0;
+                player.setNormalSummoned(e.value != 0);
+                e.value = current;
+                break;
+            }
+            case ENGINE: {
+                long current = engineState();
+                long v = e.value;
+                engine.restoreState((int) (v & 0x1), (int) (v >>> 8),
+                                    Phase.values()[(int) ((v >>> 1) & 0x7)], (int) ((v >>> 4) & 0xF) - 1);
+                e.value = current;
+                break;
+            }
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Packs the state of a monster: position (bits 0-1), face-down (bit 2),
+     * attacked (bit 3) and changed position (bit 4).
+     *
+     * @param monster the monster
+     * @return the packed state
+     */
+    private static long monsterState(MonsterCard monster) {
+        Position pos = monster.getPosition();
+        return (pos == null ? 0 : pos.ordinal() + 1)
+                | (monster.isFaceDown() ? 0x4 : 0)
+                | (monster.hasAttackedThisTurn() ? 0x8 : 0)
+                | (monster.hasChangedPositionThisTurn() ? 0x10 : 0);
+    }
+
+    /**
+     * Packs the state of the engine: active player (bit 0), phase (bits 1-3),
+     * result + 1 (bits 4-7) and turn (bits 8 and more).
+     *
+     * @return the packed state
+     */
+    private long engineState() {
+        return engine.getActiveIndex()
+                | ((long) engine.getPhase().ordinal() << 1)
+                | ((long) (engine.getResult() + 1) << 4)
+                | ((long) engine.getTurn() << 8);
+    }
+
+    /**
+     * Inserts a card back in a pile.
+     *
+     * @param pile the deck, hand or Graveyard
+     * @param index the position of the card
+     * @param card the card
+     */
+    private static void insertInPile(Object pile, int index, Card card) {
+        if (pile instanceof Hand) {
+            ((Hand) pile).insertCard(index, card);
+        } else if (pile instanceof Deck) {
+            ((Deck) pile).insertCard(index, card);
+        } else {
+            ((Graveyard) pile).insertCard(index, card);
+        }
+    }
+
+    /**
+     * Removes a card from a pile.
+     *
+     * @param pile the deck, hand or Graveyard
+     * @param card the card
+     */
+    private static void removeFromPile(Object pile, Card card) {
+        if (pile instanceof Hand) {
+            ((Hand) pile).removeCard(card);
+        } else if (pile instanceof Deck) {
+            ((Deck) pile).removeCard(card);
+        } else {
+            ((Graveyard) pile).removeCard(card);
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package Graveyard;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import Card.Card;
+import Card.CardPile;
+import util.GameLog;
 
 /**
  * Represents a player's Graveyard in Yu-Gi-Oh!
@@ -33,8 +35,8 @@ public class Graveyard {
 
     // --- Attributes ---
     
-    /** The list of cards in the Graveyard, ordered by when they were sent */
-    private List<Card> cards;
+    /** The cards in the Graveyard, ordered by when they were sent */
+    private final CardPile cards;
 
     // --- Constructor ---
     
@@ -46,7 +48,7 @@ public class Graveyard {
      * </p>
      */
     public Graveyard() {
-        this.cards = new ArrayList<>();
+        this.cards = new CardPile();
     }
 
     // --- Main Methods ---
@@ -67,15 +69,43 @@ public class Graveyard {
      */
     public void addCard(Card c) {
         cards.add(c);
-        System.out.println("Card sent to the Graveyard: " + c.getName());
+        GameLog.println("Card sent to the Graveyard: " + c.getName());
+    }
+
+    /**
+     * Inserts a card at a given position of the Graveyard.
+     * <p>
+     * Used to put a card back where it was when an action is undone (for
+     * example a monster Special Summoned from the Graveyard).
+     * </p>
+     *
+     * @param index the position of the card (0 to {@link #size()})
+     * @param c the Card to insert
+     */
+    public void insertCard(int index, Card c) {
+        cards.insert(index, c);
+    }
+
+    /**
+     * Adds cards to the Graveyard, in order, without logging them.
+     * <p>
+     * Used to restore a saved Graveyard.
+     * </p>
+     *
+     * @param cs the Cards to add
+     */
+    public void addCards(Collection<Card> cs) {
+        for (Card c : cs) {
+            cards.add(c);
+        }
     }
 
     /**
      * Removes a specific card from the Graveyard.
      * <p>
      * This method is called when a card is retrieved from the Graveyard
-     * (returned to hand, Special Summoned, banished, etc.). The first occurrence
-     * of the specified card is removed from the Graveyard.
+     * (returned to hand, Special Summoned, banished, etc.). The card is found
+     * by reference in constant time.
      * </p>
      * <p>
      * Common scenarios include:
@@ -108,8 +138,7 @@ public class Graveyard {
      * @return the most recently added Card, or null if the Graveyard is empty
      */
     public Card getLastCard() {
-        if (isEmpty()) return null;
-        return cards.get(cards.size() - 1);
+        return cards.last();
     }
 
     /**
@@ -128,7 +157,7 @@ public class Graveyard {
      * @return the first Card with a matching name, or null if no match is found
      */
     public Card searchByName(String name) {
-        for (Card c : cards) {
+        for (Card c : cards.view()) {
             if (c.getName().equalsIgnoreCase(name)) {
                 return c;
             }
@@ -167,9 +196,9 @@ public class Graveyard {
     /**
      * Gets all cards currently in the Graveyard.
      * <p>
-     * This method returns the actual internal list of cards (not a copy),
-     * allowing external code to iterate through or examine all cards in the
-     * Graveyard. This is useful for implementing card effects that interact
+     * This method returns a live, read-only view of the Graveyard (not a
+     * copy), allowing external code to iterate through or examine all cards
+     * in the Graveyard. This is useful for implementing card effects that interact
      * with multiple Graveyard cards or for displaying Graveyard contents to
      * players.
      * </p>
@@ -177,15 +206,30 @@ public class Graveyard {
      * Since the Graveyard is a public zone in Yu-Gi-Oh!, both players should
      * be able to view its contents at any time.
      * </p>
-     * <p>
-     * <strong>Note:</strong> Modifications to the returned list will affect
-     * the Graveyard's internal state. Consider returning a defensive copy if
-     * you need to prevent external modifications: {@code return new ArrayList<>(cards);}
-     * </p>
      *
-     * @return the List of all cards in the Graveyard
+     * @return an unmodifiable List of all cards in the Graveyard, oldest first
      */
     public List<Card> getAllCards() {
-        return cards;
+        return cards.view();
+    }
+
+    /**
+     * Checks if a specific card is in the Graveyard.
+     *
+     * @param c the Card to search for
+     * @return true if the card is in the Graveyard, false otherwise
+     */
+    public boolean contains(Card c) {
+        return cards.contains(c);
+    }
+
+    /**
+     * Gets the position of a card in the Graveyard.
+     *
+     * @param c the Card to look for
+     * @return the position (0 for the oldest card), or -1 if the card is not in the Graveyard
+     */
+    public int indexOf(Card c) {
+        return cards.indexOf(c);
     }
 }
\ No newline at end of file
@@ -1,8 +1,9 @@
 package Hand;
 
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import Card.Card;
+import Card.CardPile;
 
 /**
  * Represents a player's hand in Yu-Gi-Oh!
@@ -31,8 +32,8 @@ public class Hand {
 
     // --- Attributes ---
     
-    /** The list of cards currently in the player's hand */
-    private List<Card> cards;
+    /** The cards currently in the player's hand, in order */
+    private final CardPile cards;
 
     // --- Constructor ---
     
@@ -45,7 +46,7 @@ public class Hand {
      * </p>
      */
     public Hand() {
-        this.cards = new ArrayList<>();
+        this.cards = new CardPile();
     }
 
     // --- Main Methods ---
@@ -65,12 +66,40 @@ public class Hand {
         cards.add(c);
     }
 
+    /**
+     * Inserts a card at a given position of the hand.
+     * <p>
+     * Used to put a card back where it was when an action is undone, so
+     * that the order of the hand is restored too.
+     * </p>
+     *
+     * @param index the position of the card (0 to {@link #size()})
+     * @param c the Card to insert
+     */
+    public void insertCard(int index, Card c) {
+        cards.insert(index, c);
+    }
+
+    /**
+     * Adds cards at the end of the hand, in order.
+     * <p>
+     * Used to restore a saved hand.
+     * </p>
+     *
+     * @param cs the Cards to add
+     */
+    public void addCards(Collection<Card> cs) {
+        for (Card c : cs) {
+            cards.add(c);
+        }
+    }
+
     /**
      * Removes a specific card from the hand.
      * <p>
      * This method is called when a card is played (summoned, activated, or set),
-     * discarded as a cost, or sent to another location. The first occurrence
-     * of the specified card is removed from the hand.
+     * discarded as a cost, or sent to another location. The card is found by
+     * reference in constant time.
      * </p>
      * <p>
      * Note: This method only removes the card from the hand; additional logic
@@ -109,20 +138,25 @@ public class Hand {
     /**
      * Gets all cards currently in the hand.
      * <p>
-     * This method returns the actual internal list of cards (not a copy).
-     * This allows external code to iterate through the hand or perform
-     * operations on all cards. Modifications to the returned list will
-     * affect the hand's internal state.
-     * </p>
-     * <p>
-     * <strong>Note:</strong> If you need to prevent external modifications,
-     * consider returning a defensive copy: {@code return new ArrayList<>(cards);}
+     * This method returns a live, read-only view of the hand (not a copy).
+     * It follows the changes of the hand, so it can be kept and read as often
+     * as needed; the hand is changed through the methods of this class.
      * </p>
      *
-     * @return the List of all cards in the hand
+     * @return an unmodifiable List of all cards in the hand, in order
      */
     public List<Card> getAllCards() {
-        return cards;
+        return cards.view();
+    }
+
+    /**
+     * Gets the position of a card in the hand.
+     *
+     * @param c the Card to look for
+     * @return the position (0-based), or -1 if the card is not in the hand
+     */
+    public int indexOf(Card c) {
+        return cards.indexOf(c);
     }
 
     /**
@@ -154,7 +188,7 @@ public class Hand {
     /**
      * Checks if a specific card is present in the hand.
      * <p>
-     * This method searches for the exact card object (by reference) in the hand.
+     * This method looks up the exact card object (by reference) in constant time.
      * It's useful for validating whether a player actually has a card they're
      * trying to play or for implementing card effects that check hand contents.
      * </p>
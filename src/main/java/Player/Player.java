@@ -9,6 +9,7 @@ import Card.SpellCard;
 import Card.TrapCard;
 import Card.Card;
 import Card.Position;
+import util.GameLog;
 
 /**
  * Represents a player in a Yu-Gi-Oh! duel.
@@ -153,6 +154,19 @@ public class Player {
         return hasPlayerNormalSummon; 
     }
 
+    /**
+     * Sets the Normal Summon flag of the player.
+     * <p>
+     * Used by rules engines that place the monster themselves (for example
+     * with tributes) instead of going through {@link #summonMonster(MonsterCard)}.
+     * </p>
+     *
+     * @param value true once the Normal Summon of the turn has been used
+     */
+    public void setNormalSummoned(boolean value) {
+        this.hasPlayerNormalSummon = value;
+    }
+
     /**
      * Gets the player's hand.
      *
@@ -193,7 +207,7 @@ public class Player {
      */
     public void increaseLifePoints(int amount) {
         lifePoints += amount;
-        System.out.println(name + " gains " + amount + " LP. Total: " + lifePoints);
+        GameLog.println(name + " gains " + amount + " LP. Total: " + lifePoints);
     }
 
     /**
@@ -213,7 +227,7 @@ public class Player {
     public void decreaseLifePoints(int amount) {
         lifePoints -= amount;
         if (lifePoints < 0) lifePoints = 0;
-        System.out.println(name + " loses " + amount + " LP. Total: " + lifePoints);
+        GameLog.println(name + " loses " + amount + " LP. Total: " + lifePoints);
     }
 
     /**
@@ -267,7 +281,7 @@ public class Player {
         Card drawn = deck.draw();
         if (drawn != null) {
             hand.addCard(drawn);
-            System.out.println(name + " draws: " + drawn.getName());
+            GameLog.println(name + " draws: " + drawn.getName());
         }
     }
 
@@ -294,9 +308,9 @@ public class Player {
         if (!hasPlayerNormalSummon) {
             board.placeMonster(card, 0, Position.ATTACK); // example: zone 0
             hasPlayerNormalSummon = true;
-            System.out.println(name + " summons " + card.getName());
+            GameLog.println(name + " summons " + card.getName());
         } else {
-            System.out.println(name + " has already Normal Summoned this turn.");
+            GameLog.println(name + " has already Normal Summoned this turn.");
         }
     }
 
@@ -344,6 +358,6 @@ public class Player {
      */
     public void endTurn() {
         hasPlayerNormalSummon = false;
-        System.out.println(name + " ends their turn.");
+        GameLog.println(name + " ends their turn.");
     }
 }
\ No newline at end of file
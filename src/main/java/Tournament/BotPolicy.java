@@ -0,0 +1,43 @@
+package Tournament;
+
+import Game.DuelEngine;
+
+/**
+ * A bot able to play a headless duel, used as an entrant of a tournament.
+ * <p>
+ * A policy is called by the {@link TournamentRunner} on each of its turns,
+ * once for the Main Phase and once for the Battle Phase. It acts through the
+ * {@link DuelEngine} methods, which reject illegal actions, and must not keep
+ * state between duels: the same instance is shared by all worker threads.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public interface BotPolicy {
+
+    /**
+     * Gets the name of the policy, used in reports and checkpoints.
+     *
+     * @return a unique, human-readable name
+     */
+    String getName();
+
+    /**
+     * Plays the Main Phase of the active player (summons, position changes).
+     *
+     * @param duel the running duel, the policy controls {@link DuelEngine#getActivePlayer()}
+     */
+    void mainPhase(DuelEngine duel);
+
+    /**
+     * Plays the Battle Phase of the active player (attack declarations).
+     * <p>
+     * Only called when {@link DuelEngine#canBattle()} is true.
+     * </p>
+     *
+     * @param duel the running duel, the policy controls {@link DuelEngine#getActivePlayer()}
+     */
+    void battlePhase(DuelEngine duel);
+}
@@ -0,0 +1,247 @@
+package Tournament;
+
+import Card.Card;
+import Card.EffectRegistry;
+import Card.MonsterCard;
+import Card.SpellCard;
+import Card.TrapCard;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * A deck list used by the tournament: the recipe of a deck, not the cards themselves.
+ * <p>
+ * Cards are mutable during a duel (position, owner, turn flags), so each duel
+ * needs its own copies. {@link #instantiate(Random)} builds a fresh, shuffled
+ * list of cards from the recipe every time it is called.
+ * </p>
+ * <p>
+ * <strong>File format</strong> (one entry per line, {@code #} starts a comment):
+ * <pre>
+ * name: Beatdown
+ * 3;Monster;14898066;Vorse Raider;1900;1200;4
+ * 2;Spell;53129443;Dark Hole
+ * </pre>
+ * Each entry is {@code copies;kind;cardId;name[;atk;def;level]} where kind is
+ * {@code Monster}, {@code Spell} or {@code Trap}.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class DeckList {
+
+    /** Smallest legal deck */
+    public static final int MIN_SIZE = 40;
+
+    /** Largest legal deck */
+    public static final int MAX_SIZE = 60;
+
+    /** Largest number of copies of a card in a legal deck */
+    public static final int MAX_COPIES = 3;
+
+    /** Name of the deck list, used in reports */
+    private final String name;
+
+    /** One line per card copy: kind, cardId, name, atk, def, level */
+    private final List<String[]> entries;
+
+    /**
+     * Creates a deck list from parsed entries.
+     *
+     * @param name the name of the deck list
+     * @param entries one array per card copy ({@code kind, cardId, name, atk, def, level})
+     */
+    private DeckList(String name, List<String[]> entries) {
+        this.name = name;
+        this.entries = entries;
+    }
+
+    /**
+     * Gets the name of the deck list.
+     *
+     * @return the deck name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the number of cards in the deck.
+     *
+     * @return the deck size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Checks the deck against construction rules.
+     *
+     * @param minSize the smallest allowed deck
+     * @param maxSize the largest allowed deck
+     * @param maxCopies the largest number of copies of a card (by card ID)
+     * @return null if the deck is legal, otherwise the first problem found
+     */
+    public String checkLegality(int minSize, int maxSize, int maxCopies) {
+        if (entries.size() < minSize) return "Deck has " + entries.size() + " cards, minimum is " + minSize;
+        if (entries.size() > maxSize) return "Deck has " + entries.size() + " cards, maximum is " + maxSize;
+        Map<String, Integer> copies = new HashMap<>();
+        for (String[] e : entries) {
+            int count = copies.merge(e[1], 1, Integer::sum);
+            if (count > maxCopies) return "More than " + maxCopies + " copies of " + e[2];
+        }
+        return null;
+    }
+
+    /**
+     * Checks the deck against the official rules: 40 to 60 cards, at most 3 copies of a card.
+     *
+     * @return true if the deck is legal
+     */
+    public boolean isLegal() {
+        return checkLegality(MIN_SIZE, MAX_SIZE, MAX_COPIES) == null;
+    }
+
+    /**
+     * Builds a fresh copy of every card of the deck, in shuffled order.
+     * <p>
+     * The cards have no owner: the caller assigns it when the player is created.
+     * </p>
+     *
+     * @param random the random source used to shuffle the deck
+     * @return a new list of new cards
+     */
+    public List<Card> instantiate(Random random) {
+        List<Card> cards = new ArrayList<>(entries.size());
+        for (String[] e : entries) {
+            int cardId = Integer.parseInt(e[1]);
+            switch (e[0]) {
+                case "Monster":
+                    cards.add(new MonsterCard(e[2], "", cardId, null,
+                            Integer.parseInt(e[3]), Integer.parseInt(e[4]), Integer.parseInt(e[5]),
+                            "", "", "Normal", "Normal Monster", ""));
+                    break;
+                case "Spell":
+                    cards.add(new SpellCard(e[2], "", cardId, null, "Normal", EffectRegistry.get(cardId), false, ""));
+                    break;
+                default:
+                    cards.add(new TrapCard(e[2], "", cardId, null, "Normal", EffectRegistry.get(cardId), false, ""));
+                    break;
+            }
+        }
+        Collections.shuffle(cards, random);
+        return cards;
+    }
+
+    /**
+     * Loads a deck list from a text file.
+     *
+     * @param file the deck file
+     * @return the parsed deck list
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    public static DeckList load(Path file) throws IOException {
+        String fileName = file.getFileName().toString();
+        return parse(fileName.replaceFirst("\\.[^.]*$", ""),
+                     Files.readAllLines(file, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a deck list from its lines.
+     *
+     * @param defaultName the name used if the lines contain no {@code name:} header
+     * @param lines the lines of the deck file
+     * @return the parsed deck list
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    public static DeckList parse(String defaultName, List<String> lines) {
+        String name = defaultName;
+        List<String[]> entries = new ArrayList<>();
+
+        for (String raw : lines) {
+            String line = raw.trim();
+            if (line.isEmpty() || line.startsWith("#")) continue;
+            if (line.startsWith("name:")) {
+                name = line.substring(5).trim();
+                continue;
+            }
+
+            String[] parts = line.split(";");
+            if (parts.length < 4) {
+                throw new IllegalArgumentException("Invalid deck line: " + line);
+            }
+            int copies = Integer.parseInt(parts[0].trim());
+            String kind = parts[1].trim();
+            String[] entry;
+            if ("Monster".equals(kind)) {
+                if (parts.length < 7) {
+                    throw new IllegalArgumentException("Monster needs atk;def;level: " + line);
+                }
+                entry = new String[] { kind, parts[2].trim(), parts[3].trim(),
+                                       parts[4].trim(), parts[5].trim(), parts[6].trim() };
+            } else if ("Spell".equals(kind) || "Trap".equals(kind)) {
+                entry = new String[] { kind, parts[2].trim(), parts[3].trim() };
+            } else {
+                throw new IllegalArgumentException("Unknown card kind: " + kind);
+            }
+            for (int i = 0; i < copies; i++) {
+                entries.add(entry);
+            }
+        }
+        return new DeckList(name, entries);
+    }
+
+    /**
+     * Gets the built-in deck lists, usable without any file or network access.
+     *
+     * @return a beatdown, a wall and a tribute deck list
+     */
+    public static List<DeckList> samples() {
+        List<DeckList> decks = new ArrayList<>();
+        decks.add(parse("Beatdown", List.of(
+                "3;Monster;14898066;Vorse Raider;1900;1200;4",
+                "3;Monster;69247929;Gene-Warped Warwolf;2000;100;4",
+                "3;Monster;43096270;Alexandrite Dragon;2000;100;4",
+                "3;Monster;11091375;Luster Dragon;1900;1600;4",
+                "3;Monster;97590747;La Jinn the Mystical Genie of the Lamp;1800;1000;4",
+                "3;Monster;91152256;Celtic Guardian;1400;1200;4",
+                "3;Monster;41392891;Feral Imp;1300;1400;4",
+                "3;Monster;70781052;Summoned Skull;2500;1200;6",
+                "2;Monster;89631139;Blue-Eyes White Dragon;3000;2500;8",
+                "14;Monster;40374923;Mammoth Graveyard;1200;800;3")));
+        decks.add(parse("Wall", List.of(
+                "3;Monster;65240384;Big Shield Gardna;100;2600;4",
+                "3;Monster;13039848;Giant Soldier of Stone;1300;2000;3",
+                "3;Monster;15025844;Mystical Elf;800;2000;4",
+                "3;Monster;32452818;Beaver Warrior;1200;1500;4",
+                "3;Monster;67284908;Labyrinth Wall;0;3000;5",
+                "3;Monster;11091375;Luster Dragon;1900;1600;4",
+                "3;Monster;14898066;Vorse Raider;1900;1200;4",
+                "3;Monster;46986414;Dark Magician;2500;2100;7",
+                "16;Monster;40640057;Kuriboh;300;200;1")));
+        decks.add(parse("Tribute", List.of(
+                "3;Monster;89631139;Blue-Eyes White Dragon;3000;2500;8",
+                "3;Monster;74677422;Red-Eyes B. Dragon;2400;2000;7",
+                "3;Monster;46986414;Dark Magician;2500;2100;7",
+                "3;Monster;6368038;Gaia The Fierce Knight;2300;2100;7",
+                "3;Monster;70781052;Summoned Skull;2500;1200;6",
+                "5;Monster;40640057;Kuriboh;300;200;1",
+                "5;Monster;40374923;Mammoth Graveyard;1200;800;3",
+                "5;Monster;91152256;Celtic Guardian;1400;1200;4",
+                "5;Monster;41392891;Feral Imp;1300;1400;4",
+                "5;Monster;32452818;Beaver Warrior;1200;1500;4")));
+        return decks;
+    }
+}
@@ -0,0 +1,128 @@
+package Tournament;
+
+import java.util.Arrays;
+
+/**
+ * Elo ratings with confidence intervals estimated from a {@link ResultTable}.
+ * <p>
+ * Instead of updating ratings game after game (which depends on the order of
+ * the games, and therefore on thread scheduling), the ratings are the maximum
+ * likelihood estimate of the Bradley-Terry model over all recorded games,
+ * computed with the minorization-maximization algorithm. A draw counts as
+ * half a win for each side. One virtual draw is added between every pair of
+ * entrants so that an entrant without any win still gets a finite rating.
+ * </p>
+ * <p>
+ * The 95% confidence interval comes from the Fisher information of each
+ * rating, and the average rating is anchored at 1500.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class EloRatings {
+
+    /** Elo points per natural-log unit of strength (400 / ln 10) */
+    private static final double ELO_PER_NAT = 400.0 / Math.log(10.0);
+
+    /** Maximum number of MM iterations */
+    private static final int MAX_ITERATIONS = 10000;
+
+    /** Convergence tolerance on the strengths */
+    private static final double TOLERANCE = 1e-10;
+
+    /** Elo rating of each entrant */
+    private final double[] ratings;
+
+    /** Half-width of the 95% confidence interval of each rating */
+    private final double[] confidence;
+
+    /**
+     * Creates the result of an estimation.
+     *
+     * @param ratings the Elo rating of each entrant
+     * @param confidence the 95% half-width of each rating
+     */
+    private EloRatings(double[] ratings, double[] confidence) {
+        this.ratings = ratings;
+        this.confidence = confidence;
+    }
+
+    /**
+     * Estimates the Elo ratings of all entrants.
+     *
+     * @param results the aggregated results
+     * @return the estimated ratings
+     */
+    public static EloRatings estimate(ResultTable results) {
+        int n = results.size();
+        double[] strength = new double[n];
+        double[] next = new double[n];
+        Arrays.fill(strength, 1.0);
+
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            double change = 0.0;
+            for (int i = 0; i < n; i++) {
+                double score = 0.0;
+                double denominator = 0.0;
+                for (int j = 0; j < n; j++) {
+                    if (i == j) continue;
+                    // One virtual draw per pair (prior)
+                    double games = results.games(i, j) + 1.0;
+                    score += results.score(i, j) + 0.5;
+                    denominator += games / (strength[i] + strength[j]);
+                }
+                next[i] = denominator > 0 ? score / denominator : strength[i];
+            }
+
+            // Normalize (geometric mean = 1) to keep the scale fixed
+            double logMean = 0.0;
+            for (int i = 0; i < n; i++) logMean += Math.log(next[i]);
+            logMean /= n;
+            for (int i = 0; i < n; i++) {
+                double value = next[i] / Math.exp(logMean);
+                change = Math.max(change, Math.abs(value - strength[i]));
+                strength[i] = value;
+            }
+            if (change < TOLERANCE) break;
+        }
+
+        double[] ratings = new double[n];
+        double[] confidence = new double[n];
+        for (int i = 0; i < n; i++) {
+            ratings[i] = 1500.0 + ELO_PER_NAT * Math.log(strength[i]);
+
+            double information = 0.0;
+            for (int j = 0; j < n; j++) {
+                if (i == j) continue;
+                double p = strength[i] / (strength[i] + strength[j]);
+                information += (results.games(i, j) + 1.0) * p * (1.0 - p);
+            }
+            confidence[i] = information > 0
+                    ? 1.96 * ELO_PER_NAT / Math.sqrt(information)
+                    : Double.POSITIVE_INFINITY;
+        }
+        return new EloRatings(ratings, confidence);
+    }
+
+    /**
+     * Gets the Elo rating of an entrant.
+     *
+     * @param i the entrant index
+     * @return the rating (the average of all entrants is 1500)
+     */
+    public double getRating(int i) {
+        return ratings[i];
+    }
+
+    /**
+     * Gets the half-width of the 95% confidence interval of a rating.
+     *
+     * @param i the entrant index
+     * @return the rating is in [rating - ci, rating + ci] with 95% confidence
+     */
+    public double getConfidence95(int i) {
+        return confidence[i];
+    }
+}
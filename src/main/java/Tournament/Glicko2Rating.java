@@ -0,0 +1,243 @@
+package Tournament;
+
+/**
+ * Glicko-2 rating of a tournament entrant.
+ * <p>
+ * Implements the rating update described by Mark Glickman ("Example of the
+ * Glicko-2 system"). Ratings are stored on the internal Glicko-2 scale
+ * (mu, phi) and converted to the usual 1500-based scale by the getters.
+ * </p>
+ * <p>
+ * The tournament treats each round as one rating period. The results of a
+ * period are aggregated per opponent before {@link #update} is called, which
+ * makes the ratings independent from the order in which the games finished
+ * on the worker threads.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class Glicko2Rating {
+
+    /** Conversion factor between the Glicko and the Glicko-2 scales */
+    private static final double SCALE = 173.7178;
+
+    /** System constant constraining the change of volatility */
+    private static final double TAU = 0.5;
+
+    /** Convergence tolerance of the volatility iteration */
+    private static final double EPSILON = 0.000001;
+
+    /** Rating on the Glicko-2 scale */
+    private double mu;
+
+    /** Rating deviation on the Glicko-2 scale */
+    private double phi;
+
+    /** Rating volatility */
+    private double sigma;
+
+    /**
+     * Creates an unrated entrant (1500 ± 350, volatility 0.06).
+     */
+    public Glicko2Rating() {
+        this(0.0, 350.0 / SCALE, 0.06);
+    }
+
+    /**
+     * Creates a rating from its internal Glicko-2 values (used to resume a checkpoint).
+     *
+     * @param mu the rating on the Glicko-2 scale
+     * @param phi the rating deviation on the Glicko-2 scale
+     * @param sigma the volatility
+     */
+    public Glicko2Rating(double mu, double phi, double sigma) {
+        this.mu = mu;
+        this.phi = phi;
+        this.sigma = sigma;
+    }
+
+    /**
+     * Gets the rating on the usual Glicko scale.
+     *
+     * @return the rating (1500 for an unrated entrant)
+     */
+    public double getRating() {
+        return 1500.0 + SCALE * mu;
+    }
+
+    /**
+     * Gets the rating deviation on the usual Glicko scale.
+     *
+     * @return the rating deviation (RD)
+     */
+    public double getDeviation() {
+        return SCALE * phi;
+    }
+
+    /**
+     * Gets the half-width of the 95% confidence interval of the rating.
+     *
+     * @return 1.96 × RD
+     */
+    public double getConfidence95() {
+        return 1.96 * getDeviation();
+    }
+
+    /**
+     * Gets the rating on the internal Glicko-2 scale.
+     *
+     * @return mu
+     */
+    public double getMu() {
+        return mu;
+    }
+
+    /**
+     * Gets the rating deviation on the internal Glicko-2 scale.
+     *
+     * @return phi
+     */
+    public double getPhi() {
+        return phi;
+    }
+
+    /**
+     * Gets the volatility of the rating.
+     *
+     * @return sigma
+     */
+    public double getSigma() {
+        return sigma;
+    }
+
+    /**
+     * Updates the rating with the results of one rating period.
+     * <p>
+     * {@code opponents[k]} is the rating of the k-th opponent at the start of
+     * the period, {@code games[k]} the number of games played against it and
+     * {@code scores[k]} the total score (1 per win, 0.5 per draw). Counts may
+     * be fractional when a large batch is spread over several periods. If no
+     * game was played, only the deviation grows.
+     * </p>
+     *
+     * @param opponents the opponents' ratings (snapshot of the start of the period)
+     * @param games the number of games against each opponent
+     * @param scores the total score against each opponent
+     * @param count the number of opponents to read
+     */
+    public void update(Glicko2Rating[] opponents, double[] games, double[] scores, int count) {
+        double inverseV = 0.0;
+        double sum = 0.0;
+        for (int k = 0; k < count; k++) {
+            if (games[k] == 0) continue;
+            double g = g(opponents[k].phi);
+            double e = expected(mu, opponents[k].mu, g);
+            inverseV += games[k] * g * g * e * (1.0 - e);
+            sum += g * (scores[k] - games[k] * e);
+        }
+
+        if (inverseV == 0.0) {
+            phi = Math.sqrt(phi * phi + sigma * sigma);
+            return;
+        }
+
+        double v = 1.0 / inverseV;
+        double delta = v * sum;
+        double newSigma = volatility(delta, v);
+        double phiStar = Math.sqrt(phi * phi + newSigma * newSigma);
+        double newPhi = 1.0 / Math.sqrt(1.0 / (phiStar * phiStar) + 1.0 / v);
+
+        mu = mu + newPhi * newPhi * sum;
+        phi = newPhi;
+        sigma = newSigma;
+    }
+
+    /**
+     * Copies this rating (used to snapshot ratings at the start of a period).
+     *
+     * @return a new rating with the same values
+     */
+    public Glicko2Rating copy() {
+        return new Glicko2Rating(mu, phi, sigma);
+    }
+
+    /**
+     * Reduces the impact of a game according to the opponent's deviation.
+     *
+     * @param phi the opponent's deviation
+     * @return the g(phi) weight
+     */
+    private static double g(double phi) {
+        return 1.0 / Math.sqrt(1.0 + 3.0 * phi * phi / (Math.PI * Math.PI));
+    }
+
+    /**
+     * Expected score against an opponent.
+     *
+     * @param mu the player's rating
+     * @param opponentMu the opponent's rating
+     * @param g the g(phi) weight of the opponent
+     * @return the expected score between 0 and 1
+     */
+    private static double expected(double mu, double opponentMu, double g) {
+        return 1.0 / (1.0 + Math.exp(-g * (mu - opponentMu)));
+    }
+
+    /**
+     * Computes the new volatility with the Illinois algorithm (step 5 of Glicko-2).
+     *
+     * @param delta the estimated improvement
+     * @param v the estimated variance
+     * @return the new volatility
+     */
+    private double volatility(double delta, double v) {
+        double a = Math.log(sigma * sigma);
+        double phi2 = phi * phi;
+
+        double upper = a;
+        double lower;
+        if (delta * delta > phi2 + v) {
+            lower = Math.log(delta * delta - phi2 - v);
+        } else {
+            int k = 1;
+            while (f(a - k * TAU, delta, phi2, v, a) < 0) {
+                k++;
+            }
+            lower = a - k * TAU;
+        }
+
+        double fUpper = f(upper, delta, phi2, v, a);
+        double fLower = f(lower, delta, phi2, v, a);
+        while (Math.abs(lower - upper) > EPSILON) {
+            double c = upper + (upper - lower) * fUpper / (fLower - fUpper);
+            double fC = f(c, delta, phi2, v, a);
+            if (fC * fLower <= 0) {
+                upper = lower;
+                fUpper = fLower;
+            } else {
+                fUpper = fUpper / 2.0;
+            }
+            lower = c;
+            fLower = fC;
+        }
+        return Math.exp(upper / 2.0);
+    }
+
+    /**
+     * Function whose root gives the new volatility.
+     *
+     * @param x the candidate value of ln(sigma²)
+     * @param delta the estimated improvement
+     * @param phi2 the squared deviation
+     * @param v the estimated variance
+     * @param a ln(sigma²) before the update
+     * @return f(x)
+     */
+    private static double f(double x, double delta, double phi2, double v, double a) {
+        double ex = Math.exp(x);
+        double d = phi2 + v + ex;
+        return ex * (delta * delta - phi2 - v - ex) / (2.0 * d * d) - (x - a) / (TAU * TAU);
+    }
+}
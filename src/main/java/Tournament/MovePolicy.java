@@ -0,0 +1,67 @@
+package Tournament;
+
+import Game.DuelEngine;
+import Game.MoveList;
+
+import java.util.Random;
+
+/**
+ * Policy playing uniformly random legal moves, as listed by the engine.
+ * <p>
+ * Unlike the strategies, which decide through a {@code DuelView}, this
+ * policy asks {@link DuelEngine#generateMoves(MoveList)} for every legal
+ * move of the phase, plays one at random with {@link DuelEngine#play(int)},
+ * and starts again until no move is left (or it decides to stop). It gives
+ * a baseline that explores every kind of action, tributes and activations
+ * included.
+ * </p>
+ * <p>
+ * Each worker thread reuses its own move buffer, so the policy keeps no
+ * state between duels and allocates nothing while playing.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class MovePolicy implements BotPolicy {
+
+    /** Largest number of moves played in one phase */
+    private static final int MAX_MOVES_PER_PHASE = 32;
+
+    /** Chance of ending the phase instead of playing one more move */
+    private static final double STOP_CHANCE = 0.1;
+
+    /** Move buffer of each worker thread */
+    private static final ThreadLocal<MoveList> MOVES = ThreadLocal.withInitial(MoveList::new);
+
+    @Override
+    public String getName() {
+        return "moves";
+    }
+
+    @Override
+    public void mainPhase(DuelEngine duel) {
+        playRandomMoves(duel);
+    }
+
+    @Override
+    public void battlePhase(DuelEngine duel) {
+        playRandomMoves(duel);
+    }
+
+    /**
+     * Plays random legal moves until none is left or the policy stops.
+     *
+     * @param duel the running duel
+     */
+    private static void playRandomMoves(DuelEngine duel) {
+        MoveList moves = MOVES.get();
+        Random random = duel.getRandom();
+        for (int k = 0; k < MAX_MOVES_PER_PHASE; k++) {
+            int count = duel.generateMoves(moves);
+            if (count == 0 || random.nextDouble() < STOP_CHANCE) return;
+            if (!duel.play(moves.get(random.nextInt(count)))) return;
+        }
+    }
+}
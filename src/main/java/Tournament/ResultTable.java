@@ -0,0 +1,168 @@
+package Tournament;
+
+/**
+ * Aggregated win/draw/loss counts between every pair of entrants.
+ * <p>
+ * Each worker thread fills its own table, then the tables are merged: no
+ * synchronization is needed while games are running. Counts are kept as
+ * {@code long} so a table can hold millions of games.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class ResultTable {
+
+    /** Number of entrants */
+    private final int size;
+
+    /** wins[i * size + j] = number of games won by i against j */
+    private final long[] wins;
+
+    /** draws[i * size + j] = number of draws between i and j (stored on both sides) */
+    private final long[] draws;
+
+    /**
+     * Creates an empty table.
+     *
+     * @param size the number of entrants
+     */
+    public ResultTable(int size) {
+        this.size = size;
+        this.wins = new long[size * size];
+        this.draws = new long[size * size];
+    }
+
+    /**
+     * Records the result of one game.
+     *
+     * @param first the index of the first entrant
+     * @param second the index of the second entrant
+     * @param result 0 if {@code first} won, 1 if {@code second} won, anything else for a draw
+     */
+    public void record(int first, int second, int result) {
+        if (result == 0) {
+            wins[first * size + second]++;
+        } else if (result == 1) {
+            wins[second * size + first]++;
+        } else {
+            draws[first * size + second]++;
+            draws[second * size + first]++;
+        }
+    }
+
+    /**
+     * Adds the counts of another table into this one.
+     *
+     * @param other a table with the same number of entrants
+     */
+    public void merge(ResultTable other) {
+        for (int k = 0; k < wins.length; k++) {
+            wins[k] += other.wins[k];
+            draws[k] += other.draws[k];
+        }
+    }
+
+    /**
+     * Gets the number of entrants.
+     *
+     * @return the size of the table
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of wins of an entrant against another.
+     *
+     * @param i the winner
+     * @param j the loser
+     * @return the number of games won by i against j
+     */
+    public long wins(int i, int j) {
+        return wins[i * size + j];
+    }
+
+    /**
+     * Gets the number of draws between two entrants.
+     *
+     * @param i an entrant
+     * @param j another entrant
+     * @return the number of draws
+     */
+    public long draws(int i, int j) {
+        return draws[i * size + j];
+    }
+
+    /**
+     * Gets the number of games played between two entrants.
+     *
+     * @param i an entrant
+     * @param j another entrant
+     * @return wins + losses + draws
+     */
+    public long games(int i, int j) {
+        return wins[i * size + j] + wins[j * size + i] + draws[i * size + j];
+    }
+
+    /**
+     * Gets the score of an entrant against another (1 per win, 0.5 per draw).
+     *
+     * @param i the entrant
+     * @param j the opponent
+     * @return the total score of i against j
+     */
+    public double score(int i, int j) {
+        return wins[i * size + j] + 0.5 * draws[i * size + j];
+    }
+
+    /**
+     * Gets the total number of games recorded.
+     *
+     * @return the number of games
+     */
+    public long totalGames() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                total += games(i, j);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Serializes the table as a comma-separated list (used by checkpoints).
+     *
+     * @return the wins followed by the draws, row by row
+     */
+    public String encode() {
+        StringBuilder sb = new StringBuilder();
+        for (long w : wins) sb.append(w).append(',');
+        for (long d : draws) sb.append(d).append(',');
+        if (sb.length() > 0) sb.setLength(sb.length() - 1);
+        return sb.toString();
+    }
+
+    /**
+     * Restores a table serialized by {@link #encode()}.
+     *
+     * @param size the number of entrants
+     * @param encoded the encoded counts
+     * @return the restored table
+     * @throws IllegalArgumentException if the encoded data does not match the size
+     */
+    public static ResultTable decode(int size, String encoded) {
+        ResultTable table = new ResultTable(size);
+        String[] parts = encoded.split(",");
+        if (parts.length != 2 * size * size) {
+            throw new IllegalArgumentException("Result table does not match " + size + " entrants");
+        }
+        for (int k = 0; k < size * size; k++) {
+            table.wins[k] = Long.parseLong(parts[k]);
+            table.draws[k] = Long.parseLong(parts[size * size + k]);
+        }
+        return table;
+    }
+}
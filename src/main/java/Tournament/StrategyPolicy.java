@@ -0,0 +1,93 @@
+package Tournament;
+
+import Bot.BotStrategy;
+import Bot.DuelView;
+import Bot.EngineDuelView;
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import Game.DuelEngine;
+
+/**
+ * Tournament entrant playing a {@link BotStrategy} in the headless engine.
+ * <p>
+ * The strategy only sees the duel through an {@link EngineDuelView}; this
+ * policy applies its decisions with the {@link DuelEngine} methods, which
+ * reject illegal choices. The same strategies drive {@link Bot.SimpleBot}
+ * in the UI, so a tournament measures the bots the player actually faces.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class StrategyPolicy implements BotPolicy {
+
+    /** The decision-making of the entrant */
+    private final BotStrategy strategy;
+
+    /**
+     * Creates an entrant from a strategy.
+     *
+     * @param strategy the strategy, shared by all worker threads
+     */
+    public StrategyPolicy(BotStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    /**
+     * Gets the strategy played by this entrant.
+     *
+     * @return the strategy
+     */
+    public BotStrategy getStrategy() {
+        return strategy;
+    }
+
+    @Override
+    public String getName() {
+        return strategy.getName();
+    }
+
+    @Override
+    public void mainPhase(DuelEngine duel) {
+        DuelView view = new EngineDuelView(duel);
+
+        MonsterCard monster = strategy.chooseSummon(view);
+        if (monster != null) {
+            Position position = strategy.choosePosition(view, monster);
+            int tributes = DuelEngine.tributesRequired(monster);
+            int[] zones = tributes == 0 ? new int[0] : strategy.chooseTributes(view, monster, tributes);
+            duel.normalSummon(monster, position, zones);
+        }
+
+        // Spells are activated from the hand (effects resolve at once), others are Set
+        for (int k = 0; k < DuelView.ZONES; k++) {
+            Card card = strategy.chooseSpellTrap(view);
+            if (card == null) break;
+            boolean played = strategy.shouldActivate(view, card)
+                    ? duel.activate(card)
+                    : duel.setSpellTrap(card) >= 0;
+            if (!played) break;
+        }
+    }
+
+    @Override
+    public void battlePhase(DuelEngine duel) {
+        DuelView view = new EngineDuelView(duel);
+        int[] targets = new int[DuelView.ZONES];
+        strategy.declareAttacks(view, targets);
+
+        // Battles first, direct attacks once the field is cleared
+        for (int zone = 0; zone < DuelView.ZONES; zone++) {
+            if (targets[zone] >= 0) {
+                duel.attack(zone, targets[zone]);
+            }
+        }
+        for (int zone = 0; zone < DuelView.ZONES; zone++) {
+            if (targets[zone] == BotStrategy.DIRECT_ATTACK) {
+                duel.directAttack(zone);
+            }
+        }
+    }
+}
@@ -0,0 +1,702 @@
+package Tournament;
+
+import Bot.BotStrategy;
+import Bot.GreedyStrategy;
+import Bot.RandomStrategy;
+import Bot.SimpleStrategy;
+import Bot.TimedStrategy;
+import Card.Card;
+import Deck.Deck;
+import Game.DuelEngine;
+import Game.DuelRandom;
+import Player.Player;
+import util.GameLog;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Runs bot tournaments on the headless {@link DuelEngine} and ranks the policies.
+ * <p>
+ * <strong>Scheduling:</strong> the tournament is played in rounds. In a
+ * round-robin round every pair of policies meets; in a Swiss round policies
+ * are paired by current Glicko-2 rating, preferring opponents they met the
+ * least. A match between two policies plays every combination of deck lists
+ * with both seats (first and second player), {@code gamesPerPairing} times
+ * each, so neither the decks nor the first-turn advantage bias the ranking.
+ * </p>
+ * <p>
+ * <strong>Parallelism:</strong> the games of a round are split recursively
+ * on a {@link ForkJoinPool}, whose work stealing balances duels of very
+ * different lengths. Each leaf task fills its own {@link ResultTable}; the
+ * tables are merged when tasks join. Every game has its own seed derived from
+ * the tournament seed, the round and the game index, so a run is reproducible
+ * whatever the number of threads.
+ * </p>
+ * <p>
+ * <strong>Ratings:</strong> each round is a Glicko-2 rating period; Elo
+ * ratings are estimated from all games at once (see {@link EloRatings}).
+ * Both come with 95% confidence intervals.
+ * </p>
+ * <p>
+ * <strong>Checkpoints:</strong> after each round the results and ratings are
+ * written to the checkpoint file (atomically, through a temporary file). A run
+ * started with the same configuration and checkpoint resumes after the last
+ * completed round.
+ * </p>
+ * <p>
+ * Usage:
+ * <pre>
+ * java Tournament.TournamentRunner [--format roundrobin|swiss] [--games N] [--rounds N]
+ *      [--pairing-games N] [--threads N] [--seed N] [--turn-limit N]
+ *      [--policies simple,greedy,random] [--decks file1,file2]
+ *      [--checkpoint file]
+ * </pre>
+ * Without {@code --pairing-games}, the size of the matches is derived from
+ * {@code --games} so that the budget is played in about 50 rounds.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class TournamentRunner {
+
+    /** Scheduling format of the rounds */
+    public enum Format {
+        /** Every pair of policies meets in every round */
+        ROUND_ROBIN,
+        /** Policies are paired by rating in every round */
+        SWISS
+    }
+
+    /** Version of the checkpoint file format */
+    private static final int CHECKPOINT_VERSION = 1;
+
+    /** Number of games below which a task is not split any more */
+    private static final int LEAF_GAMES = 32;
+
+    /** Maximum number of games between two policies in one Glicko-2 rating period */
+    private static final int PERIOD_GAMES = 16;
+
+    /** Number of rounds aimed at when the pairing size is derived from the game budget */
+    private static final int TARGET_ROUNDS = 50;
+
+    /** Life Points of each player at the start of a duel */
+    private static final int STARTING_LP = 8000;
+
+    /** The competing policies */
+    private final List<BotPolicy> policies;
+
+    /** The deck lists played by every match */
+    private final List<DeckList> decks;
+
+    /** Scheduling format */
+    private final Format format;
+
+    /** Number of games per deck combination and seat in a match */
+    private final int gamesPerPairing;
+
+    /** Seed of the whole tournament */
+    private final long seed;
+
+    /** Turn limit of each duel */
+    private final int turnLimit;
+
+    /** Checkpoint file, or null to disable checkpoints */
+    private final Path checkpoint;
+
+    /** Pool running the games */
+    private final ForkJoinPool pool;
+
+    /** Aggregated results of the completed rounds */
+    private ResultTable results;
+
+    /** Glicko-2 rating of each policy */
+    private Glicko2Rating[] glicko;
+
+    /** Number of rounds already played */
+    private int roundsCompleted;
+
+    /**
+     * Creates a tournament.
+     *
+     * @param policies the competing policies (at least two, unique names)
+     * @param decks the deck lists (at least one)
+     * @param format the scheduling format
+     * @param gamesPerPairing games per deck combination and seat in each match
+     * @param seed the tournament seed
+     * @param turnLimit turn limit of each duel
+     * @param threads number of worker threads
+     * @param checkpoint the checkpoint file, or null
+     */
+    public TournamentRunner(List<BotPolicy> policies, List<DeckList> decks, Format format,
+                            int gamesPerPairing, long seed, int turnLimit, int threads,
+                            Path checkpoint) {
+        if (policies.size() < 2) {
+            throw new IllegalArgumentException("A tournament needs at least two policies");
+        }
+        if (decks.isEmpty()) {
+            throw new IllegalArgumentException("A tournament needs at least one deck list");
+        }
+        this.policies = new ArrayList<>(policies);
+        this.decks = new ArrayList<>(decks);
+        this.format = format;
+        this.gamesPerPairing = Math.max(1, gamesPerPairing);
+        this.seed = seed;
+        this.turnLimit = turnLimit;
+        this.checkpoint = checkpoint;
+        this.pool = new ForkJoinPool(Math.max(1, threads));
+        this.results = new ResultTable(policies.size());
+        this.glicko = new Glicko2Rating[policies.size()];
+        for (int i = 0; i < glicko.length; i++) {
+            glicko[i] = new Glicko2Rating();
+        }
+    }
+
+    // --- Running ---
+
+    /**
+     * Plays rounds until {@code totalRounds} rounds are completed.
+     * <p>
+     * If a checkpoint matching this configuration exists, it is loaded first
+     * and only the missing rounds are played.
+     * </p>
+     *
+     * @param totalRounds the number of rounds of the tournament
+     * @param log where to print the progress, or null
+     * @throws IOException if the checkpoint cannot be read or written
+     */
+    public void run(int totalRounds, PrintStream log) throws IOException {
+        if (loadCheckpoint() && log != null) {
+            log.println("Resuming after round " + roundsCompleted + " (" + results.totalGames() + " games)");
+        }
+
+        while (roundsCompleted < totalRounds) {
+            int[] pairs = schedule(roundsCompleted);
+            int matches = pairs.length / 2;
+            int gamesPerMatch = gamesPerMatch();
+
+            long start = System.nanoTime();
+            ResultTable round = pool.invoke(new RoundTask(roundsCompleted, pairs, gamesPerMatch,
+                                                          0, matches * gamesPerMatch));
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            results.merge(round);
+            updateGlicko(round);
+            roundsCompleted++;
+            saveCheckpoint();
+
+            if (log != null) {
+                long games = (long) matches * gamesPerMatch;
+                log.printf("Round %d/%d: %d games in %.2fs (%.0f games/s)%n",
+                           roundsCompleted, totalRounds, games, seconds, games / Math.max(seconds, 1e-9));
+            }
+        }
+    }
+
+    /**
+     * Gets the number of games of one match between two policies.
+     *
+     * @return decks² × 2 seats × games per pairing
+     */
+    public int gamesPerMatch() {
+        return decks.size() * decks.size() * 2 * gamesPerPairing;
+    }
+
+    /**
+     * Gets the number of games of one round.
+     *
+     * @return the number of games played per round
+     */
+    public long gamesPerRound() {
+        int n = policies.size();
+        long matches = format == Format.ROUND_ROBIN ? (long) n * (n - 1) / 2 : n / 2;
+        return matches * gamesPerMatch();
+    }
+
+    /**
+     * Plays a single duel between two policies.
+     *
+     * @param first the policy playing first
+     * @param firstDeck the deck of the first player
+     * @param second the policy playing second
+     * @param secondDeck the deck of the second player
+     * @param gameSeed the seed of the duel
+     * @param turnLimit the turn limit of the duel
+     * @return 0 if the first player won, 1 if the second won, {@link DuelEngine#RESULT_DRAW} otherwise
+     */
+    public static int playGame(BotPolicy first, DeckList firstDeck, BotPolicy second, DeckList secondDeck,
+                               long gameSeed, int turnLimit) {
+        Random random = new DuelRandom(gameSeed);
+        Player p1 = createPlayer(first.getName() + " (1)", firstDeck, random);
+        Player p2 = createPlayer(second.getName() + " (2)", secondDeck, random);
+
+        DuelEngine duel = new DuelEngine(p1, p2, turnLimit, random);
+        duel.start();
+        while (!duel.isOver()) {
+            if (!duel.beginTurn()) break;
+            BotPolicy policy = duel.getActiveIndex() == 0 ? first : second;
+
+            policy.mainPhase(duel);
+            if (duel.enterBattlePhase()) {
+                policy.battlePhase(duel);
+            }
+            duel.enterMainPhase2();
+            policy.mainPhase(duel);
+            duel.endTurn();
+        }
+        return duel.getResult();
+    }
+
+    /**
+     * Creates a player with a fresh copy of a deck list.
+     *
+     * @param name the player's name
+     * @param deckList the deck list
+     * @param random the random source used to shuffle the deck
+     * @return the player, owning all the cards of its deck
+     */
+    private static Player createPlayer(String name, DeckList deckList, Random random) {
+        List<Card> cards = deckList.instantiate(random);
+        Player player = new Player(name, STARTING_LP, new Deck(cards), null);
+        for (Card card : cards) {
+            card.setOwner(player);
+        }
+        return player;
+    }
+
+    // --- Scheduling ---
+
+    /**
+     * Computes the pairs of policies meeting in a round.
+     *
+     * @param round the round index
+     * @return the pairs, flattened ({@code [a0, b0, a1, b1, ...]})
+     */
+    private int[] schedule(int round) {
+        int n = policies.size();
+        if (format == Format.ROUND_ROBIN) {
+            int[] pairs = new int[n * (n - 1)];
+            int k = 0;
+            for (int i = 0; i < n; i++) {
+                for (int j = i + 1; j < n; j++) {
+                    pairs[k++] = i;
+                    pairs[k++] = j;
+                }
+            }
+            return pairs;
+        }
+
+        // Swiss: standings by rating, pair each entrant with the closest one met the least
+        Integer[] standings = new Integer[n];
+        for (int i = 0; i < n; i++) standings[i] = i;
+        Arrays.sort(standings, Comparator.comparingDouble((Integer i) -> -glicko[i].getRating())
+                                         .thenComparingInt(i -> i));
+
+        boolean[] paired = new boolean[n];
+        int[] pairs = new int[(n / 2) * 2];
+        int k = 0;
+        for (int a = 0; a < n && k < pairs.length; a++) {
+            int i = standings[a];
+            if (paired[i]) continue;
+            int best = -1;
+            for (int b = a + 1; b < n; b++) {
+                int j = standings[b];
+                if (paired[j]) continue;
+                if (best < 0 || results.games(i, j) < results.games(i, best)) {
+                    best = j;
+                }
+            }
+            if (best < 0) break;
+            paired[i] = true;
+            paired[best] = true;
+            pairs[k++] = i;
+            pairs[k++] = best;
+        }
+        return Arrays.copyOf(pairs, k);
+    }
+
+    /**
+     * Derives the seed of a game from the tournament seed (SplitMix64 finalizer).
+     *
+     * @param round the round index
+     * @param game the game index inside the round
+     * @return the seed of the game
+     */
+    private long gameSeed(int round, long game) {
+        long z = seed + 0x9E3779B97F4A7C15L * (((long) round << 40) ^ game ^ 0x5DEECE66DL);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Plays a range of games of a round, splitting it across the pool.
+     */
+    private final class RoundTask extends RecursiveTask<ResultTable> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int round;
+        private final int[] pairs;
+        private final int gamesPerMatch;
+        private final int from;
+        private final int to;
+
+        /**
+         * Creates a task playing the games {@code [from, to)} of a round.
+         *
+         * @param round the round index
+         * @param pairs the pairs of the round
+         * @param gamesPerMatch the number of games of each match
+         * @param from the first game index (inclusive)
+         * @param to the last game index (exclusive)
+         */
+        RoundTask(int round, int[] pairs, int gamesPerMatch, int from, int to) {
+            this.round = round;
+            this.pairs = pairs;
+            this.gamesPerMatch = gamesPerMatch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ResultTable compute() {
+            if (to - from <= LEAF_GAMES) {
+                ResultTable table = new ResultTable(policies.size());
+                for (int game = from; game < to; game++) {
+                    playIndexedGame(game, table);
+                }
+                return table;
+            }
+            int middle = (from + to) >>> 1;
+            RoundTask left = new RoundTask(round, pairs, gamesPerMatch, from, middle);
+            RoundTask right = new RoundTask(round, pairs, gamesPerMatch, middle, to);
+            left.fork();
+            ResultTable table = right.compute();
+            table.merge(left.join());
+            return table;
+        }
+
+        /**
+         * Decodes a game index (match, deck combination, seat, repetition) and plays it.
+         *
+         * @param game the game index inside the round
+         * @param table the table receiving the result
+         */
+        private void playIndexedGame(int game, ResultTable table) {
+            int match = game / gamesPerMatch;
+            int rest = (game % gamesPerMatch) / gamesPerPairing;
+            int seat = rest % 2;
+            int deckPair = rest / 2;
+
+            int a = pairs[2 * match];
+            int b = pairs[2 * match + 1];
+            DeckList deckA = decks.get(deckPair / decks.size());
+            DeckList deckB = decks.get(deckPair % decks.size());
+
+            int first = seat == 0 ? a : b;
+            int second = seat == 0 ? b : a;
+            DeckList firstDeck = seat == 0 ? deckA : deckB;
+            DeckList secondDeck = seat == 0 ? deckB : deckA;
+
+            int result = playGame(policies.get(first), firstDeck, policies.get(second), secondDeck,
+                                  gameSeed(round, game), turnLimit);
+            table.record(first, second, result);
+        }
+    }
+
+    // --- Ratings ---
+
+    /**
+     * Applies the Glicko-2 rating periods of a round.
+     * <p>
+     * Glicko-2 is designed for a handful of games per period: a single period
+     * holding thousands of lopsided games overshoots and inflates the
+     * volatility. A round is therefore spread evenly over as many periods as
+     * needed to keep at most {@link #PERIOD_GAMES} games per pair in each.
+     * </p>
+     *
+     * @param round the results of the round only
+     */
+    private void updateGlicko(ResultTable round) {
+        int n = policies.size();
+        long maxGames = 0;
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                maxGames = Math.max(maxGames, round.games(i, j));
+            }
+        }
+        int periods = (int) Math.max(1, (maxGames + PERIOD_GAMES - 1) / PERIOD_GAMES);
+
+        Glicko2Rating[] snapshot = new Glicko2Rating[n];
+        double[] games = new double[n];
+        double[] scores = new double[n];
+        for (int period = 0; period < periods; period++) {
+            for (int i = 0; i < n; i++) snapshot[i] = glicko[i].copy();
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    games[j] = i == j ? 0 : (double) round.games(i, j) / periods;
+                    scores[j] = i == j ? 0 : round.score(i, j) / periods;
+                }
+                glicko[i].update(snapshot, games, scores, n);
+            }
+        }
+    }
+
+    /**
+     * Prints the standings sorted by Elo rating.
+     *
+     * @param out the destination stream
+     */
+    public void printReport(PrintStream out) {
+        int n = policies.size();
+        EloRatings elo = EloRatings.estimate(results);
+
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparingDouble((Integer i) -> -elo.getRating(i)));
+
+        out.println("Tournament (" + format + "): " + results.totalGames() + " games, "
+                    + roundsCompleted + " rounds, " + decks.size() + " deck lists");
+        out.printf("%-4s %-16s %10s %8s %8s %8s %7s %18s %18s%n",
+                   "#", "Policy", "Games", "Wins", "Draws", "Losses", "Score", "Elo (95%)", "Glicko-2 (95%)");
+        for (int rank = 0; rank < n; rank++) {
+            int i = order[rank];
+            long wins = 0;
+            long draws = 0;
+            long games = 0;
+            for (int j = 0; j < n; j++) {
+                if (i == j) continue;
+                wins += results.wins(i, j);
+                draws += results.draws(i, j);
+                games += results.games(i, j);
+            }
+            double score = games > 0 ? 100.0 * (wins + 0.5 * draws) / games : 0.0;
+            out.printf("%-4d %-16s %10d %8d %8d %8d %6.1f%% %8.0f +/- %-5.0f %8.0f +/- %-5.0f%n",
+                       rank + 1, policies.get(i).getName(), games, wins, draws, games - wins - draws, score,
+                       elo.getRating(i), elo.getConfidence95(i),
+                       glicko[i].getRating(), glicko[i].getConfidence95());
+        }
+    }
+
+    // --- Checkpoints ---
+
+    /**
+     * Builds a fingerprint of the configuration, stored in the checkpoint.
+     * <p>
+     * A checkpoint is only resumed if it was written with the same policies,
+     * decks, format, pairing size, seed and turn limit.
+     * </p>
+     *
+     * @return the configuration fingerprint
+     */
+    private String fingerprint() {
+        StringBuilder sb = new StringBuilder();
+        for (BotPolicy policy : policies) sb.append(policy.getName()).append(',');
+        sb.append('|');
+        for (DeckList deck : decks) sb.append(deck.getName()).append(':').append(deck.size()).append(',');
+        sb.append('|').append(format).append('|').append(gamesPerPairing)
+          .append('|').append(seed).append('|').append(turnLimit);
+        return sb.toString();
+    }
+
+    /**
+     * Writes the state of the tournament to the checkpoint file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    private void saveCheckpoint() throws IOException {
+        if (checkpoint == null) return;
+
+        Properties state = new Properties();
+        state.setProperty("version", Integer.toString(CHECKPOINT_VERSION));
+        state.setProperty("config", fingerprint());
+        state.setProperty("roundsCompleted", Integer.toString(roundsCompleted));
+        state.setProperty("results", results.encode());
+        for (int i = 0; i < glicko.length; i++) {
+            state.setProperty("glicko." + i, glicko[i].getMu() + "," + glicko[i].getPhi() + "," + glicko[i].getSigma());
+        }
+
+        Path parent = checkpoint.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Path temp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            state.store(out, "Tournament checkpoint");
+        }
+        try {
+            Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Loads the checkpoint file if it matches the current configuration.
+     *
+     * @return true if a checkpoint was resumed
+     * @throws IOException if the file exists but cannot be read
+     */
+    private boolean loadCheckpoint() throws IOException {
+        if (checkpoint == null || !Files.exists(checkpoint)) return false;
+
+        Properties state = new Properties();
+        try (InputStream in = Files.newInputStream(checkpoint)) {
+            state.load(in);
+        }
+        if (!Integer.toString(CHECKPOINT_VERSION).equals(state.getProperty("version"))
+                || !fingerprint().equals(state.getProperty("config"))) {
+            System.err.println("Checkpoint " + checkpoint + " belongs to another configuration, ignored.");
+            return false;
+        }
+
+        int n = policies.size();
+        results = ResultTable.decode(n, state.getProperty("results"));
+        for (int i = 0; i < n; i++) {
+            String[] values = state.getProperty("glicko." + i).split(",");
+            glicko[i] = new Glicko2Rating(Double.parseDouble(values[0]), Double.parseDouble(values[1]),
+                                          Double.parseDouble(values[2]));
+        }
+        roundsCompleted = Integer.parseInt(state.getProperty("roundsCompleted"));
+        return true;
+    }
+
+    /**
+     * Shuts the worker pool down.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    // --- Command line ---
+
+    /**
+     * Gets a built-in policy by name.
+     *
+     * <p>
+     * The strategy of the policy is wrapped in a {@link TimedStrategy}, so its
+     * decision latency can be reported at the end of the tournament.
+     * "moves" is the {@link MovePolicy}, which plays random legal moves
+     * listed by the engine and has no strategy to time.
+     * </p>
+     *
+     * @param name "simple", "greedy", "random" or "moves"
+     * @return the policy
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static BotPolicy policyByName(String name) {
+        BotStrategy strategy;
+        switch (name.trim().toLowerCase()) {
+            case "simple": strategy = new SimpleStrategy(); break;
+            case "greedy": strategy = new GreedyStrategy(); break;
+            case "random": strategy = new RandomStrategy(); break;
+            case "moves": return new MovePolicy();
+            default: throw new IllegalArgumentException("Unknown policy: " + name);
+        }
+        return new StrategyPolicy(new TimedStrategy(strategy));
+    }
+
+    /**
+     * Command line entry point, see the class documentation for the options.
+     * <p>
+     * The console output of the model (every draw, summon and battle is
+     * printed) is turned off with {@link GameLog#setQuiet(boolean)}; only the progress and the
+     * final standings are printed.
+     * </p>
+     *
+     * @param args the command line options
+     * @throws IOException if a deck list or the checkpoint cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        Format format = Format.ROUND_ROBIN;
+        long totalGames = 100_000;
+        int rounds = -1;
+        int pairingGames = -1;
+        int threads = Runtime.getRuntime().availableProcessors();
+        long seed = 2025;
+        int turnLimit = DuelEngine.DEFAULT_TURN_LIMIT;
+        String policyNames = "simple,greedy,random";
+        String deckFiles = null;
+        Path checkpoint = Paths.get("tournament.checkpoint");
+
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i]) {
+                case "--format": format = "swiss".equalsIgnoreCase(value) ? Format.SWISS : Format.ROUND_ROBIN; i++; break;
+                case "--games": totalGames = Long.parseLong(value); i++; break;
+                case "--rounds": rounds = Integer.parseInt(value); i++; break;
+                case "--pairing-games": pairingGames = Integer.parseInt(value); i++; break;
+                case "--threads": threads = Integer.parseInt(value); i++; break;
+                case "--seed": seed = Long.parseLong(value); i++; break;
+                case "--turn-limit": turnLimit = Integer.parseInt(value); i++; break;
+                case "--policies": policyNames = value; i++; break;
+                case "--decks": deckFiles = value; i++; break;
+                case "--checkpoint": checkpoint = "none".equals(value) ? null : Paths.get(value); i++; break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    return;
+            }
+        }
+
+        List<BotPolicy> policies = new ArrayList<>();
+        for (String name : policyNames.split(",")) {
+            policies.add(policyByName(name));
+        }
+        List<DeckList> decks = new ArrayList<>();
+        if (deckFiles == null) {
+            decks.addAll(DeckList.samples());
+        } else {
+            for (String file : deckFiles.split(",")) {
+                decks.add(DeckList.load(Paths.get(file.trim())));
+            }
+        }
+
+        if (pairingGames < 0) {
+            // Big enough rounds to keep every thread busy and checkpoints rare
+            int n = policies.size();
+            long matches = format == Format.ROUND_ROBIN ? (long) n * (n - 1) / 2 : n / 2;
+            long gamesPerUnit = Math.max(1, matches * decks.size() * decks.size() * 2);
+            int targetRounds = rounds > 0 ? rounds : TARGET_ROUNDS;
+            pairingGames = (int) Math.max(1, totalGames / (gamesPerUnit * targetRounds));
+        }
+
+        TournamentRunner runner = new TournamentRunner(policies, decks, format, pairingGames, seed,
+                                                       turnLimit, threads, checkpoint);
+        if (rounds < 0) {
+            rounds = (int) Math.max(1, (totalGames + runner.gamesPerRound() - 1) / runner.gamesPerRound());
+        }
+
+        GameLog.setQuiet(true);
+        try {
+            System.out.println("Running " + rounds + " rounds of " + runner.gamesPerRound() + " games on "
+                            + threads + " threads");
+            runner.run(rounds, System.out);
+            runner.printReport(System.out);
+            for (BotPolicy policy : policies) {
+                if (policy instanceof StrategyPolicy
+                        && ((StrategyPolicy) policy).getStrategy() instanceof TimedStrategy) {
+                    System.out.println();
+                    ((TimedStrategy) ((StrategyPolicy) policy).getStrategy()).report(System.out);
+                }
+            }
+        } finally {
+            runner.shutdown();
+        }
+    }
+}
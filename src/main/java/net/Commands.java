@@ -0,0 +1,153 @@
+package net;
+
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import Game.DuelEngine;
+import Game.Moves;
+import Game.Phase;
+import Player.Player;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Applies the player commands of the {@link Protocol} on a {@link DuelEngine}.
+ * <p>
+ * Shared by the {@link DuelServer}, which validates the commands of remote
+ * clients, and by {@link LockstepPeer}, where both peers apply the same
+ * commands to their own engine. A command is legal only if it comes from the
+ * active player (a surrender is always allowed while the duel runs) and the
+ * engine accepts it; a malformed payload is an illegal command.
+ * </p>
+ * <p>
+ * {@link #encode(int)} turns a move of the engine ({@link Moves}) into the
+ * matching command, so a screen choosing its actions from the legal moves
+ * can send them to a peer or a server.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class Commands {
+
+    /**
+     * Private constructor: this class only exposes static helpers.
+     */
+    private Commands() {
+    }
+
+    /**
+     * Applies a command on the engine.
+     *
+     * @param engine the engine of the duel
+     * @param playerIndex the index of the player sending the command
+     * @param opcode the command
+     * @param body the payload
+     * @return true if the command was legal and applied
+     */
+    public static boolean execute(DuelEngine engine, int playerIndex, byte opcode, ByteBuffer body) {
+        if (engine.isOver()) return false;
+        if (opcode != Protocol.SURRENDER && engine.getActiveIndex() != playerIndex) return false;
+        try {
+            return apply(engine, playerIndex, opcode, body);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Encodes a move of the active player as a command.
+     *
+     * @param move the packed move ({@link Moves})
+     * @return the opcode followed by the payload
+     * @throws IllegalArgumentException if the move has no command
+     */
+    public static byte[] encode(int move) {
+        byte source = (byte) Moves.source(move);
+        switch (Moves.kind(move)) {
+            case Moves.NORMAL_SUMMON:
+            case Moves.SET_MONSTER: {
+                Position position = Moves.kind(move) == Moves.NORMAL_SUMMON ? Position.ATTACK : Position.FACE_DOWN;
+                int tributes = Moves.tributeCount(move);
+                byte[] command = new byte[4 + tributes];
+                command[0] = Protocol.SUMMON;
+                command[1] = source;
+                command[2] = (byte) position.ordinal();
+                command[3] = (byte) tributes;
+                if (tributes > 0) command[4] = (byte) Moves.target(move);
+                if (tributes > 1) command[5] = (byte) Moves.second(move);
+                return command;
+            }
+            case Moves.CHANGE_POSITION:
+                return new byte[] { Protocol.CHANGE_POSITION, source };
+            case Moves.SET_SPELL_TRAP:
+                return new byte[] { Protocol.SET, source };
+            case Moves.ACTIVATE:
+                return new byte[] { Protocol.ACTIVATE, source };
+            case Moves.ACTIVATE_SET:
+                return new byte[] { Protocol.ACTIVATE_SET, source };
+            case Moves.ATTACK:
+                return new byte[] { Protocol.ATTACK, source, (byte) Moves.target(move) };
+            case Moves.DIRECT_ATTACK:
+                return new byte[] { Protocol.DIRECT_ATTACK, source };
+            default:
+                throw new IllegalArgumentException("No command for move " + Moves.toString(move));
+        }
+    }
+
+    /**
+     * Applies a command of the sending player.
+     *
+     * @param engine the engine of the duel
+     * @param playerIndex the index of the player sending the command
+     * @param opcode the command
+     * @param body the payload
+     * @return true if the command was legal
+     */
+    private static boolean apply(DuelEngine engine, int playerIndex, byte opcode, ByteBuffer body) {
+        Player player = engine.getPlayer(playerIndex);
+        switch (opcode) {
+            case Protocol.SUMMON: {
+                Card card = player.getHand().getCard(body.get());
+                Position position = Position.values()[body.get()];
+                int[] tributes = new int[body.get() & 0xFF];
+                for (int i = 0; i < tributes.length; i++) {
+                    tributes[i] = body.get();
+                }
+                return card instanceof MonsterCard && engine.normalSummon((MonsterCard) card, position, tributes);
+            }
+            case Protocol.SET: {
+                Card card = player.getHand().getCard(body.get());
+                return card != null && engine.setSpellTrap(card) >= 0;
+            }
+            case Protocol.ACTIVATE: {
+                Card card = player.getHand().getCard(body.get());
+                return card != null && engine.activate(card);
+            }
+            case Protocol.ACTIVATE_SET:
+                return engine.activateSet(body.get());
+            case Protocol.CHANGE_POSITION:
+                return engine.changePosition(body.get());
+            case Protocol.ATTACK:
+                return engine.attack(body.get(), body.get()) != DuelEngine.ILLEGAL;
+            case Protocol.DIRECT_ATTACK:
+                return engine.directAttack(body.get());
+            case Protocol.BATTLE_PHASE:
+                return engine.getPhase() == Phase.MP1 && engine.enterBattlePhase();
+            case Protocol.MAIN_PHASE_2:
+                if (engine.getPhase() != Phase.MP1 && engine.getPhase() != Phase.BP) return false;
+                engine.enterMainPhase2();
+                return true;
+            case Protocol.END_TURN:
+                engine.endTurn();
+                engine.beginTurn();
+                return true;
+            case Protocol.SURRENDER:
+                return engine.surrender(playerIndex);
+            default:
+                return false;
+        }
+    }
+}
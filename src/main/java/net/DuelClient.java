@@ -0,0 +1,353 @@
+package net;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Blocking client of a {@link DuelServer}.
+ * <p>
+ * Each command sends one frame and waits for the server's answer, keeping
+ * the latest {@link RemoteState} up to date on the way. Commands return false
+ * when the server rejects them, like the methods of {@link Game.DuelEngine}.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class DuelClient implements Closeable {
+
+    /** Socket connected to the server */
+    private final SocketChannel channel;
+
+    /** Bytes received and not yet decoded */
+    private final ByteBuffer in = ByteBuffer.allocate(Protocol.MAX_FRAME * 2);
+
+    /** Buffer of the outgoing command */
+    private final ByteBuffer out = ByteBuffer.allocate(64);
+
+    /** Identifier of the current duel, or 0 */
+    private int duelId;
+
+    /** Latest state received, or null before the first duel */
+    private RemoteState state;
+
+    /**
+     * Connects to a duel server.
+     *
+     * @param host the host name of the server
+     * @param port the TCP port of the server
+     * @throws IOException if the connection fails
+     */
+    public DuelClient(String host, int port) throws IOException {
+        channel = SocketChannel.open(new InetSocketAddress(host, port));
+        channel.socket().setTcpNoDelay(true);
+        in.flip();
+    }
+
+    /**
+     * Joins the matchmaking queue and waits for an opponent.
+     *
+     * @param name the name of the player
+     * @param deck the index of the deck list on the server
+     * @return true once a duel was created, false if the server refused
+     * @throws IOException if the connection fails
+     */
+    public boolean hello(String name, int deck) throws IOException {
+        out.clear();
+        int start = Protocol.beginFrame(out, Protocol.HELLO);
+        out.put((byte) deck);
+        Protocol.putString(out, name);
+        Protocol.endFrame(out, start);
+        send();
+
+        while (true) {
+            ByteBuffer frame = receive();
+            byte opcode = frame.get();
+            if (opcode == Protocol.REJECTED) return false;
+            if (opcode == Protocol.WELCOME) {
+                duelId = frame.getInt();
+                // The first state follows the welcome message
+                while (receive().get() != Protocol.STATE) {
+                    // skip anything else
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Waits until it is the client's turn or the duel is over.
+     *
+     * @return the latest state
+     * @throws IOException if the connection fails
+     */
+    public RemoteState awaitTurn() throws IOException {
+        while (!state.isOver() && !state.isMyTurn()) {
+            receive();
+        }
+        return state;
+    }
+
+    /**
+     * Waits for the next state sent by the server, for instance after an
+     * action of the opponent.
+     *
+     * @return the new state
+     * @throws IOException if the connection fails
+     */
+    public RemoteState awaitState() throws IOException {
+        while (receive().get() != Protocol.STATE) {
+            // skip anything else
+        }
+        return state;
+    }
+
+    /**
+     * Sends any command, for instance one encoded by {@link Commands#encode(int)}.
+     *
+     * @param opcode the command
+     * @param payload the payload of the command
+     * @return true if the command was accepted
+     * @throws IOException if the connection fails
+     */
+    public boolean send(byte opcode, byte... payload) throws IOException {
+        out.clear();
+        int start = Protocol.beginFrame(out, opcode);
+        out.put(payload);
+        Protocol.endFrame(out, start);
+        return command();
+    }
+
+    /**
+     * Normal Summons (or Sets) a monster from the hand.
+     *
+     * @param handIndex the position of the monster in the hand
+     * @param position the battle position
+     * @param tributeZones the zones of the monsters to tribute
+     * @return true if the summon was legal
+     * @throws IOException if the connection fails
+     */
+    public boolean summon(int handIndex, Card.Position position, int... tributeZones) throws IOException {
+        out.clear();
+        int start = Protocol.beginFrame(out, Protocol.SUMMON);
+        out.put((byte) handIndex);
+        out.put((byte) position.ordinal());
+        out.put((byte) tributeZones.length);
+        for (int zone : tributeZones) {
+            out.put((byte) zone);
+        }
+        Protocol.endFrame(out, start);
+        return command();
+    }
+
+    /**
+     * Sets a spell or trap from the hand.
+     *
+     * @param handIndex the position of the card in the hand
+     * @return true if the card was Set
+     * @throws IOException if the connection fails
+     */
+    public boolean set(int handIndex) throws IOException {
+        return command(Protocol.SET, handIndex);
+    }
+
+    /**
+     * Activates a spell from the hand.
+     *
+     * @param handIndex the position of the spell in the hand
+     * @return true if the spell was activated
+     * @throws IOException if the connection fails
+     */
+    public boolean activate(int handIndex) throws IOException {
+        return command(Protocol.ACTIVATE, handIndex);
+    }
+
+    /**
+     * Activates a Set spell or trap.
+     *
+     * @param zone the spell/trap zone (0-4)
+     * @return true if the card was activated
+     * @throws IOException if the connection fails
+     */
+    public boolean activateSet(int zone) throws IOException {
+        return command(Protocol.ACTIVATE_SET, zone);
+    }
+
+    /**
+     * Changes the battle position of a monster.
+     *
+     * @param zone the monster zone (0-4)
+     * @return true if the position was changed
+     * @throws IOException if the connection fails
+     */
+    public boolean changePosition(int zone) throws IOException {
+        return command(Protocol.CHANGE_POSITION, zone);
+    }
+
+    /**
+     * Attacks an opponent's monster.
+     *
+     * @param attackerZone the zone of the attacking monster (0-4)
+     * @param defenderZone the zone of the attacked monster (0-4)
+     * @return true if the attack was performed
+     * @throws IOException if the connection fails
+     */
+    public boolean attack(int attackerZone, int defenderZone) throws IOException {
+        out.clear();
+        int start = Protocol.beginFrame(out, Protocol.ATTACK);
+        out.put((byte) attackerZone);
+        out.put((byte) defenderZone);
+        Protocol.endFrame(out, start);
+        return command();
+    }
+
+    /**
+     * Attacks the opponent directly.
+     *
+     * @param attackerZone the zone of the attacking monster (0-4)
+     * @return true if the attack was performed
+     * @throws IOException if the connection fails
+     */
+    public boolean directAttack(int attackerZone) throws IOException {
+        return command(Protocol.DIRECT_ATTACK, attackerZone);
+    }
+
+    /**
+     * Enters the Battle Phase.
+     *
+     * @return true if the Battle Phase is allowed
+     * @throws IOException if the connection fails
+     */
+    public boolean battlePhase() throws IOException {
+        return command(Protocol.BATTLE_PHASE, -1);
+    }
+
+    /**
+     * Enters Main Phase 2.
+     *
+     * @return true if the phase changed
+     * @throws IOException if the connection fails
+     */
+    public boolean mainPhase2() throws IOException {
+        return command(Protocol.MAIN_PHASE_2, -1);
+    }
+
+    /**
+     * Ends the turn.
+     *
+     * @return true if the turn was ended
+     * @throws IOException if the connection fails
+     */
+    public boolean endTurn() throws IOException {
+        return command(Protocol.END_TURN, -1);
+    }
+
+    /**
+     * Gives up the duel.
+     *
+     * @return true if the duel was running
+     * @throws IOException if the connection fails
+     */
+    public boolean surrender() throws IOException {
+        return command(Protocol.SURRENDER, -1);
+    }
+
+    /**
+     * Gets the latest state received from the server.
+     *
+     * @return the state, or null before the first duel
+     */
+    public RemoteState getState() {
+        return state;
+    }
+
+    /**
+     * Gets the identifier of the current duel.
+     *
+     * @return the duel ID given by the server, or 0
+     */
+    public int getDuelId() {
+        return duelId;
+    }
+
+    /**
+     * Closes the connection; a running duel is lost.
+     *
+     * @throws IOException if the socket cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Sends a command with at most one byte of payload and waits for the answer.
+     *
+     * @param opcode the command
+     * @param argument the payload byte, or -1 for none
+     * @return true if the command was accepted
+     * @throws IOException if the connection fails
+     */
+    private boolean command(byte opcode, int argument) throws IOException {
+        out.clear();
+        int start = Protocol.beginFrame(out, opcode);
+        if (argument >= 0) out.put((byte) argument);
+        Protocol.endFrame(out, start);
+        return command();
+    }
+
+    /**
+     * Sends the command in the output buffer and waits for the answer.
+     *
+     * @return true if the command was accepted
+     * @throws IOException if the connection fails
+     */
+    private boolean command() throws IOException {
+        send();
+        while (true) {
+            byte opcode = receive().get();
+            if (opcode == Protocol.ACCEPTED) return true;
+            if (opcode == Protocol.REJECTED) return false;
+        }
+    }
+
+    /**
+     * Writes the output buffer to the socket.
+     *
+     * @throws IOException if the connection fails
+     */
+    private void send() throws IOException {
+        out.flip();
+        while (out.hasRemaining()) {
+            channel.write(out);
+        }
+    }
+
+    /**
+     * Reads the next frame; STATE frames update the state.
+     *
+     * @return the body of the frame, positioned on the opcode
+     * @throws IOException if the connection fails or is closed
+     */
+    private ByteBuffer receive() throws IOException {
+        int length;
+        while ((length = Protocol.frameLength(in)) < 0) {
+            in.compact();
+            int count = channel.read(in);
+            in.flip();
+            if (count < 0) throw new EOFException("Connection closed by the server");
+        }
+        in.getShort();
+        ByteBuffer frame = in.slice(in.position(), length);
+        in.position(in.position() + length);
+        if (frame.get(0) == Protocol.STATE) {
+            state = RemoteState.decode(frame.duplicate().position(1));
+        }
+        return frame;
+    }
+}
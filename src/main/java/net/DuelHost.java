@@ -0,0 +1,25 @@
+package net;
+
+/**
+ * Host of the duels created by the {@link Matchmaker}.
+ * <p>
+ * A networked host creates the duel and tells both clients where to play;
+ * {@link LocalDuelHost} runs the duels in process, for tests and offline play.
+ * Implementations are called from the matchmaking threads, concurrently.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public interface DuelHost {
+
+    /**
+     * Starts a duel between two paired players.
+     *
+     * @param first the player taking the first turn
+     * @param second the other player
+     * @return the ID of the new duel, never 0
+     */
+    int startDuel(MatchTicket first, MatchTicket second);
+}
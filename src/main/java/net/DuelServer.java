@@ -0,0 +1,942 @@
+package net;
+
+import Board.Board;
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import Card.SpellCard;
+import Deck.Deck;
+import Game.DuelEngine;
+import Game.DuelRandom;
+import Player.Player;
+import Tournament.DeckList;
+import util.GameLog;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * TCP server hosting many concurrent two-player duels.
+ * <p>
+ * A single thread serves every connection with a non-blocking NIO
+ * {@link Selector}. Clients speak the binary {@link Protocol}: they join the
+ * queue with {@link Protocol#HELLO} and are paired two by two. Each duel runs
+ * on a headless {@link DuelEngine}, which validates every command: an illegal
+ * command is answered with {@link Protocol#REJECTED} and changes nothing.
+ * After each legal command, both players receive the new {@link Protocol#STATE}
+ * (see {@link RemoteState}), with the opponent's hand and face-down cards hidden.
+ * </p>
+ * <p>
+ * Commands take a few microseconds on the engine and a duel only holds two
+ * small buffers per player, so one selector thread can serve thousands of
+ * casual duels. A player who disconnects loses the duel.
+ * </p>
+ * <p>
+ * The game window joins from its main menu ("Play Online"): the
+ * {@code DuelBoard} talks to the server through a {@link DuelClient} and
+ * shows each state with a {@link RemoteDuel}.
+ * </p>
+ * <p>
+ * <strong>Usage:</strong>
+ * <pre>
+ * java net.DuelServer [--port 7777] [--decks a.txt,b.txt] [--turn-limit 200]
+ * </pre>
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class DuelServer implements Runnable {
+
+    /** Life Points of each player at the start of a duel */
+    private static final int STARTING_LP = 8000;
+
+    /** Number of deltas between two keyframes sent to every spectator */
+    private static final int KEYFRAME_INTERVAL = 64;
+
+    /** Bytes a spectator may have pending before its frames are dropped */
+    private static final int MAX_BACKLOG = 16 * 1024;
+
+    /** Milliseconds between two writes to the spectators */
+    private static final int STREAM_INTERVAL = 50;
+
+    /** Largest number of frames sent in one write */
+    private static final int MAX_GATHER = 64;
+
+    /** A client connection */
+    private static class Connection {
+        /** Socket of the client */
+        final SocketChannel channel;
+        /** Selection key of the socket */
+        SelectionKey key;
+        /** Bytes received and not yet handled */
+        final ByteBuffer in = ByteBuffer.allocate(Protocol.MAX_FRAME * 2);
+        /** Bytes waiting to be sent */
+        ByteBuffer out = ByteBuffer.allocate(1024);
+        /** Name given in HELLO */
+        String name;
+        /** Index of the chosen deck list */
+        int deck;
+        /** Current duel, or null */
+        Match match;
+        /** Index of the client in its duel */
+        int index;
+        /** Watched duel of a spectator, or null */
+        Match watching;
+        /** True for a spectator following the featured duels */
+        boolean follower;
+        /** Shared broadcast frames waiting to be sent to a spectator */
+        final ArrayDeque<ByteBuffer> frames = new ArrayDeque<>();
+        /** Number of bytes in {@link #frames} */
+        int backlog;
+        /** True if frames were dropped and the spectator needs a keyframe */
+        boolean resync;
+        /** True if the connection is in the list of connections to flush */
+        boolean dirty;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+    }
+
+    /** A running duel between two connections */
+    private static class Match {
+        /** Identifier of the duel */
+        final int id;
+        /** Rules engine of the duel */
+        final DuelEngine engine;
+        /** The two players' connections, index 0 plays first */
+        final Connection[] players;
+        /** Spectators watching this duel by its ID */
+        final List<Connection> spectators = new ArrayList<>();
+        /** Public state known by the spectators */
+        final SpectatorView sent = new SpectatorView();
+        /** Public state being captured */
+        final SpectatorView captured = new SpectatorView();
+        /** Sequence number of the last broadcast frame */
+        int sequence;
+
+        Match(int id, DuelEngine engine, Connection first, Connection second) {
+            this.id = id;
+            this.engine = engine;
+            this.players = new Connection[] { first, second };
+        }
+    }
+
+    /** Socket accepting new clients */
+    private final ServerSocketChannel server;
+
+    /** Selector serving every socket */
+    private final Selector selector;
+
+    /** Deck lists the clients can choose from */
+    private final List<DeckList> decks;
+
+    /** Number of turns after which a duel is a draw */
+    private final int turnLimit;
+
+    /** Random source for the deck shuffles */
+    private final Random random = new Random();
+
+    /** Client waiting for an opponent, or null */
+    private Connection waiting;
+
+    /** Running duels by ID */
+    private final Map<Integer, Match> matches = new HashMap<>();
+
+    /** Duel streamed to the followers, or null */
+    private Match featured;
+
+    /** Spectators following the featured duels */
+    private final List<Connection> followers = new ArrayList<>();
+
+    /** Spectators with frames to send at the end of the selector round */
+    private final List<Connection> dirty = new ArrayList<>();
+
+    /** Time of the next write to the spectators, in milliseconds */
+    private long nextStream;
+
+    /** Reused array of frames for gathering writes */
+    private final ByteBuffer[] gather = new ByteBuffer[MAX_GATHER];
+
+    /** Number of spectators connected */
+    private volatile int spectatorCount;
+
+    /** Number of broadcast frames dropped for slow spectators */
+    private volatile long droppedFrames;
+
+    /** Identifier of the next duel */
+    private int nextDuelId = 1;
+
+    /** Number of duels currently running */
+    private volatile int activeDuels;
+
+    /** Number of duels finished since the start */
+    private volatile long finishedDuels;
+
+    /** False once {@link #stop()} was called */
+    private volatile boolean running = true;
+
+    /**
+     * Creates a server listening on a port.
+     *
+     * @param port the TCP port, or 0 for any free port
+     * @param decks the deck lists the clients can choose from
+     * @param turnLimit the number of turns after which a duel is a draw
+     * @throws IOException if the port cannot be opened
+     */
+    public DuelServer(int port, List<DeckList> decks, int turnLimit) throws IOException {
+        this.decks = decks;
+        this.turnLimit = turnLimit;
+        this.selector = Selector.open();
+        this.server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress(port), 1024);
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * Gets the port the server listens on.
+     *
+     * @return the TCP port
+     */
+    public int getPort() {
+        return server.socket().getLocalPort();
+    }
+
+    /**
+     * Gets the number of duels currently running.
+     *
+     * @return the number of running duels
+     */
+    public int getActiveDuels() {
+        return activeDuels;
+    }
+
+    /**
+     * Gets the number of duels finished since the server started.
+     *
+     * @return the number of finished duels
+     */
+    public long getFinishedDuels() {
+        return finishedDuels;
+    }
+
+    /**
+     * Gets the number of spectators connected.
+     *
+     * @return the number of spectators
+     */
+    public int getSpectators() {
+        return spectatorCount;
+    }
+
+    /**
+     * Gets the number of broadcast frames dropped because a spectator did
+     * not read them fast enough.
+     *
+     * @return the number of dropped frames
+     */
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    /**
+     * Stops the server loop and closes every connection.
+     */
+    public void stop() {
+        running = false;
+        selector.wakeup();
+    }
+
+    /**
+     * Serves the clients until {@link #stop()} is called.
+     */
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                long now = System.currentTimeMillis();
+                if (dirty.isEmpty()) {
+                    selector.select();
+                } else if (now < nextStream) {
+                    selector.select(nextStream - now);
+                } else {
+                    selector.selectNow();
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) continue;
+                    if (key.isAcceptable()) {
+                        accept();
+                    } else {
+                        Connection c = (Connection) key.attachment();
+                        if (key.isReadable()) read(c);
+                        if (key.isValid() && key.isWritable()) flush(c);
+                    }
+                }
+                // The deltas of a tick are coalesced into one write per spectator
+                if (!dirty.isEmpty() && System.currentTimeMillis() >= nextStream) {
+                    for (Connection c : dirty) {
+                        c.dirty = false;
+                        flush(c);
+                    }
+                    dirty.clear();
+                    nextStream = System.currentTimeMillis() + STREAM_INTERVAL;
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Duel server stopped: " + e.getMessage());
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                try {
+                    key.channel().close();
+                } catch (IOException ignored) {
+                    // closing anyway
+                }
+            }
+            try {
+                selector.close();
+            } catch (IOException ignored) {
+                // closing anyway
+            }
+        }
+    }
+
+    // --- Network ---
+
+    /**
+     * Accepts the pending clients.
+     *
+     * @throws IOException if the server socket fails
+     */
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = server.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            Connection c = new Connection(channel);
+            c.key = channel.register(selector, SelectionKey.OP_READ, c);
+        }
+    }
+
+    /**
+     * Reads the available bytes of a client and handles the complete frames.
+     *
+     * @param c the client
+     */
+    private void read(Connection c) {
+        int count;
+        try {
+            count = c.channel.read(c.in);
+        } catch (IOException e) {
+            count = -1;
+        }
+        if (count < 0) {
+            disconnect(c);
+            return;
+        }
+
+        c.in.flip();
+        int length;
+        while ((length = Protocol.frameLength(c.in)) >= 0) {
+            if (length == 0 || length > Protocol.MAX_FRAME - 2) {
+                disconnect(c);
+                return;
+            }
+            c.in.getShort();
+            int end = c.in.position() + length;
+            byte opcode = c.in.get();
+            ByteBuffer body = c.in.slice(c.in.position(), length - 1);
+            c.in.position(end);
+            handle(c, opcode, body);
+            if (!c.channel.isOpen()) return;
+        }
+        if (c.in.remaining() == c.in.capacity()) {
+            disconnect(c); // a frame larger than the buffer
+            return;
+        }
+        c.in.compact();
+        flush(c);
+    }
+
+    /**
+     * Sends the pending bytes of a client, and waits for the socket to be
+     * writable again if they do not fit.
+     *
+     * @param c the client
+     */
+    private void flush(Connection c) {
+        if ((c.out.position() == 0 && c.frames.isEmpty()) || !c.channel.isOpen()) return;
+        try {
+            c.out.flip();
+            c.channel.write(c.out);
+            c.out.compact();
+            if (c.out.position() == 0 && !c.frames.isEmpty()) {
+                int count = 0;
+                for (ByteBuffer frame : c.frames) {
+                    gather[count++] = frame;
+                    if (count == MAX_GATHER) break;
+                }
+                c.channel.write(gather, 0, count);
+                while (!c.frames.isEmpty() && !c.frames.peekFirst().hasRemaining()) {
+                    c.backlog -= c.frames.pollFirst().limit();
+                }
+                Arrays.fill(gather, 0, count, null);
+            }
+        } catch (IOException e) {
+            disconnect(c);
+            return;
+        }
+        boolean pending = c.out.position() > 0 || !c.frames.isEmpty();
+        int ops = pending ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ;
+        if (c.key.interestOps() != ops) c.key.interestOps(ops);
+    }
+
+    /**
+     * Closes a client; its running duel is lost.
+     *
+     * @param c the client
+     */
+    private void disconnect(Connection c) {
+        if (waiting == c) waiting = null;
+        unwatch(c);
+        Match match = c.match;
+        if (match != null && !match.engine.isOver()) {
+            match.engine.surrender(c.index);
+            Connection other = match.players[1 - c.index];
+            sendState(other, match);
+            flush(other);
+            endMatch(match);
+        }
+        c.match = null;
+        c.key.cancel();
+        try {
+            c.channel.close();
+        } catch (IOException ignored) {
+            // already closed
+        }
+    }
+
+    /**
+     * Makes room in the output buffer of a client.
+     *
+     * @param c the client
+     * @param needed the number of bytes about to be written
+     */
+    private static void reserve(Connection c, int needed) {
+        if (c.out.remaining() >= needed) return;
+        ByteBuffer larger = ByteBuffer.allocate(Math.max(c.out.capacity() * 2, c.out.position() + needed));
+        c.out.flip();
+        larger.put(c.out);
+        c.out = larger;
+    }
+
+    // --- Commands ---
+
+    /**
+     * Handles a frame sent by a client.
+     *
+     * @param c the client
+     * @param opcode the opcode of the frame
+     * @param body the payload
+     */
+    private void handle(Connection c, byte opcode, ByteBuffer body) {
+        if (opcode == Protocol.HELLO) {
+            hello(c, body);
+            return;
+        }
+        if (opcode == Protocol.SPECTATE) {
+            spectate(c, body);
+            return;
+        }
+
+        Match match = c.match;
+        boolean legal = match != null && Commands.execute(match.engine, c.index, opcode, body);
+
+        if (legal) {
+            sendState(match.players[0], match);
+            sendState(match.players[1], match);
+            Connection other = match.players[1 - c.index];
+            if (other != c) flush(other);
+            broadcast(match);
+        }
+        reserve(c, 4);
+        int start = Protocol.beginFrame(c.out, legal ? Protocol.ACCEPTED : Protocol.REJECTED);
+        c.out.put(opcode);
+        Protocol.endFrame(c.out, start);
+
+        if (legal && match.engine.isOver()) {
+            endMatch(match);
+        }
+    }
+
+    /**
+     * Queues a client, or starts a duel if another client is waiting.
+     *
+     * @param c the client
+     * @param body the HELLO payload
+     */
+    private void hello(Connection c, ByteBuffer body) {
+        boolean busy = (c.match != null && !c.match.engine.isOver()) || waiting == c
+                || c.watching != null || c.follower;
+        try {
+            if (!busy) {
+                c.deck = Math.floorMod(body.get(), decks.size());
+                c.name = Protocol.getString(body);
+            }
+        } catch (BufferUnderflowException e) {
+            busy = true;
+        }
+        if (busy) {
+            reserve(c, 4);
+            int start = Protocol.beginFrame(c.out, Protocol.REJECTED);
+            c.out.put(Protocol.HELLO);
+            Protocol.endFrame(c.out, start);
+            return;
+        }
+
+        c.match = null;
+        if (waiting == null || !waiting.channel.isOpen()) {
+            waiting = c;
+            reserve(c, 3);
+            Protocol.endFrame(c.out, Protocol.beginFrame(c.out, Protocol.QUEUED));
+            return;
+        }
+
+        Connection first = waiting;
+        waiting = null;
+        Player p1 = createPlayer(first);
+        Player p2 = createPlayer(c);
+        DuelEngine engine = new DuelEngine(p1, p2, turnLimit, new DuelRandom(random.nextLong()));
+        Match match = new Match(nextDuelId++, engine, first, c);
+        first.match = match;
+        first.index = 0;
+        c.match = match;
+        c.index = 1;
+        activeDuels++;
+        matches.put(match.id, match);
+
+        engine.start();
+        engine.beginTurn();
+        for (Connection player : match.players) {
+            reserve(player, 8);
+            int start = Protocol.beginFrame(player.out, Protocol.WELCOME);
+            player.out.putInt(match.id);
+            player.out.put((byte) player.index);
+            Protocol.endFrame(player.out, start);
+            sendState(player, match);
+        }
+        flush(first);
+        if (featured == null) feature(match);
+    }
+
+    /**
+     * Counts a duel as finished; its players can send HELLO again.
+     *
+     * @param match the finished duel
+     */
+    private void endMatch(Match match) {
+        if (matches.remove(match.id) == null) return;
+        activeDuels--;
+        finishedDuels++;
+        for (Connection player : match.players) {
+            if (player.match == match) player.match = null;
+        }
+
+        // The last delta holds the result; then the spectators are released
+        broadcast(match);
+        for (Connection spectator : match.spectators) {
+            spectator.watching = null;
+        }
+        match.spectators.clear();
+        if (featured == match) {
+            featured = null;
+            for (Match other : matches.values()) {
+                feature(other);
+                break;
+            }
+        }
+    }
+
+    // --- Spectators ---
+
+    /**
+     * Starts streaming a duel to a spectator.
+     *
+     * @param c the client
+     * @param body the SPECTATE payload
+     */
+    private void spectate(Connection c, ByteBuffer body) {
+        int duelId;
+        try {
+            duelId = body.getInt();
+        } catch (BufferUnderflowException e) {
+            duelId = -1;
+        }
+        Match match = duelId > 0 ? matches.get(duelId) : null;
+        boolean busy = c.match != null || waiting == c || c.watching != null || c.follower;
+        if (busy || (duelId != 0 && match == null)) {
+            reserve(c, 4);
+            int start = Protocol.beginFrame(c.out, Protocol.REJECTED);
+            c.out.put(Protocol.SPECTATE);
+            Protocol.endFrame(c.out, start);
+            return;
+        }
+
+        spectatorCount++;
+        if (duelId == 0) {
+            c.follower = true;
+            followers.add(c);
+            match = featured;
+        } else {
+            c.watching = match;
+            match.spectators.add(c);
+        }
+        if (match == null) return; // the next duel will be streamed
+
+        reserve(c, 8);
+        int start = Protocol.beginFrame(c.out, Protocol.WELCOME);
+        c.out.putInt(match.id);
+        c.out.put((byte) 2);
+        Protocol.endFrame(c.out, start);
+        if (match.spectators.size() + (match == featured ? followers.size() : 0) == 1) {
+            // Nobody watched: the public state was not tracked
+            match.sent.capture(match.engine);
+        }
+        send(c, keyframe(match));
+    }
+
+    /**
+     * Streams a duel to the followers.
+     * <p>
+     * Each follower gets a WELCOME with the ID of the new duel, then a
+     * keyframe. Both are queued behind the frames of the previous duel (a
+     * backlog too long to catch up is dropped first), so the follower sees
+     * the end of the previous duel before the new one starts.
+     * </p>
+     *
+     * @param match the new featured duel
+     */
+    private void feature(Match match) {
+        featured = match;
+        if (followers.isEmpty()) return;
+        if (match.spectators.isEmpty()) match.sent.capture(match.engine);
+        ByteBuffer welcome = ByteBuffer.allocate(8);
+        int start = Protocol.beginFrame(welcome, Protocol.WELCOME);
+        welcome.putInt(match.id);
+        welcome.put((byte) 2);
+        Protocol.endFrame(welcome, start);
+        welcome.flip();
+        ByteBuffer keyframe = keyframe(match);
+        for (Connection follower : followers) {
+            if (follower.backlog > MAX_BACKLOG) dropBacklog(follower);
+            follower.resync = false;
+            queue(follower, welcome);
+            queue(follower, keyframe);
+        }
+    }
+
+    /**
+     * Removes a spectator from its duel or from the followers.
+     *
+     * @param c the client
+     */
+    private void unwatch(Connection c) {
+        if (c.watching != null) {
+            c.watching.spectators.remove(c);
+            c.watching = null;
+            spectatorCount--;
+        } else if (c.follower) {
+            followers.remove(c);
+            c.follower = false;
+            spectatorCount--;
+        }
+    }
+
+    /**
+     * Sends the changes of a duel to its spectators.
+     * <p>
+     * The delta is encoded once and shared by every spectator. Every
+     * {@link #KEYFRAME_INTERVAL} frames, and for spectators whose frames were
+     * dropped, a keyframe replaces the delta.
+     * </p>
+     *
+     * @param match the duel
+     */
+    private void broadcast(Match match) {
+        boolean streamed = match == featured && !followers.isEmpty();
+        if (match.spectators.isEmpty() && !streamed) return;
+
+        match.captured.capture(match.engine);
+        ByteBuffer delta = ByteBuffer.allocate(Protocol.MAX_FRAME);
+        int start = Protocol.beginFrame(delta, Protocol.DELTA);
+        delta.putInt(match.sequence + 1);
+        if (match.captured.encode(match.sent, delta) == 0) return;
+        Protocol.endFrame(delta, start);
+        delta.flip();
+
+        match.sequence++;
+        match.sent.copyFrom(match.captured);
+        ByteBuffer keyframe = null;
+        boolean keyframeDue = match.sequence % KEYFRAME_INTERVAL == 0;
+        for (int i = 0, n = match.spectators.size(); i < n; i++) {
+            keyframe = stream(match.spectators.get(i), match, delta, keyframe, keyframeDue);
+        }
+        if (streamed) {
+            for (int i = 0, n = followers.size(); i < n; i++) {
+                keyframe = stream(followers.get(i), match, delta, keyframe, keyframeDue);
+            }
+        }
+    }
+
+    /**
+     * Queues the delta, or a keyframe if one is needed, for a spectator.
+     *
+     * @param c the spectator
+     * @param match the duel
+     * @param delta the shared delta frame
+     * @param keyframe the shared keyframe, or null if not encoded yet
+     * @param keyframeDue true if every spectator receives a keyframe
+     * @return the shared keyframe, or null if not encoded yet
+     */
+    private ByteBuffer stream(Connection c, Match match, ByteBuffer delta, ByteBuffer keyframe, boolean keyframeDue) {
+        if (keyframeDue || c.resync) {
+            if (keyframe == null) keyframe = keyframe(match);
+            c.resync = false;
+            send(c, keyframe);
+        } else {
+            send(c, delta);
+        }
+        return keyframe;
+    }
+
+    /**
+     * Encodes the public state known by the spectators of a duel.
+     *
+     * @param match the duel
+     * @return the keyframe, ready to be sent
+     */
+    private static ByteBuffer keyframe(Match match) {
+        ByteBuffer frame = ByteBuffer.allocate(Protocol.MAX_FRAME);
+        int start = Protocol.beginFrame(frame, Protocol.KEYFRAME);
+        frame.putInt(match.sequence);
+        match.sent.encode(null, frame);
+        Protocol.endFrame(frame, start);
+        return frame.flip();
+    }
+
+    /**
+     * Queues a shared frame for a spectator, or drops it if the spectator is
+     * too far behind; the spectator then gets a keyframe with the next frame.
+     *
+     * @param c the spectator
+     * @param frame the frame, shared by all the spectators
+     */
+    private void send(Connection c, ByteBuffer frame) {
+        if (c.backlog > MAX_BACKLOG) {
+            dropBacklog(c);
+            droppedFrames++;
+            c.resync = true;
+            return;
+        }
+        queue(c, frame);
+    }
+
+    /**
+     * Drops the frames queued for a spectator, except a partly written one.
+     *
+     * @param c the spectator
+     */
+    private void dropBacklog(Connection c) {
+        // Keep a partly written frame, the stream would be corrupted otherwise
+        ByteBuffer head = c.frames.peekFirst();
+        boolean partial = head != null && head.position() > 0;
+        droppedFrames += c.frames.size() - (partial ? 1 : 0);
+        c.frames.clear();
+        c.backlog = 0;
+        if (partial) {
+            c.frames.add(head);
+            c.backlog = head.limit();
+        }
+    }
+
+    /**
+     * Queues a shared frame for a client, whatever its backlog.
+     *
+     * @param c the client
+     * @param frame the frame, shared by all the spectators
+     */
+    private void queue(Connection c, ByteBuffer frame) {
+        ByteBuffer copy = frame.duplicate();
+        c.frames.add(copy);
+        c.backlog += copy.limit();
+        if (!c.dirty) {
+            c.dirty = true;
+            dirty.add(c);
+        }
+    }
+
+    // --- State ---
+
+    /**
+     * Creates the player of a client with a shuffled copy of its deck list.
+     *
+     * @param c the client
+     * @return the player, owning all the cards of its deck
+     */
+    private Player createPlayer(Connection c) {
+        List<Card> cards = decks.get(c.deck).instantiate(random);
+        Player player = new Player(c.name, STARTING_LP, new Deck(cards), null);
+        for (Card card : cards) {
+            card.setOwner(player);
+        }
+        return player;
+    }
+
+    /**
+     * Appends the state of a duel, seen by one of its players, to its output.
+     *
+     * @param c the receiving client
+     * @param match the duel
+     */
+    private static void sendState(Connection c, Match match) {
+        DuelEngine engine = match.engine;
+        Player self = engine.getPlayer(c.index);
+        reserve(c, 64 + 11 * (self.getHand().size() + 20));
+
+        ByteBuffer out = c.out;
+        int start = Protocol.beginFrame(out, Protocol.STATE);
+        out.put((byte) c.index);
+        out.putInt(engine.getTurn());
+        out.put((byte) engine.getActiveIndex());
+        out.put((byte) engine.getPhase().ordinal());
+        out.put((byte) engine.getResult());
+        for (int side = 0; side < 2; side++) {
+            Player player = side == 0 ? self : engine.getPlayer(1 - c.index);
+            Board board = player.getBoard();
+            out.putInt(player.getLifePoints());
+            out.put((byte) player.getDeck().size());
+            out.put((byte) board.getGraveyard().size());
+            out.put((byte) player.getHand().size());
+            if (side == 0) {
+                for (Card card : player.getHand().getAllCards()) {
+                    putCard(out, card);
+                }
+            }
+            for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+                putZone(out, board.getMonster(zone), side == 0);
+            }
+            for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+                putZone(out, board.getSpellTrap(zone), side == 0);
+            }
+        }
+        Protocol.endFrame(out, start);
+    }
+
+    /**
+     * Writes the flags of a zone and, if the card is visible to the receiver, the card.
+     *
+     * @param out the output buffer
+     * @param card the card in the zone, or null
+     * @param own true if the zone belongs to the receiver
+     */
+    private static void putZone(ByteBuffer out, Card card, boolean own) {
+        if (card == null) {
+            out.put((byte) 0);
+            return;
+        }
+        int flags = Protocol.ZONE_PRESENT;
+        if (card.isFaceDown()) flags |= Protocol.ZONE_FACE_DOWN;
+        if (own || !card.isFaceDown()) flags |= Protocol.ZONE_VISIBLE;
+        if (card instanceof MonsterCard) {
+            MonsterCard monster = (MonsterCard) card;
+            if (monster.hasAttackedThisTurn()) flags |= Protocol.ZONE_ATTACKED;
+            if (monster.getPosition() != Position.ATTACK) flags |= Protocol.ZONE_DEFENSE;
+        }
+        out.put((byte) flags);
+        if ((flags & Protocol.ZONE_VISIBLE) != 0) putCard(out, card);
+    }
+
+    /**
+     * Writes a card block: kind, ID, ATK, DEF and level.
+     *
+     * @param out the output buffer
+     * @param card the card
+     */
+    private static void putCard(ByteBuffer out, Card card) {
+        if (card instanceof MonsterCard) {
+            MonsterCard monster = (MonsterCard) card;
+            out.put(Protocol.KIND_MONSTER);
+            out.putInt(card.getCardId());
+            out.putShort((short) monster.getAtk());
+            out.putShort((short) monster.getDef());
+            out.put((byte) monster.getLevel());
+        } else {
+            out.put(card instanceof SpellCard ? Protocol.KIND_SPELL : Protocol.KIND_TRAP);
+            out.putInt(card.getCardId());
+            out.putShort((short) 0);
+            out.putShort((short) 0);
+            out.put((byte) 0);
+        }
+    }
+
+    // --- Command line ---
+
+    /**
+     * Starts a duel server.
+     *
+     * @param args {@code --port}, {@code --decks} (comma-separated deck files)
+     *             and {@code --turn-limit}
+     * @throws IOException if the port or a deck file cannot be opened
+     */
+    public static void main(String[] args) throws IOException {
+        int port = Protocol.DEFAULT_PORT;
+        int turnLimit = DuelEngine.DEFAULT_TURN_LIMIT;
+        String deckFiles = null;
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i]) {
+                case "--port": port = Integer.parseInt(value); i++; break;
+                case "--decks": deckFiles = value; i++; break;
+                case "--turn-limit": turnLimit = Integer.parseInt(value); i++; break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    return;
+            }
+        }
+
+        List<DeckList> decks = new ArrayList<>();
+        if (deckFiles == null) {
+            decks.addAll(DeckList.samples());
+        } else {
+            for (String file : deckFiles.split(",")) {
+                decks.add(DeckList.load(Paths.get(file.trim())));
+            }
+        }
+
+        DuelServer duelServer = new DuelServer(port, decks, turnLimit);
+        System.out.println("Duel server listening on port " + duelServer.getPort());
+        // The model logs every action, far too much for thousands of duels
+        GameLog.setQuiet(true);
+        duelServer.run();
+    }
+}
@@ -0,0 +1,116 @@
+package net;
+
+import Card.Card;
+import Deck.Deck;
+import Game.DuelEngine;
+import Game.DuelRandom;
+import Player.Player;
+import Tournament.DeckList;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process {@link DuelHost}: each paired duel gets its own started
+ * {@link DuelEngine}, kept until {@link #finish(int)}.
+ * <p>
+ * It stands in for a remote host in tests and load runs, so the
+ * matchmaking can be measured without sockets.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class LocalDuelHost implements DuelHost {
+
+    /** Life Points of each player at the start of a duel */
+    private static final int STARTING_LP = 8000;
+
+    /** Running duels by ID */
+    private final Map<Integer, DuelEngine> duels = new ConcurrentHashMap<>();
+
+    /** Identifier of the next duel */
+    private final AtomicInteger nextDuelId = new AtomicInteger(1);
+
+    /** Number of duels started since the creation of the host */
+    private final AtomicInteger started = new AtomicInteger();
+
+    /** True to keep the engines, false to only count the duels */
+    private final boolean keepDuels;
+
+    /**
+     * Creates a host.
+     *
+     * @param keepDuels true to create and keep an engine per duel, false to
+     *                  only hand out IDs (pure matchmaking measurements)
+     */
+    public LocalDuelHost(boolean keepDuels) {
+        this.keepDuels = keepDuels;
+    }
+
+    @Override
+    public int startDuel(MatchTicket first, MatchTicket second) {
+        int id = nextDuelId.getAndIncrement();
+        started.incrementAndGet();
+        if (keepDuels) {
+            Random random = new DuelRandom();
+            Player p1 = createPlayer(first.getName(), first.getDeck(), random);
+            Player p2 = createPlayer(second.getName(), second.getDeck(), random);
+            DuelEngine engine = new DuelEngine(p1, p2, DuelEngine.DEFAULT_TURN_LIMIT, random);
+            engine.start();
+            engine.beginTurn();
+            duels.put(id, engine);
+        }
+        return id;
+    }
+
+    /**
+     * Gets a running duel.
+     *
+     * @param duelId the duel ID
+     * @return the engine, or null if unknown or finished
+     */
+    public DuelEngine getDuel(int duelId) {
+        return duels.get(duelId);
+    }
+
+    /**
+     * Forgets a finished duel.
+     *
+     * @param duelId the duel ID
+     * @return the engine of the duel, or null if unknown
+     */
+    public DuelEngine finish(int duelId) {
+        return duels.remove(duelId);
+    }
+
+    /**
+     * Gets the number of duels started.
+     *
+     * @return the number of duels
+     */
+    public int getStartedDuels() {
+        return started.get();
+    }
+
+    /**
+     * Creates a player with a fresh copy of a deck list.
+     *
+     * @param name the player's name
+     * @param deckList the deck list
+     * @param random the random source used to shuffle the deck
+     * @return the player, owning all the cards of its deck
+     */
+    private static Player createPlayer(String name, DeckList deckList, Random random) {
+        List<Card> cards = deckList.instantiate(random);
+        Player player = new Player(name, STARTING_LP, new Deck(cards), null);
+        for (Card card : cards) {
+            card.setOwner(player);
+        }
+        return player;
+    }
+}
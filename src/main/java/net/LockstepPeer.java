@@ -0,0 +1,390 @@
+package net;
+
+import Card.Card;
+import Deck.Deck;
+import Game.DuelEngine;
+import Game.DuelRandom;
+import Game.SaveGame;
+import Player.Player;
+import Tournament.DeckList;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * One side of a duel played in lockstep.
+ * <p>
+ * Both peers run their own {@link DuelEngine}, built from the same decks and
+ * seed, and only exchange the player commands. Each command carries the
+ * state hash ({@link DuelEngine#stateHash()}) of the sender after applying
+ * it. The receiver applies the command and compares hashes, so a divergence
+ * is caught on the first command after it. The hash is incremental, so
+ * changes made without going through the engine would go unnoticed. An
+ * {@link Protocol#END_TURN} therefore hashes the whole state on both sides.
+ * </p>
+ * <p>
+ * <strong>End of the duel:</strong> the last command may be followed by no
+ * END_TURN, so when its duel ends each peer sends a
+ * {@link Protocol#LOCKSTEP_FINAL} with the hash of its whole state. A peer
+ * whose duel has not ended, or whose final hash differs, treats it as a
+ * divergence, so a duel can never end with the peers in different states.
+ * {@link #isFinalConfirmed()} tells when both agree on the final state.
+ * </p>
+ * <p>
+ * <strong>Resync:</strong> peer 0 is the authority. When it detects a
+ * divergence, or receives a {@link Protocol#LOCKSTEP_DESYNC}, it sends a
+ * {@link SaveGame} snapshot of its duel and starts a new epoch. The other
+ * peer replaces its engine with the snapshot instead of restarting the
+ * duel. Commands from an older epoch were computed on the diverged state,
+ * so they are dropped. While waiting for a snapshot, a peer refuses local
+ * commands and ignores the remote ones, which are all part of the snapshot
+ * on the way. A snapshot holds only primitive fields (no serialized Java
+ * objects), so the bytes of the other peer are parsed, never deserialized.
+ * </p>
+ * <p>
+ * The peer does not own a socket: frames to send are taken with
+ * {@link #poll()}, received frames are given to {@link #receive(ByteBuffer)},
+ * so the same class serves hot-seat, loopback and TCP play.
+ * {@link #pair(DeckList, DeckList, long)} builds both peers of a duel on one
+ * machine, as the hot-seat {@code DuelBoard} and {@link LoopbackLockstep} do.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class LockstepPeer {
+
+    /** Life Points of each player at the start of a duel */
+    private static final int STARTING_LP = 8000;
+
+    /** Index of the local player */
+    private final int localIndex;
+
+    /** Local engine, replaced by a resync */
+    private DuelEngine engine;
+
+    /** Resync generation, increased by each snapshot of the authority */
+    private int epoch;
+
+    /** Number of commands applied in the duel */
+    private int sequence;
+
+    /** True after sending a DESYNC, until the snapshot arrives */
+    private boolean awaitingSnapshot;
+
+    /** Frames waiting to be sent to the other peer */
+    private final ArrayDeque<ByteBuffer> outbox = new ArrayDeque<>();
+
+    /** Number of divergences detected by this peer */
+    private int desyncs;
+
+    /** Number of snapshots sent or loaded */
+    private int resyncs;
+
+    /** Epoch in which the final hash was sent, or -1 */
+    private int finalEpoch = -1;
+
+    /** True when both peers agree on the final state of the ended duel */
+    private boolean finalConfirmed;
+
+    /**
+     * Creates a peer.
+     *
+     * @param engine the local engine, started from the seed shared by both peers
+     * @param localIndex the index of the local player; player 0 is the authority
+     */
+    public LockstepPeer(DuelEngine engine, int localIndex) {
+        this.engine = engine;
+        this.localIndex = localIndex;
+    }
+
+    /**
+     * Creates both peers of a duel, each with its own engine built from the
+     * same decks and seed. The first turn has begun on both engines.
+     *
+     * @param first the deck of player 0
+     * @param second the deck of player 1
+     * @param seed the seed shared by the peers
+     * @return the peers of player 0 (the authority) and player 1
+     */
+    public static LockstepPeer[] pair(DeckList first, DeckList second, long seed) {
+        return new LockstepPeer[] {
+            new LockstepPeer(createEngine(first, second, seed), 0),
+            new LockstepPeer(createEngine(first, second, seed), 1)
+        };
+    }
+
+    /**
+     * Creates the engine of a peer; both peers build the same duel from the seed.
+     *
+     * @param first the deck of player 0
+     * @param second the deck of player 1
+     * @param seed the seed shared by the peers
+     * @return the started engine
+     */
+    private static DuelEngine createEngine(DeckList first, DeckList second, long seed) {
+        Random random = new DuelRandom(seed);
+        Player p1 = createPlayer("Player 1", first, random);
+        Player p2 = createPlayer("Player 2", second, random);
+        DuelEngine engine = new DuelEngine(p1, p2, DuelEngine.DEFAULT_TURN_LIMIT, random);
+        engine.start();
+        engine.beginTurn();
+        return engine;
+    }
+
+    /**
+     * Creates a player with a fresh copy of a deck list.
+     *
+     * @param name the player's name
+     * @param deckList the deck list
+     * @param random the random source used to shuffle the deck
+     * @return the player, owning all the cards of its deck
+     */
+    private static Player createPlayer(String name, DeckList deckList, Random random) {
+        List<Card> cards = deckList.instantiate(random);
+        Player player = new Player(name, STARTING_LP, new Deck(cards), null);
+        for (Card card : cards) {
+            card.setOwner(player);
+        }
+        return player;
+    }
+
+    /**
+     * Applies a local command and queues it for the other peer.
+     *
+     * @param opcode the command ({@link Protocol#SUMMON}, ...)
+     * @param payload the payload of the command
+     * @return false if the command is illegal or a resync is in progress
+     */
+    public boolean submit(byte opcode, byte... payload) {
+        if (awaitingSnapshot) return false;
+        if (!Commands.execute(engine, localIndex, opcode, ByteBuffer.wrap(payload))) return false;
+        sequence++;
+
+        ByteBuffer frame = ByteBuffer.allocate(24 + payload.length);
+        int start = Protocol.beginFrame(frame, Protocol.LOCKSTEP_COMMAND);
+        frame.putInt(epoch);
+        frame.putInt(sequence);
+        frame.putLong(hash(opcode));
+        frame.put(opcode);
+        frame.put(payload);
+        Protocol.endFrame(frame, start);
+        outbox.add(frame.flip());
+        sendFinalHash();
+        return true;
+    }
+
+    /**
+     * Handles a frame of the other peer.
+     *
+     * @param frame the body of the frame, positioned on the opcode
+     */
+    public void receive(ByteBuffer frame) {
+        byte opcode = frame.get();
+        int frameEpoch = frame.getInt();
+        int frameSequence = frame.getInt();
+        switch (opcode) {
+            case Protocol.LOCKSTEP_COMMAND: {
+                long remoteHash = frame.getLong();
+                if (awaitingSnapshot || frameEpoch != epoch) return; // covered by the snapshot
+                byte command = frame.get();
+                boolean same = frameSequence == sequence + 1
+                        && Commands.execute(engine, 1 - localIndex, command, frame.slice())
+                        && hash(command) == remoteHash;
+                if (same) {
+                    sequence = frameSequence;
+                    sendFinalHash();
+                } else {
+                    desyncs++;
+                    diverged();
+                }
+                break;
+            }
+            case Protocol.LOCKSTEP_DESYNC:
+                // A desync of an older epoch was already answered by a snapshot
+                if (isAuthority() && frameEpoch == epoch) diverged();
+                break;
+            case Protocol.LOCKSTEP_SNAPSHOT:
+                if (isAuthority() || frameEpoch <= epoch) return;
+                engine = SaveGame.read(frame.slice());
+                epoch = frameEpoch;
+                sequence = frameSequence;
+                awaitingSnapshot = false;
+                resyncs++;
+                // The state is now the authority's, so an ended duel is settled
+                finalConfirmed = engine.isOver();
+                sendFinalHash();
+                break;
+            case Protocol.LOCKSTEP_FINAL: {
+                long remoteHash = frame.getLong();
+                if (awaitingSnapshot || frameEpoch != epoch) return;
+                engine.invalidateStateHash();
+                if (engine.isOver() && frameSequence == sequence && engine.stateHash() == remoteHash) {
+                    finalConfirmed = true;
+                } else {
+                    desyncs++;
+                    diverged();
+                }
+                break;
+            }
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Asks for a resync without a hash mismatch, for instance when the other
+     * peer stopped answering because its duel already ended.
+     */
+    public void requestResync() {
+        diverged();
+    }
+
+    /**
+     * Reacts to a divergence: the authority sends its state, the other peer asks for it.
+     */
+    private void diverged() {
+        finalConfirmed = false;
+        if (isAuthority()) {
+            epoch++;
+            resyncs++;
+            ByteBuffer image = SaveGame.write(engine);
+            ByteBuffer frame = ByteBuffer.allocate(image.remaining() + 16);
+            int start = Protocol.beginFrame(frame, Protocol.LOCKSTEP_SNAPSHOT);
+            frame.putInt(epoch);
+            frame.putInt(sequence);
+            frame.put(image);
+            Protocol.endFrame(frame, start);
+            outbox.add(frame.flip());
+        } else if (!awaitingSnapshot) {
+            awaitingSnapshot = true;
+            ByteBuffer frame = ByteBuffer.allocate(24);
+            int start = Protocol.beginFrame(frame, Protocol.LOCKSTEP_DESYNC);
+            frame.putInt(epoch);
+            frame.putInt(sequence);
+            frame.putLong(engine.stateHash());
+            Protocol.endFrame(frame, start);
+            outbox.add(frame.flip());
+        }
+    }
+
+    /**
+     * Sends the hash of the whole state once the duel has ended, once per epoch.
+     */
+    private void sendFinalHash() {
+        if (!engine.isOver() || finalEpoch == epoch) return;
+        finalEpoch = epoch;
+        engine.invalidateStateHash();
+        ByteBuffer frame = ByteBuffer.allocate(24);
+        int start = Protocol.beginFrame(frame, Protocol.LOCKSTEP_FINAL);
+        frame.putInt(epoch);
+        frame.putInt(sequence);
+        frame.putLong(engine.stateHash());
+        Protocol.endFrame(frame, start);
+        outbox.add(frame.flip());
+    }
+
+    /**
+     * Hashes the state after a command; the end of a turn hashes the whole state.
+     *
+     * @param command the command just applied
+     * @return the state hash
+     */
+    private long hash(byte command) {
+        if (command == Protocol.END_TURN) engine.invalidateStateHash();
+        return engine.stateHash();
+    }
+
+    /**
+     * Takes the next frame to send to the other peer.
+     *
+     * @return the frame (length field included), or null if none is waiting
+     */
+    public ByteBuffer poll() {
+        return outbox.poll();
+    }
+
+    /**
+     * Checks if frames are waiting to be sent.
+     *
+     * @return true if {@link #poll()} would return a frame
+     */
+    public boolean hasPendingFrames() {
+        return !outbox.isEmpty();
+    }
+
+    /**
+     * Gets the local engine; a resync replaces it.
+     *
+     * @return the current engine
+     */
+    public DuelEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Gets the index of the local player.
+     *
+     * @return 0 or 1
+     */
+    public int getLocalIndex() {
+        return localIndex;
+    }
+
+    /**
+     * Checks if this peer is the authority of the duel.
+     *
+     * @return true for player 0
+     */
+    public boolean isAuthority() {
+        return localIndex == 0;
+    }
+
+    /**
+     * Checks if the peer waits for a snapshot.
+     *
+     * @return true between a detected divergence and the resync
+     */
+    public boolean isAwaitingSnapshot() {
+        return awaitingSnapshot;
+    }
+
+    /**
+     * Gets the number of commands applied in the duel.
+     *
+     * @return the sequence number of the last command
+     */
+    public int getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Checks if the duel ended with both peers in the same state.
+     *
+     * @return true once the final hashes matched (or the final state was loaded from the authority)
+     */
+    public boolean isFinalConfirmed() {
+        return finalConfirmed;
+    }
+
+    /**
+     * Gets the number of divergences detected by this peer.
+     *
+     * @return the number of desyncs
+     */
+    public int getDesyncs() {
+        return desyncs;
+    }
+
+    /**
+     * Gets the number of snapshots sent (authority) or loaded (other peer).
+     *
+     * @return the number of resyncs
+     */
+    public int getResyncs() {
+        return resyncs;
+    }
+}
@@ -0,0 +1,205 @@
+package net;
+
+import Card.Position;
+import Game.DuelEngine;
+import Tournament.DeckList;
+import util.GameLog;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loopback load test of the {@link DuelServer}.
+ * <p>
+ * Starts a server on a free local port, then connects pairs of
+ * {@link DuelClient} playing a simple strategy (summon the strongest
+ * monster, attack when it wins the battle) until the requested number of
+ * duels is finished. Reports the throughput and the peak number of
+ * concurrent duels.
+ * </p>
+ * <p>
+ * <strong>Usage:</strong>
+ * <pre>
+ * java net.LoopbackDuels [--duels 1000] [--clients 64]
+ * </pre>
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class LoopbackDuels {
+
+    /** Number of duels finished by the clients */
+    private static final AtomicInteger finished = new AtomicInteger();
+
+    /** Number of duels won by the first player */
+    private static final AtomicInteger firstPlayerWins = new AtomicInteger();
+
+    /** Number of commands accepted by the server */
+    private static final AtomicInteger commands = new AtomicInteger();
+
+    /**
+     * Runs the load test.
+     *
+     * @param args {@code --duels} (total number of duels) and {@code --clients}
+     *             (number of concurrent clients, rounded up to an even number)
+     * @throws Exception if the server cannot start or a client fails
+     */
+    public static void main(String[] args) throws Exception {
+        int duels = 1000;
+        int clients = 64;
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i]) {
+                case "--duels": duels = Integer.parseInt(value); i++; break;
+                case "--clients": clients = Integer.parseInt(value); i++; break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    return;
+            }
+        }
+        clients = Math.max(2, clients + (clients & 1));
+        int duelsPerClient = Math.max(1, (duels * 2 + clients - 1) / clients);
+
+        GameLog.setQuiet(true);
+
+        List<DeckList> decks = DeckList.samples();
+        DuelServer server = new DuelServer(0, decks, DuelEngine.DEFAULT_TURN_LIMIT);
+        Thread serverThread = new Thread(server, "duel-server");
+        serverThread.start();
+
+        int port = server.getPort();
+        int[] peak = new int[1];
+        long startTime = System.nanoTime();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            int deck = i % decks.size();
+            String name = "client-" + i;
+            Thread thread = new Thread(() -> {
+                try (DuelClient client = new DuelClient("localhost", port)) {
+                    for (int d = 0; d < duelsPerClient; d++) {
+                        if (!client.hello(name, deck)) break;
+                        play(client);
+                        synchronized (peak) {
+                            peak[0] = Math.max(peak[0], server.getActiveDuels());
+                        }
+                    }
+                } catch (IOException e) {
+                    System.err.println(name + ": " + e.getMessage());
+                }
+            }, "client-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        server.stop();
+        serverThread.join();
+
+        // Each duel is seen by both clients
+        int played = finished.get() / 2;
+        System.out.printf("%d duels over loopback with %d clients in %.2f s%n", played, clients, seconds);
+        System.out.printf("%.0f duels/s, %.0f commands/s, peak %d concurrent duels%n",
+                played / seconds, commands.get() / seconds, peak[0]);
+        System.out.printf("First player won %d duels, server counted %d finished%n",
+                firstPlayerWins.get(), server.getFinishedDuels());
+    }
+
+    /**
+     * Plays one duel until it is over.
+     *
+     * @param client the connected client, after a successful HELLO
+     * @throws IOException if the connection fails
+     */
+    static void play(DuelClient client) throws IOException {
+        RemoteState state;
+        while (!(state = client.awaitTurn()).isOver()) {
+            summonStrongest(client, state);
+            if (count(client.battlePhase())) {
+                attackAll(client);
+            }
+            if (!client.getState().isOver()) {
+                count(client.endTurn());
+            }
+        }
+        finished.incrementAndGet();
+        if (state.isWon() && state.getViewer() == 0) firstPlayerWins.incrementAndGet();
+    }
+
+    /**
+     * Normal Summons the strongest monster of level 4 or lower in the hand.
+     *
+     * @param client the client
+     * @param state the current state
+     * @throws IOException if the connection fails
+     */
+    private static void summonStrongest(DuelClient client, RemoteState state) throws IOException {
+        int best = -1;
+        for (int i = 0; i < state.getHandCount(RemoteState.SELF); i++) {
+            RemoteState.RemoteCard card = state.getHandCard(i);
+            if (card.isMonster() && card.getLevel() <= 4
+                    && (best < 0 || card.getAtk() > state.getHandCard(best).getAtk())) {
+                best = i;
+            }
+        }
+        if (best >= 0) count(client.summon(best, Position.ATTACK));
+    }
+
+    /**
+     * Attacks with every monster in Attack Position that wins its battle.
+     *
+     * @param client the client, in the Battle Phase
+     * @throws IOException if the connection fails
+     */
+    private static void attackAll(DuelClient client) throws IOException {
+        for (int zone = 0; zone < RemoteState.ZONES; zone++) {
+            RemoteState state = client.getState();
+            if (state.isOver()) return;
+            RemoteState.RemoteCard attacker = state.getMonster(RemoteState.SELF, zone);
+            int flags = state.getMonsterFlags(RemoteState.SELF, zone);
+            if (attacker == null || (flags & (Protocol.ZONE_DEFENSE | Protocol.ZONE_ATTACKED)) != 0) continue;
+
+            int target = -1;
+            boolean empty = true;
+            for (int other = 0; other < RemoteState.ZONES; other++) {
+                if (!state.hasMonster(RemoteState.OPPONENT, other)) continue;
+                empty = false;
+                RemoteState.RemoteCard defender = state.getMonster(RemoteState.OPPONENT, other);
+                int defenderFlags = state.getMonsterFlags(RemoteState.OPPONENT, other);
+                int value = defender == null ? 0
+                        : (defenderFlags & Protocol.ZONE_DEFENSE) != 0 ? defender.getDef() : defender.getAtk();
+                if (attacker.getAtk() > value) target = other;
+            }
+            if (empty) {
+                count(client.directAttack(zone));
+            } else if (target >= 0) {
+                count(client.attack(zone, target));
+            }
+        }
+    }
+
+    /**
+     * Gets the number of commands accepted since the start.
+     *
+     * @return the number of accepted commands
+     */
+    static int getCommands() {
+        return commands.get();
+    }
+
+    /**
+     * Counts an accepted command.
+     *
+     * @param accepted the answer of the server
+     * @return the answer
+     */
+    private static boolean count(boolean accepted) {
+        if (accepted) commands.incrementAndGet();
+        return accepted;
+    }
+}
@@ -0,0 +1,228 @@
+package net;
+
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import Game.DuelEngine;
+import Game.Phase;
+import Player.Player;
+import Tournament.DeckList;
+import util.GameLog;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Loopback test of {@link LockstepPeer} with injected divergences.
+ * <p>
+ * Two peers play duels in lockstep over in-memory links. Frames stay in
+ * flight for a random number of commands, as on a real network. Faults are
+ * injected on one peer only, half through the engine (a one-sided position
+ * change) and half behind its back (Life Points changed on the model). The
+ * report gives the number of faults detected, how many commands detection
+ * took, and checks that both engines end every duel in the same state.
+ * </p>
+ * <p>
+ * <strong>Usage:</strong>
+ * <pre>
+ * java net.LoopbackLockstep [--duels 500] [--fault-rate 0.01] [--seed 1]
+ * </pre>
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class LoopbackLockstep {
+
+    /**
+     * Runs the test.
+     *
+     * @param args {@code --duels}, {@code --fault-rate} (per command) and {@code --seed}
+     */
+    public static void main(String[] args) {
+        int duels = 500;
+        double faultRate = 0.01;
+        long seed = 1;
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i]) {
+                case "--duels": duels = Integer.parseInt(value); i++; break;
+                case "--fault-rate": faultRate = Double.parseDouble(value); i++; break;
+                case "--seed": seed = Long.parseLong(value); i++; break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    return;
+            }
+        }
+
+        GameLog.setQuiet(true);
+
+        List<DeckList> decks = DeckList.samples();
+        Random random = new Random(seed);
+        long commands = 0;
+        int faults = 0;
+        int detected = 0;
+        long latency = 0;
+        int resyncs = 0;
+        int identical = 0;
+        int confirmed = 0;
+        long startTime = System.nanoTime();
+
+        for (int duel = 0; duel < duels; duel++) {
+            long duelSeed = random.nextLong();
+            DeckList first = decks.get(random.nextInt(decks.size()));
+            DeckList second = decks.get(random.nextInt(decks.size()));
+            LockstepPeer[] peers = LockstepPeer.pair(first, second, duelSeed);
+            List<ArrayDeque<ByteBuffer>> links = List.of(new ArrayDeque<>(), new ArrayDeque<>());
+
+            long faultAt = -1;
+            int seenDesyncs = 0;
+            while (!peers[0].getEngine().isOver() || !peers[1].getEngine().isOver()
+                    || !links.get(0).isEmpty() || !links.get(1).isEmpty()
+                    || peers[0].hasPendingFrames() || peers[1].hasPendingFrames()) {
+                // The player whose turn it is on the authority's engine acts
+                LockstepPeer actor = peers[peers[0].getEngine().getActiveIndex()];
+                boolean stalled = actor.isAwaitingSnapshot() || actor.getEngine().isOver()
+                        || actor.getEngine().getActiveIndex() != actor.getLocalIndex();
+                if (!stalled) {
+                    byte[] command = chooseCommand(actor.getEngine());
+                    if (!actor.submit(command[0], payload(command))) {
+                        actor.submit(Protocol.END_TURN);
+                    }
+                    commands++;
+                } else if (links.get(0).isEmpty() && links.get(1).isEmpty()
+                        && !peers[0].hasPendingFrames() && !peers[1].hasPendingFrames()
+                        && !(peers[0].getEngine().isOver() && peers[1].getEngine().isOver())) {
+                    // Nothing in flight and nobody can play: the peers disagree on whose turn it is
+                    peers[1].requestResync();
+                }
+
+                if (faultAt < 0 && random.nextDouble() < faultRate) {
+                    if (injectFault(peers[random.nextInt(2)].getEngine(), random)) {
+                        faults++;
+                        faultAt = commands;
+                    }
+                }
+
+                // Frames are delivered in order, after a random delay
+                for (int side = 0; side < 2; side++) {
+                    ByteBuffer frame;
+                    while ((frame = peers[side].poll()) != null) {
+                        links.get(side).add(frame);
+                    }
+                    while (!links.get(side).isEmpty() && (stalled || random.nextInt(3) == 0)) {
+                        ByteBuffer next = links.get(side).poll();
+                        next.getShort();
+                        peers[1 - side].receive(next);
+                    }
+                }
+
+                int desyncs = peers[0].getDesyncs() + peers[1].getDesyncs();
+                if (desyncs > seenDesyncs) {
+                    seenDesyncs = desyncs;
+                    if (faultAt >= 0) {
+                        detected++;
+                        latency += commands - faultAt;
+                        faultAt = -1;
+                    }
+                }
+            }
+            if (peers[0].isFinalConfirmed() && peers[1].isFinalConfirmed()) confirmed++;
+            peers[0].getEngine().invalidateStateHash();
+            peers[1].getEngine().invalidateStateHash();
+            resyncs += peers[1].getResyncs();
+            if (peers[0].getEngine().stateHash() == peers[1].getEngine().stateHash()) identical++;
+        }
+
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        System.out.printf("%d duels, %d commands in %.2f s (%.0f commands/s)%n", duels, commands, seconds,
+                commands / seconds);
+        System.out.printf("%d faults injected, %d detected (%.1f commands on average), %d resyncs%n",
+                faults, detected, detected == 0 ? 0.0 : (double) latency / detected, resyncs);
+        System.out.printf("%d/%d duels ended with identical states on both peers (%d confirmed by final hashes)%n",
+                identical, duels, confirmed);
+    }
+
+    /**
+     * Chooses the next command of the active player: summon the strongest
+     * monster, attack when the battle is won, then end the turn.
+     *
+     * @param engine the local engine
+     * @return the opcode followed by the payload
+     */
+    private static byte[] chooseCommand(DuelEngine engine) {
+        Player self = engine.getActivePlayer();
+        Phase phase = engine.getPhase();
+        if (phase == Phase.MP1) {
+            if (!self.hasNormalSummoned() && DuelEngine.firstFreeMonsterZone(self.getBoard()) >= 0) {
+                List<Card> hand = self.getHand().getAllCards();
+                int best = -1;
+                for (int i = 0; i < hand.size(); i++) {
+                    if (hand.get(i) instanceof MonsterCard) {
+                        MonsterCard monster = (MonsterCard) hand.get(i);
+                        if (DuelEngine.tributesRequired(monster) == 0
+                                && (best < 0 || monster.getAtk() > ((MonsterCard) hand.get(best)).getAtk())) {
+                            best = i;
+                        }
+                    }
+                }
+                if (best >= 0) {
+                    return new byte[] { Protocol.SUMMON, (byte) best, (byte) Position.ATTACK.ordinal(), 0 };
+                }
+            }
+            return new byte[] { engine.canBattle() ? Protocol.BATTLE_PHASE : Protocol.END_TURN };
+        }
+        if (phase == Phase.BP) {
+            Player opponent = engine.getOpponent();
+            for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+                if (!engine.canAttack(zone)) continue;
+                if (opponent.getBoard().getMonsterCount() == 0) {
+                    return new byte[] { Protocol.DIRECT_ATTACK, (byte) zone };
+                }
+                int atk = self.getBoard().getMonster(zone).getAtk();
+                for (int target = 0; target < DuelEngine.MONSTER_ZONES; target++) {
+                    MonsterCard defender = opponent.getBoard().getMonster(target);
+                    if (defender == null) continue;
+                    int value = defender.getPosition() == Position.ATTACK ? defender.getAtk() : defender.getDef();
+                    if (atk > value) return new byte[] { Protocol.ATTACK, (byte) zone, (byte) target };
+                }
+            }
+        }
+        return new byte[] { Protocol.END_TURN };
+    }
+
+    /**
+     * Gets the payload of a chosen command.
+     *
+     * @param command the opcode followed by the payload
+     * @return the payload
+     */
+    private static byte[] payload(byte[] command) {
+        byte[] payload = new byte[command.length - 1];
+        System.arraycopy(command, 1, payload, 0, payload.length);
+        return payload;
+    }
+
+    /**
+     * Makes one engine diverge from the other.
+     *
+     * @param engine the engine to corrupt
+     * @param random the random source of the test
+     * @return false if nothing could be changed
+     */
+    private static boolean injectFault(DuelEngine engine, Random random) {
+        if (engine.isOver()) return false;
+        if (random.nextBoolean()) {
+            // A change behind the engine's back, only a full hash sees it
+            engine.getPlayer(random.nextInt(2)).decreaseLifePoints(100);
+            return true;
+        }
+        for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+            if (engine.changePosition(zone)) return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,236 @@
+package net;
+
+import Game.DuelEngine;
+import Tournament.DeckList;
+import util.GameLog;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Loopback load test of the spectator stream of the {@link DuelServer}.
+ * <p>
+ * Connects many spectators following the featured duel, all read by one
+ * selector thread, then lets two pairs of {@link DuelClient} play a series
+ * of duels. Each spectator rebuilds the duel in its own {@link SpectatorView}.
+ * The report compares the players' command rate with the run without
+ * spectators, counts the frames dropped for slow spectators, and checks
+ * that every duel is announced by a WELCOME before its first keyframe.
+ * </p>
+ * <p>
+ * <strong>Usage:</strong>
+ * <pre>
+ * java net.LoopbackSpectators [--spectators 9000] [--duels 50]
+ * </pre>
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class LoopbackSpectators {
+
+    /** A simulated spectator */
+    private static class Spectator {
+        /** Socket of the spectator */
+        final SocketChannel channel;
+        /** Bytes received and not yet decoded */
+        final ByteBuffer in = ByteBuffer.allocate(Protocol.MAX_FRAME * 4);
+        /** Duel rebuilt from the stream */
+        final SpectatorView view = new SpectatorView();
+        /** ID of the duel announced by the last WELCOME, 0 before the first */
+        int duelId;
+
+        Spectator(SocketChannel channel) {
+            this.channel = channel;
+        }
+    }
+
+    /** Number of WELCOME frames received */
+    private static long welcomes;
+
+    /** Number of keyframes received before any WELCOME */
+    private static long unannounced;
+
+    /** Number of keyframes received */
+    private static long keyframes;
+
+    /** Number of deltas received */
+    private static long deltas;
+
+    /** Number of deltas ignored because the view was out of sync */
+    private static long outOfSync;
+
+    /** Number of bytes received */
+    private static long bytes;
+
+    /**
+     * Runs the load test.
+     *
+     * @param args {@code --spectators} and {@code --duels}
+     * @throws Exception if the server cannot start or a client fails
+     */
+    public static void main(String[] args) throws Exception {
+        int spectatorCount = 9000;
+        int duels = 50;
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i]) {
+                case "--spectators": spectatorCount = Integer.parseInt(value); i++; break;
+                case "--duels": duels = Integer.parseInt(value); i++; break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    return;
+            }
+        }
+
+        GameLog.setQuiet(true);
+
+        DuelServer server = new DuelServer(0, DeckList.samples(), DuelEngine.DEFAULT_TURN_LIMIT);
+        Thread serverThread = new Thread(server, "duel-server");
+        serverThread.start();
+        int port = server.getPort();
+
+        double alone = playDuels(port, duels);
+        System.out.printf("Without spectators: %.0f commands/s%n", alone);
+
+        Selector selector = Selector.open();
+        List<Spectator> spectators = new ArrayList<>();
+        ByteBuffer spectate = ByteBuffer.allocate(16);
+        int frameStart = Protocol.beginFrame(spectate, Protocol.SPECTATE);
+        spectate.putInt(0);
+        Protocol.endFrame(spectate, frameStart);
+        spectate.flip();
+        for (int i = 0; i < spectatorCount; i++) {
+            SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", port));
+            channel.write(spectate.duplicate());
+            channel.configureBlocking(false);
+            Spectator spectator = new Spectator(channel);
+            channel.register(selector, SelectionKey.OP_READ, spectator);
+            spectators.add(spectator);
+        }
+        while (server.getSpectators() < spectatorCount) {
+            Thread.sleep(10);
+        }
+
+        Thread reader = new Thread(() -> read(selector), "spectators");
+        reader.start();
+        double watched = playDuels(port, duels);
+        // Let the spectators drain their sockets
+        Thread.sleep(500);
+        reader.interrupt();
+        selector.wakeup();
+        reader.join();
+
+        int synced = 0;
+        for (Spectator spectator : spectators) {
+            if (spectator.view.isSynced()) synced++;
+            spectator.channel.close();
+        }
+        server.stop();
+        serverThread.join();
+
+        System.out.printf("With %d spectators: %.0f commands/s%n", spectatorCount, watched);
+        System.out.printf("Received %d welcomes, %d keyframes (%d before a welcome), %d deltas, %.1f MB;"
+                + " %d deltas out of sync%n", welcomes, keyframes, unannounced, deltas, bytes / 1e6, outOfSync);
+        System.out.printf("Server dropped %d frames for slow spectators; %d/%d spectators in sync at the end%n",
+                server.getDroppedFrames(), synced, spectatorCount);
+    }
+
+    /**
+     * Plays duels between two pairs of clients.
+     *
+     * @param port the port of the server
+     * @param duels the number of duels per client
+     * @return the number of commands accepted per second
+     * @throws InterruptedException if interrupted while waiting for the clients
+     */
+    private static double playDuels(int port, int duels) throws InterruptedException {
+        int before = LoopbackDuels.getCommands();
+        long start = System.nanoTime();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String name = "player-" + i;
+            Thread thread = new Thread(() -> {
+                try (DuelClient client = new DuelClient("localhost", port)) {
+                    for (int d = 0; d < duels; d++) {
+                        if (!client.hello(name, 0)) break;
+                        LoopbackDuels.play(client);
+                    }
+                } catch (IOException e) {
+                    System.err.println(name + ": " + e.getMessage());
+                }
+            }, name);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return (LoopbackDuels.getCommands() - before) / ((System.nanoTime() - start) / 1e9);
+    }
+
+    /**
+     * Reads and applies the frames of every spectator until interrupted.
+     *
+     * @param selector the selector of the spectator sockets
+     */
+    private static void read(Selector selector) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                selector.select();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    Spectator spectator = (Spectator) key.attachment();
+                    int count = spectator.channel.read(spectator.in);
+                    if (count < 0) {
+                        key.cancel();
+                        continue;
+                    }
+                    bytes += count;
+                    decode(spectator);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Spectators: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Applies the complete frames received by a spectator.
+     *
+     * @param spectator the spectator
+     */
+    private static void decode(Spectator spectator) {
+        ByteBuffer in = spectator.in;
+        in.flip();
+        int length;
+        while ((length = Protocol.frameLength(in)) >= 0) {
+            in.getShort();
+            ByteBuffer frame = in.slice(in.position(), length);
+            in.position(in.position() + length);
+            byte opcode = frame.get();
+            if (opcode == Protocol.WELCOME) {
+                welcomes++;
+                spectator.duelId = frame.getInt();
+            } else if (opcode == Protocol.KEYFRAME) {
+                keyframes++;
+                if (spectator.duelId == 0) unannounced++;
+                spectator.view.apply(true, frame);
+            } else if (opcode == Protocol.DELTA) {
+                deltas++;
+                if (!spectator.view.apply(false, frame)) outOfSync++;
+            }
+        }
+        in.compact();
+    }
+}
@@ -0,0 +1,179 @@
+package net;
+
+import Tournament.DeckList;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A player waiting in the {@link Matchmaker} queue.
+ * <p>
+ * The ticket moves once from waiting to matched or cancelled. The move is a
+ * compare-and-set, so two matchmaking threads can never pair the same
+ * player twice.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class MatchTicket {
+
+    /** State of a ticket in the queue */
+    static final int WAITING = 0;
+
+    /** State of a ticket paired with an opponent */
+    static final int MATCHED = 1;
+
+    /** State of a ticket removed by its player */
+    static final int CANCELLED = 2;
+
+    /** Name of the player */
+    private final String name;
+
+    /** Rating of the player */
+    private final int rating;
+
+    /** Deck of the player, legal in the matchmaker's format */
+    private final DeckList deck;
+
+    /** Time the ticket was queued, from {@link System#nanoTime()} */
+    private final long queuedAt;
+
+    /** State of the ticket */
+    private final AtomicInteger state = new AtomicInteger(WAITING);
+
+    /** Opponent, once matched */
+    private volatile MatchTicket opponent;
+
+    /** Duel ID given by the host, once matched */
+    private volatile int duelId;
+
+    /** Time spent in the queue, once matched */
+    private volatile long waitNanos;
+
+    /**
+     * Creates a ticket.
+     *
+     * @param name the name of the player
+     * @param rating the rating of the player
+     * @param deck the deck of the player
+     * @param queuedAt the time the ticket is queued, from {@link System#nanoTime()}
+     */
+    MatchTicket(String name, int rating, DeckList deck, long queuedAt) {
+        this.name = name;
+        this.rating = rating;
+        this.deck = deck;
+        this.queuedAt = queuedAt;
+    }
+
+    /**
+     * Moves the ticket out of the queue.
+     *
+     * @param next {@link #MATCHED} or {@link #CANCELLED}
+     * @return false if the ticket was no longer waiting
+     */
+    boolean claim(int next) {
+        return state.compareAndSet(WAITING, next);
+    }
+
+    /**
+     * Puts a claimed ticket back in the waiting state (its pairing failed).
+     */
+    void release() {
+        state.set(WAITING);
+    }
+
+    /**
+     * Records the result of the pairing.
+     *
+     * @param opponent the other player
+     * @param duelId the duel ID given by the host
+     * @param now the time of the pairing, from {@link System#nanoTime()}
+     */
+    void matched(MatchTicket opponent, int duelId, long now) {
+        this.opponent = opponent;
+        this.waitNanos = now - queuedAt;
+        this.duelId = duelId;
+    }
+
+    /**
+     * Checks if the ticket still waits for an opponent.
+     *
+     * @return true while queued
+     */
+    public boolean isWaiting() {
+        return state.get() == WAITING;
+    }
+
+    /**
+     * Checks if the player was paired and the duel started.
+     *
+     * @return true once the host started the duel
+     */
+    public boolean isMatched() {
+        return duelId != 0;
+    }
+
+    /**
+     * Gets the name of the player.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the rating of the player.
+     *
+     * @return the rating
+     */
+    public int getRating() {
+        return rating;
+    }
+
+    /**
+     * Gets the deck of the player.
+     *
+     * @return the deck list
+     */
+    public DeckList getDeck() {
+        return deck;
+    }
+
+    /**
+     * Gets the time the ticket was queued.
+     *
+     * @return the time from {@link System#nanoTime()}
+     */
+    public long getQueuedAt() {
+        return queuedAt;
+    }
+
+    /**
+     * Gets the opponent of a matched ticket.
+     *
+     * @return the opponent's ticket, or null while waiting
+     */
+    public MatchTicket getOpponent() {
+        return opponent;
+    }
+
+    /**
+     * Gets the duel of a matched ticket.
+     *
+     * @return the duel ID, 0 while waiting
+     */
+    public int getDuelId() {
+        return duelId;
+    }
+
+    /**
+     * Gets the time the player waited for an opponent.
+     *
+     * @return the wait in nanoseconds, 0 while waiting
+     */
+    public long getWaitNanos() {
+        return waitNanos;
+    }
+}
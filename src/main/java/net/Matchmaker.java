@@ -0,0 +1,318 @@
+package net;
+
+import Bot.LatencyHistogram;
+import Tournament.DeckList;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Matchmaking queue pairing players by rating, in front of a {@link DuelHost}.
+ * <p>
+ * <strong>Structure:</strong> waiting tickets are striped into rating
+ * buckets of {@link #BUCKET_WIDTH} points, each a lock-free
+ * {@link ConcurrentLinkedDeque}. Threads queuing players of different
+ * ratings touch different buckets, so enqueue and pairing scale with the
+ * cores. Pairing claims both tickets with a compare-and-set
+ * ({@link MatchTicket}), so there are no locks.
+ * </p>
+ * <p>
+ * <strong>Pairing:</strong> a new ticket first looks for an opponent in its
+ * own bucket, then in the neighbouring ones, within the initial rating
+ * window. If none is found, it waits in its bucket. {@link #tick()}, called
+ * periodically, widens the window of the waiting tickets with their age.
+ * After the latency budget any opponent is accepted, so nobody waits much
+ * longer than the budget.
+ * </p>
+ * <p>
+ * Decks are checked when queued: an illegal deck is refused.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class Matchmaker {
+
+    /** Rating points covered by a bucket */
+    public static final int BUCKET_WIDTH = 50;
+
+    /** Highest rating with its own bucket; higher ratings share the last one */
+    private static final int MAX_RATING = 4000;
+
+    /** Host starting the paired duels */
+    private final DuelHost host;
+
+    /** Rating difference accepted as soon as a ticket is queued */
+    private final int initialWindow;
+
+    /** Rating points added to the window per second of waiting */
+    private final int widenPerSecond;
+
+    /** Wait after which any opponent is accepted, in nanoseconds */
+    private final long budgetNanos;
+
+    /** Smallest deck size of the format */
+    private final int minDeckSize;
+
+    /** Largest deck size of the format */
+    private final int maxDeckSize;
+
+    /** Largest number of copies of a card in the format */
+    private final int maxCopies;
+
+    /** Waiting tickets, by rating bucket */
+    private final List<ConcurrentLinkedDeque<MatchTicket>> buckets;
+
+    /** Number of waiting tickets */
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    /** Number of pairs made */
+    private final AtomicLong matches = new AtomicLong();
+
+    /** Number of tickets refused for an illegal deck */
+    private final AtomicLong rejected = new AtomicLong();
+
+    /** Sum of the rating differences of the pairs */
+    private final AtomicLong ratingGap = new AtomicLong();
+
+    /** Time from queuing to pairing of each matched ticket */
+    private final LatencyHistogram matchTimes = new LatencyHistogram();
+
+    /**
+     * Creates a matchmaker for the official deck rules.
+     *
+     * @param host the host starting the duels
+     * @param initialWindow the rating difference accepted at once
+     * @param widenPerSecond the rating points added to the window per second of waiting
+     * @param budgetMillis the wait after which any opponent is accepted
+     */
+    public Matchmaker(DuelHost host, int initialWindow, int widenPerSecond, long budgetMillis) {
+        this(host, initialWindow, widenPerSecond, budgetMillis,
+             DeckList.MIN_SIZE, DeckList.MAX_SIZE, DeckList.MAX_COPIES);
+    }
+
+    /**
+     * Creates a matchmaker for a custom format.
+     *
+     * @param host the host starting the duels
+     * @param initialWindow the rating difference accepted at once
+     * @param widenPerSecond the rating points added to the window per second of waiting
+     * @param budgetMillis the wait after which any opponent is accepted
+     * @param minDeckSize the smallest deck size of the format
+     * @param maxDeckSize the largest deck size of the format
+     * @param maxCopies the largest number of copies of a card in the format
+     */
+    public Matchmaker(DuelHost host, int initialWindow, int widenPerSecond, long budgetMillis,
+                      int minDeckSize, int maxDeckSize, int maxCopies) {
+        this.host = host;
+        this.initialWindow = initialWindow;
+        this.widenPerSecond = widenPerSecond;
+        this.budgetNanos = budgetMillis * 1_000_000L;
+        this.minDeckSize = minDeckSize;
+        this.maxDeckSize = maxDeckSize;
+        this.maxCopies = maxCopies;
+        int bucketCount = MAX_RATING / BUCKET_WIDTH + 1;
+        this.buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new ConcurrentLinkedDeque<>());
+        }
+    }
+
+    /**
+     * Queues a player, and pairs them at once if an opponent is close enough.
+     *
+     * @param name the name of the player
+     * @param rating the rating of the player
+     * @param deck the deck of the player
+     * @return the ticket of the player, or null if the deck is not legal in the format
+     */
+    public MatchTicket enqueue(String name, int rating, DeckList deck) {
+        if (deck.checkLegality(minDeckSize, maxDeckSize, maxCopies) != null) {
+            rejected.incrementAndGet();
+            return null;
+        }
+        MatchTicket ticket = new MatchTicket(name, rating, deck, System.nanoTime());
+        waiting.incrementAndGet();
+        if (!pair(ticket, initialWindow)) {
+            buckets.get(bucketOf(rating)).addLast(ticket);
+        }
+        return ticket;
+    }
+
+    /**
+     * Removes a waiting player from the queue.
+     *
+     * @param ticket the ticket of the player
+     * @return false if the ticket was already matched or cancelled
+     */
+    public boolean cancel(MatchTicket ticket) {
+        if (!ticket.claim(MatchTicket.CANCELLED)) return false;
+        waiting.decrementAndGet();
+        buckets.get(bucketOf(ticket.getRating())).remove(ticket);
+        return true;
+    }
+
+    /**
+     * Widens the rating window of the waiting tickets and pairs them.
+     * <p>
+     * Call it periodically (every few milliseconds) from one thread; the
+     * oldest tickets of each bucket are handled first.
+     * </p>
+     *
+     * @return the number of pairs made
+     */
+    public int tick() {
+        long now = System.nanoTime();
+        int pairs = 0;
+        for (ConcurrentLinkedDeque<MatchTicket> bucket : buckets) {
+            for (Iterator<MatchTicket> it = bucket.iterator(); it.hasNext(); ) {
+                MatchTicket ticket = it.next();
+                if (!ticket.isWaiting()) {
+                    it.remove();
+                    continue;
+                }
+                long wait = now - ticket.getQueuedAt();
+                int window = wait >= budgetNanos ? Integer.MAX_VALUE
+                        : initialWindow + (int) (wait * widenPerSecond / 1_000_000_000L);
+                if (window > initialWindow && pair(ticket, window)) {
+                    pairs++;
+                }
+            }
+        }
+        return pairs;
+    }
+
+    /**
+     * Looks for an opponent within a rating window and starts the duel.
+     * <p>
+     * Buckets are scanned outwards from the player's own bucket, so the
+     * closest ratings are tried first. The opponent is claimed first, then
+     * the player; if the player was taken meanwhile, the opponent is released.
+     * </p>
+     *
+     * @param ticket the player looking for an opponent
+     * @param window the largest accepted rating difference
+     * @return true if the player was paired
+     */
+    private boolean pair(MatchTicket ticket, int window) {
+        int home = bucketOf(ticket.getRating());
+        int reach = window == Integer.MAX_VALUE ? buckets.size()
+                : Math.min(buckets.size(), window / BUCKET_WIDTH + 1);
+        for (int distance = 0; distance <= reach; distance++) {
+            if (!ticket.isWaiting()) return false;
+            int below = home - distance;
+            int above = home + distance;
+            if (below < 0 && above >= buckets.size()) break;
+            if (below >= 0 && pairIn(ticket, buckets.get(below), window)) return true;
+            if (distance > 0 && above < buckets.size() && pairIn(ticket, buckets.get(above), window)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Looks for an opponent in one bucket.
+     *
+     * @param ticket the player looking for an opponent
+     * @param bucket the bucket to scan
+     * @param window the largest accepted rating difference
+     * @return true if the player was paired
+     */
+    private boolean pairIn(MatchTicket ticket, ConcurrentLinkedDeque<MatchTicket> bucket, int window) {
+        for (Iterator<MatchTicket> it = bucket.iterator(); it.hasNext(); ) {
+            MatchTicket other = it.next();
+            if (other == ticket) continue;
+            if (!other.isWaiting()) {
+                it.remove();
+                continue;
+            }
+            if (Math.abs(other.getRating() - ticket.getRating()) > window) continue;
+            if (!other.claim(MatchTicket.MATCHED)) continue;
+            if (!ticket.claim(MatchTicket.MATCHED)) {
+                other.release();
+                return false;
+            }
+            start(other, ticket);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Starts the duel of a pair; the player who waited longest goes first.
+     *
+     * @param first the player who waited longest
+     * @param second the other player
+     */
+    private void start(MatchTicket first, MatchTicket second) {
+        int duelId = host.startDuel(first, second);
+        long now = System.nanoTime();
+        first.matched(second, duelId, now);
+        second.matched(first, duelId, now);
+        waiting.addAndGet(-2);
+        matches.incrementAndGet();
+        ratingGap.addAndGet(Math.abs(first.getRating() - second.getRating()));
+        matchTimes.record(first.getWaitNanos());
+        matchTimes.record(second.getWaitNanos());
+    }
+
+    /**
+     * Gets the bucket of a rating.
+     *
+     * @param rating the rating
+     * @return the bucket index
+     */
+    private int bucketOf(int rating) {
+        return Math.max(0, Math.min(buckets.size() - 1, rating / BUCKET_WIDTH));
+    }
+
+    /**
+     * Gets the number of players waiting.
+     *
+     * @return the number of waiting tickets
+     */
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    /**
+     * Gets the number of pairs made.
+     *
+     * @return the number of duels started
+     */
+    public long getMatches() {
+        return matches.get();
+    }
+
+    /**
+     * Gets the number of players refused for an illegal deck.
+     *
+     * @return the number of refused tickets
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * Gets the mean rating difference of the pairs.
+     *
+     * @return the mean difference, 0 if no pair was made
+     */
+    public double getMeanRatingGap() {
+        long n = matches.get();
+        return n == 0 ? 0.0 : (double) ratingGap.get() / n;
+    }
+
+    /**
+     * Gets the histogram of the time from queuing to pairing.
+     *
+     * @return the match times, in nanoseconds
+     */
+    public LatencyHistogram getMatchTimes() {
+        return matchTimes;
+    }
+}
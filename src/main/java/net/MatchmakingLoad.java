@@ -0,0 +1,147 @@
+package net;
+
+import Tournament.DeckList;
+import util.GameLog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Load test of the {@link Matchmaker} with a {@link LocalDuelHost}.
+ * <p>
+ * Worker threads queue players at a fixed total rate, with ratings drawn
+ * around 1500. A small share of the players bring an illegal deck, and a
+ * small share of the queued players give up before being paired. A ticker
+ * thread widens the windows every few milliseconds. The report gives the
+ * queue operations per second, the match time percentiles and the mean
+ * rating gap of the pairs.
+ * </p>
+ * <p>
+ * The sample decks break the copy limit, so the run uses a permissive format
+ * (40 to 60 cards, any number of copies) and a 20-card deck as the illegal one.
+ * </p>
+ * <p>
+ * <strong>Usage:</strong>
+ * <pre>
+ * java net.MatchmakingLoad [--seconds 10] [--threads 4] [--rate 10000] [--budget 2000]
+ * </pre>
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class MatchmakingLoad {
+
+    /** Mean rating of the queued players */
+    private static final int MEAN_RATING = 1500;
+
+    /** Standard deviation of the ratings */
+    private static final int RATING_DEVIATION = 300;
+
+    /** Share of the players with an illegal deck */
+    private static final double ILLEGAL_SHARE = 0.02;
+
+    /** Share of the queued players who cancel */
+    private static final double CANCEL_SHARE = 0.05;
+
+    /** Period of the ticker, in milliseconds */
+    private static final int TICK_MILLIS = 5;
+
+    /**
+     * Runs the test.
+     *
+     * @param args {@code --seconds}, {@code --threads}, {@code --rate} (queue
+     *             operations per second, all threads) and {@code --budget} (ms)
+     * @throws InterruptedException if interrupted while waiting for the workers
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int seconds = 10;
+        int threads = 4;
+        int rate = 10_000;
+        long budget = 2000;
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : "";
+            switch (args[i]) {
+                case "--seconds": seconds = Integer.parseInt(value); i++; break;
+                case "--threads": threads = Integer.parseInt(value); i++; break;
+                case "--rate": rate = Integer.parseInt(value); i++; break;
+                case "--budget": budget = Long.parseLong(value); i++; break;
+                default:
+                    System.err.println("Unknown option: " + args[i]);
+                    return;
+            }
+        }
+
+        GameLog.setQuiet(true);
+
+        List<DeckList> decks = DeckList.samples();
+        DeckList illegal = DeckList.parse("Too small", List.of("20;Monster;14898066;Vorse Raider;1900;1200;4"));
+        LocalDuelHost host = new LocalDuelHost(false);
+        Matchmaker matchmaker = new Matchmaker(host, 100, 400, budget, 40, 60, Integer.MAX_VALUE);
+
+        AtomicLong operations = new AtomicLong();
+        long startTime = System.nanoTime();
+        long endTime = startTime + seconds * 1_000_000_000L;
+        long period = (long) threads * 1_000_000_000L / rate;
+
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int worker = t;
+            Thread thread = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                List<MatchTicket> pending = new ArrayList<>();
+                long next = System.nanoTime();
+                int count = 0;
+                while (next < endTime) {
+                    long delay = next - System.nanoTime();
+                    if (delay > 0) LockSupport.parkNanos(delay);
+                    next += period;
+
+                    if (!pending.isEmpty() && random.nextDouble() < CANCEL_SHARE) {
+                        matchmaker.cancel(pending.remove(pending.size() - 1));
+                    } else {
+                        int rating = (int) Math.round(MEAN_RATING + random.nextGaussian() * RATING_DEVIATION);
+                        DeckList deck = random.nextDouble() < ILLEGAL_SHARE
+                                ? illegal : decks.get(random.nextInt(decks.size()));
+                        MatchTicket ticket = matchmaker.enqueue("Player " + worker + "-" + count++,
+                                Math.max(0, rating), deck);
+                        if (ticket != null && ticket.isWaiting()) pending.add(ticket);
+                    }
+                    operations.incrementAndGet();
+                    pending.removeIf(ticket -> !ticket.isWaiting());
+                }
+            }, "matchmaking-worker-" + t);
+            thread.start();
+            workers.add(thread);
+        }
+
+        Thread ticker = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                matchmaker.tick();
+                LockSupport.parkNanos(TICK_MILLIS * 1_000_000L);
+            }
+        }, "matchmaking-ticker");
+        ticker.setDaemon(true);
+        ticker.start();
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double elapsed = (System.nanoTime() - startTime) / 1e9;
+        ticker.interrupt();
+
+        System.out.printf("%d queue operations in %.2f s (%.0f ops/s) on %d threads%n",
+                operations.get(), elapsed, operations.get() / elapsed, threads);
+        System.out.printf("%d duels started, %d decks rejected, %d players still waiting%n",
+                host.getStartedDuels(), matchmaker.getRejected(), matchmaker.getWaiting());
+        System.out.printf("Match time: p50 %.2f ms, p99 %.2f ms, max %.2f ms; mean rating gap %.1f%n",
+                matchmaker.getMatchTimes().getPercentile(50) / 1e6,
+                matchmaker.getMatchTimes().getPercentile(99) / 1e6,
+                matchmaker.getMatchTimes().getMax() / 1e6,
+                matchmaker.getMeanRatingGap());
+    }
+}
@@ -0,0 +1,236 @@
+package net;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary protocol spoken between {@link DuelServer} and {@link DuelClient}.
+ * <p>
+ * Every message is a frame: a {@code short} length (number of bytes after the
+ * length field), a one-byte opcode and the payload. Indices (hand position,
+ * zone) are single bytes, so a command is between 1 and 8 bytes long.
+ * </p>
+ * <p>
+ * <strong>Client to server</strong>:
+ * <ul>
+ * <li>{@link #HELLO}: byte deck index, string name. The server queues the
+ *     client and answers {@link #WELCOME} once an opponent is found</li>
+ * <li>{@link #SPECTATE}: int duel ID, or 0 to follow the featured duel (the
+ *     stream moves on to the next duel when it ends)</li>
+ * <li>{@link #SUMMON}: byte hand index, byte position ({@link Card.Position#ordinal()}),
+ *     byte tribute count, then the tribute zones</li>
+ * <li>{@link #SET}, {@link #ACTIVATE}: byte hand index (spell or trap)</li>
+ * <li>{@link #ACTIVATE_SET}, {@link #CHANGE_POSITION}, {@link #DIRECT_ATTACK}: byte zone</li>
+ * <li>{@link #ATTACK}: byte attacker zone, byte defender zone</li>
+ * <li>{@link #BATTLE_PHASE}, {@link #MAIN_PHASE_2}, {@link #END_TURN},
+ *     {@link #SURRENDER}: no payload</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <strong>Between lockstep peers</strong> (see {@link LockstepPeer}):
+ * <ul>
+ * <li>{@link #LOCKSTEP_COMMAND}: int epoch, int sequence, long state hash,
+ *     then a command frame body (opcode and payload)</li>
+ * <li>{@link #LOCKSTEP_DESYNC}: int epoch, int sequence, long state hash</li>
+ * <li>{@link #LOCKSTEP_SNAPSHOT}: int epoch, int sequence, then a
+ *     {@link Game.SaveGame} image of the duel</li>
+ * <li>{@link #LOCKSTEP_FINAL}: int epoch, int sequence, long hash of the
+ *     whole final state</li>
+ * </ul>
+ * </p>
+ * <p>
+ * <strong>Server to client</strong>:
+ * <ul>
+ * <li>{@link #QUEUED}: no payload, the client waits for an opponent</li>
+ * <li>{@link #WELCOME}: int duel ID, byte player index (0 plays first, 2 for a spectator)</li>
+ * <li>{@link #ACCEPTED}, {@link #REJECTED}: byte opcode of the command</li>
+ * <li>{@link #STATE}: the duel seen by the client, see {@link DuelServer}; the
+ *     Draw Phase is run by the server, drawn cards appear in the next state</li>
+ * <li>{@link #KEYFRAME}, {@link #DELTA}: public state of a watched duel, see
+ *     {@link SpectatorView}</li>
+ * </ul>
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class Protocol {
+
+    /** Default TCP port of the duel server */
+    public static final int DEFAULT_PORT = 7777;
+
+    /** Largest frame accepted, length field included */
+    public static final int MAX_FRAME = 4096;
+
+    // --- Client to server ---
+
+    /** Join the matchmaking queue */
+    public static final byte HELLO = 0x01;
+
+    /** Watch a duel */
+    public static final byte SPECTATE = 0x02;
+
+    /** Normal Summon or Set a monster from the hand */
+    public static final byte SUMMON = 0x10;
+
+    /** Set a spell or trap from the hand */
+    public static final byte SET = 0x11;
+
+    /** Activate a spell from the hand */
+    public static final byte ACTIVATE = 0x12;
+
+    /** Activate a Set spell or trap */
+    public static final byte ACTIVATE_SET = 0x13;
+
+    /** Change the battle position of a monster */
+    public static final byte CHANGE_POSITION = 0x14;
+
+    /** Attack an opponent's monster */
+    public static final byte ATTACK = 0x15;
+
+    /** Attack the opponent directly */
+    public static final byte DIRECT_ATTACK = 0x16;
+
+    /** Enter the Battle Phase */
+    public static final byte BATTLE_PHASE = 0x17;
+
+    /** Enter Main Phase 2 */
+    public static final byte MAIN_PHASE_2 = 0x18;
+
+    /** End the turn */
+    public static final byte END_TURN = 0x19;
+
+    /** Give up the duel */
+    public static final byte SURRENDER = 0x1A;
+
+    // --- Between lockstep peers ---
+
+    /** A command applied by the sending peer, with its state hash */
+    public static final byte LOCKSTEP_COMMAND = 0x20;
+
+    /** The receiving peer found a different state hash */
+    public static final byte LOCKSTEP_DESYNC = 0x21;
+
+    /** Full state of the duel sent by the authority to resync its peer */
+    public static final byte LOCKSTEP_SNAPSHOT = 0x22;
+
+    /** The duel ended on the sending peer, with the hash of its whole final state */
+    public static final byte LOCKSTEP_FINAL = 0x23;
+
+    // --- Server to client ---
+
+    /** The client is waiting for an opponent */
+    public static final byte QUEUED = (byte) 0x80;
+
+    /** A duel was created */
+    public static final byte WELCOME = (byte) 0x81;
+
+    /** The last command was legal and applied */
+    public static final byte ACCEPTED = (byte) 0x82;
+
+    /** The last command was illegal, nothing changed */
+    public static final byte REJECTED = (byte) 0x83;
+
+    /** State of the duel seen by the client */
+    public static final byte STATE = (byte) 0x84;
+
+    /** Full public state of a watched duel */
+    public static final byte KEYFRAME = (byte) 0x85;
+
+    /** Changes of the public state of a watched duel */
+    public static final byte DELTA = (byte) 0x86;
+
+    // --- STATE encoding ---
+
+    /** Card kind of a monster in a STATE message */
+    public static final byte KIND_MONSTER = 0;
+
+    /** Card kind of a spell in a STATE message */
+    public static final byte KIND_SPELL = 1;
+
+    /** Card kind of a trap in a STATE message */
+    public static final byte KIND_TRAP = 2;
+
+    /** Zone flag: the zone holds a card */
+    public static final int ZONE_PRESENT = 0x1;
+
+    /** Zone flag: the card is face-down */
+    public static final int ZONE_FACE_DOWN = 0x2;
+
+    /** Zone flag: the card is visible and its details follow */
+    public static final int ZONE_VISIBLE = 0x4;
+
+    /** Zone flag: the monster has attacked this turn */
+    public static final int ZONE_ATTACKED = 0x8;
+
+    /** Zone flag: the monster is in Defense Position */
+    public static final int ZONE_DEFENSE = 0x10;
+
+    /**
+     * Private constructor: this class only exposes constants and static helpers.
+     */
+    private Protocol() {
+    }
+
+    /**
+     * Starts a frame in a buffer: reserves the length field and writes the opcode.
+     *
+     * @param out the output buffer
+     * @param opcode the opcode of the message
+     * @return the position of the frame, to pass to {@link #endFrame(ByteBuffer, int)}
+     */
+    public static int beginFrame(ByteBuffer out, byte opcode) {
+        int start = out.position();
+        out.putShort((short) 0);
+        out.put(opcode);
+        return start;
+    }
+
+    /**
+     * Ends a frame by writing its length.
+     *
+     * @param out the output buffer
+     * @param start the value returned by {@link #beginFrame(ByteBuffer, byte)}
+     */
+    public static void endFrame(ByteBuffer out, int start) {
+        out.putShort(start, (short) (out.position() - start - 2));
+    }
+
+    /**
+     * Checks if a complete frame is available at the position of a buffer.
+     *
+     * @param in the input buffer, in read mode
+     * @return the length of the frame body, or -1 if the frame is incomplete
+     */
+    public static int frameLength(ByteBuffer in) {
+        if (in.remaining() < 2) return -1;
+        int length = in.getShort(in.position()) & 0xFFFF;
+        return in.remaining() - 2 >= length ? length : -1;
+    }
+
+    /**
+     * Writes a string as a byte length and UTF-8 bytes (truncated to 255 bytes).
+     *
+     * @param out the output buffer
+     * @param value the string
+     */
+    public static void putString(ByteBuffer out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, 255);
+        out.put((byte) length);
+        out.put(bytes, 0, length);
+    }
+
+    /**
+     * Reads a string written by {@link #putString(ByteBuffer, String)}.
+     *
+     * @param in the input buffer
+     * @return the string
+     */
+    public static String getString(ByteBuffer in) {
+        byte[] bytes = new byte[in.get() & 0xFF];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
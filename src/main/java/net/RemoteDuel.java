@@ -0,0 +1,287 @@
+package net;
+
+import Card.Card;
+import Card.EffectRegistry;
+import Card.MonsterCard;
+import Card.Position;
+import Card.SpellCard;
+import Card.TrapCard;
+import Deck.Deck;
+import Game.DuelEngine;
+import Game.DuelRandom;
+import Player.Player;
+import Tournament.DeckList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Local {@link DuelEngine} mirroring a networked duel, rebuilt from each
+ * {@link RemoteState} received by a {@link DuelClient}.
+ * <p>
+ * The mirror lets a screen made for the engine show a remote duel and list
+ * the legal moves of the client with {@link DuelEngine#generateMoves}, while
+ * the server stays the judge: the moves are sent with
+ * {@link Commands#encode(int)}, and the mirror is never played on. Player 0
+ * of the mirror is always the client, player 1 the opponent.
+ * </p>
+ * <p>
+ * A state only tells what the client may know. The opponent's hand, the
+ * face-down cards of the opponent, both decks and both Graveyards are
+ * filled with hidden placeholder cards of the right count, and the Normal
+ * Summon of the turn is not sent: the mirror may offer a move the server
+ * then rejects.
+ * </p>
+ * <p>
+ * The card in a slot (hand position or zone) is reused from one state to
+ * the next while its card ID stays the same, so an observer comparing cards
+ * by identity only sees the slots that changed. Card names are looked up in
+ * the deck lists the server plays with.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class RemoteDuel {
+
+    /** Card ID of the hidden placeholder cards */
+    private static final int HIDDEN_ID = 0;
+
+    /** Name of the client in the mirror */
+    private final String name;
+
+    /** Name of each card ID of the known deck lists */
+    private final Map<Integer, String> names = new HashMap<>();
+
+    /** Cards of the previous state in each hand, indexed by mirror player */
+    private final List<List<Card>> hands = List.of(new ArrayList<>(), new ArrayList<>());
+
+    /** Hidden cards of the previous state in each deck, indexed by mirror player */
+    private final List<List<Card>> decks = List.of(new ArrayList<>(), new ArrayList<>());
+
+    /** Hidden cards of the previous state in each Graveyard, indexed by mirror player */
+    private final List<List<Card>> graveyards = List.of(new ArrayList<>(), new ArrayList<>());
+
+    /** Monsters of the previous state, indexed by mirror player then zone */
+    private final MonsterCard[][] monsters = new MonsterCard[2][RemoteState.ZONES];
+
+    /** Spells and traps of the previous state, indexed by mirror player then zone */
+    private final Card[][] spellTraps = new Card[2][RemoteState.ZONES];
+
+    /** Mirror of the latest state, or null before the first one */
+    private DuelEngine engine;
+
+    /**
+     * Creates the mirror of a client's duels.
+     *
+     * @param name the name of the client
+     * @param decks the deck lists of the server, for the names of the cards
+     */
+    public RemoteDuel(String name, List<DeckList> decks) {
+        this.name = name;
+        Random random = new Random(0);
+        for (DeckList deck : decks) {
+            for (Card card : deck.instantiate(random)) {
+                names.putIfAbsent(card.getCardId(), card.getName());
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the mirror from a state.
+     *
+     * @param state the latest state received
+     * @return the new mirror
+     */
+    public DuelEngine update(RemoteState state) {
+        Player[] players = new Player[2];
+        for (int side = RemoteState.SELF; side <= RemoteState.OPPONENT; side++) {
+            players[side] = createPlayer(state, side);
+        }
+
+        int result;
+        if (!state.isOver()) {
+            result = DuelEngine.RESULT_NONE;
+        } else if (state.isWon()) {
+            result = RemoteState.SELF;
+        } else {
+            result = state.isDraw() ? DuelEngine.RESULT_DRAW : RemoteState.OPPONENT;
+        }
+        engine = new DuelEngine(players[0], players[1], DuelEngine.DEFAULT_TURN_LIMIT, new DuelRandom(0));
+        engine.restoreState(state.isMyTurn() ? RemoteState.SELF : RemoteState.OPPONENT,
+                            state.getTurn(), state.getPhase(), result);
+        return engine;
+    }
+
+    /**
+     * Gets the mirror of the latest state.
+     *
+     * @return the mirror, or null before the first state
+     */
+    public DuelEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Creates the player of one side of a state, with its hand, zones and hidden piles.
+     *
+     * @param state the state
+     * @param side {@link RemoteState#SELF} or {@link RemoteState#OPPONENT}
+     * @return the player
+     */
+    private Player createPlayer(RemoteState state, int side) {
+        List<Card> deck = hidden(decks.get(side), state.getDeckCount(side));
+        Player player = new Player(side == RemoteState.SELF ? name : "Opponent",
+                                   state.getLifePoints(side), new Deck(deck), null);
+
+        List<Card> hand = hands.get(side);
+        for (int i = 0; i < state.getHandCount(side); i++) {
+            RemoteState.RemoteCard card = side == RemoteState.SELF ? state.getHandCard(i) : null;
+            Card previous = i < hand.size() ? hand.get(i) : null;
+            Card current = reuse(previous, card) ? previous : createCard(card);
+            if (i < hand.size()) {
+                hand.set(i, current);
+            } else {
+                hand.add(current);
+            }
+        }
+        hand.subList(state.getHandCount(side), hand.size()).clear();
+        player.getHand().addCards(hand);
+
+        List<Card> graveyard = hidden(graveyards.get(side), state.getGraveyardCount(side));
+        player.getBoard().getGraveyard().addCards(graveyard);
+
+        for (int zone = 0; zone < RemoteState.ZONES; zone++) {
+            monsters[side][zone] = restoreMonster(state, side, zone);
+            player.getBoard().restoreMonster(zone, monsters[side][zone]);
+            spellTraps[side][zone] = restoreSpellTrap(state, side, zone);
+            player.getBoard().restoreSpellTrap(zone, spellTraps[side][zone]);
+        }
+
+        for (Card card : deck) card.setOwner(player);
+        for (Card card : hand) card.setOwner(player);
+        for (Card card : graveyard) card.setOwner(player);
+        return player;
+    }
+
+    /**
+     * Gets the monster of a zone, in the position and with the attack flag of the state.
+     *
+     * @param state the state
+     * @param side the side of the zone
+     * @param zone the monster zone (0-4)
+     * @return the monster, or null if the zone is empty
+     */
+    private MonsterCard restoreMonster(RemoteState state, int side, int zone) {
+        if (!state.hasMonster(side, zone)) return null;
+        int flags = state.getMonsterFlags(side, zone);
+        RemoteState.RemoteCard card = state.getMonster(side, zone);
+        MonsterCard previous = monsters[side][zone];
+        MonsterCard monster = reuse(previous, card) ? previous : createMonster(card);
+
+        Position position;
+        if ((flags & Protocol.ZONE_FACE_DOWN) != 0) {
+            position = Position.FACE_DOWN;
+        } else {
+            position = (flags & Protocol.ZONE_DEFENSE) != 0 ? Position.DEFENSE : Position.ATTACK;
+        }
+        monster.restoreState(position, (flags & Protocol.ZONE_ATTACKED) != 0, false);
+        monster.setFaceDown(position == Position.FACE_DOWN);
+        return monster;
+    }
+
+    /**
+     * Gets the spell or trap of a zone, face-down if the state says so.
+     *
+     * @param state the state
+     * @param side the side of the zone
+     * @param zone the spell/trap zone (0-4)
+     * @return the card, or null if the zone is empty
+     */
+    private Card restoreSpellTrap(RemoteState state, int side, int zone) {
+        int flags = state.getSpellTrapFlags(side, zone);
+        if ((flags & Protocol.ZONE_PRESENT) == 0) return null;
+        RemoteState.RemoteCard card = state.getSpellTrap(side, zone);
+        Card previous = spellTraps[side][zone];
+        Card current = reuse(previous, card) ? previous : createCard(card);
+        current.setFaceDown((flags & Protocol.ZONE_FACE_DOWN) != 0);
+        return current;
+    }
+
+    /**
+     * Checks if the card of a slot in the previous state is still the card of the new state.
+     *
+     * @param previous the card of the previous state, or null
+     * @param card the card of the new state, or null if hidden
+     * @return true if the previous card can be kept
+     */
+    private static boolean reuse(Card previous, RemoteState.RemoteCard card) {
+        if (previous == null) return false;
+        if (card == null) return previous.getCardId() == HIDDEN_ID;
+        if (previous.getCardId() != card.getCardId()) return false;
+        if (!(previous instanceof MonsterCard)) return true;
+        MonsterCard monster = (MonsterCard) previous;
+        return monster.getAtk() == card.getAtk() && monster.getDef() == card.getDef();
+    }
+
+    /**
+     * Creates the card of a slot.
+     *
+     * @param card the card of the state, or null if hidden
+     * @return the new card
+     */
+    private Card createCard(RemoteState.RemoteCard card) {
+        if (card == null) return hidden();
+        if (card.isMonster()) return createMonster(card);
+        String cardName = names.getOrDefault(card.getCardId(), "Card #" + card.getCardId());
+        if (card.getKind() == Protocol.KIND_SPELL) {
+            return new SpellCard(cardName, "", card.getCardId(), null, "Normal",
+                                 EffectRegistry.get(card.getCardId()), false, "");
+        }
+        return new TrapCard(cardName, "", card.getCardId(), null, "Normal",
+                            EffectRegistry.get(card.getCardId()), false, "");
+    }
+
+    /**
+     * Creates a monster of a monster zone or of the hand.
+     *
+     * @param card the monster of the state, or null for a face-down monster of the opponent
+     * @return the new monster
+     */
+    private MonsterCard createMonster(RemoteState.RemoteCard card) {
+        if (card == null) {
+            return new MonsterCard("Face-down monster", "", HIDDEN_ID, null, 0, 0, 0, "", "", "Normal", "Normal Monster");
+        }
+        return new MonsterCard(names.getOrDefault(card.getCardId(), "Card #" + card.getCardId()), "",
+                               card.getCardId(), null, card.getAtk(), card.getDef(), card.getLevel(),
+                               "", "", "Normal", "Normal Monster");
+    }
+
+    /**
+     * Resizes a pile of hidden cards, keeping the cards it already holds.
+     *
+     * @param pile the hidden cards of the previous state
+     * @param count the number of cards in the new state
+     * @return the pile, now holding count cards
+     */
+    private static List<Card> hidden(List<Card> pile, int count) {
+        while (pile.size() < count) {
+            pile.add(hidden());
+        }
+        pile.subList(count, pile.size()).clear();
+        return pile;
+    }
+
+    /**
+     * Creates a hidden card of a deck, a Graveyard or the opponent's hand.
+     *
+     * @return a placeholder card without effect
+     */
+    private static Card hidden() {
+        return new TrapCard("Hidden card", "", HIDDEN_ID, null, "Normal", null, false, "");
+    }
+}
@@ -0,0 +1,389 @@
+package net;
+
+import Game.Phase;
+
+import java.nio.ByteBuffer;
+
+/**
+ * State of a networked duel as seen by one client, decoded from a
+ * {@link Protocol#STATE} message.
+ * <p>
+ * Sides are relative to the client: {@link #SELF} is the client, {@link #OPPONENT}
+ * the other player. Only the client's own hand is known; face-down cards of
+ * the opponent are present but hidden (null card).
+ * </p>
+ * <p>
+ * <strong>STATE layout:</strong>
+ * <pre>
+ * byte viewer, int turn, byte active, byte phase, byte result
+ * self, then opponent:
+ *   int LP, byte deck count, byte Graveyard count, byte hand count
+ *   self only: hand count x card
+ *   5 monster zones, 5 spell/trap zones: byte flags [+ card if ZONE_VISIBLE]
+ * card: byte kind, int ID, short ATK, short DEF, byte level
+ * </pre>
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class RemoteState {
+
+    /** Side of the client */
+    public static final int SELF = 0;
+
+    /** Side of the opponent */
+    public static final int OPPONENT = 1;
+
+    /** Number of monster (and spell/trap) zones per side */
+    public static final int ZONES = 5;
+
+    /** A card seen through the network: just what the rules and the display need */
+    public static class RemoteCard {
+
+        /** Kind of the card ({@link Protocol#KIND_MONSTER}, ...) */
+        private final byte kind;
+
+        /** Card ID (password) */
+        private final int cardId;
+
+        /** ATK of a monster */
+        private final int atk;
+
+        /** DEF of a monster */
+        private final int def;
+
+        /** Level of a monster */
+        private final int level;
+
+        /**
+         * Creates a remote card.
+         *
+         * @param kind the kind of the card
+         * @param cardId the card ID
+         * @param atk the ATK (0 for spells and traps)
+         * @param def the DEF (0 for spells and traps)
+         * @param level the level (0 for spells and traps)
+         */
+        RemoteCard(byte kind, int cardId, int atk, int def, int level) {
+            this.kind = kind;
+            this.cardId = cardId;
+            this.atk = atk;
+            this.def = def;
+            this.level = level;
+        }
+
+        /**
+         * Checks if the card is a monster.
+         *
+         * @return true for a monster
+         */
+        public boolean isMonster() {
+            return kind == Protocol.KIND_MONSTER;
+        }
+
+        /**
+         * Gets the kind of the card.
+         *
+         * @return {@link Protocol#KIND_MONSTER}, {@link Protocol#KIND_SPELL} or {@link Protocol#KIND_TRAP}
+         */
+        public byte getKind() {
+            return kind;
+        }
+
+        /**
+         * Gets the card ID.
+         *
+         * @return the card ID (password)
+         */
+        public int getCardId() {
+            return cardId;
+        }
+
+        /**
+         * Gets the ATK of a monster.
+         *
+         * @return the ATK
+         */
+        public int getAtk() {
+            return atk;
+        }
+
+        /**
+         * Gets the DEF of a monster.
+         *
+         * @return the DEF
+         */
+        public int getDef() {
+            return def;
+        }
+
+        /**
+         * Gets the level of a monster.
+         *
+         * @return the level
+         */
+        public int getLevel() {
+            return level;
+        }
+    }
+
+    /** Index of the client in the duel (0 plays first) */
+    private int viewer;
+
+    /** Turn number */
+    private int turn;
+
+    /** Index of the active player */
+    private int active;
+
+    /** Current phase */
+    private Phase phase;
+
+    /** Winner index, 2 for a draw, -1 while the duel runs */
+    private int result;
+
+    /** Life Points of each side */
+    private final int[] lifePoints = new int[2];
+
+    /** Deck size of each side */
+    private final int[] deckCount = new int[2];
+
+    /** Graveyard size of each side */
+    private final int[] graveyardCount = new int[2];
+
+    /** Hand size of each side */
+    private final int[] handCount = new int[2];
+
+    /** Cards of the client's hand */
+    private RemoteCard[] hand = new RemoteCard[0];
+
+    /** Monster zone flags of each side */
+    private final int[][] monsterFlags = new int[2][ZONES];
+
+    /** Visible monsters of each side */
+    private final RemoteCard[][] monsters = new RemoteCard[2][ZONES];
+
+    /** Spell/trap zone flags of each side */
+    private final int[][] spellTrapFlags = new int[2][ZONES];
+
+    /** Visible spells and traps of each side */
+    private final RemoteCard[][] spellTraps = new RemoteCard[2][ZONES];
+
+    /**
+     * Decodes a STATE message body.
+     *
+     * @param in the body of the message, after the opcode
+     * @return the decoded state
+     */
+    public static RemoteState decode(ByteBuffer in) {
+        RemoteState state = new RemoteState();
+        state.viewer = in.get();
+        state.turn = in.getInt();
+        state.active = in.get();
+        state.phase = Phase.values()[in.get()];
+        state.result = in.get();
+        for (int side = 0; side < 2; side++) {
+            state.lifePoints[side] = in.getInt();
+            state.deckCount[side] = in.get() & 0xFF;
+            state.graveyardCount[side] = in.get() & 0xFF;
+            state.handCount[side] = in.get() & 0xFF;
+            if (side == SELF) {
+                state.hand = new RemoteCard[state.handCount[side]];
+                for (int i = 0; i < state.hand.length; i++) {
+                    state.hand[i] = readCard(in);
+                }
+            }
+            for (int zone = 0; zone < ZONES; zone++) {
+                int flags = in.get();
+                state.monsterFlags[side][zone] = flags;
+                state.monsters[side][zone] = (flags & Protocol.ZONE_VISIBLE) != 0 ? readCard(in) : null;
+            }
+            for (int zone = 0; zone < ZONES; zone++) {
+                int flags = in.get();
+                state.spellTrapFlags[side][zone] = flags;
+                state.spellTraps[side][zone] = (flags & Protocol.ZONE_VISIBLE) != 0 ? readCard(in) : null;
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Reads a card block.
+     *
+     * @param in the input buffer
+     * @return the card
+     */
+    private static RemoteCard readCard(ByteBuffer in) {
+        return new RemoteCard(in.get(), in.getInt(), in.getShort(), in.getShort(), in.get());
+    }
+
+    /**
+     * Gets the index of the client in the duel.
+     *
+     * @return 0 if the client plays first, 1 otherwise
+     */
+    public int getViewer() {
+        return viewer;
+    }
+
+    /**
+     * Gets the turn number.
+     *
+     * @return the turn, starting at 1
+     */
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * Checks if it is the client's turn.
+     *
+     * @return true if the client is the active player
+     */
+    public boolean isMyTurn() {
+        return active == viewer;
+    }
+
+    /**
+     * Gets the current phase.
+     *
+     * @return the phase
+     */
+    public Phase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Checks if the duel is over.
+     *
+     * @return true once a player has won or the duel is a draw
+     */
+    public boolean isOver() {
+        return result >= 0;
+    }
+
+    /**
+     * Checks if the client won the duel.
+     *
+     * @return true if the duel is over and the client won
+     */
+    public boolean isWon() {
+        return result == viewer;
+    }
+
+    /**
+     * Checks if the duel ended in a draw.
+     *
+     * @return true if the duel is over without a winner
+     */
+    public boolean isDraw() {
+        return result == 2;
+    }
+
+    /**
+     * Gets the Life Points of a side.
+     *
+     * @param side {@link #SELF} or {@link #OPPONENT}
+     * @return the Life Points
+     */
+    public int getLifePoints(int side) {
+        return lifePoints[side];
+    }
+
+    /**
+     * Gets the deck size of a side.
+     *
+     * @param side {@link #SELF} or {@link #OPPONENT}
+     * @return the number of cards in the deck
+     */
+    public int getDeckCount(int side) {
+        return deckCount[side];
+    }
+
+    /**
+     * Gets the Graveyard size of a side.
+     *
+     * @param side {@link #SELF} or {@link #OPPONENT}
+     * @return the number of cards in the Graveyard
+     */
+    public int getGraveyardCount(int side) {
+        return graveyardCount[side];
+    }
+
+    /**
+     * Gets the hand size of a side.
+     *
+     * @param side {@link #SELF} or {@link #OPPONENT}
+     * @return the number of cards in the hand
+     */
+    public int getHandCount(int side) {
+        return handCount[side];
+    }
+
+    /**
+     * Gets a card of the client's hand.
+     *
+     * @param index the position in the hand
+     * @return the card
+     */
+    public RemoteCard getHandCard(int index) {
+        return hand[index];
+    }
+
+    /**
+     * Checks if a monster zone holds a card (visible or not).
+     *
+     * @param side {@link #SELF} or {@link #OPPONENT}
+     * @param zone the zone (0-4)
+     * @return true if the zone is occupied
+     */
+    public boolean hasMonster(int side, int zone) {
+        return (monsterFlags[side][zone] & Protocol.ZONE_PRESENT) != 0;
+    }
+
+    /**
+     * Gets the flags of a monster zone.
+     *
+     * @param side {@link #SELF} or {@link #OPPONENT}
+     * @param zone the zone (0-4)
+     * @return the {@code Protocol.ZONE_*} flags
+     */
+    public int getMonsterFlags(int side, int zone) {
+        return monsterFlags[side][zone];
+    }
+
+    /**
+     * Gets a visible monster.
+     *
+     * @param side {@link #SELF} or {@link #OPPONENT}
+     * @param zone the zone (0-4)
+     * @return the monster, or null if the zone is empty or the monster face-down
+     */
+    public RemoteCard getMonster(int side, int zone) {
+        return monsters[side][zone];
+    }
+
+    /**
+     * Gets the flags of a spell/trap zone.
+     *
+     * @param side {@link #SELF} or {@link #OPPONENT}
+     * @param zone the zone (0-4)
+     * @return the {@code Protocol.ZONE_*} flags
+     */
+    public int getSpellTrapFlags(int side, int zone) {
+        return spellTrapFlags[side][zone];
+    }
+
+    /**
+     * Gets a visible spell or trap.
+     *
+     * @param side {@link #SELF} or {@link #OPPONENT}
+     * @param zone the zone (0-4)
+     * @return the card, or null if the zone is empty or the card hidden
+     */
+    public RemoteCard getSpellTrap(int side, int zone) {
+        return spellTraps[side][zone];
+    }
+}
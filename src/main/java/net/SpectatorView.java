@@ -0,0 +1,411 @@
+package net;
+
+import Board.Board;
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import Card.SpellCard;
+import Game.DuelEngine;
+import Game.Phase;
+import Player.Player;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Public view of a duel, streamed to spectators as deltas.
+ * <p>
+ * The view holds only what a spectator may see: turn, phase, Life Points,
+ * pile sizes and the zones of both players. Hands are reduced to their size
+ * and face-down cards to their zone flags, so nothing hidden leaves the server.
+ * The view is a flat {@code int} array, which makes a diff against the
+ * previous broadcast a simple comparison of a hundred integers.
+ * </p>
+ * <p>
+ * A {@link Protocol#DELTA} or {@link Protocol#KEYFRAME} body is an
+ * {@code int} sequence number followed by records, until the end of the frame.
+ * A keyframe holds every record, a delta only the changed ones. Sides are
+ * absolute (0 is the player who went first).
+ * <pre>
+ * HEADER: byte tag, int turn, byte active, byte phase, byte result
+ * PLAYER: byte tag, byte side, int LP, byte deck, byte Graveyard, byte hand
+ * ZONE:   byte tag, byte side, byte zone (0-4 monsters, 5-9 spells/traps),
+ *         byte flags [+ card if ZONE_VISIBLE, see {@link RemoteState}]
+ * </pre>
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class SpectatorView {
+
+    /** Record tag of the duel header */
+    private static final byte TAG_HEADER = 0;
+
+    /** Record tag of a player's counters */
+    private static final byte TAG_PLAYER = 1;
+
+    /** Record tag of a zone */
+    private static final byte TAG_ZONE = 2;
+
+    /** Number of zones per side: 5 monster zones, then 5 spell/trap zones */
+    public static final int ZONES = 2 * RemoteState.ZONES;
+
+    /** Size of the header fields: turn, active, phase, result */
+    private static final int HEADER = 4;
+
+    /** Size of a player's fields: LP, deck, Graveyard, hand */
+    private static final int PLAYER = 4;
+
+    /** Size of a zone's fields: flags, kind and level, card ID, ATK, DEF */
+    private static final int ZONE = 5;
+
+    /** Offset of the player fields */
+    private static final int PLAYERS = HEADER;
+
+    /** Offset of the zone fields */
+    private static final int ZONE_FIELDS = PLAYERS + 2 * PLAYER;
+
+    /** All the fields of the view */
+    private final int[] fields = new int[ZONE_FIELDS + 2 * ZONES * ZONE];
+
+    /** Sequence number of the last frame applied or encoded */
+    private int sequence;
+
+    /** False while a client waits for a keyframe after a missing delta */
+    private boolean synced;
+
+    /**
+     * Creates an empty view; the result is "running".
+     */
+    public SpectatorView() {
+        fields[3] = DuelEngine.RESULT_NONE;
+    }
+
+    // --- Server side ---
+
+    /**
+     * Captures the public state of a duel.
+     *
+     * @param engine the duel
+     */
+    public void capture(DuelEngine engine) {
+        fields[0] = engine.getTurn();
+        fields[1] = engine.getActiveIndex();
+        fields[2] = engine.getPhase().ordinal();
+        fields[3] = engine.getResult();
+        for (int side = 0; side < 2; side++) {
+            Player player = engine.getPlayer(side);
+            Board board = player.getBoard();
+            int p = PLAYERS + side * PLAYER;
+            fields[p] = player.getLifePoints();
+            fields[p + 1] = player.getDeck().size();
+            fields[p + 2] = board.getGraveyard().size();
+            fields[p + 3] = player.getHand().size();
+            for (int zone = 0; zone < RemoteState.ZONES; zone++) {
+                captureZone(zoneOffset(side, zone), board.getMonster(zone));
+                captureZone(zoneOffset(side, zone + RemoteState.ZONES), board.getSpellTrap(zone));
+            }
+        }
+    }
+
+    /**
+     * Captures a zone; a face-down card only shows its flags.
+     *
+     * @param z the offset of the zone fields
+     * @param card the card in the zone, or null
+     */
+    private void captureZone(int z, Card card) {
+        Arrays.fill(fields, z, z + ZONE, 0);
+        if (card == null) return;
+
+        int flags = Protocol.ZONE_PRESENT;
+        if (card.isFaceDown()) {
+            flags |= Protocol.ZONE_FACE_DOWN;
+        } else {
+            flags |= Protocol.ZONE_VISIBLE;
+            fields[z + 2] = card.getCardId();
+        }
+        if (card instanceof MonsterCard) {
+            MonsterCard monster = (MonsterCard) card;
+            if (monster.hasAttackedThisTurn()) flags |= Protocol.ZONE_ATTACKED;
+            if (monster.getPosition() != Position.ATTACK) flags |= Protocol.ZONE_DEFENSE;
+            if (!card.isFaceDown()) {
+                fields[z + 1] = (Protocol.KIND_MONSTER << 8) | monster.getLevel();
+                fields[z + 3] = monster.getAtk();
+                fields[z + 4] = monster.getDef();
+            }
+        } else if (!card.isFaceDown()) {
+            fields[z + 1] = (card instanceof SpellCard ? Protocol.KIND_SPELL : Protocol.KIND_TRAP) << 8;
+        }
+        fields[z] = flags;
+    }
+
+    /**
+     * Writes the records that differ from a previous view.
+     *
+     * @param previous the view the receivers already know, or null for a keyframe
+     * @param out the output buffer
+     * @return the number of records written
+     */
+    public int encode(SpectatorView previous, ByteBuffer out) {
+        int records = 0;
+        if (previous == null || !same(previous, 0, HEADER)) {
+            out.put(TAG_HEADER);
+            out.putInt(fields[0]);
+            out.put((byte) fields[1]);
+            out.put((byte) fields[2]);
+            out.put((byte) fields[3]);
+            records++;
+        }
+        for (int side = 0; side < 2; side++) {
+            int p = PLAYERS + side * PLAYER;
+            if (previous == null || !same(previous, p, PLAYER)) {
+                out.put(TAG_PLAYER);
+                out.put((byte) side);
+                out.putInt(fields[p]);
+                out.put((byte) fields[p + 1]);
+                out.put((byte) fields[p + 2]);
+                out.put((byte) fields[p + 3]);
+                records++;
+            }
+        }
+        for (int side = 0; side < 2; side++) {
+            for (int zone = 0; zone < ZONES; zone++) {
+                int z = zoneOffset(side, zone);
+                if (previous != null && same(previous, z, ZONE)) continue;
+                out.put(TAG_ZONE);
+                out.put((byte) side);
+                out.put((byte) zone);
+                out.put((byte) fields[z]);
+                if ((fields[z] & Protocol.ZONE_VISIBLE) != 0) {
+                    out.put((byte) (fields[z + 1] >> 8));
+                    out.putInt(fields[z + 2]);
+                    out.putShort((short) fields[z + 3]);
+                    out.putShort((short) fields[z + 4]);
+                    out.put((byte) fields[z + 1]);
+                }
+                records++;
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Copies another view into this one.
+     *
+     * @param other the view to copy
+     */
+    public void copyFrom(SpectatorView other) {
+        System.arraycopy(other.fields, 0, fields, 0, fields.length);
+        sequence = other.sequence;
+        synced = other.synced;
+    }
+
+    /**
+     * Checks if a range of fields is equal in another view.
+     *
+     * @param other the other view
+     * @param from the first field
+     * @param length the number of fields
+     * @return true if the fields are equal
+     */
+    private boolean same(SpectatorView other, int from, int length) {
+        return Arrays.equals(fields, from, from + length, other.fields, from, from + length);
+    }
+
+    /**
+     * Gets the offset of the fields of a zone.
+     *
+     * @param side the player (0 or 1)
+     * @param zone the zone (0-9)
+     * @return the offset in {@link #fields}
+     */
+    private static int zoneOffset(int side, int zone) {
+        return ZONE_FIELDS + (side * ZONES + zone) * ZONE;
+    }
+
+    // --- Client side ---
+
+    /**
+     * Applies a KEYFRAME or DELTA body.
+     * <p>
+     * A delta whose sequence number does not follow the last applied frame
+     * means frames were dropped (the server skips slow spectators); the view
+     * then ignores deltas until the next keyframe.
+     * </p>
+     *
+     * @param keyframe true for a {@link Protocol#KEYFRAME}
+     * @param in the body of the frame, after the opcode
+     * @return true if the view is in sync with the duel
+     */
+    public boolean apply(boolean keyframe, ByteBuffer in) {
+        int frameSequence = in.getInt();
+        if (keyframe) {
+            Arrays.fill(fields, 0);
+            synced = true;
+        } else if (!synced || frameSequence != sequence + 1) {
+            synced = false;
+            return false;
+        }
+        sequence = frameSequence;
+
+        while (in.hasRemaining()) {
+            byte tag = in.get();
+            if (tag == TAG_HEADER) {
+                fields[0] = in.getInt();
+                fields[1] = in.get();
+                fields[2] = in.get();
+                fields[3] = in.get();
+            } else if (tag == TAG_PLAYER) {
+                int p = PLAYERS + in.get() * PLAYER;
+                fields[p] = in.getInt();
+                fields[p + 1] = in.get() & 0xFF;
+                fields[p + 2] = in.get() & 0xFF;
+                fields[p + 3] = in.get() & 0xFF;
+            } else {
+                int side = in.get();
+                int z = zoneOffset(side, in.get());
+                Arrays.fill(fields, z, z + ZONE, 0);
+                fields[z] = in.get();
+                if ((fields[z] & Protocol.ZONE_VISIBLE) != 0) {
+                    int kind = in.get();
+                    fields[z + 2] = in.getInt();
+                    fields[z + 3] = in.getShort();
+                    fields[z + 4] = in.getShort();
+                    fields[z + 1] = (kind << 8) | (in.get() & 0xFF);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sets the sequence number of the view.
+     *
+     * @param sequence the number of the last frame encoded
+     */
+    void setSequence(int sequence) {
+        this.sequence = sequence;
+    }
+
+    /**
+     * Gets the sequence number of the last frame.
+     *
+     * @return the sequence number
+     */
+    public int getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Checks if the view follows the duel (no delta was missed).
+     *
+     * @return true after a keyframe and as long as no delta is missing
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * Gets the turn number.
+     *
+     * @return the turn
+     */
+    public int getTurn() {
+        return fields[0];
+    }
+
+    /**
+     * Gets the index of the active player.
+     *
+     * @return 0 or 1
+     */
+    public int getActiveIndex() {
+        return fields[1];
+    }
+
+    /**
+     * Gets the current phase.
+     *
+     * @return the phase
+     */
+    public Phase getPhase() {
+        return Phase.values()[fields[2]];
+    }
+
+    /**
+     * Gets the result of the duel.
+     *
+     * @return the winner index, {@link DuelEngine#RESULT_DRAW}, or {@link DuelEngine#RESULT_NONE} while running
+     */
+    public int getResult() {
+        return fields[3];
+    }
+
+    /**
+     * Gets the Life Points of a player.
+     *
+     * @param side the player (0 or 1)
+     * @return the Life Points
+     */
+    public int getLifePoints(int side) {
+        return fields[PLAYERS + side * PLAYER];
+    }
+
+    /**
+     * Gets the deck size of a player.
+     *
+     * @param side the player (0 or 1)
+     * @return the number of cards in the deck
+     */
+    public int getDeckCount(int side) {
+        return fields[PLAYERS + side * PLAYER + 1];
+    }
+
+    /**
+     * Gets the Graveyard size of a player.
+     *
+     * @param side the player (0 or 1)
+     * @return the number of cards in the Graveyard
+     */
+    public int getGraveyardCount(int side) {
+        return fields[PLAYERS + side * PLAYER + 2];
+    }
+
+    /**
+     * Gets the hand size of a player.
+     *
+     * @param side the player (0 or 1)
+     * @return the number of cards in the hand
+     */
+    public int getHandCount(int side) {
+        return fields[PLAYERS + side * PLAYER + 3];
+    }
+
+    /**
+     * Gets the flags of a zone.
+     *
+     * @param side the player (0 or 1)
+     * @param zone the zone (0-4 monsters, 5-9 spells/traps)
+     * @return the {@code Protocol.ZONE_*} flags
+     */
+    public int getZoneFlags(int side, int zone) {
+        return fields[zoneOffset(side, zone)];
+    }
+
+    /**
+     * Gets the visible card of a zone.
+     *
+     * @param side the player (0 or 1)
+     * @param zone the zone (0-4 monsters, 5-9 spells/traps)
+     * @return the card, or null if the zone is empty or the card face-down
+     */
+    public RemoteState.RemoteCard getZoneCard(int side, int zone) {
+        int z = zoneOffset(side, zone);
+        if ((fields[z] & Protocol.ZONE_VISIBLE) == 0) return null;
+        return new RemoteState.RemoteCard((byte) (fields[z + 1] >> 8), fields[z + 2],
+                fields[z + 3], fields[z + 4], fields[z + 1] & 0xFF);
+    }
+}
@@ -0,0 +1,301 @@
+package ui;
+
+import Board.Board;
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import Game.DuelEngine;
+import Game.Phase;
+import Player.Player;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+import java.util.List;
+
+/**
+ * Observable model of the duel state shown around the board.
+ * <p>
+ * {@link DuelBoard} binds its Life Points, phase and turn nodes to these
+ * properties once, when it builds the scene. After each action played on the
+ * {@link DuelEngine}, {@link #sync(DuelEngine)} copies the engine state into
+ * the model, and each change updates the few nodes bound to the changed
+ * property: a battle touches one Life Points label, a phase change touches
+ * the phase label and two phase buttons. Setting a property to its current
+ * value notifies nobody, so the model can be synchronized after any action
+ * without redrawing anything that did not change.
+ * </p>
+ * <p>
+ * The board itself is modelled the same way, per side (0 for player 1,
+ * 1 for player 2): the card and the battle position in each monster zone,
+ * whether that monster has attacked this turn, the card in each spell/trap zone, the Field Spell, the top card of the
+ * Graveyard, the deck size and the hand. {@link DuelBoard} redraws a zone
+ * only when one of its properties changes, so a summon redraws one monster
+ * zone and the hand, and a battle the zones of the destroyed monsters and
+ * the Graveyards. Cards are compared by identity: the same card in the same
+ * zone is not redrawn.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class BoardModel {
+
+    /** Life Points of each player at the start of a duel */
+    public static final int STARTING_LP = 8000;
+
+    /** Life Points of player 1 (index 0) and player 2 (index 1) */
+    private final IntegerProperty[] lifePoints = {
+        new SimpleIntegerProperty(STARTING_LP), new SimpleIntegerProperty(STARTING_LP)
+    };
+
+    /** Current phase */
+    private final ObjectProperty<Phase> phase = new SimpleObjectProperty<>(Phase.DP);
+
+    /** Current turn number */
+    private final IntegerProperty turn = new SimpleIntegerProperty(1);
+
+    /** Player whose turn it is */
+    private final ObjectProperty<Player> activePlayer = new SimpleObjectProperty<>();
+
+    /** Card in each monster zone, indexed by side then zone */
+    private final ObjectProperty<MonsterCard>[][] monsters;
+
+    /** Battle position of the monster in each monster zone, null when empty */
+    private final ObjectProperty<Position>[][] positions;
+
+    /** Whether the monster in each monster zone has attacked this turn */
+    private final BooleanProperty[][] attacked;
+
+    /** Card in each spell/trap zone, indexed by side then zone */
+    private final ObjectProperty<Card>[][] spellTraps;
+
+    /** Field Spell of each side */
+    private final ObjectProperty<Card>[] fieldSpells;
+
+    /** Top card of the Graveyard of each side */
+    private final ObjectProperty<Card>[] graveyardTops;
+
+    /** Number of cards in the deck of each side */
+    private final IntegerProperty[] deckCounts = {
+        new SimpleIntegerProperty(), new SimpleIntegerProperty()
+    };
+
+    /** Cards in the hand of each side, in order */
+    private final List<ObservableList<Card>> hands = List.of(
+        FXCollections.observableArrayList(), FXCollections.observableArrayList()
+    );
+
+    /**
+     * Creates the model of an empty board.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public BoardModel() {
+        monsters = new ObjectProperty[2][DuelEngine.MONSTER_ZONES];
+        positions = new ObjectProperty[2][DuelEngine.MONSTER_ZONES];
+        attacked = new BooleanProperty[2][DuelEngine.MONSTER_ZONES];
+        spellTraps = new ObjectProperty[2][DuelEngine.MONSTER_ZONES];
+        fieldSpells = new ObjectProperty[2];
+        graveyardTops = new ObjectProperty[2];
+        for (int side = 0; side < 2; side++) {
+            for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+                monsters[side][zone] = new SimpleObjectProperty<>();
+                positions[side][zone] = new SimpleObjectProperty<>();
+                attacked[side][zone] = new SimpleBooleanProperty();
+                spellTraps[side][zone] = new SimpleObjectProperty<>();
+            }
+            fieldSpells[side] = new SimpleObjectProperty<>();
+            graveyardTops[side] = new SimpleObjectProperty<>();
+        }
+    }
+
+    /**
+     * Copies the Life Points and the turn state of a duel into the model.
+     * <p>
+     * Only the properties whose value differs notify their listeners.
+     * </p>
+     *
+     * @param engine the duel shown
+     */
+    public void sync(DuelEngine engine) {
+        for (int side = 0; side < 2; side++) {
+            Player player = engine.getPlayer(side);
+            Board board = player.getBoard();
+            lifePoints[side].set(player.getLifePoints());
+
+            List<Card> hand = player.getHand().getAllCards();
+            if (!sameCards(hands.get(side), hand)) {
+                hands.get(side).setAll(hand);
+            }
+
+            for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+                MonsterCard monster = board.getMonster(zone);
+                monsters[side][zone].set(monster);
+                positions[side][zone].set(monster == null ? null : monster.getPosition());
+                attacked[side][zone].set(monster != null && monster.hasAttackedThisTurn());
+                spellTraps[side][zone].set(board.getSpellTrap(zone));
+            }
+            fieldSpells[side].set(board.getFieldSpell());
+            graveyardTops[side].set(board.getGraveyard().getLastCard());
+            deckCounts[side].set(board.getDeckCount());
+        }
+        activePlayer.set(engine.getActivePlayer());
+        turn.set(engine.getTurn());
+        phase.set(engine.getPhase());
+    }
+
+    /**
+     * Checks if a hand of the model holds the same cards, in the same order.
+     *
+     * @param shown the hand in the model
+     * @param cards the hand in the duel
+     * @return true if both lists hold the same card objects
+     */
+    private static boolean sameCards(List<Card> shown, List<Card> cards) {
+        if (shown.size() != cards.size()) return false;
+        for (int i = 0; i < cards.size(); i++) {
+            if (shown.get(i) != cards.get(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets the Life Points of a player.
+     *
+     * @param side 0 for player 1, 1 for player 2
+     * @return the Life Points
+     */
+    public int getLifePoints(int side) {
+        return lifePoints[side].get();
+    }
+
+    /**
+     * Gets the observable Life Points of a player.
+     *
+     * @param side 0 for player 1, 1 for player 2
+     * @return the read-only property
+     */
+    public ReadOnlyIntegerProperty lifePointsProperty(int side) {
+        return lifePoints[side];
+    }
+
+    /**
+     * Gets the observable current phase.
+     *
+     * @return the read-only property
+     */
+    public ReadOnlyObjectProperty<Phase> phaseProperty() {
+        return phase;
+    }
+
+    /**
+     * Gets the observable turn number.
+     *
+     * @return the read-only property
+     */
+    public ReadOnlyIntegerProperty turnProperty() {
+        return turn;
+    }
+
+    /**
+     * Gets the observable active player.
+     *
+     * @return the read-only property
+     */
+    public ReadOnlyObjectProperty<Player> activePlayerProperty() {
+        return activePlayer;
+    }
+
+    /**
+     * Gets the observable card in a monster zone.
+     *
+     * @param side 0 for player 1, 1 for player 2
+     * @param zone the monster zone (0-4)
+     * @return the read-only property, null when the zone is empty
+     */
+    public ReadOnlyObjectProperty<MonsterCard> monsterProperty(int side, int zone) {
+        return monsters[side][zone];
+    }
+
+    /**
+     * Gets the observable battle position of the monster in a monster zone.
+     *
+     * @param side 0 for player 1, 1 for player 2
+     * @param zone the monster zone (0-4)
+     * @return the read-only property, null when the zone is empty
+     */
+    public ReadOnlyObjectProperty<Position> positionProperty(int side, int zone) {
+        return positions[side][zone];
+    }
+
+    /**
+     * Gets whether the monster in a monster zone has attacked this turn.
+     *
+     * @param side 0 for player 1, 1 for player 2
+     * @param zone the monster zone (0-4)
+     * @return the read-only property, false when the zone is empty
+     */
+    public ReadOnlyBooleanProperty attackedProperty(int side, int zone) {
+        return attacked[side][zone];
+    }
+
+    /**
+     * Gets the observable card in a spell/trap zone.
+     *
+     * @param side 0 for player 1, 1 for player 2
+     * @param zone the spell/trap zone (0-4)
+     * @return the read-only property, null when the zone is empty
+     */
+    public ReadOnlyObjectProperty<Card> spellTrapProperty(int side, int zone) {
+        return spellTraps[side][zone];
+    }
+
+    /**
+     * Gets the observable Field Spell of a player.
+     *
+     * @param side 0 for player 1, 1 for player 2
+     * @return the read-only property, null when the zone is empty
+     */
+    public ReadOnlyObjectProperty<Card> fieldSpellProperty(int side) {
+        return fieldSpells[side];
+    }
+
+    /**
+     * Gets the observable top card of the Graveyard of a player.
+     *
+     * @param side 0 for player 1, 1 for player 2
+     * @return the read-only property, null when the Graveyard is empty
+     */
+    public ReadOnlyObjectProperty<Card> graveyardTopProperty(int side) {
+        return graveyardTops[side];
+    }
+
+    /**
+     * Gets the observable number of cards in the deck of a player.
+     *
+     * @param side 0 for player 1, 1 for player 2
+     * @return the read-only property
+     */
+    public ReadOnlyIntegerProperty deckCountProperty(int side) {
+        return deckCounts[side];
+    }
+
+    /**
+     * Gets the observable hand of a player.
+     *
+     * @param side 0 for player 1, 1 for player 2
+     * @return the cards in hand, in order, as a read-only list
+     */
+    public ObservableList<Card> getHand(int side) {
+        return FXCollections.unmodifiableObservableList(hands.get(side));
+    }
+}
@@ -0,0 +1,193 @@
+package ui;
+
+import javafx.geometry.Insets;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.HBox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Virtualized grid of card thumbnails, used by the graveyard and deck popups.
+ * <p>
+ * The cards are split into rows of {@link #COLUMNS} and shown in a
+ * {@link ListView}. The list only creates the cells that fit in its
+ * viewport, and reuses them while scrolling, so the number of nodes stays
+ * the same whether the pile holds 5 or 60 cards.
+ * </p>
+ * <p>
+ * <strong>Lazy images:</strong> the image of a card is only asked for when
+ * its row becomes visible. {@code Card.getImage()} loads the image in the
+ * background on first use and keeps it, so opening a browser never waits
+ * for images that are scrolled out of view.
+ * </p>
+ * <p>
+ * <strong>Selection:</strong> clicking a thumbnail selects its item and
+ * calls the selection handler. The selected thumbnail gets the
+ * {@code card-selected} CSS class, reapplied whenever a cell is reused.
+ * </p>
+ *
+ * @param <T> the type of the browsed items (cards, or graveyard views)
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class CardBrowser<T> {
+
+    /** Number of thumbnails per row */
+    public static final int COLUMNS = 5;
+
+    /** Width of a thumbnail in pixels */
+    private static final double CARD_WIDTH = 120;
+
+    /** Height of a thumbnail in pixels */
+    private static final double CARD_HEIGHT = 180;
+
+    /** Space between two thumbnails in pixels */
+    private static final double GAP = 10;
+
+    /** List showing one row of items per cell */
+    private final ListView<List<T>> rows = new ListView<>();
+
+    /** Gives the image to display for an item */
+    private final Function<T, Image> imageOf;
+
+    /** Called when an item is clicked */
+    private final Consumer<T> onSelect;
+
+    /** Item currently selected, or null */
+    private T selected;
+
+    /**
+     * Creates a browser.
+     *
+     * @param items the items to display, in order
+     * @param imageOf gives the image of an item, called only for visible rows
+     * @param onSelect called with the item when its thumbnail is clicked
+     */
+    public CardBrowser(List<T> items, Function<T, Image> imageOf, Consumer<T> onSelect) {
+        this.imageOf = imageOf;
+        this.onSelect = onSelect;
+
+        rows.setCellFactory(list -> new RowCell());
+        rows.setFixedCellSize(CARD_HEIGHT + GAP);
+        rows.setFocusTraversable(false);
+        rows.setStyle("-fx-background-color: #2c2c2c; -fx-control-inner-background: #2c2c2c;");
+        setItems(items);
+    }
+
+    /**
+     * Replaces the displayed items.
+     *
+     * @param items the new items, in order
+     */
+    public void setItems(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += COLUMNS) {
+            chunks.add(new ArrayList<>(items.subList(i, Math.min(items.size(), i + COLUMNS))));
+        }
+        if (selected != null && !items.contains(selected)) {
+            selected = null;
+        }
+        rows.getItems().setAll(chunks);
+    }
+
+    /**
+     * Gets the node to place in a scene.
+     *
+     * @return the list view of the browser
+     */
+    public ListView<List<T>> getNode() {
+        return rows;
+    }
+
+    /**
+     * Gets the selected item.
+     *
+     * @return the item last clicked, or null
+     */
+    public T getSelected() {
+        return selected;
+    }
+
+    /**
+     * Selects an item and notifies the selection handler.
+     *
+     * @param item the clicked item
+     */
+    private void select(T item) {
+        selected = item;
+        // Only the visible cells are updated
+        rows.refresh();
+        onSelect.accept(item);
+    }
+
+    /**
+     * Cell displaying one row of thumbnails.
+     * <p>
+     * The image views are created once per cell and reused for every row
+     * the cell displays.
+     * </p>
+     */
+    private class RowCell extends ListCell<List<T>> {
+
+        /** Thumbnails of the row */
+        private final ImageView[] views = new ImageView[COLUMNS];
+
+        /** Container of the thumbnails */
+        private final HBox box = new HBox(GAP);
+
+        /**
+         * Creates the cell and its thumbnails.
+         */
+        RowCell() {
+            box.setPadding(new Insets(0, GAP, 0, GAP));
+            for (int i = 0; i < COLUMNS; i++) {
+                int column = i;
+                ImageView view = new ImageView();
+                view.setFitWidth(CARD_WIDTH);
+                view.setFitHeight(CARD_HEIGHT);
+                view.setPreserveRatio(true);
+                view.getStyleClass().add("graveyard-card-view");
+                view.setOnMouseClicked(e -> {
+                    List<T> row = getItem();
+                    if (row != null && column < row.size()) {
+                        select(row.get(column));
+                    }
+                });
+                views[i] = view;
+                box.getChildren().add(view);
+            }
+            setStyle("-fx-background-color: transparent; -fx-padding: 0;");
+        }
+
+        @Override
+        protected void updateItem(List<T> row, boolean empty) {
+            super.updateItem(row, empty);
+            if (empty || row == null) {
+                for (ImageView view : views) {
+                    view.setImage(null);
+                }
+                setGraphic(null);
+                return;
+            }
+            for (int i = 0; i < COLUMNS; i++) {
+                ImageView view = views[i];
+                boolean used = i < row.size();
+                view.setImage(used ? imageOf.apply(row.get(i)) : null);
+                view.setVisible(used);
+                view.getStyleClass().remove("card-selected");
+                if (used && row.get(i) == selected) {
+                    view.getStyleClass().add("card-selected");
+                }
+            }
+            setGraphic(box);
+        }
+    }
+}
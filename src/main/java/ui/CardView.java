@@ -0,0 +1,226 @@
+package ui;
+
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import javafx.scene.Node;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.StackPane;
+
+/**
+ * View of a card on the board, holding the card's board state as typed fields.
+ * <p>
+ * The board and the bot used to keep this state in the string-keyed
+ * properties map of each {@link ImageView} ("card", "position" = "ATK" or
+ * "DEF", "faceDown", "isOpponent", "hasAttacked", "placedCell"). Every read
+ * then hashed a key, unboxed and cast. A {@code CardView} keeps the same
+ * state in fields, and is the single place where {@link DuelBoard} and the
+ * bot read it.
+ * </p>
+ * <p>
+ * <strong>Monster state:</strong> the battle position and the "has
+ * attacked" flag of a view placed in a zone are also written to the
+ * {@link MonsterCard} shown, so the model always agrees with the board.
+ * Views in a hand or a graveyard never change their card.
+ * </p>
+ * <p>
+ * Card views are taken from and given back to the {@link CardViewPool},
+ * which calls {@link #reset()} before reusing them.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class CardView extends ImageView {
+
+    /** Card shown, or null for a view not bound yet */
+    private Card card;
+
+    /** Battle position, {@link Position#ATTACK} or {@link Position#DEFENSE} */
+    private Position position = Position.ATTACK;
+
+    /** True if the card is face-down */
+    private boolean faceDown;
+
+    /** True if the card belongs to the opponent (top of the screen) */
+    private boolean opponent;
+
+    /** True if the monster has attacked this turn */
+    private boolean attacked;
+
+    /** Board zone holding the card, or null in hand or graveyard */
+    private StackPane zone;
+
+    /**
+     * Gets the card view of a scene graph node.
+     *
+     * @param node a node of a zone, a hand or a graveyard
+     * @return the node as a card view, or null if it is not one
+     */
+    public static CardView of(Node node) {
+        return node instanceof CardView ? (CardView) node : null;
+    }
+
+    /**
+     * Gets the card shown.
+     *
+     * @return the card, or null
+     */
+    public Card getCard() {
+        return card;
+    }
+
+    /**
+     * Gets the monster shown.
+     *
+     * @return the monster, or null if the card is not a monster
+     */
+    public MonsterCard getMonster() {
+        return card instanceof MonsterCard ? (MonsterCard) card : null;
+    }
+
+    /**
+     * Binds the view to a card.
+     *
+     * @param card the card shown
+     */
+    public void setCard(Card card) {
+        this.card = card;
+    }
+
+    /**
+     * Gets the battle position (Attack or Defense, face-up or not).
+     *
+     * @return {@link Position#ATTACK} or {@link Position#DEFENSE}
+     */
+    public Position getPosition() {
+        return position;
+    }
+
+    /**
+     * Gets the battle position, face-down monsters included.
+     *
+     * @return {@link Position#FACE_DOWN} for a face-down Defense Position
+     *         monster, otherwise the position
+     */
+    public Position getBattlePosition() {
+        return faceDown && position == Position.DEFENSE ? Position.FACE_DOWN : position;
+    }
+
+    /**
+     * Checks if the card is in Defense Position.
+     *
+     * @return true in Defense Position, face-up or face-down
+     */
+    public boolean isDefense() {
+        return position == Position.DEFENSE;
+    }
+
+    /**
+     * Sets the battle position.
+     *
+     * @param position {@link Position#ATTACK} or {@link Position#DEFENSE}
+     */
+    public void setPosition(Position position) {
+        this.position = position == Position.ATTACK ? Position.ATTACK : Position.DEFENSE;
+        syncMonster();
+    }
+
+    /**
+     * Checks if the card is face-down.
+     *
+     * @return true if face-down
+     */
+    public boolean isFaceDown() {
+        return faceDown;
+    }
+
+    /**
+     * Turns the card face-down or face-up.
+     *
+     * @param faceDown true for face-down
+     */
+    public void setFaceDown(boolean faceDown) {
+        this.faceDown = faceDown;
+        syncMonster();
+    }
+
+    /**
+     * Checks if the card belongs to the opponent.
+     *
+     * @return true for the opponent's cards
+     */
+    public boolean isOpponent() {
+        return opponent;
+    }
+
+    /**
+     * Sets the side of the card.
+     *
+     * @param opponent true for the opponent's cards
+     */
+    public void setOpponent(boolean opponent) {
+        this.opponent = opponent;
+    }
+
+    /**
+     * Checks if the monster has attacked this turn.
+     *
+     * @return true after an attack, until the end of the turn
+     */
+    public boolean hasAttacked() {
+        return attacked;
+    }
+
+    /**
+     * Marks the monster as having attacked this turn, or not.
+     *
+     * @param attacked true after an attack, false at the end of the turn
+     */
+    public void setAttacked(boolean attacked) {
+        this.attacked = attacked;
+        syncMonster();
+    }
+
+    /**
+     * Gets the board zone holding the card.
+     *
+     * @return the zone, or null in hand or graveyard
+     */
+    public StackPane getZone() {
+        return zone;
+    }
+
+    /**
+     * Sets the board zone holding the card.
+     *
+     * @param zone the zone, or null
+     */
+    public void setZone(StackPane zone) {
+        this.zone = zone;
+    }
+
+    /**
+     * Writes the position and the attack flag to the monster shown, if it is
+     * on the field.
+     */
+    private void syncMonster() {
+        MonsterCard monster = getMonster();
+        if (monster != null && zone != null) {
+            monster.restoreState(getBattlePosition(), attacked, monster.hasChangedPositionThisTurn());
+        }
+    }
+
+    /**
+     * Unbinds the view from its card and puts every field back to its default.
+     */
+    void reset() {
+        card = null;
+        position = Position.ATTACK;
+        faceDown = false;
+        opponent = false;
+        attacked = false;
+        zone = null;
+    }
+}
@@ -0,0 +1,166 @@
+package ui;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+
+import java.util.ArrayDeque;
+
+/**
+ * Pool of the {@link CardView}s shown on the board.
+ * <p>
+ * A card moving between zones (hand to field, field to graveyard,
+ * graveyard back to field) used to get a brand-new view at each move. The
+ * board now takes its views from this pool and gives them back when they
+ * leave the scene, so after the first turns a duel runs without allocating
+ * card nodes.
+ * </p>
+ * <p>
+ * <strong>Recycling:</strong> {@link #release(CardView)} only detaches
+ * the view. It becomes reusable once the current event has been handled:
+ * code still holding the view in the same handler (an attacker destroyed
+ * in battle, a tributed monster) keeps a view that is not yet shared with
+ * another card. The view is then reset to its defaults (no card, image,
+ * properties, click handler, rotation, fit size or style class), so a
+ * pooled view keeps nothing alive, and {@link #acquire(Image)} hands it
+ * out to be bound to its new card exactly like a new view.
+ * </p>
+ * <p>
+ * The face-down card back is decoded once and shared by every view (see
+ * {@link #cardBack()}).
+ * </p>
+ * <p>
+ * Like the scene graph, the pool is only used from the JavaFX thread.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public class CardViewPool {
+
+    /** Largest number of free views kept; views beyond it are left to the GC */
+    private static final int MAX_FREE = 128;
+
+    /** Shared image of the card back, decoded on first use */
+    private static Image cardBack;
+
+    /** Views ready to be reused */
+    private final ArrayDeque<CardView> free = new ArrayDeque<>();
+
+    /** Views released during the current event, reusable after it */
+    private final ArrayDeque<CardView> retired = new ArrayDeque<>();
+
+    /** True while a move of the retired views is scheduled */
+    private boolean flushScheduled;
+
+    /** Number of views created by the pool */
+    private int created;
+
+    /** Number of views handed out again */
+    private int reused;
+
+    /**
+     * Gets the image of the card back, shared by all the face-down cards.
+     *
+     * @return the decoded card back
+     */
+    public static Image cardBack() {
+        if (cardBack == null) {
+            cardBack = new Image(CardViewPool.class.getResource("/ui/card_back.png").toExternalForm());
+        }
+        return cardBack;
+    }
+
+    /**
+     * Takes a view from the pool, or creates one if the pool is empty.
+     *
+     * @param image the image to display
+     * @return a view showing the image, in its default state
+     */
+    public CardView acquire(Image image) {
+        CardView view = free.pollLast();
+        if (view == null) {
+            view = new CardView();
+            created++;
+        } else {
+            reused++;
+        }
+        view.setImage(image);
+        return view;
+    }
+
+    /**
+     * Gives a view back to the pool.
+     * <p>
+     * The view is removed from its parent if it still has one. It is
+     * reused after the current event, and must not be displayed again.
+     * </p>
+     *
+     * @param view the view to recycle, ignored if null
+     */
+    public void release(CardView view) {
+        if (view == null || retired.contains(view) || free.contains(view)) return;
+        if (view.getParent() instanceof Pane) {
+            ((Pane) view.getParent()).getChildren().remove(view);
+        }
+        retired.addLast(view);
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Platform.runLater(this::flush);
+        }
+    }
+
+    /**
+     * Resets the views retired during the last event and makes them reusable.
+     */
+    private void flush() {
+        flushScheduled = false;
+        CardView view;
+        while ((view = retired.pollFirst()) != null) {
+            if (view.getParent() == null && free.size() < MAX_FREE) {
+                reset(view);
+                free.addLast(view);
+            }
+        }
+    }
+
+    /**
+     * Puts a view back in its default state.
+     *
+     * @param view the view to reset
+     */
+    private static void reset(CardView view) {
+        view.reset();
+        view.setImage(null);
+        view.getProperties().clear();
+        view.setOnMouseClicked(null);
+        view.getStyleClass().clear();
+        view.setStyle(null);
+        view.setEffect(null);
+        view.setRotate(0);
+        view.setFitWidth(0);
+        view.setFitHeight(0);
+        view.setPreserveRatio(false);
+        view.setOpacity(1);
+        view.setVisible(true);
+    }
+
+    /**
+     * Gets the number of views created since the pool was built.
+     *
+     * @return the number of allocations
+     */
+    public int getCreated() {
+        return created;
+    }
+
+    /**
+     * Gets the number of views handed out again instead of being created.
+     *
+     * @return the number of reuses
+     */
+    public int getReused() {
+        return reused;
+    }
+}
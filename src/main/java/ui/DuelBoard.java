@@ -1,39 +1,63 @@
 package ui;
 
-import Game.Game;
+import Board.Board;
+import Game.BattleResolver;
+import Game.DuelEngine;
+import Game.MoveList;
+import Game.Moves;
 import Game.Phase;
+import Game.SaveGame;
 import Player.Player;
 import Card.Card;
+import Card.Effect;
+import Card.EffectRegistry;
 import Card.MonsterCard;
+import Card.Position;
 import Card.SpellCard;
 import Card.TrapCard;
 import Deck.Deck;
+import Deck.FusionIndex;
 import loader.CardLoader;
 import util.MusicPlayer;
+import Bot.LethalSolver;
 import Bot.SimpleBot;
+import net.Commands;
+import net.DuelClient;
+import net.LockstepPeer;
+import net.Protocol;
+import net.RemoteDuel;
+import net.RemoteState;
+import Tournament.DeckList;
 
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.binding.Bindings;
+import javafx.collections.ListChangeListener;
+import javafx.css.PseudoClass;
 import javafx.geometry.Insets;
-import javafx.geometry.Orientation;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
 import javafx.scene.input.MouseButton;
 import javafx.scene.layout.*;
 import javafx.stage.Stage;
 import javafx.scene.Node;
-import javafx.scene.Parent;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
-import Bot.SimpleBot;
-import javafx.stage.Modality;
-import javafx.animation.PauseTransition;
-
 /**
  * Main game board UI for Yu-Gi-Oh! duels.
  * <p>
@@ -60,15 +84,27 @@ import javafx.animation.PauseTransition;
  * </ul>
  * </p>
  * <p>
- * The board supports various game actions such as:
+ * <strong>Engine:</strong>
+ * The duel itself is a {@link DuelEngine}, the same rules engine that runs the
+ * headless bot tournaments. The board never changes the cards: every action
+ * is a move played on the engine, then {@link #refresh()} synchronizes the
+ * {@link BoardModel} and only the hands and zones whose properties changed
+ * are redrawn. An action button is only enabled when its move is in
+ * the legal moves of the engine ({@link DuelEngine#generateMoves(MoveList)}),
+ * so the Normal Summon limit, tributes, the first-turn Battle Phase and the
+ * once-per-turn attacks and position changes are enforced on screen exactly
+ * as in the simulations.
+ * </p>
+ * <p>
+ * The board supports the following game actions:
  * <ul>
- * <li>Summoning monsters in Attack or Defense Position</li>
- * <li>Setting cards face-down</li>
- * <li>Activating Spell and Trap cards</li>
- * <li>Declaring attacks and calculating battle damage</li>
- * <li>Changing monster positions</li>
+ * <li>Normal Summoning and Setting monsters, with the choice of tributes</li>
+ * <li>Setting Spell and Trap cards</li>
+ * <li>Activating Spell cards with an implemented effect, from the hand or Set</li>
+ * <li>Declaring attacks and direct attacks</li>
+ * <li>Changing monster positions and Flip Summons</li>
  * <li>Phase progression and turn management</li>
- * <li>Bot opponent AI integration (optional)</li>
+ * <li>Bot opponent AI integration</li>
  * </ul>
  * </p>
  * <p>
@@ -79,9 +115,45 @@ import javafx.animation.PauseTransition;
  * </p>
  * <p>
  * <strong>Battle System:</strong>
- * When "Attack Mode" is activated, players can select an attacking monster, then
- * click on an opponent's monster or attack directly. Battle calculations follow
- * official Yu-Gi-Oh! rules with proper damage calculation.
+ * In the Battle Phase, the "Attack" button of a monster selects it as the
+ * attacker; clicking an opponent's monster then declares the attack. The
+ * battle is resolved by the engine with {@link BattleResolver}.
+ * </p>
+ * <p>
+ * <strong>Undo:</strong>
+ * The engine records its changes ({@link DuelEngine#enableUndo(int)}), so a
+ * misclick is taken back with the Undo button (Ctrl+Z) and replayed with Redo
+ * (Ctrl+Y), without rebuilding any node by hand. Only the actions of the
+ * current turn that reveal nothing can be undone: summons, Sets, position
+ * changes and phase changes. A battle or a card effect shows hidden cards or
+ * draws, and cannot be taken back.
+ * </p>
+ * <p>
+ * <strong>Save:</strong>
+ * Closing the window saves the running duel to {@link #SAVE_FILE} with
+ * {@link SaveGame}; the main menu resumes it with {@link #DuelBoard(DuelEngine)}.
+ * </p>
+ * <p>
+ * <strong>Hot-seat:</strong>
+ * {@link #DuelBoard(LockstepPeer, LockstepPeer)} plays both sides on this
+ * screen, in lockstep: each player's actions are sent as commands through
+ * that player's {@link LockstepPeer}, which runs its own engine, and the
+ * frames are delivered to the other peer at once. The board shows the
+ * engine of player 1, the authority, so a divergence of the two engines is
+ * caught by the state hashes and repaired from a snapshot while the duel
+ * goes on. Only the hand of the player whose turn it is is shown. Undo and
+ * Redo have no command and are disabled, and the duel is not saved.
+ * </p>
+ * <p>
+ * <strong>Online:</strong>
+ * {@link #DuelBoard(DuelClient, String)} plays the bottom side of a duel
+ * hosted by a {@link net.DuelServer}. The board shows a {@link RemoteDuel},
+ * an engine rebuilt from each state sent by the server, so the buttons still
+ * follow its legal moves; the actions are sent as commands and the server
+ * judges them. The opponent's turn is followed from a background thread
+ * that waits for the server's states. As in hot-seat, Undo, Redo and the
+ * save are disabled, and the deck popup too: the decks are only known by
+ * the server.
  * </p>
  *
  * @author Your Name
@@ -90,79 +162,197 @@ import javafx.animation.PauseTransition;
  */
 public class DuelBoard extends Application {
 
-    /** The main game controller managing turns, phases, and win conditions */
-    private Game game;
-    
-    /** Player 1's main deck */
-    private Deck deckJ1;
-    
-    /** Player 2's main deck (or bot's deck) */
-    private Deck deckJ2;
-    
+    /** CSS pseudo-class of the button of the current phase */
+    private static final PseudoClass CURRENT_PHASE = PseudoClass.getPseudoClass("current");
+
+    /** CSS pseudo-class of the Extra Deck when a Fusion monster can be made */
+    private static final PseudoClass FUSION_READY = PseudoClass.getPseudoClass("fusion-ready");
+
+    /** Side of player 1, at the bottom of the screen (player index 0 of the engine) */
+    public static final int BOTTOM = 0;
+
+    /** Side of player 2, at the top of the screen (player index 1 of the engine) */
+    public static final int TOP = 1;
+
+    /** File the running duel is saved to when the window is closed */
+    public static final Path SAVE_FILE = Paths.get("duel.sav");
+
+    /** The duel shown by the board, which holds the whole game state */
+    private DuelEngine engine;
+
+    /** Lockstep peers of both players in a hot-seat duel, indexed by side, or null */
+    private LockstepPeer[] peers;
+
+    /** Connection to the server of an online duel, or null */
+    private DuelClient client;
+
+    /** Engine mirroring the states of an online duel, or null */
+    private RemoteDuel remote;
+
+    /** Reusable buffer of the legal moves of the active player */
+    private final MoveList moves = new MoveList();
+
+    /** Number of changes kept by the engine history for Undo */
+    private static final int UNDO_CAPACITY = 4096;
+
+    /** Actions of the local player this turn that Undo can take back */
+    private int undoable = 0;
+
+    /** Undone actions that Redo can play again */
+    private int redoable = 0;
+
     /** Visual container for Player 1's hand cards */
     private HBox handJ1;
-    
-    /** Visual container for Player 2's hand cards (hidden from Player 1 in PvP) */
+
+    /** Visual container for Player 2's hand cards (hidden from Player 1) */
     private HBox handJ2;
-    
+
+    /** Hands of both sides, indexed by side */
+    private final HBox[] hands = new HBox[2];
+
+    /** Monster zones of both sides, indexed by side then zone */
+    private final StackPane[][] monsterZones = new StackPane[2][DuelEngine.MONSTER_ZONES];
+
+    /** Spell/Trap zones of both sides, indexed by side then zone */
+    private final StackPane[][] spellTrapZones = new StackPane[2][DuelEngine.MONSTER_ZONES];
+
+    /** Field Spell zones of both sides */
+    private final StackPane[] fieldZones = new StackPane[2];
+
+    /** Graveyard zones of both sides, showing the top card */
+    private final StackPane[] graveyardZones = new StackPane[2];
+
+    /** Deck counters of both sides */
+    private final Label[] deckCounts = new Label[2];
+
     /** The currently selected card's visual representation */
-    private ImageView selectedView = null;
-    
+    private CardView selectedView = null;
+
     /** The currently selected Card object for actions */
     private Card selectedCard = null;
-    
+
     /** Text area displaying detailed information about the selected card */
     private TextArea cardInfoArea;
-    
+
     /** Container for action buttons (Summon, Set, Activate, etc.) */
     private VBox actionZone;
-    
-    /** Label displaying the current turn phase */
+
+    /** Label displaying the current turn phase, bound to the model */
     private Label phaseLabel;
-    
-    /** Flag indicating whether attack mode is currently active */
-    private boolean attackMode = false;
-    
-    /** The monster card selected to perform an attack */
-    private MonsterCard attackerCard = null;
-    
-    /** Visual representation of the attacking monster */
-    private ImageView attackerView = null;
-    
+
+    /** Zone of the monster that declared an attack and waits for a target, or -1 */
+    private int attackerZone = -1;
+
     /** GridPane representing Player 1's field (bottom of screen) */
     private GridPane boardJoueur1;
-    
+
     /** GridPane representing the opponent's field (top of screen) */
     private GridPane opponentBoard;
 
+    /** Buttons of the phases, indexed by {@link Phase#ordinal()} */
+    private Button[] phaseButtons;
+
+    /** Button ending the turn of the local player */
+    private Button endTurnButton;
+
+    /** Buttons taking back and replaying the last action */
+    private Button undoButton;
+    private Button redoButton;
+
     // Life Points Management
-    
-    /** Array holding Player 1's current life points (wrapped in array for lambda access) */
-    private int[] lp1 = {8000};
-    
-    /** Array holding Player 2's current life points (wrapped in array for lambda access) */
-    private int[] lp2 = {8000};
-    
-    /** Label displaying Player 1's current life points */
+
+    /** Observable Life Points, phase and turn; the labels are bound to it */
+    private final BoardModel model = new BoardModel();
+
+    /** Recycled card views of the hands and zones */
+    private final CardViewPool cardViews = new CardViewPool();
+
+    /** Label displaying Player 1's current life points, bound to the model */
     private Label lpJoueur1;
-    
-    /** Label displaying Player 2's current life points */
+
+    /** Label displaying Player 2's current life points, bound to the model */
     private Label lpJoueur2;
-    
+
     /** Player 1 object managing their game state */
     private Player joueur1;
-    
+
     /** Player 2 object managing their game state */
     private Player joueur2;
 
+    /** True once the end of the duel has been announced */
+    private boolean victoryShown = false;
+
     // Bot Integration
-    
+
     /** AI bot controller for single-player mode */
     private SimpleBot bot;
-    
+
     /** Flag to enable/disable bot opponent (true for PvE, false for PvP) */
     private boolean isBotEnabled = false;
 
+    /** Solver behind the "you have lethal" hint, with its board buffers */
+    private final LethalSolver lethalSolver = new LethalSolver();
+    private final int[] lethalAtk = new int[LethalSolver.MAX_MONSTERS];
+    private final int[] lethalStatus = new int[LethalSolver.MAX_MONSTERS];
+    private final int[] lethalSummonAtk = new int[3];
+    private final MonsterCard[] lethalSummon = new MonsterCard[3];
+    private final int[] lethalOppAtk = new int[LethalSolver.MAX_MONSTERS];
+    private final int[] lethalOppDef = new int[LethalSolver.MAX_MONSTERS];
+    private final int[] lethalOppPosition = new int[LethalSolver.MAX_MONSTERS];
+
+    /** Player 1's Extra Deck zone, which lights up when a Fusion is possible */
+    private Label extraDeckJ1;
+
+    /** Text of player 1's Extra Deck zone without the Fusion count */
+    private String extraDeckJ1Text;
+
+    /**
+     * Creates a board for a new duel between the starter decks of Yugi and Kaiba.
+     */
+    public DuelBoard() {
+    }
+
+    /**
+     * Creates a board resuming a saved duel.
+     * <p>
+     * Player 1 plays the bottom side (player index 0) and the bot the top
+     * side, as when the duel was saved.
+     * </p>
+     *
+     * @param engine the duel to resume, for example read by {@link SaveGame#load(Path)}
+     */
+    public DuelBoard(DuelEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Creates a board for a hot-seat duel, both players sharing this screen.
+     * <p>
+     * The board shows the engine of the first peer, the authority, which a
+     * resync never replaces.
+     * </p>
+     *
+     * @param player1 the peer of player 1 (player index 0), playing the bottom side
+     * @param player2 the peer of player 2 (player index 1), playing the top side
+     * @see LockstepPeer#pair(Tournament.DeckList, Tournament.DeckList, long)
+     */
+    public DuelBoard(LockstepPeer player1, LockstepPeer player2) {
+        this.peers = new LockstepPeer[] {player1, player2};
+        this.engine = player1.getEngine();
+    }
+
+    /**
+     * Creates a board for an online duel, the client playing the bottom side.
+     *
+     * @param client a client whose {@link DuelClient#hello(String, int)} found an opponent
+     * @param name the name the client joined with
+     */
+    public DuelBoard(DuelClient client, String name) {
+        this.client = client;
+        this.remote = new RemoteDuel(name, DeckList.samples());
+        this.engine = remote.update(client.getState());
+    }
+
     /**
      * Constructs and returns a GridPane representing a player's game board.
      * <p>
@@ -193,16 +383,9 @@ public class DuelBoard extends Application {
      * card back image and a counter label showing remaining cards.
      * </p>
      * <p>
-     * <strong>Zone Types:</strong>
-     * <ul>
-     * <li>Monster Zones: Where monster cards are summoned</li>
-     * <li>Spell/Trap Zones: Where spell and trap cards are set or activated</li>
-     * <li>Field Zone: For field spell cards (one per player)</li>
-     * <li>Graveyard: Displays discarded/destroyed cards</li>
-     * <li>Banished Zone: Displays removed from play cards</li>
-     * <li>Deck Zone: Shows deck back and card count</li>
-     * <li>Extra Deck: For Fusion, Synchro, Xyz, and Link monsters</li>
-     * </ul>
+     * The zones are also kept in the arrays indexed by side ({@link #BOTTOM}
+     * for the player, {@link #TOP} for the opponent) and zone, from which
+     * {@link #bindModel()} redraws them.
      * </p>
      * <p>
      * If the deck back image ({@code /ui/card_back.png}) cannot be loaded, a
@@ -214,6 +397,7 @@ public class DuelBoard extends Application {
      * @return a configured GridPane representing the complete game board for one player
      */
     public GridPane buildPlayerBoard(String prefix, boolean isOpponent) {
+        int side = isOpponent ? TOP : BOTTOM;
         GridPane board = new GridPane();
         board.setHgap(8);
         board.setVgap(12);
@@ -223,11 +407,13 @@ public class DuelBoard extends Application {
         StackPane terrain = new StackPane();
         terrain.setPrefSize(90, 138);
         terrain.getStyleClass().add("terrain-zone");
+        fieldZones[side] = terrain;
 
         // Graveyard Zone
         StackPane graveyard = new StackPane();
         graveyard.setPrefSize(90, 138);
         graveyard.getStyleClass().add("graveyard-zone");
+        graveyardZones[side] = graveyard;
 
         // Banished Zone
         Label banished = new Label("Banished " + prefix);
@@ -246,9 +432,7 @@ public class DuelBoard extends Application {
 
         try {
             // Load deck back image
-            ImageView deckBack = new ImageView(
-                new Image(getClass().getResource("/ui/card_back.png").toExternalForm())
-            );
+            ImageView deckBack = new ImageView(CardViewPool.cardBack());
             deckBack.setFitWidth(88);
             deckBack.setFitHeight(132);
             deckZone.getChildren().add(deckBack);
@@ -259,32 +443,32 @@ public class DuelBoard extends Application {
             deckZone.getChildren().add(deckLabel);
         }
 
-        // Deck card counter (will be updated from start method)
+        // Deck card counter (bound to the model by bindModel)
         Label deckCount = new Label("Cards: 0");
         deckCount.getStyleClass().add("deck-count");
         StackPane.setAlignment(deckCount, Pos.BOTTOM_CENTER);
         deckZone.getChildren().add(deckCount);
+        deckCounts[side] = deckCount;
+
+        // Monster and Spell/Trap zones, in columns 1-5
+        int monsterRow = isOpponent ? 1 : 0;
+        int spellTrapRow = isOpponent ? 0 : 1;
+        for (int i = 0; i < DuelEngine.MONSTER_ZONES; i++) {
+            StackPane monsterZone = new StackPane();
+            monsterZone.setPrefSize(90, 138);
+            monsterZone.getStyleClass().add("monster-zone");
+            board.add(monsterZone, i+1, monsterRow);
+            monsterZones[side][i] = monsterZone;
+
+            StackPane spellTrapZone = new StackPane();
+            spellTrapZone.setPrefSize(90, 138);
+            spellTrapZone.getStyleClass().add("spelltrap-zone");
+            board.add(spellTrapZone, i+1, spellTrapRow);
+            spellTrapZones[side][i] = spellTrapZone;
+        }
 
         if (isOpponent) {
-            // Opponent board layout (top of screen)
-            
-            // Row 0: Spell/Trap zones
-            for (int i = 0; i < 5; i++) {
-                StackPane spellTrapZone = new StackPane();
-                spellTrapZone.setPrefSize(90, 138);
-                spellTrapZone.getStyleClass().add("spelltrap-zone");
-                board.add(spellTrapZone, i+1, 0);
-            }
-            
-            // Row 1: Monster zones
-            for (int i = 0; i < 5; i++) {
-                StackPane monsterZone = new StackPane();
-                monsterZone.setPrefSize(90, 138);
-                monsterZone.getStyleClass().add("monster-zone");
-                board.add(monsterZone, i+1, 1);
-            }
-            
-            // Additional zones for opponent
+            // Additional zones for opponent (top of screen)
             HBox graveyardZone = new HBox(8, banished, graveyard);
             board.add(extraDeck, 0, 0);
             board.add(deckZone, 6, 0);
@@ -292,300 +476,319 @@ public class DuelBoard extends Application {
             board.add(graveyardZone, 0, 1);
 
         } else {
-            // Player board layout (bottom of screen)
-            
-            // Row 0: Monster zones
-            for (int i = 0; i < 5; i++) {
-                StackPane monsterZone = new StackPane();
-                monsterZone.setPrefSize(90, 138);
-                monsterZone.getStyleClass().add("monster-zone");
-                board.add(monsterZone, i+1, 0);
-            }
-            
-            // Row 1: Spell/Trap zones
-            for (int i = 0; i < 5; i++) {
-                StackPane spellTrapZone = new StackPane();
-                spellTrapZone.setPrefSize(90, 138);
-                spellTrapZone.getStyleClass().add("spelltrap-zone");
-                board.add(spellTrapZone, i+1, 1);
-            }
-
-            // Additional zones for player
+            // Additional zones for player (bottom of screen)
             board.add(terrain, 0, 0);
             board.add(extraDeck, 0, 1);
+            extraDeckJ1 = extraDeck;
+            extraDeckJ1Text = extraDeck.getText();
             board.add(graveyard, 6, 0);
             board.add(banished, 7, 0);
             board.add(deckZone, 6, 1);
         }
 
+        // Graveyards are public: both can be browsed
+        graveyard.setStyle("-fx-cursor: hand;");
+        graveyard.setOnMouseClicked(e -> {
+            if (e.getButton() == MouseButton.PRIMARY) {
+                showGraveyardPopup(side);
+            }
+        });
+
         return board;
     }
-    
-        /**
-     * Builds a visual representation of a player's hand from a list of cards.
+
+    /**
+     * Brings the board up to date with the duel.
      * <p>
-     * This method creates an HBox container displaying all cards in the player's hand.
-     * For the current player, cards are shown face-up with their actual images. For the
-     * opponent, cards are displayed as card backs (rotated 180°) to hide their identity.
+     * The model is synchronized with the engine, and only the nodes bound to
+     * the properties that changed are redrawn (see {@link #bindModel()}): a
+     * summon redraws the hand and one monster zone, a battle the zones of the
+     * destroyed monsters and the Graveyards. The selection is cleared, the
+     * phase buttons follow the actions allowed to the local player, and the
+     * end of the duel is announced once.
      * </p>
      * <p>
-     * Each card in the hand is clickable and performs two actions when clicked:
-     * <ul>
-     * <li>Selects the card (highlights it and displays its information)</li>
-     * <li>Generates appropriate action buttons based on the card type</li>
-     * </ul>
+     * Called after every action of the player and after every phase of the bot.
      * </p>
+     */
+    public void refresh() {
+        model.sync(engine);
+        clearSelection();
+        updateControls();
+        showFusionHint(engine.getPhase());
+        checkVictoryConditions();
+    }
+
+    /**
+     * Redraws each hand and zone when its property in the model changes, then
+     * draws the whole board once from the model.
      * <p>
-     * The card images are scaled to 88x132 pixels for consistent display. If a card
-     * image fails to load, an error message is logged but the hand continues to build
-     * with the remaining cards.
+     * The deck counters are bound to the deck sizes. A monster that attacks
+     * keeps its view: only its attacked marker is updated.
      * </p>
+     */
+    private void bindModel() {
+        for (int s = BOTTOM; s <= TOP; s++) {
+            int side = s;
+            model.getHand(side).addListener((ListChangeListener<Card>) change -> renderHand(side));
+            for (int z = 0; z < DuelEngine.MONSTER_ZONES; z++) {
+                int zone = z;
+                InvalidationListener monster = obs -> renderMonster(side, zone);
+                model.monsterProperty(side, zone).addListener(monster);
+                model.positionProperty(side, zone).addListener(monster);
+                model.attackedProperty(side, zone).addListener((obs, was, attacked) -> {
+                    for (Node node : monsterZones[side][zone].getChildren()) {
+                        CardView view = CardView.of(node);
+                        if (view != null) {
+                            view.setAttacked(attacked);
+                        }
+                    }
+                });
+                model.spellTrapProperty(side, zone).addListener(obs -> renderSpellTrap(side, zone));
+            }
+            model.fieldSpellProperty(side).addListener(obs -> renderFieldSpell(side));
+            model.graveyardTopProperty(side).addListener(obs -> renderGraveyard(side));
+            deckCounts[side].textProperty().bind(Bindings.concat("Cards: ", model.deckCountProperty(side)));
+            renderSide(side);
+        }
+        if (peers != null) {
+            // Hot-seat: the cards shown face-up change hands with the turn
+            model.activePlayerProperty().addListener(obs -> {
+                renderSide(BOTTOM);
+                renderSide(TOP);
+            });
+        }
+    }
+
+    /**
+     * Redraws the hand and every zone of a side.
+     *
+     * @param side {@link #BOTTOM} or {@link #TOP}
+     */
+    private void renderSide(int side) {
+        renderHand(side);
+        for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+            renderMonster(side, zone);
+            renderSpellTrap(side, zone);
+        }
+        renderFieldSpell(side);
+        renderGraveyard(side);
+    }
+
+    /**
+     * Redraws the hand of a side.
      * <p>
-     * <strong>Card Selection Behavior:</strong>
-     * When a card is clicked, it becomes the {@code selectedCard} and action buttons
-     * appear in the action zone (Summon, Set, Activate, etc., depending on card type
-     * and game phase).
+     * The cards of a shown player are face-up and can be played; the other
+     * hand is shown as card backs (rotated 180° at the top).
      * </p>
      *
-     * @param cards the list of Card objects to display in the hand
-     * @param boardTarget the GridPane representing the target board for placing cards
-     * @param isOpponent true if this is the opponent's hand (shows card backs), false for player's hand
-     * @param cardInfoArea the TextArea where card information will be displayed when selected
-     * @param actionZone the VBox where action buttons will be generated for the selected card
-     * @return an HBox containing ImageViews of all cards in the hand
+     * @param side {@link #BOTTOM} or {@link #TOP}
      */
-    public HBox buildPlayerHandFromCards(List<Card> cards,
-                                        GridPane boardTarget,
-                                        boolean isOpponent,
-                                        TextArea cardInfoArea,
-                                        VBox actionZone) 
-    {
-        HBox handBox = new HBox(10);
-        handBox.setAlignment(Pos.CENTER);
-        handBox.getStyleClass().add("hand-zone");
-
-        for (Card card : cards) {
-            try {
-                ImageView view;
-
-                if (isOpponent) {
-                    // Display card back for opponent's cards
-                    Image backImage = new Image(getClass().getResource("/ui/card_back.png").toExternalForm());
-                    view = new ImageView(backImage);
-                    view.setRotate(180);
-                    view.getProperties().put("card", card); // Store card reference
+    private void renderHand(int side) {
+        HBox hand = hands[side];
+        clearZone(hand);
+
+        boolean shown = isShown(side);
+        List<Card> cards = model.getHand(side);
+        for (int i = 0; i < cards.size(); i++) {
+            Card card = cards.get(i);
+            int handIndex = i;
+            CardView view = cardViews.acquire(shown ? card.getImage() : CardViewPool.cardBack());
+            view.setFitWidth(88);
+            view.setFitHeight(132);
+            view.setRotate(side == TOP ? 180 : 0);
+            view.setCard(card);
+            view.setFaceDown(!shown);
+            view.setOpponent(!shown);
+
+            // Card click handler: select card and create action buttons
+            view.setOnMouseClicked(e -> {
+                attackerZone = -1;
+                selectCard(view, card);
+                if (shown) {
+                    createActionButtonsForCard(card, view, side, handIndex);
                 } else {
-                    // Display actual card for the player
-                    view = new ImageView(card.getImage());
-                    view.getProperties().put("card", card); // Store card reference
+                    actionZone.getChildren().clear();
                 }
+            });
 
-                view.setFitWidth(88);
-                view.setFitHeight(132);
-
-                // Card click handler: select card and create action buttons
-                view.setOnMouseClicked(e -> {
-                    // Update selection (yellow border + card info)
-                    selectCard(view, boardTarget, handBox, cardInfoArea, card);
-
-                    // Build appropriate action buttons based on card type
-                    createActionButtonsForCard(card, view, boardTarget, handBox, cardInfoArea, actionZone, isOpponent);
-                });
-
-                handBox.getChildren().add(view);
-
-            } catch (Exception ex) {
-                System.err.println("Error displaying card: " + card.getName() + " → " + ex.getMessage());
-            }
+            hand.getChildren().add(view);
         }
-
-        return handBox;
     }
 
     /**
-     * Places a card from the hand onto the game board in the appropriate zone.
-     * <p>
-     * This method handles the placement logic for all card types, finding an available
-     * zone on the target board and moving the card from the hand to that zone. It
-     * supports special handling for Field Spell cards and normal placement for monsters
-     * and regular spell/trap cards.
-     * </p>
-     * <p>
-     * <strong>Placement Logic:</strong>
-     * <ul>
-     * <li><strong>Field Spell Cards:</strong> Placed in the dedicated field zone. Only one
-     *     field spell can be active at a time, so any existing field spell is replaced.</li>
-     * <li><strong>Monster Cards:</strong> Placed in the first available monster zone (columns 1-5,
-     *     row 0 for player, row 1 for opponent). Rotation depends on position (ATK/DEF) and
-     *     face-up/face-down status.</li>
-     * <li><strong>Spell/Trap Cards:</strong> Placed in the first available spell/trap zone
-     *     (columns 1-5, row 1 for player, row 0 for opponent).</li>
-     * </ul>
-     * </p>
+     * Redraws a monster zone.
      * <p>
      * <strong>Card Rotation:</strong>
      * <ul>
-     * <li>Face-up Attack Position: 0° (player) or 180° (opponent)</li>
-     * <li>Face-down Defense Position (Monster): 90° (player) or 270° (opponent)</li>
-     * <li>Face-down Spell/Trap: 0° (upright)</li>
-     * </ul>
-     * </p>
-     * <p>
-     * <strong>Click Behavior on Placed Cards:</strong>
-     * When a placed card is clicked, two modes are possible:
-     * <ul>
-     * <li><strong>Attack Mode:</strong> If attack mode is active and an attacker is selected,
-     *     clicking an opponent's monster resolves battle between them.</li>
-     * <li><strong>Normal Mode:</strong> Selects the card and generates action buttons
-     *     (Change Position, Activate Effect, etc.).</li>
+     * <li>Attack Position: 0° (player) or 180° (opponent)</li>
+     * <li>Defense Position, face-up or face-down: 90° (player) or 270° (opponent)</li>
      * </ul>
      * </p>
      * <p>
-     * The card is removed from the hand after successful placement, and all relevant
-     * properties (faceDown status, position, card reference) are stored in both the
-     * zone and the ImageView for future reference.
+     * Face-down monsters show the card back. The views are not bound to their
+     * zone: they never write into the cards, which only the engine changes.
      * </p>
      *
-     * @param boardTarget the GridPane representing the game board where the card will be placed
-     * @param handBox the HBox containing the player's hand (card will be removed from here)
-     * @param view the ImageView representing the card to place
-     * @param card the Card object being placed
-     * @param targetRow the row index where the card should be placed (0 for monsters, 1 for spell/traps)
-     * @param isOpponent true if placing on opponent's side (affects rotation), false for player's side
-     * @param cardInfoArea the TextArea for displaying placement messages and card info
-     * @param actionZone the VBox where action buttons will be generated when the placed card is clicked
+     * @param side {@link #BOTTOM} or {@link #TOP}
+     * @param zone the monster zone (0-4)
      */
-    public void placeCardInZone(GridPane boardTarget,
-                                HBox handBox,
-                                ImageView view,
-                                Card card,
-                                int targetRow,
-                                boolean isOpponent,
-                                TextArea cardInfoArea,
-                                VBox actionZone)
-    {
-        // === Special Case: Field Spell Cards ===
-        if (card instanceof SpellCard) {
-            SpellCard spell = (SpellCard) card;
-            if ("Field".equals(spell.getSpellType())) {
-                Node fieldCell = boardTarget.getChildren().stream()
-                    .filter(node -> node.getStyleClass().contains("terrain-zone"))
-                    .findFirst()
-                    .orElse(null);
-
-                if (fieldCell instanceof StackPane) {
-                    StackPane fieldZone = (StackPane) fieldCell;
-
-                    ImageView placed = view;
-                    placed.setFitWidth(88);
-                    placed.setFitHeight(132);
-                    placed.setRotate(isOpponent ? 180 : 0);
-
-                    // Click handler for placed field spell → specific field actions
-                    placed.setOnMouseClicked(e -> {
-                        selectCard(placed, boardTarget, handBox, cardInfoArea, card);
-                        createActionButtonsForPlacedCard(card, placed, boardTarget, handBox, cardInfoArea, actionZone, isOpponent);
-                    });
+    private void renderMonster(int side, int zone) {
+        StackPane monsterZone = monsterZones[side][zone];
+        clearZone(monsterZone);
+        MonsterCard monster = model.monsterProperty(side, zone).get();
+        if (monster == null) return;
+
+        Position position = model.positionProperty(side, zone).get();
+        boolean faceDown = position == Position.FACE_DOWN;
+        CardView view = cardViews.acquire(faceDown ? CardViewPool.cardBack() : monster.getImage());
+        view.setFitWidth(88);
+        view.setFitHeight(132);
+        view.setRotate((side == TOP ? 180 : 0) + (position == Position.ATTACK ? 0 : 90));
+        view.setCard(monster);
+        view.setPosition(position);
+        view.setFaceDown(faceDown);
+        view.setOpponent(!isShown(side));
+        view.setAttacked(model.attackedProperty(side, zone).get());
+
+        // An opponent's monster is the target of a declared attack
+        view.setOnMouseClicked(e -> {
+            if (attackerZone >= 0 && side != engine.getActiveIndex()) {
+                declareAttack(zone);
+            } else {
+                attackerZone = -1;
+                selectCard(view, monster);
+                createActionButtonsForPlacedCard(monster, view, side, zone);
+            }
+        });
+        monsterZone.getChildren().add(view);
+    }
 
-                    // Only one Field Spell at a time
-                    fieldZone.getChildren().clear();
-                    fieldZone.getChildren().add(placed);
+    /**
+     * Redraws a Spell/Trap zone. Set cards show the card back, rotated 180°
+     * on the opponent's side.
+     *
+     * @param side {@link #BOTTOM} or {@link #TOP}
+     * @param zone the Spell/Trap zone (0-4)
+     */
+    private void renderSpellTrap(int side, int zone) {
+        StackPane spellTrapZone = spellTrapZones[side][zone];
+        clearZone(spellTrapZone);
+        Card spellTrap = model.spellTrapProperty(side, zone).get();
+        if (spellTrap == null) return;
+
+        CardView view = cardViews.acquire(CardViewPool.cardBack());
+        view.setFitWidth(88);
+        view.setFitHeight(132);
+        view.setRotate(side == TOP ? 180 : 0);
+        view.setCard(spellTrap);
+        view.setFaceDown(true);
+        view.setOpponent(!isShown(side));
+        view.setOnMouseClicked(e -> {
+            attackerZone = -1;
+            selectCard(view, spellTrap);
+            createActionButtonsForPlacedCard(spellTrap, view, side, zone);
+        });
+        spellTrapZone.getChildren().add(view);
+    }
 
-                    // Remove card from hand
-                    handBox.getChildren().remove(view);
+    /**
+     * Redraws the Field zone of a side.
+     *
+     * @param side {@link #BOTTOM} or {@link #TOP}
+     */
+    private void renderFieldSpell(int side) {
+        StackPane fieldZone = fieldZones[side];
+        clearZone(fieldZone);
+        Card fieldSpell = model.fieldSpellProperty(side).get();
+        if (fieldSpell == null) return;
+
+        CardView view = cardViews.acquire(fieldSpell.getImage());
+        view.setFitWidth(88);
+        view.setFitHeight(132);
+        view.setRotate(side == TOP ? 180 : 0);
+        view.setCard(fieldSpell);
+        view.setOpponent(!isShown(side));
+        view.setOnMouseClicked(e -> {
+            attackerZone = -1;
+            selectCard(view, fieldSpell);
+            actionZone.getChildren().setAll(new Label("Card on field: " + fieldSpell.getName()));
+        });
+        fieldZone.getChildren().add(view);
+    }
 
-                    // Store state properties
-                    fieldZone.getProperties().put("card", card);
-                    placed.getProperties().put("placedCell", fieldZone);
-                    placed.getProperties().put("faceDown", false);
-                    placed.getProperties().put("position", "ATK");
-                    placed.getProperties().put("isOpponent", isOpponent);
+    /**
+     * Redraws the Graveyard of a side. Only its top card is shown, the popup
+     * lists them all.
+     *
+     * @param side {@link #BOTTOM} or {@link #TOP}
+     */
+    private void renderGraveyard(int side) {
+        StackPane graveyardZone = graveyardZones[side];
+        clearZone(graveyardZone);
+        Card top = model.graveyardTopProperty(side).get();
+        if (top == null) return;
+
+        CardView view = cardViews.acquire(top.getImage());
+        view.setFitWidth(60);
+        view.setFitHeight(90);
+        view.setCard(top);
+        view.setMouseTransparent(true);
+        graveyardZone.getChildren().add(view);
+    }
 
-                    cardInfoArea.setText("Field Spell placed: " + card.getName());
-                    return; // Exit, no need to check columns
-                }
+    /**
+     * Returns the card views of a zone or hand to the pool.
+     *
+     * @param zone the zone or hand to empty of its card views
+     */
+    private void clearZone(Pane zone) {
+        for (Node node : new ArrayList<>(zone.getChildren())) {
+            CardView view = CardView.of(node);
+            if (view != null) {
+                cardViews.release(view);
             }
         }
+    }
 
-        // === Normal Case: Monsters and Regular Spell/Trap Cards ===
-        for (int col = 1; col <= 5; col++) {
-            final int currentCol = col;
-
-            Node cell = boardTarget.getChildren().stream()
-                .filter(node -> GridPane.getRowIndex(node) == targetRow &&
-                                GridPane.getColumnIndex(node) == currentCol)
-                .findFirst()
-                .orElse(null);
-
-            if (cell instanceof StackPane) {
-                StackPane zone = (StackPane) cell;
-                if (zone.getChildren().isEmpty()) {
-                    ImageView placed = view;
-                    placed.setFitWidth(88);
-                    placed.setFitHeight(132);
-
-                    // Retrieve placement properties
-                    boolean faceDown = (boolean) placed.getProperties().getOrDefault("faceDown", false);
-                    String position = (String) placed.getProperties().getOrDefault("position", faceDown ? "DEF" : "ATK");
-
-                    // Apply rotation based on face-down status and position
-                    if (faceDown) {
-                        if (card instanceof MonsterCard) {
-                            placed.setRotate(isOpponent ? 270 : 90); // Horizontal for face-down defense
-                        } else {
-                            placed.setRotate(0); // Upright for face-down spell/trap
-                        }
-                    } else {
-                        placed.setRotate(isOpponent ? 180 : 0); // Normal orientation
-                    }
-
-                    // Click handler with attack mode detection
-                    placed.setOnMouseClicked(e -> {
-                        // Check if in attack mode first
-                        if (attackMode && attackerCard != null && attackerView != null) {
-                            // Clicked card is an opponent's monster = attack target
-                            if (card instanceof MonsterCard && isOpponent) {
-                                resolveBattle(attackerCard, attackerView, (MonsterCard) card, placed, isOpponent);
-                                
-                                // Reset attack mode
-                                attackMode = false;
-                                attackerCard = null;
-                                attackerView = null;
-                                
-                                // Clear action zone
-                                actionZone.getChildren().clear();
-                                cardInfoArea.setText("Battle resolved!");
-                            } else {
-                                cardInfoArea.setText("You can only attack an opponent's monster.");
-                            }
-                        } else {
-                            // Normal mode: selection + action display
-                            selectCard(placed, boardTarget, handBox, cardInfoArea, card);
-                            createActionButtonsForPlacedCard(card, placed, boardTarget, handBox, cardInfoArea, actionZone, isOpponent);
-                        }
-                    });
-
-                    // Store card reference (CRITICAL)
-                    placed.getProperties().put("card", card);
-
-                    zone.getChildren().add(placed);
-                    handBox.getChildren().remove(view);
+    /**
+     * Checks if a side is played from this screen.
+     *
+     * @param side {@link #BOTTOM} or {@link #TOP}
+     * @return false for the side of the bot
+     */
+    private boolean isLocal(int side) {
+        if (client != null) return side == BOTTOM;
+        return !isBotEnabled || side != bot.getSide();
+    }
 
-                    // Store properties in zone
-                    zone.getProperties().put("card", card);
-                    zone.getProperties().put("faceDown", faceDown);
-                    zone.getProperties().put("position", position);
+    /**
+     * Checks if the hidden cards of a side are shown on this screen.
+     *
+     * @param side {@link #BOTTOM} or {@link #TOP}
+     * @return true for a local side, but in hot-seat only for the side whose turn it is
+     */
+    private boolean isShown(int side) {
+        return peers == null ? isLocal(side) : side == engine.getActiveIndex();
+    }
 
-                    // Store properties in placed view
-                    placed.getProperties().put("placedCell", zone);
-                    placed.getProperties().put("faceDown", faceDown);
-                    placed.getProperties().put("position", position);
-                    placed.getProperties().put("isOpponent", isOpponent);
+    /**
+     * Checks if the duel is played on the engine of this board alone.
+     *
+     * @return false in hot-seat and online, where every action is a command
+     */
+    private boolean isLocalDuel() {
+        return peers == null && client == null;
+    }
 
-                    break;
-                }
-            }
-        }
+    /**
+     * Checks if the player of a side can act now.
+     *
+     * @param side {@link #BOTTOM} or {@link #TOP}
+     * @return true if the duel is running, it is the side's turn, and the side is local
+     */
+    private boolean canAct(int side) {
+        return engine != null && !engine.isOver() && side == engine.getActiveIndex() && isLocal(side);
     }
 
     /**
@@ -597,7 +800,7 @@ public class DuelBoard extends Application {
      * </p>
      * <ol>
      * <li><strong>Remove previous selection:</strong> Clears the "card-selected"
-     *     CSS class from all cards in the hand and on the board</li>
+     *     CSS class from the previously selected card</li>
      * <li><strong>Add new selection:</strong> Applies the "card-selected" CSS class
      *     to the clicked card (typically adds a yellow border)</li>
      * <li><strong>Update card info area:</strong> Displays the card's details in the
@@ -616,33 +819,22 @@ public class DuelBoard extends Application {
      * </ul>
      * </p>
      *
-     * @param selectedView the ImageView of the card being selected
-     * @param boardTarget the GridPane representing the game board (for clearing selections)
-     * @param handBox the HBox containing the player's hand (for clearing selections)
-     * @param cardInfoArea the TextArea where card information will be displayed
+     * @param selectedView the view of the card being selected
      * @param card the Card object being selected
      */
-    public void selectCard(ImageView selectedView,
-                            GridPane boardTarget,
-                            HBox handBox,
-                            TextArea cardInfoArea,
-                            Card card) 
-    {
-        // 1. Remove previous selection highlights
-        handBox.getChildren().forEach(node -> node.getStyleClass().remove("card-selected"));
-        boardTarget.getChildren().forEach(node -> {
-            if (node instanceof StackPane) {
-                ((StackPane) node).getChildren().forEach(child -> child.getStyleClass().remove("card-selected"));
-            }
-        });
+    public void selectCard(CardView selectedView, Card card) {
+        // 1. Remove previous selection highlight
+        if (this.selectedView != null) {
+            this.selectedView.getStyleClass().remove("card-selected");
+        }
 
         // 2. Add selection highlight to clicked card
         selectedView.getStyleClass().add("card-selected");
 
         // 3. Update card information area with appropriate visibility rules
-        boolean faceDown = (boolean) selectedView.getProperties().getOrDefault("faceDown", false);
-        boolean isOpponent = (boolean) selectedView.getProperties().getOrDefault("isOpponent", false);
-        
+        boolean faceDown = selectedView.isFaceDown();
+        boolean isOpponent = selectedView.isOpponent();
+
         if (isOpponent && faceDown) {
             // Opponent's face-down card: NEVER show information
             cardInfoArea.setText("Opponent's card (face-down)");
@@ -659,79 +851,58 @@ public class DuelBoard extends Application {
         this.selectedCard = card;
     }
 
-        /**
+    /**
+     * Clears the selection, the declared attacker and the action buttons.
+     */
+    private void clearSelection() {
+        if (selectedView != null) {
+            selectedView.getStyleClass().remove("card-selected");
+        }
+        selectedView = null;
+        selectedCard = null;
+        attackerZone = -1;
+        actionZone.getChildren().clear();
+    }
+
+    /**
      * Creates and displays action buttons for a card selected from the player's hand.
      * <p>
-     * This method dynamically generates appropriate action buttons based on the type
-     * of card selected. The buttons appear in the action zone and allow the player to
-     * perform legal actions with the selected card according to Yu-Gi-Oh! rules.
+     * The buttons depend on the type of the card, and each one is enabled only
+     * if the engine lists a move of its kind for this card
+     * ({@link MoveList#hasMove(int, int)}):
      * </p>
      * <p>
      * <strong>Monster Card Actions:</strong>
      * <ul>
-     * <li><strong>Normal Summon:</strong> Places the monster face-up in Attack Position.
-     *     The card is displayed with its actual image and properly rotated for opponent's side.
-     *     After summoning, the card is removed from hand and placed in the first available
-     *     monster zone.</li>
-     * <li><strong>Set:</strong> Places the monster face-down in Defense Position (horizontal).
-     *     Uses the card back image rotated 90° to indicate face-down defense. The actual
-     *     card data is stored in properties for later flip effects.</li>
-     * <li><strong>Send to Graveyard:</strong> Discards the monster directly to the graveyard
-     *     without playing it. This can be used for card costs or voluntary discards.</li>
+     * <li><strong>Normal Summon:</strong> Summons the monster face-up in Attack Position
+     *     ({@link Moves#NORMAL_SUMMON}).</li>
+     * <li><strong>Set:</strong> Sets the monster face-down in Defense Position
+     *     ({@link Moves#SET_MONSTER}).</li>
      * </ul>
+     * Both are disabled once the Normal Summon of the turn is used, and for a
+     * level 5+ monster without enough monsters to tribute. When several sets
+     * of tributes are possible, the player chooses one.
      * </p>
      * <p>
      * <strong>Spell/Trap Card Actions:</strong>
      * <ul>
-     * <li><strong>Set:</strong> Places the spell or trap card face-down in a spell/trap zone.
-     *     The card can be activated later (traps must wait at least one turn). Uses the
-     *     card back image in upright position.</li>
-     * <li><strong>Activate:</strong> Immediately activates the spell/trap card face-up.
-     *     The card is placed in a spell/trap zone and its effect is applied via
-     *     {@link #applyCardEffect(Card, GridPane, HBox, boolean)}. Spell cards can be
-     *     activated from hand, but this doesn't enforce timing restrictions.</li>
-     * <li><strong>Send to Graveyard:</strong> Discards the spell/trap directly to the
-     *     graveyard without activation.</li>
-     * </ul>
-     * </p>
-     * <p>
-     * <strong>Common Behavior:</strong>
-     * <ul>
-     * <li>All actions automatically remove the card from the hand after execution</li>
-     * <li>The action zone is cleared after each action completes</li>
-     * <li>Card properties (faceDown, position, card reference) are stored for later interactions</li>
-     * <li>Cards sent to graveyard are displayed as smaller images (60x90) in the graveyard zone</li>
-     * <li>Proper rotation is applied based on which player owns the card (180° for opponent)</li>
+     * <li><strong>Set:</strong> Places the card face-down in a Spell/Trap zone
+     *     ({@link Moves#SET_SPELL_TRAP}).</li>
+     * <li><strong>Activate:</strong> Activates a Spell card with an implemented
+     *     effect ({@link Moves#ACTIVATE}); the card resolves and goes to the Graveyard.</li>
      * </ul>
      * </p>
      * <p>
-     * <strong>Note on Game Rules:</strong>
-     * This method does not enforce all official Yu-Gi-Oh! rules such as:
-     * <ul>
-     * <li>Tribute requirements for high-level monsters (5+ stars)</li>
-     * <li>One Normal Summon per turn restriction</li>
-     * <li>Main Phase timing for spell activation</li>
-     * <li>Trap cards must be set for one turn before activation</li>
-     * </ul>
-     * These rules should be enforced by the game controller or higher-level logic.
+     * Outside the Main Phases, and when it is not the player's turn, no move
+     * is listed and the buttons are disabled.
      * </p>
      *
      * @param card the Card object for which to create action buttons
-     * @param view the ImageView representing the card in the hand
-     * @param boardTarget the GridPane where the card will be placed when an action is performed
-     * @param handBox the HBox containing the player's hand (card will be removed from here)
-     * @param cardInfoArea the TextArea for displaying action results and card information
-     * @param actionZone the VBox where the action buttons will be displayed
-     * @param isOpponent true if the card belongs to the opponent (affects rotation and zone targeting)
+     * @param view the view representing the card in the hand
+     * @param side the side of the hand ({@link #BOTTOM} or {@link #TOP})
+     * @param handIndex the index of the card in the hand
      */
-    public void createActionButtonsForCard(Card card,
-                                            ImageView view,
-                                            GridPane boardTarget,
-                                            HBox handBox,
-                                            TextArea cardInfoArea,
-                                            VBox actionZone,
-                                            boolean isOpponent) 
-    {
+    public void createActionButtonsForCard(Card card, CardView view, int side, int handIndex) {
         // Clear existing action buttons
         actionZone.getChildren().clear();
 
@@ -739,368 +910,173 @@ public class DuelBoard extends Application {
         Label selected = new Label("Selected card: " + card.getName());
         actionZone.getChildren().add(selected);
 
+        // Only the active player has legal moves
+        if (canAct(side)) {
+            engine.generateMoves(moves);
+        } else {
+            moves.clear();
+        }
+
         // Differentiate by card type
         if (card instanceof MonsterCard) {
-            Button summonBtn = new Button("Normal Summon");
-            Button setBtn = new Button("Set");
-            Button graveyardBtn = new Button("Send to Graveyard");
+            MonsterCard monster = (MonsterCard) card;
 
             // Normal Summon (face-up Attack Position)
-            summonBtn.setOnAction(ev -> {
-                int targetRow = isOpponent ? 1 : 0; // Monster row
-
-                // Create new ImageView with actual card image
-                ImageView visible = new ImageView(card.getImage());
-                visible.setFitWidth(88);
-                visible.setFitHeight(132);
-                visible.getProperties().put("card", card);
-
-                // Rotate if opponent's card (facing down the board)
-                if (isOpponent) {
-                    visible.setRotate(180);
-                }
-
-                // Remove from hand and place on field
-                handBox.getChildren().remove(view);
-                placeCardInZone(boardTarget, handBox, visible, card, targetRow, isOpponent, cardInfoArea, actionZone);
-
-                // Clear action zone after playing the card
-                actionZone.getChildren().clear();
-            });
+            Button summonBtn = new Button("Normal Summon");
+            summonBtn.setDisable(!moves.hasMove(Moves.NORMAL_SUMMON, handIndex));
+            summonBtn.setOnAction(ev -> chooseMove(Moves.NORMAL_SUMMON, handIndex));
 
             // Set (face-down Defense Position)
-            setBtn.setOnAction(ev -> {
-                int targetRow = isOpponent ? 1 : 0; // Monster row
-                try {
-                    Image backImage = new Image(getClass().getResource("/ui/card_back.png").toExternalForm());
-                    ImageView hidden = new ImageView(backImage);
-                    hidden.setFitWidth(88);
-                    hidden.setFitHeight(132);
-                    hidden.setRotate(90); // Horizontal for face-down defense
-                    hidden.getProperties().put("faceDown", true);
-                    hidden.getProperties().put("position", "DEF");
-
-                    handBox.getChildren().remove(view);
-                    placeCardInZone(boardTarget, handBox, hidden, card, targetRow, isOpponent, cardInfoArea, actionZone);
-
-                    // Clear action zone after playing the card
-                    actionZone.getChildren().clear();
-
-                } catch (Exception ex) {
-                    System.err.println("Error loading card back: " + ex.getMessage());
-                }
-            });
+            Button setBtn = new Button("Set");
+            setBtn.setDisable(!moves.hasMove(Moves.SET_MONSTER, handIndex));
+            setBtn.setOnAction(ev -> chooseMove(Moves.SET_MONSTER, handIndex));
 
-            // Send to Graveyard
-            graveyardBtn.setOnAction(ev -> {
-                handBox.getChildren().remove(view);
-                Object origin = view.getProperties().get("placedCell");
-                if (origin instanceof StackPane) {
-                    ((StackPane) origin).getChildren().remove(view);
-                }
-                Node graveyardCell = boardTarget.getChildren().stream()
-                    .filter(node -> node.getStyleClass().contains("graveyard-zone"))
-                    .findFirst()
-                    .orElse(null);
-                if (graveyardCell instanceof StackPane) {
-                    StackPane graveyardZone = (StackPane) graveyardCell;
-                    // Create smaller image for graveyard display
-                    ImageView graveyardView = new ImageView(card.getImage());
-                    graveyardView.setFitWidth(60);
-                    graveyardView.setFitHeight(90);
-                    graveyardView.getProperties().put("card", card); // Store card reference
-                    graveyardZone.getChildren().add(graveyardView);
-                }
-                cardInfoArea.setText(card.getName() + " sent to the Graveyard.");
-            });
+            actionZone.getChildren().addAll(summonBtn, setBtn);
 
-            actionZone.getChildren().addAll(summonBtn, setBtn, graveyardBtn);
+            int tributes = DuelEngine.tributesRequired(monster);
+            if (tributes > 0) {
+                actionZone.getChildren().add(new Label("Requires " + tributes + " tribute(s)"));
+            }
 
         } else if (card instanceof SpellCard || card instanceof TrapCard) {
-            Button setBtn = new Button("Set");
-            Button activateBtn = new Button("Activate");
-            Button graveyardBtn = new Button("Send to Graveyard");
-
             // Set (face-down)
-            setBtn.setOnAction(ev -> {
-                int targetRow = isOpponent ? 0 : 1; // Spell/Trap row
-                try {
-                    Image backImage = new Image(getClass().getResource("/ui/card_back.png").toExternalForm());
-                    ImageView hidden = new ImageView(backImage);
-                    hidden.setFitWidth(88);
-                    hidden.setFitHeight(132);
-                    hidden.getProperties().put("faceDown", true);
-
-                    handBox.getChildren().remove(view);
-                    placeCardInZone(boardTarget, handBox, hidden, card, targetRow, isOpponent, cardInfoArea, actionZone);
-
-                    // Clear action zone after playing the card
-                    actionZone.getChildren().clear();
-
-                } catch (Exception ex) {
-                    System.err.println("Error loading S/T back: " + ex.getMessage());
-                }
-            });
-
-            // Activate (face-up)
-            activateBtn.setOnAction(ev -> {
-                int targetRow = isOpponent ? 0 : 1;
-                ImageView visible = new ImageView(card.getImage());
-                visible.setFitWidth(88);
-                visible.setFitHeight(132);
-                if (isOpponent) visible.setRotate(180);
+            Button setBtn = new Button("Set");
+            setBtn.setDisable(!moves.hasMove(Moves.SET_SPELL_TRAP, handIndex));
+            setBtn.setOnAction(ev -> play(Moves.of(Moves.SET_SPELL_TRAP, handIndex)));
 
-                handBox.getChildren().remove(view);
-                placeCardInZone(boardTarget, handBox, visible, card, targetRow, isOpponent, cardInfoArea, actionZone);
+            // Activate (resolves, then goes to the Graveyard)
+            Button activateBtn = new Button("Activate");
+            activateBtn.setDisable(!moves.hasMove(Moves.ACTIVATE, handIndex));
+            activateBtn.setOnAction(ev -> play(Moves.of(Moves.ACTIVATE, handIndex)));
 
-                cardInfoArea.setText("Activating " + card.getName());
-                
-                // NEW: Apply the card's effect
-                applyCardEffect(card, boardTarget, handBox, isOpponent);
+            actionZone.getChildren().addAll(setBtn, activateBtn);
+        }
+    }
 
-                actionZone.getChildren().clear();
-            });
+    /**
+     * Plays a summon, or lets the player choose the tributes first.
+     * <p>
+     * The legal moves of the kind for the card are listed again. A single
+     * move (no tribute, or only one way to tribute) is played at once;
+     * otherwise one button per set of tributes is shown, with a Cancel button.
+     * </p>
+     *
+     * @param kind {@link Moves#NORMAL_SUMMON} or {@link Moves#SET_MONSTER}
+     * @param handIndex the index of the monster in the hand
+     */
+    private void chooseMove(int kind, int handIndex) {
+        engine.generateMoves(moves);
+        List<Integer> choices = new ArrayList<>();
+        for (int i = 0; i < moves.size(); i++) {
+            int move = moves.get(i);
+            if (Moves.kind(move) == kind && Moves.source(move) == handIndex) {
+                choices.add(move);
+            }
+        }
 
-            // Send to Graveyard
-            graveyardBtn.setOnAction(ev -> {
-                handBox.getChildren().remove(view);
-                Object origin = view.getProperties().get("placedCell");
-                if (origin instanceof StackPane) {
-                    ((StackPane) origin).getChildren().remove(view);
-                }
-                Node graveyardCell = boardTarget.getChildren().stream()
-                    .filter(node -> node.getStyleClass().contains("graveyard-zone"))
-                    .findFirst()
-                    .orElse(null);
-                if (graveyardCell instanceof StackPane) {
-                    StackPane graveyardZone = (StackPane) graveyardCell;
-                    // Create smaller image for graveyard display
-                    ImageView graveyardView = new ImageView(card.getImage());
-                    graveyardView.setFitWidth(60);
-                    graveyardView.setFitHeight(90);
-                    graveyardView.getProperties().put("card", card); // Store card reference
-                    graveyardZone.getChildren().add(graveyardView);
-                }
-                cardInfoArea.setText(card.getName() + " sent to the Graveyard.");
+        if (choices.isEmpty()) {
+            cardInfoArea.setText("This action is not allowed now.");
+            return;
+        }
+        if (choices.size() == 1) {
+            play(choices.get(0));
+            return;
+        }
 
-                // Clear action zone after playing the card
-                actionZone.getChildren().clear();
-            });
-            
-            actionZone.getChildren().addAll(setBtn, activateBtn, graveyardBtn);
+        actionZone.getChildren().clear();
+        actionZone.getChildren().add(new Label("Choose the tributes:"));
+        Board board = engine.getActivePlayer().getBoard();
+        for (int move : choices) {
+            String names = board.getMonster(Moves.target(move)).getName();
+            if (Moves.second(move) != Moves.NONE) {
+                names += " and " + board.getMonster(Moves.second(move)).getName();
+            }
+            Button tributeBtn = new Button("Tribute " + names);
+            tributeBtn.setOnAction(ev -> play(move));
+            actionZone.getChildren().add(tributeBtn);
         }
+        Button cancelBtn = new Button("Cancel");
+        cancelBtn.setOnAction(ev -> clearSelection());
+        actionZone.getChildren().add(cancelBtn);
     }
 
-        /**
+    /**
      * Creates and displays action buttons for a card already placed on the field.
      * <p>
-     * This method dynamically generates appropriate action buttons for cards that are
-     * currently on the game board (as opposed to cards in hand). The available actions
-     * depend on the card type, its current state (face-up/face-down, Attack/Defense),
-     * and the current game phase.
+     * As for the hand, each button is enabled only if the engine lists a move
+     * of its kind for the zone of the card ({@link MoveList#hasMove(int, int)}).
      * </p>
      * <p>
      * <strong>Monster Card Actions:</strong>
      * <ul>
-     * <li><strong>Send to Graveyard:</strong> Removes the monster from the field and
-     *     places it in the graveyard. Can be used for tributes, manual removal, or
-     *     destruction effects.</li>
-     * <li><strong>Flip:</strong> Flips a face-down monster face-up, revealing its identity
-     *     and stats. The monster is automatically set to Attack Position upon flipping.
-     *     If already face-up, displays a message indicating this.</li>
-     * <li><strong>Change Position:</strong> Switches the monster between Attack Position
-     *     (vertical, 0°/180°) and Defense Position (horizontal, 90°/270°). This follows
-     *     the Yu-Gi-Oh! rule that allows one position change per monster per turn (though
-     *     this restriction is not enforced by this method).</li>
-     * <li><strong>Attack (Battle Phase only):</strong> Available only during the Battle Phase
-     *     and only if the monster hasn't attacked yet this turn. Activates attack mode,
-     *     allowing the player to select an opponent's monster as a target.</li>
-     * <li><strong>Direct Attack (Battle Phase only):</strong> Allows the monster to attack
-     *     the opponent's life points directly. This button is styled in red (#ff6b6b) for
-     *     visibility. Direct attacks are only allowed if the opponent has no monsters on
-     *     the field; otherwise, an error message is displayed. After a successful direct
-     *     attack, the monster is marked as having attacked to prevent multiple attacks.</li>
+     * <li><strong>Change Position (Main Phases):</strong> Switches the monster between
+     *     Attack and Defense Position; a face-down monster is Flip Summoned in Attack
+     *     Position instead ({@link Moves#CHANGE_POSITION}). Disabled on the turn the
+     *     monster was summoned, after a change this turn and after an attack.</li>
+     * <li><strong>Attack (Battle Phase):</strong> Selects the monster as attacker;
+     *     the next click on an opponent's monster declares the attack
+     *     ({@link Moves#ATTACK}). Disabled for monsters in Defense Position and
+     *     when the opponent controls no monster.</li>
+     * <li><strong>Direct Attack (Battle Phase):</strong> Attacks the opponent's Life
+     *     Points directly ({@link Moves#DIRECT_ATTACK}), only when they control no
+     *     monster. This button is styled in red (#ff6b6b) for visibility.</li>
      * </ul>
+     * Monsters that have attacked show a red label instead of the attack buttons.
      * </p>
      * <p>
-     * <strong>Field Spell Card Actions:</strong>
+     * <strong>Set Spell/Trap Card Actions:</strong>
      * <ul>
-     * <li><strong>Activate:</strong> Activates a face-down field spell, revealing its image
-     *     and moving it to the field zone if not already there. Only one field spell can
-     *     be active at a time per player, so activating a new one clears the previous.</li>
-     * <li><strong>Send to Graveyard:</strong> Removes the field spell from the field zone
-     *     and sends it to the graveyard.</li>
+     * <li><strong>Activate:</strong> Activates a Set card with an implemented effect
+     *     ({@link Moves#ACTIVATE_SET}); it resolves and goes to the Graveyard.</li>
      * </ul>
      * </p>
      * <p>
-     * <strong>Regular Spell/Trap Card Actions:</strong>
-     * <ul>
-     * <li><strong>Activate:</strong> Flips a face-down spell/trap card face-up, revealing
-     *     its effect. The card image is displayed with proper rotation. If already face-up,
-     *     displays a message indicating this.</li>
-     * <li><strong>Send to Graveyard:</strong> Removes the spell/trap from its zone and
-     *     sends it to the graveyard. Used after activation for non-continuous cards or
-     *     for manual removal.</li>
-     * </ul>
-     * </p>
-     * <p>
-     * <strong>Attack System Details:</strong>
-     * The attack functionality works in two stages:
-     * <ol>
-     * <li>Player clicks "Attack" button → enters attack mode, stores attacking monster</li>
-     * <li>Player clicks on opponent's monster → resolves battle via
-     *     {@link #resolveBattle(MonsterCard, ImageView, MonsterCard, ImageView, boolean)}</li>
-     * </ol>
-     * Direct attacks check for opponent monsters using {@link #hasOpponentMonsters(boolean)}
-     * and apply damage directly to life points via {@link #directAttack(int)} or manual
-     * LP reduction.
-     * </p>
-     * <p>
-     * <strong>Visual Feedback:</strong>
-     * <ul>
-     * <li>Position changes update rotation: 0°/180° for Attack, 90°/270° for Defense</li>
-     * <li>Face-down to face-up flipping reveals the actual card image</li>
-     * <li>Cards sent to graveyard are displayed as smaller images (60x90) in graveyard zone</li>
-     * <li>Opponent's cards are rotated 180° to face away from the player</li>
-     * <li>Monsters that have attacked show a red warning label instead of attack buttons</li>
-     * </ul>
-     * </p>
-     * <p>
-     * <strong>Note on Game Rules:</strong>
-     * This method does not enforce several official Yu-Gi-Oh! rules:
-     * <ul>
-     * <li>One position change per turn per monster</li>
-     * <li>Cannot change position on the turn a monster is summoned</li>
-     * <li>Cannot attack on the turn a monster is summoned</li>
-     * <li>Trap cards cannot be activated the turn they are set</li>
-     * </ul>
-     * Higher-level game logic should enforce these restrictions.
+     * The opponent's cards only show their name, or nothing if face-down.
      * </p>
      *
      * @param card the Card object that is placed on the field
-     * @param placed the ImageView representing the card's visual appearance on the field
-     * @param boardTarget the GridPane containing the game board zones
-     * @param handBox the HBox containing the player's hand (not used for placed cards but kept for consistency)
-     * @param cardInfoArea the TextArea for displaying action results and card information
-     * @param actionZone the VBox where the action buttons will be displayed
-     * @param isOpponent true if the card belongs to the opponent (affects rotation and damage calculations)
+     * @param placed the view representing the card's visual appearance on the field
+     * @param side the side of the card ({@link #BOTTOM} or {@link #TOP})
+     * @param zone the monster or Spell/Trap zone of the card (0-4)
      */
-    public void createActionButtonsForPlacedCard(Card card,
-                                                ImageView placed,
-                                                GridPane boardTarget,
-                                                HBox handBox,
-                                                TextArea cardInfoArea,
-                                                VBox actionZone,
-                                                boolean isOpponent) 
-    {
+    public void createActionButtonsForPlacedCard(Card card, CardView placed, int side, int zone) {
         // Clear existing action buttons
         actionZone.getChildren().clear();
 
-        Label selected = new Label("Card on field: " + card.getName());
+        boolean hidden = placed.isOpponent() && placed.isFaceDown();
+        Label selected = new Label("Card on field: " + (hidden ? "face-down card" : card.getName()));
         actionZone.getChildren().add(selected);
 
+        if (!canAct(side)) return;
+        engine.generateMoves(moves);
+
         if (card instanceof MonsterCard) {
             MonsterCard monster = (MonsterCard) card;
 
-            // === Monster Card Buttons ===
-            Button graveyardBtn = new Button("Send to Graveyard");
-            graveyardBtn.setOnAction(ev -> {
-                Object origin = placed.getProperties().get("placedCell");
-                if (origin instanceof StackPane) {
-                    ((StackPane) origin).getChildren().remove(placed);
-                }
-                Node graveyardCell = boardTarget.getChildren().stream()
-                    .filter(node -> node.getStyleClass().contains("graveyard-zone"))
-                    .findFirst()
-                    .orElse(null);
-                if (graveyardCell instanceof StackPane) {
-                    StackPane graveyardZone = (StackPane) graveyardCell;
-                    // Create smaller image for graveyard display
-                    ImageView graveyardView = new ImageView(card.getImage());
-                    graveyardView.setFitWidth(60);
-                    graveyardView.setFitHeight(90);
-                    graveyardView.getProperties().put("card", card); // Store card reference
-                    graveyardZone.getChildren().add(graveyardView);
-                }
-                cardInfoArea.setText(card.getName() + " sent to the Graveyard.");
-            });
-
-            Button flipBtn = new Button("Flip");
-            flipBtn.setOnAction(ev -> {
-                boolean faceDown = (boolean) placed.getProperties().getOrDefault("faceDown", false);
-                if (faceDown) {
-                    placed.setImage(card.getImage());
-                    boolean opponent = (boolean) placed.getProperties().getOrDefault("isOpponent", false);
-                    placed.setRotate(opponent ? 180 : 0);
-                    placed.getProperties().put("faceDown", false);
-                    placed.getProperties().put("position", "ATK");
-                    cardInfoArea.setText(card.getName() + " is flipped face-up in ATK.");
-                } else {
-                    cardInfoArea.setText(card.getName() + " is already face-up.");
-                }
-            });
-
-            Button changePosBtn = new Button("Change Position");
-            changePosBtn.setOnAction(ev -> {
-                String pos = (String) placed.getProperties().getOrDefault("position", "ATK");
-                boolean opponent = (boolean) placed.getProperties().getOrDefault("isOpponent", false);
-
-                if ("ATK".equals(pos)) {
-                    placed.setRotate(opponent ? 270 : 90);
-                    placed.getProperties().put("position", "DEF");
-                    cardInfoArea.setText(card.getName() + " switched to DEF Position.");
-                } else {
-                    placed.setRotate(opponent ? 180 : 0);
-                    placed.getProperties().put("position", "ATK");
-                    cardInfoArea.setText(card.getName() + " switched to ATK Position.");
-                }
-            });
+            if (engine.isMainPhase()) {
+                Button changePosBtn = new Button(
+                    monster.getPosition() == Position.FACE_DOWN ? "Flip Summon" : "Change Position");
+                changePosBtn.setDisable(!moves.hasMove(Moves.CHANGE_POSITION, zone));
+                changePosBtn.setOnAction(ev -> play(Moves.of(Moves.CHANGE_POSITION, zone)));
+                actionZone.getChildren().add(changePosBtn);
+            }
 
-            // Attack button only available during Battle Phase
-            if (game != null && game.getCurrentPhase() == Phase.BP) {
-                boolean hasAttacked = (boolean) placed.getProperties().getOrDefault("hasAttacked", false);
-                
-                if (!hasAttacked) {
+            // Attack buttons only available during Battle Phase
+            if (engine.getPhase() == Phase.BP) {
+                if (!monster.hasAttackedThisTurn()) {
                     Button attackBtn = new Button("Attack");
+                    attackBtn.setDisable(!moves.hasMove(Moves.ATTACK, zone));
                     attackBtn.setOnAction(ev -> {
-                        attackMode = true;
-                        attackerCard = monster;
-                        attackerView = placed;
+                        attackerZone = zone;
                         cardInfoArea.setText(monster.getName() + " declares an attack. Select an opponent's monster.");
                     });
-                    actionZone.getChildren().add(attackBtn);
-                    
-                    // NEW: Direct Attack Button
+
                     Button directAttackBtn = new Button("Direct Attack");
                     directAttackBtn.setStyle("-fx-background-color: #ff6b6b; -fx-text-fill: white;");
-                    directAttackBtn.setOnAction(ev -> {
-                        // Check if opponent has any monsters
-                        boolean opponentHasMonsters = hasOpponentMonsters(isOpponent);
-                        
-                        if (opponentHasMonsters) {
-                            cardInfoArea.setText("Cannot attack directly: opponent has monsters! You must attack them.");
-                        } else {
-                            // Direct attack
-                            if (isOpponent) {
-                                // Opponent's monster attacks the player
-                                directAttack(monster.getAtk());
-                            } else {
-                                // Player's monster attacks the opponent
-                                lp2[0] -= monster.getAtk();
-                                lpJoueur2.setText(joueur2.getName() + " LP: " + lp2[0]);
-                                cardInfoArea.setText(monster.getName() + " attacks directly for " + monster.getAtk() + " damage!");
-                                checkVictoryConditions();
-                            }
-                            
-                            // Mark monster as having attacked
-                            placed.getProperties().put("hasAttacked", true);
-                            
-                            // Clear action zone
-                            actionZone.getChildren().clear();
-                        }
-                    });
-                    actionZone.getChildren().add(directAttackBtn);
-                    
+                    directAttackBtn.setDisable(!moves.hasMove(Moves.DIRECT_ATTACK, zone));
+                    directAttackBtn.setOnAction(ev -> play(Moves.of(Moves.DIRECT_ATTACK, zone)));
+
+                    actionZone.getChildren().addAll(attackBtn, directAttackBtn);
                 } else {
                     Label alreadyAttacked = new Label("This monster has already attacked");
                     alreadyAttacked.setStyle("-fx-text-fill: #ff6b6b;");
@@ -1108,238 +1084,278 @@ public class DuelBoard extends Application {
                 }
             }
 
-            actionZone.getChildren().addAll(graveyardBtn, flipBtn, changePosBtn);
-            
-        } else if (card instanceof SpellCard) {
-            SpellCard spell = (SpellCard) card;
-
-            if ("Field".equals(spell.getSpellType())) {
-                // === Field Spell Card Buttons ===
-                Button activateBtn = new Button("Activate");
-                activateBtn.setOnAction(ev -> {
-                    placed.setImage(card.getImage());
-                    placed.setRotate(isOpponent ? 180 : 0);
-                    placed.getProperties().put("faceDown", false);
-
-                    // Place in field zone
-                    Node fieldCell = boardTarget.getChildren().stream()
-                        .filter(node -> node.getStyleClass().contains("terrain-zone"))
-                        .findFirst()
-                        .orElse(null);
-
-                    if (fieldCell instanceof StackPane) {
-                        StackPane fieldZone = (StackPane) fieldCell;
-                        fieldZone.getChildren().clear(); // Only one Field Spell at a time
-                        fieldZone.getChildren().add(placed);
-                    }
-
-                    cardInfoArea.setText("Activating Field Spell: " + card.getName());
-                });
-
-                Button graveyardBtn = new Button("Send to Graveyard");
-                graveyardBtn.setOnAction(ev -> {
-                    Object origin = placed.getProperties().get("placedCell");
-                    if (origin instanceof StackPane) {
-                        ((StackPane) origin).getChildren().remove(placed);
-                    }
-                    Node graveyardCell = boardTarget.getChildren().stream()
-                        .filter(node -> node.getStyleClass().contains("graveyard-zone"))
-                        .findFirst()
-                        .orElse(null);
-                    if (graveyardCell instanceof StackPane) {
-                        StackPane graveyardZone = (StackPane) graveyardCell;
-                        ImageView graveyardView = new ImageView(card.getImage());
-                        graveyardView.setFitWidth(60);
-                        graveyardView.setFitHeight(90);
-                        graveyardView.getProperties().put("card", card);
-                        graveyardZone.getChildren().add(graveyardView);
-                    }
-                    cardInfoArea.setText(card.getName() + " sent to the Graveyard.");
-                });
-
-                actionZone.getChildren().addAll(activateBtn, graveyardBtn);
-
-            } else {
-                // === Regular Spell Card Buttons ===
-                Button activateBtn = new Button("Activate");
-                activateBtn.setOnAction(ev -> {
-                    boolean faceDown = (boolean) placed.getProperties().getOrDefault("faceDown", true);
-                    if (faceDown) {
-                        placed.setImage(card.getImage());
-                        placed.setRotate(isOpponent ? 180 : 0);
-                        placed.getProperties().put("faceDown", false);
-                        cardInfoArea.setText("Activating " + card.getName());
-                    } else {
-                        cardInfoArea.setText(card.getName() + " is already activated.");
-                    }
-                });
-
-                Button graveyardBtn = new Button("Send to Graveyard");
-                graveyardBtn.setOnAction(ev -> {
-                    Object origin = placed.getProperties().get("placedCell");
-                    if (origin instanceof StackPane) {
-                        ((StackPane) origin).getChildren().remove(placed);
-                    }
-                    Node graveyardCell = boardTarget.getChildren().stream()
-                        .filter(node -> node.getStyleClass().contains("graveyard-zone"))
-                        .findFirst()
-                        .orElse(null);
-                    if (graveyardCell instanceof StackPane) {
-                        StackPane graveyardZone = (StackPane) graveyardCell;
-                        ImageView graveyardView = new ImageView(card.getImage());
-                        graveyardView.setFitWidth(60);
-                        graveyardView.setFitHeight(90);
-                        graveyardView.getProperties().put("card", card);
-                        graveyardZone.getChildren().add(graveyardView);
-                    }
-                    cardInfoArea.setText(card.getName() + " sent to the Graveyard.");
-                });
-
-                actionZone.getChildren().addAll(activateBtn, graveyardBtn);
-            }
-        } else if (card instanceof TrapCard) {
-            // === Trap Card Buttons (NEW) ===
+        } else {
             Button activateBtn = new Button("Activate");
-            activateBtn.setOnAction(ev -> {
-                boolean faceDown = (boolean) placed.getProperties().getOrDefault("faceDown", true);
-                if (faceDown) {
-                    placed.setImage(card.getImage());
-                    placed.setRotate(isOpponent ? 180 : 0);
-                    placed.getProperties().put("faceDown", false);
-                    cardInfoArea.setText("Activating Trap: " + card.getName());
-                    // Optionnel: Appeler un effet ici si vous en ajoutez un jour
-                } else {
-                    cardInfoArea.setText(card.getName() + " is already activated.");
-                }
-            });
-
-            Button graveyardBtn = new Button("Send to Graveyard");
-            graveyardBtn.setOnAction(ev -> {
-                Object origin = placed.getProperties().get("placedCell");
-                if (origin instanceof StackPane) {
-                    ((StackPane) origin).getChildren().remove(placed);
-                }
-                Node graveyardCell = boardTarget.getChildren().stream()
-                    .filter(node -> node.getStyleClass().contains("graveyard-zone"))
-                    .findFirst()
-                    .orElse(null);
-                if (graveyardCell instanceof StackPane) {
-                    StackPane graveyardZone = (StackPane) graveyardCell;
-                    ImageView graveyardView = new ImageView(card.getImage());
-                    graveyardView.setFitWidth(60);
-                    graveyardView.setFitHeight(90);
-                    graveyardView.getProperties().put("card", card);
-                    graveyardZone.getChildren().add(graveyardView);
-                }
-                cardInfoArea.setText(card.getName() + " sent to the Graveyard.");
-            });
+            activateBtn.setDisable(!moves.hasMove(Moves.ACTIVATE_SET, zone));
+            activateBtn.setOnAction(ev -> play(Moves.of(Moves.ACTIVATE_SET, zone)));
+            actionZone.getChildren().add(activateBtn);
+        }
+    }
 
-            actionZone.getChildren().addAll(activateBtn, graveyardBtn);
+    /**
+     * Declares the attack of the selected attacker on an opponent's monster.
+     *
+     * @param target the opponent's monster zone (0-4)
+     */
+    private void declareAttack(int target) {
+        int move = Moves.of(Moves.ATTACK, attackerZone, target, Moves.NONE);
+        attackerZone = -1;
+        engine.generateMoves(moves);
+        if (!moves.contains(move)) {
+            cardInfoArea.setText("This attack is not allowed.");
+            return;
         }
+        play(move);
     }
 
-        /**
-     * Checks if the opponent has any monsters on their field.
-     * <p>
-     * This method is used to determine whether a direct attack is allowed. In Yu-Gi-Oh!,
-     * players can only attack the opponent's life points directly if the opponent has
-     * no monsters on the field. If any monsters are present, they must be attacked first.
-     * </p>
+    /**
+     * Plays a move of the local player on the engine and redraws the board.
      * <p>
-     * The method checks all 5 monster zones (columns 1-5) on the appropriate board:
-     * <ul>
-     * <li>If checking from an opponent's monster perspective (isOpponent=true), checks
-     *     the player's board (boardJoueur1, row 0)</li>
-     * <li>If checking from the player's monster perspective (isOpponent=false), checks
-     *     the opponent's board (opponentBoard, row 1)</li>
-     * </ul>
+     * The move is described before it is played (the cards it names may
+     * leave the field), and the description is shown once the board is redrawn.
      * </p>
+     *
+     * @param move the packed move
+     * @return true if the engine accepted the move
+     */
+    private boolean play(int move) {
+        String description = describeMove(move);
+        boolean played;
+        if (isLocalDuel()) {
+            played = engine.play(move);
+        } else {
+            byte[] command = Commands.encode(move);
+            played = submit(command[0], Arrays.copyOfRange(command, 1, command.length));
+        }
+        if (!played) {
+            cardInfoArea.setText("This action is not allowed now.");
+            return false;
+        }
+        recordAction(isUndoable(move));
+        refresh();
+        cardInfoArea.setText(description);
+        return true;
+    }
+
+    /**
+     * Sends a command of the active player, to the server or through its
+     * peer in a hot-seat duel.
      * <p>
-     * A zone is considered to contain a monster if it has an ImageView child whose
-     * stored "card" property is an instance of MonsterCard.
+     * Online, the board then shows the state the server sent back, and
+     * follows the opponent's turn if the command ended the client's. In
+     * hot-seat, the frames of both peers are delivered until none is in
+     * flight, so the command, and any resync it caused, is applied on both
+     * engines before the board is redrawn.
      * </p>
      *
-     * @param isOpponent true if checking from an opponent's monster perspective (checks player's field),
-     *                   false if checking from player's monster perspective (checks opponent's field)
-     * @return true if at least one monster is found on the target field, false if no monsters exist
+     * @param opcode the command ({@link Protocol#SUMMON}, ...)
+     * @param payload the payload of the command
+     * @return false if the server or the peer refused the command
      */
-    public boolean hasOpponentMonsters(boolean isOpponent) {
-        // If it's an opponent's monster wanting to attack, check the player's field
-        // If it's the player's monster wanting to attack, check the opponent's field
-        GridPane targetBoard = isOpponent ? boardJoueur1 : opponentBoard;
-        int targetRow = isOpponent ? 0 : 1;
-        
-        for (int col = 1; col <= 5; col++) {
-            final int currentCol = col;
-            Node cell = targetBoard.getChildren().stream()
-                .filter(n -> {
-                    Integer rowIdx = GridPane.getRowIndex(n);
-                    Integer colIdx = GridPane.getColumnIndex(n);
-                    int row = (rowIdx == null) ? 0 : rowIdx;
-                    int column = (colIdx == null) ? 0 : colIdx;
-                    return row == targetRow && column == currentCol;
-                })
-                .findFirst()
-                .orElse(null);
-            
-            if (cell instanceof StackPane) {
-                StackPane zone = (StackPane) cell;
-                // Check if the zone contains a monster
-                for (Node child : zone.getChildren()) {
-                    if (child instanceof ImageView) {
-                        Object cardObj = ((ImageView) child).getProperties().get("card");
-                        if (cardObj instanceof MonsterCard) {
-                            return true; // At least one monster found
-                        }
-                    }
+    private boolean submit(byte opcode, byte... payload) {
+        if (client != null) {
+            try {
+                boolean accepted = client.send(opcode, payload);
+                showState(client.getState());
+                if (!engine.isOver() && engine.getActiveIndex() != BOTTOM) {
+                    awaitOpponent();
                 }
+                return accepted;
+            } catch (IOException e) {
+                connectionLost(e);
+                return false;
             }
         }
-        
-        return false; // No monsters found
+        int resyncs = peers[TOP].getResyncs();
+        boolean applied = peers[engine.getActiveIndex()].submit(opcode, payload);
+        while (peers[BOTTOM].hasPendingFrames() || peers[TOP].hasPendingFrames()) {
+            for (int side = BOTTOM; side <= TOP; side++) {
+                ByteBuffer frame;
+                while ((frame = peers[side].poll()) != null) {
+                    frame.getShort();
+                    peers[1 - side].receive(frame);
+                }
+            }
+        }
+        if (peers[TOP].getResyncs() != resyncs) {
+            System.err.println("Hot-seat engines diverged, player 2 resynchronized from player 1");
+        }
+        return applied;
     }
 
     /**
-     * Refreshes the action zone for the currently selected card.
-     * <p>
-     * This utility method regenerates the action buttons for the currently selected
-     * card and updates the action zone display. It's useful when the game state changes
-     * and the available actions for a card need to be recalculated (such as after a
-     * phase change or after a card effect resolves).
-     * </p>
+     * Shows a state of the online duel.
+     *
+     * @param state the latest state sent by the server
+     */
+    private void showState(RemoteState state) {
+        engine = remote.update(state);
+        joueur1 = engine.getPlayer(BOTTOM);
+        joueur2 = engine.getPlayer(TOP);
+        refresh();
+    }
+
+    /**
+     * Follows the opponent's turn of an online duel.
      * <p>
-     * If no card is currently selected ({@code selectedCard} or {@code selectedView} is null),
-     * this method does nothing.
+     * A daemon thread waits for the states sent by the server and shows each
+     * one on the JavaFX thread, until the client's turn comes back or the
+     * duel ends. The client sends nothing meanwhile: no action is allowed
+     * while it is not its turn.
      * </p>
+     */
+    private void awaitOpponent() {
+        Thread waiter = new Thread(() -> {
+            try {
+                RemoteState state;
+                do {
+                    state = client.awaitState();
+                    RemoteState shown = state;
+                    Platform.runLater(() -> showState(shown));
+                } while (!state.isOver() && !state.isMyTurn());
+            } catch (IOException e) {
+                Platform.runLater(() -> connectionLost(e));
+            }
+        }, "duel-client");
+        waiter.setDaemon(true);
+        waiter.start();
+    }
+
+    /**
+     * Reports the loss of the connection to the server of an online duel.
+     *
+     * @param e the error of the connection
+     */
+    private void connectionLost(IOException e) {
+        cardInfoArea.setText("Connection to the server lost: " + e.getMessage());
+    }
+
+    /**
+     * Checks if a move can be taken back by Undo.
      * <p>
-     * <strong>Note:</strong> This implementation passes null for boardTarget and handBox
-     * parameters, which may cause issues if those parameters are needed by
-     * {@link #createActionButtonsForPlacedCard}. Consider passing actual values if needed.
+     * Battles flip face-down monsters and card effects can draw or search:
+     * undoing them would let the player replay with what they revealed.
      * </p>
+     *
+     * @param move the packed move
+     * @return true for summons, Sets and position changes
      */
-    public void refreshActionZone() {
-        if (selectedCard != null && selectedView != null) {
-            createActionButtonsForPlacedCard(
-                selectedCard,
-                selectedView,
-                null,   // TODO: Pass actual boardTarget if needed
-                null,   // TODO: Pass actual handBox if needed
-                cardInfoArea,
-                actionZone,
-                false   // TODO: Determine if card is opponent's
-            );
+    private static boolean isUndoable(int move) {
+        switch (Moves.kind(move)) {
+            case Moves.NORMAL_SUMMON:
+            case Moves.SET_MONSTER:
+            case Moves.CHANGE_POSITION:
+            case Moves.SET_SPELL_TRAP:
+                return true;
+            default:
+                return false;
         }
     }
 
     /**
-     * Resolves a battle between two monsters following Yu-Gi-Oh! battle mechanics.
+     * Counts a new action of the local player for Undo and Redo.
      * <p>
-     * This method calculates battle outcomes based on the positions and stats of both
-     * monsters, applies battle damage to the appropriate player, and sends destroyed
-     * monsters to the graveyard. It follows official Yu-Gi-Oh! battle rules.
+     * A new action drops the undone ones, which can no longer be redone; an
+     * action that cannot be undone also closes the actions before it.
      * </p>
+     *
+     * @param canUndo true if the action can be undone
+     */
+    private void recordAction(boolean canUndo) {
+        undoable = canUndo ? undoable + 1 : 0;
+        redoable = 0;
+    }
+
+    /**
+     * Takes back the last action of the local player this turn.
+     */
+    private void undo() {
+        if (!isLocalDuel() || !canAct(engine.getActiveIndex()) || undoable == 0) return;
+        if (engine.undo()) {
+            undoable--;
+            redoable++;
+            refresh();
+            cardInfoArea.setText("Last action undone.");
+        } else {
+            // Older than the history kept by the engine
+            undoable = 0;
+            updateControls();
+        }
+    }
+
+    /**
+     * Plays again the last action taken back by {@link #undo()}.
+     */
+    private void redo() {
+        if (!isLocalDuel() || !canAct(engine.getActiveIndex()) || redoable == 0) return;
+        if (engine.redo()) {
+            redoable--;
+            undoable++;
+            refresh();
+            cardInfoArea.setText("Action redone.");
+        } else {
+            redoable = 0;
+            updateControls();
+        }
+    }
+
+    /**
+     * Describes a move of the active player before it is played.
+     *
+     * @param move the packed move
+     * @return the message shown in the card information area
+     */
+    private String describeMove(int move) {
+        Player player = engine.getActivePlayer();
+        Board board = player.getBoard();
+        int source = Moves.source(move);
+        switch (Moves.kind(move)) {
+            case Moves.NORMAL_SUMMON:
+                return player.getHand().getCard(source).getName() + " is Normal Summoned in ATK.";
+            case Moves.SET_MONSTER:
+                return player.getHand().getCard(source).getName() + " is Set in DEF.";
+            case Moves.CHANGE_POSITION: {
+                MonsterCard monster = board.getMonster(source);
+                if (monster.getPosition() == Position.FACE_DOWN) {
+                    return monster.getName() + " is flipped face-up in ATK.";
+                }
+                return monster.getName() + " switched to "
+                        + (monster.getPosition() == Position.ATTACK ? "DEF" : "ATK") + " Position.";
+            }
+            case Moves.SET_SPELL_TRAP:
+                return player.getHand().getCard(source).getName() + " is Set.";
+            case Moves.ACTIVATE:
+                return describeActivation(player.getHand().getCard(source));
+            case Moves.ACTIVATE_SET:
+                return describeActivation(board.getSpellTrap(source));
+            case Moves.ATTACK:
+                return describeBattle(board.getMonster(source),
+                                      engine.getOpponent().getBoard().getMonster(Moves.target(move)));
+            case Moves.DIRECT_ATTACK: {
+                MonsterCard attacker = board.getMonster(source);
+                return attacker.getName() + " attacks directly for " + attacker.getAtk() + " damage!";
+            }
+            default:
+                return Moves.toString(move);
+        }
+    }
+
+    /**
+     * Describes the activation of a card with its effect.
+     *
+     * @param card the activated card
+     * @return the message shown in the card information area
+     */
+    private String describeActivation(Card card) {
+        Effect effect = EffectRegistry.get(card.getCardId());
+        return card.getName() + " activated! " + (effect == null ? "" : effect.getDescription());
+    }
+
+    /**
+     * Describes a battle before the engine resolves it.
      * <p>
-     * <strong>Battle Calculation Rules:</strong>
+     * The outcome is computed with {@link BattleResolver}, exactly as the
+     * engine will, following official Yu-Gi-Oh! battle rules:
      * </p>
      * <p>
      * <strong>Attack vs Defense Position:</strong>
@@ -1360,841 +1376,470 @@ public class DuelBoard extends Application {
      * <li><strong>Equal ATK:</strong> Both monsters are destroyed. No damage to either player.</li>
      * </ul>
      * </p>
-     * <p>
-     * After battle resolution, the method automatically checks victory conditions via
-     * {@link #checkVictoryConditions()} to determine if any player's life points have
-     * reached 0 or below.
-     * </p>
-     * <p>
-     * The attacking monster is marked as having attacked this turn by setting the
-     * "hasAttacked" property to true, preventing multiple attacks per turn.
-     * </p>
      *
      * @param attacker the MonsterCard performing the attack
-     * @param attackerView the ImageView representing the attacker on the field
      * @param defender the MonsterCard being attacked
-     * @param defenderView the ImageView representing the defender on the field
-     * @param defenderIsOpponent true if the defender belongs to the opponent, false if it belongs to the player
+     * @return the message shown in the card information area
      */
-    public void resolveBattle(MonsterCard attacker, ImageView attackerView,
-                            MonsterCard defender, ImageView defenderView,
-                            boolean defenderIsOpponent) 
-    {
-        // Mark attacker as having attacked this turn
-        attackerView.getProperties().put("hasAttacked", true);
-        
-        String defenderPos = (String) defenderView.getProperties().getOrDefault("position", "ATK");
-        int atkAttacker = attacker.getAtk();
-        int atkDefender = defender.getAtk();
-        int defDefender = defender.getDef();
-
-        if ("DEF".equals(defenderPos)) {
+    private String describeBattle(MonsterCard attacker, MonsterCard defender) {
+        long outcome = BattleResolver.resolve(attacker, defender);
+        boolean attackerDestroyed = BattleResolver.isAttackerDestroyed(outcome);
+        boolean defenderDestroyed = BattleResolver.isDefenderDestroyed(outcome);
+        int damageToAttacker = BattleResolver.damageToAttacker(outcome);
+        int damageToDefender = BattleResolver.damageToDefender(outcome);
+
+        if (defender.getPosition() != Position.ATTACK) {
             // Battle against Defense Position
-            if (atkAttacker > defDefender) {
-                sendToGraveyard(defender, defenderView, defenderIsOpponent ? opponentBoard : boardJoueur1);
-                cardInfoArea.setText(attacker.getName() + " destroys " + defender.getName() + " in DEF.");
-            } else if (atkAttacker < defDefender) {
-                int damage = defDefender - atkAttacker;
-                
-                // Apply damage to attacker's controller
-                if (defenderIsOpponent) {
-                    lp1[0] -= damage;
-                    lpJoueur1.setText(joueur1.getName() + " LP: " + lp1[0]);
-                } else {
-                    lp2[0] -= damage;
-                    lpJoueur2.setText(joueur2.getName() + " LP: " + lp2[0]);
-                }
-                
-                cardInfoArea.setText(attacker.getName() + " attacks " + defender.getName() + 
-                                " in DEF but fails. Damage: " + damage);
-            } else {
-                cardInfoArea.setText("Draw: ATK = DEF, no monsters destroyed.");
-            }
-        } else {
-            // Battle against Attack Position
-            if (atkAttacker > atkDefender) {
-                int damage = atkAttacker - atkDefender;
-                sendToGraveyard(defender, defenderView, defenderIsOpponent ? opponentBoard : boardJoueur1);
-                
-                // Apply damage to defender's controller
-                if (defenderIsOpponent) {
-                    lp2[0] -= damage;
-                    lpJoueur2.setText(joueur2.getName() + " LP: " + lp2[0]);
-                } else {
-                    lp1[0] -= damage;
-                    lpJoueur1.setText(joueur1.getName() + " LP: " + lp1[0]);
-                }
-                
-                cardInfoArea.setText(attacker.getName() + " destroys " + defender.getName() + 
-                                " in ATK. Damage: " + damage);
-            } else if (atkAttacker < atkDefender) {
-                int damage = atkDefender - atkAttacker;
-                sendToGraveyard(attacker, attackerView, defenderIsOpponent ? boardJoueur1 : opponentBoard);
-                
-                // Apply damage to attacker's controller
-                if (defenderIsOpponent) {
-                    lp1[0] -= damage;
-                    lpJoueur1.setText(joueur1.getName() + " LP: " + lp1[0]);
-                } else {
-                    lp2[0] -= damage;
-                    lpJoueur2.setText(joueur2.getName() + " LP: " + lp2[0]);
-                }
-                
-                cardInfoArea.setText(attacker.getName() + " is destroyed by " + defender.getName() + 
-                                " in ATK. Damage: " + damage);
-            } else {
-                // Equal ATK: both destroyed
-                sendToGraveyard(attacker, attackerView, defenderIsOpponent ? boardJoueur1 : opponentBoard);
-                sendToGraveyard(defender, defenderView, defenderIsOpponent ? opponentBoard : boardJoueur1);
-                cardInfoArea.setText("Draw: both monsters are destroyed.");
+            if (defenderDestroyed) {
+                return attacker.getName() + " destroys " + defender.getName() + " in DEF.";
+            } else if (damageToAttacker > 0) {
+                return attacker.getName() + " attacks " + defender.getName() +
+                       " in DEF but fails. Damage: " + damageToAttacker;
             }
+            return "Draw: ATK = DEF, no monsters destroyed.";
+        } else if (attackerDestroyed && defenderDestroyed) {
+            // Equal ATK: both destroyed
+            return "Draw: both monsters are destroyed.";
+        } else if (defenderDestroyed) {
+            return attacker.getName() + " destroys " + defender.getName() +
+                   " in ATK. Damage: " + damageToDefender;
         }
-        
-        // Check victory conditions after battle
-        checkVictoryConditions();
+        return attacker.getName() + " is destroyed by " + defender.getName() +
+               " in ATK. Damage: " + damageToAttacker;
     }
 
     /**
-     * Sends a card to the graveyard, handling all necessary UI updates.
+     * Enables the phase buttons and the End Turn button for the local player.
      * <p>
-     * This method performs three critical operations when a card is sent to the graveyard:
-     * <ol>
-     * <li>Removes the card's ImageView from its current zone on the field</li>
-     * <li>Locates the appropriate graveyard zone on the target board</li>
-     * <li>Creates a new smaller ImageView (60x90) of the card and adds it to the graveyard</li>
-     * </ol>
+     * From Main Phase 1 the player can enter the Battle Phase (not on the
+     * first turn of the duel) or Main Phase 2; from the Battle Phase, Main
+     * Phase 2; and the End Phase (or End Turn) passes the turn. The Draw and
+     * Standby Phases are run by the engine when the turn begins.
      * </p>
-     * <p>
-     * The method handles two possible graveyard zone locations:
-     * <ul>
-     * <li>Direct child of the GridPane (typical for player's graveyard)</li>
-     * <li>Child of an HBox within the GridPane (typical for opponent's graveyard,
-     *     which may be grouped with the banished zone)</li>
-     * </ul>
-     * </p>
-     * <p>
-     * The card reference is stored in the graveyard ImageView's properties for potential
-     * future interactions (such as revival effects or graveyard examination).
-     * </p>
-     * <p>
-     * <strong>Debugging Output:</strong>
-     * The method prints debug information to the console, showing:
-     * <ul>
-     * <li>The name of the card being sent</li>
-     * <li>Which board's graveyard is being targeted (Player or Opponent)</li>
-     * <li>Whether the graveyard zone was successfully found</li>
-     * </ul>
-     * </p>
-     * <p>
-     * If the graveyard zone cannot be located, an error message is printed to the console
-     * and no visual update occurs (though the card is still removed from its original zone).
-     * </p>
-     *
-     * @param card the Card object being sent to the graveyard
-     * @param view the ImageView representing the card on the field (to be removed)
-     * @param boardTarget the GridPane containing the graveyard zone where the card should be sent
      */
-    public void sendToGraveyard(Card card, ImageView view, GridPane boardTarget) {
-        System.out.println("Sending to graveyard: " + card.getName());
-        System.out.println("Target board: " + (boardTarget == boardJoueur1 ? "Player" : "Opponent"));
-        
-        if (boardTarget == null || view == null) return;
-
-        // 1. Remove the card from its current zone
-        Object placedCell = view.getProperties().get("placedCell");
-        if (placedCell instanceof StackPane) {
-            ((StackPane) placedCell).getChildren().remove(view);
-        } else if (view.getParent() instanceof StackPane) {
-            ((StackPane) view.getParent()).getChildren().remove(view);
+    private void updateControls() {
+        if (phaseButtons == null) return;
+        boolean active = canAct(engine.getActiveIndex());
+        Phase phase = engine.getPhase();
+        boolean mainOrBattle = engine.isMainPhase() || phase == Phase.BP;
+
+        for (Phase target : Phase.values()) {
+            boolean allowed;
+            switch (target) {
+                case BP: allowed = phase == Phase.MP1 && engine.canBattle(); break;
+                case MP2: allowed = phase == Phase.MP1 || phase == Phase.BP; break;
+                case EP: allowed = mainOrBattle; break;
+                default: allowed = false;
+            }
+            phaseButtons[target.ordinal()].setDisable(!(active && allowed));
         }
+        endTurnButton.setDisable(!(active && mainOrBattle));
+        undoButton.setDisable(!isLocalDuel() || !(active && undoable > 0));
+        redoButton.setDisable(!isLocalDuel() || !(active && redoable > 0));
+    }
 
-        // 2. Find the graveyard zone (may be in an HBox for opponent)
-        StackPane graveyardZone = null;
-
-        // Search directly in the GridPane
-        for (Node node : boardTarget.getChildren()) {
-            if (node.getStyleClass().contains("graveyard-zone") && node instanceof StackPane) {
-                graveyardZone = (StackPane) node;
+    /**
+     * Moves the local player to a phase, from its phase button.
+     *
+     * @param phase the phase clicked
+     */
+    private void goToPhase(Phase phase) {
+        if (!canAct(engine.getActiveIndex())) return;
+        switch (phase) {
+            case BP:
+                if (!isLocalDuel() ? submit(Protocol.BATTLE_PHASE) : engine.enterBattlePhase()) {
+                    recordAction(true);
+                    refresh();
+                }
                 break;
-            }
-            // Search in HBoxes (opponent case)
-            if (node instanceof HBox) {
-                for (Node child : ((HBox) node).getChildren()) {
-                    if (child.getStyleClass().contains("graveyard-zone") && child instanceof StackPane) {
-                        graveyardZone = (StackPane) child;
-                        break;
-                    }
+            case MP2:
+                if (!isLocalDuel()) {
+                    submit(Protocol.MAIN_PHASE_2);
+                } else {
+                    engine.enterMainPhase2();
                 }
-            }
-            if (graveyardZone != null) break;
+                recordAction(true);
+                refresh();
+                break;
+            case EP:
+                endTurn();
+                break;
+            default:
+                break;
         }
+    }
 
-        if (graveyardZone != null) {
-            System.out.println("Graveyard found!");
-            
-            // 3. Create a new ImageView for the graveyard
-            ImageView graveyardView = new ImageView(card.getImage());
-            graveyardView.setFitWidth(60);
-            graveyardView.setFitHeight(90);
-            graveyardView.setRotate(0); // Always upright in graveyard
-            graveyardView.getProperties().put("card", card); // Store card reference
-
-            // 4. Add to graveyard
-            graveyardZone.getChildren().add(graveyardView);
-            
-            cardInfoArea.appendText("\n" + card.getName() + " has been sent to the graveyard.");
-        } else {
-            System.out.println("Graveyard not found!");
+    /**
+     * Ends the turn of the local player and starts the next one.
+     * <p>
+     * In hot-seat and online, the {@link Protocol#END_TURN} command also
+     * begins the next turn, on both engines or on the server.
+     * </p>
+     */
+    private void endTurn() {
+        if (!canAct(engine.getActiveIndex())) return;
+        if (!isLocalDuel()) {
+            submit(Protocol.END_TURN);
+            undoable = 0;
+            redoable = 0;
+            refresh();
+            return;
         }
+        engine.endTurn();
+        startTurn();
     }
 
-        /**
-     * Displays a popup window showing all cards in a player's graveyard.
+    /**
+     * Starts the turn of the active player.
      * <p>
-     * This method creates a modal dialog that allows players to view and interact with
-     * cards in the graveyard. The popup displays all cards in a scrollable grid, shows
-     * detailed information when a card is selected, and provides action buttons for
-     * applicable cards (such as Special Summoning monsters).
+     * On the bot's turn, the bot plays it with {@link SimpleBot#playTurn()}
+     * and calls this method again when it ends. On the player's turn, the
+     * Draw Phase is run by {@link DuelEngine#beginTurn()} and the player
+     * plays from Main Phase 1. The actions of the previous turn can no
+     * longer be undone.
      * </p>
+     */
+    public void startTurn() {
+        undoable = 0;
+        redoable = 0;
+        if (!engine.isOver()) {
+            if (isBotEnabled && engine.getActiveIndex() == bot.getSide()) {
+                refresh();
+                bot.playTurn();
+                return;
+            }
+            engine.beginTurn();
+        }
+        refresh();
+    }
+
+    /**
+     * Saves the duel when the window is closed.
      * <p>
-     * <strong>Popup Components:</strong>
-     * <ul>
-     * <li><strong>Card Grid:</strong> A FlowPane displaying all graveyard cards as 120x180
-     *     pixel thumbnails in a scrollable view</li>
-     * <li><strong>Card Info Area:</strong> A TextArea showing detailed information about
-     *     the selected card (stats, description, etc.)</li>
-     * <li><strong>Actions Zone:</strong> A VBox containing context-specific action buttons
-     *     based on the selected card type</li>
-     * <li><strong>Close Button:</strong> Closes the popup and returns to the game</li>
-     * </ul>
+     * The bot stops between two phases, so the saved state is the one shown.
+     * A finished duel is not saved: its save file is deleted, and the main
+     * menu no longer offers to resume it. A hot-seat or online duel is not
+     * saved: it would be resumed against the bot. Closing an online duel
+     * closes the connection, and the server gives the duel to the opponent.
      * </p>
+     */
+    private void saveDuel() {
+        if (client != null) {
+            try {
+                client.close();
+            } catch (IOException e) {
+                System.err.println("Error closing the connection: " + e.getMessage());
+            }
+            return;
+        }
+        if (peers != null) return;
+        if (bot != null) bot.stop();
+        try {
+            if (engine.isOver()) {
+                Files.deleteIfExists(SAVE_FILE);
+            } else {
+                SaveGame.save(engine, SAVE_FILE);
+            }
+        } catch (IOException e) {
+            System.err.println("Error saving the duel: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the duel shown by the board.
      * <p>
-     * <strong>Monster Card Actions:</strong>
-     * When a MonsterCard is selected, a "Special Summon" button appears (styled in green).
-     * Clicking it attempts to Special Summon the monster from the graveyard to the player's
-     * field:
-     * <ul>
-     * <li>Removes the card from the graveyard zone</li>
-     * <li>Creates a new ImageView (88x132) for the field</li>
-     * <li>Places it in the first available monster zone in Attack Position</li>
-     * <li>Sets up click handlers for further interactions</li>
-     * <li>Closes the popup on successful summon</li>
-     * <li>Returns the card to graveyard if no zones are available</li>
-     * </ul>
+     * Used by the bot, which plays its turns on the engine.
      * </p>
+     *
+     * @return the rules engine holding the game state
+     */
+    public DuelEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Displays a popup window showing all cards in a player's graveyard.
      * <p>
-     * <strong>Card Selection:</strong>
-     * Clicking a card highlights it with the "card-selected" CSS class and displays its
-     * information. The card object is retrieved from the ImageView's stored properties,
-     * ensuring accurate data display even after visual transformations.
+     * The Graveyard is a public zone, so both Graveyards can be browsed. The
+     * popup displays all cards in a {@link CardBrowser} (120x180 pixel
+     * thumbnails; only the visible rows have nodes, reused while scrolling)
+     * and shows detailed information when a card is selected.
      * </p>
      * <p>
      * <strong>Empty Graveyard Handling:</strong>
      * If the graveyard contains no cards, displays a simple message "The graveyard is empty"
      * in a smaller window.
      * </p>
-     * <p>
-     * <strong>Note:</strong> Currently, Special Summoning always places monsters on the
-     * player's field (boardJoueur1) with rotation 0 and isOpponent=false. This is correct
-     * for the current player viewing their own or opponent's graveyard to summon to their
-     * own field.
-     * </p>
      *
-     * @param graveyardZone the StackPane containing the graveyard cards to display
-     * @param playerName the name of the player whose graveyard is being viewed (for title)
-     * @param isOpponent true if viewing the opponent's graveyard, false for the player's own
+     * @param side the side whose Graveyard is viewed ({@link #BOTTOM} or {@link #TOP})
      */
-    public void showGraveyardPopup(StackPane graveyardZone, String playerName, boolean isOpponent) {
-        Stage popup = new Stage();
-        popup.setTitle(playerName + "'s Graveyard");
-        
-        // Retrieve all cards from the graveyard with their Card objects
-        List<Node> graveyardNodes = new ArrayList<>(graveyardZone.getChildren());
-        
-        if (graveyardNodes.isEmpty()) {
-            Label empty = new Label("The graveyard is empty");
-            empty.setStyle("-fx-font-size: 16px; -fx-padding: 20px;");
-            Scene scene = new Scene(new VBox(empty), 450, 300);
-            popup.setScene(scene);
-            popup.show();
-            return;
-        }
-        
-        // Selected card info area
-        TextArea selectedCardInfo = new TextArea("Select a card to view its information");
-        selectedCardInfo.setEditable(false);
-        selectedCardInfo.setPrefHeight(150);
-        selectedCardInfo.setWrapText(true);
-        selectedCardInfo.setStyle("-fx-font-size: 12px; -fx-control-inner-background: #3c3c3c; -fx-text-fill: white;");
-        
-        // Actions zone
-        VBox actionsZone = new VBox(10);
-        actionsZone.setAlignment(Pos.CENTER);
-        actionsZone.setPrefHeight(80);
-        
-        // Card grid
-        FlowPane cardGrid = new FlowPane();
-        cardGrid.setHgap(10);
-        cardGrid.setVgap(10);
-        cardGrid.setPadding(new Insets(15));
-        cardGrid.setStyle("-fx-background-color: #2c2c2c;");
-        
-        // Variables for selected card
-        final ImageView[] selectedView = {null};
-        final Card[] selectedCard = {null};
-        
-        for (Node node : graveyardNodes) {
-            if (node instanceof ImageView) {
-                ImageView originalView = (ImageView) node;
-                
-                // Retrieve associated card (stored in properties)
-                Card card = (Card) originalView.getProperties().get("card");
-                
-                // Create a copy for display
-                ImageView cardView = new ImageView(originalView.getImage());
-                cardView.setFitWidth(120);
-                cardView.setFitHeight(180);
-                cardView.setPreserveRatio(true);
-                cardView.getStyleClass().add("graveyard-card-view");
-                
-                // Click on card → show info + actions
-                cardView.setOnMouseClicked(e -> {
-                    System.out.println("Graveyard card clicked");
-                    System.out.println("Card retrieved: " + card);
-                    
-                    // Remove previous selection
-                    cardGrid.getChildren().forEach(n -> n.getStyleClass().remove("card-selected"));
-                    cardView.getStyleClass().add("card-selected");
-                    
-                    selectedView[0] = originalView;
-                    selectedCard[0] = card;
-                    
-                    // Display card info
-                    if (card != null) {
-                        System.out.println("Displaying info: " + card.toString());
-                        selectedCardInfo.setText(card.toString());
-                    } else {
-                        System.out.println("Card is null!");
-                        selectedCardInfo.setText("Card information unavailable");
-                    }
-                    
-                    // Create action buttons
-                    actionsZone.getChildren().clear();
-                    System.out.println("Card type: " + (card != null ? card.getClass().getSimpleName() : "null"));
-                    
-                    if (card instanceof MonsterCard) {
-                        System.out.println("It's a monster, adding button");
-                        Button specialSummonBtn = new Button("Special Summon");
-                        specialSummonBtn.setStyle("-fx-font-size: 14px; -fx-padding: 10px 20px; -fx-background-color: #4CAF50; -fx-text-fill: white;");
-                        
-                        specialSummonBtn.setOnAction(ev -> {
-                            // CORRECTION: Always summon to current player's field (player 1)
-                            GridPane targetBoard = boardJoueur1;
-                            
-                            // Remove card from graveyard
-                            graveyardZone.getChildren().remove(originalView);
-                            
-                            // Create new ImageView for the field
-                            ImageView summonedView = new ImageView(card.getImage());
-                            summonedView.setFitWidth(88);
-                            summonedView.setFitHeight(132);
-                            summonedView.setRotate(0); // Always rotation 0 for player
-                            summonedView.getProperties().put("faceDown", false);
-                            summonedView.getProperties().put("position", "ATK");
-                            summonedView.getProperties().put("isOpponent", false); // Always false as it's our field
-                            
-                            // Find a free monster zone on player's field
-                            int targetRow = 0; // Player's monster row
-                            boolean placed = false;
-                            
-                            for (int col = 1; col <= 5; col++) {
-                                final int currentCol = col;
-                                Node cell = targetBoard.getChildren().stream()
-                                    .filter(n -> GridPane.getRowIndex(n) == targetRow &&
-                                                GridPane.getColumnIndex(n) == currentCol)
-                                    .findFirst()
-                                    .orElse(null);
-                                
-                                if (cell instanceof StackPane) {
-                                    StackPane zone = (StackPane) cell;
-                                    if (zone.getChildren().isEmpty()) {
-                                        // Place the monster
-                                        summonedView.setOnMouseClicked(clickEv -> {
-                                            selectCard(summonedView, targetBoard, handJ1, cardInfoArea, card);
-                                            createActionButtonsForPlacedCard(card, summonedView, targetBoard,
-                                                handJ1, cardInfoArea, actionZone, false);
-                                        });
-                                        
-                                        zone.getChildren().add(summonedView);
-                                        zone.getProperties().put("card", card);
-                                        summonedView.getProperties().put("placedCell", zone);
-                                        
-                                        cardInfoArea.setText(card.getName() + " was Special Summoned from the graveyard!");
-                                        placed = true;
-                                        popup.close();
-                                        break;
-                                    }
-                                }
-                            }
-                            
-                            if (!placed) {
-                                // Return to graveyard if no space available
-                                graveyardZone.getChildren().add(originalView);
-                                selectedCardInfo.setText("No monster zones available!");
-                            }
-                        });
-                        
-                        actionsZone.getChildren().add(specialSummonBtn);
-                    } else {
-                        System.out.println("Not a monster or card is null");
-                        Label noAction = new Label("Only monsters can be summoned");
-                        noAction.setStyle("-fx-text-fill: #999;");
-                        actionsZone.getChildren().add(noAction);
-                    }
-                });
-                
-                cardGrid.getChildren().add(cardView);
-            }
-        }
-        
-        ScrollPane scrollPane = new ScrollPane(cardGrid);
-        scrollPane.setFitToWidth(true);
-        scrollPane.setPrefHeight(300);
-        scrollPane.setStyle("-fx-background: #1a1a1a; -fx-background-color: #1a1a1a;");
-        
-        Button closeBtn = new Button("Close");
-        closeBtn.setStyle("-fx-font-size: 14px; -fx-padding: 10px 30px;");
-        closeBtn.setOnAction(e -> popup.close());
-        
-        VBox layout = new VBox(15, scrollPane, selectedCardInfo, actionsZone, closeBtn);
-        layout.setAlignment(Pos.CENTER);
-        layout.setStyle("-fx-background-color: #1a1a1a;");
-        layout.setPadding(new Insets(10));
-        
-        Scene scene = new Scene(layout, 700, 650);
-        scene.getStylesheets().add(getClass().getResource("/ui/board.css").toExternalForm());
-        popup.setScene(scene);
-        popup.show();
+    public void showGraveyardPopup(int side) {
+        Player owner = engine.getPlayer(side);
+        showCardsPopup(owner.getName() + "'s Graveyard", "The graveyard is empty",
+                       owner.getBoard().getGraveyard().getAllCards());
     }
 
     /**
-     * Displays a popup window showing all cards in a player's deck.
+     * Displays a popup window showing all cards in the player's deck.
      * <p>
-     * This method creates a modal dialog that allows players to view and interact with
-     * cards in their deck. This is typically used for card effects that allow searching
-     * the deck (such as "Sangan" or "Reinforcement of the Army") or for testing purposes.
-     * The popup displays all cards in a scrollable grid and provides Special Summon
-     * functionality for monsters.
+     * The cards are listed by name, not in the deck order, so the popup
+     * shows what is left in the deck without revealing the next draws.
      * </p>
+     *
+     * @param side the side whose deck is viewed, only a shown one
+     */
+    public void showDeckPopup(int side) {
+        if (!isShown(side) || client != null) return;
+        Player owner = engine.getPlayer(side);
+        List<Card> deckCards = new ArrayList<>(owner.getDeck().getCards());
+        deckCards.sort(Comparator.comparing(Card::getName));
+        showCardsPopup(owner.getName() + "'s Deck", "The deck is empty", deckCards);
+    }
+
+    /**
+     * Displays a popup window listing cards.
      * <p>
      * <strong>Popup Components:</strong>
      * <ul>
-     * <li><strong>Card Grid:</strong> A FlowPane displaying all deck cards as 120x180
-     *     pixel thumbnails in a scrollable view</li>
+     * <li><strong>Card Grid:</strong> A {@link CardBrowser} displaying the cards;
+     *     images are only loaded for the visible rows</li>
      * <li><strong>Card Info Area:</strong> A TextArea showing detailed information about
      *     the selected card</li>
-     * <li><strong>Actions Zone:</strong> A VBox containing action buttons for applicable
-     *     card types</li>
      * <li><strong>Close Button:</strong> Closes the popup and returns to the game</li>
      * </ul>
      * </p>
-     * <p>
-     * <strong>Monster Card Actions:</strong>
-     * When a MonsterCard is selected, a "Special Summon" button appears. Clicking it:
-     * <ul>
-     * <li>Removes the card from the deck via {@link Deck#removeCard(Card)}</li>
-     * <li>Creates a new ImageView for the field (88x132, face-up Attack Position)</li>
-     * <li>Places it in the first available monster zone</li>
-     * <li>Updates the deck counter display via {@link #updateDeckCount(GridPane, Deck)}</li>
-     * <li>Closes the popup on successful summon</li>
-     * <li>Returns the card to deck if no zones are available</li>
-     * </ul>
-     * </p>
-     * <p>
-     * <strong>Empty Deck Handling:</strong>
-     * If the deck contains no cards, displays a simple message "The deck is empty" in
-     * a smaller window.
-     * </p>
-     * <p>
-     * <strong>Use Cases:</strong>
-     * <ul>
-     * <li>Card effects that search the deck for specific cards</li>
-     * <li>Special Summon effects that summon from deck (e.g., "Cyber Dragon")</li>
-     * <li>Testing and debugging deck contents</li>
-     * <li>Deck verification before the duel starts</li>
-     * </ul>
-     * </p>
-     * <p>
-     * <strong>Note:</strong> This method directly modifies the deck by removing summoned
-     * cards. In official Yu-Gi-Oh! rules, the deck should be shuffled after searching it,
-     * which should be handled by the calling code if needed.
-     * </p>
      *
-     * @param deck the Deck object containing the cards to display
-     * @param playerName the name of the player whose deck is being viewed (for title)
+     * @param title the title of the window
+     * @param emptyText the message shown when there is no card
+     * @param cards the cards to list
      */
-    public void showDeckPopup(Deck deck, String playerName) {
+    private void showCardsPopup(String title, String emptyText, List<Card> cards) {
         Stage popup = new Stage();
-        popup.setTitle(playerName + "'s Deck");
-        
-        // Retrieve all cards from the deck
-        List<Card> deckCards = deck.getCards(); // Assumes a getCards() getter exists in Deck
-        
-        if (deckCards.isEmpty()) {
-            Label empty = new Label("The deck is empty");
+        popup.setTitle(title);
+
+        if (cards.isEmpty()) {
+            Label empty = new Label(emptyText);
             empty.setStyle("-fx-font-size: 16px; -fx-padding: 20px;");
             Scene scene = new Scene(new VBox(empty), 300, 150);
             popup.setScene(scene);
             popup.show();
             return;
         }
-        
+
         // Selected card info area
         TextArea selectedCardInfo = new TextArea("Select a card to view its information");
         selectedCardInfo.setEditable(false);
         selectedCardInfo.setPrefHeight(150);
         selectedCardInfo.setWrapText(true);
         selectedCardInfo.setStyle("-fx-font-size: 12px; -fx-control-inner-background: #3c3c3c; -fx-text-fill: white;");
-        
-        // Actions zone
-        VBox actionsZone = new VBox(10);
-        actionsZone.setAlignment(Pos.CENTER);
-        actionsZone.setPrefHeight(80);
-        
-        // Card grid
-        FlowPane cardGrid = new FlowPane();
-        cardGrid.setHgap(10);
-        cardGrid.setVgap(10);
-        cardGrid.setPadding(new Insets(15));
-        cardGrid.setStyle("-fx-background-color: #2c2c2c;");
-        
-        // Variable for selected card
-        final Card[] selectedCard = {null};
-        
-        for (Card card : deckCards) {
-            // Create ImageView for each card
-            ImageView cardView = new ImageView(card.getImage());
-            cardView.setFitWidth(120);
-            cardView.setFitHeight(180);
-            cardView.setPreserveRatio(true);
-            cardView.getStyleClass().add("graveyard-card-view");
-            
-            // Click on card
-            cardView.setOnMouseClicked(e -> {
-                // Remove previous selection
-                cardGrid.getChildren().forEach(n -> n.getStyleClass().remove("card-selected"));
-                cardView.getStyleClass().add("card-selected");
-                
-                selectedCard[0] = card;
-                
-                // Display card info
-                selectedCardInfo.setText(card.toString());
-                
-                // Create action buttons
-                actionsZone.getChildren().clear();
-                
-                if (card instanceof MonsterCard) {
-                    Button specialSummonBtn = new Button("Special Summon");
-                    specialSummonBtn.setStyle("-fx-font-size: 14px; -fx-padding: 10px 20px; -fx-background-color: #4CAF50; -fx-text-fill: white;");
-                    
-                    specialSummonBtn.setOnAction(ev -> {
-                        // Remove card from deck
-                        deck.removeCard(card); // Assumes a removeCard() method exists in Deck
-                        
-                        // Create ImageView for the field
-                        ImageView summonedView = new ImageView(card.getImage());
-                        summonedView.setFitWidth(88);
-                        summonedView.setFitHeight(132);
-                        summonedView.setRotate(0);
-                        summonedView.getProperties().put("faceDown", false);
-                        summonedView.getProperties().put("position", "ATK");
-                        summonedView.getProperties().put("isOpponent", false);
-                        
-                        // Find a free monster zone
-                        int targetRow = 0;
-                        boolean placed = false;
-                        
-                        for (int col = 1; col <= 5; col++) {
-                            final int currentCol = col;
-                            Node cell = boardJoueur1.getChildren().stream()
-                                .filter(n -> GridPane.getRowIndex(n) == targetRow &&
-                                            GridPane.getColumnIndex(n) == currentCol)
-                                .findFirst()
-                                .orElse(null);
-                            
-                            if (cell instanceof StackPane) {
-                                StackPane zone = (StackPane) cell;
-                                if (zone.getChildren().isEmpty()) {
-                                    summonedView.setOnMouseClicked(clickEv -> {
-                                        selectCard(summonedView, boardJoueur1, handJ1, cardInfoArea, card);
-                                        createActionButtonsForPlacedCard(card, summonedView, boardJoueur1,
-                                            handJ1, cardInfoArea, actionZone, false);
-                                    });
-                                    
-                                    zone.getChildren().add(summonedView);
-                                    zone.getProperties().put("card", card);
-                                    summonedView.getProperties().put("placedCell", zone);
-                                    
-                                    cardInfoArea.setText(card.getName() + " was Special Summoned from the deck!");
-                                    placed = true;
-                                    
-                                    // Update deck counter
-                                    updateDeckCount(boardJoueur1, deck);
-                                    
-                                    popup.close();
-                                    break;
-                                }
-                            }
-                        }
-                        
-                        if (!placed) {
-                            // Return to deck if no space available
-                            deck.addCard(card);
-                            selectedCardInfo.setText("No monster zones available!");
-                        }
-                    });
-                    
-                    actionsZone.getChildren().add(specialSummonBtn);
-                } else {
-                    Label noAction = new Label("Only monsters can be summoned");
-                    noAction.setStyle("-fx-text-fill: #999;");
-                    actionsZone.getChildren().add(noAction);
-                }
-            });
-            
-            cardGrid.getChildren().add(cardView);
-        }
-        
-        ScrollPane scrollPane = new ScrollPane(cardGrid);
-        scrollPane.setFitToWidth(true);
-        scrollPane.setPrefHeight(300);
-        scrollPane.setStyle("-fx-background: #1a1a1a; -fx-background-color: #1a1a1a;");
-        
+
+        // Virtualized card grid: click on card → show info
+        CardBrowser<Card> cardGrid = new CardBrowser<>(cards, Card::getImage,
+            card -> selectedCardInfo.setText(card.toString()));
+
+        ListView<?> cardList = cardGrid.getNode();
+        cardList.setPrefHeight(300);
+
         Button closeBtn = new Button("Close");
         closeBtn.setStyle("-fx-font-size: 14px; -fx-padding: 10px 30px;");
         closeBtn.setOnAction(e -> popup.close());
-        
-        VBox layout = new VBox(15, scrollPane, selectedCardInfo, actionsZone, closeBtn);
+
+        VBox layout = new VBox(15, cardList, selectedCardInfo, closeBtn);
         layout.setAlignment(Pos.CENTER);
         layout.setStyle("-fx-background-color: #1a1a1a;");
         layout.setPadding(new Insets(10));
-        
-        Scene scene = new Scene(layout, 700, 650);
+
+        Scene scene = new Scene(layout, 700, 600);
         scene.getStylesheets().add(getClass().getResource("/ui/board.css").toExternalForm());
         popup.setScene(scene);
         popup.show();
     }
 
-        /**
-     * Updates the deck card counter display on the game board.
-     * <p>
-     * This helper method finds the deck zone on the specified board and updates
-     * its counter label to show the current number of cards remaining in the deck.
-     * This provides visual feedback to players about deck depletion and helps track
-     * the risk of deck-out loss conditions.
-     * </p>
-     * <p>
-     * The method searches for a node with the "deck-zone" CSS class, then locates
-     * a child Label with the "deck-count" CSS class and updates its text to display
-     * "Cards: X" where X is the current deck size.
-     * </p>
+    /**
+     * Tells the local player when they can win this turn, and how.
      * <p>
-     * If either the deck zone or counter label cannot be found, the method fails
-     * silently without updating anything.
+     * At the start of Main Phase 1 and of the Battle Phase of the local
+     * player, the {@link LethalSolver} is run on the duel: own monsters
+     * (Defense Position monsters count if they can still change position in
+     * Main Phase 1), monsters in hand if the Normal Summon is still available,
+     * and the opponent's monsters and Life Points. The opponent's face-down
+     * monsters are not looked at: they count as defenders of unknown DEF
+     * ({@link LethalSolver#UNKNOWN_DEF}) that no attack gets past. When a
+     * winning line exists, it is shown in the card information area.
      * </p>
      *
-     * @param board the GridPane containing the deck zone to update
-     * @param deck the Deck object whose size will be displayed
+     * @param phase the phase that just started
      */
-    public void updateDeckCount(GridPane board, Deck deck) {
-        StackPane deckZone = (StackPane) board.getChildren().stream()
-            .filter(node -> node.getStyleClass().contains("deck-zone"))
-            .findFirst()
-            .orElse(null);
-        
-        if (deckZone != null) {
-            Label deckCount = (Label) deckZone.getChildren().stream()
-                .filter(node -> node.getStyleClass().contains("deck-count"))
-                .findFirst()
-                .orElse(null);
-            
-            if (deckCount != null) {
-                deckCount.setText("Cards: " + deck.size());
+    private void showLethalHint(Phase phase) {
+        if (engine == null || cardInfoArea == null || !canAct(engine.getActiveIndex())) return;
+        if (!engine.canBattle() || (phase != Phase.MP1 && phase != Phase.BP)) return;
+        boolean mainPhase = phase == Phase.MP1;
+        Player player = engine.getActivePlayer();
+        Board own = player.getBoard();
+        Board opponent = engine.getOpponent().getBoard();
+
+        for (int zone = 0; zone < LethalSolver.MAX_MONSTERS; zone++) {
+            MonsterCard monster = own.getMonster(zone);
+            if (monster == null) {
+                lethalStatus[zone] = LethalSolver.EMPTY;
+            } else {
+                lethalAtk[zone] = monster.getAtk();
+                if (monster.hasAttackedThisTurn()) {
+                    lethalStatus[zone] = LethalSolver.CANNOT_ATTACK;
+                } else if (monster.getPosition() == Position.ATTACK) {
+                    lethalStatus[zone] = LethalSolver.CAN_ATTACK;
+                } else if (mainPhase && !monster.hasChangedPositionThisTurn()) {
+                    lethalStatus[zone] = LethalSolver.AFTER_POSITION_CHANGE;
+                } else {
+                    lethalStatus[zone] = LethalSolver.CANNOT_ATTACK;
+                }
+            }
+
+            MonsterCard defender = opponent.getMonster(zone);
+            if (defender == null) {
+                lethalOppPosition[zone] = LethalSolver.EMPTY;
+            } else if (defender.getPosition() == Position.FACE_DOWN) {
+                lethalOppAtk[zone] = 0;
+                lethalOppDef[zone] = LethalSolver.UNKNOWN_DEF;
+                lethalOppPosition[zone] = Position.FACE_DOWN.ordinal();
+            } else {
+                lethalOppAtk[zone] = defender.getAtk();
+                lethalOppDef[zone] = defender.getDef();
+                lethalOppPosition[zone] = defender.getPosition().ordinal();
             }
         }
-    }
 
-    /**
-     * Handles click events on the bot's monster cards.
-     * <p>
-     * This public method allows the bot AI to properly handle interactions with its
-     * monsters on the field. It supports two modes of interaction:
-     * </p>
-     * <ul>
-     * <li><strong>Attack Mode:</strong> If attack mode is active (player is attacking),
-     *     the clicked bot monster becomes the target of the attack. Battle is resolved
-     *     via {@link #resolveBattle} and attack mode is reset.</li>
-     * <li><strong>Normal Mode:</strong> The monster is selected normally, displaying its
-     *     information and generating appropriate action buttons.</li>
-     * </ul>
-     * <p>
-     * This method ensures that bot monsters can be attacked by the player and also
-     * allows viewing bot monster information for gameplay decisions.
-     * </p>
-     *
-     * @param view the ImageView representing the bot's monster on the field
-     * @param card the Card object (must be a MonsterCard) being clicked
-     * @param board the GridPane containing the bot's game board
-     * @param hand the HBox containing the bot's hand (typically hidden)
-     */
-    public void handleBotMonsterClick(ImageView view, Card card, GridPane board, HBox hand) {
-        // If in attack mode, this is a target
-        if (attackMode && attackerCard != null && attackerView != null && card instanceof MonsterCard) {
-            resolveBattle(attackerCard, attackerView, (MonsterCard) card, view, true);
-            attackMode = false;
-            attackerCard = null;
-            attackerView = null;
-        } else {
-            // Normal selection
-            selectCard(view, board, hand, cardInfoArea, card);
-            createActionButtonsForPlacedCard(card, view, board, hand, cardInfoArea, actionZone, true);
+        boolean summon = mainPhase && !player.hasNormalSummoned();
+        Arrays.fill(lethalSummonAtk, -1);
+        Arrays.fill(lethalSummon, null);
+        if (summon) {
+            for (Card card : player.getHand().getAllCards()) {
+                if (!(card instanceof MonsterCard)) continue;
+                MonsterCard monster = (MonsterCard) card;
+                int tributes = DuelEngine.tributesRequired(monster);
+                if (monster.getAtk() > lethalSummonAtk[tributes]) {
+                    lethalSummonAtk[tributes] = monster.getAtk();
+                    lethalSummon[tributes] = monster;
+                }
+            }
         }
-    }
 
-    /**
-     * Gets the player's game board.
-     * <p>
-     * This getter provides access to player 1's board (bottom of screen) for external
-     * classes such as the bot AI, which needs to interact with the player's field when
-     * making decisions or executing actions.
-     * </p>
-     *
-     * @return the GridPane representing player 1's game board
-     */
-    public GridPane getBoardJoueur1() {
-        return boardJoueur1;
-    }
+        if (!lethalSolver.solve(lethalAtk, lethalStatus, summon ? lethalSummonAtk : null,
+                                lethalOppAtk, lethalOppDef, lethalOppPosition,
+                                engine.getOpponent().getLifePoints())) {
+            return;
+        }
 
-    /**
-     * Public wrapper for resolving battles, accessible to external classes.
-     * <p>
-     * This method delegates to the {@link #resolveBattle} method, allowing
-     * external classes (such as the bot AI) to trigger battle resolution while
-     * maintaining encapsulation of the internal battle logic.
-     * </p>
-     * <p>
-     * This is used when the bot needs to declare attacks and resolve battles
-     * programmatically rather than through UI interactions.
-     * </p>
-     *
-     * @param attacker the MonsterCard performing the attack
-     * @param attackerView the ImageView representing the attacker on the field
-     * @param defender the MonsterCard being attacked
-     * @param defenderView the ImageView representing the defender on the field
-     * @param defenderIsOpponent true if the defender belongs to the opponent
-     */
-    public void resolveBattlePublic(MonsterCard attacker, ImageView attackerView,
-                                    MonsterCard defender, ImageView defenderView,
-                                    boolean defenderIsOpponent) {
-        resolveBattle(attacker, attackerView, defender, defenderView, defenderIsOpponent);
+        StringBuilder line = new StringBuilder("You have lethal this turn!\n");
+        int tributes = lethalSolver.getSummonTributes();
+        if (tributes != LethalSolver.NO_SUMMON) {
+            line.append("Summon ").append(lethalSummon[tributes].getName());
+            String separator = " tributing ";
+            for (int zone = 0; zone < LethalSolver.MAX_MONSTERS; zone++) {
+                if (lethalSolver.isTributed(zone)) {
+                    line.append(separator).append(own.getMonster(zone).getName());
+                    separator = " and ";
+                }
+            }
+            line.append(describeTarget(opponent, lethalSolver.getSummonTarget())).append('\n');
+        }
+        for (int zone = 0; zone < LethalSolver.MAX_MONSTERS; zone++) {
+            int target = lethalSolver.getTarget(zone);
+            if (target == LethalSolver.NO_ATTACK) continue;
+            line.append(own.getMonster(zone).getName());
+            if (lethalSolver.needsPositionChange(zone)) line.append(" (switch to Attack Position)");
+            line.append(describeTarget(opponent, target)).append('\n');
+        }
+        line.append("Total damage: ").append(lethalSolver.getDamage());
+        cardInfoArea.setText(line.toString());
     }
 
     /**
-     * Applies damage from a direct attack to the player's life points.
+     * Lights up player 1's Extra Deck when a Fusion monster can be made.
      * <p>
-     * A direct attack occurs when a monster attacks the opponent directly because
-     * they have no monsters on the field to defend. The full ATK value of the
-     * attacking monster is dealt as damage to the player's life points.
-     * </p>
-     * <p>
-     * After applying damage, this method automatically checks victory conditions
-     * via {@link #checkVictoryConditions()} to determine if the player has lost
-     * due to reaching 0 life points.
+     * In the Main Phases of player 1, with Polymerization in hand
+     * ({@link FusionIndex#isFusionSpell}), the monsters in hand and on the
+     * field are matched against the Fusion recipes of the Extra Deck
+     * ({@link Deck.ExtraDeck#searchFusions}). The zone gets the
+     * {@code fusion-ready} pseudo-class, the number of Fusion monsters, and a
+     * tooltip with their names; otherwise it is reset. The hint is updated
+     * whenever the board is redrawn.
      * </p>
      *
-     * @param damage the amount of damage to inflict (typically the attacking monster's ATK)
+     * @param phase the current phase
      */
-    public void directAttack(int damage) {
-        lp1[0] -= damage;
-        lpJoueur1.setText(joueur1.getName() + " LP: " + lp1[0]);
-        cardInfoArea.setText("Direct attack! " + damage + " damage dealt!");
+    private void showFusionHint(Phase phase) {
+        if (extraDeckJ1 == null || joueur1 == null) return;
+        List<MonsterCard> fusions = new ArrayList<>();
+        boolean mainPhase = phase == Phase.MP1 || phase == Phase.MP2;
+        if (engine.getActivePlayer() == joueur1 && mainPhase && !joueur1.getExtraDeck().isEmpty()) {
+            List<Card> materials = new ArrayList<>(joueur1.getHand().getAllCards());
+            boolean polymerization = false;
+            for (Card card : materials) {
+                polymerization |= FusionIndex.isFusionSpell(card);
+            }
+            if (polymerization) {
+                for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+                    MonsterCard own = joueur1.getBoard().getMonster(zone);
+                    if (own != null) materials.add(own);
+                }
+                fusions = joueur1.getExtraDeck().searchFusions(materials);
+            }
+        }
 
-        // Check victory conditions
-        checkVictoryConditions();
+        extraDeckJ1.pseudoClassStateChanged(FUSION_READY, !fusions.isEmpty());
+        if (fusions.isEmpty()) {
+            extraDeckJ1.setText(extraDeckJ1Text);
+            extraDeckJ1.setTooltip(null);
+            return;
+        }
+        StringBuilder names = new StringBuilder("Fusions available:");
+        for (MonsterCard fusion : fusions) names.append('\n').append(fusion.getName());
+        extraDeckJ1.setText(extraDeckJ1Text + "\n" + fusions.size() + (fusions.size() == 1 ? " Fusion" : " Fusions"));
+        extraDeckJ1.setTooltip(new Tooltip(names.toString()));
     }
 
     /**
-     * Resets the "hasAttacked" flag for all monsters on the specified board.
-     * <p>
-     * This method should be called at the start of each turn to allow all monsters
-     * to attack again. It iterates through all zones on the board, finds ImageViews
-     * (representing cards), and sets their "hasAttacked" property to false.
-     * </p>
-     * <p>
-     * This is part of the turn management system that enforces the Yu-Gi-Oh! rule
-     * that each monster can only attack once per turn.
-     * </p>
+     * Describes the target of an attack of the lethal line.
      *
-     * @param board the GridPane whose monsters should have their attack flags reset
+     * @param opponent the board of the opponent
+     * @param target the opponent's zone, {@link LethalSolver#DIRECT_ATTACK} or {@link LethalSolver#NO_ATTACK}
+     * @return the end of the line of the attacker
      */
-    public void resetAttackFlags(GridPane board) {
-        for (Node node : board.getChildren()) {
-            if (node instanceof StackPane) {
-                StackPane zone = (StackPane) node;
-                for (Node child : zone.getChildren()) {
-                    if (child instanceof ImageView) {
-                        child.getProperties().put("hasAttacked", false);
-                    }
-                }
-            }
-        }
+    private String describeTarget(Board opponent, int target) {
+        if (target == LethalSolver.NO_ATTACK) return "";
+        if (target == LethalSolver.DIRECT_ATTACK) return " attacks directly";
+        MonsterCard defender = opponent.getMonster(target);
+        if (defender.getPosition() == Position.FACE_DOWN) return " attacks the face-down monster";
+        return " attacks " + defender.getName();
     }
 
     /**
-     * Checks all victory and loss conditions and ends the game if any are met.
-     * <p>
-     * This method evaluates the standard Yu-Gi-Oh! win/loss conditions:
-     * <ul>
-     * <li><strong>Life Points:</strong> If either player's life points reach 0 or below,
-     *     their opponent wins</li>
-     * <li><strong>Deck Out:</strong> If either player's deck is empty when they need to
-     *     draw, they lose (handled by checking {@link Deck#isEmpty()})</li>
-     * </ul>
-     * </p>
-     * <p>
-     * When a victory condition is met:
-     * <ul>
-     * <li>The victory screen is displayed via {@link #showVictoryScreen}</li>
-     * <li>The bot is disabled if active (isBotEnabled = false)</li>
-     * <li>Further gameplay is prevented</li>
-     * </ul>
-     * </p>
+     * Announces the end of the duel, once.
      * <p>
-     * This method should be called after any action that could result in a win:
-     * <ul>
-     * <li>After battle damage is applied</li>
-     * <li>After direct attacks</li>
-     * <li>After card effects that deal damage or force draws</li>
-     * <li>At the start of the Draw Phase (to check deck-out)</li>
-     * </ul>
+     * The result is read from the engine, which ends the duel when a player
+     * has no Life Points left, must draw from an empty deck, surrenders, or
+     * when the turn limit is reached (draw). The bot stops playing.
      * </p>
      */
     public void checkVictoryConditions() {
-        if (lp1[0] <= 0) {
-            showVictoryScreen(joueur2, joueur1.getName() + " has no Life Points left!");
-            isBotEnabled = false; // Disable bot
-        } else if (lp2[0] <= 0) {
-            showVictoryScreen(joueur1, joueur2.getName() + " has no Life Points left!");
-            isBotEnabled = false;
+        if (!engine.isOver() || victoryShown) return;
+        victoryShown = true;
+        if (bot != null) bot.stop();
+
+        int result = engine.getResult();
+        if (result == DuelEngine.RESULT_DRAW) {
+            showVictoryScreen(null, "The turn limit has been reached.");
+            return;
         }
-        
-        // Bonus: Check if a deck is empty (deck-out loss)
-        if (deckJ1.isEmpty()) {
-            showVictoryScreen(joueur2, joueur1.getName() + " cannot draw anymore!");
-            isBotEnabled = false;
-        } else if (deckJ2.isEmpty()) {
-            showVictoryScreen(joueur1, joueur2.getName() + " cannot draw anymore!");
-            isBotEnabled = false;
+        Player winner = engine.getPlayer(result);
+        Player loser = engine.getPlayer(1 - result);
+        if (loser.getLifePoints() <= 0) {
+            showVictoryScreen(winner, loser.getName() + " has no Life Points left!");
+        } else if (loser.getDeck().isEmpty()) {
+            showVictoryScreen(winner, loser.getName() + " cannot draw anymore!");
+        } else {
+            showVictoryScreen(winner, loser.getName() + " surrendered.");
         }
     }
 
@@ -2212,273 +1857,76 @@ public class DuelBoard extends Application {
      * </p>
      * <p>
      * The victory screen is modal, meaning it blocks interaction with the main
-     * game window until closed. This prevents further gameplay after the duel
-     * has concluded.
+     * game window until closed.
      * </p>
      *
-     * @param winner the Player who won the duel
+     * @param winner the Player who won the duel, or null for a draw
      * @param reason a string describing why the victory occurred (e.g., "has no Life Points left!")
      */
     public void showVictoryScreen(Player winner, String reason) {
         // Create victory popup
         Stage victoryStage = new Stage();
         victoryStage.initModality(javafx.stage.Modality.APPLICATION_MODAL);
-        victoryStage.setTitle("Victory!");
-        
+        victoryStage.setTitle(winner == null ? "Draw!" : "Victory!");
+
         VBox layout = new VBox(20);
         layout.setAlignment(Pos.CENTER);
         layout.setStyle("-fx-background-color: linear-gradient(to bottom, #1a1a2e, #16213e); -fx-padding: 40px;");
-        
-        Label winnerLabel = new Label("Winner: " + winner.getName() + " has won!");
+
+        Label winnerLabel = new Label(winner == null ? "The duel is a draw!" : "Winner: " + winner.getName() + " has won!");
         winnerLabel.setStyle("-fx-font-size: 36px; -fx-font-weight: bold; -fx-text-fill: gold;");
-        
+
         Label reasonLabel = new Label(reason);
         reasonLabel.setStyle("-fx-font-size: 18px; -fx-text-fill: white;");
-        
+
         Button closeBtn = new Button("Close");
         closeBtn.setStyle("-fx-font-size: 16px; -fx-padding: 10px 30px;");
         closeBtn.setOnAction(e -> victoryStage.close());
-        
+
         layout.getChildren().addAll(winnerLabel, reasonLabel, closeBtn);
-        
+
         Scene scene = new Scene(layout, 500, 300);
         victoryStage.setScene(scene);
         victoryStage.show();
     }
 
     /**
-     * Applies the effect of a card based on its name.
-     * <p>
-     * This method implements specific card effects by matching the card's name and
-     * executing the corresponding game logic. It serves as a centralized effect
-     * handler for spell and trap cards that have been activated.
-     * </p>
-     * <p>
-     * <strong>Implemented Effects:</strong>
-     * <ul>
-     * <li><strong>Dark Hole:</strong> Destroys all monsters on both players' fields.
-     *     Calls {@link #destroyAllMonsters} for each board.</li>
-     * <li><strong>Fissure:</strong> Destroys the opponent's monster with the lowest ATK.
-     *     Calls {@link #destroyWeakestMonster} on the opponent's board.</li>
-     * </ul>
-     * </p>
-     * <p>
-     * For cards without implemented effects, a message is logged to the console and
-     * appended to the card info area indicating "(Effect not implemented)".
-     * </p>
-     * <p>
-     * <strong>Future Enhancements:</strong>
-     * Additional card effects should be added here using the same pattern:
-     * check card name, execute effect logic, update card info area with result.
-     * </p>
-     *
-     * @param card the Card whose effect is being activated
-     * @param boardTarget the GridPane of the player activating the card
-     * @param handBox the HBox containing the activating player's hand
-     * @param isOpponent true if the card is being activated by the opponent
-     */
-    public void applyCardEffect(Card card, GridPane boardTarget, HBox handBox, boolean isOpponent) {
-        String cardName = card.getName();
-        
-        System.out.println("Applying effect of: " + cardName);
-        
-        // Dark Hole: Destroy all monsters
-        if (cardName.equalsIgnoreCase("Dark Hole")) {
-            destroyAllMonsters(boardJoueur1);
-            destroyAllMonsters(opponentBoard);
-            cardInfoArea.setText("Dark Hole activated! All monsters are destroyed.");
-        }
-        
-        // Fissure: Destroy opponent's weakest monster
-        else if (cardName.equalsIgnoreCase("Fissure")) {
-            GridPane opponentBoardTarget = isOpponent ? boardJoueur1 : opponentBoard;
-            destroyWeakestMonster(opponentBoardTarget);
-            cardInfoArea.setText("Fissure activated! The opponent's weakest monster is destroyed.");
-        }
-        
-        // Add other effects here...
-        
-        else {
-            System.out.println("Effect not implemented for: " + cardName);
-            cardInfoArea.appendText("\n(Effect not implemented)");
-        }
-    }
-
-    /**
-     * Destroys all monsters on the specified game board.
-     * <p>
-     * This method iterates through all monster zones (columns 1-5) on the given board,
-     * identifies any MonsterCards present, removes them from their zones, and sends
-     * them to the graveyard via {@link #sendToGraveyard}.
-     * </p>
-     * <p>
-     * The monster row is determined based on which board is being cleared:
-     * <ul>
-     * <li>Player's board (boardJoueur1): row 0</li>
-     * <li>Opponent's board: row 1</li>
-     * </ul>
-     * </p>
-     * <p>
-     * This method is used by board-clearing effects like "Dark Hole", "Raigeki",
-     * "Mirror Force", etc.
-     * </p>
-     *
-     * @param board the GridPane whose monsters should be destroyed
-     */
-    public void destroyAllMonsters(GridPane board) {
-        int monsterRow = (board == boardJoueur1) ? 0 : 1;
-        
-        for (int col = 1; col <= 5; col++) {
-            final int currentCol = col;
-            Node cell = board.getChildren().stream()
-                .filter(n -> {
-                    Integer rowIdx = GridPane.getRowIndex(n);
-                    Integer colIdx = GridPane.getColumnIndex(n);
-                    int row = (rowIdx == null) ? 0 : rowIdx;
-                    int column = (colIdx == null) ? 0 : colIdx;
-                    return row == monsterRow && column == currentCol;
-                })
-                .findFirst()
-                .orElse(null);
-            
-            if (cell instanceof StackPane) {
-                StackPane zone = (StackPane) cell;
-                List<Node> toRemove = new ArrayList<>();
-                
-                for (Node child : zone.getChildren()) {
-                    if (child instanceof ImageView) {
-                        ImageView view = (ImageView) child;
-                        Object cardObj = view.getProperties().get("card");
-                        if (cardObj instanceof MonsterCard) {
-                            toRemove.add(child);
-                            sendToGraveyard((MonsterCard)cardObj, view, board);
-                        }
-                    }
-                }
-                
-                toRemove.forEach(node -> zone.getChildren().remove(node));
-            }
-        }
-    }
-
-    /**
-     * Destroys the monster with the lowest ATK on the specified board.
-     * <p>
-     * This method scans all monster zones to find the monster with the minimum ATK
-     * value, then removes it from the field and sends it to the graveyard. This
-     * implements effects like "Fissure" and "Smashing Ground".
-     * </p>
-     * <p>
-     * The search process:
-     * <ol>
-     * <li>Iterates through all 5 monster zones</li>
-     * <li>Identifies MonsterCards in each zone</li>
-     * <li>Tracks the monster with the lowest ATK value</li>
-     * <li>Destroys that monster if one is found</li>
-     * </ol>
-     * </p>
-     * <p>
-     * If multiple monsters have the same lowest ATK, the first one encountered is
-     * destroyed. If no monsters are on the field, the method does nothing.
-     * </p>
-     * <p>
-     * Debug information about the destroyed monster (name and ATK) is printed to
-     * the console.
-     * </p>
-     *
-     * @param board the GridPane whose weakest monster should be destroyed
-     */
-    public void destroyWeakestMonster(GridPane board) {
-        int monsterRow = (board == boardJoueur1) ? 0 : 1;
-        MonsterCard weakest = null;
-        ImageView weakestView = null;
-        StackPane weakestZone = null;
-        int minAtk = Integer.MAX_VALUE;
-        
-        for (int col = 1; col <= 5; col++) {
-            final int currentCol = col;
-            Node cell = board.getChildren().stream()
-                .filter(n -> {
-                    Integer rowIdx = GridPane.getRowIndex(n);
-                    Integer colIdx = GridPane.getColumnIndex(n);
-                    int row = (rowIdx == null) ? 0 : rowIdx;
-                    int column = (colIdx == null) ? 0 : colIdx;
-                    return row == monsterRow && column == currentCol;
-                })
-                .findFirst()
-                .orElse(null);
-            
-            if (cell instanceof StackPane) {
-                StackPane zone = (StackPane) cell;
-                for (Node child : zone.getChildren()) {
-                    if (child instanceof ImageView) {
-                        ImageView view = (ImageView) child;
-                        Object cardObj = view.getProperties().get("card");
-                        if (cardObj instanceof MonsterCard) {
-                            MonsterCard monster = (MonsterCard) cardObj;
-                            if (monster.getAtk() < minAtk) {
-                                minAtk = monster.getAtk();
-                                weakest = monster;
-                                weakestView = view;
-                                weakestZone = zone;
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        
-        if (weakest != null && weakestView != null && weakestZone != null) {
-            weakestZone.getChildren().remove(weakestView);
-            sendToGraveyard(weakest, weakestView, board);
-            System.out.println("Monster destroyed: " + weakest.getName() + " (ATK: " + weakest.getAtk() + ")");
-        }
-    }
-
-    
-        /**
-     * Initializes and displays the complete game UI for a Yu-Gi-Oh! duel.
+     * Initializes and displays the complete duel interface.
      * <p>
-     * This is the main entry point of the JavaFX application. It performs extensive
-     * setup to create a fully functional duel board with all necessary components,
-     * game logic, and user interactions. The method builds the entire UI hierarchy
-     * and configures all event handlers for gameplay.
+     * This is the main entry point for the JavaFX application. It creates the
+     * players and their decks, starts the {@link DuelEngine}, builds the UI
+     * and starts the first turn. A board created with a saved duel skips the
+     * first steps and continues the duel where it was saved.
      * </p>
      * <p>
      * <strong>Initialization Steps:</strong>
      * <ol>
-     * <li><strong>Players and Game:</strong> Creates Player objects for Yugi and Kaiba,
-     *     initializes the Game controller</li>
-     * <li><strong>Life Points System:</strong> Sets up LP labels, input fields, and +/-
-     *     toggle buttons for manual LP adjustment during the duel</li>
+     * <li><strong>Players and Decks:</strong> Creates Player objects for Yugi and Kaiba
+     *     and loads Starter Deck: Yugi and Starter Deck: Kaiba from the YGOPRODeck API.
+     *     If loading fails, empty decks are used and error messages are printed to stderr.</li>
+     * <li><strong>Engine:</strong> Creates the duel with its undo history and deals
+     *     the opening hands ({@link DuelEngine#start()})</li>
+     * <li><strong>Life Points:</strong> Labels bound to the {@link BoardModel}</li>
      * <li><strong>Phase Management:</strong> Creates phase indicator, turn counter, and
      *     buttons for each phase (DP, SP, MP1, BP, MP2, EP) with "End Turn" button</li>
      * <li><strong>Game Boards:</strong> Builds both player and opponent boards with all
      *     zones using {@link #buildPlayerBoard}</li>
-     * <li><strong>Graveyard Interaction:</strong> Sets up click handlers on graveyard zones
-     *     to open popup windows via {@link #showGraveyardPopup}</li>
-     * <li><strong>Deck Loading:</strong> Loads Starter Deck: Yugi and Starter Deck: Kaiba
-     *     from YGOPRODeck API, shuffles them, and draws initial 5-card hands</li>
-     * <li><strong>Deck Interaction:</strong> Configures deck zones with:
-     *     <ul>
-     *     <li>Left-click to draw a card</li>
-     *     <li>Right-click to view entire deck (via {@link #showDeckPopup})</li>
-     *     <li>Card counter display showing remaining cards</li>
-     *     </ul>
-     * </li>
+     * <li><strong>Deck Interaction:</strong> Right-click on the player's deck opens the
+     *     deck viewer (via {@link #showDeckPopup})</li>
      * <li><strong>Card Info and Actions:</strong> Creates info display area and action
      *     button zone on the right side</li>
-     * <li><strong>Bot Integration:</strong> Initializes SimpleBot with joueur2 and enables
-     *     automatic bot play when it's their turn</li>
+     * <li><strong>Bot Integration:</strong> Initializes SimpleBot on the top side,
+     *     which plays its turns when {@link #startTurn()} reaches them</li>
      * <li><strong>Music:</strong> Starts background duel music</li>
      * <li><strong>Styling:</strong> Applies CSS stylesheet for visual theming</li>
+     * <li><strong>Save:</strong> Closing the window saves the duel (see {@link #SAVE_FILE})</li>
      * </ol>
      * </p>
      * <p>
      * <strong>Layout Structure:</strong>
      * <pre>
      * BorderPane root
-     * ├── Top: Life Points bar (LP labels + inputs + toggle buttons)
+     * ├── Top: Life Points bar (LP labels)
      * ├── Center: VBox
      * │   ├── Opponent's hand (card backs, hidden)
      * │   ├── Opponent's board (ScrollPane)
@@ -2491,262 +1939,119 @@ public class DuelBoard extends Application {
      * </pre>
      * </p>
      * <p>
-     * <strong>Life Points System:</strong>
-     * Players can manually adjust life points using text fields and +/- toggle buttons.
-     * This is useful for:
-     * <ul>
-     * <li>Correcting life points after mistakes</li>
-     * <li>Applying card effect damage/healing that isn't automated</li>
-     * <li>Testing specific game scenarios</li>
-     * </ul>
-     * </p>
-     * <p>
      * <strong>Phase Buttons:</strong>
-     * Each phase has a dedicated button. The current phase is highlighted in light blue.
-     * Clicking a phase button:
-     * <ul>
-     * <li>Changes the game phase immediately</li>
-     * <li>Updates the phase label</li>
-     * <li>Refreshes action buttons for the selected card (if any)</li>
-     * <li>May enable/disable certain actions (e.g., Attack only in Battle Phase)</li>
-     * </ul>
-     * </p>
-     * <p>
-     * <strong>End Turn Behavior:</strong>
-     * When "End Turn" is clicked:
-     * <ul>
-     * <li>Resets attack flags for all monsters on both fields</li>
-     * <li>Calls {@link Game#endTurn()} to switch players</li>
-     * <li>Updates turn counter and player indicator</li>
-     * <li>Resets to Draw Phase with button highlighting</li>
-     * <li>If bot is enabled and it's joueur2's turn, bot automatically plays with
-     *     a 4.1-second delay using PauseTransition for UI updates</li>
-     * </ul>
-     * </p>
-     * <p>
-     * <strong>Deck Clicking Behavior:</strong>
-     * <ul>
-     * <li><strong>Player's deck (left-click):</strong> Draws a card, shows it face-up,
-     *     adds to hand with full interaction</li>
-     * <li><strong>Player's deck (right-click):</strong> Opens deck viewer popup</li>
-     * <li><strong>Opponent's deck (click):</strong> Draws a card as card back (hidden),
-     *     adds to opponent's hand. Player cannot see what was drawn.</li>
-     * </ul>
-     * </p>
-     * <p>
-     * <strong>Card Loading:</strong>
-     * Decks are loaded from YGOPRODeck API using specific starter deck URLs. If loading
-     * fails, empty decks and hands are created to prevent crashes. Error messages are
-     * printed to stderr for debugging.
-     * </p>
-     * <p>
-     * <strong>Graveyard and Deck Zones:</strong>
-     * Special handling for graveyard zones which may be in an HBox (opponent's side).
-     * Debug messages are printed to console to verify proper detection and event handler
-     * attachment.
-     * </p>
-     * <p>
-     * <strong>Bot Automatic Play:</strong>
-     * When bot is enabled and joueur2's turn starts, the bot automatically executes its
-     * turn via {@link SimpleBot#playTurn()}. A PauseTransition ensures the UI updates
-     * correctly after the bot finishes (4.1 seconds to account for bot action delays).
+     * Each phase has a dedicated button; the current phase is highlighted in light
+     * blue. Only the phases the player can move to are enabled: Battle Phase from
+     * Main Phase 1 (not on the first turn), Main Phase 2 from Main Phase 1 or the
+     * Battle Phase, and End Phase, which ends the turn like "End Turn". Undo and
+     * Redo sit next to "End Turn".
      * </p>
      *
      * @param stage the primary Stage provided by JavaFX for displaying the game window
      */
     @Override
     public void start(Stage stage) {
-        // === Players and Game ===
-        joueur1 = new Player("Yugi");
-        joueur2 = new Player("Kaiba");
-
-        game = new Game(joueur1, joueur2);
+        if (engine == null) {
+            // === Players and Decks ===
+            joueur1 = new Player("Yugi");
+            joueur2 = new Player("Kaiba");
+
+            joueur1.setDeck(loadDeck(
+                "https://db.ygoprodeck.com/api/v7/cardinfo.php?cardset=starter%20deck:%20yugi", joueur1));
+            joueur2.setDeck(loadDeck(
+                "https://db.ygoprodeck.com/api/v7/cardinfo.php?cardset=starter%20deck:%20kaiba", joueur2));
+
+            // === Engine: the duel starts with 5 cards in each hand ===
+            engine = new DuelEngine(joueur1, joueur2);
+            engine.start();
+        } else {
+            // === Resumed or hot-seat duel ===
+            joueur1 = engine.getPlayer(BOTTOM);
+            joueur2 = engine.getPlayer(TOP);
+        }
+        if (isLocalDuel()) {
+            engine.enableUndo(UNDO_CAPACITY);
+        }
 
         BorderPane root = new BorderPane();
 
         // === Life Points ===
-        lpJoueur1 = new Label(joueur1.getName() + " LP: " + lp1[0]);
+        // Bound once: each Life Points change only updates its own label
+        lpJoueur1 = new Label();
+        lpJoueur1.textProperty().bind(Bindings.concat(joueur1.getName() + " LP: ", model.lifePointsProperty(0)));
         lpJoueur1.getStyleClass().addAll("lp-label", "lp-j1");
 
-        lpJoueur2 = new Label(joueur2.getName() + " LP: " + lp2[0]);
+        lpJoueur2 = new Label();
+        lpJoueur2.textProperty().bind(Bindings.concat(joueur2.getName() + " LP: ", model.lifePointsProperty(1)));
         lpJoueur2.getStyleClass().addAll("lp-label", "lp-j2");
 
-        TextField input1 = new TextField();
-        input1.setPromptText("Amount " + joueur1.getName());
-        input1.getStyleClass().add("lp-input");
-
-        TextField input2 = new TextField();
-        input2.setPromptText("Amount " + joueur2.getName());
-        input2.getStyleClass().add("lp-input");
-
-        Button toggle1 = new Button("+");
-        Button toggle2 = new Button("+");
-        toggle1.getStyleClass().add("lp-toggle");
-        toggle2.getStyleClass().add("lp-toggle");
-
-        toggle1.setOnAction(e -> toggle1.setText(toggle1.getText().equals("+") ? "-" : "+"));
-        toggle2.setOnAction(e -> toggle2.setText(toggle2.getText().equals("+") ? "-" : "+"));
-
-        input1.setOnAction(e -> {
-            try {
-                int val = Integer.parseInt(input1.getText());
-                lp1[0] += toggle1.getText().equals("+") ? val : -val;
-                lpJoueur1.setText(joueur1.getName() + " LP: " + lp1[0]);
-                input1.clear();
-            } catch (NumberFormatException ex) {
-                input1.setText("Error");
-            }
-        });
-
-        input2.setOnAction(e -> {
-            try {
-                int val = Integer.parseInt(input2.getText());
-                lp2[0] += toggle2.getText().equals("+") ? val : -val;
-                lpJoueur2.setText(joueur2.getName() + " LP: " + lp2[0]);
-                input2.clear();
-            } catch (NumberFormatException ex) {
-                input2.setText("Error");
-            }
-        });
-
-        HBox lpBox = new HBox(50, lpJoueur1, input1, toggle1, lpJoueur2, input2, toggle2);
+        HBox lpBox = new HBox(50, lpJoueur1, lpJoueur2);
         lpBox.setAlignment(Pos.CENTER);
         lpBox.getStyleClass().add("lp-bar");
 
         // === Phases / Turn ===
-        phaseLabel = new Label("Current Phase: " + game.getCurrentPhase().getLabel());
+        // Labels and buttons are bound to the model once, then only the changed nodes update
+        model.sync(engine);
+
+        phaseLabel = new Label();
+        phaseLabel.textProperty().bind(Bindings.createStringBinding(
+            () -> "Current Phase: " + model.phaseProperty().get().getLabel(), model.phaseProperty()));
         phaseLabel.getStyleClass().add("phase-label");
 
-        Label joueurActif = new Label(game.getCurrentPlayer().getName() + "'s Turn");
+        Label joueurActif = new Label();
+        joueurActif.textProperty().bind(Bindings.createStringBinding(
+            () -> model.activePlayerProperty().get().getName() + "'s Turn", model.activePlayerProperty()));
         joueurActif.getStyleClass().add("active-player");
 
-        Label tourLabel = new Label("Turn: " + game.getTurnCount());
+        Label tourLabel = new Label();
+        tourLabel.textProperty().bind(Bindings.concat("Turn: ", model.turnProperty()));
         tourLabel.getStyleClass().add("tour-label");
 
         HBox phaseBox = new HBox(20);
         phaseBox.setAlignment(Pos.CENTER);
 
+        phaseButtons = new Button[Phase.values().length];
         for (Phase phase : Phase.values()) {
             Button phaseButton = new Button(phase.name());
-            phaseButton.setStyle("-fx-font-size: 14px; -fx-padding: 10;");
-            if (phase == game.getCurrentPhase()) {
-                phaseButton.setStyle("-fx-font-size: 14px; -fx-padding: 10; -fx-background-color: lightblue;");
-            }
-
-            phaseButton.setOnAction(e -> {
-                game.setPhase(phase);
-                phaseLabel.setText("Current Phase: " + game.getCurrentPhase().getLabel());
-                phaseBox.getChildren().forEach(node -> node.setStyle("-fx-font-size: 14px; -fx-padding: 10;"));
-                phaseButton.setStyle("-fx-font-size: 14px; -fx-padding: 10; -fx-background-color: lightblue;");
-
-                // Rebuild action zone if a card is selected
-                if (selectedCard != null && selectedView != null) {
-                    createActionButtonsForPlacedCard(
-                        selectedCard, selectedView, null, null, cardInfoArea, actionZone,
-                        Boolean.TRUE.equals(selectedView.getProperties().get("isOpponent"))
-                    );
-                }
-            });
-
+            phaseButton.getStyleClass().add("phase-button");
+            phaseButton.pseudoClassStateChanged(CURRENT_PHASE, phase == model.phaseProperty().get());
+            phaseButton.setOnAction(e -> goToPhase(phase));
+            phaseButtons[phase.ordinal()] = phaseButton;
             phaseBox.getChildren().add(phaseButton);
         }
 
-        Button finTour = new Button("End Turn");
-        finTour.getStyleClass().add("button-fin-tour");
-
-        finTour.setOnAction(e -> {
-            // Reset attack flags for all monsters on both fields
-            resetAttackFlags(boardJoueur1);
-            resetAttackFlags(opponentBoard);
-
-            game.endTurn();
-            joueurActif.setText(game.getCurrentPlayer().getName() + "'s Turn");
-            phaseLabel.setText("Current Phase: " + game.getCurrentPhase().getLabel());
-            tourLabel.setText("Turn: " + game.getTurnCount());
-            
-            phaseBox.getChildren().forEach(node -> node.setStyle("-fx-font-size: 14px; -fx-padding: 10;"));
-            phaseBox.getChildren().stream()
-                .filter(n -> n instanceof Button && ((Button) n).getText().equals(Phase.DP.name()))
-                .findFirst()
-                .ifPresent(n -> n.setStyle("-fx-font-size: 14px; -fx-padding: 10; -fx-background-color: lightblue;"));
-            
-            if (isBotEnabled && game.getCurrentPlayer() == joueur2) {
-                bot.playTurn();
-                
-                // Update UI AFTER bot's turn completes
-                // Wait for bot's Timeline to finish
-                javafx.animation.PauseTransition pause = new javafx.animation.PauseTransition(javafx.util.Duration.millis(4100));
-                pause.setOnFinished(event -> {
-                    joueurActif.setText(game.getCurrentPlayer().getName() + "'s Turn");
-                    phaseLabel.setText("Current Phase: " + game.getCurrentPhase().getLabel());
-                    tourLabel.setText("Turn: " + game.getTurnCount());
-                    
-                    phaseBox.getChildren().forEach(node -> node.setStyle("-fx-font-size: 14px; -fx-padding: 10;"));
-                    phaseBox.getChildren().stream()
-                        .filter(n -> n instanceof Button && ((Button) n).getText().equals(Phase.DP.name()))
-                        .findFirst()
-                        .ifPresent(n -> n.setStyle("-fx-font-size: 14px; -fx-padding: 10; -fx-background-color: lightblue;"));
-                });
-                pause.play();
-            }
+        // Only the previous and the new current button change state
+        model.phaseProperty().addListener((obs, previous, current) -> {
+            if (previous != null) phaseButtons[previous.ordinal()].pseudoClassStateChanged(CURRENT_PHASE, false);
+            if (current != null) phaseButtons[current.ordinal()].pseudoClassStateChanged(CURRENT_PHASE, true);
+            showLethalHint(current);
         });
 
-        VBox phaseZone = new VBox(5, joueurActif, phaseLabel, tourLabel, phaseBox, finTour);
+        endTurnButton = new Button("End Turn");
+        endTurnButton.getStyleClass().add("button-fin-tour");
+        endTurnButton.setOnAction(e -> endTurn());
+
+        undoButton = new Button("Undo");
+        undoButton.setOnAction(e -> undo());
+        redoButton = new Button("Redo");
+        redoButton.setOnAction(e -> redo());
+
+        HBox turnBox = new HBox(10, undoButton, redoButton, endTurnButton);
+        turnBox.setAlignment(Pos.CENTER);
+
+        VBox phaseZone = new VBox(5, joueurActif, phaseLabel, tourLabel, phaseBox, turnBox);
         phaseZone.setAlignment(Pos.CENTER);
 
         // === Boards (global fields) ===
         boardJoueur1 = buildPlayerBoard("Player", false);
         opponentBoard = buildPlayerBoard("Opponent", true);
 
-        // === Connect clicks on graveyards ===
-
-        // Player 1's graveyard
-        StackPane graveyardJ1 = (StackPane) boardJoueur1.getChildren().stream()
-            .filter(node -> node.getStyleClass().contains("graveyard-zone"))
-            .findFirst()
-            .orElse(null);
-
-        if (graveyardJ1 != null) {
-            graveyardJ1.setOnMouseClicked(e -> {
-                if (e.getButton() == MouseButton.PRIMARY) {
-                    showGraveyardPopup(graveyardJ1, joueur1.getName(), false);
-                }
-            });
-            graveyardJ1.setStyle(graveyardJ1.getStyle() + "; -fx-cursor: hand;");
-        }
-
-        // Player 2's graveyard (in HBox for opponent)
-        StackPane graveyardJ2 = null;
-        for (Node node : opponentBoard.getChildren()) {
-            if (node instanceof HBox) {
-                for (Node child : ((HBox) node).getChildren()) {
-                    if (child.getStyleClass().contains("graveyard-zone") && child instanceof StackPane) {
-                        graveyardJ2 = (StackPane) child;
-                        System.out.println("Opponent's graveyard found!");
-                        break;
-                    }
-                }
+        // Right-click on the deck to view its cards
+        deckCounts[BOTTOM].getParent().setOnMouseClicked(e -> {
+            if (e.getButton() == MouseButton.SECONDARY) {
+                showDeckPopup(BOTTOM);
             }
-            if (graveyardJ2 != null) break;
-        }
-
-        if (graveyardJ2 != null) {
-            StackPane finalGraveyardJ2 = graveyardJ2;
-            
-            // Add style to show zone is clickable
-            graveyardJ2.setStyle(graveyardJ2.getStyle() + "; -fx-cursor: hand; -fx-border-color: red; -fx-border-width: 2px;");
-            
-            graveyardJ2.setOnMouseClicked(e -> {
-                System.out.println("Click detected on opponent's graveyard!");
-                if (e.getButton() == MouseButton.PRIMARY) {
-                    showGraveyardPopup(finalGraveyardJ2, joueur2.getName(), true);
-                }
-            });
-            
-            System.out.println("Click handler added to opponent's graveyard");
-        } else {
-            System.out.println("Opponent's graveyard not found!");
-        }
+        });
 
         // === Card info display area ===
         cardInfoArea = new TextArea();
@@ -2759,181 +2064,17 @@ public class DuelBoard extends Application {
         actionZone = new VBox(10);
         actionZone.setAlignment(Pos.TOP_CENTER);
         actionZone.getStyleClass().add("action-zone");
-        root.setRight(actionZone);
-
-        // === Decks and hands ===
-        try {
-            // Yugi's Deck
-            List<Card> deckCardsJ1 = CardLoader.loadCardsFromSet(
-                "https://db.ygoprodeck.com/api/v7/cardinfo.php?cardset=starter%20deck:%20yugi",
-                joueur1
-            );
-            deckJ1 = new Deck(deckCardsJ1);
-            deckJ1.shuffle();
-
-            // Assign deck to joueur1
-            joueur1.setDeck(deckJ1);
-
-            List<Card> mainJoueur1 = new ArrayList<>();
-            for (int i = 0; i < 5; i++) {
-                Card c = deckJ1.draw();
-                if (c != null) mainJoueur1.add(c);
-            }
-            handJ1 = buildPlayerHandFromCards(mainJoueur1, boardJoueur1, false, cardInfoArea, actionZone);
-            handJ1.setPrefHeight(150);
-
-            List<Card> deckCardsJ2 = CardLoader.loadCardsFromSet(
-                "https://db.ygoprodeck.com/api/v7/cardinfo.php?cardset=starter%20deck:%20kaiba",
-                joueur2
-            );
-            deckJ2 = new Deck(deckCardsJ2);
-            deckJ2.shuffle();
-
-            // Assign deck to joueur2
-            joueur2.setDeck(deckJ2);
-
-            List<Card> mainJoueur2 = new ArrayList<>();
-            for (int i = 0; i < 5; i++) {
-                Card c = deckJ2.draw();
-                if (c != null) mainJoueur2.add(c);
-            }
-            handJ2 = buildPlayerHandFromCards(mainJoueur2, opponentBoard, true, cardInfoArea, actionZone);
-            handJ2.setPrefHeight(150);
-
-        } catch (Exception e) {
-            System.err.println("Error loading decks: " + e.getMessage());
-            deckJ1 = new Deck();
-            deckJ2 = new Deck();
-            handJ1 = new HBox();
-            handJ2 = new HBox();
-        }
-
-        // Declare variable before using it
-        Label deckCountJ1 = null;
-
-        // === Connect Player 1's Deck zone (counter + draw) ===
-        StackPane deckZoneJ1 = (StackPane) boardJoueur1.getChildren().stream()
-            .filter(node -> node.getStyleClass().contains("deck-zone"))
-            .findFirst()
-            .orElse(null);
-
-        // Right-click on deck to view entire deck
-        if (deckZoneJ1 != null) {
-            deckCountJ1 = (Label) deckZoneJ1.getChildren().stream()
-                .filter(node -> node.getStyleClass().contains("deck-count"))
-                .findFirst()
-                .orElse(null);
-
-            if (deckCountJ1 != null) {
-                deckCountJ1.setText("Cards: " + deckJ1.size());
-            }
-
-            // Create final variable for use in lambda
-            final Label finalDeckCountJ1 = deckCountJ1;
-
-            deckZoneJ1.setOnMouseClicked(e -> {
-                if (e.getButton() == MouseButton.PRIMARY) {
-                    Card drawn = deckJ1.draw();
-                    if (drawn != null) {
-                        ImageView view = new ImageView(drawn.getImage());
-                        view.setFitWidth(88);
-                        view.setFitHeight(132);
-                        handJ1.getChildren().add(view);
-
-                        view.setOnMouseClicked(ev -> {
-                            selectCard(view, boardJoueur1, handJ1, cardInfoArea, drawn);
-                            createActionButtonsForCard(drawn, view, boardJoueur1, handJ1, cardInfoArea, actionZone, false);
-                        });
-
-                        cardInfoArea.setText(drawn.toString());
-                        if (finalDeckCountJ1 != null) {
-                            finalDeckCountJ1.setText("Cards: " + deckJ1.size());
-                        }
-                    }
-                } else if (e.getButton() == MouseButton.SECONDARY) {
-                    showDeckPopup(deckJ1, joueur1.getName());
-                }
-            });
-        }
-
-        // === Connect Opponent's Deck zone (counter + draw with card back) ===
-        StackPane deckZoneJ2 = (StackPane) opponentBoard.getChildren().stream()
-            .filter(node -> node.getStyleClass().contains("deck-zone"))
-            .findFirst()
-            .orElse(null);
-
-        if (deckZoneJ2 != null) {
-            Label deckCountJ2 = (Label) deckZoneJ2.getChildren().stream()
-                .filter(node -> node.getStyleClass().contains("deck-count"))
-                .findFirst()
-                .orElse(null);
-
-            if (deckCountJ2 != null) deckCountJ2.setText("Cards: " + deckJ2.size());
-
-            deckZoneJ2.setOnMouseClicked(e -> {
-                Card drawn = deckJ2.draw();
-                if (drawn != null) {
-                    try {
-                        Image backImg = new Image(getClass().getResource("/ui/card_back.png").toExternalForm());
-                        ImageView back = new ImageView(backImg);
-                        back.setFitWidth(88);
-                        back.setFitHeight(132);
-                        back.setRotate(180);
-
-                        // Properties
-                        back.getProperties().put("faceDown", true);
-                        back.getProperties().put("isOpponent", true);
-                        back.getProperties().put("position", "ATK"); // default
-
-                        // Click on opponent's card in hand (back visible)
-                        back.setOnMouseClicked(ev -> {
-                            if (attackMode && attackerCard != null && attackerView != null && drawn instanceof MonsterCard) {
-                                // Clicked card is the target
-                                resolveBattle(attackerCard, attackerView, (MonsterCard) drawn, back, true);
-                                // Reset attack mode
-                                attackMode = false;
-                                attackerCard = null;
-                                attackerView = null;
-                            } else {
-                                // Normal selection
-                                selectCard(back, opponentBoard, handJ2, cardInfoArea, drawn);
-                                createActionButtonsForCard(drawn, back, opponentBoard, handJ2, cardInfoArea, actionZone, true);
-                            }
-                        });
-
-                        handJ2.getChildren().add(back);
-
-                    } catch (Exception ex) {
-                        // Fallback: face-up if card back image unavailable
-                        ImageView view = new ImageView(drawn.getImage());
-                        view.setFitWidth(88);
-                        view.setFitHeight(132);
-                        view.setRotate(180);
-
-                        view.getProperties().put("faceDown", false);
-                        view.getProperties().put("isOpponent", true);
-                        view.getProperties().put("position", "ATK");
-
-                        // Click on opponent's card in hand (face visible)
-                        view.setOnMouseClicked(ev -> {
-                            if (attackMode && attackerCard != null && attackerView != null && drawn instanceof MonsterCard) {
-                                resolveBattle(attackerCard, attackerView, (MonsterCard) drawn, view, true);
-                                attackMode = false;
-                                attackerCard = null;
-                                attackerView = null;
-                            } else {
-                                selectCard(view, opponentBoard, handJ2, cardInfoArea, drawn);
-                                createActionButtonsForCard(drawn, view, opponentBoard, handJ2, cardInfoArea, actionZone, true);
-                            }
-                        });
-
-                        handJ2.getChildren().add(view);
-                    }
 
-                    if (deckCountJ2 != null) deckCountJ2.setText("Cards: " + deckJ2.size());
-                }
-            });
+        // === Hands, filled by refresh ===
+        handJ1 = new HBox(10);
+        handJ2 = new HBox(10);
+        for (HBox hand : new HBox[] {handJ1, handJ2}) {
+            hand.setAlignment(Pos.CENTER);
+            hand.getStyleClass().add("hand-zone");
+            hand.setPrefHeight(150);
         }
+        hands[BOTTOM] = handJ1;
+        hands[TOP] = handJ2;
 
         // === Scroll around boards ===
         ScrollPane scrollBoardJ1 = new ScrollPane(boardJoueur1);
@@ -2959,19 +2100,58 @@ public class DuelBoard extends Application {
         root.setRight(actionZone);
         root.setBottom(new VBox(10, handJ1, cardInfoArea)); // J1 hand + info
 
-        // After creating joueur1, joueur2, game, etc.
-        bot = new SimpleBot(game, joueur2, opponentBoard, handJ2, this);
-        isBotEnabled = true; // Enable bot
+        // The bot plays the top side
+        bot = new SimpleBot(this, TOP);
+        isBotEnabled = isLocalDuel(); // Enable bot, no bot in hot-seat and online
+        bindModel();
 
         Scene scene = new Scene(root, 1200, 950);
         scene.getStylesheets().add(getClass().getResource("/ui/board.css").toExternalForm());
+        scene.getAccelerators().put(new KeyCodeCombination(KeyCode.Z, KeyCombination.SHORTCUT_DOWN), this::undo);
+        scene.getAccelerators().put(new KeyCodeCombination(KeyCode.Y, KeyCombination.SHORTCUT_DOWN), this::redo);
 
         // Start duel music
         MusicPlayer.playMusic("/audio/Main_Song_2.mp3");
 
         stage.setScene(scene);
         stage.setTitle("Yu-Gi-Oh! Duel Board");
+        stage.setOnCloseRequest(e -> saveDuel());
         stage.show();
+
+        // A duel saved during the bot's turn resumes once the bot has ended it
+        if (isBotEnabled && engine.getPhase() != Phase.DP && engine.getActiveIndex() == bot.getSide()) {
+            engine.endTurn();
+        }
+        if (client != null) {
+            // The server has begun the turn; the opponent may play first
+            showState(client.getState());
+            if (!engine.isOver() && engine.getActiveIndex() != BOTTOM) {
+                awaitOpponent();
+            }
+        } else if (engine.getPhase() == Phase.DP) {
+            // The first player does not draw on the first turn
+            startTurn();
+        } else {
+            refresh();
+        }
+    }
+
+    /**
+     * Loads and shuffles a starter deck.
+     *
+     * @param url the YGOPRODeck API URL of the set
+     * @param owner the player who owns the cards
+     * @return the shuffled deck, or an empty deck if loading failed
+     */
+    private Deck loadDeck(String url, Player owner) {
+        try {
+            Deck deck = new Deck(CardLoader.loadCardsFromSet(url, owner));
+            deck.shuffle();
+            return deck;
+        } catch (Exception e) {
+            System.err.println("Error loading decks: " + e.getMessage());
+            return new Deck();
+        }
     }
 
     /**
@@ -2992,4 +2172,4 @@ public class DuelBoard extends Application {
     public static void main(String[] args) {
         launch(args);
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,25 @@
 package ui;
 
+import Game.SaveGame;
+import Tournament.DeckList;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.TextInputDialog;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import net.DuelClient;
+import net.LockstepPeer;
+import net.Protocol;
 import util.MusicPlayer;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
 /**
  * Main menu screen for the Yu-Gi-Oh! game application.
  * <p>
@@ -22,6 +33,9 @@ import util.MusicPlayer;
  * <ul>
  * <li>A Yu-Gi-Oh! logo displayed at the top</li>
  * <li>A "Start Duel" button that launches the game board</li>
+ * <li>A "Resume Duel" button that continues the duel saved when the board was closed</li>
+ * <li>A "Hot-Seat Duel" button for two players sharing the screen</li>
+ * <li>A "Play Online" button that joins a duel server</li>
  * <li>A "Quit" button to exit the application</li>
  * <li>Background music that plays automatically when the menu opens</li>
  * <li>Styled UI elements loaded from an external CSS file</li>
@@ -69,6 +83,13 @@ public class MainMenu extends Application {
      * <strong>Button Actions:</strong>
      * <ul>
      * <li><strong>Start Duel:</strong> Transitions to the {@link DuelBoard} to begin gameplay</li>
+     * <li><strong>Resume Duel:</strong> Loads {@link DuelBoard#SAVE_FILE} and continues the
+     *     duel; disabled when there is no saved duel</li>
+     * <li><strong>Hot-Seat Duel:</strong> Starts a duel between two built-in decks, both
+     *     sides played on this screen in lockstep ({@link LockstepPeer})</li>
+     * <li><strong>Play Online:</strong> Asks for the address of a {@link net.DuelServer},
+     *     waits in its queue for an opponent without freezing the menu, then plays the
+     *     duel on the {@link DuelBoard}</li>
      * <li><strong>Quit:</strong> Closes the application window and exits</li>
      * </ul>
      * </p>
@@ -87,6 +108,10 @@ public class MainMenu extends Application {
 
         // Menu buttons
         Button startBtn = new Button("Start Duel");
+        Button resumeBtn = new Button("Resume Duel");
+        resumeBtn.setDisable(!Files.exists(DuelBoard.SAVE_FILE));
+        Button hotSeatBtn = new Button("Hot-Seat Duel");
+        Button onlineBtn = new Button("Play Online");
         // Button optionsBtn = new Button("Options"); // TODO: Implement options screen
         Button quitBtn = new Button("Quit");
 
@@ -99,11 +124,30 @@ public class MainMenu extends Application {
                 ex.printStackTrace();
             }
         });
+        resumeBtn.setOnAction(e -> {
+            try {
+                new DuelBoard(SaveGame.load(DuelBoard.SAVE_FILE)).start(stage);
+            } catch (IOException | IllegalArgumentException ex) {
+                System.err.println("Error loading the saved duel: " + ex.getMessage());
+                resumeBtn.setDisable(true);
+            }
+        });
+        hotSeatBtn.setOnAction(e -> {
+            List<DeckList> decks = DeckList.samples();
+            LockstepPeer[] peers = LockstepPeer.pair(decks.get(0), decks.get(1), System.nanoTime());
+            new DuelBoard(peers[0], peers[1]).start(stage);
+        });
+        onlineBtn.setOnAction(e -> {
+            TextInputDialog dialog = new TextInputDialog("localhost");
+            dialog.setTitle("Play Online");
+            dialog.setHeaderText("Address of the duel server (port " + Protocol.DEFAULT_PORT + ")");
+            dialog.showAndWait().ifPresent(host -> joinOnline(stage, onlineBtn, host.trim()));
+        });
         // optionsBtn.setOnAction(e -> System.out.println("Options opened...")); // TODO
         quitBtn.setOnAction(e -> stage.close());
 
         // Layout configuration
-        VBox root = new VBox(20, logo, startBtn, quitBtn);
+        VBox root = new VBox(20, logo, startBtn, resumeBtn, hotSeatBtn, onlineBtn, quitBtn);
         root.setStyle("-fx-padding: 40; -fx-alignment: center;");
 
         // Create scene with specified dimensions
@@ -118,6 +162,42 @@ public class MainMenu extends Application {
         stage.show();
     }
 
+    /**
+     * Joins the queue of a duel server and opens the board once an opponent is found.
+     * <p>
+     * Connecting and waiting block, so they run on a daemon thread; the
+     * button tells the player to wait meanwhile.
+     * </p>
+     *
+     * @param stage the window of the menu, reused by the board
+     * @param onlineBtn the "Play Online" button
+     * @param host the host name of the server
+     */
+    private void joinOnline(Stage stage, Button onlineBtn, String host) {
+        onlineBtn.setDisable(true);
+        onlineBtn.setText("Waiting for an opponent...");
+        Thread waiter = new Thread(() -> {
+            String name = System.getProperty("user.name", "Player");
+            try {
+                DuelClient client = new DuelClient(host, Protocol.DEFAULT_PORT);
+                if (client.hello(name, 0)) {
+                    Platform.runLater(() -> new DuelBoard(client, name).start(stage));
+                    return;
+                }
+                client.close();
+                System.err.println("The duel server refused to start a duel");
+            } catch (IOException ex) {
+                System.err.println("Error joining the duel server: " + ex.getMessage());
+            }
+            Platform.runLater(() -> {
+                onlineBtn.setText("Play Online");
+                onlineBtn.setDisable(false);
+            });
+        }, "duel-client");
+        waiter.setDaemon(true);
+        waiter.start();
+    }
+
     /**
      * Application entry point.
      * <p>
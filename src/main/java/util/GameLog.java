@@ -0,0 +1,52 @@
+package util;
+
+/**
+ * Console log of the game model.
+ * <p>
+ * The board, the players, the cards and the bots report every action they
+ * take (summons, attacks, draws, effects) through {@link #println(String)}.
+ * This is what a player follows in the console, but tournaments, load tests
+ * and servers play thousands of duels and only want their own report:
+ * they call {@link #setQuiet(boolean)} once instead of redirecting
+ * {@code System.out}.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class GameLog {
+
+    /** Whether the model messages are dropped */
+    private static volatile boolean quiet;
+
+    private GameLog() {
+    }
+
+    /**
+     * Turns the model messages off or back on, for every thread.
+     *
+     * @param quiet true to drop the messages, false to print them
+     */
+    public static void setQuiet(boolean quiet) {
+        GameLog.quiet = quiet;
+    }
+
+    /**
+     * Tells whether the model messages are dropped.
+     *
+     * @return true if quiet
+     */
+    public static boolean isQuiet() {
+        return quiet;
+    }
+
+    /**
+     * Prints a model message on the console, unless the log is quiet.
+     *
+     * @param message the message
+     */
+    public static void println(String message) {
+        if (!quiet) System.out.println(message);
+    }
+}
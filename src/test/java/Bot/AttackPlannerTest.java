@@ -0,0 +1,128 @@
+package Bot;
+
+import Game.BattleResolver;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link AttackPlanner} against an exhaustive search of every plan.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class AttackPlannerTest {
+
+  private static final int CARD_VALUE = AttackPlanner.DEFAULT_CARD_VALUE;
+
+  private final int[] attackerAtk = new int[AttackPlanner.MAX_MONSTERS];
+  private final int[] defenderAtk = new int[AttackPlanner.MAX_MONSTERS];
+  private final int[] defenderDef = new int[AttackPlanner.MAX_MONSTERS];
+  private final int[] defenderPosition = new int[AttackPlanner.MAX_MONSTERS];
+
+  @Test
+  void testMatchesBruteForceOnFiveByFive() {
+    Random random = new Random(2025);
+    for (int trial = 0; trial < 3000; trial++) {
+      randomField(random, AttackPlanner.MAX_MONSTERS, AttackPlanner.MAX_MONSTERS);
+      checkAgainstBruteForce(AttackPlanner.MAX_MONSTERS, AttackPlanner.MAX_MONSTERS);
+    }
+  }
+
+  @Test
+  void testMatchesBruteForceOnEverySize() {
+    Random random = new Random(11);
+    for (int n = 0; n <= AttackPlanner.MAX_MONSTERS; n++) {
+      for (int m = 0; m <= AttackPlanner.MAX_MONSTERS; m++) {
+        for (int trial = 0; trial < 300; trial++) {
+          randomField(random, n, m);
+          checkAgainstBruteForce(n, m);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testEmptyFieldAttacksDirectly() {
+    attackerAtk[0] = 1200;
+    attackerAtk[1] = 800;
+    int[] out = new int[2];
+    assertEquals(2000, new AttackPlanner().plan(attackerAtk, 2, defenderAtk, defenderDef,
+                                                defenderPosition, 0, out));
+    assertArrayEquals(new int[] {AttackPlanner.DIRECT_ATTACK, AttackPlanner.DIRECT_ATTACK}, out);
+  }
+
+  private void randomField(Random random, int n, int m) {
+    // Steps of 100 ATK/DEF, as in the card pool, so ties happen often
+    for (int i = 0; i < n; i++) attackerAtk[i] = random.nextInt(31) * 100;
+    for (int j = 0; j < m; j++) {
+      defenderAtk[j] = random.nextInt(31) * 100;
+      defenderDef[j] = random.nextInt(31) * 100;
+      defenderPosition[j] = random.nextInt(3);
+    }
+  }
+
+  /**
+   * Checks that the planner finds the best value, and that the plan it
+   * returns is legal and worth that value.
+   */
+  private void checkAgainstBruteForce(int n, int m) {
+    int[] out = new int[Math.max(1, n)];
+    long value = new AttackPlanner(CARD_VALUE).plan(attackerAtk, n, defenderAtk, defenderDef,
+                                                    defenderPosition, m, out);
+    long best = bruteForce(new int[n], 0, n, m);
+    assertEquals(best, value, "best plan value");
+    assertEquals(value, valueOf(out, n, m), "value of the returned plan");
+  }
+
+  /**
+   * Tries every choice of each attacker (idle, direct, or one defender each)
+   * and returns the best legal value.
+   */
+  private long bruteForce(int[] choice, int attacker, int n, int m) {
+    if (attacker == n) {
+      return valueOf(choice, n, m);
+    }
+    long best = Long.MIN_VALUE;
+    for (int c = AttackPlanner.DIRECT_ATTACK; c < m; c++) {
+      choice[attacker] = c;
+      best = Math.max(best, bruteForce(choice, attacker + 1, n, m));
+    }
+    return best;
+  }
+
+  /**
+   * Gets the value of a plan, or {@code Long.MIN_VALUE} if it is illegal
+   * (a defender attacked twice, or a direct attack while a defender survives).
+   */
+  private long valueOf(int[] plan, int n, int m) {
+    boolean[] attacked = new boolean[m];
+    int destroyed = 0;
+    boolean direct = false;
+    long total = 0;
+    for (int i = 0; i < n; i++) {
+      int target = plan[i];
+      if (target == AttackPlanner.NO_ATTACK) continue;
+      if (target == AttackPlanner.DIRECT_ATTACK) {
+        direct = true;
+        total += attackerAtk[i];
+        continue;
+      }
+      if (attacked[target]) return Long.MIN_VALUE;
+      attacked[target] = true;
+      long outcome = BattleResolver.resolve(attackerAtk[i], defenderAtk[target],
+                                            defenderDef[target], defenderPosition[target]);
+      total += BattleResolver.damageToDefender(outcome) - BattleResolver.damageToAttacker(outcome);
+      if (BattleResolver.isDefenderDestroyed(outcome)) {
+        total += CARD_VALUE;
+        destroyed++;
+      }
+      if (BattleResolver.isAttackerDestroyed(outcome)) total -= CARD_VALUE;
+    }
+    if (direct && destroyed < m) return Long.MIN_VALUE;
+    return total;
+  }
+}
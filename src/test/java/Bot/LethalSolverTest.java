@@ -0,0 +1,306 @@
+package Bot;
+
+import Card.MonsterCard;
+import Card.Position;
+import Game.BattleResolver;
+import Game.DuelEngine;
+import TestUtils.DuelTestUtils;
+import Tournament.MovePolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link LethalSolver}: it finds a winning line exactly when an
+ * exhaustive search over summons, tributes and attacks finds one, and the
+ * lines it finds on engine duels win when played.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class LethalSolverTest {
+
+  private static final int ZONES = LethalSolver.MAX_MONSTERS;
+
+  private static final MovePolicy POLICY = new MovePolicy();
+
+  private final int[] ownAtk = new int[ZONES];
+  private final int[] ownStatus = new int[ZONES];
+  private final int[] summonAtk = new int[3];
+  private final int[] oppAtk = new int[ZONES];
+  private final int[] oppDef = new int[ZONES];
+  private final int[] oppPosition = new int[ZONES];
+
+  @Test
+  void testMatchesBruteForce() {
+    Random random = new Random(2025);
+    LethalSolver solver = new LethalSolver();
+    int found = 0;
+    for (int trial = 0; trial < 2000; trial++) {
+      randomBoard(random);
+      boolean summon = random.nextInt(5) > 0;
+      int lifePoints = 100 + random.nextInt(60) * 100;
+
+      boolean expected = bruteForce(summon, lifePoints);
+      assertEquals(expected, solver.solve(ownAtk, ownStatus, summon ? summonAtk : null,
+                                          oppAtk, oppDef, oppPosition, lifePoints), "trial " + trial);
+      if (expected) {
+        found++;
+        checkLine(solver, summon, lifePoints);
+      }
+    }
+    assertTrue(found > 200, "both answers are tested");
+    assertTrue(found < 1800, "both answers are tested");
+  }
+
+  @Test
+  void testEmptyOpponentFieldTakesEveryAttacker() {
+    for (int zone = 0; zone < ZONES; zone++) {
+      ownStatus[zone] = LethalSolver.EMPTY;
+      oppPosition[zone] = LethalSolver.EMPTY;
+    }
+    ownAtk[1] = 1500;
+    ownStatus[1] = LethalSolver.CAN_ATTACK;
+    ownAtk[3] = 1000;
+    ownStatus[3] = LethalSolver.AFTER_POSITION_CHANGE;
+    summonAtk[0] = 1800;
+    summonAtk[1] = -1;
+    summonAtk[2] = -1;
+
+    LethalSolver solver = new LethalSolver();
+    assertFalse(solver.solve(ownAtk, ownStatus, null, oppAtk, oppDef, oppPosition, 3000));
+    assertTrue(solver.solve(ownAtk, ownStatus, null, oppAtk, oppDef, oppPosition, 2500));
+    assertEquals(LethalSolver.NO_SUMMON, solver.getSummonTributes());
+    assertTrue(solver.needsPositionChange(3));
+
+    assertTrue(solver.solve(ownAtk, ownStatus, summonAtk, oppAtk, oppDef, oppPosition, 4300));
+    assertEquals(0, solver.getSummonTributes());
+    assertEquals(LethalSolver.DIRECT_ATTACK, solver.getSummonTarget());
+    assertEquals(4300, solver.getDamage());
+  }
+
+  @Test
+  void testNoLineOnTheFirstTurnOrOutsideTheBattle() {
+    DuelEngine duel = DuelTestUtils.newDuel(DuelTestUtils.deck("40;Monster;1001;Strong;2000;1000;4"),
+                                            DuelTestUtils.deck("40;Monster;1002;Weak;1000;1500;4"), 1);
+    duel.getPlayer(1).decreaseLifePoints(DuelTestUtils.STARTING_LP - 1500);
+    LethalSolver solver = new LethalSolver();
+    duel.beginTurn();
+    assertFalse(solver.solve(new EngineDuelView(duel), true), "no Battle Phase on the first turn");
+    duel.endTurn();
+    duel.beginTurn();
+    duel.endTurn();
+
+    duel.beginTurn();
+    assertTrue(solver.solve(new EngineDuelView(duel), true));
+    assertNotNull(solver.getSummonMonster());
+    duel.enterBattlePhase();
+    assertFalse(solver.solve(new EngineDuelView(duel), true), "nothing on the field can attack");
+    duel.enterMainPhase2();
+    assertFalse(solver.solve(new EngineDuelView(duel), true), "Main Phase 2 comes after the battle");
+  }
+
+  @Test
+  void testLinesWinWhenPlayed() {
+    LethalSolver solver = new LethalSolver();
+    int lines = 0;
+    for (long seed = 0; seed < 60; seed++) {
+      DuelEngine duel = DuelTestUtils.newDuel(seed);
+      duel.enableUndo(100_000);
+      while (!duel.isOver()) {
+        if (!duel.beginTurn()) break;
+        if (solver.solve(new EngineDuelView(duel), true)) {
+          lines++;
+          long snapshot = duel.snapshot();
+          playLine(duel, solver);
+          assertEquals(duel.getActiveIndex(), duel.getResult(), "seed " + seed + " turn " + duel.getTurn());
+          assertTrue(duel.restore(snapshot));
+        }
+        POLICY.mainPhase(duel);
+        if (duel.enterBattlePhase()) {
+          POLICY.battlePhase(duel);
+        }
+        duel.enterMainPhase2();
+        duel.endTurn();
+      }
+    }
+    assertTrue(lines > 0);
+  }
+
+  /**
+   * Plays a line found in Main Phase 1: the summon, the position changes,
+   * the attacks on monsters and then the direct attacks.
+   */
+  private static void playLine(DuelEngine duel, LethalSolver solver) {
+    MonsterCard summoned = solver.getSummonMonster();
+    if (summoned != null) {
+      int[] tributes = new int[solver.getSummonTributes()];
+      int k = 0;
+      for (int zone = 0; zone < ZONES; zone++) {
+        if (solver.isTributed(zone)) tributes[k++] = zone;
+      }
+      assertEquals(tributes.length, k);
+      assertTrue(duel.normalSummon(summoned, Position.ATTACK, tributes));
+    }
+    int[] targets = new int[ZONES];
+    for (int zone = 0; zone < ZONES; zone++) {
+      MonsterCard monster = duel.getPlayer(duel.getActiveIndex()).getBoard().getMonster(zone);
+      if (monster != null && monster == summoned) {
+        targets[zone] = solver.getSummonTarget();
+      } else {
+        targets[zone] = solver.getTarget(zone);
+        if (solver.needsPositionChange(zone)) assertTrue(duel.changePosition(zone));
+      }
+    }
+    assertTrue(duel.enterBattlePhase());
+    for (int zone = 0; zone < ZONES && !duel.isOver(); zone++) {
+      if (targets[zone] >= 0) assertNotEquals(DuelEngine.ILLEGAL, duel.attack(zone, targets[zone]));
+    }
+    for (int zone = 0; zone < ZONES && !duel.isOver(); zone++) {
+      if (targets[zone] == LethalSolver.DIRECT_ATTACK) assertTrue(duel.directAttack(zone));
+    }
+  }
+
+  private void randomBoard(Random random) {
+    // Steps of 100 ATK/DEF, as in the card pool, so ties happen often
+    for (int zone = 0; zone < ZONES; zone++) {
+      ownAtk[zone] = random.nextInt(31) * 100;
+      ownStatus[zone] = random.nextInt(5) - 1;
+      if (ownStatus[zone] > LethalSolver.CANNOT_ATTACK) ownStatus[zone] = LethalSolver.CAN_ATTACK;
+      oppAtk[zone] = random.nextInt(31) * 100;
+      oppDef[zone] = random.nextInt(31) * 100;
+      oppPosition[zone] = random.nextInt(2) == 0 ? LethalSolver.EMPTY : random.nextInt(3);
+    }
+    for (int tributes = 0; tributes < 3; tributes++) {
+      summonAtk[tributes] = random.nextInt(3) == 0 ? -1 : random.nextInt(31) * 100;
+    }
+  }
+
+  /**
+   * Tries every summon with every set of tributes, and every plan of the
+   * attackers left.
+   */
+  private boolean bruteForce(boolean summon, int lifePoints) {
+    if (bestDamage(0, LethalSolver.NO_SUMMON, 0) >= lifePoints) return true;
+    if (!summon) return false;
+    int ownMonsters = 0;
+    for (int zone = 0; zone < ZONES; zone++) {
+      if (ownStatus[zone] != LethalSolver.EMPTY) ownMonsters++;
+    }
+    for (int tributes = 0; tributes <= 2; tributes++) {
+      if (summonAtk[tributes] < 0 || tributes == 0 && ownMonsters == ZONES) continue;
+      for (int mask = 0; mask < 1 << ZONES; mask++) {
+        if (Integer.bitCount(mask) != tributes || !occupied(mask)) continue;
+        if (bestDamage(mask, tributes, summonAtk[tributes]) >= lifePoints) return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean occupied(int mask) {
+    for (int zone = 0; zone < ZONES; zone++) {
+      if ((mask & 1 << zone) != 0 && ownStatus[zone] == LethalSolver.EMPTY) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Gets the best damage of the monsters able to attack, except the
+   * tributed ones, plus the summoned monster.
+   */
+  private long bestDamage(int tributed, int tributes, int summonedAtk) {
+    int[] attackers = new int[ZONES + 1];
+    int n = 0;
+    for (int zone = 0; zone < ZONES; zone++) {
+      if ((tributed & 1 << zone) != 0) continue;
+      if (ownStatus[zone] == LethalSolver.CAN_ATTACK || ownStatus[zone] == LethalSolver.AFTER_POSITION_CHANGE) {
+        attackers[n++] = ownAtk[zone];
+      }
+    }
+    if (tributes != LethalSolver.NO_SUMMON) attackers[n++] = summonedAtk;
+    return search(attackers, n, 0, new int[n]);
+  }
+
+  private long search(int[] attackers, int n, int i, int[] plan) {
+    if (i == n) return damageOf(attackers, plan, n);
+    long best = Long.MIN_VALUE;
+    for (int target = LethalSolver.DIRECT_ATTACK; target < ZONES; target++) {
+      if (target >= 0 && oppPosition[target] == LethalSolver.EMPTY) continue;
+      plan[i] = target;
+      best = Math.max(best, search(attackers, n, i + 1, plan));
+    }
+    return best;
+  }
+
+  /**
+   * Gets the damage of a plan, or {@code Long.MIN_VALUE} if it is illegal
+   * (a monster attacked twice, or a direct attack while a monster survives).
+   */
+  private long damageOf(int[] attackers, int[] plan, int n) {
+    boolean[] destroyed = new boolean[ZONES];
+    boolean[] attacked = new boolean[ZONES];
+    boolean direct = false;
+    long total = 0;
+    for (int i = 0; i < n; i++) {
+      int target = plan[i];
+      if (target == LethalSolver.NO_ATTACK) continue;
+      if (target == LethalSolver.DIRECT_ATTACK) {
+        direct = true;
+        total += attackers[i];
+        continue;
+      }
+      if (attacked[target]) return Long.MIN_VALUE;
+      attacked[target] = true;
+      long outcome = BattleResolver.resolve(attackers[i], oppAtk[target], oppDef[target], oppPosition[target]);
+      total += BattleResolver.damageToDefender(outcome);
+      destroyed[target] = BattleResolver.isDefenderDestroyed(outcome);
+    }
+    if (direct) {
+      for (int zone = 0; zone < ZONES; zone++) {
+        if (oppPosition[zone] != LethalSolver.EMPTY && !destroyed[zone]) return Long.MIN_VALUE;
+      }
+    }
+    return total;
+  }
+
+  /**
+   * Checks that the line found is legal and deals the damage it claims.
+   */
+  private void checkLine(LethalSolver solver, boolean summon, int lifePoints) {
+    int tributes = solver.getSummonTributes();
+    assertTrue(summon || tributes == LethalSolver.NO_SUMMON);
+    int[] attackers = new int[ZONES + 1];
+    int[] plan = new int[ZONES + 1];
+    int n = 0;
+    int tributed = 0;
+    for (int zone = 0; zone < ZONES; zone++) {
+      int target = solver.getTarget(zone);
+      if (solver.isTributed(zone)) {
+        tributed++;
+        assertNotEquals(LethalSolver.EMPTY, ownStatus[zone]);
+        assertEquals(LethalSolver.NO_ATTACK, target);
+        continue;
+      }
+      boolean able = ownStatus[zone] == LethalSolver.CAN_ATTACK
+        || ownStatus[zone] == LethalSolver.AFTER_POSITION_CHANGE;
+      if (!able) assertEquals(LethalSolver.NO_ATTACK, target);
+      assertEquals(target != LethalSolver.NO_ATTACK && ownStatus[zone] == LethalSolver.AFTER_POSITION_CHANGE,
+                   solver.needsPositionChange(zone));
+      attackers[n] = ownAtk[zone];
+      plan[n++] = target;
+    }
+    if (tributes == LethalSolver.NO_SUMMON) {
+      assertEquals(0, tributed);
+      assertEquals(LethalSolver.NO_ATTACK, solver.getSummonTarget());
+    } else {
+      assertEquals(tributes, tributed);
+      attackers[n] = summonAtk[tributes];
+      plan[n++] = solver.getSummonTarget();
+    }
+    assertEquals(solver.getDamage(), damageOf(attackers, plan, n));
+    assertTrue(solver.getDamage() >= lifePoints);
+  }
+}
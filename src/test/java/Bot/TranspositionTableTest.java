@@ -0,0 +1,154 @@
+package Bot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link TranspositionTable}: the packed entries, the replacement in
+ * a bucket, and the XOR check that turns entries torn by concurrent writers
+ * into misses.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class TranspositionTableTest {
+
+  /** Size of a table with a single bucket */
+  private static final int ONE_BUCKET = 64;
+
+  @Test
+  void testPackRoundTrip() {
+    Random random = new Random(1);
+    for (int i = 0; i < 100_000; i++) {
+      int score = random.nextInt(2 * TranspositionTable.MAX_SCORE + 1) - TranspositionTable.MAX_SCORE;
+      int depth = random.nextInt(TranspositionTable.MAX_DEPTH + 1);
+      int bound = 1 + random.nextInt(3);
+      int move = random.nextInt(1 << 20);
+      int generation = random.nextInt(256);
+      long entry = TranspositionTable.pack(score, depth, bound, move, generation);
+      assertEquals(score, TranspositionTable.score(entry));
+      assertEquals(depth, TranspositionTable.depth(entry));
+      assertEquals(bound, TranspositionTable.bound(entry));
+      assertEquals(move, TranspositionTable.move(entry));
+      assertEquals(generation, TranspositionTable.generation(entry));
+    }
+  }
+
+  @Test
+  void testPackClamps() {
+    long high = TranspositionTable.pack(Integer.MAX_VALUE, 1000, TranspositionTable.EXACT, 1, 0);
+    assertEquals(TranspositionTable.MAX_SCORE, TranspositionTable.score(high));
+    assertEquals(TranspositionTable.MAX_DEPTH, TranspositionTable.depth(high));
+
+    long low = TranspositionTable.pack(Integer.MIN_VALUE, -5, TranspositionTable.UPPER, 1, 0);
+    assertEquals(-TranspositionTable.MAX_SCORE, TranspositionTable.score(low));
+    assertEquals(0, TranspositionTable.depth(low));
+    assertEquals(TranspositionTable.UPPER, TranspositionTable.bound(low));
+  }
+
+  @Test
+  void testStoreAndProbe() {
+    TranspositionTable table = new TranspositionTable(1 << 16);
+    assertEquals(TranspositionTable.MISS, table.probe(12345L));
+
+    table.store(12345L, -42, 7, TranspositionTable.LOWER, 99);
+    long entry = table.probe(12345L);
+    assertEquals(-42, TranspositionTable.score(entry));
+    assertEquals(7, TranspositionTable.depth(entry));
+    assertEquals(TranspositionTable.LOWER, TranspositionTable.bound(entry));
+    assertEquals(99, TranspositionTable.move(entry));
+
+    // Same bucket, other key
+    assertEquals(TranspositionTable.MISS, table.probe(12345L + (1L << 40)));
+  }
+
+  @Test
+  void testStoreKeepsDeeperEntryAndOldMove() {
+    TranspositionTable table = new TranspositionTable(ONE_BUCKET);
+    table.store(1L, 10, 8, TranspositionTable.EXACT, 5);
+    table.store(1L, 20, 3, TranspositionTable.LOWER, 6);
+    assertEquals(10, TranspositionTable.score(table.probe(1L)));
+
+    table.store(1L, 30, 3, TranspositionTable.EXACT, 0);
+    long entry = table.probe(1L);
+    assertEquals(30, TranspositionTable.score(entry));
+    assertEquals(5, TranspositionTable.move(entry));
+  }
+
+  @Test
+  void testFullBucketReplacesShallowestEntry() {
+    TranspositionTable table = new TranspositionTable(ONE_BUCKET);
+    for (int i = 0; i < TranspositionTable.BUCKET_ENTRIES; i++) {
+      table.store(100L + i, i, 10 + i, TranspositionTable.EXACT, 1);
+    }
+    table.store(200L, 0, 20, TranspositionTable.EXACT, 1);
+    assertEquals(TranspositionTable.MISS, table.probe(100L));
+    for (int i = 1; i < TranspositionTable.BUCKET_ENTRIES; i++) {
+      assertNotEquals(TranspositionTable.MISS, table.probe(100L + i));
+    }
+    assertNotEquals(TranspositionTable.MISS, table.probe(200L));
+  }
+
+  @Test
+  void testRejectsInvalidBound() {
+    TranspositionTable table = new TranspositionTable(ONE_BUCKET);
+    assertThrows(IllegalArgumentException.class, () -> table.store(1L, 0, 0, 0, 0));
+    assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(ONE_BUCKET - 1));
+  }
+
+  /**
+   * Several threads store and probe a few keys in a single bucket. Every
+   * entry of a key carries a score and a move computed from that key, so a
+   * hit that does not decode to them is an entry torn by two writers that
+   * the XOR check let through.
+   */
+  @Test
+  void testTornEntriesAreMisses() throws InterruptedException {
+    TranspositionTable table = new TranspositionTable(ONE_BUCKET);
+    long[] keys = new long[16];
+    Random seeds = new Random(3);
+    for (int i = 0; i < keys.length; i++) keys[i] = seeds.nextLong();
+
+    AtomicLong hits = new AtomicLong();
+    AtomicLong wrong = new AtomicLong();
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      long seed = t;
+      threads[t] = new Thread(() -> {
+        Random random = new Random(seed);
+        for (int i = 0; i < 500_000; i++) {
+          long key = keys[random.nextInt(keys.length)];
+          if (random.nextBoolean()) {
+            table.store(key, scoreOf(key), random.nextInt(32), TranspositionTable.EXACT, moveOf(key));
+          } else {
+            long entry = table.probe(key);
+            if (entry == TranspositionTable.MISS) continue;
+            hits.incrementAndGet();
+            if (TranspositionTable.score(entry) != scoreOf(key)
+                || TranspositionTable.move(entry) != moveOf(key)) {
+              wrong.incrementAndGet();
+            }
+          }
+        }
+      });
+      threads[t].start();
+    }
+    for (Thread thread : threads) thread.join();
+
+    assertTrue(hits.get() > 0);
+    assertEquals(0, wrong.get());
+  }
+
+  private static int scoreOf(long key) {
+    return (int) Long.remainderUnsigned(key, TranspositionTable.MAX_SCORE);
+  }
+
+  private static int moveOf(long key) {
+    return 1 + (int) ((key >>> 24) & 0xFFFFE);
+  }
+}
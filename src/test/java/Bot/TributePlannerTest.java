@@ -0,0 +1,143 @@
+package Bot;
+
+import Card.Position;
+import Game.DuelEngine;
+import TestUtils.DuelTestUtils;
+import Tournament.MovePolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link TributePlanner}: the cheapest tributes match an
+ * exhaustive search, and the planned summons are legal in the engine.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class TributePlannerTest {
+
+  private static final int ZONES = DuelView.ZONES;
+
+  private static final MovePolicy POLICY = new MovePolicy();
+
+  @Test
+  void testCheapestTributesMatchesBruteForce() {
+    Random random = new Random(2025);
+    int[] values = new int[ZONES];
+    for (int trial = 0; trial < 5000; trial++) {
+      int occupied = random.nextInt(1 << ZONES);
+      for (int zone = 0; zone < ZONES; zone++) values[zone] = random.nextInt(40) * 100;
+      for (int count = 0; count <= 2; count++) {
+        int mask = TributePlanner.cheapestTributes(values, occupied, count);
+        int best = Integer.MAX_VALUE;
+        for (int subset = 0; subset < 1 << ZONES; subset++) {
+          if ((subset & ~occupied) != 0 || Integer.bitCount(subset) != count) continue;
+          best = Math.min(best, cost(values, subset));
+        }
+        if (best == Integer.MAX_VALUE) {
+          assertEquals(-1, mask, "trial " + trial);
+        } else {
+          assertEquals(count, Integer.bitCount(mask), "trial " + trial);
+          assertEquals(0, mask & ~occupied, "trial " + trial);
+          assertEquals(best, cost(values, mask), "trial " + trial);
+        }
+      }
+    }
+  }
+
+  @Test
+  void testCheapestTributesEdgeCases() {
+    int[] values = {1500, 900, 2000, 700, 1200};
+    assertEquals(0, TributePlanner.cheapestTributes(values, 0, 0));
+    assertEquals(-1, TributePlanner.cheapestTributes(values, 0, 1));
+    assertEquals(-1, TributePlanner.cheapestTributes(values, 0b00100, 2));
+    assertEquals(0b01000, TributePlanner.cheapestTributes(values, 0b11111, 1));
+    assertEquals(0b01010, TributePlanner.cheapestTributes(values, 0b11111, 2));
+    assertEquals(0b00101, TributePlanner.cheapestTributes(values, 0b00101, 2));
+  }
+
+  @Test
+  void testFieldValue() {
+    assertEquals(TributePlanner.CARD_VALUE + 1800, TributePlanner.fieldValue(1800, 1000, Position.ATTACK, false));
+    assertEquals(TributePlanner.CARD_VALUE + 2700, TributePlanner.fieldValue(1800, 1000, Position.ATTACK, true));
+    assertEquals(TributePlanner.CARD_VALUE + 1000, TributePlanner.fieldValue(1800, 1000, Position.DEFENSE, false));
+    assertEquals(TributePlanner.CARD_VALUE + 1000 + TributePlanner.FACE_DOWN_VALUE,
+                 TributePlanner.fieldValue(1800, 1000, Position.FACE_DOWN, false));
+  }
+
+  @Test
+  void testNoAttackValueOnceTheBattleIsOver() {
+    DuelEngine duel = DuelTestUtils.newDuel(DuelTestUtils.deck("40;Monster;1001;Strong;2000;1000;4"),
+                                            DuelTestUtils.deck("40;Monster;1002;Weak;1000;1500;4"), 1);
+    duel.beginTurn();
+    duel.endTurn();
+    duel.beginTurn();
+    duel.endTurn();
+
+    duel.beginTurn();
+    TributePlanner planner = new TributePlanner();
+    assertTrue(planner.plan(new EngineDuelView(duel), 2));
+    assertEquals(TributePlanner.fieldValue(2000, 1000, Position.ATTACK, true), planner.getGain());
+
+    duel.enterBattlePhase();
+    duel.enterMainPhase2();
+    assertTrue(planner.plan(new EngineDuelView(duel), 2));
+    assertEquals(TributePlanner.fieldValue(2000, 1000, Position.ATTACK, false), planner.getGain());
+  }
+
+  @Test
+  void testPlannedSummonsAreLegal() {
+    TributePlanner planner = new TributePlanner();
+    int summons = 0;
+    int tributeSummons = 0;
+    for (long seed = 0; seed < 40; seed++) {
+      DuelEngine duel = DuelTestUtils.newDuel(seed);
+      duel.enableUndo(100_000);
+      while (!duel.isOver()) {
+        if (!duel.beginTurn()) break;
+        if (planner.plan(new EngineDuelView(duel), 2)) {
+          int[] zones = planner.getTributeZones();
+          assertEquals(DuelEngine.tributesRequired(planner.getMonster()), zones.length);
+          for (int zone = 0; zone < ZONES; zone++) {
+            assertEquals(contains(zones, zone), planner.isTributed(zone));
+          }
+          assertTrue(planner.getGain() > 0);
+
+          long snapshot = duel.snapshot();
+          assertTrue(duel.normalSummon(planner.getMonster(), Position.ATTACK, zones),
+                     "seed " + seed + " turn " + duel.getTurn());
+          assertTrue(duel.restore(snapshot));
+          summons++;
+          if (zones.length > 0) tributeSummons++;
+        }
+        POLICY.mainPhase(duel);
+        if (duel.enterBattlePhase()) {
+          POLICY.battlePhase(duel);
+        }
+        duel.enterMainPhase2();
+        duel.endTurn();
+      }
+    }
+    assertTrue(summons > 0);
+    assertTrue(tributeSummons > 0);
+  }
+
+  private static int cost(int[] values, int mask) {
+    int cost = 0;
+    for (int zone = 0; zone < ZONES; zone++) {
+      if ((mask & 1 << zone) != 0) cost += values[zone];
+    }
+    return cost;
+  }
+
+  private static boolean contains(int[] zones, int zone) {
+    for (int z : zones) {
+      if (z == zone) return true;
+    }
+    return false;
+  }
+}
@@ -0,0 +1,151 @@
+package Card;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link CardPile}: the pile keeps the order of a list through
+ * removals (holes), insertions and compactions, and its view fails fast.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class CardPileTest {
+
+    private static List<Card> cards(int count) {
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            cards.add(new SpellCard("Card " + i, "", i, null, "Normal", null, false, ""));
+        }
+        return cards;
+    }
+
+    @Test
+    void testOrderMatchesListWithHoles() {
+        Random random = new Random(2025);
+        List<Card> pool = cards(40);
+        CardPile pile = new CardPile();
+        List<Card> expected = new ArrayList<>();
+
+        for (int step = 0; step < 50_000; step++) {
+            Card card = pool.get(random.nextInt(pool.size()));
+            switch (random.nextInt(6)) {
+                case 0:
+                case 1:
+                    assertEquals(!expected.contains(card), pile.add(card));
+                    if (!expected.contains(card)) expected.add(card);
+                    break;
+                case 2:
+                case 3:
+                    assertEquals(expected.remove(card), pile.remove(card));
+                    break;
+                case 4:
+                    int position = random.nextInt(expected.size() + 1);
+                    assertEquals(!expected.contains(card), pile.insert(position, card));
+                    if (!expected.contains(card)) expected.add(position, card);
+                    break;
+                default:
+                    assertEquals(expected.indexOf(card), pile.indexOf(card));
+                    if (!expected.isEmpty()) {
+                        int at = random.nextInt(expected.size());
+                        assertSame(expected.get(at), pile.get(at));
+                    }
+                    break;
+            }
+            assertEquals(expected.size(), pile.size());
+            assertEquals(expected.isEmpty(), pile.isEmpty());
+            assertSame(expected.isEmpty() ? null : expected.get(expected.size() - 1), pile.last());
+            assertEquals(expected.contains(card), pile.contains(card));
+        }
+        assertEquals(expected, pile.view());
+    }
+
+    @Test
+    void testRemovalsLeaveOrderIntact() {
+        List<Card> pool = cards(20);
+        CardPile pile = new CardPile();
+        pool.forEach(pile::add);
+        List<Card> expected = new ArrayList<>(pool);
+        for (int i = 0; i < pool.size(); i += 3) {
+            assertTrue(pile.remove(pool.get(i)));
+            expected.remove(pool.get(i));
+        }
+        assertFalse(pile.remove(pool.get(0)));
+
+        assertEquals(expected, pile.view());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), pile.get(i));
+            assertEquals(i, pile.indexOf(expected.get(i)));
+        }
+        assertEquals(-1, pile.indexOf(pool.get(0)));
+    }
+
+    @Test
+    void testCardIsAddedOnce() {
+        Card card = cards(1).get(0);
+        CardPile pile = new CardPile();
+        assertTrue(pile.add(card));
+        assertFalse(pile.add(card));
+        assertFalse(pile.insert(0, card));
+        assertEquals(1, pile.size());
+    }
+
+    @Test
+    void testInsertOutOfRange() {
+        CardPile pile = new CardPile();
+        List<Card> pool = cards(2);
+        pile.add(pool.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> pile.insert(2, pool.get(1)));
+        assertThrows(IndexOutOfBoundsException.class, () -> pile.get(1));
+    }
+
+    @Test
+    void testViewIsLiveAndReadOnly() {
+        List<Card> pool = cards(3);
+        CardPile pile = new CardPile();
+        List<Card> view = pile.view();
+        pile.add(pool.get(0));
+        pile.add(pool.get(1));
+        assertEquals(List.of(pool.get(0), pool.get(1)), view);
+        assertTrue(view.contains(pool.get(1)));
+        assertEquals(1, view.indexOf(pool.get(1)));
+
+        assertThrows(UnsupportedOperationException.class, () -> view.add(pool.get(2)));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+    }
+
+    @Test
+    void testViewIteratorFailsFast() {
+        List<Card> pool = cards(4);
+        CardPile pile = new CardPile();
+        pile.add(pool.get(0));
+        pile.add(pool.get(1));
+
+        Iterator<Card> added = pile.view().iterator();
+        added.next();
+        pile.add(pool.get(2));
+        assertThrows(ConcurrentModificationException.class, added::next);
+
+        Iterator<Card> removed = pile.view().iterator();
+        removed.next();
+        pile.remove(pool.get(0));
+        assertThrows(ConcurrentModificationException.class, removed::next);
+
+        pile.add(pool.get(3));
+        assertThrows(ConcurrentModificationException.class, () -> {
+            for (Card card : pile.view()) pile.remove(card);
+        });
+
+        Iterator<Card> cleared = pile.view().iterator();
+        pile.clear();
+        assertThrows(ConcurrentModificationException.class, cleared::next);
+    }
+}
@@ -0,0 +1,69 @@
+package Card;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the attribute, type and sub-type of {@link MonsterCard}: known
+ * values are kept as enum constants, unknown ones as UNKNOWN with their
+ * string.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class MonsterCardTest {
+
+    @Test
+    void testKnownValuesAreParsed() {
+        MonsterCard card = monster("dark", "winged beast", "Fusion");
+        assertEquals(Attribute.DARK, card.getAttributeValue());
+        assertEquals(Race.WINGED_BEAST, card.getRace());
+        assertEquals("DARK", card.getAttribute());
+        assertEquals("Winged Beast", card.getType());
+        assertEquals("Fusion", card.getSubType());
+    }
+
+    @Test
+    void testUnknownValuesKeepTheirString() {
+        MonsterCard card = monster("LAUGH", "Cyborg", "Pendulum?");
+        assertEquals(Attribute.UNKNOWN, card.getAttributeValue());
+        assertEquals(Race.UNKNOWN, card.getRace());
+        assertEquals("LAUGH", card.getAttribute());
+        assertEquals("Cyborg", card.getType());
+        assertEquals("Pendulum?", card.getSubType());
+
+        MonsterCard blank = monster("", "", "");
+        assertEquals(Attribute.UNKNOWN, blank.getAttributeValue());
+        assertEquals("", blank.getAttribute());
+        assertEquals("", blank.getType());
+        assertEquals("", blank.getSubType());
+    }
+
+    @Test
+    void testUnknownIsNeverParsed() {
+        assertNull(Attribute.parse("UNKNOWN"));
+        assertNull(Race.parse("Unknown"));
+        assertNull(FrameType.parse("Unknown"));
+
+        MonsterCard card = monster("Unknown", "Unknown", "Unknown");
+        assertEquals(Attribute.UNKNOWN, card.getAttributeValue());
+        assertEquals("Unknown", card.getAttribute());
+        assertEquals("Unknown", card.getType());
+    }
+
+    @Test
+    void testMissingValuesStayNull() {
+        MonsterCard card = monster(null, null, null);
+        assertNull(card.getAttributeValue());
+        assertNull(card.getRace());
+        assertNull(card.getAttribute());
+        assertNull(card.getType());
+        assertNull(card.getSubType());
+    }
+
+    private static MonsterCard monster(String attribute, String race, String subType) {
+        return new MonsterCard("Test", "", 1, null, 1000, 1000, 4, attribute, race, subType, "Normal Monster", "");
+    }
+}
@@ -0,0 +1,134 @@
+package Deck;
+
+import Card.Card;
+import Card.MonsterCard;
+import Card.SpellCard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import util.GameLog;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link FusionIndex}: the material lines it can read, and the
+ * matching of the available materials to the recipes.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class FusionIndexTest {
+
+    private final MonsterCard gaia = monster("Gaia The Fierce Knight", "EARTH", "Warrior");
+    private final MonsterCard curse = monster("Curse of Dragon", "DARK", "Dragon");
+    private final MonsterCard blueEyes = monster("Blue-Eyes White Dragon", "LIGHT", "Dragon");
+    private final MonsterCard avian = monster("Elemental HERO Avian", "WIND", "Warrior");
+    private final MonsterCard bubbleman = monster("Elemental HERO Bubbleman", "WATER", "Warrior");
+    private final MonsterCard mermaid = monster("Mermaid", "WATER", "Aqua");
+
+    private final MonsterCard gaiaDragon = fusion("Gaia the Dragon Champion",
+            "\"Gaia The Fierce Knight\" + \"Curse of Dragon\"");
+    private final MonsterCard twinDragon = fusion("Twin Dragon", "2 Dragon monsters");
+    private final MonsterCard heroFusion = fusion("Elemental HERO Mudballman",
+            "1 \"Elemental HERO\" monster + 1 WATER monster\nMust be Fusion Summoned.");
+    private final MonsterCard eitherKnight = fusion("Knight Either",
+            "\"Gaia The Fierce Knight\" or \"Blue-Eyes White Dragon\" + 1 DARK Dragon-Type monster");
+
+    @BeforeEach
+    void setUp() {
+        GameLog.setQuiet(true);
+    }
+
+    @Test
+    void testReadsSupportedMaterialLines() {
+        MonsterCard byLevel = fusion("Level Fusion", "2 Level 4 monsters");
+        MonsterCard byEffect = fusion("Effect Fusion", "1 Tuner + 1+ non-Tuner monsters");
+        MonsterCard noText = fusion("No Text", "");
+        FusionIndex index = new FusionIndex(List.of(gaiaDragon, twinDragon, heroFusion, eitherKnight,
+                                                    byLevel, byEffect, noText, gaia));
+        assertEquals(4, index.size());
+        assertTrue(index.contains(gaiaDragon));
+        assertTrue(index.contains(twinDragon));
+        assertTrue(index.contains(heroFusion));
+        assertTrue(index.contains(eitherKnight));
+        assertFalse(index.contains(byLevel), "Level conditions are not read");
+        assertFalse(index.contains(byEffect));
+        assertFalse(index.contains(noText));
+        assertFalse(index.contains(gaia), "not a Fusion monster");
+    }
+
+    @Test
+    void testNamedMaterials() {
+        FusionIndex index = new FusionIndex(List.of(gaiaDragon));
+        assertTrue(index.canMake(gaiaDragon, List.of(gaia, curse)));
+        assertTrue(index.canMake(gaiaDragon, List.of(mermaid, curse, avian, gaia)));
+        assertFalse(index.canMake(gaiaDragon, List.of(gaia, blueEyes)));
+        assertFalse(index.canMake(gaiaDragon, List.of(gaia)));
+    }
+
+    @Test
+    void testOneCardNeverCountsTwice() {
+        FusionIndex index = new FusionIndex(List.of(twinDragon, eitherKnight));
+        assertFalse(index.canMake(twinDragon, List.of(curse)));
+        assertTrue(index.canMake(twinDragon, List.of(curse, blueEyes)));
+
+        // Curse of Dragon is the only DARK Dragon: it cannot also be the named material
+        assertFalse(index.canMake(eitherKnight, List.of(curse)));
+        assertTrue(index.canMake(eitherKnight, List.of(curse, blueEyes)));
+        assertTrue(index.canMake(eitherKnight, List.of(gaia, curse)));
+        assertFalse(index.canMake(eitherKnight, List.of(gaia, blueEyes)), "Blue-Eyes is not DARK");
+    }
+
+    @Test
+    void testArchetypeAndAttributeMaterials() {
+        FusionIndex index = new FusionIndex(List.of(heroFusion));
+        assertTrue(index.canMake(heroFusion, List.of(avian, mermaid)));
+        assertTrue(index.canMake(heroFusion, List.of(avian, bubbleman)));
+        assertFalse(index.canMake(heroFusion, List.of(bubbleman)), "one HERO cannot be both materials");
+        assertFalse(index.canMake(heroFusion, List.of(mermaid, curse)));
+    }
+
+    @Test
+    void testMakeableListsEveryRecipeInIndexOrder() {
+        FusionIndex index = new FusionIndex(List.of(gaiaDragon, twinDragon, heroFusion, eitherKnight));
+        Card spell = new SpellCard("Polymerization", "", FusionIndex.POLYMERIZATION, null, "Normal", null, false, "");
+        assertEquals(List.of(gaiaDragon, twinDragon, eitherKnight),
+                     index.makeable(List.of(gaia, curse, blueEyes, spell)));
+        assertEquals(List.of(), index.makeable(List.of(spell)));
+        assertEquals(List.of(), index.makeable(List.of()));
+        assertFalse(index.canMake(monster("Not Indexed", "DARK", "Dragon"), List.of(gaia, curse)));
+    }
+
+    @Test
+    void testExtraDeckRebuildsTheIndexWhenItChanges() {
+        ExtraDeck extraDeck = new ExtraDeck(List.of(gaiaDragon));
+        assertEquals(List.of(gaiaDragon), extraDeck.searchFusions(List.of(gaia, curse, blueEyes)));
+
+        extraDeck.addCard(twinDragon);
+        assertEquals(List.of(gaiaDragon, twinDragon), extraDeck.searchFusions(List.of(gaia, curse, blueEyes)));
+
+        extraDeck.removeCard(gaiaDragon);
+        assertEquals(List.of(twinDragon), extraDeck.searchFusions(List.of(gaia, curse, blueEyes)));
+    }
+
+    @Test
+    void testFusionSpell() {
+        assertTrue(FusionIndex.isFusionSpell(new SpellCard("Polymerization", "", FusionIndex.POLYMERIZATION, null,
+                                                           "Normal", null, false, "")));
+        assertTrue(FusionIndex.isFusionSpell(new SpellCard("polymerization", "", 0, null, "Normal", null, false, "")));
+        assertFalse(FusionIndex.isFusionSpell(new SpellCard("Pot of Greed", "", 55144522, null, "Normal", null,
+                                                            false, "")));
+        assertFalse(FusionIndex.isFusionSpell(monster("Polymerization", "DARK", "Fiend")));
+    }
+
+    private static MonsterCard monster(String name, String attribute, String race) {
+        return new MonsterCard(name, "", 1, null, 1000, 1000, 4, attribute, race, "Normal", "Normal Monster", "");
+    }
+
+    private static MonsterCard fusion(String name, String materials) {
+        return new MonsterCard(name, materials, 2, null, 2500, 2000, 7, "LIGHT", "Warrior", "Normal",
+                               "Fusion Monster", "");
+    }
+}
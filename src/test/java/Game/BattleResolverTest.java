@@ -0,0 +1,134 @@
+package Game;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the packed battle outcomes of {@link BattleResolver}.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class BattleResolverTest {
+
+    private static final int MAX_DAMAGE = 0xFFFFFF;
+
+    @Test
+    void testStrongerAttackerDestroysAttackPosition() {
+        long outcome = BattleResolver.resolve(2000, 1500, 1000, BattleResolver.ATTACK);
+        assertFalse(BattleResolver.isAttackerDestroyed(outcome));
+        assertTrue(BattleResolver.isDefenderDestroyed(outcome));
+        assertEquals(0, BattleResolver.damageToAttacker(outcome));
+        assertEquals(500, BattleResolver.damageToDefender(outcome));
+    }
+
+    @Test
+    void testWeakerAttackerIsDestroyedByAttackPosition() {
+        long outcome = BattleResolver.resolve(1200, 1800, 0, BattleResolver.ATTACK);
+        assertTrue(BattleResolver.isAttackerDestroyed(outcome));
+        assertFalse(BattleResolver.isDefenderDestroyed(outcome));
+        assertEquals(600, BattleResolver.damageToAttacker(outcome));
+        assertEquals(0, BattleResolver.damageToDefender(outcome));
+    }
+
+    @Test
+    void testEqualAttackDestroysBoth() {
+        long outcome = BattleResolver.resolve(1500, 1500, 0, BattleResolver.ATTACK);
+        assertTrue(BattleResolver.isAttackerDestroyed(outcome));
+        assertTrue(BattleResolver.isDefenderDestroyed(outcome));
+        assertEquals(0, BattleResolver.damageToAttacker(outcome));
+        assertEquals(0, BattleResolver.damageToDefender(outcome));
+    }
+
+    @Test
+    void testDefensePosition() {
+        for (int position : new int[] {BattleResolver.DEFENSE, BattleResolver.FACE_DOWN}) {
+            long win = BattleResolver.resolve(2000, 0, 1500, position);
+            assertTrue(BattleResolver.isDefenderDestroyed(win));
+            assertEquals(0, BattleResolver.damageToDefender(win));
+
+            long bounce = BattleResolver.resolve(1000, 3000, 1800, position);
+            assertFalse(BattleResolver.isAttackerDestroyed(bounce));
+            assertFalse(BattleResolver.isDefenderDestroyed(bounce));
+            assertEquals(800, BattleResolver.damageToAttacker(bounce));
+
+            assertEquals(BattleResolver.NO_EFFECT, BattleResolver.resolve(1500, 0, 1500, position));
+        }
+    }
+
+    @Test
+    void testDirectAttack() {
+        long outcome = BattleResolver.direct(2500);
+        assertFalse(BattleResolver.isAttackerDestroyed(outcome));
+        assertFalse(BattleResolver.isDefenderDestroyed(outcome));
+        assertEquals(0, BattleResolver.damageToAttacker(outcome));
+        assertEquals(2500, BattleResolver.damageToDefender(outcome));
+    }
+
+    @Test
+    void testPackedFieldsDoNotOverlap() {
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            int damage = 1 + random.nextInt(MAX_DAMAGE);
+
+            long toDefender = BattleResolver.resolve(damage, 0, 0, BattleResolver.ATTACK);
+            assertEquals(damage, BattleResolver.damageToDefender(toDefender));
+            assertEquals(0, BattleResolver.damageToAttacker(toDefender));
+            assertFalse(BattleResolver.isAttackerDestroyed(toDefender));
+            assertTrue(BattleResolver.isDefenderDestroyed(toDefender));
+
+            long toAttacker = BattleResolver.resolve(0, damage, 0, BattleResolver.ATTACK);
+            assertEquals(damage, BattleResolver.damageToAttacker(toAttacker));
+            assertEquals(0, BattleResolver.damageToDefender(toAttacker));
+            assertTrue(BattleResolver.isAttackerDestroyed(toAttacker));
+            assertFalse(BattleResolver.isDefenderDestroyed(toAttacker));
+        }
+    }
+
+    @Test
+    void testDamageIsClamped() {
+        long outcome = BattleResolver.resolve(Integer.MAX_VALUE, 0, 0, BattleResolver.ATTACK);
+        assertEquals(MAX_DAMAGE, BattleResolver.damageToDefender(outcome));
+        assertEquals(0, BattleResolver.damageToAttacker(outcome));
+        assertTrue(BattleResolver.isDefenderDestroyed(outcome));
+        assertEquals(MAX_DAMAGE, BattleResolver.damageToDefender(BattleResolver.direct(Integer.MAX_VALUE)));
+
+        assertEquals(0, BattleResolver.damageToDefender(BattleResolver.direct(-1)));
+        outcome = BattleResolver.resolve(Integer.MIN_VALUE, 1, 0, BattleResolver.ATTACK);
+        assertEquals(0, BattleResolver.damageToAttacker(outcome), "the difference overflows");
+        assertTrue(BattleResolver.isAttackerDestroyed(outcome));
+        assertFalse(BattleResolver.isDefenderDestroyed(outcome));
+    }
+
+    @Test
+    void testFillMatrixMatchesResolve() {
+        Random random = new Random(7);
+        int[] attackerAtk = new int[5];
+        int[] defenderAtk = new int[5];
+        int[] defenderDef = new int[5];
+        int[] defenderPosition = new int[5];
+        long[] matrix = new long[25];
+        for (int trial = 0; trial < 1000; trial++) {
+            int n = 1 + random.nextInt(5);
+            int m = 1 + random.nextInt(5);
+            for (int i = 0; i < n; i++) attackerAtk[i] = random.nextInt(31) * 100;
+            for (int j = 0; j < m; j++) {
+                defenderAtk[j] = random.nextInt(31) * 100;
+                defenderDef[j] = random.nextInt(31) * 100;
+                defenderPosition[j] = random.nextInt(3);
+            }
+            BattleResolver.fillMatrix(attackerAtk, n, defenderAtk, defenderDef, defenderPosition, m, matrix);
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < m; j++) {
+                    assertEquals(BattleResolver.resolve(attackerAtk[i], defenderAtk[j], defenderDef[j],
+                                                        defenderPosition[j]),
+                                 matrix[i * m + j]);
+                }
+            }
+        }
+    }
+}
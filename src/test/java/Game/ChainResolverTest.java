@@ -0,0 +1,148 @@
+package Game;
+
+import Card.Card;
+import Card.Effect;
+import Card.EffectRegistry;
+import Card.MonsterCard;
+import Card.Position;
+import Card.SpellCard;
+import Deck.Deck;
+import Player.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import util.GameLog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the effects of {@link EffectRegistry} resolved by a
+ * {@link ChainResolver} on the model, through {@link BoardEffectContext}.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class ChainResolverTest {
+
+    private static final int DARK_HOLE = 53129443;
+    private static final int RAIGEKI = 12580477;
+    private static final int OOKAZI = 19523799;
+    private static final int DIAN_KETO = 84257639;
+    private static final int POT_OF_GREED = 55144522;
+    private static final int REINFORCEMENT = 32807846;
+    private static final int MONSTER_REBORN = 83764718;
+
+    private Player first;
+    private Player second;
+    private ChainResolver chain;
+
+    @BeforeEach
+    void setUp() {
+        GameLog.setQuiet(true);
+        first = player("A");
+        second = player("B");
+        chain = new ChainResolver(new BoardEffectContext(first, second), new BoardEffectContext(second, first));
+    }
+
+    @Test
+    void testDamageAndLifePointsEffects() {
+        assertTrue(chain.activate(spell(OOKAZI), 0));
+        assertEquals(1, chain.resolve());
+        assertEquals(8000, first.getLifePoints());
+        assertEquals(7200, second.getLifePoints());
+
+        chain.activate(spell(DIAN_KETO), 1);
+        chain.resolve();
+        assertEquals(8200, second.getLifePoints());
+    }
+
+    @Test
+    void testChainResolvesLastInFirstOut() {
+        List<String> resolved = new ArrayList<>();
+        EffectRegistry.register(-1, new Effect("Test 1", "Spell", (context, source) -> resolved.add(source.getName())));
+        EffectRegistry.register(-2, new Effect("Test 2", "Spell", (context, source) -> resolved.add(source.getName())));
+
+        assertTrue(chain.activate(new SpellCard("First", "", -1, null, "Normal", null, false, ""), 0));
+        assertTrue(chain.activate(new SpellCard("Second", "", -2, null, "Normal", null, false, ""), 1));
+        assertEquals(2, chain.size());
+        assertEquals(2, chain.resolve());
+        assertEquals(List.of("Second", "First"), resolved);
+        assertEquals(0, chain.size());
+    }
+
+    @Test
+    void testEffectsActOnTheActivatingPlayersSide() {
+        first.getBoard().placeMonster(monster("Own", 1000, 4), 0, Position.ATTACK);
+        second.getBoard().placeMonster(monster("Theirs", 1500, 4), 1, Position.ATTACK);
+        second.getBoard().placeMonster(monster("Theirs too", 500, 4), 3, Position.ATTACK);
+
+        chain.activate(spell(RAIGEKI), 0);
+        chain.resolve();
+        assertEquals(1, first.getBoard().getMonsterCount());
+        assertEquals(0, second.getBoard().getMonsterCount());
+        assertEquals(2, second.getBoard().getGraveyard().size());
+
+        chain.activate(spell(DARK_HOLE), 1);
+        chain.resolve();
+        assertEquals(0, first.getBoard().getMonsterCount());
+        assertEquals(1, first.getBoard().getGraveyard().size());
+    }
+
+    @Test
+    void testDrawAndSearch() {
+        MonsterCard warrior = new MonsterCard("Warrior", "", 3, null, 1400, 1200, 4,
+                                              "EARTH", "Warrior", "Normal", "Normal Monster", "");
+        first.getDeck().addCard(warrior);
+        int deck = first.getDeck().size();
+
+        chain.activate(spell(REINFORCEMENT), 0);
+        chain.resolve();
+        assertTrue(first.getHand().contains(warrior));
+        assertEquals(deck - 1, first.getDeck().size());
+
+        chain.activate(spell(POT_OF_GREED), 0);
+        chain.resolve();
+        assertEquals(3, first.getHand().size());
+        assertEquals(deck - 3, first.getDeck().size());
+    }
+
+    @Test
+    void testMonsterRebornTakesTheStrongestFromEitherGraveyard() {
+        MonsterCard strong = monster("Strong", 2500, 7);
+        first.getBoard().sendToGraveyard(monster("Weak", 500, 2));
+        second.getBoard().sendToGraveyard(strong);
+
+        chain.activate(spell(MONSTER_REBORN), 0);
+        chain.resolve();
+        assertSame(strong, first.getBoard().getMonster(0));
+        assertEquals(Position.ATTACK, strong.getPosition());
+        assertEquals(0, second.getBoard().getGraveyard().size());
+    }
+
+    @Test
+    void testUnimplementedEffectIsRefused() {
+        assertFalse(EffectRegistry.contains(1));
+        assertFalse(chain.activate(spell(1), 0));
+        assertEquals(0, chain.size());
+        assertEquals(0, chain.resolve());
+    }
+
+    private static Player player(String name) {
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            cards.add(monster(name + " card " + i, 100 * i, 4));
+        }
+        return new Player(name, 8000, new Deck(cards), null);
+    }
+
+    private static MonsterCard monster(String name, int atk, int level) {
+        return new MonsterCard(name, "", 2, null, atk, 1000, level, "", "", "Normal", "Normal Monster", "");
+    }
+
+    private static SpellCard spell(int cardId) {
+        return new SpellCard("Spell " + cardId, "", cardId, null, "Normal", EffectRegistry.get(cardId), false, "");
+    }
+}
@@ -0,0 +1,219 @@
+package Game;
+
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import Player.Player;
+import TestUtils.DuelTestUtils;
+import Tournament.DeckList;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link DuelEngine}: seeded duels are reproducible and end, and
+ * the summon and battle rules are enforced on the model.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class DuelEngineTest {
+
+    private static final DeckList STRONG = DuelTestUtils.deck("40;Monster;1001;Strong;2000;1000;4");
+    private static final DeckList WEAK = DuelTestUtils.deck("40;Monster;1002;Weak;1000;1500;4");
+
+    @Test
+    void testSameSeedPlaysSameDuel() {
+        for (long seed = 0; seed < 20; seed++) {
+            DuelEngine first = DuelTestUtils.newDuel(seed);
+            DuelEngine second = DuelTestUtils.newDuel(seed);
+            DuelTestUtils.playToEnd(first);
+            DuelTestUtils.playToEnd(second);
+            assertEquals(DuelTestUtils.describe(first), DuelTestUtils.describe(second), "seed " + seed);
+        }
+    }
+
+    @Test
+    void testDuelsEndWithinTurnLimit() {
+        for (long seed = 0; seed < 30; seed++) {
+            DuelEngine duel = DuelTestUtils.newDuel(seed);
+            DuelTestUtils.playToEnd(duel);
+
+            assertTrue(duel.isOver(), "seed " + seed);
+            assertTrue(duel.getTurn() <= DuelTestUtils.TURN_LIMIT + 1, "seed " + seed);
+            int result = duel.getResult();
+            if (result != DuelEngine.RESULT_DRAW) {
+                Player loser = duel.getPlayer(1 - result);
+                assertTrue(!loser.isAlive() || loser.getDeck().isEmpty(), "seed " + seed);
+            }
+        }
+    }
+
+    @Test
+    void testNoBattlePhaseOnFirstTurn() {
+        DuelEngine duel = DuelTestUtils.newDuel(STRONG, WEAK, 1);
+        assertEquals(DuelEngine.STARTING_HAND, duel.getPlayer(0).getHand().size());
+        assertTrue(duel.beginTurn());
+        assertEquals(DuelEngine.STARTING_HAND, duel.getPlayer(0).getHand().size());
+        assertFalse(duel.enterBattlePhase());
+        assertEquals(Phase.MP1, duel.getPhase());
+
+        duel.endTurn();
+        assertTrue(duel.beginTurn());
+        assertEquals(DuelEngine.STARTING_HAND + 1, duel.getPlayer(1).getHand().size());
+        assertTrue(duel.enterBattlePhase());
+    }
+
+    @Test
+    void testOneNormalSummonPerTurn() {
+        DuelEngine duel = DuelTestUtils.newDuel(STRONG, WEAK, 1);
+        Player first = duel.getPlayer(0);
+        duel.beginTurn();
+        assertTrue(duel.normalSummon(monsterInHand(first, 0), Position.ATTACK));
+        assertFalse(duel.normalSummon(monsterInHand(first, 0), Position.ATTACK));
+        assertEquals(1, first.getBoard().getMonsterCount());
+        assertEquals(DuelEngine.STARTING_HAND - 1, first.getHand().size());
+
+        duel.endTurn();
+        duel.beginTurn();
+        assertFalse(duel.normalSummon(monsterInHand(first, 0), Position.ATTACK), "not the active player");
+        duel.endTurn();
+        duel.beginTurn();
+        assertTrue(duel.normalSummon(monsterInHand(first, 0), Position.FACE_DOWN));
+        assertEquals(2, first.getBoard().getMonsterCount());
+    }
+
+    @Test
+    void testTributeSummon() {
+        DeckList mixed = DuelTestUtils.deck("20;Monster;1003;Small;1000;1000;4",
+                                            "20;Monster;1004;Big;2500;2000;6");
+        DuelEngine duel = null;
+        for (long seed = 0; duel == null; seed++) {
+            DuelEngine candidate = DuelTestUtils.newDuel(mixed, WEAK, seed);
+            Player first = candidate.getPlayer(0);
+            if (findInHand(first, 4) != null && findInHand(first, 6) != null) duel = candidate;
+        }
+        Player first = duel.getPlayer(0);
+        MonsterCard small = findInHand(first, 4);
+        MonsterCard big = findInHand(first, 6);
+
+        duel.beginTurn();
+        assertFalse(duel.normalSummon(big, Position.ATTACK), "one tribute is required");
+        assertFalse(duel.normalSummon(big, Position.ATTACK, 0), "zone 0 is empty");
+        assertTrue(duel.normalSummon(small, Position.ATTACK));
+        duel.endTurn();
+        duel.beginTurn();
+        duel.endTurn();
+
+        duel.beginTurn();
+        assertFalse(duel.normalSummon(big, Position.ATTACK, 0, 0), "two tributes for a level 6");
+        assertTrue(duel.normalSummon(big, Position.ATTACK, 0));
+        assertSame(big, first.getBoard().getMonster(0));
+        assertTrue(first.getBoard().getGraveyard().getAllCards().contains(small));
+    }
+
+    @Test
+    void testBattleDestroysAndInflictsDamage() {
+        DuelEngine duel = DuelTestUtils.newDuel(STRONG, WEAK, 1);
+        Player first = duel.getPlayer(0);
+        Player second = duel.getPlayer(1);
+        duel.beginTurn();
+        duel.normalSummon(monsterInHand(first, 0), Position.ATTACK);
+        duel.endTurn();
+        duel.beginTurn();
+        duel.normalSummon(monsterInHand(second, 0), Position.ATTACK);
+        duel.endTurn();
+
+        duel.beginTurn();
+        assertFalse(duel.canAttack(0), "not in the Battle Phase");
+        assertTrue(duel.enterBattlePhase());
+        assertFalse(duel.directAttack(0), "the opponent controls a monster");
+        long outcome = duel.attack(0, 0);
+        assertNotEquals(DuelEngine.ILLEGAL, outcome);
+        assertTrue(BattleResolver.isDefenderDestroyed(outcome));
+        assertEquals(1000, BattleResolver.damageToDefender(outcome));
+        assertEquals(DuelTestUtils.STARTING_LP - 1000, second.getLifePoints());
+        assertNull(second.getBoard().getMonster(0));
+        assertEquals(1, second.getBoard().getGraveyard().size());
+
+        assertFalse(duel.canAttack(0), "a monster attacks once per turn");
+        assertFalse(duel.directAttack(0));
+    }
+
+    @Test
+    void testNoPositionChangeAfterAnAttack() {
+        DuelEngine duel = DuelTestUtils.newDuel(STRONG, WEAK, 1);
+        duel.beginTurn();
+        duel.normalSummon(monsterInHand(duel.getPlayer(0), 0), Position.ATTACK);
+        duel.endTurn();
+        duel.beginTurn();
+        duel.endTurn();
+
+        duel.beginTurn();
+        assertTrue(duel.enterBattlePhase());
+        assertTrue(duel.directAttack(0));
+        duel.enterMainPhase2();
+        assertFalse(duel.changePosition(0));
+        assertEquals(Position.ATTACK, duel.getPlayer(0).getBoard().getMonster(0).getPosition());
+    }
+
+    @Test
+    void testFlippedDefenderIsInDefensePosition() {
+        DuelEngine duel = DuelTestUtils.newDuel(STRONG, DuelTestUtils.deck("40;Monster;1005;Wall;0;2500;4"), 1);
+        Player second = duel.getPlayer(1);
+        duel.beginTurn();
+        duel.normalSummon(monsterInHand(duel.getPlayer(0), 0), Position.ATTACK);
+        duel.endTurn();
+        duel.beginTurn();
+        MonsterCard wall = monsterInHand(second, 0);
+        duel.normalSummon(wall, Position.FACE_DOWN);
+        duel.endTurn();
+
+        duel.beginTurn();
+        duel.enableUndo(1000);
+        long beforeAttack = duel.snapshot();
+        duel.enterBattlePhase();
+        long outcome = duel.attack(0, 0);
+        assertFalse(BattleResolver.isDefenderDestroyed(outcome));
+        assertFalse(wall.isFaceDown());
+        assertEquals(Position.DEFENSE, wall.getPosition());
+        assertFalse(wall.hasChangedPositionThisTurn(), "the flip is not a position change");
+
+        assertTrue(duel.restore(beforeAttack));
+        assertTrue(wall.isFaceDown());
+        assertEquals(Position.FACE_DOWN, wall.getPosition());
+    }
+
+    @Test
+    void testSummonIsRefusedWithoutAFreeZone() {
+        DuelEngine duel = DuelTestUtils.newDuel(STRONG, WEAK, 1);
+        Player first = duel.getPlayer(0);
+        duel.beginTurn();
+        for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+            first.getBoard().placeMonster(new MonsterCard("Filler", "", 1006, first, 100, 100, 1,
+                                                          "", "", "Normal", "Normal Monster", ""),
+                                          zone, Position.ATTACK);
+        }
+        duel.enableUndo(1000);
+        long before = duel.snapshot();
+        String state = DuelTestUtils.describe(duel);
+
+        assertFalse(duel.normalSummon(monsterInHand(first, 0), Position.ATTACK));
+        assertFalse(first.hasNormalSummoned());
+        assertEquals(state, DuelTestUtils.describe(duel));
+        assertEquals(before, duel.snapshot());
+        assertFalse(duel.undo(), "a refused summon is not an action");
+    }
+
+    private static MonsterCard monsterInHand(Player player, int index) {
+        return (MonsterCard) player.getHand().getCard(index);
+    }
+
+    private static MonsterCard findInHand(Player player, int level) {
+        for (Card card : player.getHand().getAllCards()) {
+            if (card instanceof MonsterCard && ((MonsterCard) card).getLevel() == level) return (MonsterCard) card;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,135 @@
+package Game;
+
+import Player.Player;
+import TestUtils.DuelTestUtils;
+import Tournament.DeckList;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link EventBus}: events reach exactly the listeners whose
+ * type, player and zone match, and the engine publishes what happens.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class EventBusTest {
+
+    @Test
+    void testPackRoundTrip() {
+        long event = GameEvent.pack(GameEvent.BATTLE_DAMAGE, 1, 3, -1234);
+        assertEquals(GameEvent.BATTLE_DAMAGE, GameEvent.type(event));
+        assertEquals(1, GameEvent.player(event));
+        assertEquals(3, GameEvent.zone(event));
+        assertEquals(-1234, GameEvent.value(event));
+    }
+
+    @Test
+    void testDispatchMatchesTypePlayerAndZone() {
+        EventBus bus = new EventBus();
+        List<String> received = new ArrayList<>();
+        bus.subscribe(GameEvent.MONSTER_SUMMONED, 0, 2, (event, card) -> received.add("p0z2"));
+        bus.subscribe(GameEvent.MONSTER_SUMMONED, 0, EventBus.ANY_ZONE, (event, card) -> received.add("p0"));
+        bus.subscribe(GameEvent.MONSTER_SUMMONED, EventBus.ANY_PLAYER, 2, (event, card) -> received.add("z2"));
+        bus.subscribe(GameEvent.MONSTER_SUMMONED, (event, card) -> received.add("any"));
+        bus.subscribe(GameEvent.BATTLE_DAMAGE, (event, card) -> received.add("damage"));
+        assertEquals(5, bus.size());
+
+        bus.publish(GameEvent.MONSTER_SUMMONED, 0, 2, 0, null);
+        assertEquals(List.of("p0z2", "z2", "p0", "any"), received);
+
+        received.clear();
+        bus.publish(GameEvent.MONSTER_SUMMONED, 1, 4, 0, null);
+        assertEquals(List.of("any"), received);
+
+        received.clear();
+        bus.publish(GameEvent.BATTLE_DAMAGE, 1, GameEvent.NO_ZONE, 500, null);
+        assertEquals(List.of("damage"), received);
+    }
+
+    @Test
+    void testListenersOfASlotRunInSubscriptionOrder() {
+        EventBus bus = new EventBus();
+        List<Integer> received = new ArrayList<>();
+        GameEventListener second = (event, card) -> received.add(2);
+        bus.subscribe(GameEvent.PHASE_CHANGED, (event, card) -> received.add(1));
+        bus.subscribe(GameEvent.PHASE_CHANGED, second);
+        bus.subscribe(GameEvent.PHASE_CHANGED, (event, card) -> received.add(3));
+
+        bus.publish(GameEvent.PHASE_CHANGED, 0, GameEvent.NO_ZONE, 0, null);
+        assertEquals(List.of(1, 2, 3), received);
+
+        assertTrue(bus.unsubscribe(GameEvent.PHASE_CHANGED, EventBus.ANY_PLAYER, EventBus.ANY_ZONE, second));
+        assertFalse(bus.unsubscribe(GameEvent.PHASE_CHANGED, EventBus.ANY_PLAYER, EventBus.ANY_ZONE, second));
+        received.clear();
+        bus.publish(GameEvent.PHASE_CHANGED, 0, GameEvent.NO_ZONE, 0, null);
+        assertEquals(List.of(1, 3), received);
+        assertEquals(2, bus.size());
+
+        bus.clear();
+        assertEquals(0, bus.size());
+    }
+
+    @Test
+    void testInvalidSubscriptionsAreRefused() {
+        EventBus bus = new EventBus();
+        GameEventListener listener = (event, card) -> { };
+        assertFalse(bus.subscribe(GameEvent.TYPE_COUNT, listener));
+        assertFalse(bus.subscribe(-1, listener));
+        assertFalse(bus.subscribe(GameEvent.MONSTER_SUMMONED, 3, 0, listener));
+        assertFalse(bus.subscribe(GameEvent.MONSTER_SUMMONED, 0, GameEvent.ZONES + 1, listener));
+        assertFalse(bus.subscribe(GameEvent.MONSTER_SUMMONED, null));
+        assertEquals(0, bus.size());
+    }
+
+    /**
+     * With decks of monsters only, every Life Point lost is battle damage
+     * (the last hit may go below 0) and every card in a Graveyard was sent
+     * there from the field.
+     */
+    @Test
+    void testEnginePublishesDamageAndGraveyardSends() {
+        DeckList strong = DuelTestUtils.deck("40;Monster;1001;Strong;2000;1000;4");
+        DeckList weak = DuelTestUtils.deck("40;Monster;1002;Weak;1000;1500;4");
+        for (long seed = 0; seed < 20; seed++) {
+            DuelEngine duel = DuelTestUtils.newDuel(seed % 2 == 0 ? strong : weak, seed % 2 == 0 ? weak : strong, seed);
+            int[] damage = new int[2];
+            int[] sent = new int[2];
+            duel.getEvents().subscribe(GameEvent.BATTLE_DAMAGE,
+                    (event, card) -> damage[GameEvent.player(event)] += GameEvent.value(event));
+            duel.getEvents().subscribe(GameEvent.CARD_SENT_TO_GRAVEYARD,
+                    (event, card) -> sent[GameEvent.player(event)]++);
+            DuelTestUtils.playToEnd(duel);
+
+            for (int p = 0; p < 2; p++) {
+                Player player = duel.getPlayer(p);
+                int lost = DuelTestUtils.STARTING_LP - player.getLifePoints();
+                if (player.isAlive()) {
+                    assertEquals(lost, damage[p], "seed " + seed);
+                } else {
+                    assertTrue(damage[p] >= lost, "seed " + seed);
+                }
+                assertEquals(player.getBoard().getGraveyard().size(), sent[p], "seed " + seed);
+            }
+        }
+    }
+
+    @Test
+    void testEnginePublishesEveryPhaseOfATurn() {
+        DuelEngine duel = DuelTestUtils.newDuel(1);
+        DuelTestUtils.playTurns(duel, 1);
+        List<Phase> phases = new ArrayList<>();
+        duel.getEvents().subscribe(GameEvent.PHASE_CHANGED, 1, EventBus.ANY_ZONE,
+                (event, card) -> phases.add(Phase.values()[GameEvent.value(event)]));
+        duel.beginTurn();
+        duel.enterBattlePhase();
+        duel.enterMainPhase2();
+        duel.endTurn();
+        assertEquals(List.of(Phase.DP, Phase.MP1, Phase.BP, Phase.MP2, Phase.EP), phases);
+    }
+}
@@ -0,0 +1,194 @@
+package Game;
+
+import Card.Card;
+import Card.MonsterCard;
+import Card.Position;
+import TestUtils.DuelTestUtils;
+import Tournament.MovePolicy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link DuelEngine#generateMoves(MoveList)}: every listed move is
+ * accepted by {@link DuelEngine#play(int)}, and every summon, Set, position
+ * change and attack accepted by the action methods is listed.
+ * <p>
+ * Each move is tried under a snapshot, then the duel is restored.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class MoveGeneratorTest {
+
+    private static final MovePolicy POLICY = new MovePolicy();
+
+    private final MoveList moves = new MoveList();
+
+    @Test
+    void testEveryListedMoveIsPlayed() {
+        for (long seed = 0; seed < 30; seed++) {
+            DuelEngine duel = DuelTestUtils.newDuel(seed);
+            duel.enableUndo(100_000);
+            playChecking(duel, seed, this::checkListedMovesArePlayed);
+        }
+    }
+
+    @Test
+    void testEveryAcceptedSummonPositionChangeAndAttackIsListed() {
+        for (long seed = 0; seed < 30; seed++) {
+            DuelEngine duel = DuelTestUtils.newDuel(seed);
+            duel.enableUndo(100_000);
+            playChecking(duel, seed, this::checkSummonsPositionChangesAndAttacksAreListed);
+        }
+    }
+
+    @Test
+    void testNoMovesOutsideMainAndBattlePhases() {
+        DuelEngine duel = DuelTestUtils.newDuel(1);
+        assertEquals(0, duel.generateMoves(moves), "before the first turn");
+        duel.beginTurn();
+        assertTrue(duel.generateMoves(moves) > 0);
+        assertTrue(moves.hasMove(Moves.NORMAL_SUMMON, firstMonsterInHand(duel)));
+        duel.endTurn();
+        assertEquals(0, duel.generateMoves(moves), "after the End Phase");
+    }
+
+    @Test
+    void testNoPositionChangeAfterAnAttack() {
+        DuelEngine duel = DuelTestUtils.newDuel(DuelTestUtils.deck("40;Monster;1001;Strong;2000;1000;4"),
+                                                DuelTestUtils.deck("40;Monster;1002;Weak;1000;1500;4"), 1);
+        duel.beginTurn();
+        duel.normalSummon((MonsterCard) duel.getPlayer(0).getHand().getCard(0), Position.ATTACK);
+        duel.endTurn();
+        duel.beginTurn();
+        duel.endTurn();
+
+        duel.beginTurn();
+        duel.generateMoves(moves);
+        assertTrue(moves.hasMove(Moves.CHANGE_POSITION, 0));
+        assertTrue(duel.enterBattlePhase());
+        assertTrue(duel.directAttack(0));
+        duel.enterMainPhase2();
+        duel.generateMoves(moves);
+        assertFalse(moves.hasMove(Moves.CHANGE_POSITION, 0));
+    }
+
+    @Test
+    void testPackRoundTrip() {
+        int move = Moves.of(Moves.SET_MONSTER, 200, 3, 4);
+        assertEquals(Moves.SET_MONSTER, Moves.kind(move));
+        assertEquals(200, Moves.source(move));
+        assertEquals(3, Moves.target(move));
+        assertEquals(4, Moves.second(move));
+        assertEquals(2, Moves.tributeCount(move));
+        assertTrue(Moves.isFromHand(move));
+
+        move = Moves.of(Moves.ATTACK, 2, 1, Moves.NONE);
+        assertEquals(Moves.ATTACK, Moves.kind(move));
+        assertFalse(Moves.isFromHand(move));
+        assertEquals(0, Moves.tributeCount(Moves.of(Moves.NORMAL_SUMMON, 0)));
+    }
+
+    /**
+     * Plays a duel with random moves, running a check in each Main and
+     * Battle Phase, before and after the moves of the phase.
+     */
+    private void playChecking(DuelEngine duel, long seed, Check check) {
+        while (!duel.isOver()) {
+            if (!duel.beginTurn()) break;
+            check.run(duel, seed);
+            POLICY.mainPhase(duel);
+            check.run(duel, seed);
+            if (duel.enterBattlePhase()) {
+                check.run(duel, seed);
+                POLICY.battlePhase(duel);
+                check.run(duel, seed);
+            }
+            duel.enterMainPhase2();
+            check.run(duel, seed);
+            POLICY.mainPhase(duel);
+            duel.endTurn();
+        }
+    }
+
+    private void checkListedMovesArePlayed(DuelEngine duel, long seed) {
+        int count = duel.generateMoves(moves);
+        for (int i = 0; i < count; i++) {
+            int move = moves.get(i);
+            long snapshot = duel.snapshot();
+            assertTrue(duel.play(move), "seed " + seed + " turn " + duel.getTurn() + " " + Moves.toString(move));
+            assertTrue(duel.restore(snapshot));
+        }
+    }
+
+    private void checkSummonsPositionChangesAndAttacksAreListed(DuelEngine duel, long seed) {
+        duel.generateMoves(moves);
+        int handSize = duel.getPlayer(duel.getActiveIndex()).getHand().size();
+        for (int i = 0; i < handSize; i++) {
+            for (int kind = Moves.NORMAL_SUMMON; kind <= Moves.SET_MONSTER; kind++) {
+                checkListed(duel, seed, Moves.of(kind, i));
+                for (int first = 0; first < DuelEngine.MONSTER_ZONES; first++) {
+                    checkListed(duel, seed, Moves.of(kind, i, first, Moves.NONE));
+                    for (int second = first + 1; second < DuelEngine.MONSTER_ZONES; second++) {
+                        checkListed(duel, seed, Moves.of(kind, i, first, second));
+                    }
+                }
+            }
+        }
+        for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+            checkListed(duel, seed, Moves.of(Moves.CHANGE_POSITION, zone));
+            checkListed(duel, seed, Moves.of(Moves.DIRECT_ATTACK, zone));
+            for (int target = 0; target < DuelEngine.MONSTER_ZONES; target++) {
+                checkListed(duel, seed, Moves.of(Moves.ATTACK, zone, target, Moves.NONE));
+            }
+        }
+    }
+
+    /**
+     * Tries a move through the action methods, not through play(int), and
+     * checks that it is listed exactly when it is accepted.
+     */
+    private void checkListed(DuelEngine duel, long seed, int move) {
+        long snapshot = duel.snapshot();
+        boolean accepted;
+        int source = Moves.source(move);
+        if (Moves.kind(move) == Moves.ATTACK) {
+            accepted = duel.attack(source, Moves.target(move)) != DuelEngine.ILLEGAL;
+        } else if (Moves.kind(move) == Moves.DIRECT_ATTACK) {
+            accepted = duel.directAttack(source);
+        } else if (Moves.kind(move) == Moves.CHANGE_POSITION) {
+            accepted = duel.changePosition(source);
+        } else {
+            Card card = duel.getPlayer(duel.getActiveIndex()).getHand().getCard(source);
+            Position position = Moves.kind(move) == Moves.NORMAL_SUMMON ? Position.ATTACK : Position.FACE_DOWN;
+            if (!(card instanceof MonsterCard)) {
+                accepted = false;
+            } else if (Moves.tributeCount(move) == 0) {
+                accepted = duel.normalSummon((MonsterCard) card, position);
+            } else if (Moves.tributeCount(move) == 1) {
+                accepted = duel.normalSummon((MonsterCard) card, position, Moves.target(move));
+            } else {
+                accepted = duel.normalSummon((MonsterCard) card, position, Moves.target(move), Moves.second(move));
+            }
+        }
+        assertTrue(duel.restore(snapshot));
+        assertEquals(accepted, moves.contains(move),
+                     "seed " + seed + " turn " + duel.getTurn() + " " + Moves.toString(move));
+    }
+
+    private static int firstMonsterInHand(DuelEngine duel) {
+        int handSize = duel.getPlayer(0).getHand().size();
+        for (int i = 0; i < handSize; i++) {
+            if (duel.getPlayer(0).getHand().getCard(i) instanceof MonsterCard) return i;
+        }
+        return -1;
+    }
+
+    /** Check run at a point of the duel */
+    private interface Check {
+        void run(DuelEngine duel, long seed);
+    }
+}
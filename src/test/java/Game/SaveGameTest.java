@@ -0,0 +1,124 @@
+package Game;
+
+import Card.Attribute;
+import Card.MonsterCard;
+import Card.Race;
+import Hand.Hand;
+import TestUtils.DuelTestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link SaveGame}: a duel read back from its save is in the same
+ * state and plays on exactly like the saved one.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class SaveGameTest {
+
+    @Test
+    void testRoundTripKeepsState() {
+        for (long seed = 0; seed < 50; seed++) {
+            DuelEngine duel = DuelTestUtils.newDuel(seed);
+            DuelTestUtils.playTurns(duel, (int) (seed % 8));
+
+            DuelEngine loaded = SaveGame.read(SaveGame.write(duel));
+
+            assertEquals(DuelTestUtils.describe(duel), DuelTestUtils.describe(loaded), "seed " + seed);
+            assertEquals(duel.getTurn(), loaded.getTurn());
+            assertEquals(duel.getPhase(), loaded.getPhase());
+            assertEquals(duel.getActiveIndex(), loaded.getActiveIndex());
+        }
+    }
+
+    @Test
+    void testLoadedDuelPlaysTheSame() {
+        for (long seed = 0; seed < 30; seed++) {
+            DuelEngine duel = DuelTestUtils.newDuel(seed);
+            DuelTestUtils.playTurns(duel, 5);
+            DuelEngine loaded = SaveGame.read(SaveGame.write(duel));
+
+            DuelTestUtils.playToEnd(duel);
+            DuelTestUtils.playToEnd(loaded);
+
+            assertEquals(duel.getResult(), loaded.getResult(), "seed " + seed);
+            assertEquals(DuelTestUtils.describe(duel), DuelTestUtils.describe(loaded), "seed " + seed);
+        }
+    }
+
+    @Test
+    void testSaveOfLoadedDuelIsIdentical() {
+        DuelEngine duel = DuelTestUtils.newDuel(3);
+        DuelTestUtils.playTurns(duel, 4);
+        ByteBuffer first = SaveGame.write(duel);
+        ByteBuffer second = SaveGame.write(SaveGame.read(first.duplicate()));
+        assertEquals(first, second);
+    }
+
+    @Test
+    void testMonsterValuesRoundTrip() {
+        DuelEngine duel = DuelTestUtils.newDuel(2);
+        duel.getPlayer(0).getHand().addCard(new MonsterCard("Known", "", 7, null, 1200, 800, 4,
+                "light", "Sea Serpent", "Effect", "Effect Monster", ""));
+        duel.getPlayer(0).getHand().addCard(new MonsterCard("Unknown", "", 8, null, 1200, 800, 4,
+                "LAUGH", "Cyborg", "Pendulum?", "Effect Monster", ""));
+        duel.getPlayer(0).getHand().addCard(new MonsterCard("Missing", "", 9, null, 1200, 800, 4,
+                null, null, null, "Effect Monster", ""));
+
+        Hand hand = duel.getPlayer(0).getHand();
+        Hand loaded = SaveGame.read(SaveGame.write(duel)).getPlayer(0).getHand();
+        assertEquals(hand.size(), loaded.size());
+        for (int i = 0; i < hand.size(); i++) {
+            if (!(hand.getCard(i) instanceof MonsterCard)) continue;
+            MonsterCard saved = (MonsterCard) hand.getCard(i);
+            MonsterCard read = (MonsterCard) loaded.getCard(i);
+            assertEquals(saved.getAttributeValue(), read.getAttributeValue(), saved.getName());
+            assertEquals(saved.getRace(), read.getRace(), saved.getName());
+            assertEquals(saved.getAttribute(), read.getAttribute(), saved.getName());
+            assertEquals(saved.getType(), read.getType(), saved.getName());
+            assertEquals(saved.getSubType(), read.getSubType(), saved.getName());
+        }
+        MonsterCard unknown = (MonsterCard) loaded.getCard(hand.size() - 2);
+        assertEquals(Attribute.UNKNOWN, unknown.getAttributeValue());
+        assertEquals(Race.UNKNOWN, unknown.getRace());
+        assertEquals("Cyborg", unknown.getType());
+    }
+
+    @Test
+    void testSaveAndLoadFile(@TempDir Path dir) throws IOException {
+        DuelEngine duel = DuelTestUtils.newDuel(6);
+        DuelTestUtils.playTurns(duel, 6);
+        Path file = dir.resolve("duel.sav");
+        SaveGame.save(duel, file);
+        SaveGame.save(duel, file);
+
+        assertEquals(DuelTestUtils.describe(duel), DuelTestUtils.describe(SaveGame.load(file)));
+        try (Stream<Path> files = Files.list(dir)) {
+            assertEquals(1, files.count(), "no temporary file is left");
+        }
+    }
+
+    @Test
+    void testRejectsCorruptedSaves() {
+        ByteBuffer save = SaveGame.write(DuelTestUtils.newDuel(1));
+
+        ByteBuffer truncated = save.duplicate();
+        truncated.limit(truncated.limit() / 2);
+        assertThrows(IllegalArgumentException.class, () -> SaveGame.read(truncated));
+
+        ByteBuffer wrongMagic = ByteBuffer.allocate(save.remaining());
+        wrongMagic.put(save.duplicate()).flip();
+        wrongMagic.putInt(0, 0);
+        assertThrows(IllegalArgumentException.class, () -> SaveGame.read(wrongMagic));
+    }
+}
@@ -0,0 +1,65 @@
+package Game;
+
+import TestUtils.DuelTestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the state hash of {@link DuelEngine}: the incremental hash always
+ * equals a full hash of the state, and equal states have equal hashes.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class StateHashTest {
+
+    @Test
+    void testIncrementalHashMatchesFullHash() {
+        for (long seed = 0; seed < 20; seed++) {
+            DuelEngine duel = DuelTestUtils.newDuel(seed);
+            while (!duel.isOver()) {
+                DuelTestUtils.playTurns(duel, 1);
+                assertEquals(fullHash(duel), duel.stateHash(), "seed " + seed + " turn " + duel.getTurn());
+            }
+        }
+    }
+
+    @Test
+    void testSameStateHasSameHash() {
+        for (long seed = 0; seed < 20; seed++) {
+            DuelEngine first = DuelTestUtils.newDuel(seed);
+            DuelEngine second = DuelTestUtils.newDuel(seed);
+            assertEquals(first.stateHash(), second.stateHash(), "seed " + seed);
+            while (!first.isOver()) {
+                long before = first.stateHash();
+                DuelTestUtils.playTurns(first, 1);
+                DuelTestUtils.playTurns(second, 1);
+                assertEquals(first.stateHash(), second.stateHash(), "seed " + seed + " turn " + first.getTurn());
+                assertNotEquals(before, first.stateHash(), "seed " + seed + " turn " + first.getTurn());
+            }
+        }
+    }
+
+    @Test
+    void testUndoRestoresTheHash() {
+        for (long seed = 0; seed < 20; seed++) {
+            DuelEngine duel = DuelTestUtils.newDuel(seed);
+            duel.enableUndo(100_000);
+            DuelTestUtils.playTurns(duel, 3);
+            long snapshot = duel.snapshot();
+            long hash = duel.stateHash();
+
+            DuelTestUtils.playTurns(duel, 10);
+            assertTrue(duel.restore(snapshot), "seed " + seed);
+            assertEquals(hash, duel.stateHash(), "seed " + seed);
+            assertEquals(hash, fullHash(duel), "seed " + seed);
+        }
+    }
+
+    private static long fullHash(DuelEngine duel) {
+        duel.invalidateStateHash();
+        return duel.stateHash();
+    }
+}
@@ -0,0 +1,115 @@
+package Game;
+
+import TestUtils.DuelTestUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of the undo log of {@link DuelEngine}: snapshots, undo and redo
+ * bring back exactly the recorded states.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class UndoLogTest {
+
+    @Test
+    void testRestoreSnapshotBackAndForth() {
+        for (long seed = 0; seed < 50; seed++) {
+            DuelEngine duel = DuelTestUtils.newDuel(seed);
+            duel.enableUndo(100_000);
+            DuelTestUtils.playTurns(duel, 3);
+            long before = duel.snapshot();
+            String beforeState = DuelTestUtils.describe(duel);
+
+            DuelTestUtils.playTurns(duel, 20);
+            long after = duel.snapshot();
+            String afterState = DuelTestUtils.describe(duel);
+
+            assertTrue(duel.restore(before), "seed " + seed);
+            assertEquals(beforeState, DuelTestUtils.describe(duel), "seed " + seed);
+
+            assertTrue(duel.restore(after), "seed " + seed);
+            assertEquals(afterState, DuelTestUtils.describe(duel), "seed " + seed);
+        }
+    }
+
+    @Test
+    void testUndoEverythingThenRedo() {
+        DuelEngine duel = DuelTestUtils.newDuel(5);
+        String startState = DuelTestUtils.describe(duel);
+        duel.enableUndo(100_000);
+        DuelTestUtils.playTurns(duel, 10);
+        String endState = DuelTestUtils.describe(duel);
+
+        int undos = 0;
+        while (duel.undo()) undos++;
+        assertTrue(undos > 0);
+        assertEquals(startState, DuelTestUtils.describe(duel));
+
+        int redos = 0;
+        while (duel.redo()) redos++;
+        assertEquals(undos, redos);
+        assertEquals(endState, DuelTestUtils.describe(duel));
+    }
+
+    @Test
+    void testNewActionDropsTheRedoneBranch() {
+        DuelEngine duel = DuelTestUtils.newDuel(4);
+        duel.enableUndo(100_000);
+        DuelTestUtils.playTurns(duel, 4);
+        long later = duel.snapshot();
+        assertTrue(duel.undo());
+        assertTrue(duel.undo());
+        String undone = DuelTestUtils.describe(duel);
+
+        duel.endTurn();
+        assertNotEquals(undone, DuelTestUtils.describe(duel));
+        assertFalse(duel.redo());
+        assertFalse(duel.restore(later));
+    }
+
+    @Test
+    void testUndoneDuelPlaysOnLikeANewOne() {
+        DuelEngine duel = DuelTestUtils.newDuel(8);
+        duel.enableUndo(100_000);
+        DuelTestUtils.playTurns(duel, 2);
+        long branch = duel.snapshot();
+        long[] random = {duel.getRandom().getState(0), duel.getRandom().getState(1)};
+
+        DuelTestUtils.playTurns(duel, 6);
+        String firstState = DuelTestUtils.describe(duel);
+
+        assertTrue(duel.restore(branch));
+        duel.getRandom().setState(random[0], random[1]);
+        DuelTestUtils.playTurns(duel, 6);
+        assertEquals(firstState, DuelTestUtils.describe(duel));
+    }
+
+    @Test
+    void testHistoryIsBounded() {
+        DuelEngine duel = DuelTestUtils.newDuel(7);
+        duel.enableUndo(64);
+        long start = duel.snapshot();
+        DuelTestUtils.playTurns(duel, 30);
+        String endState = DuelTestUtils.describe(duel);
+
+        assertFalse(duel.restore(start));
+        int undos = 0;
+        while (duel.undo()) undos++;
+        while (duel.redo()) undos--;
+        assertEquals(0, undos);
+        assertEquals(endState, DuelTestUtils.describe(duel));
+    }
+
+    @Test
+    void testDisabledByDefault() {
+        DuelEngine duel = DuelTestUtils.newDuel(2);
+        DuelTestUtils.playTurns(duel, 2);
+        assertEquals(-1, duel.snapshot());
+        assertFalse(duel.undo());
+        assertFalse(duel.redo());
+    }
+}
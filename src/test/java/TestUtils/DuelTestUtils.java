@@ -0,0 +1,172 @@
+package TestUtils;
+
+import Board.Board;
+import Card.Card;
+import Card.MonsterCard;
+import Deck.Deck;
+import Game.DuelEngine;
+import Game.DuelRandom;
+import Player.Player;
+import Tournament.DeckList;
+import Tournament.MovePolicy;
+import util.GameLog;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeded duels for the engine tests.
+ * <p>
+ * A duel is built from two deck lists and a {@link DuelRandom}, as the
+ * tournament runner does, and played with {@link MovePolicy}, which only
+ * draws from the duel's own random source: the same seed always plays the
+ * same duel.
+ * </p>
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+public final class DuelTestUtils {
+
+    /** Starting Life Points of the test players */
+    public static final int STARTING_LP = 8000;
+
+    /** Turn limit of the test duels */
+    public static final int TURN_LIMIT = 60;
+
+    private static final MovePolicy POLICY = new MovePolicy();
+
+    private DuelTestUtils() {
+    }
+
+    /**
+     * Creates and starts a duel between two sample decks.
+     *
+     * @param seed the seed of the duel
+     * @return the started duel
+     */
+    public static DuelEngine newDuel(long seed) {
+        List<DeckList> decks = DeckList.samples();
+        return newDuel(decks.get((int) (seed % decks.size())), decks.get((int) ((seed + 1) % decks.size())), seed);
+    }
+
+    /**
+     * Creates and starts a duel between two deck lists.
+     *
+     * @param first the deck of the player taking the first turn
+     * @param second the deck of the other player
+     * @param seed the seed of the duel
+     * @return the started duel
+     */
+    public static DuelEngine newDuel(DeckList first, DeckList second, long seed) {
+        GameLog.setQuiet(true);
+        Random random = new DuelRandom(seed);
+        DuelEngine duel = new DuelEngine(createPlayer("A", first, random), createPlayer("B", second, random),
+                                         TURN_LIMIT, random);
+        duel.start();
+        return duel;
+    }
+
+    /**
+     * Parses a deck list from its lines, in the {@link DeckList} file format.
+     *
+     * @param lines the entries of the deck
+     * @return the deck list
+     */
+    public static DeckList deck(String... lines) {
+        return DeckList.parse("Test", List.of(lines));
+    }
+
+    /**
+     * Plays turns of random legal moves.
+     *
+     * @param duel the running duel
+     * @param turns the number of turns to play, at most
+     */
+    public static void playTurns(DuelEngine duel, int turns) {
+        for (int t = 0; t < turns && !duel.isOver(); t++) {
+            if (!duel.beginTurn()) return;
+            POLICY.mainPhase(duel);
+            if (duel.enterBattlePhase()) {
+                POLICY.battlePhase(duel);
+            }
+            duel.enterMainPhase2();
+            POLICY.mainPhase(duel);
+            duel.endTurn();
+        }
+    }
+
+    /**
+     * Plays a duel until it is over.
+     *
+     * @param duel the running duel
+     */
+    public static void playToEnd(DuelEngine duel) {
+        playTurns(duel, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Describes the whole state of a duel: turn, phase, Life Points, and
+     * every card in order in each hand, deck, zone and pile.
+     * <p>
+     * Two duels in the same state have the same description, which the
+     * tests compare instead of walking both models.
+     * </p>
+     *
+     * @param duel the duel
+     * @return the description
+     */
+    public static String describe(DuelEngine duel) {
+        StringBuilder out = new StringBuilder();
+        out.append("turn ").append(duel.getTurn()).append(' ').append(duel.getPhase())
+           .append(" active ").append(duel.getActiveIndex()).append(" result ").append(duel.getResult());
+        for (int p = 0; p < 2; p++) {
+            Player player = duel.getPlayer(p);
+            Board board = player.getBoard();
+            out.append("\n").append(player.getName()).append(" LP ").append(player.getLifePoints())
+               .append(player.hasNormalSummoned() ? " summoned" : "");
+            out.append("\n hand ").append(names(player.getHand().getAllCards()));
+            out.append("\n deck ").append(names(player.getDeck().getCards()));
+            out.append("\n monsters");
+            for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+                MonsterCard monster = board.getMonster(zone);
+                out.append(" [");
+                if (monster != null) {
+                    out.append(monster.getName()).append(' ').append(monster.getPosition())
+                       .append(monster.isFaceDown() ? " down" : "")
+                       .append(monster.hasAttackedThisTurn() ? " attacked" : "")
+                       .append(monster.hasChangedPositionThisTurn() ? " changed" : "");
+                }
+                out.append(']');
+            }
+            out.append("\n spells/traps");
+            for (int zone = 0; zone < DuelEngine.MONSTER_ZONES; zone++) {
+                Card card = board.getSpellTrap(zone);
+                out.append(" [").append(card == null ? "" : card.getName() + (card.isFaceDown() ? " down" : ""))
+                   .append(']');
+            }
+            out.append("\n graveyard ").append(names(board.getGraveyard().getAllCards()));
+            out.append("\n banished ").append(names(board.getBanished().getAllCards()));
+        }
+        return out.toString();
+    }
+
+    private static String names(List<Card> cards) {
+        StringBuilder out = new StringBuilder("(");
+        for (Card card : cards) {
+            if (out.length() > 1) out.append(", ");
+            out.append(card.getName());
+        }
+        return out.append(')').toString();
+    }
+
+    private static Player createPlayer(String name, DeckList deckList, Random random) {
+        List<Card> cards = deckList.instantiate(random);
+        Player player = new Player(name, STARTING_LP, new Deck(cards), null);
+        for (Card card : cards) {
+            card.setOwner(player);
+        }
+        return player;
+    }
+}
@@ -0,0 +1,92 @@
+package net;
+
+import Game.DuelEngine;
+import Game.MoveList;
+import Game.Phase;
+import TestUtils.DuelTestUtils;
+import Tournament.DeckList;
+import util.GameLog;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link LockstepPeer} played hot-seat: the legal moves of the
+ * engine, sent as commands with {@link Commands#encode(int)}, keep both
+ * engines in the same state, and a divergence is repaired from a snapshot.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class LockstepPeerTest {
+
+    @Test
+    void testEncodedMovesKeepThePeersInStep() {
+        GameLog.setQuiet(true);
+        List<DeckList> decks = DeckList.samples();
+        for (long seed = 0; seed < 20; seed++) {
+            LockstepPeer[] peers = LockstepPeer.pair(decks.get((int) (seed % 3)), decks.get((int) ((seed + 1) % 3)), seed);
+            Random random = new Random(seed);
+            MoveList moves = new MoveList();
+            int commands = 0;
+            while (!peers[0].getEngine().isOver() && commands < 2000) {
+                DuelEngine engine = peers[0].getEngine();
+                engine.generateMoves(moves);
+                byte[] command;
+                if (moves.size() > 0 && random.nextInt(4) != 0) {
+                    command = Commands.encode(moves.get(random.nextInt(moves.size())));
+                } else if (engine.getPhase() == Phase.MP1 && engine.canBattle()) {
+                    command = new byte[] { Protocol.BATTLE_PHASE };
+                } else {
+                    command = new byte[] { Protocol.END_TURN };
+                }
+                assertTrue(submit(peers, command), "seed " + seed + " command " + command[0]);
+                commands++;
+            }
+            assertTrue(peers[0].getEngine().isOver(), "seed " + seed);
+            assertEquals(0, peers[0].getDesyncs() + peers[1].getDesyncs(), "seed " + seed);
+            assertTrue(peers[0].isFinalConfirmed() && peers[1].isFinalConfirmed(), "seed " + seed);
+            assertEquals(DuelTestUtils.describe(peers[0].getEngine()), DuelTestUtils.describe(peers[1].getEngine()));
+        }
+    }
+
+    @Test
+    void testDivergenceIsRepairedFromASnapshot() {
+        GameLog.setQuiet(true);
+        List<DeckList> decks = DeckList.samples();
+        LockstepPeer[] peers = LockstepPeer.pair(decks.get(0), decks.get(1), 7);
+
+        // A change behind the back of player 2's engine, seen by the full hash of END_TURN
+        peers[1].getEngine().getPlayer(0).decreaseLifePoints(500);
+        assertTrue(submit(peers, new byte[] { Protocol.END_TURN }));
+
+        assertEquals(1, peers[1].getResyncs());
+        assertFalse(peers[1].isAwaitingSnapshot());
+        assertEquals(DuelTestUtils.describe(peers[0].getEngine()), DuelTestUtils.describe(peers[1].getEngine()));
+        assertEquals(DuelTestUtils.STARTING_LP, peers[1].getEngine().getPlayer(0).getLifePoints());
+    }
+
+    /**
+     * Submits a command of the active player and delivers the frames until none is in flight.
+     */
+    private static boolean submit(LockstepPeer[] peers, byte[] command) {
+        LockstepPeer actor = peers[peers[0].getEngine().getActiveIndex()];
+        boolean applied = actor.submit(command[0], Arrays.copyOfRange(command, 1, command.length));
+        while (peers[0].hasPendingFrames() || peers[1].hasPendingFrames()) {
+            for (int side = 0; side < 2; side++) {
+                ByteBuffer frame;
+                while ((frame = peers[side].poll()) != null) {
+                    frame.getShort();
+                    peers[1 - side].receive(frame);
+                }
+            }
+        }
+        return applied;
+    }
+}
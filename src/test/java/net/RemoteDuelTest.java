@@ -0,0 +1,142 @@
+package net;
+
+import Card.Card;
+import Game.DuelEngine;
+import Game.MoveList;
+import Game.Phase;
+import Tournament.DeckList;
+import util.GameLog;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link RemoteDuel} against a loopback {@link DuelServer}: the
+ * mirror shows what the client may know, keeps the cards of unchanged
+ * slots, and its legal moves, encoded as commands, play duels to the end.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class RemoteDuelTest {
+
+    @Test
+    void testMirrorPlaysDuelsThroughTheServer() throws Exception {
+        GameLog.setQuiet(true);
+        List<DeckList> decks = DeckList.samples();
+        DuelServer server = new DuelServer(0, decks, 60);
+        Thread serverThread = new Thread(server, "duel-server");
+        serverThread.setDaemon(true);
+        serverThread.start();
+        try {
+            for (int duel = 0; duel < 5; duel++) {
+                AtomicReference<Throwable> failure = new AtomicReference<>();
+                int[] results = new int[2];
+                Thread[] players = new Thread[2];
+                for (int p = 0; p < 2; p++) {
+                    int index = p;
+                    long seed = duel * 2L + p;
+                    players[p] = new Thread(() -> {
+                        try (DuelClient client = new DuelClient("localhost", server.getPort())) {
+                            results[index] = play(client, "P" + index, decks, new Random(seed));
+                        } catch (Throwable e) {
+                            failure.set(e);
+                        }
+                    });
+                    players[p].start();
+                }
+                for (Thread player : players) {
+                    player.join(30_000);
+                    assertFalse(player.isAlive(), "duel " + duel + " did not end");
+                }
+                if (failure.get() != null) fail(failure.get());
+
+                // Each mirror sees itself as player 0: one winner and one loser, or two draws
+                if (results[0] == DuelEngine.RESULT_DRAW) {
+                    assertEquals(DuelEngine.RESULT_DRAW, results[1]);
+                } else {
+                    assertEquals(1, results[0] + results[1], "duel " + duel);
+                }
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    void testUnchangedSlotsKeepTheirCards() throws Exception {
+        GameLog.setQuiet(true);
+        List<DeckList> decks = DeckList.samples();
+        DuelServer server = new DuelServer(0, decks, 60);
+        Thread serverThread = new Thread(server, "duel-server");
+        serverThread.setDaemon(true);
+        serverThread.start();
+        try (DuelClient first = new DuelClient("localhost", server.getPort());
+             DuelClient second = new DuelClient("localhost", server.getPort())) {
+            Thread waiting = new Thread(() -> {
+                try {
+                    first.hello("First", 0);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            waiting.start();
+            Thread.sleep(100);
+            assertTrue(second.hello("Second", 1));
+            waiting.join(5_000);
+
+            RemoteDuel remote = new RemoteDuel("First", decks);
+            DuelEngine before = remote.update(first.getState());
+            List<Card> hand = List.copyOf(before.getPlayer(0).getHand().getAllCards());
+            List<Card> opponentHand = List.copyOf(before.getPlayer(1).getHand().getAllCards());
+            DuelEngine after = remote.update(first.getState());
+
+            assertNotSame(before, after);
+            assertEquals(0, after.getActiveIndex(), "the first player plays first");
+            assertEquals(Phase.MP1, after.getPhase());
+            assertEquals(hand, after.getPlayer(0).getHand().getAllCards());
+            for (int i = 0; i < hand.size(); i++) {
+                assertSame(hand.get(i), after.getPlayer(0).getHand().getCard(i));
+                assertNotEquals("Hidden card", hand.get(i).getName());
+            }
+            for (int i = 0; i < opponentHand.size(); i++) {
+                assertSame(opponentHand.get(i), after.getPlayer(1).getHand().getCard(i));
+                assertEquals("Hidden card", opponentHand.get(i).getName());
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    /**
+     * Plays a duel with random legal moves of the mirror, ending the turn when one is rejected.
+     *
+     * @return the result of the mirror: 0 if the client won, 1 if it lost, or a draw
+     */
+    private static int play(DuelClient client, String name, List<DeckList> decks, Random random) throws Exception {
+        assertTrue(client.hello(name, random.nextInt(decks.size())));
+        RemoteDuel remote = new RemoteDuel(name, decks);
+        MoveList moves = new MoveList();
+        while (true) {
+            DuelEngine engine = remote.update(client.awaitTurn());
+            if (engine.isOver()) return engine.getResult();
+            engine.generateMoves(moves);
+            boolean accepted = false;
+            if (moves.size() > 0 && random.nextInt(4) != 0) {
+                byte[] command = Commands.encode(moves.get(random.nextInt(moves.size())));
+                accepted = client.send(command[0], Arrays.copyOfRange(command, 1, command.length));
+            } else if (engine.getPhase() == Phase.MP1 && engine.canBattle()) {
+                accepted = client.battlePhase();
+            }
+            if (!accepted) {
+                assertTrue(client.endTurn());
+            }
+        }
+    }
+}
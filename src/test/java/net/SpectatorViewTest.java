@@ -0,0 +1,150 @@
+package net;
+
+import Bot.RandomStrategy;
+import Card.MonsterCard;
+import Card.Position;
+import Game.DuelEngine;
+import TestUtils.DuelTestUtils;
+import Tournament.StrategyPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests of {@link SpectatorView}: a spectator applying the keyframe and the
+ * deltas encoded by the server sees the captured state, without the
+ * face-down cards.
+ *
+ * @author Your Name
+ * @version 1.0
+ * @since 2025
+ */
+class SpectatorViewTest {
+
+    private static final StrategyPolicy POLICY = new StrategyPolicy(new RandomStrategy());
+
+    private final ByteBuffer frame = ByteBuffer.allocate(1 << 12);
+
+    @Test
+    void testDeltasRebuildTheCapturedState() {
+        for (long seed = 0; seed < 20; seed++) {
+            DuelEngine duel = DuelTestUtils.newDuel(seed);
+            SpectatorView captured = new SpectatorView();
+            SpectatorView sent = new SpectatorView();
+            SpectatorView spectator = new SpectatorView();
+
+            captured.capture(duel);
+            assertTrue(spectator.apply(true, encode(captured, null, 1)));
+            assertSameView(captured, spectator);
+            sent.copyFrom(captured);
+
+            int sequence = 1;
+            while (!duel.isOver()) {
+                if (!duel.beginTurn()) break;
+                step(duel, captured, sent, spectator, ++sequence);
+                POLICY.mainPhase(duel);
+                step(duel, captured, sent, spectator, ++sequence);
+                if (duel.enterBattlePhase()) {
+                    POLICY.battlePhase(duel);
+                    step(duel, captured, sent, spectator, ++sequence);
+                }
+                duel.endTurn();
+                step(duel, captured, sent, spectator, ++sequence);
+            }
+            assertEquals(duel.getResult(), spectator.getResult(), "seed " + seed);
+        }
+    }
+
+    @Test
+    void testUnchangedStateEncodesNothing() {
+        DuelEngine duel = DuelTestUtils.newDuel(3);
+        SpectatorView captured = new SpectatorView();
+        captured.capture(duel);
+        SpectatorView sent = new SpectatorView();
+        sent.copyFrom(captured);
+
+        captured.capture(duel);
+        assertEquals(0, captured.encode(sent, ByteBuffer.allocate(1 << 12)));
+    }
+
+    @Test
+    void testMissedDeltaNeedsAKeyframe() {
+        DuelEngine duel = DuelTestUtils.newDuel(2);
+        SpectatorView captured = new SpectatorView();
+        SpectatorView spectator = new SpectatorView();
+        assertFalse(spectator.apply(false, encode(captured, null, 1)), "a delta before any keyframe");
+
+        captured.capture(duel);
+        assertTrue(spectator.apply(true, encode(captured, null, 5)));
+        assertFalse(spectator.apply(false, encode(captured, null, 7)), "delta 6 was lost");
+        assertFalse(spectator.isSynced());
+        assertFalse(spectator.apply(false, encode(captured, null, 8)));
+
+        assertTrue(spectator.apply(true, encode(captured, null, 9)));
+        assertTrue(spectator.apply(false, encode(captured, null, 10)));
+        assertSameView(captured, spectator);
+    }
+
+    @Test
+    void testFaceDownCardsAreRedacted() {
+        DuelEngine duel = DuelTestUtils.newDuel(DuelTestUtils.deck("40;Monster;1001;Strong;2000;1000;4"),
+                                                DuelTestUtils.deck("40;Monster;1002;Weak;1000;1500;4"), 1);
+        duel.beginTurn();
+        assertTrue(duel.normalSummon((MonsterCard) duel.getPlayer(0).getHand().getCard(0), Position.FACE_DOWN));
+
+        SpectatorView captured = new SpectatorView();
+        captured.capture(duel);
+        SpectatorView spectator = new SpectatorView();
+        ByteBuffer keyframe = encode(captured, null, 1);
+        for (int i = keyframe.position(); i < keyframe.limit() - 3; i++) {
+            assertNotEquals(1001, keyframe.getInt(i), "the face-down card ID is not sent");
+        }
+        spectator.apply(true, keyframe);
+
+        int flags = spectator.getZoneFlags(0, 0);
+        assertEquals(Protocol.ZONE_PRESENT | Protocol.ZONE_FACE_DOWN | Protocol.ZONE_DEFENSE, flags);
+        assertNull(spectator.getZoneCard(0, 0));
+    }
+
+    private void step(DuelEngine duel, SpectatorView captured, SpectatorView sent, SpectatorView spectator,
+                      int sequence) {
+        captured.capture(duel);
+        assertTrue(spectator.apply(false, encode(captured, sent, sequence)), "sequence " + sequence);
+        assertSameView(captured, spectator);
+        sent.copyFrom(captured);
+    }
+
+    private ByteBuffer encode(SpectatorView view, SpectatorView previous, int sequence) {
+        frame.clear();
+        frame.putInt(sequence);
+        view.encode(previous, frame);
+        return frame.flip();
+    }
+
+    private static void assertSameView(SpectatorView expected, SpectatorView actual) {
+        assertEquals(expected.getTurn(), actual.getTurn());
+        assertEquals(expected.getActiveIndex(), actual.getActiveIndex());
+        assertEquals(expected.getPhase(), actual.getPhase());
+        assertEquals(expected.getResult(), actual.getResult());
+        for (int side = 0; side < 2; side++) {
+            assertEquals(expected.getLifePoints(side), actual.getLifePoints(side));
+            assertEquals(expected.getDeckCount(side), actual.getDeckCount(side));
+            assertEquals(expected.getGraveyardCount(side), actual.getGraveyardCount(side));
+            assertEquals(expected.getHandCount(side), actual.getHandCount(side));
+            for (int zone = 0; zone < SpectatorView.ZONES; zone++) {
+                assertEquals(expected.getZoneFlags(side, zone), actual.getZoneFlags(side, zone));
+                RemoteState.RemoteCard card = expected.getZoneCard(side, zone);
+                RemoteState.RemoteCard seen = actual.getZoneCard(side, zone);
+                assertEquals(card == null, seen == null);
+                if (card == null) continue;
+                assertEquals(card.getKind(), seen.getKind());
+                assertEquals(card.getCardId(), seen.getCardId());
+                assertEquals(card.getAtk(), seen.getAtk());
+                assertEquals(card.getDef(), seen.getDef());
+                assertEquals(card.getLevel(), seen.getLevel());
+            }
+        }
+    }
+}